@@ -62,6 +62,9 @@ CREATE TABLE profiles (
     created_at TIMESTAMP NOT NULL DEFAULT NOW()
 );
 
+CREATE UNIQUE INDEX ux_profiles_tenant_email ON profiles (tenant_id, primary_email);
+CREATE UNIQUE INDEX ux_profiles_tenant_phone ON profiles (tenant_id, primary_phone);
+
 CREATE TABLE relationships (
     relationship_id UUID PRIMARY KEY,
     tenant_id VARCHAR(64) REFERENCES tenants(tenant_id),
@@ -71,15 +74,24 @@ CREATE TABLE relationships (
     created_at TIMESTAMP NOT NULL DEFAULT NOW()
 );
 
+CREATE UNIQUE INDEX ux_relationships_tenant_pair ON relationships (tenant_id, profile_id, related_profile_id);
+
 CREATE TABLE audit_logs (
-    audit_id UUID PRIMARY KEY,
+    audit_id UUID NOT NULL,
     tenant_id VARCHAR(64) REFERENCES tenants(tenant_id),
     actor_id UUID REFERENCES accounts(account_id),
     action VARCHAR(128) NOT NULL,
     entity_id UUID NOT NULL,
     details TEXT,
-    created_at TIMESTAMP NOT NULL DEFAULT NOW()
-);
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (audit_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Monthly partitions audit_logs_pYYYYMM are created ahead of time by profile-service, whether or not archiving
+-- is enabled. Rows found in the default partition are moved into monthly partitions by the same task.
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+CREATE INDEX ix_audit_logs_trail ON audit_logs (tenant_id, entity_id, created_at, audit_id);
 
 CREATE TABLE approvals (
     approval_id UUID PRIMARY KEY,
@@ -96,9 +108,67 @@ CREATE TABLE merges (
     source_profile_id UUID REFERENCES profiles(profile_id),
     target_profile_id UUID REFERENCES profiles(profile_id),
     status VARCHAR(32) NOT NULL,
-    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    decided_at TIMESTAMP
+);
+
+CREATE INDEX idx_merges_tenant_pair ON merges (tenant_id, source_profile_id, target_profile_id);
+-- Instances refresh merge clusters from decisions made since their last scan.
+CREATE INDEX idx_merges_decided_at ON merges (decided_at);
+
+-- Scans skip any pair that already has a merge in either direction, decided or not.
+CREATE INDEX idx_merges_tenant_unordered_pair ON merges (
+    tenant_id,
+    LEAST(source_profile_id, target_profile_id),
+    GREATEST(source_profile_id, target_profile_id)
+);
+-- At most one open merge per unordered profile pair; scans insert with ON CONFLICT DO NOTHING.
+CREATE UNIQUE INDEX ux_merges_open_pair ON merges (
+    tenant_id,
+    LEAST(source_profile_id, target_profile_id),
+    GREATEST(source_profile_id, target_profile_id)
+) WHERE status IN ('PENDING', 'REVIEW_REQUIRED');
+
+CREATE TABLE ancestry_closure (
+    tenant_id VARCHAR(64) REFERENCES tenants(tenant_id),
+    generation BIGINT NOT NULL DEFAULT 0,
+    ancestor_id UUID NOT NULL,
+    descendant_id UUID NOT NULL,
+    depth SMALLINT NOT NULL,
+    PRIMARY KEY (tenant_id, generation, ancestor_id, descendant_id)
+);
+
+CREATE INDEX idx_ancestry_closure_descendant ON ancestry_closure (tenant_id, generation, descendant_id, depth);
+CREATE INDEX idx_ancestry_closure_ancestor ON ancestry_closure (tenant_id, generation, ancestor_id, depth);
+
+-- Rebuilds write a new generation and swap it in only if version did not move; closure writes bump version.
+CREATE TABLE ancestry_closure_tenants (
+    tenant_id VARCHAR(64) PRIMARY KEY REFERENCES tenants(tenant_id),
+    generation BIGINT NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0
 );
 
+CREATE SEQUENCE ancestry_closure_generation_seq;
+
+CREATE TABLE lineage_violations (
+    violation_id UUID PRIMARY KEY,
+    tenant_id VARCHAR(64) REFERENCES tenants(tenant_id),
+    violation_type VARCHAR(32) NOT NULL,
+    profile_id UUID NOT NULL,
+    related_profile_id UUID,
+    cycle_size INT NOT NULL,
+    members UUID[] NOT NULL,
+    source VARCHAR(16) NOT NULL,
+    status VARCHAR(16) NOT NULL DEFAULT 'OPEN',
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    resolved_by UUID,
+    resolved_at TIMESTAMP
+);
+
+CREATE UNIQUE INDEX ux_lineage_violations_open ON lineage_violations (tenant_id, violation_type, profile_id)
+    WHERE status = 'OPEN';
+CREATE INDEX idx_lineage_violations_tenant_status ON lineage_violations (tenant_id, status, created_at DESC);
+
 CREATE TABLE profile_grants (
     grant_id UUID PRIMARY KEY,
     tenant_id VARCHAR(64) REFERENCES tenants(tenant_id),
@@ -108,3 +178,42 @@ CREATE TABLE profile_grants (
     visibility VARCHAR(16) NOT NULL,
     created_at TIMESTAMP NOT NULL DEFAULT NOW()
 );
+
+CREATE TABLE duplicate_scans (
+    scan_id UUID PRIMARY KEY,
+    tenant_id VARCHAR(64) REFERENCES tenants(tenant_id),
+    status VARCHAR(32) NOT NULL,
+    chunk_count INT NOT NULL,
+    requested_by UUID,
+    owner VARCHAR(128),
+    lease_until TIMESTAMP,
+    error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    completed_at TIMESTAMP
+);
+
+CREATE INDEX idx_duplicate_scans_lease ON duplicate_scans (status, lease_until);
+
+CREATE TABLE duplicate_scan_chunks (
+    scan_id UUID REFERENCES duplicate_scans(scan_id),
+    chunk_index INT NOT NULL,
+    comparisons BIGINT NOT NULL,
+    merges_created INT NOT NULL,
+    completed_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (scan_id, chunk_index)
+);
+
+CREATE TABLE outbox_events (
+    outbox_id BIGSERIAL PRIMARY KEY,
+    tenant_id VARCHAR(64) NOT NULL,
+    topic VARCHAR(128) NOT NULL,
+    event_key VARCHAR(128),
+    payload BYTEA NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    status VARCHAR(16) NOT NULL DEFAULT 'PENDING',
+    claimed_until TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+-- Relays claim the oldest pending rows; parked rows stay out of the claim scan.
+CREATE INDEX idx_outbox_events_pending ON outbox_events (outbox_id) WHERE status = 'PENDING';
@@ -0,0 +1,188 @@
+package com.heritagegraph360.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heritagegraph360.common.event.EventEnvelope;
+import com.heritagegraph360.common.event.EventEnvelopeCodec;
+import com.heritagegraph360.common.event.EventEnvelopeFormat;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the legacy JSON profile events with the binary envelope.
+ * Importance: Tracks serialized size and the per-event cost of producing and routing profile.events records.
+ * Alternatives: Measure consumer throughput against a live broker.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventEnvelopeBenchmark {
+    private static final int EVENTS = 1024;
+
+    @Param({"0", "512"})
+    private int bodyBytes;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private EventEnvelope[] envelopes;
+    private byte[][] legacy;
+    private byte[][] binary;
+
+    /**
+     * Builds the events in both formats and prints their average serialized size.
+     * Importance: Reports the size comparison alongside the timings.
+     * Alternatives: Compute sizes in a separate tool.
+     *
+     * @throws IOException when the legacy JSON cannot be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42L);
+        envelopes = new EventEnvelope[EVENTS];
+        legacy = new byte[EVENTS][];
+        binary = new byte[EVENTS][];
+        long legacyTotal = 0;
+        long binaryTotal = 0;
+        for (int i = 0; i < EVENTS; i++) {
+            String body = bodyBytes == 0 ? null : body(random, bodyBytes);
+            envelopes[i] = EventEnvelope.of("org-us-" + (i % 50), bodyBytes == 0 ? "PROFILE_UPDATED" : "INGESTION_GRPC",
+                bodyBytes == 0 ? UUID.randomUUID().toString() : null, UUID.randomUUID().toString(),
+                body == null ? null : body.getBytes(StandardCharsets.UTF_8));
+            legacy[i] = legacyEncode(envelopes[i]);
+            binary[i] = EventEnvelopeCodec.encode(envelopes[i], EventEnvelopeFormat.BINARY);
+            legacyTotal += legacy[i].length;
+            binaryTotal += binary[i].length;
+        }
+        System.out.printf("%nbodyBytes=%d: legacy JSON %d bytes/event, binary envelope %d bytes/event%n",
+            bodyBytes, legacyTotal / EVENTS, binaryTotal / EVENTS);
+    }
+
+    /**
+     * Measures the legacy producers' HashMap and ObjectMapper serialization.
+     * Importance: Baseline producer cost, including the string-encoded nested payload.
+     * Alternatives: Serialize a typed event class.
+     *
+     * @param blackhole the JMH blackhole.
+     * @throws IOException when serialization fails.
+     */
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void legacyEncode(Blackhole blackhole) throws IOException {
+        for (EventEnvelope envelope : envelopes) {
+            blackhole.consume(legacyEncode(envelope));
+        }
+    }
+
+    /**
+     * Measures binary envelope encoding.
+     * Importance: Producer cost after the migration.
+     * Alternatives: Encode with protoc-generated classes.
+     *
+     * @param blackhole the JMH blackhole.
+     */
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void binaryEncode(Blackhole blackhole) {
+        for (EventEnvelope envelope : envelopes) {
+            blackhole.consume(EventEnvelopeCodec.encode(envelope, EventEnvelopeFormat.BINARY));
+        }
+    }
+
+    /**
+     * Measures the legacy consumers' readTree routing on tenant and profile.
+     * Importance: Baseline consumer cost; readTree parses and materializes the whole event.
+     * Alternatives: Use a streaming JSON parser.
+     *
+     * @param blackhole the JMH blackhole.
+     * @throws IOException when parsing fails.
+     */
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void legacyRoute(Blackhole blackhole) throws IOException {
+        for (byte[] value : legacy) {
+            JsonNode node = objectMapper.readTree(value);
+            blackhole.consume(node.path("tenantId").asText());
+            blackhole.consume(node.path("profileId").asText());
+        }
+    }
+
+    /**
+     * Measures header routing on binary envelopes.
+     * Importance: Consumer cost after the migration; the body is skipped, not parsed.
+     * Alternatives: Route on Kafka record headers.
+     *
+     * @param blackhole the JMH blackhole.
+     */
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void binaryRoute(Blackhole blackhole) {
+        for (byte[] value : binary) {
+            EventEnvelope envelope = EventEnvelopeCodec.decode(value);
+            blackhole.consume(envelope.getTenantId());
+            blackhole.consume(envelope.getProfileId());
+        }
+    }
+
+    /**
+     * Serializes an event the way the producers did before the envelope.
+     * Importance: Reproduces the legacy wire shape, plus the correlation id so both formats carry the same fields.
+     * Alternatives: Use the codec's JSON mode, which streams instead of building a map.
+     *
+     * @param envelope the event.
+     * @return the JSON bytes.
+     * @throws IOException when serialization fails.
+     */
+    private byte[] legacyEncode(EventEnvelope envelope) throws IOException {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("tenantId", envelope.getTenantId());
+        payload.put("eventType", envelope.getEventType());
+        if (envelope.getProfileId() != null) {
+            payload.put("profileId", envelope.getProfileId());
+        }
+        payload.put("correlationId", envelope.getCorrelationId());
+        if (envelope.hasBody()) {
+            payload.put("payload", envelope.getBodyAsString());
+        }
+        return objectMapper.writeValueAsBytes(payload);
+    }
+
+    /**
+     * Generates a JSON record body of roughly the requested size.
+     * Importance: Gives ingestion-style events a realistic nested payload.
+     * Alternatives: Use a fixed sample record.
+     *
+     * @param random the random source.
+     * @param size the approximate body size.
+     * @return the JSON body.
+     */
+    private static String body(Random random, int size) {
+        StringBuilder json = new StringBuilder(size + 32).append("{\"recordId\":\"").append(UUID.randomUUID())
+            .append("\",\"notes\":[");
+        while (json.length() < size) {
+            json.append("{\"name\":\"Person ").append(random.nextInt(100000)).append("\",\"year\":")
+                .append(1700 + random.nextInt(300)).append("},");
+        }
+        json.setLength(json.length() - 1);
+        return json.append("]}").toString();
+    }
+}
@@ -0,0 +1,102 @@
+package com.heritagegraph360.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Generates deterministic genealogy-style name pairs for benchmarks.
+ * Importance: Mirrors the mix of near-duplicates and unrelated names seen in duplicate scans.
+ * Alternatives: Load an anonymized production name sample from disk.
+ */
+public final class GenealogyNameCorpus {
+    private static final String[] GIVEN_NAMES = {
+        "Mary", "John", "Elizabeth", "William", "Margaret", "James", "Catherine", "Thomas", "Anna", "Johann",
+        "Maria", "Giuseppe", "Francesca", "José", "María", "Søren", "Ingrid", "Wojciech", "Zofia", "Siobhán",
+        "Patrick", "Bridget", "Hendrik", "Aaltje", "Ólafur", "Guðrún", "Dmitri", "Yevgenia", "Kwame", "Ama",
+        "Hiroshi", "Mei", "Rajesh", "Priya", "Mohammed", "Fatima", "Ebenezer", "Mehitable", "Zebulon", "Thankful"
+    };
+    private static final String[] SURNAMES = {
+        "Smith", "Johnson", "O'Brien", "MacDonald", "Fitzgerald", "Schmidt", "Müller", "Schneider", "Rossi",
+        "Esposito", "García", "Fernández", "Jensen", "Kowalski", "Nowak", "Van der Berg", "de Vries",
+        "Jónsdóttir", "Ivanov", "Mensah", "Takahashi", "Chen", "Patel", "Al-Hassan", "Whitcomb", "Thistlewood",
+        "Abernathy", "Higginbotham", "Featherstonehaugh", "Dos Santos", "St. Clair", "Ó Súilleabháin"
+    };
+    private static final String[] SUFFIXES = {"", "", "", "", " Jr.", " Sr.", " III", " (née Walsh)"};
+    private static final char[] TYPO_CHARS = "aeiounrstlhcm".toCharArray();
+
+    /**
+     * Prevents instantiation of the corpus utility.
+     * Importance: Signals that the corpus is accessed statically.
+     * Alternatives: Expose the corpus as a JMH state object.
+     */
+    private GenealogyNameCorpus() {
+    }
+
+    /**
+     * Builds name pairs with a given share of near-duplicates.
+     * Importance: Lets benchmarks vary the proportion of pairs near the duplicate threshold.
+     * Alternatives: Use a fixed list of pairs.
+     *
+     * @param count the number of pairs.
+     * @param nearDuplicateShare the share of pairs derived from the same name.
+     * @param seed the random seed.
+     * @return the pairs as a two-column array.
+     */
+    public static String[][] pairs(int count, double nearDuplicateShare, long seed) {
+        Random random = new Random(seed);
+        String[][] pairs = new String[count][2];
+        for (int i = 0; i < count; i++) {
+            String name = name(random);
+            pairs[i][0] = name;
+            pairs[i][1] = random.nextDouble() < nearDuplicateShare ? variant(random, name) : name(random);
+        }
+        return pairs;
+    }
+
+    /**
+     * Builds a random full name.
+     * Importance: Mixes short, long, multi-part, and diacritic names.
+     * Alternatives: Use only ASCII names.
+     *
+     * @param random the random source.
+     * @return the name.
+     */
+    private static String name(Random random) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)]);
+        if (random.nextInt(3) == 0) {
+            builder.append(' ').append(GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)]);
+        }
+        builder.append(' ').append(SURNAMES[random.nextInt(SURNAMES.length)]);
+        if (random.nextInt(6) == 0) {
+            builder.append('-').append(SURNAMES[random.nextInt(SURNAMES.length)]);
+        }
+        builder.append(SUFFIXES[random.nextInt(SUFFIXES.length)]);
+        return builder.toString();
+    }
+
+    /**
+     * Derives a transcription variant of a name.
+     * Importance: Models case changes, padding, typos, and dropped characters from record transcription.
+     * Alternatives: Use exact copies only.
+     *
+     * @param random the random source.
+     * @param name the source name.
+     * @return the variant.
+     */
+    private static String variant(Random random, String name) {
+        StringBuilder builder = new StringBuilder(random.nextBoolean() ? name : name.toUpperCase());
+        int edits = random.nextInt(3);
+        for (int i = 0; i < edits && builder.length() > 1; i++) {
+            int position = random.nextInt(builder.length());
+            switch (random.nextInt(3)) {
+                case 0 -> builder.deleteCharAt(position);
+                case 1 -> builder.insert(position, TYPO_CHARS[random.nextInt(TYPO_CHARS.length)]);
+                default -> builder.setCharAt(position, TYPO_CHARS[random.nextInt(TYPO_CHARS.length)]);
+            }
+        }
+        if (random.nextInt(4) == 0) {
+            builder.insert(0, ' ').append(' ');
+        }
+        return builder.toString();
+    }
+}
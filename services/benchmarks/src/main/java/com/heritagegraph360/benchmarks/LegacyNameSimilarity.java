@@ -0,0 +1,76 @@
+package com.heritagegraph360.benchmarks;
+
+/**
+ * Reproduces the original full-table Levenshtein similarity.
+ * Importance: Provides the baseline the optimized kernel is measured against.
+ * Alternatives: Benchmark against a historical build of profile-service.
+ */
+public class LegacyNameSimilarity {
+    /**
+     * Calculates name similarity using the original implementation.
+     * Importance: Preserves the allocation and full DP cost of the baseline.
+     * Alternatives: Call a third-party Levenshtein implementation.
+     *
+     * @param nameA the first name.
+     * @param nameB the second name.
+     * @return similarity between 0.0 and 1.0.
+     */
+    public double calculateSimilarity(String nameA, String nameB) {
+        if (nameA == null || nameB == null) {
+            return 0.0;
+        }
+        String a = nameA.trim().toLowerCase();
+        String b = nameB.trim().toLowerCase();
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        int distance = levenshteinDistance(a, b);
+        int maxLength = Math.max(a.length(), b.length());
+        if (maxLength == 0) {
+            return 1.0;
+        }
+        return 1.0 - ((double) distance / (double) maxLength);
+    }
+
+    /**
+     * Applies the original duplicate rule.
+     * Importance: Measures the baseline cost of the threshold decision.
+     * Alternatives: Benchmark similarity only.
+     *
+     * @param nameA the first name.
+     * @param nameB the second name.
+     * @param sharedContact whether email or phone matches.
+     * @return true if potential duplicate.
+     */
+    public boolean isPotentialDuplicate(String nameA, String nameB, boolean sharedContact) {
+        double similarity = calculateSimilarity(nameA, nameB);
+        return similarity >= 0.90 && sharedContact;
+    }
+
+    /**
+     * Computes the Levenshtein distance with a freshly allocated row.
+     * Importance: Matches the baseline allocation profile.
+     * Alternatives: Reuse a row buffer.
+     *
+     * @param a the first string.
+     * @param b the second string.
+     * @return the distance.
+     */
+    private int levenshteinDistance(String a, String b) {
+        int[] costs = new int[b.length() + 1];
+        for (int j = 0; j < costs.length; j++) {
+            costs[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            costs[0] = i;
+            int nw = i - 1;
+            for (int j = 1; j <= b.length(); j++) {
+                int cj = Math.min(1 + Math.min(costs[j], costs[j - 1]),
+                    a.charAt(i - 1) == b.charAt(j - 1) ? nw : nw + 1);
+                nw = costs[j];
+                costs[j] = cj;
+            }
+        }
+        return costs[b.length()];
+    }
+}
@@ -0,0 +1,81 @@
+package com.heritagegraph360.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Base64;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Reproduces the original global-key sensitive field encryptor.
+ * Importance: Provides the baseline the envelope encryptor is measured against.
+ * Alternatives: Benchmark against a historical build of profile-service.
+ */
+public class LegacySensitiveFieldEncryptor {
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH = 128;
+
+    /**
+     * Encrypts a value using the original implementation.
+     * Importance: Preserves the per-call SecureRandom, cipher lookup, and key build of the baseline.
+     * Alternatives: Share the cipher between calls.
+     *
+     * @param plainText the plaintext value.
+     * @return the Base64-encoded encrypted value.
+     */
+    public String encrypt(String plainText) {
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            new SecureRandom().nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, getKey(), new GCMParameterSpec(TAG_LENGTH, iv));
+            byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+            byte[] combined = new byte[iv.length + encrypted.length];
+            System.arraycopy(iv, 0, combined, 0, iv.length);
+            System.arraycopy(encrypted, 0, combined, iv.length, encrypted.length);
+            return Base64.getEncoder().encodeToString(combined);
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to encrypt value", ex);
+        }
+    }
+
+    /**
+     * Decrypts a value using the original implementation.
+     * Importance: Preserves the per-call copies, cipher lookup, and key build of the baseline.
+     * Alternatives: Share the cipher between calls.
+     *
+     * @param cipherText the Base64-encoded encrypted value.
+     * @return the decrypted plaintext.
+     */
+    public String decrypt(String cipherText) {
+        try {
+            byte[] decoded = Base64.getDecoder().decode(cipherText);
+            byte[] iv = new byte[IV_LENGTH];
+            byte[] encrypted = new byte[decoded.length - IV_LENGTH];
+            System.arraycopy(decoded, 0, iv, 0, IV_LENGTH);
+            System.arraycopy(decoded, IV_LENGTH, encrypted, 0, encrypted.length);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, getKey(), new GCMParameterSpec(TAG_LENGTH, iv));
+            return new String(cipher.doFinal(encrypted), StandardCharsets.UTF_8);
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to decrypt value", ex);
+        }
+    }
+
+    /**
+     * Builds the key from the environment the way the original did on every call.
+     * Importance: Keeps the environment read in the baseline cost.
+     * Alternatives: Cache the key.
+     *
+     * @return the secret key.
+     */
+    private SecretKey getKey() {
+        String key = System.getenv().getOrDefault("HG360_ENCRYPTION_KEY", "heritagegraph360!");
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] normalized = new byte[16];
+        System.arraycopy(keyBytes, 0, normalized, 0, Math.min(keyBytes.length, normalized.length));
+        return new SecretKeySpec(normalized, "AES");
+    }
+}
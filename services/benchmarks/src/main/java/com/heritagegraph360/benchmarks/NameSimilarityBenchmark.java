@@ -0,0 +1,111 @@
+package com.heritagegraph360.benchmarks;
+
+import com.heritagegraph360.profile.service.DuplicateDetectionService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the legacy and optimized name similarity kernels.
+ * Importance: Tracks the CPU cost that dominates bulk duplicate scans.
+ * Alternatives: Measure end-to-end scan duration only.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NameSimilarityBenchmark {
+    private static final int PAIRS = 4096;
+
+    @Param({"0.05", "0.5"})
+    private double nearDuplicateShare;
+
+    private String[][] pairs;
+    private LegacyNameSimilarity legacy;
+    private DuplicateDetectionService optimized;
+
+    /**
+     * Builds the corpus and both kernels.
+     * Importance: Keeps setup cost out of the measured loop.
+     * Alternatives: Generate pairs inside each benchmark.
+     */
+    @Setup
+    public void setUp() {
+        pairs = GenealogyNameCorpus.pairs(PAIRS, nearDuplicateShare, 42L);
+        legacy = new LegacyNameSimilarity();
+        optimized = new DuplicateDetectionService();
+    }
+
+    /**
+     * Measures the legacy exact similarity.
+     * Importance: Baseline for exact scoring.
+     * Alternatives: Measure a single pair.
+     *
+     * @param blackhole the JMH blackhole.
+     */
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void legacySimilarity(Blackhole blackhole) {
+        for (String[] pair : pairs) {
+            blackhole.consume(legacy.calculateSimilarity(pair[0], pair[1]));
+        }
+    }
+
+    /**
+     * Measures the optimized exact similarity.
+     * Importance: Shows the gain from bit-parallel distance and buffer reuse alone.
+     * Alternatives: Measure a single pair.
+     *
+     * @param blackhole the JMH blackhole.
+     */
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void kernelSimilarity(Blackhole blackhole) {
+        for (String[] pair : pairs) {
+            blackhole.consume(optimized.calculateSimilarity(pair[0], pair[1]));
+        }
+    }
+
+    /**
+     * Measures the legacy duplicate decision.
+     * Importance: Baseline for the threshold check used in scans.
+     * Alternatives: Measure similarity only.
+     *
+     * @param blackhole the JMH blackhole.
+     */
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void legacyDuplicateRule(Blackhole blackhole) {
+        for (String[] pair : pairs) {
+            blackhole.consume(legacy.isPotentialDuplicate(pair[0], pair[1], true));
+        }
+    }
+
+    /**
+     * Measures the optimized duplicate decision.
+     * Importance: Shows the gain from prefilters and threshold-driven early exit.
+     * Alternatives: Measure similarity only.
+     *
+     * @param blackhole the JMH blackhole.
+     */
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void kernelDuplicateRule(Blackhole blackhole) {
+        for (String[] pair : pairs) {
+            blackhole.consume(optimized.isPotentialDuplicate(pair[0], pair[1], true));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.heritagegraph360.benchmarks;
+
+import com.heritagegraph360.profile.crypto.DataKey;
+import com.heritagegraph360.profile.crypto.FieldCipher;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares per-value latency of the legacy encryptor with the pooled envelope cipher.
+ * Importance: Tracks the cost removed by reusing ciphers, the DRBG, and cached data keys.
+ * Alternatives: Measure the sensitive field endpoint end to end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class SensitiveFieldEncryptionBenchmark {
+    @Param({"16", "256"})
+    private int valueLength;
+
+    private final LegacySensitiveFieldEncryptor legacy = new LegacySensitiveFieldEncryptor();
+    private final FieldCipher cipher = new FieldCipher();
+    private DataKey dataKey;
+    private String plainText;
+    private String legacyCipherText;
+    private String envelopeCipherText;
+
+    /**
+     * Builds the value, a data key standing in for a cache hit, and one ciphertext per format.
+     * Importance: Keeps key lookup out of the measured path, as it is once the tenant key is cached.
+     * Alternatives: Include a Caffeine lookup per operation.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        StringBuilder value = new StringBuilder(valueLength);
+        for (int i = 0; i < valueLength; i++) {
+            value.append((char) ('a' + random.nextInt(26)));
+        }
+        plainText = value.toString();
+        byte[] raw = new byte[32];
+        random.nextBytes(raw);
+        dataKey = new DataKey("org-us-001", 1, new SecretKeySpec(raw, "AES"));
+        legacyCipherText = legacy.encrypt(plainText);
+        envelopeCipherText = cipher.encrypt(dataKey, plainText);
+    }
+
+    /**
+     * Measures the legacy encrypt path.
+     * Importance: Baseline with a new SecureRandom and Cipher per value.
+     * Alternatives: Measure a batch of values.
+     *
+     * @return the ciphertext.
+     */
+    @Benchmark
+    public String legacyEncrypt() {
+        return legacy.encrypt(plainText);
+    }
+
+    /**
+     * Measures the envelope encrypt path.
+     * Importance: Per-thread cipher and shared DRBG with tenant associated data.
+     * Alternatives: Measure through SensitiveFieldEncryptor with a mocked key service.
+     *
+     * @return the ciphertext.
+     */
+    @Benchmark
+    public String envelopeEncrypt() {
+        return cipher.encrypt(dataKey, plainText);
+    }
+
+    /**
+     * Measures the legacy decrypt path.
+     * Importance: Baseline with a new Cipher and key per value.
+     * Alternatives: Measure a batch of values.
+     *
+     * @return the plaintext.
+     */
+    @Benchmark
+    public String legacyDecrypt() {
+        return legacy.decrypt(legacyCipherText);
+    }
+
+    /**
+     * Measures the envelope decrypt path.
+     * Importance: Per-thread cipher with no intermediate array copies.
+     * Alternatives: Measure through SensitiveFieldEncryptor with a mocked key service.
+     *
+     * @return the plaintext.
+     */
+    @Benchmark
+    public String envelopeDecrypt() {
+        return cipher.decrypt(dataKey, envelopeCipherText);
+    }
+}
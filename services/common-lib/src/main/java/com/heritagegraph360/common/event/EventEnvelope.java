@@ -0,0 +1,188 @@
+package com.heritagegraph360.common.event;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Holds one profile event's routing headers and opaque body.
+ * Importance: Lets consumers route on typed headers without parsing or copying the body.
+ * Alternatives: Pass events around as JSON trees.
+ */
+public final class EventEnvelope {
+    private static final byte[] EMPTY = new byte[0];
+
+    private final EventEnvelopeFormat format;
+    private final String tenantId;
+    private final String eventType;
+    private final String profileId;
+    private final String correlationId;
+    private final byte[] buffer;
+    private final int bodyOffset;
+    private final int bodyLength;
+
+    /**
+     * Creates an envelope over a slice of a buffer.
+     * Importance: Decoded envelopes reference the record value instead of copying the body.
+     * Alternatives: Copy the body on decode.
+     *
+     * @param format the wire format the envelope was read from or will be written in.
+     * @param tenantId the tenant identifier, or null.
+     * @param eventType the event type, or null.
+     * @param profileId the profile identifier, or null.
+     * @param correlationId the correlation identifier, or null.
+     * @param buffer the buffer holding the body.
+     * @param bodyOffset the body offset in the buffer.
+     * @param bodyLength the body length.
+     */
+    EventEnvelope(EventEnvelopeFormat format, String tenantId, String eventType, String profileId,
+                  String correlationId, byte[] buffer, int bodyOffset, int bodyLength) {
+        this.format = format;
+        this.tenantId = tenantId;
+        this.eventType = eventType;
+        this.profileId = profileId;
+        this.correlationId = correlationId;
+        this.buffer = buffer;
+        this.bodyOffset = bodyOffset;
+        this.bodyLength = bodyLength;
+    }
+
+    /**
+     * Creates an envelope for publishing.
+     * Importance: Gives producers one typed entry point regardless of the configured wire format.
+     * Alternatives: Build maps of header values.
+     *
+     * @param tenantId the tenant identifier.
+     * @param eventType the event type.
+     * @param profileId the profile identifier, or null.
+     * @param correlationId the correlation identifier, or null.
+     * @param body the body bytes, or null for header-only events.
+     * @return the envelope.
+     */
+    public static EventEnvelope of(String tenantId, String eventType, String profileId, String correlationId,
+                                   byte[] body) {
+        byte[] bytes = body == null ? EMPTY : body;
+        return new EventEnvelope(EventEnvelopeFormat.BINARY, tenantId, eventType, profileId, correlationId,
+            bytes, 0, bytes.length);
+    }
+
+    /**
+     * Returns the wire format the envelope was decoded from.
+     * Importance: Lets consumers track how much legacy traffic remains during migration.
+     * Alternatives: Inspect the raw record value.
+     *
+     * @return the format.
+     */
+    public EventEnvelopeFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Returns the tenant identifier.
+     * Importance: Routes events to tenant partitions and stores.
+     * Alternatives: Use the Kafka record key.
+     *
+     * @return the tenant identifier, or null when absent.
+     */
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Returns the event type.
+     * Importance: Lets consumers filter events without reading the body.
+     * Alternatives: Publish each type on its own topic.
+     *
+     * @return the event type, or null when absent.
+     */
+    public String getEventType() {
+        return eventType;
+    }
+
+    /**
+     * Returns the profile identifier.
+     * Importance: Drives cache invalidation and insight jobs for the affected profile.
+     * Alternatives: Parse the identifier from the body.
+     *
+     * @return the profile identifier, or null when absent.
+     */
+    public String getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Returns the correlation identifier.
+     * Importance: Ties events back to the request or ingestion record that produced them.
+     * Alternatives: Carry correlation in Kafka record headers.
+     *
+     * @return the correlation identifier, or null when absent.
+     */
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    /**
+     * Returns whether the envelope carries a body.
+     * Importance: Lets consumers skip body handling for header-only events.
+     * Alternatives: Compare the body length to zero.
+     *
+     * @return true when the body is non-empty.
+     */
+    public boolean hasBody() {
+        return bodyLength > 0;
+    }
+
+    /**
+     * Returns the body length in bytes.
+     * Importance: Sizes buffers and metrics without copying the body.
+     * Alternatives: Copy the body to measure it.
+     *
+     * @return the body length.
+     */
+    public int getBodyLength() {
+        return bodyLength;
+    }
+
+    /**
+     * Returns a copy of the body.
+     * Importance: Keeps the envelope immutable while handing out raw bytes.
+     * Alternatives: Expose the backing buffer.
+     *
+     * @return the body bytes.
+     */
+    public byte[] getBody() {
+        return Arrays.copyOfRange(buffer, bodyOffset, bodyOffset + bodyLength);
+    }
+
+    /**
+     * Decodes the body as UTF-8 text.
+     * Importance: Reads JSON bodies straight from the record value in one copy.
+     * Alternatives: Copy the bytes first and decode the copy.
+     *
+     * @return the body text, or null when the body is empty.
+     */
+    public String getBodyAsString() {
+        return bodyLength == 0 ? null : new String(buffer, bodyOffset, bodyLength, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the backing buffer.
+     * Importance: Lets the codec write the body without an intermediate copy.
+     * Alternatives: Copy the body when encoding.
+     *
+     * @return the buffer.
+     */
+    byte[] buffer() {
+        return buffer;
+    }
+
+    /**
+     * Returns the body offset in the backing buffer.
+     * Importance: Locates the body slice for the codec.
+     * Alternatives: Always start bodies at offset zero.
+     *
+     * @return the body offset.
+     */
+    int bodyOffset() {
+        return bodyOffset;
+    }
+}
@@ -0,0 +1,334 @@
+package com.heritagegraph360.common.event;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Encodes and decodes profile event envelopes in the binary and legacy JSON formats.
+ * Importance: Gives every producer and consumer of profile.events one wire contract with dual-read migration.
+ * Alternatives: Use protoc-generated message classes.
+ */
+public final class EventEnvelopeCodec {
+    /**
+     * First byte of every binary envelope; JSON text never starts with a NUL byte.
+     */
+    public static final byte MAGIC = 0x00;
+
+    /**
+     * Binary envelope version written by this codec.
+     */
+    public static final int CURRENT_VERSION = 1;
+
+    private static final int PREFIX_BYTES = 2;
+    private static final int TAG_TYPE_BITS = 3;
+    private static final int TENANT_ID = 1;
+    private static final int EVENT_TYPE = 2;
+    private static final int PROFILE_ID = 3;
+    private static final int CORRELATION_ID = 4;
+    private static final int BODY = 5;
+    private static final int TENANT_ID_TAG = lengthDelimitedTag(TENANT_ID);
+    private static final int EVENT_TYPE_TAG = lengthDelimitedTag(EVENT_TYPE);
+    private static final int PROFILE_ID_TAG = lengthDelimitedTag(PROFILE_ID);
+    private static final int CORRELATION_ID_TAG = lengthDelimitedTag(CORRELATION_ID);
+    private static final int BODY_TAG = lengthDelimitedTag(BODY);
+    private static final JsonFactory JSON = new JsonFactory();
+
+    /**
+     * Prevents instantiation of the codec.
+     * Importance: Enforces static access to stateless encoding.
+     * Alternatives: Register the codec as a Spring bean.
+     */
+    private EventEnvelopeCodec() {
+    }
+
+    /**
+     * Encodes an envelope in the requested format.
+     * Importance: Lets producers flip formats from configuration without changing call sites.
+     * Alternatives: Expose one method per format.
+     *
+     * @param envelope the envelope.
+     * @param format the wire format.
+     * @return the record value.
+     */
+    public static byte[] encode(EventEnvelope envelope, EventEnvelopeFormat format) {
+        return format == EventEnvelopeFormat.BINARY ? encodeBinary(envelope) : encodeJson(envelope);
+    }
+
+    /**
+     * Returns whether a record value is a binary envelope.
+     * Importance: Routes each record to the matching decoder during the dual-read migration.
+     * Alternatives: Mark the format in a Kafka record header.
+     *
+     * @param value the record value.
+     * @return true when the value starts with the envelope magic byte.
+     */
+    public static boolean isBinary(byte[] value) {
+        return value != null && value.length >= PREFIX_BYTES && value[0] == MAGIC;
+    }
+
+    /**
+     * Decodes a record value written in either format.
+     * Importance: Binary values are read field by field and the body is sliced, never parsed or copied.
+     * Alternatives: Parse every value into a JSON tree.
+     *
+     * @param value the record value.
+     * @return the envelope; unreadable legacy values yield null headers and the whole value as body.
+     * @throws IllegalArgumentException when a binary envelope is malformed or from a newer version.
+     */
+    public static EventEnvelope decode(byte[] value) {
+        if (value == null) {
+            return new EventEnvelope(EventEnvelopeFormat.JSON, null, null, null, null, new byte[0], 0, 0);
+        }
+        return isBinary(value) ? decodeBinary(value) : decodeJson(value);
+    }
+
+    /**
+     * Writes the version prefix followed by the protobuf-encoded envelope fields.
+     * Importance: Header fields precede the body so readers reach them first.
+     * Alternatives: Length-prefix a JSON header block.
+     *
+     * @param envelope the envelope.
+     * @return the encoded bytes.
+     */
+    private static byte[] encodeBinary(EventEnvelope envelope) {
+        int bodyLength = envelope.getBodyLength();
+        int size = stringSize(TENANT_ID, envelope.getTenantId())
+            + stringSize(EVENT_TYPE, envelope.getEventType())
+            + stringSize(PROFILE_ID, envelope.getProfileId())
+            + stringSize(CORRELATION_ID, envelope.getCorrelationId());
+        if (bodyLength > 0) {
+            size += CodedOutputStream.computeTagSize(BODY) + CodedOutputStream.computeUInt32SizeNoTag(bodyLength)
+                + bodyLength;
+        }
+        byte[] out = new byte[PREFIX_BYTES + size];
+        out[0] = MAGIC;
+        out[1] = (byte) CURRENT_VERSION;
+        CodedOutputStream stream = CodedOutputStream.newInstance(out, PREFIX_BYTES, size);
+        try {
+            writeString(stream, TENANT_ID, envelope.getTenantId());
+            writeString(stream, EVENT_TYPE, envelope.getEventType());
+            writeString(stream, PROFILE_ID, envelope.getProfileId());
+            writeString(stream, CORRELATION_ID, envelope.getCorrelationId());
+            if (bodyLength > 0) {
+                stream.writeByteArray(BODY, envelope.buffer(), envelope.bodyOffset(), bodyLength);
+            }
+            stream.checkNoSpaceLeft();
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to encode event envelope", ex);
+        }
+        return out;
+    }
+
+    /**
+     * Writes the legacy JSON shape: header fields at the top level and the body as a string payload.
+     * Importance: Keeps the wire identical for consumers that have not moved to dual-read yet.
+     * Alternatives: Embed the body as a nested JSON object.
+     *
+     * @param envelope the envelope.
+     * @return the JSON bytes.
+     */
+    private static byte[] encodeJson(EventEnvelope envelope) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 + envelope.getBodyLength());
+        try (JsonGenerator generator = JSON.createGenerator(out)) {
+            generator.writeStartObject();
+            writeField(generator, "tenantId", envelope.getTenantId());
+            writeField(generator, "eventType", envelope.getEventType());
+            writeField(generator, "profileId", envelope.getProfileId());
+            writeField(generator, "correlationId", envelope.getCorrelationId());
+            writeField(generator, "payload", envelope.getBodyAsString());
+            generator.writeEndObject();
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to encode event envelope", ex);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads the binary envelope fields, skipping unknown fields for forward compatibility.
+     * Importance: The body is located by offset and skipped, so routing costs only the header bytes.
+     * Alternatives: Parse into a generated message, which copies the body.
+     *
+     * @param value the record value.
+     * @return the envelope.
+     */
+    private static EventEnvelope decodeBinary(byte[] value) {
+        int version = value[1] & 0xFF;
+        if (version == 0 || version > CURRENT_VERSION) {
+            throw new IllegalArgumentException("Unsupported event envelope version " + version);
+        }
+        String tenantId = null;
+        String eventType = null;
+        String profileId = null;
+        String correlationId = null;
+        int bodyOffset = 0;
+        int bodyLength = 0;
+        CodedInputStream stream = CodedInputStream.newInstance(value, PREFIX_BYTES, value.length - PREFIX_BYTES);
+        try {
+            boolean more = true;
+            while (more) {
+                int tag = stream.readTag();
+                if (tag == 0) {
+                    more = false;
+                } else if (tag == TENANT_ID_TAG) {
+                    tenantId = stream.readStringRequireUtf8();
+                } else if (tag == EVENT_TYPE_TAG) {
+                    eventType = stream.readStringRequireUtf8();
+                } else if (tag == PROFILE_ID_TAG) {
+                    profileId = stream.readStringRequireUtf8();
+                } else if (tag == CORRELATION_ID_TAG) {
+                    correlationId = stream.readStringRequireUtf8();
+                } else if (tag == BODY_TAG) {
+                    bodyLength = stream.readRawVarint32();
+                    bodyOffset = PREFIX_BYTES + stream.getTotalBytesRead();
+                    stream.skipRawBytes(bodyLength);
+                } else {
+                    more = stream.skipField(tag);
+                }
+            }
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Malformed event envelope", ex);
+        }
+        return new EventEnvelope(EventEnvelopeFormat.BINARY, tenantId, eventType, profileId, correlationId,
+            value, bodyOffset, bodyLength);
+    }
+
+    /**
+     * Reads header fields from a legacy JSON event in one streaming pass.
+     * Importance: Replaces per-field readTree calls; a nested payload object is only scanned for profileId.
+     * Alternatives: Bind the payload to a typed event class.
+     *
+     * @param value the JSON bytes.
+     * @return the envelope, with the whole value as body.
+     */
+    private static EventEnvelope decodeJson(byte[] value) {
+        String tenantId = null;
+        String eventType = null;
+        String profileId = null;
+        String nestedProfileId = null;
+        String correlationId = null;
+        try (JsonParser parser = JSON.createParser(value)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken token = parser.nextToken();
+                    if (token == JsonToken.START_OBJECT && "payload".equals(field)) {
+                        nestedProfileId = nestedProfileId(parser);
+                    } else if (!isText(token)) {
+                        parser.skipChildren();
+                    } else if ("tenantId".equals(field)) {
+                        tenantId = parser.getText();
+                    } else if ("eventType".equals(field)) {
+                        eventType = parser.getText();
+                    } else if ("profileId".equals(field)) {
+                        profileId = parser.getText();
+                    } else if ("correlationId".equals(field)) {
+                        correlationId = parser.getText();
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            // Unreadable legacy payloads keep the headers read so far; consumers apply their own fallbacks.
+        }
+        return new EventEnvelope(EventEnvelopeFormat.JSON, tenantId, eventType,
+            profileId == null ? nestedProfileId : profileId, correlationId, value, 0, value.length);
+    }
+
+    /**
+     * Reads profileId from the top level of a nested payload object.
+     * Importance: Preserves the legacy fallback for producers that only set profileId inside the payload.
+     * Alternatives: Ignore nested identifiers.
+     *
+     * @param parser the parser positioned on the object start.
+     * @return the nested profile identifier, or null.
+     * @throws IOException when the JSON is malformed.
+     */
+    private static String nestedProfileId(JsonParser parser) throws IOException {
+        String profileId = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (isText(token) && "profileId".equals(field)) {
+                profileId = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return profileId;
+    }
+
+    /**
+     * Returns whether a token is a non-null scalar.
+     * Importance: Matches the legacy consumers, which read any non-null scalar as text.
+     * Alternatives: Accept only string tokens.
+     *
+     * @param token the token.
+     * @return true for non-null scalars.
+     */
+    private static boolean isText(JsonToken token) {
+        return token != null && token.isScalarValue() && token != JsonToken.VALUE_NULL;
+    }
+
+    /**
+     * Builds the protobuf tag of a length-delimited field.
+     * Importance: Lets the decoder match string and bytes fields with one int comparison.
+     * Alternatives: Split tags into field number and wire type on every read.
+     *
+     * @param field the field number.
+     * @return the tag.
+     */
+    private static int lengthDelimitedTag(int field) {
+        return (field << TAG_TYPE_BITS) | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    }
+
+    /**
+     * Computes the encoded size of an optional string field.
+     * Importance: Sizes the output buffer exactly so encoding allocates once.
+     * Alternatives: Encode into a growable stream.
+     *
+     * @param field the field number.
+     * @param value the value, or null.
+     * @return the encoded size.
+     */
+    private static int stringSize(int field, String value) {
+        return value == null || value.isEmpty() ? 0 : CodedOutputStream.computeStringSize(field, value);
+    }
+
+    /**
+     * Writes an optional string field.
+     * Importance: Omits absent headers as proto3 does for default values.
+     * Alternatives: Write empty strings.
+     *
+     * @param stream the output stream.
+     * @param field the field number.
+     * @param value the value, or null.
+     * @throws IOException when the buffer is too small.
+     */
+    private static void writeString(CodedOutputStream stream, int field, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            stream.writeString(field, value);
+        }
+    }
+
+    /**
+     * Writes an optional JSON string field.
+     * Importance: Omits absent headers from legacy JSON.
+     * Alternatives: Write explicit nulls.
+     *
+     * @param generator the JSON generator.
+     * @param name the field name.
+     * @param value the value, or null.
+     * @throws IOException when writing fails.
+     */
+    private static void writeField(JsonGenerator generator, String name, String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(name, value);
+        }
+    }
+}
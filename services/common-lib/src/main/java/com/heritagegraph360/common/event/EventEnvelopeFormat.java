@@ -0,0 +1,18 @@
+package com.heritagegraph360.common.event;
+
+/**
+ * Identifies the wire format of a profile event.
+ * Importance: Lets producers switch formats behind configuration while consumers read both.
+ * Alternatives: Publish each format on its own topic.
+ */
+public enum EventEnvelopeFormat {
+    /**
+     * Legacy JSON object with top-level header fields and a string-encoded payload.
+     */
+    JSON,
+
+    /**
+     * Versioned protobuf envelope with typed header fields and a raw body.
+     */
+    BINARY
+}
@@ -0,0 +1,105 @@
+package com.heritagegraph360.common;
+
+import com.heritagegraph360.common.event.EventEnvelope;
+import com.heritagegraph360.common.event.EventEnvelopeCodec;
+import com.heritagegraph360.common.event.EventEnvelopeFormat;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Validates the shared event envelope codec.
+ * Importance: Ensures producers and consumers agree on both wire formats during the migration.
+ * Alternatives: Compare against protoc-generated classes.
+ */
+public class EventEnvelopeCodecTest {
+    /**
+     * Ensures binary envelopes round-trip and skip fields added by newer producers.
+     * Importance: Confirms header routing and raw body slicing.
+     * Alternatives: Assert on exact encoded bytes.
+     */
+    @Test
+    public void shouldRoundTripBinaryEnvelopeAndSkipUnknownFields() {
+        byte[] body = "{\"givenName\":\"Ada\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] encoded = EventEnvelopeCodec.encode(
+            EventEnvelope.of("org-us-001", "INGESTION_GRPC", "p-1", "rec-7", body), EventEnvelopeFormat.BINARY);
+        Assertions.assertTrue(EventEnvelopeCodec.isBinary(encoded));
+        Assertions.assertEquals(EventEnvelopeCodec.CURRENT_VERSION, encoded[1]);
+
+        byte[] extended = Arrays.copyOf(encoded, encoded.length + 2);
+        extended[encoded.length] = (byte) (9 << 3);
+        extended[encoded.length + 1] = 1;
+        EventEnvelope decoded = EventEnvelopeCodec.decode(extended);
+        Assertions.assertEquals(EventEnvelopeFormat.BINARY, decoded.getFormat());
+        Assertions.assertEquals("org-us-001", decoded.getTenantId());
+        Assertions.assertEquals("INGESTION_GRPC", decoded.getEventType());
+        Assertions.assertEquals("p-1", decoded.getProfileId());
+        Assertions.assertEquals("rec-7", decoded.getCorrelationId());
+        Assertions.assertArrayEquals(body, decoded.getBody());
+
+        EventEnvelope headerOnly = EventEnvelopeCodec.decode(EventEnvelopeCodec.encode(
+            EventEnvelope.of("org-us-001", "PROFILE_CREATED", "p-2", null, null), EventEnvelopeFormat.BINARY));
+        Assertions.assertFalse(headerOnly.hasBody());
+        Assertions.assertNull(headerOnly.getCorrelationId());
+        Assertions.assertNull(headerOnly.getBodyAsString());
+    }
+
+    /**
+     * Ensures legacy JSON events are still readable, including nested profile ids and garbage.
+     * Importance: Confirms the dual-read path keeps pre-migration records flowing.
+     * Alternatives: Replay captured production records.
+     */
+    @Test
+    public void shouldReadLegacyJsonEvents() {
+        EventEnvelope ingestion = decode("{\"eventType\":\"INGESTION_REST\",\"tenantId\":\"org-in-002\","
+            + "\"payload\":\"{\\\"profileId\\\":\\\"ignored\\\"}\"}");
+        Assertions.assertEquals(EventEnvelopeFormat.JSON, ingestion.getFormat());
+        Assertions.assertEquals("org-in-002", ingestion.getTenantId());
+        Assertions.assertEquals("INGESTION_REST", ingestion.getEventType());
+        Assertions.assertNull(ingestion.getProfileId());
+        Assertions.assertTrue(ingestion.getBodyAsString().startsWith("{\"eventType\""));
+
+        Assertions.assertEquals("p-9", decode("{\"payload\":{\"meta\":{\"profileId\":\"x\"},\"profileId\":\"p-9\"}}")
+            .getProfileId());
+        Assertions.assertEquals("p-1", decode("{\"profileId\":\"p-1\",\"payload\":{\"profileId\":\"p-9\"}}")
+            .getProfileId());
+        EventEnvelope garbage = decode("not json");
+        Assertions.assertNull(garbage.getTenantId());
+        Assertions.assertEquals("not json", garbage.getBodyAsString());
+
+        EventEnvelope written = EventEnvelopeCodec.decode(EventEnvelopeCodec.encode(
+            EventEnvelope.of("org-us-001", "PROFILE_CLAIMED", "p-3", "c-1", null), EventEnvelopeFormat.JSON));
+        Assertions.assertEquals(EventEnvelopeFormat.JSON, written.getFormat());
+        Assertions.assertEquals("p-3", written.getProfileId());
+        Assertions.assertEquals("c-1", written.getCorrelationId());
+    }
+
+    /**
+     * Ensures newer versions and truncated envelopes are rejected rather than misread.
+     * Importance: Confirms consumers fall back instead of routing on corrupt headers.
+     * Alternatives: Return partially decoded envelopes.
+     */
+    @Test
+    public void shouldRejectUnsupportedOrTruncatedEnvelopes() {
+        byte[] encoded = EventEnvelopeCodec.encode(
+            EventEnvelope.of("org-us-001", "PROFILE_CREATED", "p-1", null, new byte[32]), EventEnvelopeFormat.BINARY);
+        byte[] newer = encoded.clone();
+        newer[1] = (byte) (EventEnvelopeCodec.CURRENT_VERSION + 1);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> EventEnvelopeCodec.decode(newer));
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 4);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> EventEnvelopeCodec.decode(truncated));
+    }
+
+    /**
+     * Decodes a legacy JSON literal.
+     * Importance: Keeps test payloads readable.
+     * Alternatives: Inline the byte conversion.
+     *
+     * @param json the JSON text.
+     * @return the envelope.
+     */
+    private static EventEnvelope decode(String json) {
+        return EventEnvelopeCodec.decode(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
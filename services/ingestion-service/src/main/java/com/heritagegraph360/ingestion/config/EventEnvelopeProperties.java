@@ -0,0 +1,38 @@
+package com.heritagegraph360.ingestion.config;
+
+import com.heritagegraph360.common.event.EventEnvelopeFormat;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds the wire format used for ingestion events on profile.events.
+ * Importance: Lets operators switch producers to the binary envelope once every consumer reads both formats.
+ * Alternatives: Hard-code the format per release.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.event-envelope")
+public class EventEnvelopeProperties {
+    private EventEnvelopeFormat format = EventEnvelopeFormat.JSON;
+
+    /**
+     * Returns the format written to Kafka.
+     * Importance: JSON keeps older consumers working; BINARY removes JSON from the hot path.
+     * Alternatives: Write both formats to separate topics.
+     *
+     * @return the format.
+     */
+    public EventEnvelopeFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Updates the format setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param format the format.
+     */
+    public void setFormat(EventEnvelopeFormat format) {
+        this.format = format;
+    }
+}
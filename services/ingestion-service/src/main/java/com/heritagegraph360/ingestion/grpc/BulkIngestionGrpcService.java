@@ -44,7 +44,7 @@ public class BulkIngestionGrpcService extends BulkIngestionServiceGrpc.BulkInges
              */
             @Override
             public void onNext(IngestionRecord record) {
-                processingService.processGrpcRecord(record.getTenantId(), record.getPayloadJson());
+                processingService.processGrpcRecord(record.getTenantId(), record.getRecordId(), record.getPayloadJson());
                 IngestionStatus status = IngestionStatus.newBuilder()
                     .setRecordId(record.getRecordId())
                     .setStatus("ACCEPTED")
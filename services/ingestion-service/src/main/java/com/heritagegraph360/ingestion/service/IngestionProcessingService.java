@@ -1,5 +1,6 @@
 package com.heritagegraph360.ingestion.service;
 
+import com.heritagegraph360.common.event.EventEnvelope;
 import com.heritagegraph360.ingestion.api.IngestionRequest;
 import com.heritagegraph360.ingestion.config.IngestionProperties;
 import com.heritagegraph360.ingestion.stream.IngestionEventPublisher;
@@ -54,9 +55,9 @@ public class IngestionProcessingService {
      * @param request the ingestion request.
      */
     public void processRestRequest(IngestionRequest request) {
-        String enrichedPayload = enrichPayload(request.getTenantId(), "INGESTION_REST", request.getPayloadJson());
-        publishKafkaEvent(request.getTenantId(), enrichedPayload);
-        publishKinesisEvent(request.getTenantId(), enrichedPayload);
+        publishKafkaEvent(request.getTenantId(), "INGESTION_REST", request.getRecordId(), request.getPayloadJson());
+        publishKinesisEvent(request.getTenantId(),
+            enrichPayload(request.getTenantId(), "INGESTION_REST", request.getPayloadJson()));
     }
 
     /**
@@ -65,24 +66,27 @@ public class IngestionProcessingService {
      * Alternatives: Use batch ingestion for all records.
      *
      * @param tenantId the tenant identifier.
+     * @param recordId the client record identifier, used as the event correlation id.
      * @param payloadJson the payload JSON.
      */
-    public void processGrpcRecord(String tenantId, String payloadJson) {
-        String enrichedPayload = enrichPayload(tenantId, "INGESTION_GRPC", payloadJson);
-        publishKafkaEvent(tenantId, enrichedPayload);
-        publishKinesisEvent(tenantId, enrichedPayload);
+    public void processGrpcRecord(String tenantId, String recordId, String payloadJson) {
+        publishKafkaEvent(tenantId, "INGESTION_GRPC", recordId, payloadJson);
+        publishKinesisEvent(tenantId, enrichPayload(tenantId, "INGESTION_GRPC", payloadJson));
     }
 
     /**
      * Publishes a Kafka event for downstream processing.
-     * Importance: Ensures profile events flow into insights pipelines.
+     * Importance: Carries the record payload as the raw envelope body instead of a JSON string inside JSON.
      * Alternatives: Use a database outbox for event emission.
      *
      * @param tenantId the tenant identifier.
-     * @param payload the payload JSON.
+     * @param eventType the event type.
+     * @param recordId the client record identifier, or null.
+     * @param payloadJson the payload JSON.
      */
-    private void publishKafkaEvent(String tenantId, String payload) {
-        eventPublisher.publishProfileEvent(tenantId, payload);
+    private void publishKafkaEvent(String tenantId, String eventType, String recordId, String payloadJson) {
+        byte[] body = payloadJson == null ? null : payloadJson.getBytes(StandardCharsets.UTF_8);
+        eventPublisher.publishProfileEvent(EventEnvelope.of(tenantId, eventType, null, recordId, body));
     }
 
     /**
@@ -108,8 +112,8 @@ public class IngestionProcessingService {
     }
 
     /**
-     * Enriches payloads with tenant and event metadata.
-     * Importance: Standardizes event payloads for downstream processing.
+     * Enriches Kinesis payloads with tenant and event metadata.
+     * Importance: Keeps the partner-facing Kinesis record shape unchanged.
      * Alternatives: Use a schema registry and structured event types.
      *
      * @param tenantId the tenant identifier.
@@ -1,5 +1,8 @@
 package com.heritagegraph360.ingestion.stream;
 
+import com.heritagegraph360.common.event.EventEnvelope;
+import com.heritagegraph360.common.event.EventEnvelopeCodec;
+import com.heritagegraph360.ingestion.config.EventEnvelopeProperties;
 import com.heritagegraph360.ingestion.config.KafkaTopics;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
@@ -11,7 +14,8 @@ import org.springframework.stereotype.Service;
  */
 @Service
 public class IngestionEventPublisher {
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final EventEnvelopeProperties envelopeProperties;
 
     /**
      * Creates a publisher with the required Kafka template.
@@ -19,20 +23,23 @@ public class IngestionEventPublisher {
      * Alternatives: Use a reactive Kafka producer instead.
      *
      * @param kafkaTemplate the Kafka template.
+     * @param envelopeProperties the event envelope properties.
      */
-    public IngestionEventPublisher(KafkaTemplate<String, String> kafkaTemplate) {
+    public IngestionEventPublisher(KafkaTemplate<String, byte[]> kafkaTemplate,
+                                   EventEnvelopeProperties envelopeProperties) {
         this.kafkaTemplate = kafkaTemplate;
+        this.envelopeProperties = envelopeProperties;
     }
 
     /**
-     * Publishes a profile event message.
-     * Importance: Notifies downstream services of ingestion outcomes.
+     * Publishes a profile event message in the configured envelope format.
+     * Importance: Notifies downstream services of ingestion outcomes; the record payload travels as the raw body.
      * Alternatives: Use an outbox table with CDC.
      *
-     * @param tenantId the tenant identifier.
-     * @param payload the event payload.
+     * @param envelope the event envelope.
      */
-    public void publishProfileEvent(String tenantId, String payload) {
-        kafkaTemplate.send(KafkaTopics.PROFILE_EVENTS, tenantId, payload);
+    public void publishProfileEvent(EventEnvelope envelope) {
+        kafkaTemplate.send(KafkaTopics.PROFILE_EVENTS, envelope.getTenantId(),
+            EventEnvelopeCodec.encode(envelope, envelopeProperties.getFormat()));
     }
 }
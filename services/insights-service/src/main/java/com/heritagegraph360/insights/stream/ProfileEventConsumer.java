@@ -1,9 +1,11 @@
 package com.heritagegraph360.insights.stream;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heritagegraph360.common.event.EventEnvelope;
+import com.heritagegraph360.common.event.EventEnvelopeCodec;
 import com.heritagegraph360.insights.jobs.InsightJobPayload;
 import com.heritagegraph360.insights.jobs.InsightJobPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -14,8 +16,11 @@ import org.springframework.stereotype.Component;
  */
 @Component
 public class ProfileEventConsumer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProfileEventConsumer.class);
+    private static final String UNKNOWN_TENANT = "unknown-tenant";
+    private static final String UNKNOWN_PROFILE = "unknown-profile";
+
     private final InsightJobPublisher jobPublisher;
-    private final ObjectMapper objectMapper;
 
     /**
      * Creates a consumer with dependencies.
@@ -23,74 +28,31 @@ public class ProfileEventConsumer {
      * Alternatives: Publish jobs directly from the ingestion service.
      *
      * @param jobPublisher the job publisher.
-     * @param objectMapper the JSON mapper.
      */
-    public ProfileEventConsumer(InsightJobPublisher jobPublisher, ObjectMapper objectMapper) {
+    public ProfileEventConsumer(InsightJobPublisher jobPublisher) {
         this.jobPublisher = jobPublisher;
-        this.objectMapper = objectMapper;
     }
 
     /**
      * Handles incoming profile events from Kafka.
-     * Importance: Triggers downstream anomaly detection and scoring.
+     * Importance: Triggers downstream anomaly detection and scoring from the envelope headers alone.
      * Alternatives: Buffer events in a queue before processing.
      *
-     * @param payload the event payload as JSON.
+     * @param payload the event record value, as a binary envelope or legacy JSON.
      */
     @KafkaListener(topics = "profile.events", groupId = "insights-service")
-    public void onProfileEvent(String payload) {
-        InsightJobPayload jobPayload = new InsightJobPayload();
-        jobPayload.setTenantId(extractField(payload, "tenantId", "unknown-tenant"));
-        jobPayload.setProfileId(extractProfileId(payload));
-        jobPayload.setEvidenceSummary(payload);
-        jobPublisher.publish(jobPayload);
-    }
-
-    /**
-     * Extracts a field from a JSON payload.
-     * Importance: Maps event data into job payloads.
-     * Alternatives: Use a schema registry with typed events.
-     *
-     * @param payload the JSON payload.
-     * @param field the field name.
-     * @param fallback the fallback value.
-     * @return the field value or fallback.
-     */
-    private String extractField(String payload, String field, String fallback) {
+    public void onProfileEvent(byte[] payload) {
+        EventEnvelope envelope;
         try {
-            JsonNode node = objectMapper.readTree(payload);
-            if (node.hasNonNull(field)) {
-                return node.get(field).asText();
-            }
-        } catch (Exception ex) {
-            return fallback;
+            envelope = EventEnvelopeCodec.decode(payload);
+        } catch (IllegalArgumentException ex) {
+            LOGGER.warn("Unreadable profile event envelope; using fallback identifiers", ex);
+            envelope = EventEnvelope.of(null, null, null, null, null);
         }
-        return fallback;
-    }
-
-    /**
-     * Extracts profileId from top-level or nested payload fields.
-     * Importance: Ensures insight jobs identify target profiles.
-     * Alternatives: Use typed event payloads with explicit fields.
-     *
-     * @param payload the JSON payload.
-     * @return the profile identifier or fallback.
-     */
-    private String extractProfileId(String payload) {
-        try {
-            JsonNode node = objectMapper.readTree(payload);
-            if (node.hasNonNull("profileId")) {
-                return node.get("profileId").asText();
-            }
-            if (node.has("payload")) {
-                JsonNode nested = node.get("payload");
-                if (nested.hasNonNull("profileId")) {
-                    return nested.get("profileId").asText();
-                }
-            }
-        } catch (Exception ex) {
-            return "unknown-profile";
-        }
-        return "unknown-profile";
+        InsightJobPayload jobPayload = new InsightJobPayload();
+        jobPayload.setTenantId(envelope.getTenantId() == null ? UNKNOWN_TENANT : envelope.getTenantId());
+        jobPayload.setProfileId(envelope.getProfileId() == null ? UNKNOWN_PROFILE : envelope.getProfileId());
+        jobPayload.setEvidenceSummary(envelope.hasBody() ? envelope.getBodyAsString() : envelope.getEventType());
+        jobPublisher.publish(jobPayload);
     }
 }
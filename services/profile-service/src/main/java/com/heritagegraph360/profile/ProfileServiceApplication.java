@@ -2,6 +2,7 @@ package com.heritagegraph360.profile;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Boots the profile service for genealogy records and relationship graph APIs.
@@ -9,6 +10,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * Alternatives: Combine profile APIs into the gateway service for simplicity.
  */
 @SpringBootApplication
+@EnableScheduling
 public class ProfileServiceApplication {
     /**
      * Starts the Spring Boot application.
@@ -0,0 +1,72 @@
+package com.heritagegraph360.profile.api;
+
+import com.heritagegraph360.profile.closure.AncestryClosureRebuildRunner;
+import com.heritagegraph360.profile.config.AncestryClosureProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Exposes ancestry closure rebuild jobs.
+ * Importance: Lets operators backfill the closure for tenants that predate it.
+ * Alternatives: Rebuild from a one-off migration script.
+ */
+@RestController
+@RequestMapping("/api/v1/ancestry-closure/rebuilds")
+public class AncestryClosureController {
+    private final AncestryClosureRebuildRunner rebuildRunner;
+    private final AncestryClosureProperties properties;
+
+    /**
+     * Creates the ancestry closure controller.
+     * Importance: Connects HTTP requests to the rebuild runner.
+     * Alternatives: Trigger rebuilds from a scheduled job.
+     *
+     * @param rebuildRunner the rebuild runner.
+     * @param properties the closure properties.
+     */
+    public AncestryClosureController(AncestryClosureRebuildRunner rebuildRunner,
+                                     AncestryClosureProperties properties) {
+        this.rebuildRunner = rebuildRunner;
+        this.properties = properties;
+    }
+
+    /**
+     * Starts a closure rebuild for the tenant.
+     * Importance: Backfills existing tenants and repairs drift.
+     * Alternatives: Rebuild synchronously in the request.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the rebuild response.
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AncestryClosureRebuildResponse> startRebuild(@RequestHeader("x-tenant-id") String tenantId) {
+        if (!properties.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(new AncestryClosureRebuildResponse(rebuildRunner.start(tenantId)));
+    }
+
+    /**
+     * Returns the tenant's latest closure rebuild on this instance.
+     * Importance: Supports polling after a rebuild starts.
+     * Alternatives: Return every rebuild.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the rebuild response, or 404.
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AncestryClosureRebuildResponse> getRebuild(@RequestHeader("x-tenant-id") String tenantId) {
+        return rebuildRunner.status(tenantId)
+            .map(rebuild -> ResponseEntity.ok(new AncestryClosureRebuildResponse(rebuild)))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
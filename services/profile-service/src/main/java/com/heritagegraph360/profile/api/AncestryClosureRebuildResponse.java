@@ -0,0 +1,100 @@
+package com.heritagegraph360.profile.api;
+
+import com.heritagegraph360.profile.closure.AncestryClosureRebuild;
+import java.time.Instant;
+
+/**
+ * Represents the progress of an ancestry closure rebuild.
+ * Importance: Gives operators a stable view of closure backfills.
+ * Alternatives: Expose the rebuild tracker directly.
+ */
+public class AncestryClosureRebuildResponse {
+    private final String tenantId;
+    private final String status;
+    private final long rows;
+    private final Instant startedAt;
+    private final Instant finishedAt;
+    private final String error;
+
+    /**
+     * Creates a response from a rebuild.
+     * Importance: Snapshots the volatile tracker fields once.
+     * Alternatives: Use a mapping library.
+     *
+     * @param rebuild the rebuild.
+     */
+    public AncestryClosureRebuildResponse(AncestryClosureRebuild rebuild) {
+        this.tenantId = rebuild.getTenantId();
+        this.status = rebuild.getStatus().name();
+        this.rows = rebuild.getRows();
+        this.startedAt = rebuild.getStartedAt();
+        this.finishedAt = rebuild.getFinishedAt();
+        this.error = rebuild.getError();
+    }
+
+    /**
+     * Returns the tenant being rebuilt.
+     * Importance: Identifies the rebuild.
+     * Alternatives: Omit it and rely on the request header.
+     *
+     * @return the tenant identifier.
+     */
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Returns the rebuild status.
+     * Importance: Drives polling until a terminal state.
+     * Alternatives: Expose boolean flags.
+     *
+     * @return the status name.
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the number of closure rows written.
+     * Importance: Shows the size of the tenant's closure.
+     * Alternatives: Count rows with a separate query.
+     *
+     * @return the row count.
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns when the rebuild was requested.
+     * Importance: Helps operators spot stuck rebuilds.
+     * Alternatives: Expose only the duration.
+     *
+     * @return the start time.
+     */
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Returns when the rebuild finished.
+     * Importance: Helps operators size rebuild windows.
+     * Alternatives: Expose only the duration.
+     *
+     * @return the finish time, or null while running.
+     */
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * Returns the failure message.
+     * Importance: Explains failed rebuilds.
+     * Alternatives: Only log failures.
+     *
+     * @return the error, or null.
+     */
+    public String getError() {
+        return error;
+    }
+}
@@ -1,17 +1,23 @@
 package com.heritagegraph360.profile.api;
 
-import com.heritagegraph360.profile.domain.AuditLogEntity;
-import com.heritagegraph360.profile.repo.AuditLogRepository;
-import java.util.List;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heritagegraph360.profile.audit.AuditCursor;
+import com.heritagegraph360.profile.audit.AuditTrailPage;
+import com.heritagegraph360.profile.audit.AuditTrailReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Exposes audit log retrieval for profile changes.
@@ -21,42 +27,89 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/api/v1/audit")
 public class AuditController {
-    private final AuditLogRepository auditLogRepository;
+    static final String NDJSON = "application/x-ndjson";
+
+    private final AuditTrailReader auditTrailReader;
+    private final ObjectMapper objectMapper;
 
     /**
      * Creates the audit controller.
      * Importance: Connects HTTP requests to audit storage.
      * Alternatives: Use a separate audit query service.
      *
-     * @param auditLogRepository the audit log repository.
+     * @param auditTrailReader the audit trail reader.
+     * @param objectMapper the JSON mapper used for streamed entries.
      */
-    public AuditController(AuditLogRepository auditLogRepository) {
-        this.auditLogRepository = auditLogRepository;
+    public AuditController(AuditTrailReader auditTrailReader, ObjectMapper objectMapper) {
+        this.auditTrailReader = auditTrailReader;
+        this.objectMapper = objectMapper;
     }
 
     /**
-     * Returns the audit trail for a profile.
-     * Importance: Provides traceability for profile updates.
+     * Returns one page of the audit trail for a profile.
+     * Importance: Provides traceability for profile updates with bounded response sizes.
      * Alternatives: Require admin privileges for all audit access.
      *
      * @param tenantId the tenant identifier.
      * @param profileId the profile identifier.
-     * @return the audit trail response.
+     * @param cursor the cursor from the previous page.
+     * @param limit the maximum number of entries.
+     * @return the audit trail page, or 400 for malformed identifiers or cursors.
      */
-    @GetMapping("/{profileId}")
+    @GetMapping(value = "/{profileId}", produces = MediaType.APPLICATION_JSON_VALUE)
     @PreAuthorize("hasRole('ADMIN') or hasRole('REVIEWER')")
     public ResponseEntity<AuditLogResponse> getAuditTrail(
         @RequestHeader("x-tenant-id") String tenantId,
-        @PathVariable String profileId) {
-        List<AuditLogEntity> entries = auditLogRepository
-            .findByTenantIdAndEntityId(tenantId, UUID.fromString(profileId));
-        List<AuditLogEntryResponse> responseEntries = entries.stream()
-            .map(entry -> new AuditLogEntryResponse(
-                entry.getAuditId().toString(),
-                entry.getAction(),
-                entry.getDetails(),
-                entry.getCreatedAt().toString()))
-            .collect(Collectors.toList());
-        return ResponseEntity.ok(new AuditLogResponse(profileId, responseEntries));
+        @PathVariable String profileId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer limit) {
+        try {
+            AuditTrailPage page = auditTrailReader.page(tenantId, UUID.fromString(profileId),
+                cursor == null ? null : AuditCursor.decode(cursor), limit);
+            return ResponseEntity.ok(new AuditLogResponse(profileId, page.getEntries(), page.getNextCursor()));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * Streams the full audit trail for a profile as newline-delimited JSON.
+     * Importance: Exports arbitrarily long trails with constant server memory.
+     * Alternatives: Have clients walk every page.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the profile identifier.
+     * @param cursor an optional cursor to resume after.
+     * @return the streamed trail, or 400 for malformed identifiers or cursors.
+     */
+    @GetMapping(value = "/{profileId}", produces = NDJSON)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('REVIEWER')")
+    public ResponseEntity<StreamingResponseBody> streamAuditTrail(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @PathVariable String profileId,
+        @RequestParam(required = false) String cursor) {
+        UUID entityId;
+        AuditCursor after;
+        try {
+            entityId = UUID.fromString(profileId);
+            after = cursor == null ? null : AuditCursor.decode(cursor);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        StreamingResponseBody body = outputStream -> {
+            try {
+                auditTrailReader.stream(tenantId, entityId, after, entry -> {
+                    try {
+                        outputStream.write(objectMapper.writeValueAsBytes(entry));
+                        outputStream.write('\n');
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
     }
 }
@@ -10,6 +10,7 @@ import java.util.List;
 public class AuditLogResponse {
     private final String profileId;
     private final List<AuditLogEntryResponse> entries;
+    private final String nextCursor;
 
     /**
      * Creates an audit log response.
@@ -18,10 +19,12 @@ public class AuditLogResponse {
      *
      * @param profileId the profile identifier.
      * @param entries the audit log entries.
+     * @param nextCursor the cursor for the next page, or null on the last page.
      */
-    public AuditLogResponse(String profileId, List<AuditLogEntryResponse> entries) {
+    public AuditLogResponse(String profileId, List<AuditLogEntryResponse> entries, String nextCursor) {
         this.profileId = profileId;
         this.entries = entries;
+        this.nextCursor = nextCursor;
     }
 
     /**
@@ -45,4 +48,15 @@ public class AuditLogResponse {
     public List<AuditLogEntryResponse> getEntries() {
         return entries;
     }
+
+    /**
+     * Returns the cursor for the next page.
+     * Importance: Lets clients page through long trails without offsets.
+     * Alternatives: Return page numbers.
+     *
+     * @return the next cursor, or null when the trail is exhausted.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
 }
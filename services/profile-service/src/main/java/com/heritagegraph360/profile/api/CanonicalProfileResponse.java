@@ -0,0 +1,60 @@
+package com.heritagegraph360.profile.api;
+
+/**
+ * Represents the canonical profile a profile resolves to through approved merges.
+ * Importance: Lets reviewers see the surviving profile of a duplicate cluster in one call.
+ * Alternatives: Return the merge chain and let clients follow it.
+ */
+public class CanonicalProfileResponse {
+    private final String profileId;
+    private final String canonicalProfileId;
+    private final int clusterSize;
+
+    /**
+     * Creates a canonical profile response.
+     * Importance: Standardizes canonical lookup output.
+     * Alternatives: Use a generic map response.
+     *
+     * @param profileId the requested profile identifier.
+     * @param canonicalProfileId the surviving profile identifier.
+     * @param clusterSize the number of profiles in the merge cluster.
+     */
+    public CanonicalProfileResponse(String profileId, String canonicalProfileId, int clusterSize) {
+        this.profileId = profileId;
+        this.canonicalProfileId = canonicalProfileId;
+        this.clusterSize = clusterSize;
+    }
+
+    /**
+     * Returns the requested profile identifier.
+     * Importance: Echoes the lookup key.
+     * Alternatives: Omit it and rely on the request URL.
+     *
+     * @return the profile identifier.
+     */
+    public String getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Returns the surviving profile identifier.
+     * Importance: Identifies the profile all duplicates in the cluster resolve to.
+     * Alternatives: Return a canonical flag on each cluster member.
+     *
+     * @return the canonical profile identifier.
+     */
+    public String getCanonicalProfileId() {
+        return canonicalProfileId;
+    }
+
+    /**
+     * Returns the number of profiles in the merge cluster.
+     * Importance: Shows how many duplicates collapsed into the canonical profile.
+     * Alternatives: Return the member list.
+     *
+     * @return the cluster size.
+     */
+    public int getClusterSize() {
+        return clusterSize;
+    }
+}
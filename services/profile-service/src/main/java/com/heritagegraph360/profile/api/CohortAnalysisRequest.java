@@ -0,0 +1,58 @@
+package com.heritagegraph360.profile.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a cohort pedigree analysis request.
+ * Importance: Lets genealogists analyse a family group or study population in one call.
+ * Alternatives: Issue one pair query per combination.
+ */
+public class CohortAnalysisRequest {
+    private List<String> profileIds = new ArrayList<>();
+    private Integer generations;
+
+    /**
+     * Returns the profiles to analyse.
+     * Importance: Defines the cohort in result order.
+     * Alternatives: Select the cohort by a saved query.
+     *
+     * @return the profile identifiers.
+     */
+    public List<String> getProfileIds() {
+        return profileIds;
+    }
+
+    /**
+     * Updates the profiles to analyse.
+     * Importance: Supports JSON binding.
+     * Alternatives: Use constructor binding.
+     *
+     * @param profileIds the profile identifiers.
+     */
+    public void setProfileIds(List<String> profileIds) {
+        this.profileIds = profileIds;
+    }
+
+    /**
+     * Returns the requested number of generations.
+     * Importance: Lets callers trade depth for speed.
+     * Alternatives: Always use the configured default.
+     *
+     * @return the generations, or null for the default.
+     */
+    public Integer getGenerations() {
+        return generations;
+    }
+
+    /**
+     * Updates the requested number of generations.
+     * Importance: Supports JSON binding.
+     * Alternatives: Use constructor binding.
+     *
+     * @param generations the generations.
+     */
+    public void setGenerations(Integer generations) {
+        this.generations = generations;
+    }
+}
@@ -0,0 +1,113 @@
+package com.heritagegraph360.profile.api;
+
+import com.heritagegraph360.profile.pedigree.CohortAnalysis;
+import com.heritagegraph360.profile.pedigree.CommonAncestor;
+import com.heritagegraph360.profile.pedigree.CommonAncestorPair;
+import com.heritagegraph360.profile.pedigree.PedigreeCollapse;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a cohort pedigree analysis.
+ * Importance: Returns collapse, shared ancestry, and pairwise relatedness for a group in one response.
+ * Alternatives: Split the analysis across several endpoints.
+ */
+public class CohortAnalysisResponse {
+    private final int generations;
+    private final int profilesLoaded;
+    private final boolean truncated;
+    private final List<PedigreeCollapseResponse> members;
+    private final List<CommonAncestorResponse> commonAncestors;
+    private final List<CommonAncestorPairResponse> pairs;
+
+    /**
+     * Creates a response from a cohort analysis.
+     * Importance: Standardizes cohort output.
+     * Alternatives: Use a generic map response.
+     *
+     * @param analysis the cohort analysis.
+     */
+    public CohortAnalysisResponse(CohortAnalysis analysis) {
+        this.generations = analysis.getGenerations();
+        this.profilesLoaded = analysis.getProfilesLoaded();
+        this.truncated = analysis.isTruncated();
+        this.members = new ArrayList<>(analysis.getMembers().size());
+        for (PedigreeCollapse member : analysis.getMembers()) {
+            this.members.add(new PedigreeCollapseResponse(member, truncated));
+        }
+        this.commonAncestors = new ArrayList<>(analysis.getCommonAncestors().size());
+        for (CommonAncestor ancestor : analysis.getCommonAncestors()) {
+            this.commonAncestors.add(new CommonAncestorResponse(ancestor));
+        }
+        this.pairs = new ArrayList<>(analysis.getPairs().size());
+        for (CommonAncestorPair pair : analysis.getPairs()) {
+            this.pairs.add(new CommonAncestorPairResponse(pair));
+        }
+    }
+
+    /**
+     * Returns the number of generations analysed.
+     * Importance: Echoes the depth after defaults and caps.
+     * Alternatives: Omit it.
+     *
+     * @return the generations.
+     */
+    public int getGenerations() {
+        return generations;
+    }
+
+    /**
+     * Returns the distinct profiles loaded for the analysis.
+     * Importance: Shows how close the cohort came to the profile limit.
+     * Alternatives: Only log it.
+     *
+     * @return the profile count.
+     */
+    public int getProfilesLoaded() {
+        return profilesLoaded;
+    }
+
+    /**
+     * Returns whether the profile limit cut the pedigrees short.
+     * Importance: Warns that deeper results may be missing.
+     * Alternatives: Fail the request instead.
+     *
+     * @return true when truncated.
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Returns each member's pedigree collapse.
+     * Importance: Compares collapse across the cohort.
+     * Alternatives: Return collapse on request only.
+     *
+     * @return the members in request order.
+     */
+    public List<PedigreeCollapseResponse> getMembers() {
+        return members;
+    }
+
+    /**
+     * Returns the most recent ancestors shared by every member.
+     * Importance: Answers "who do all of these people descend from?".
+     * Alternatives: Intersect pair results client-side.
+     *
+     * @return the ancestors, nearest first.
+     */
+    public List<CommonAncestorResponse> getCommonAncestors() {
+        return commonAncestors;
+    }
+
+    /**
+     * Returns the member pairs that share an ancestor.
+     * Importance: Maps relatedness inside the cohort.
+     * Alternatives: Return unrelated pairs too.
+     *
+     * @return the related pairs in request order.
+     */
+    public List<CommonAncestorPairResponse> getPairs() {
+        return pairs;
+    }
+}
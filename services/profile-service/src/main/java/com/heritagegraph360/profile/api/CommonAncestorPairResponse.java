@@ -0,0 +1,66 @@
+package com.heritagegraph360.profile.api;
+
+import com.heritagegraph360.profile.pedigree.CommonAncestor;
+import com.heritagegraph360.profile.pedigree.CommonAncestorPair;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the most recent common ancestors of two cohort members.
+ * Importance: Maps relatedness inside a cohort.
+ * Alternatives: Return a full pair matrix.
+ */
+public class CommonAncestorPairResponse {
+    private final String firstProfileId;
+    private final String secondProfileId;
+    private final List<CommonAncestorResponse> ancestors;
+
+    /**
+     * Creates a response from a pair result.
+     * Importance: Renders identifiers as strings like other lineage responses.
+     * Alternatives: Serialize UUIDs directly.
+     *
+     * @param pair the pair result.
+     */
+    public CommonAncestorPairResponse(CommonAncestorPair pair) {
+        this.firstProfileId = pair.getFirstProfileId().toString();
+        this.secondProfileId = pair.getSecondProfileId().toString();
+        this.ancestors = new ArrayList<>(pair.getAncestors().size());
+        for (CommonAncestor ancestor : pair.getAncestors()) {
+            this.ancestors.add(new CommonAncestorResponse(ancestor));
+        }
+    }
+
+    /**
+     * Returns the earlier member.
+     * Importance: Identifies the pair; generation lists start with this profile.
+     * Alternatives: Return member indexes.
+     *
+     * @return the profile identifier.
+     */
+    public String getFirstProfileId() {
+        return firstProfileId;
+    }
+
+    /**
+     * Returns the later member.
+     * Importance: Identifies the pair.
+     * Alternatives: Return member indexes.
+     *
+     * @return the profile identifier.
+     */
+    public String getSecondProfileId() {
+        return secondProfileId;
+    }
+
+    /**
+     * Returns the pair's most recent common ancestors.
+     * Importance: Explains how the pair is related.
+     * Alternatives: Return only the nearest one.
+     *
+     * @return the ancestors, nearest first.
+     */
+    public List<CommonAncestorResponse> getAncestors() {
+        return ancestors;
+    }
+}
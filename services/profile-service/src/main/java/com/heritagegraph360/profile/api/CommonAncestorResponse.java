@@ -0,0 +1,48 @@
+package com.heritagegraph360.profile.api;
+
+import com.heritagegraph360.profile.pedigree.CommonAncestor;
+import java.util.List;
+
+/**
+ * Represents a most recent common ancestor.
+ * Importance: Gives clients the ancestor and its distance from each compared profile.
+ * Alternatives: Return bare profile identifiers.
+ */
+public class CommonAncestorResponse {
+    private final String profileId;
+    private final List<Integer> generations;
+
+    /**
+     * Creates a response from a common ancestor.
+     * Importance: Renders identifiers as strings like other lineage responses.
+     * Alternatives: Serialize UUIDs directly.
+     *
+     * @param ancestor the common ancestor.
+     */
+    public CommonAncestorResponse(CommonAncestor ancestor) {
+        this.profileId = ancestor.getProfileId().toString();
+        this.generations = ancestor.getGenerations();
+    }
+
+    /**
+     * Returns the ancestor.
+     * Importance: Identifies the shared profile.
+     * Alternatives: Embed the full profile.
+     *
+     * @return the profile identifier.
+     */
+    public String getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Returns the nearest generation from each compared profile.
+     * Importance: Lets clients name the relationship.
+     * Alternatives: Return only the sum.
+     *
+     * @return the generations in request order.
+     */
+    public List<Integer> getGenerations() {
+        return generations;
+    }
+}
@@ -0,0 +1,91 @@
+package com.heritagegraph360.profile.api;
+
+import java.util.List;
+
+/**
+ * Represents the most recent common ancestors of two profiles.
+ * Importance: Answers "who do we both descend from?" in one response.
+ * Alternatives: Compare both ancestor lists client-side.
+ */
+public class CommonAncestorsResponse {
+    private final String profileId;
+    private final String otherProfileId;
+    private final int generations;
+    private final List<CommonAncestorResponse> ancestors;
+    private final boolean truncated;
+
+    /**
+     * Creates a common ancestors response.
+     * Importance: Standardizes pair output.
+     * Alternatives: Use a generic map response.
+     *
+     * @param profileId the first profile identifier.
+     * @param otherProfileId the second profile identifier.
+     * @param generations the number of generations searched.
+     * @param ancestors the most recent common ancestors, nearest first.
+     * @param truncated whether the profile limit cut the pedigrees short.
+     */
+    public CommonAncestorsResponse(String profileId, String otherProfileId, int generations,
+                                   List<CommonAncestorResponse> ancestors, boolean truncated) {
+        this.profileId = profileId;
+        this.otherProfileId = otherProfileId;
+        this.generations = generations;
+        this.ancestors = ancestors;
+        this.truncated = truncated;
+    }
+
+    /**
+     * Returns the first profile identifier.
+     * Importance: Echoes the request; generation lists start with this profile.
+     * Alternatives: Omit request echoes.
+     *
+     * @return the profile identifier.
+     */
+    public String getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Returns the second profile identifier.
+     * Importance: Echoes the request.
+     * Alternatives: Omit request echoes.
+     *
+     * @return the profile identifier.
+     */
+    public String getOtherProfileId() {
+        return otherProfileId;
+    }
+
+    /**
+     * Returns the number of generations searched.
+     * Importance: An empty result only means no common ancestor within this depth.
+     * Alternatives: Omit it.
+     *
+     * @return the generations.
+     */
+    public int getGenerations() {
+        return generations;
+    }
+
+    /**
+     * Returns the most recent common ancestors.
+     * Importance: Usually one couple; more suggests several independent connections.
+     * Alternatives: Return only the nearest one.
+     *
+     * @return the ancestors, nearest first.
+     */
+    public List<CommonAncestorResponse> getAncestors() {
+        return ancestors;
+    }
+
+    /**
+     * Returns whether the profile limit cut the pedigrees short.
+     * Importance: Warns that more distant common ancestors may be missing.
+     * Alternatives: Fail the request instead.
+     *
+     * @return true when truncated.
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -0,0 +1,73 @@
+package com.heritagegraph360.profile.api;
+
+/**
+ * Represents whether one profile descends from another.
+ * Importance: Answers "is Y a descendant of X" without returning the whole pedigree.
+ * Alternatives: Return the descendant list and let clients search it.
+ */
+public class DescentResponse {
+    private final String ancestorProfileId;
+    private final String descendantProfileId;
+    private final boolean descendant;
+    private final Integer generations;
+
+    /**
+     * Creates a descent response.
+     * Importance: Standardizes descent check output.
+     * Alternatives: Use a generic map response.
+     *
+     * @param ancestorProfileId the possible ancestor.
+     * @param descendantProfileId the possible descendant.
+     * @param generations the generations between them, or null when unrelated by descent.
+     */
+    public DescentResponse(String ancestorProfileId, String descendantProfileId, Integer generations) {
+        this.ancestorProfileId = ancestorProfileId;
+        this.descendantProfileId = descendantProfileId;
+        this.descendant = generations != null;
+        this.generations = generations;
+    }
+
+    /**
+     * Returns the possible ancestor.
+     * Importance: Echoes the lookup key.
+     * Alternatives: Omit it and rely on the request URL.
+     *
+     * @return the ancestor profile identifier.
+     */
+    public String getAncestorProfileId() {
+        return ancestorProfileId;
+    }
+
+    /**
+     * Returns the possible descendant.
+     * Importance: Echoes the lookup key.
+     * Alternatives: Omit it and rely on the request URL.
+     *
+     * @return the descendant profile identifier.
+     */
+    public String getDescendantProfileId() {
+        return descendantProfileId;
+    }
+
+    /**
+     * Returns whether the second profile descends from the first.
+     * Importance: Gives clients a direct yes or no.
+     * Alternatives: Infer it from a null generation count.
+     *
+     * @return true when the profiles are in a line of descent.
+     */
+    public boolean isDescendant() {
+        return descendant;
+    }
+
+    /**
+     * Returns the generations between the profiles along the shortest line.
+     * Importance: Distinguishes children from distant descendants.
+     * Alternatives: Return the full chain.
+     *
+     * @return the generation count, or null.
+     */
+    public Integer getGenerations() {
+        return generations;
+    }
+}
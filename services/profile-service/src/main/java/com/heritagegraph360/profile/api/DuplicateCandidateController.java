@@ -0,0 +1,146 @@
+package com.heritagegraph360.profile.api;
+
+import com.heritagegraph360.profile.duplicate.DuplicateCandidate;
+import com.heritagegraph360.profile.duplicate.DuplicateCandidateService;
+import com.heritagegraph360.profile.duplicate.DuplicateScanRecord;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Exposes blocking-based duplicate candidate lookups and tenant scans.
+ * Importance: Lets reviewers find duplicates without tenant-wide pairwise comparison.
+ * Alternatives: Run duplicate detection only inside merge staging.
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class DuplicateCandidateController {
+    private final DuplicateCandidateService candidateService;
+
+    /**
+     * Creates the duplicate candidate controller.
+     * Importance: Connects HTTP requests to the candidate service.
+     * Alternatives: Route through the workflow service.
+     *
+     * @param candidateService the candidate service.
+     */
+    public DuplicateCandidateController(DuplicateCandidateService candidateService) {
+        this.candidateService = candidateService;
+    }
+
+    /**
+     * Returns duplicate candidates for a profile.
+     * Importance: Scores only profiles that share a blocking key.
+     * Alternatives: Compare the profile against the whole tenant.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the profile identifier.
+     * @return the candidates.
+     */
+    @GetMapping("/profiles/{profileId}/duplicate-candidates")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('REVIEWER')")
+    public ResponseEntity<List<DuplicateCandidateResponse>> getCandidates(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @PathVariable String profileId) {
+        if (!candidateService.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            List<DuplicateCandidate> candidates = candidateService.findCandidates(
+                tenantId, UUID.fromString(profileId));
+            return ResponseEntity.ok(candidates.stream().map(this::toResponse).collect(Collectors.toList()));
+        } catch (IllegalStateException ex) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    /**
+     * Starts a tenant-wide duplicate scan.
+     * Importance: Runs the blocked comparison in parallel and queues merges for review.
+     * Alternatives: Schedule scans nightly.
+     *
+     * @param tenantId the tenant identifier.
+     * @param actorId the actor identifier.
+     * @return the accepted scan.
+     */
+    @PostMapping("/duplicates/scans")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('REVIEWER')")
+    public ResponseEntity<DuplicateScanResponse> startScan(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @RequestHeader("x-actor-id") String actorId) {
+        if (!candidateService.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        DuplicateScanRecord scan = candidateService.startScan(tenantId, UUID.fromString(actorId));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(toResponse(scan));
+    }
+
+    /**
+     * Returns the progress of a duplicate scan.
+     * Importance: Lets clients poll long-running scans.
+     * Alternatives: Notify clients when scans finish.
+     *
+     * @param tenantId the tenant identifier.
+     * @param scanId the scan identifier.
+     * @return the scan response.
+     */
+    @GetMapping("/duplicates/scans/{scanId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('REVIEWER')")
+    public ResponseEntity<DuplicateScanResponse> getScan(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @PathVariable String scanId) {
+        try {
+            DuplicateScanRecord scan = candidateService.getScan(tenantId, UUID.fromString(scanId));
+            return ResponseEntity.ok(toResponse(scan));
+        } catch (IllegalStateException ex) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    /**
+     * Maps a scan record to the API response.
+     * Importance: Keeps domain values out of the HTTP contract.
+     * Alternatives: Serialize the record directly.
+     *
+     * @param scan the scan record.
+     * @return the scan response.
+     */
+    private DuplicateScanResponse toResponse(DuplicateScanRecord scan) {
+        return new DuplicateScanResponse(
+            scan.getScanId().toString(),
+            scan.getStatus().name(),
+            scan.getChunkCount(),
+            scan.getChunksCompleted(),
+            scan.getComparisons(),
+            scan.getMergesCreated(),
+            scan.getCreatedAt().toString(),
+            scan.getCompletedAt() == null ? null : scan.getCompletedAt().toString(),
+            scan.getError());
+    }
+
+    /**
+     * Maps a candidate to the API response.
+     * Importance: Keeps domain values out of the HTTP contract.
+     * Alternatives: Serialize the domain value directly.
+     *
+     * @param candidate the candidate.
+     * @return the candidate response.
+     */
+    private DuplicateCandidateResponse toResponse(DuplicateCandidate candidate) {
+        return new DuplicateCandidateResponse(
+            candidate.getProfileId().toString(),
+            candidate.getCandidateProfileId().toString(),
+            candidate.getSimilarity(),
+            candidate.isSharedContact(),
+            candidate.isPotentialDuplicate());
+    }
+}
@@ -0,0 +1,89 @@
+package com.heritagegraph360.profile.api;
+
+/**
+ * Represents a scored duplicate candidate pair.
+ * Importance: Exposes similarity and the duplicate rule outcome for reviewer triage.
+ * Alternatives: Return only candidate profile identifiers.
+ */
+public class DuplicateCandidateResponse {
+    private final String profileId;
+    private final String candidateProfileId;
+    private final double similarity;
+    private final boolean sharedContact;
+    private final boolean potentialDuplicate;
+
+    /**
+     * Creates a duplicate candidate response.
+     * Importance: Standardizes candidate output for lookups and scans.
+     * Alternatives: Use a generic map response.
+     *
+     * @param profileId the profile identifier.
+     * @param candidateProfileId the candidate profile identifier.
+     * @param similarity the name similarity.
+     * @param sharedContact whether email or phone matches.
+     * @param potentialDuplicate whether the duplicate rule passed.
+     */
+    public DuplicateCandidateResponse(String profileId, String candidateProfileId, double similarity,
+                                      boolean sharedContact, boolean potentialDuplicate) {
+        this.profileId = profileId;
+        this.candidateProfileId = candidateProfileId;
+        this.similarity = similarity;
+        this.sharedContact = sharedContact;
+        this.potentialDuplicate = potentialDuplicate;
+    }
+
+    /**
+     * Returns the profile identifier.
+     * Importance: Identifies the first profile of the pair.
+     * Alternatives: Omit it for per-profile lookups.
+     *
+     * @return the profile identifier.
+     */
+    public String getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Returns the candidate profile identifier.
+     * Importance: Identifies the profile to review for a merge.
+     * Alternatives: Embed the candidate profile.
+     *
+     * @return the candidate profile identifier.
+     */
+    public String getCandidateProfileId() {
+        return candidateProfileId;
+    }
+
+    /**
+     * Returns the name similarity.
+     * Importance: Lets reviewers rank candidates.
+     * Alternatives: Return a confidence band.
+     *
+     * @return the similarity.
+     */
+    public double getSimilarity() {
+        return similarity;
+    }
+
+    /**
+     * Returns whether the pair shares an email or phone.
+     * Importance: Explains the contact half of the rule.
+     * Alternatives: Return the shared contact type.
+     *
+     * @return true when contact data matches.
+     */
+    public boolean isSharedContact() {
+        return sharedContact;
+    }
+
+    /**
+     * Returns whether the pair passes the duplicate rule.
+     * Importance: Flags pairs ready for a staged merge.
+     * Alternatives: Let clients apply the rule.
+     *
+     * @return true when a potential duplicate.
+     */
+    public boolean isPotentialDuplicate() {
+        return potentialDuplicate;
+    }
+}
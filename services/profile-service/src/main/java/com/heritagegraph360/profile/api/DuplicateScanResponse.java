@@ -0,0 +1,146 @@
+package com.heritagegraph360.profile.api;
+
+/**
+ * Represents the state of a tenant-wide duplicate scan.
+ * Importance: Lets clients poll checkpoint progress and the number of merges queued.
+ * Alternatives: Stream scan progress over server-sent events.
+ */
+public class DuplicateScanResponse {
+    private final String scanId;
+    private final String status;
+    private final int chunkCount;
+    private final int chunksCompleted;
+    private final long comparisons;
+    private final long mergesCreated;
+    private final String createdAt;
+    private final String completedAt;
+    private final String error;
+
+    /**
+     * Creates a duplicate scan response.
+     * Importance: Standardizes scan status output.
+     * Alternatives: Use a generic map response.
+     *
+     * @param scanId the scan identifier.
+     * @param status the scan status.
+     * @param chunkCount the total number of chunks.
+     * @param chunksCompleted the checkpointed chunks.
+     * @param comparisons the pair comparisons made.
+     * @param mergesCreated the merges inserted.
+     * @param createdAt the creation timestamp.
+     * @param completedAt the completion timestamp.
+     * @param error the failure message.
+     */
+    public DuplicateScanResponse(String scanId, String status, int chunkCount, int chunksCompleted,
+                                 long comparisons, long mergesCreated, String createdAt, String completedAt,
+                                 String error) {
+        this.scanId = scanId;
+        this.status = status;
+        this.chunkCount = chunkCount;
+        this.chunksCompleted = chunksCompleted;
+        this.comparisons = comparisons;
+        this.mergesCreated = mergesCreated;
+        this.createdAt = createdAt;
+        this.completedAt = completedAt;
+        this.error = error;
+    }
+
+    /**
+     * Returns the scan identifier.
+     * Importance: Identifies the scan for polling.
+     * Alternatives: Use tenant-scoped sequence numbers.
+     *
+     * @return the scan identifier.
+     */
+    public String getScanId() {
+        return scanId;
+    }
+
+    /**
+     * Returns the scan status.
+     * Importance: Tells clients whether to keep polling.
+     * Alternatives: Use HTTP status codes only.
+     *
+     * @return the status.
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the total number of chunks.
+     * Importance: Gives the denominator for progress.
+     * Alternatives: Return a percentage.
+     *
+     * @return the chunk count.
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Returns the number of checkpointed chunks.
+     * Importance: Reports scan progress.
+     * Alternatives: Return a percentage.
+     *
+     * @return the completed chunks.
+     */
+    public int getChunksCompleted() {
+        return chunksCompleted;
+    }
+
+    /**
+     * Returns the number of pair comparisons made.
+     * Importance: Shows how much work blocking left for scoring.
+     * Alternatives: Omit comparison counts.
+     *
+     * @return the comparisons.
+     */
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    /**
+     * Returns the number of merges inserted.
+     * Importance: Tells reviewers how much work the scan queued.
+     * Alternatives: Count merges separately.
+     *
+     * @return the merges created.
+     */
+    public long getMergesCreated() {
+        return mergesCreated;
+    }
+
+    /**
+     * Returns the creation timestamp.
+     * Importance: Supports duration reporting.
+     * Alternatives: Return epoch milliseconds.
+     *
+     * @return the creation timestamp.
+     */
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Returns the completion timestamp.
+     * Importance: Supports duration reporting.
+     * Alternatives: Return epoch milliseconds.
+     *
+     * @return the completion timestamp, or null while running.
+     */
+    public String getCompletedAt() {
+        return completedAt;
+    }
+
+    /**
+     * Returns the failure message.
+     * Importance: Explains failed scans.
+     * Alternatives: Return error codes.
+     *
+     * @return the error, or null.
+     */
+    public String getError() {
+        return error;
+    }
+}
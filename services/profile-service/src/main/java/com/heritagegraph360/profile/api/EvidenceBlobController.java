@@ -0,0 +1,133 @@
+package com.heritagegraph360.profile.api;
+
+import com.heritagegraph360.profile.blob.BlobLocation;
+import com.heritagegraph360.profile.blob.BlobWriteResult;
+import com.heritagegraph360.profile.evidence.EvidenceBlobService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.Locale;
+import java.util.Optional;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Handles upload, download, and deletion of evidence scans.
+ * Importance: Gives scanned documents a home next to their evidence metadata.
+ * Alternatives: Have partners host scans and store only links.
+ */
+@RestController
+@RequestMapping("/api/v1/evidence-blobs")
+public class EvidenceBlobController {
+    private final EvidenceBlobService evidenceBlobService;
+
+    /**
+     * Creates the evidence blob controller.
+     * Importance: Connects HTTP requests to blob storage.
+     * Alternatives: Serve blobs from a separate service.
+     *
+     * @param evidenceBlobService the evidence blob service.
+     */
+    public EvidenceBlobController(EvidenceBlobService evidenceBlobService) {
+        this.evidenceBlobService = evidenceBlobService;
+    }
+
+    /**
+     * Uploads a scan; the returned hash is the evidence content hash.
+     * Importance: Verifies the declared hash while streaming, so corrupt uploads are rejected before storage.
+     * Alternatives: Accept multipart form uploads.
+     *
+     * @param tenantId the tenant identifier.
+     * @param expectedSha256 the hex SHA-256 the client computed, if any.
+     * @param body the raw scan bytes.
+     * @return the stored hash and size, 400 on a hash mismatch or oversized upload, or 404 when disabled.
+     * @throws IOException when the upload cannot be read or stored.
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('REVIEWER')")
+    public ResponseEntity<BlobWriteResult> uploadBlob(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @RequestHeader(value = "x-content-sha256", required = false) String expectedSha256,
+        InputStream body) throws IOException {
+        if (!evidenceBlobService.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            return ResponseEntity.ok(evidenceBlobService.store(tenantId, body, expectedSha256));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * Streams a scan the tenant uploaded.
+     * Importance: Writes from the segment file to the response without buffering the blob on the heap.
+     * Alternatives: Redirect to a signed object-store URL.
+     *
+     * @param tenantId the tenant identifier.
+     * @param sha256 the hex SHA-256 hash.
+     * @return the blob bytes, 400 for a malformed hash, or 404 when the tenant does not own it.
+     */
+    @GetMapping("/{sha256}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('REVIEWER')")
+    public ResponseEntity<StreamingResponseBody> downloadBlob(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @PathVariable String sha256) {
+        if (!evidenceBlobService.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        Optional<BlobLocation> location;
+        try {
+            location = evidenceBlobService.locate(tenantId, sha256);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        if (location.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        BlobLocation found = location.get();
+        StreamingResponseBody stream = out -> evidenceBlobService.transferTo(found, Channels.newChannel(out));
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .contentLength(found.getLength())
+            .eTag("\"" + sha256.toLowerCase(Locale.ROOT) + "\"")
+            .header("Cache-Control", "private, max-age=31536000, immutable")
+            .body(stream);
+    }
+
+    /**
+     * Removes the tenant's copy of a scan.
+     * Importance: Space is reclaimed by compaction once no tenant owns the blob.
+     * Alternatives: Delete bytes immediately.
+     *
+     * @param tenantId the tenant identifier.
+     * @param sha256 the hex SHA-256 hash.
+     * @return 204 when removed, 400 for a malformed hash, or 404 when the tenant did not own it.
+     */
+    @DeleteMapping("/{sha256}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('REVIEWER')")
+    public ResponseEntity<Void> deleteBlob(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @PathVariable String sha256) {
+        if (!evidenceBlobService.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            return evidenceBlobService.delete(tenantId, sha256)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+}
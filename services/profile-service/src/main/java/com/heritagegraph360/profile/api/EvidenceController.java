@@ -1,8 +1,12 @@
 package com.heritagegraph360.profile.api;
 
+import com.heritagegraph360.profile.evidence.EvidenceBulkImporter;
+import com.heritagegraph360.profile.evidence.EvidenceBulkSummary;
 import com.heritagegraph360.profile.evidence.EvidenceRequest;
 import com.heritagegraph360.profile.evidence.EvidenceService;
 import com.heritagegraph360.profile.nosql.EvidenceRecordDocument;
+import java.io.IOException;
+import java.io.InputStream;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -20,7 +24,10 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/api/v1/profiles")
 public class EvidenceController {
+    static final String NDJSON = "application/x-ndjson";
+
     private final EvidenceService evidenceService;
+    private final EvidenceBulkImporter bulkImporter;
 
     /**
      * Creates the evidence controller.
@@ -28,9 +35,11 @@ public class EvidenceController {
      * Alternatives: Use a dedicated evidence service.
      *
      * @param evidenceService the evidence service.
+     * @param bulkImporter the streaming bulk importer.
      */
-    public EvidenceController(EvidenceService evidenceService) {
+    public EvidenceController(EvidenceService evidenceService, EvidenceBulkImporter bulkImporter) {
         this.evidenceService = evidenceService;
+        this.bulkImporter = bulkImporter;
     }
 
     /**
@@ -51,4 +60,22 @@ public class EvidenceController {
         @RequestBody EvidenceRequest request) {
         return ResponseEntity.ok(evidenceService.storeEvidence(tenantId, profileId, request));
     }
+
+    /**
+     * Stores an NDJSON stream of evidence records, one JSON object per line.
+     * Importance: Lets archive partners upload millions of records in one request with flat memory use.
+     * Alternatives: Accept a JSON array, which must be held in memory.
+     *
+     * @param tenantId the tenant identifier.
+     * @param body the NDJSON request body.
+     * @return counts of received, inserted, duplicate, and rejected records.
+     * @throws IOException when the body cannot be read.
+     */
+    @PostMapping(value = "/evidence:bulk", consumes = NDJSON)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('REVIEWER')")
+    public ResponseEntity<EvidenceBulkSummary> storeEvidenceBulk(
+        @RequestHeader("x-tenant-id") String tenantId,
+        InputStream body) throws IOException {
+        return ResponseEntity.ok(bulkImporter.importNdjson(tenantId, body));
+    }
 }
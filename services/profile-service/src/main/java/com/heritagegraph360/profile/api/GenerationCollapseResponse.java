@@ -0,0 +1,73 @@
+package com.heritagegraph360.profile.api;
+
+import com.heritagegraph360.profile.pedigree.GenerationCollapse;
+
+/**
+ * Represents pedigree collapse at one generation.
+ * Importance: Shows where in a pedigree ancestors start to repeat.
+ * Alternatives: Return only the overall factor.
+ */
+public class GenerationCollapseResponse {
+    private final int generation;
+    private final long slots;
+    private final int ancestors;
+    private final double collapseFactor;
+
+    /**
+     * Creates a response from a generation summary.
+     * Importance: Standardizes per-generation output.
+     * Alternatives: Use a generic map response.
+     *
+     * @param summary the generation summary.
+     */
+    public GenerationCollapseResponse(GenerationCollapse summary) {
+        this.generation = summary.getGeneration();
+        this.slots = summary.getSlots();
+        this.ancestors = summary.getAncestors();
+        this.collapseFactor = summary.getCollapseFactor();
+    }
+
+    /**
+     * Returns the generation.
+     * Importance: Orders the summaries.
+     * Alternatives: Rely on list position.
+     *
+     * @return the generation, 1 for parents.
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the number of ancestral lines reaching the generation.
+     * Importance: The denominator of the collapse factor.
+     * Alternatives: Return theoretical slot counts.
+     *
+     * @return the slot count.
+     */
+    public long getSlots() {
+        return slots;
+    }
+
+    /**
+     * Returns the number of distinct profiles at the generation.
+     * Importance: The numerator of the collapse factor.
+     * Alternatives: Return the profiles.
+     *
+     * @return the ancestor count.
+     */
+    public int getAncestors() {
+        return ancestors;
+    }
+
+    /**
+     * Returns the share of slots filled by a repeated ancestor.
+     * Importance: Gives the collapse percentage genealogists quote.
+     * Alternatives: Let clients divide.
+     *
+     * @return the collapse factor between 0 and 1.
+     */
+    public double getCollapseFactor() {
+        return collapseFactor;
+    }
+}
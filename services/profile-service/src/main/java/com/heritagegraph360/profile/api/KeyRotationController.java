@@ -0,0 +1,63 @@
+package com.heritagegraph360.profile.api;
+
+import com.heritagegraph360.profile.service.KeyRotationJobRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Handles sensitive field key rotation requests.
+ * Importance: Lets tenant administrators rotate data keys without downtime.
+ * Alternatives: Run rotations from an operator CLI.
+ */
+@RestController
+@RequestMapping("/api/v1/key-rotations")
+public class KeyRotationController {
+    private final KeyRotationJobRunner jobRunner;
+
+    /**
+     * Creates the key rotation controller.
+     * Importance: Connects HTTP requests to the rotation job runner.
+     * Alternatives: Trigger rotations from a scheduled job.
+     *
+     * @param jobRunner the rotation job runner.
+     */
+    public KeyRotationController(KeyRotationJobRunner jobRunner) {
+        this.jobRunner = jobRunner;
+    }
+
+    /**
+     * Rotates the tenant's data key and starts re-encrypting its sensitive fields.
+     * Importance: Returns immediately; progress is polled with GET.
+     * Alternatives: Block until the rotation completes.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the job, with 202 Accepted.
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<KeyRotationResponse> startRotation(@RequestHeader("x-tenant-id") String tenantId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new KeyRotationResponse(jobRunner.start(tenantId)));
+    }
+
+    /**
+     * Returns the tenant's most recent rotation job.
+     * Importance: Reports progress and failures.
+     * Alternatives: Expose progress through metrics only.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the job, or 404 when the tenant never rotated.
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<KeyRotationResponse> getRotation(@RequestHeader("x-tenant-id") String tenantId) {
+        return jobRunner.status(tenantId)
+            .map(job -> ResponseEntity.ok(new KeyRotationResponse(job)))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,125 @@
+package com.heritagegraph360.profile.api;
+
+import com.heritagegraph360.profile.nosql.KeyRotationJobDocument;
+
+/**
+ * Represents the progress of a sensitive field key rotation.
+ * Importance: Gives operators a stable view of rotation jobs.
+ * Alternatives: Expose the job document directly.
+ */
+public class KeyRotationResponse {
+    private final String tenantId;
+    private final int targetGeneration;
+    private final String status;
+    private final long total;
+    private final long processed;
+    private final long reencrypted;
+    private final long failed;
+    private final String error;
+
+    /**
+     * Creates a response from a job.
+     * Importance: Keeps internal lease fields out of the API.
+     * Alternatives: Use a mapping library.
+     *
+     * @param job the job.
+     */
+    public KeyRotationResponse(KeyRotationJobDocument job) {
+        this.tenantId = job.getId();
+        this.targetGeneration = job.getTargetGeneration();
+        this.status = job.getStatus().name();
+        this.total = job.getTotal();
+        this.processed = job.getProcessed();
+        this.reencrypted = job.getReencrypted();
+        this.failed = job.getFailed();
+        this.error = job.getError();
+    }
+
+    /**
+     * Returns the tenant whose key is rotating.
+     * Importance: Identifies the job.
+     * Alternatives: Return the job id separately.
+     *
+     * @return the tenant identifier.
+     */
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Returns the key generation values are moving to.
+     * Importance: Shows which key new ciphertexts carry.
+     * Alternatives: Hide key generations from clients.
+     *
+     * @return the target generation.
+     */
+    public int getTargetGeneration() {
+        return targetGeneration;
+    }
+
+    /**
+     * Returns the job status.
+     * Importance: Lets clients poll for completion.
+     * Alternatives: Return an HTTP status only.
+     *
+     * @return the status.
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the tenant's document count when the job started.
+     * Importance: Gives progress a denominator.
+     * Alternatives: Report only processed counts.
+     *
+     * @return the total.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the documents handled so far.
+     * Importance: Tracks progress.
+     * Alternatives: Report a percentage.
+     *
+     * @return the processed count.
+     */
+    public long getProcessed() {
+        return processed;
+    }
+
+    /**
+     * Returns the documents re-encrypted so far.
+     * Importance: Separates rewrites from skipped documents.
+     * Alternatives: Report only processed counts.
+     *
+     * @return the re-encrypted count.
+     */
+    public long getReencrypted() {
+        return reencrypted;
+    }
+
+    /**
+     * Returns the documents that could not be decrypted.
+     * Importance: Flags values left under an old key.
+     * Alternatives: Fail the job instead.
+     *
+     * @return the failed count.
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+    /**
+     * Returns the failure message of a failed job.
+     * Importance: Helps operators decide whether to restart.
+     * Alternatives: Log errors only.
+     *
+     * @return the error, or null.
+     */
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,91 @@
+package com.heritagegraph360.profile.api;
+
+import java.util.List;
+
+/**
+ * Represents the shortest relationship chain between two profiles.
+ * Importance: Answers "how are these two related?" in one response.
+ * Alternatives: Have reviewers walk relationships by hand.
+ */
+public class KinshipPathResponse {
+    private final String fromProfileId;
+    private final String toProfileId;
+    private final String outcome;
+    private final int visitedNodes;
+    private final List<KinshipStepResponse> steps;
+
+    /**
+     * Creates a kinship path response.
+     * Importance: Standardizes path output.
+     * Alternatives: Use a generic map response.
+     *
+     * @param fromProfileId the first profile identifier.
+     * @param toProfileId the second profile identifier.
+     * @param outcome how the search ended.
+     * @param visitedNodes the profiles visited by the search.
+     * @param steps the hops from the first profile to the second.
+     */
+    public KinshipPathResponse(String fromProfileId, String toProfileId, String outcome, int visitedNodes,
+                               List<KinshipStepResponse> steps) {
+        this.fromProfileId = fromProfileId;
+        this.toProfileId = toProfileId;
+        this.outcome = outcome;
+        this.visitedNodes = visitedNodes;
+        this.steps = steps;
+    }
+
+    /**
+     * Returns the first profile identifier.
+     * Importance: Echoes the path start.
+     * Alternatives: Omit request echoes.
+     *
+     * @return the profile identifier.
+     */
+    public String getFromProfileId() {
+        return fromProfileId;
+    }
+
+    /**
+     * Returns the second profile identifier.
+     * Importance: Echoes the path end.
+     * Alternatives: Omit request echoes.
+     *
+     * @return the profile identifier.
+     */
+    public String getToProfileId() {
+        return toProfileId;
+    }
+
+    /**
+     * Returns how the search ended.
+     * Importance: FOUND, NOT_FOUND, or the limit that stopped the search.
+     * Alternatives: Use HTTP status codes per outcome.
+     *
+     * @return the outcome name.
+     */
+    public String getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Returns the profiles visited by the search.
+     * Importance: Shows how close a search came to its node budget.
+     * Alternatives: Expose only through logs.
+     *
+     * @return the visited count.
+     */
+    public int getVisitedNodes() {
+        return visitedNodes;
+    }
+
+    /**
+     * Returns the hops from the first profile to the second.
+     * Importance: Is the relationship chain shown to reviewers.
+     * Alternatives: Return profile ids only.
+     *
+     * @return the steps, empty unless the outcome is FOUND.
+     */
+    public List<KinshipStepResponse> getSteps() {
+        return steps;
+    }
+}
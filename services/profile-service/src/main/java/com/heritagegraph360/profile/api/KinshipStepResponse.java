@@ -0,0 +1,74 @@
+package com.heritagegraph360.profile.api;
+
+/**
+ * Represents one relationship hop on a kinship path.
+ * Importance: Shows which way each edge is followed and its status color.
+ * Alternatives: Return a flat list of profile ids.
+ */
+public class KinshipStepResponse {
+    private final String fromProfileId;
+    private final String toProfileId;
+    private final String relation;
+    private final String status;
+
+    /**
+     * Creates a kinship step response.
+     * Importance: Standardizes path output.
+     * Alternatives: Use a generic map response.
+     *
+     * @param fromProfileId the profile the hop starts at.
+     * @param toProfileId the profile the hop ends at.
+     * @param relation PARENT when the next profile is a parent, CHILD when it is a child.
+     * @param status the relationship status.
+     */
+    public KinshipStepResponse(String fromProfileId, String toProfileId, String relation, String status) {
+        this.fromProfileId = fromProfileId;
+        this.toProfileId = toProfileId;
+        this.relation = relation;
+        this.status = status;
+    }
+
+    /**
+     * Returns the profile the hop starts at.
+     * Importance: Chains hops into a readable path.
+     * Alternatives: Return only end profiles.
+     *
+     * @return the profile identifier.
+     */
+    public String getFromProfileId() {
+        return fromProfileId;
+    }
+
+    /**
+     * Returns the profile the hop ends at.
+     * Importance: Chains hops into a readable path.
+     * Alternatives: Return only start profiles.
+     *
+     * @return the profile identifier.
+     */
+    public String getToProfileId() {
+        return toProfileId;
+    }
+
+    /**
+     * Returns how the edge is followed.
+     * Importance: Lets reviewers read the chain as up and down generations.
+     * Alternatives: Return stored edge orientation.
+     *
+     * @return PARENT or CHILD.
+     */
+    public String getRelation() {
+        return relation;
+    }
+
+    /**
+     * Returns the relationship status.
+     * Importance: Shows green/yellow/orange/red states along the path.
+     * Alternatives: Return only the weakest status.
+     *
+     * @return the relationship status.
+     */
+    public String getStatus() {
+        return status;
+    }
+}
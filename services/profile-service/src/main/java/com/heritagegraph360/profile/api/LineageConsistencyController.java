@@ -0,0 +1,132 @@
+package com.heritagegraph360.profile.api;
+
+import com.heritagegraph360.profile.config.LineageConsistencyProperties;
+import com.heritagegraph360.profile.consistency.LineageConsistencyScanRunner;
+import com.heritagegraph360.profile.consistency.LineageViolationRecord;
+import com.heritagegraph360.profile.consistency.LineageViolationStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Exposes lineage consistency scans and the violation review queue.
+ * Importance: Lets operators sweep a tenant for cycles and reviewers work through what was found.
+ * Alternatives: Route violations through profile approvals.
+ */
+@RestController
+@RequestMapping("/api/v1/lineage-consistency")
+public class LineageConsistencyController {
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 1000;
+
+    private final LineageConsistencyScanRunner scanRunner;
+    private final LineageViolationStore violationStore;
+    private final LineageConsistencyProperties properties;
+
+    /**
+     * Creates the lineage consistency controller.
+     * Importance: Connects HTTP requests to the scan runner and review items.
+     * Alternatives: Split scans and review items into two controllers.
+     *
+     * @param scanRunner the scan runner.
+     * @param violationStore the review item store.
+     * @param properties the consistency properties.
+     */
+    public LineageConsistencyController(LineageConsistencyScanRunner scanRunner,
+                                        LineageViolationStore violationStore,
+                                        LineageConsistencyProperties properties) {
+        this.scanRunner = scanRunner;
+        this.violationStore = violationStore;
+        this.properties = properties;
+    }
+
+    /**
+     * Starts a consistency scan for the tenant.
+     * Importance: Sweeps tenants that predate upsert checks and catches concurrent-import cycles.
+     * Alternatives: Scan synchronously in the request.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the scan response.
+     */
+    @PostMapping("/scans")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<LineageConsistencyScanResponse> startScan(@RequestHeader("x-tenant-id") String tenantId) {
+        if (!properties.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(new LineageConsistencyScanResponse(scanRunner.start(tenantId)));
+    }
+
+    /**
+     * Returns the tenant's latest consistency scan on this instance.
+     * Importance: Supports polling after a scan starts.
+     * Alternatives: Return every scan.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the scan response, or 404.
+     */
+    @GetMapping("/scans")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<LineageConsistencyScanResponse> getScan(@RequestHeader("x-tenant-id") String tenantId) {
+        return scanRunner.status(tenantId)
+            .map(scan -> ResponseEntity.ok(new LineageConsistencyScanResponse(scan)))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Lists the tenant's violation review items, newest first.
+     * Importance: Feeds the reviewer queue.
+     * Alternatives: Page with a cursor.
+     *
+     * @param tenantId the tenant identifier.
+     * @param status the review status; defaults to OPEN.
+     * @param limit the maximum number of items; defaults to 100 and is capped at 1000.
+     * @return the review items.
+     */
+    @GetMapping("/violations")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('REVIEWER')")
+    public ResponseEntity<List<LineageViolationResponse>> listViolations(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @RequestParam(defaultValue = "OPEN") String status,
+        @RequestParam(required = false) Integer limit) {
+        int bounded = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        List<LineageViolationResponse> response = new ArrayList<>();
+        for (LineageViolationRecord record : violationStore.list(tenantId, status, bounded)) {
+            response.add(new LineageViolationResponse(record));
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Resolves an open violation review item.
+     * Importance: Closes the item once a reviewer has fixed or accepted the lineage.
+     * Alternatives: Delete the item.
+     *
+     * @param tenantId the tenant identifier.
+     * @param actorId the reviewer identifier.
+     * @param violationId the review item identifier.
+     * @return 200 when resolved, or 404 when no open item matched.
+     */
+    @PostMapping("/violations/{violationId}/resolve")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('REVIEWER')")
+    public ResponseEntity<Void> resolveViolation(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @RequestHeader("x-actor-id") String actorId,
+        @PathVariable String violationId) {
+        if (!violationStore.resolve(tenantId, UUID.fromString(violationId), UUID.fromString(actorId))) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok().build();
+    }
+}
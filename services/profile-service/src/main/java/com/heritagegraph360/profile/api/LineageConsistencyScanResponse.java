@@ -0,0 +1,126 @@
+package com.heritagegraph360.profile.api;
+
+import com.heritagegraph360.profile.consistency.LineageConsistencyScan;
+import java.time.Instant;
+
+/**
+ * Represents the progress of a lineage consistency scan.
+ * Importance: Gives operators a stable view of tenant scans.
+ * Alternatives: Expose the scan tracker directly.
+ */
+public class LineageConsistencyScanResponse {
+    private final String tenantId;
+    private final String status;
+    private final long edges;
+    private final int selfParents;
+    private final int cycles;
+    private final Instant startedAt;
+    private final Instant finishedAt;
+    private final String error;
+
+    /**
+     * Creates a response from a scan.
+     * Importance: Snapshots the volatile tracker fields once.
+     * Alternatives: Use a mapping library.
+     *
+     * @param scan the scan.
+     */
+    public LineageConsistencyScanResponse(LineageConsistencyScan scan) {
+        this.tenantId = scan.getTenantId();
+        this.status = scan.getStatus().name();
+        this.edges = scan.getEdges();
+        this.selfParents = scan.getSelfParents();
+        this.cycles = scan.getCycles();
+        this.startedAt = scan.getStartedAt();
+        this.finishedAt = scan.getFinishedAt();
+        this.error = scan.getError();
+    }
+
+    /**
+     * Returns the tenant being scanned.
+     * Importance: Identifies the scan.
+     * Alternatives: Omit it and rely on the request header.
+     *
+     * @return the tenant identifier.
+     */
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Returns the scan status.
+     * Importance: Drives polling until a terminal state.
+     * Alternatives: Expose boolean flags.
+     *
+     * @return the status name.
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the number of relationship edges checked.
+     * Importance: Shows the size of the tenant's graph.
+     * Alternatives: Count edges with a separate query.
+     *
+     * @return the edge count.
+     */
+    public long getEdges() {
+        return edges;
+    }
+
+    /**
+     * Returns the number of self-parent edges found.
+     * Importance: Separates trivial data-entry errors from real cycles.
+     * Alternatives: Report one violation total.
+     *
+     * @return the self-parent count.
+     */
+    public int getSelfParents() {
+        return selfParents;
+    }
+
+    /**
+     * Returns the number of ancestor cycles found.
+     * Importance: Sizes the review work a scan produced.
+     * Alternatives: Count open review items instead.
+     *
+     * @return the cycle count.
+     */
+    public int getCycles() {
+        return cycles;
+    }
+
+    /**
+     * Returns when the scan was requested.
+     * Importance: Helps operators spot stuck scans.
+     * Alternatives: Expose only the duration.
+     *
+     * @return the start time.
+     */
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Returns when the scan finished.
+     * Importance: Helps operators size scan windows.
+     * Alternatives: Expose only the duration.
+     *
+     * @return the finish time, or null while running.
+     */
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * Returns the failure message.
+     * Importance: Explains failed scans.
+     * Alternatives: Only log failures.
+     *
+     * @return the error, or null.
+     */
+    public String getError() {
+        return error;
+    }
+}
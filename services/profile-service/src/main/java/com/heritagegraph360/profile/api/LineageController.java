@@ -0,0 +1,264 @@
+package com.heritagegraph360.profile.api;
+
+import com.heritagegraph360.profile.closure.AncestryClosureStore;
+import com.heritagegraph360.profile.config.AncestryClosureProperties;
+import com.heritagegraph360.profile.config.LineageProperties;
+import com.heritagegraph360.profile.domain.ProfileEntity;
+import com.heritagegraph360.profile.graph.KinshipPath;
+import com.heritagegraph360.profile.graph.LineageDirection;
+import com.heritagegraph360.profile.graph.LineageEntry;
+import com.heritagegraph360.profile.graph.LineageGraphIndex;
+import com.heritagegraph360.profile.graph.LineageWalk;
+import com.heritagegraph360.profile.service.FamilyTreeExportService;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Exposes ancestor, descendant, and kinship path traversals over the lineage graph.
+ * Importance: Serves pedigree loads from the in-memory lineage index, or the ancestry closure while it warms up.
+ * Alternatives: Query relationships generation by generation from SQL.
+ */
+@RestController
+@RequestMapping("/api/v1/profiles")
+public class LineageController {
+    private final LineageGraphIndex lineageGraphIndex;
+    private final AncestryClosureStore closureStore;
+    private final LineageProperties lineageProperties;
+    private final AncestryClosureProperties closureProperties;
+    private final FamilyTreeExportService treeExportService;
+
+    /**
+     * Creates the lineage controller.
+     * Importance: Connects HTTP requests to the lineage index and the ancestry closure.
+     * Alternatives: Route lineage queries through the workflow service.
+     *
+     * @param lineageGraphIndex the lineage graph index.
+     * @param closureStore the ancestry closure store.
+     * @param lineageProperties the lineage properties.
+     * @param closureProperties the ancestry closure properties.
+     * @param treeExportService the family tree export service.
+     */
+    public LineageController(LineageGraphIndex lineageGraphIndex,
+                             AncestryClosureStore closureStore,
+                             LineageProperties lineageProperties,
+                             AncestryClosureProperties closureProperties,
+                             FamilyTreeExportService treeExportService) {
+        this.lineageGraphIndex = lineageGraphIndex;
+        this.closureStore = closureStore;
+        this.lineageProperties = lineageProperties;
+        this.closureProperties = closureProperties;
+        this.treeExportService = treeExportService;
+    }
+
+    /**
+     * Returns the ancestors of a profile.
+     * Importance: Answers multi-generation pedigree queries in one request.
+     * Alternatives: Walk parents client-side one generation at a time.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the profile identifier.
+     * @param depth the maximum number of generations.
+     * @return the lineage response.
+     */
+    @GetMapping("/{profileId}/ancestors")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('REVIEWER')")
+    public ResponseEntity<LineageResponse> getAncestors(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @PathVariable String profileId,
+        @RequestParam(required = false) Integer depth) {
+        return walk(tenantId, profileId, LineageDirection.ANCESTORS, depth);
+    }
+
+    /**
+     * Returns the descendants of a profile.
+     * Importance: Answers multi-generation descendant queries in one request.
+     * Alternatives: Walk children client-side one generation at a time.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the profile identifier.
+     * @param depth the maximum number of generations.
+     * @return the lineage response.
+     */
+    @GetMapping("/{profileId}/descendants")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('REVIEWER')")
+    public ResponseEntity<LineageResponse> getDescendants(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @PathVariable String profileId,
+        @RequestParam(required = false) Integer depth) {
+        return walk(tenantId, profileId, LineageDirection.DESCENDANTS, depth);
+    }
+
+    /**
+     * Streams the family tree around a profile as JSON, one generation at a time.
+     * Importance: Renders a whole subtree with relationship statuses in one request.
+     * Alternatives: Have the viewer fetch each relationship separately.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the root profile identifier.
+     * @param ancestors the generations to export upward.
+     * @param descendants the generations to export downward.
+     * @return the streamed tree, 400 for malformed ids, 404 for unknown roots, or 503 while the index warms up.
+     */
+    @GetMapping(value = "/{profileId}/tree", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('REVIEWER')")
+    public ResponseEntity<StreamingResponseBody> exportTree(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @PathVariable String profileId,
+        @RequestParam(required = false) Integer ancestors,
+        @RequestParam(required = false) Integer descendants) {
+        if (!lineageGraphIndex.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        Optional<ProfileEntity> root;
+        try {
+            root = treeExportService.findRoot(tenantId, UUID.fromString(profileId));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        if (root.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        int up = treeExportService.resolveGenerations(ancestors);
+        int down = treeExportService.resolveGenerations(descendants);
+        StreamingResponseBody body = out -> treeExportService.write(tenantId, root.get(), up, down, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Returns whether one profile descends from another.
+     * Importance: Answers descent checks with one closure primary-key lookup.
+     * Alternatives: Search the descendant list client-side.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the possible ancestor.
+     * @param otherProfileId the possible descendant.
+     * @return the descent response, 400 for malformed ids, or 404 while the closure is disabled.
+     */
+    @GetMapping("/{profileId}/descendants/{otherProfileId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('REVIEWER')")
+    public ResponseEntity<DescentResponse> getDescent(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @PathVariable String profileId,
+        @PathVariable String otherProfileId) {
+        if (!closureProperties.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        Integer generations;
+        try {
+            generations = closureStore.depthBetween(tenantId, UUID.fromString(profileId),
+                UUID.fromString(otherProfileId)).orElse(null);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        return ResponseEntity.ok(new DescentResponse(profileId, otherProfileId, generations));
+    }
+
+    /**
+     * Returns the shortest relationship chain between two profiles.
+     * Importance: Answers "how are A and B related?" without hand-walking relationship rows.
+     * Alternatives: Compare both profiles' ancestor lists client-side.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the first profile identifier.
+     * @param otherProfileId the second profile identifier.
+     * @param maxDepth the maximum path length, capped by configuration.
+     * @return the path response, 400 for malformed ids, or 503 while the index warms up.
+     */
+    @GetMapping("/{profileId}/path-to/{otherProfileId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('REVIEWER')")
+    public ResponseEntity<KinshipPathResponse> getPath(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @PathVariable String profileId,
+        @PathVariable String otherProfileId,
+        @RequestParam(required = false) Integer maxDepth) {
+        if (!lineageGraphIndex.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        KinshipPath path;
+        try {
+            path = lineageGraphIndex.findPath(tenantId, UUID.fromString(profileId), UUID.fromString(otherProfileId),
+                maxDepth);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        List<KinshipStepResponse> steps = path.getSteps().stream()
+            .map(step -> new KinshipStepResponse(
+                step.getFromProfileId().toString(),
+                step.getToProfileId().toString(),
+                step.getRelation().name(),
+                step.getStatus()))
+            .collect(Collectors.toList());
+        return ResponseEntity.ok(new KinshipPathResponse(profileId, otherProfileId, path.getOutcome().name(),
+            path.getVisitedNodes(), steps));
+    }
+
+    /**
+     * Runs a traversal and maps it to the API response.
+     * Importance: Shares response mapping between both directions.
+     * Alternatives: Duplicate mapping logic per endpoint.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the profile identifier.
+     * @param direction the traversal direction.
+     * @param depth the maximum number of generations.
+     * @return the lineage response.
+     */
+    private ResponseEntity<LineageResponse> walk(String tenantId, String profileId,
+                                                 LineageDirection direction, Integer depth) {
+        if (!lineageGraphIndex.isReady()) {
+            if (!closureProperties.isEnabled()) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+            }
+            return ResponseEntity.ok(closureWalk(tenantId, profileId, direction, depth));
+        }
+        LineageWalk walk = lineageGraphIndex.walk(tenantId, UUID.fromString(profileId), direction, depth);
+        List<LineageNodeResponse> nodes = walk.getEntries().stream()
+            .map(entry -> new LineageNodeResponse(
+                entry.getProfileId().toString(),
+                entry.getGeneration(),
+                entry.getStatus()))
+            .collect(Collectors.toList());
+        return ResponseEntity.ok(new LineageResponse(profileId, direction.name(), walk.isTruncated(), nodes));
+    }
+
+    /**
+     * Answers a traversal from the ancestry closure table.
+     * Importance: Keeps pedigree queries available while the in-memory index warms up.
+     * Alternatives: Return 503 until the index is ready.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the profile identifier.
+     * @param direction the traversal direction.
+     * @param depth the maximum number of generations.
+     * @return the lineage response; node statuses are null because the closure does not store them.
+     */
+    private LineageResponse closureWalk(String tenantId, String profileId, LineageDirection direction, Integer depth) {
+        int resolvedDepth = depth == null ? lineageProperties.getDefaultDepth() : depth;
+        resolvedDepth = Math.max(1, Math.min(resolvedDepth,
+            Math.min(lineageProperties.getMaxDepth(), closureProperties.getMaxDepth())));
+        int limit = lineageProperties.getMaxNodes();
+        UUID id = UUID.fromString(profileId);
+        List<LineageEntry> entries = direction == LineageDirection.ANCESTORS
+            ? closureStore.ancestors(tenantId, id, resolvedDepth, limit + 1)
+            : closureStore.descendants(tenantId, id, resolvedDepth, limit + 1);
+        boolean truncated = entries.size() > limit;
+        List<LineageNodeResponse> nodes = entries.stream()
+            .limit(limit)
+            .map(entry -> new LineageNodeResponse(entry.getProfileId().toString(), entry.getGeneration(), null))
+            .collect(Collectors.toList());
+        return new LineageResponse(profileId, direction.name(), truncated, nodes);
+    }
+}
@@ -0,0 +1,60 @@
+package com.heritagegraph360.profile.api;
+
+/**
+ * Represents a profile reached in a lineage traversal.
+ * Importance: Exposes generation distance and relationship status per ancestor or descendant.
+ * Alternatives: Return nested tree structures.
+ */
+public class LineageNodeResponse {
+    private final String profileId;
+    private final int generation;
+    private final String status;
+
+    /**
+     * Creates a lineage node response.
+     * Importance: Standardizes lineage traversal output.
+     * Alternatives: Use a generic map response.
+     *
+     * @param profileId the profile identifier.
+     * @param generation the generation distance.
+     * @param status the relationship status of the reaching edge.
+     */
+    public LineageNodeResponse(String profileId, int generation, String status) {
+        this.profileId = profileId;
+        this.generation = generation;
+        this.status = status;
+    }
+
+    /**
+     * Returns the profile identifier.
+     * Importance: Identifies the reached profile.
+     * Alternatives: Use a hashed public profile identifier.
+     *
+     * @return the profile identifier.
+     */
+    public String getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Returns the generation distance.
+     * Importance: Supports pedigree chart layout.
+     * Alternatives: Return full paths.
+     *
+     * @return the generation distance.
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the relationship status.
+     * Importance: Shows green/yellow/orange/red states in lineage views.
+     * Alternatives: Omit statuses from traversal output.
+     *
+     * @return the relationship status.
+     */
+    public String getStatus() {
+        return status;
+    }
+}
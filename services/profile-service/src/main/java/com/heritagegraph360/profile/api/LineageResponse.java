@@ -0,0 +1,76 @@
+package com.heritagegraph360.profile.api;
+
+import java.util.List;
+
+/**
+ * Represents an ancestor or descendant traversal response.
+ * Importance: Provides a consistent lineage payload for pedigree views.
+ * Alternatives: Use a generic API response wrapper.
+ */
+public class LineageResponse {
+    private final String profileId;
+    private final String direction;
+    private final boolean truncated;
+    private final List<LineageNodeResponse> nodes;
+
+    /**
+     * Creates a lineage response.
+     * Importance: Standardizes lineage traversal output.
+     * Alternatives: Return the node list only.
+     *
+     * @param profileId the starting profile identifier.
+     * @param direction the traversal direction.
+     * @param truncated whether the node budget cut the walk short.
+     * @param nodes the reached profiles.
+     */
+    public LineageResponse(String profileId, String direction, boolean truncated, List<LineageNodeResponse> nodes) {
+        this.profileId = profileId;
+        this.direction = direction;
+        this.truncated = truncated;
+        this.nodes = nodes;
+    }
+
+    /**
+     * Returns the starting profile identifier.
+     * Importance: Links the response to the requested profile.
+     * Alternatives: Use a hashed public profile identifier.
+     *
+     * @return the profile identifier.
+     */
+    public String getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Returns the traversal direction.
+     * Importance: Distinguishes ancestor from descendant payloads.
+     * Alternatives: Use separate response types.
+     *
+     * @return the direction.
+     */
+    public String getDirection() {
+        return direction;
+    }
+
+    /**
+     * Returns whether the traversal was truncated.
+     * Importance: Signals that more profiles exist beyond the node budget.
+     * Alternatives: Return a continuation cursor.
+     *
+     * @return true when truncated.
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Returns the reached profiles.
+     * Importance: Provides lineage details to clients.
+     * Alternatives: Return identifiers only.
+     *
+     * @return the lineage nodes.
+     */
+    public List<LineageNodeResponse> getNodes() {
+        return nodes;
+    }
+}
@@ -0,0 +1,145 @@
+package com.heritagegraph360.profile.api;
+
+import com.heritagegraph360.profile.consistency.LineageViolationRecord;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Represents a lineage violation review item.
+ * Importance: Gives reviewers the profiles to inspect for an impossible lineage.
+ * Alternatives: Expose the stored record directly.
+ */
+public class LineageViolationResponse {
+    private final String violationId;
+    private final String type;
+    private final String profileId;
+    private final String relatedProfileId;
+    private final int cycleSize;
+    private final List<String> members;
+    private final String source;
+    private final String status;
+    private final Instant createdAt;
+
+    /**
+     * Creates a response from a stored review item.
+     * Importance: Renders identifiers as strings like other profile responses.
+     * Alternatives: Serialize UUIDs directly.
+     *
+     * @param record the review item.
+     */
+    public LineageViolationResponse(LineageViolationRecord record) {
+        this.violationId = record.getViolationId().toString();
+        this.type = record.getType().name();
+        this.profileId = record.getProfileId().toString();
+        this.relatedProfileId = record.getRelatedProfileId() == null ? null : record.getRelatedProfileId().toString();
+        this.cycleSize = record.getCycleSize();
+        this.members = new ArrayList<>(record.getMembers().size());
+        for (UUID member : record.getMembers()) {
+            this.members.add(member.toString());
+        }
+        this.source = record.getSource();
+        this.status = record.getStatus();
+        this.createdAt = record.getCreatedAt();
+    }
+
+    /**
+     * Returns the review item identifier.
+     * Importance: Addresses the item when resolving it.
+     * Alternatives: Address items by profile.
+     *
+     * @return the violation identifier.
+     */
+    public String getViolationId() {
+        return violationId;
+    }
+
+    /**
+     * Returns the violation type.
+     * Importance: Tells reviewers what kind of impossibility was found.
+     * Alternatives: Infer it from the cycle size.
+     *
+     * @return SELF_PARENT or ANCESTOR_CYCLE.
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Returns the profile the item is keyed by.
+     * Importance: Gives reviewers a starting point in the cycle.
+     * Alternatives: Return only the member list.
+     *
+     * @return the profile identifier.
+     */
+    public String getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Returns the parent of the keyed profile within the cycle.
+     * Importance: Names one edge a reviewer can remove to break the cycle.
+     * Alternatives: Return every edge in the cycle.
+     *
+     * @return the related profile identifier.
+     */
+    public String getRelatedProfileId() {
+        return relatedProfileId;
+    }
+
+    /**
+     * Returns the number of profiles in the cycle.
+     * Importance: Separates short data-entry loops from large merged components.
+     * Alternatives: Count the member list.
+     *
+     * @return the cycle size.
+     */
+    public int getCycleSize() {
+        return cycleSize;
+    }
+
+    /**
+     * Returns the cycle's profiles, capped at the configured member limit.
+     * Importance: Lets reviewers open every affected profile.
+     * Alternatives: Look up members with a lineage query.
+     *
+     * @return the member identifiers.
+     */
+    public List<String> getMembers() {
+        return members;
+    }
+
+    /**
+     * Returns what detected the violation.
+     * Importance: Separates upsert-time findings from scan findings.
+     * Alternatives: Omit the source.
+     *
+     * @return UPSERT or SCAN.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the review status.
+     * Importance: Shows whether the item still needs attention.
+     * Alternatives: List only open items.
+     *
+     * @return OPEN or RESOLVED.
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns when the violation was recorded.
+     * Importance: Orders the review queue.
+     * Alternatives: Order by profile.
+     *
+     * @return the creation time.
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
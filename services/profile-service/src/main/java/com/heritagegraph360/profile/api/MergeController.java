@@ -2,6 +2,7 @@ package com.heritagegraph360.profile.api;
 
 import com.heritagegraph360.profile.service.ProfileWorkflowService;
 import java.util.UUID;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -58,6 +59,8 @@ public class MergeController {
             return ResponseEntity.ok(response);
         } catch (IllegalStateException ex) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (DataIntegrityViolationException ex) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
 }
@@ -0,0 +1,123 @@
+package com.heritagegraph360.profile.api;
+
+import com.heritagegraph360.profile.pedigree.GenerationCollapse;
+import com.heritagegraph360.profile.pedigree.PedigreeCollapse;
+import com.heritagegraph360.profile.pedigree.RepeatedAncestor;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents pedigree collapse for one profile.
+ * Importance: Replaces spreadsheet collapse calculations with one request.
+ * Alternatives: Return the ancestor list and let clients compute collapse.
+ */
+public class PedigreeCollapseResponse {
+    private final String profileId;
+    private final int ancestors;
+    private final long slots;
+    private final double collapseFactor;
+    private final List<GenerationCollapseResponse> generations;
+    private final List<RepeatedAncestorResponse> repeatedAncestors;
+    private final boolean truncated;
+
+    /**
+     * Creates a response from a collapse summary.
+     * Importance: Standardizes collapse output for single-profile and cohort queries.
+     * Alternatives: Use a generic map response.
+     *
+     * @param collapse the collapse summary.
+     * @param truncated whether the profile limit cut the pedigree short.
+     */
+    public PedigreeCollapseResponse(PedigreeCollapse collapse, boolean truncated) {
+        this.profileId = collapse.getProfileId().toString();
+        this.ancestors = collapse.getAncestors();
+        this.slots = collapse.getSlots();
+        this.collapseFactor = collapse.getCollapseFactor();
+        this.generations = new ArrayList<>(collapse.getGenerations().size());
+        for (GenerationCollapse summary : collapse.getGenerations()) {
+            this.generations.add(new GenerationCollapseResponse(summary));
+        }
+        this.repeatedAncestors = new ArrayList<>(collapse.getRepeatedAncestors().size());
+        for (RepeatedAncestor ancestor : collapse.getRepeatedAncestors()) {
+            this.repeatedAncestors.add(new RepeatedAncestorResponse(ancestor));
+        }
+        this.truncated = truncated;
+    }
+
+    /**
+     * Returns the analysed profile.
+     * Importance: Echoes the request and identifies cohort members.
+     * Alternatives: Rely on list position.
+     *
+     * @return the profile identifier.
+     */
+    public String getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Returns the number of distinct ancestors.
+     * Importance: Sizes the known pedigree.
+     * Alternatives: Sum the per-generation counts.
+     *
+     * @return the ancestor count.
+     */
+    public int getAncestors() {
+        return ancestors;
+    }
+
+    /**
+     * Returns the number of ancestral lines across all generations.
+     * Importance: The denominator of the collapse factor.
+     * Alternatives: Return theoretical slot counts.
+     *
+     * @return the slot count.
+     */
+    public long getSlots() {
+        return slots;
+    }
+
+    /**
+     * Returns the share of all slots filled by a repeated ancestor.
+     * Importance: Gives one comparable number per profile.
+     * Alternatives: Return only per-generation factors.
+     *
+     * @return the collapse factor between 0 and 1.
+     */
+    public double getCollapseFactor() {
+        return collapseFactor;
+    }
+
+    /**
+     * Returns the per-generation summaries.
+     * Importance: Shows where collapse begins.
+     * Alternatives: Return only totals.
+     *
+     * @return the summaries, parents first.
+     */
+    public List<GenerationCollapseResponse> getGenerations() {
+        return generations;
+    }
+
+    /**
+     * Returns the ancestors reached through more than one line.
+     * Importance: Names the profiles behind the collapse.
+     * Alternatives: Return only counts.
+     *
+     * @return the repeated ancestors, most lines first.
+     */
+    public List<RepeatedAncestorResponse> getRepeatedAncestors() {
+        return repeatedAncestors;
+    }
+
+    /**
+     * Returns whether the profile limit cut the pedigree short.
+     * Importance: Warns that deeper collapse may be missing.
+     * Alternatives: Fail the request instead.
+     *
+     * @return true when truncated.
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -0,0 +1,170 @@
+package com.heritagegraph360.profile.api;
+
+import com.heritagegraph360.profile.config.PedigreeProperties;
+import com.heritagegraph360.profile.graph.LineageGraphIndex;
+import com.heritagegraph360.profile.pedigree.CohortAnalysis;
+import com.heritagegraph360.profile.pedigree.CommonAncestor;
+import com.heritagegraph360.profile.pedigree.PedigreeAnalyzer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Exposes pedigree-collapse and common-ancestor analytics.
+ * Importance: Serves genealogists' collapse and relatedness questions from the lineage index.
+ * Alternatives: Export relationship dumps for offline spreadsheets.
+ */
+@RestController
+@RequestMapping("/api/v1/profiles")
+public class PedigreeController {
+    private final PedigreeAnalyzer analyzer;
+    private final LineageGraphIndex lineageGraphIndex;
+    private final PedigreeProperties properties;
+
+    /**
+     * Creates the pedigree controller.
+     * Importance: Connects HTTP requests to the pedigree analyzer.
+     * Alternatives: Add the endpoints to LineageController.
+     *
+     * @param analyzer the pedigree analyzer.
+     * @param lineageGraphIndex the lineage index, checked for readiness.
+     * @param properties the pedigree properties.
+     */
+    public PedigreeController(PedigreeAnalyzer analyzer,
+                              LineageGraphIndex lineageGraphIndex,
+                              PedigreeProperties properties) {
+        this.analyzer = analyzer;
+        this.lineageGraphIndex = lineageGraphIndex;
+        this.properties = properties;
+    }
+
+    /**
+     * Returns pedigree collapse for a profile.
+     * Importance: Shows how often the same ancestors recur, generation by generation.
+     * Alternatives: Return the ancestor list and let clients count.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the profile identifier.
+     * @param generations the requested depth, capped by configuration.
+     * @return the collapse response, 400 for malformed ids, 404 when disabled, or 503 while the index warms up.
+     */
+    @GetMapping("/{profileId}/pedigree-collapse")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('REVIEWER')")
+    public ResponseEntity<PedigreeCollapseResponse> getCollapse(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @PathVariable String profileId,
+        @RequestParam(required = false) Integer generations) {
+        ResponseEntity<PedigreeCollapseResponse> unavailable = unavailable();
+        if (unavailable != null) {
+            return unavailable;
+        }
+        CohortAnalysis analysis;
+        try {
+            analysis = analyzer.analyze(tenantId, List.of(UUID.fromString(profileId)), generations);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        return ResponseEntity.ok(new PedigreeCollapseResponse(analysis.getMembers().get(0), analysis.isTruncated()));
+    }
+
+    /**
+     * Returns the most recent common ancestors of two profiles.
+     * Importance: Answers "who do we both descend from?" with each side's generation distance.
+     * Alternatives: Compare both ancestor lists client-side.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the first profile identifier.
+     * @param otherProfileId the second profile identifier.
+     * @param generations the requested depth, capped by configuration.
+     * @return the common ancestors, 400 for malformed or equal ids, 404 when disabled, or 503 while the index
+     *     warms up.
+     */
+    @GetMapping("/{profileId}/common-ancestors/{otherProfileId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('REVIEWER')")
+    public ResponseEntity<CommonAncestorsResponse> getCommonAncestors(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @PathVariable String profileId,
+        @PathVariable String otherProfileId,
+        @RequestParam(required = false) Integer generations) {
+        ResponseEntity<CommonAncestorsResponse> unavailable = unavailable();
+        if (unavailable != null) {
+            return unavailable;
+        }
+        CohortAnalysis analysis;
+        try {
+            analysis = analyzer.analyze(tenantId,
+                List.of(UUID.fromString(profileId), UUID.fromString(otherProfileId)), generations);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        List<CommonAncestorResponse> ancestors = new ArrayList<>(analysis.getCommonAncestors().size());
+        for (CommonAncestor ancestor : analysis.getCommonAncestors()) {
+            ancestors.add(new CommonAncestorResponse(ancestor));
+        }
+        return ResponseEntity.ok(new CommonAncestorsResponse(profileId, otherProfileId, analysis.getGenerations(),
+            ancestors, analysis.isTruncated()));
+    }
+
+    /**
+     * Analyses a cohort: collapse per member, ancestors shared by all, and every related pair.
+     * Importance: Replaces offline spreadsheet studies of family groups.
+     * Alternatives: Run the cohort as a background job.
+     *
+     * @param tenantId the tenant identifier.
+     * @param request the cohort request.
+     * @return the cohort response, 400 for malformed, duplicate, or too many ids, 404 when disabled, or 503 while
+     *     the index warms up.
+     */
+    @PostMapping("/pedigree:cohort")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('REVIEWER')")
+    public ResponseEntity<CohortAnalysisResponse> analyzeCohort(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @RequestBody CohortAnalysisRequest request) {
+        ResponseEntity<CohortAnalysisResponse> unavailable = unavailable();
+        if (unavailable != null) {
+            return unavailable;
+        }
+        try {
+            List<UUID> profileIds = new ArrayList<>();
+            for (String profileId : request.getProfileIds() == null ? List.<String>of() : request.getProfileIds()) {
+                if (profileId == null) {
+                    return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+                }
+                profileIds.add(UUID.fromString(profileId));
+            }
+            return ResponseEntity.ok(new CohortAnalysisResponse(
+                analyzer.analyze(tenantId, profileIds, request.getGenerations())));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * Returns the response to send when analytics cannot run.
+     * Importance: Keeps the disabled and warm-up checks identical across endpoints.
+     * Alternatives: Repeat the checks in each handler.
+     *
+     * @param <T> the response body type.
+     * @return 404 when disabled, 503 while the lineage index warms up, or null when analytics can run.
+     */
+    private <T> ResponseEntity<T> unavailable() {
+        if (!properties.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!lineageGraphIndex.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return null;
+    }
+}
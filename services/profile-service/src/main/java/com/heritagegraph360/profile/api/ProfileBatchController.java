@@ -0,0 +1,57 @@
+package com.heritagegraph360.profile.api;
+
+import com.heritagegraph360.profile.service.ProfileBatchService;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Handles bulk profile creation requests.
+ * Importance: Supports archive onboarding at batch throughput.
+ * Alternatives: Route bulk creation through the ingestion service.
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class ProfileBatchController {
+    private final ProfileBatchService batchService;
+
+    /**
+     * Creates a controller with batch dependencies.
+     * Importance: Connects HTTP requests to bulk creation.
+     * Alternatives: Add the endpoint to ProfileController.
+     *
+     * @param batchService the batch service.
+     */
+    public ProfileBatchController(ProfileBatchService batchService) {
+        this.batchService = batchService;
+    }
+
+    /**
+     * Creates a batch of profiles and reports each item's outcome.
+     * Importance: Lets one request create thousands of profiles.
+     * Alternatives: Accept an asynchronous import job.
+     *
+     * @param tenantId the tenant identifier.
+     * @param actorId the actor identifier.
+     * @param request the batch request.
+     * @return per-item results, or 400 when the batch itself is invalid.
+     */
+    @PostMapping("/profiles:batch")
+    public ResponseEntity<ProfileBatchCreateResponse> createProfiles(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @RequestHeader("x-actor-id") String actorId,
+        @RequestBody ProfileBatchCreateRequest request) {
+        try {
+            ProfileBatchCreateResponse response = batchService.createProfiles(tenantId, UUID.fromString(actorId),
+                request.getProfiles());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.heritagegraph360.profile.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a bulk profile creation request.
+ * Importance: Lets archive onboarding create many profiles per round trip.
+ * Alternatives: Submit profiles through the asynchronous ingestion pipeline.
+ */
+public class ProfileBatchCreateRequest {
+    private List<ProfileCreateRequest> profiles = new ArrayList<>();
+
+    /**
+     * Returns the profiles to create.
+     * Importance: Provides the batch items in submission order.
+     * Alternatives: Accept NDJSON lines.
+     *
+     * @return the profiles.
+     */
+    public List<ProfileCreateRequest> getProfiles() {
+        return profiles;
+    }
+
+    /**
+     * Updates the profiles to create.
+     * Importance: Supports JSON binding.
+     * Alternatives: Use constructor binding.
+     *
+     * @param profiles the profiles.
+     */
+    public void setProfiles(List<ProfileCreateRequest> profiles) {
+        this.profiles = profiles;
+    }
+}
@@ -0,0 +1,62 @@
+package com.heritagegraph360.profile.api;
+
+import java.util.List;
+
+/**
+ * Represents the result of a bulk profile creation.
+ * Importance: Summarizes the batch and reports every item's outcome.
+ * Alternatives: Return a job identifier and report results asynchronously.
+ */
+public class ProfileBatchCreateResponse {
+    private final int created;
+    private final int rejected;
+    private final List<ProfileBatchItemResult> results;
+
+    /**
+     * Creates a batch response.
+     * Importance: Standardizes bulk creation payloads.
+     * Alternatives: Return results only.
+     *
+     * @param created the number of created profiles.
+     * @param rejected the number of rejected items.
+     * @param results the per-item results in request order.
+     */
+    public ProfileBatchCreateResponse(int created, int rejected, List<ProfileBatchItemResult> results) {
+        this.created = created;
+        this.rejected = rejected;
+        this.results = results;
+    }
+
+    /**
+     * Returns the number of created profiles.
+     * Importance: Supports quick success checks.
+     * Alternatives: Count results client-side.
+     *
+     * @return the created count.
+     */
+    public int getCreated() {
+        return created;
+    }
+
+    /**
+     * Returns the number of rejected items.
+     * Importance: Signals that some items need attention.
+     * Alternatives: Count results client-side.
+     *
+     * @return the rejected count.
+     */
+    public int getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Returns the per-item results.
+     * Importance: Reports each item's outcome in request order.
+     * Alternatives: Return only failures.
+     *
+     * @return the results.
+     */
+    public List<ProfileBatchItemResult> getResults() {
+        return results;
+    }
+}
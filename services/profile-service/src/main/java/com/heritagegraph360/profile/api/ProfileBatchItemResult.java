@@ -0,0 +1,74 @@
+package com.heritagegraph360.profile.api;
+
+/**
+ * Represents the outcome of one item in a bulk profile creation.
+ * Importance: Lets clients retry or correct individual rejected items.
+ * Alternatives: Fail the whole batch on the first error.
+ */
+public class ProfileBatchItemResult {
+    private final int index;
+    private final String status;
+    private final String profileId;
+    private final String message;
+
+    /**
+     * Creates an item result.
+     * Importance: Standardizes per-item outcomes.
+     * Alternatives: Return only rejected items.
+     *
+     * @param index the item position in the request.
+     * @param status the item status.
+     * @param profileId the created profile identifier, or null when rejected.
+     * @param message the outcome message.
+     */
+    public ProfileBatchItemResult(int index, String status, String profileId, String message) {
+        this.index = index;
+        this.status = status;
+        this.profileId = profileId;
+        this.message = message;
+    }
+
+    /**
+     * Returns the item position in the request.
+     * Importance: Correlates results with submitted items.
+     * Alternatives: Echo a client-supplied reference.
+     *
+     * @return the index.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the item status.
+     * Importance: Distinguishes CREATED from REJECTED items.
+     * Alternatives: Use HTTP status codes per item.
+     *
+     * @return the status.
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the created profile identifier.
+     * Importance: Lets clients link source records to new profiles.
+     * Alternatives: Return identifiers in a separate map.
+     *
+     * @return the profile identifier, or null.
+     */
+    public String getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Returns the outcome message.
+     * Importance: Explains rejections.
+     * Alternatives: Return error codes only.
+     *
+     * @return the message.
+     */
+    public String getMessage() {
+        return message;
+    }
+}
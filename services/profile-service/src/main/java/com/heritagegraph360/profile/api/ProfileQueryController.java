@@ -1,6 +1,9 @@
 package com.heritagegraph360.profile.api;
 
 import com.heritagegraph360.profile.domain.ProfileEntity;
+import com.heritagegraph360.profile.grant.FieldGrantSet;
+import com.heritagegraph360.profile.grant.GrantFieldRegistry;
+import com.heritagegraph360.profile.merge.MergeClusterIndex;
 import com.heritagegraph360.profile.repo.ProfileRepository;
 import com.heritagegraph360.profile.service.ProfileGrantService;
 import java.util.UUID;
@@ -20,8 +23,11 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/api/v1/profiles")
 public class ProfileQueryController {
+    private static final int PRIMARY_EMAIL = GrantFieldRegistry.register("PRIMARY_EMAIL");
+    private static final int PRIMARY_PHONE = GrantFieldRegistry.register("PRIMARY_PHONE");
     private final ProfileRepository profileRepository;
     private final ProfileGrantService grantService;
+    private final MergeClusterIndex mergeClusterIndex;
 
     /**
      * Creates the profile query controller.
@@ -30,14 +36,17 @@ public class ProfileQueryController {
      *
      * @param profileRepository the profile repository.
      * @param grantService the grant service.
+     * @param mergeClusterIndex the merge cluster index.
      */
-    public ProfileQueryController(ProfileRepository profileRepository, ProfileGrantService grantService) {
+    public ProfileQueryController(ProfileRepository profileRepository, ProfileGrantService grantService,
+                                  MergeClusterIndex mergeClusterIndex) {
         this.profileRepository = profileRepository;
         this.grantService = grantService;
+        this.mergeClusterIndex = mergeClusterIndex;
     }
 
     /**
-     * Returns a profile view based on grants.
+     * Returns a profile view based on grants, resolved to the canonical profile of its merge cluster.
      * Importance: Enforces field-level visibility for private profiles.
      * Alternatives: Use a policy engine for field filtering.
      *
@@ -52,21 +61,48 @@ public class ProfileQueryController {
         @RequestHeader("x-tenant-id") String tenantId,
         @RequestHeader("x-actor-id") String actorId,
         @PathVariable String profileId) {
-        ProfileEntity profile = profileRepository.findById(UUID.fromString(profileId))
+        UUID requestedId = UUID.fromString(profileId);
+        UUID canonicalId = mergeClusterIndex.canonicalProfile(tenantId, requestedId);
+        ProfileEntity profile = profileRepository.findById(canonicalId)
             .orElseThrow(() -> new IllegalStateException("Profile not found"));
         if (!tenantId.equals(profile.getTenantId())) {
             throw new IllegalStateException("Profile not found");
         }
-        boolean canViewEmail = grantService.canViewField(tenantId, profile.getProfileId(),
-            UUID.fromString(actorId), "PRIMARY_EMAIL");
-        boolean canViewPhone = grantService.canViewField(tenantId, profile.getProfileId(),
-            UUID.fromString(actorId), "PRIMARY_PHONE");
+        FieldGrantSet grants = grantService.resolveGrants(tenantId, profile.getProfileId(), UUID.fromString(actorId));
         ProfileViewResponse response = new ProfileViewResponse();
         response.setProfileId(profile.getProfileId().toString());
         response.setDisplayName(profile.getDisplayName());
-        response.setPrimaryEmail(canViewEmail ? profile.getPrimaryEmail() : null);
-        response.setPrimaryPhone(canViewPhone ? profile.getPrimaryPhone() : null);
+        response.setPrimaryEmail(grants.canView(PRIMARY_EMAIL) ? profile.getPrimaryEmail() : null);
+        response.setPrimaryPhone(grants.canView(PRIMARY_PHONE) ? profile.getPrimaryPhone() : null);
         response.setVisibility(profile.getVisibility());
+        if (!canonicalId.equals(requestedId)) {
+            response.setMergedFromProfileId(requestedId.toString());
+        }
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Returns the canonical profile a profile resolves to through approved merges.
+     * Importance: Saves reviewers from chasing merge chains across duplicate clusters.
+     * Alternatives: List the tenant's merges and follow them client-side.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the profile identifier.
+     * @return the canonical profile response.
+     */
+    @GetMapping("/{profileId}/canonical")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('REVIEWER')")
+    public ResponseEntity<CanonicalProfileResponse> getCanonicalProfile(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @PathVariable String profileId) {
+        UUID requestedId;
+        try {
+            requestedId = UUID.fromString(profileId);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+        UUID canonicalId = mergeClusterIndex.canonicalProfile(tenantId, requestedId);
+        return ResponseEntity.ok(new CanonicalProfileResponse(requestedId.toString(), canonicalId.toString(),
+            mergeClusterIndex.clusterSize(tenantId, requestedId)));
+    }
 }
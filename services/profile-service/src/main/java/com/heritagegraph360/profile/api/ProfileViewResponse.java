@@ -11,6 +11,7 @@ public class ProfileViewResponse {
     private String primaryEmail;
     private String primaryPhone;
     private String visibility;
+    private String mergedFromProfileId;
 
     /**
      * Returns the profile identifier.
@@ -121,4 +122,26 @@ public class ProfileViewResponse {
     public void setVisibility(String visibility) {
         this.visibility = visibility;
     }
+
+    /**
+     * Returns the requested profile identifier when it was merged into this profile.
+     * Importance: Tells clients that the requested duplicate resolved to its canonical profile.
+     * Alternatives: Redirect clients to the canonical profile URL.
+     *
+     * @return the merged-away profile identifier, or null when the requested profile is canonical.
+     */
+    public String getMergedFromProfileId() {
+        return mergedFromProfileId;
+    }
+
+    /**
+     * Updates the merged-away profile identifier.
+     * Importance: Supports response construction.
+     * Alternatives: Use constructor-only immutable responses.
+     *
+     * @param mergedFromProfileId the merged-away profile identifier.
+     */
+    public void setMergedFromProfileId(String mergedFromProfileId) {
+        this.mergedFromProfileId = mergedFromProfileId;
+    }
 }
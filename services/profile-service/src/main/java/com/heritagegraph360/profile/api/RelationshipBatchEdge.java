@@ -0,0 +1,78 @@
+package com.heritagegraph360.profile.api;
+
+/**
+ * Represents one edge in a bulk relationship request.
+ * Importance: Names both profiles so one request can carry edges for many profiles.
+ * Alternatives: Group edges under their owning profile.
+ */
+public class RelationshipBatchEdge {
+    private String profileId;
+    private String relatedProfileId;
+    private String status;
+
+    /**
+     * Returns the profile that owns the relationship.
+     * Importance: Identifies the child side of the edge.
+     * Alternatives: Take the profile from the URL.
+     *
+     * @return the profile identifier.
+     */
+    public String getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Updates the profile identifier.
+     * Importance: Supports JSON binding.
+     * Alternatives: Use constructor binding.
+     *
+     * @param profileId the profile identifier.
+     */
+    public void setProfileId(String profileId) {
+        this.profileId = profileId;
+    }
+
+    /**
+     * Returns the related profile identifier.
+     * Importance: Identifies the parent side of the edge.
+     * Alternatives: Reference the related profile by import key.
+     *
+     * @return the related profile identifier.
+     */
+    public String getRelatedProfileId() {
+        return relatedProfileId;
+    }
+
+    /**
+     * Updates the related profile identifier.
+     * Importance: Supports JSON binding.
+     * Alternatives: Use constructor binding.
+     *
+     * @param relatedProfileId the related profile identifier.
+     */
+    public void setRelatedProfileId(String relatedProfileId) {
+        this.relatedProfileId = relatedProfileId;
+    }
+
+    /**
+     * Returns the relationship status.
+     * Importance: Carries the status the edge should end up with.
+     * Alternatives: Default the status server-side.
+     *
+     * @return the status.
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Updates the relationship status.
+     * Importance: Supports JSON binding.
+     * Alternatives: Use constructor binding.
+     *
+     * @param status the status.
+     */
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
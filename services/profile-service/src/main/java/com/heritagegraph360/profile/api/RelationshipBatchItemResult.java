@@ -0,0 +1,60 @@
+package com.heritagegraph360.profile.api;
+
+/**
+ * Represents the outcome of one edge in a bulk relationship upsert.
+ * Importance: Lets importers see which edges were new, changed, repeated, or rejected.
+ * Alternatives: Fail the whole batch on the first error.
+ */
+public class RelationshipBatchItemResult {
+    private final int index;
+    private final String outcome;
+    private final String message;
+
+    /**
+     * Creates an item result.
+     * Importance: Standardizes per-edge outcomes.
+     * Alternatives: Return only rejected edges.
+     *
+     * @param index the edge position in the request.
+     * @param outcome the edge outcome.
+     * @param message the outcome message, or null when the edge was applied.
+     */
+    public RelationshipBatchItemResult(int index, String outcome, String message) {
+        this.index = index;
+        this.outcome = outcome;
+        this.message = message;
+    }
+
+    /**
+     * Returns the edge position in the request.
+     * Importance: Correlates results with submitted edges.
+     * Alternatives: Echo a client-supplied reference.
+     *
+     * @return the index.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the edge outcome.
+     * Importance: Distinguishes CREATED, UPDATED, UNCHANGED, and REJECTED edges.
+     * Alternatives: Use HTTP status codes per item.
+     *
+     * @return the outcome.
+     */
+    public String getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Returns the outcome message.
+     * Importance: Explains rejections.
+     * Alternatives: Return error codes only.
+     *
+     * @return the message, or null.
+     */
+    public String getMessage() {
+        return message;
+    }
+}
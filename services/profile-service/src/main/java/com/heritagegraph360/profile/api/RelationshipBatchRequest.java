@@ -0,0 +1,35 @@
+package com.heritagegraph360.profile.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a bulk relationship upsert request.
+ * Importance: Lets GEDCOM-scale imports send thousands of edges per round trip.
+ * Alternatives: Submit edges through the asynchronous ingestion pipeline.
+ */
+public class RelationshipBatchRequest {
+    private List<RelationshipBatchEdge> edges = new ArrayList<>();
+
+    /**
+     * Returns the edges to upsert.
+     * Importance: Provides the batch items in submission order.
+     * Alternatives: Accept NDJSON lines.
+     *
+     * @return the edges.
+     */
+    public List<RelationshipBatchEdge> getEdges() {
+        return edges;
+    }
+
+    /**
+     * Updates the edges to upsert.
+     * Importance: Supports JSON binding.
+     * Alternatives: Use constructor binding.
+     *
+     * @param edges the edges.
+     */
+    public void setEdges(List<RelationshipBatchEdge> edges) {
+        this.edges = edges;
+    }
+}
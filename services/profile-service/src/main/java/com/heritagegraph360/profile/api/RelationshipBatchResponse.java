@@ -0,0 +1,91 @@
+package com.heritagegraph360.profile.api;
+
+import java.util.List;
+
+/**
+ * Represents the result of a bulk relationship upsert.
+ * Importance: Summarizes how many edges changed and reports each edge's outcome.
+ * Alternatives: Return only the rejected edges.
+ */
+public class RelationshipBatchResponse {
+    private final int created;
+    private final int updated;
+    private final int unchanged;
+    private final int rejected;
+    private final List<RelationshipBatchItemResult> results;
+
+    /**
+     * Creates a batch response.
+     * Importance: Standardizes bulk relationship responses.
+     * Alternatives: Use a generic response wrapper.
+     *
+     * @param created the number of new edges.
+     * @param updated the number of edges whose status changed.
+     * @param unchanged the number of edges already stored with the same status.
+     * @param rejected the number of rejected edges.
+     * @param results the per-edge results in request order.
+     */
+    public RelationshipBatchResponse(int created, int updated, int unchanged, int rejected,
+                                     List<RelationshipBatchItemResult> results) {
+        this.created = created;
+        this.updated = updated;
+        this.unchanged = unchanged;
+        this.rejected = rejected;
+        this.results = results;
+    }
+
+    /**
+     * Returns the number of new edges.
+     * Importance: Shows how much of an import was new.
+     * Alternatives: Count results client-side.
+     *
+     * @return the created count.
+     */
+    public int getCreated() {
+        return created;
+    }
+
+    /**
+     * Returns the number of edges whose status changed.
+     * Importance: Shows how much of an import corrected existing edges.
+     * Alternatives: Count results client-side.
+     *
+     * @return the updated count.
+     */
+    public int getUpdated() {
+        return updated;
+    }
+
+    /**
+     * Returns the number of edges already stored with the same status.
+     * Importance: Confirms that re-running an import is a no-op.
+     * Alternatives: Count results client-side.
+     *
+     * @return the unchanged count.
+     */
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    /**
+     * Returns the number of rejected edges.
+     * Importance: Signals whether the import needs follow-up.
+     * Alternatives: Count results client-side.
+     *
+     * @return the rejected count.
+     */
+    public int getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Returns the per-edge results.
+     * Importance: Lets clients correct individual rejected edges.
+     * Alternatives: Return results in a map keyed by index.
+     *
+     * @return the results.
+     */
+    public List<RelationshipBatchItemResult> getResults() {
+        return results;
+    }
+}
@@ -1,6 +1,7 @@
 package com.heritagegraph360.profile.api;
 
 import com.heritagegraph360.profile.service.ProfileWorkflowService;
+import com.heritagegraph360.profile.service.RelationshipBatchService;
 import java.util.UUID;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +21,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1/profiles")
 public class RelationshipController {
     private final ProfileWorkflowService workflowService;
+    private final RelationshipBatchService batchService;
 
     /**
      * Creates a controller with workflow dependencies.
@@ -27,9 +29,11 @@ public class RelationshipController {
      * Alternatives: Use a separate handler layer for routing.
      *
      * @param workflowService the workflow service.
+     * @param batchService the relationship batch service.
      */
-    public RelationshipController(ProfileWorkflowService workflowService) {
+    public RelationshipController(ProfileWorkflowService workflowService, RelationshipBatchService batchService) {
         this.workflowService = workflowService;
+        this.batchService = batchService;
     }
 
     /**
@@ -60,4 +64,28 @@ public class RelationshipController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
     }
+
+    /**
+     * Creates or updates a batch of relationships and reports each edge's outcome.
+     * Importance: Lets GEDCOM-scale imports apply thousands of edges per request idempotently.
+     * Alternatives: Accept an asynchronous import job.
+     *
+     * @param tenantId the tenant identifier.
+     * @param actorId the actor identifier.
+     * @param request the batch request.
+     * @return per-edge results, or 400 when the batch itself is invalid.
+     */
+    @PostMapping("/relationships:batch")
+    public ResponseEntity<RelationshipBatchResponse> upsertRelationships(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @RequestHeader("x-actor-id") String actorId,
+        @RequestBody RelationshipBatchRequest request) {
+        try {
+            RelationshipBatchResponse response = batchService.upsertRelationships(tenantId,
+                UUID.fromString(actorId), request.getEdges());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
 }
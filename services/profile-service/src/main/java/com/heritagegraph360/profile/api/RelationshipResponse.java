@@ -9,6 +9,7 @@ public class RelationshipResponse {
     private final String profileId;
     private final String relatedProfileId;
     private final String status;
+    private final String outcome;
 
     /**
      * Creates a relationship response.
@@ -18,11 +19,13 @@ public class RelationshipResponse {
      * @param profileId the profile identifier.
      * @param relatedProfileId the related profile identifier.
      * @param status the relationship status.
+     * @param outcome what the upsert did to the stored edge.
      */
-    public RelationshipResponse(String profileId, String relatedProfileId, String status) {
+    public RelationshipResponse(String profileId, String relatedProfileId, String status, String outcome) {
         this.profileId = profileId;
         this.relatedProfileId = relatedProfileId;
         this.status = status;
+        this.outcome = outcome;
     }
 
     /**
@@ -57,4 +60,15 @@ public class RelationshipResponse {
     public String getStatus() {
         return status;
     }
+
+    /**
+     * Returns what the upsert did to the stored edge.
+     * Importance: Tells importers whether a repeated edge was CREATED, UPDATED, or UNCHANGED.
+     * Alternatives: Use 201 versus 200 status codes.
+     *
+     * @return the upsert outcome.
+     */
+    public String getOutcome() {
+        return outcome;
+    }
 }
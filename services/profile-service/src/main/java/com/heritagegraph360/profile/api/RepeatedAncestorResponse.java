@@ -0,0 +1,60 @@
+package com.heritagegraph360.profile.api;
+
+import com.heritagegraph360.profile.pedigree.RepeatedAncestor;
+
+/**
+ * Represents an ancestor reached through more than one line.
+ * Importance: Names the profiles behind pedigree collapse.
+ * Alternatives: Return only counts.
+ */
+public class RepeatedAncestorResponse {
+    private final String profileId;
+    private final int nearestGeneration;
+    private final long lines;
+
+    /**
+     * Creates a response from a repeated ancestor.
+     * Importance: Renders identifiers as strings like other lineage responses.
+     * Alternatives: Serialize UUIDs directly.
+     *
+     * @param ancestor the repeated ancestor.
+     */
+    public RepeatedAncestorResponse(RepeatedAncestor ancestor) {
+        this.profileId = ancestor.getProfileId().toString();
+        this.nearestGeneration = ancestor.getNearestGeneration();
+        this.lines = ancestor.getLines();
+    }
+
+    /**
+     * Returns the ancestor.
+     * Importance: Identifies the collapsed profile.
+     * Alternatives: Embed the full profile.
+     *
+     * @return the profile identifier.
+     */
+    public String getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Returns the closest generation the ancestor appears at.
+     * Importance: Near collapse is the most interesting to review.
+     * Alternatives: Return every generation.
+     *
+     * @return the generation, 1 for parents.
+     */
+    public int getNearestGeneration() {
+        return nearestGeneration;
+    }
+
+    /**
+     * Returns the number of lines reaching the ancestor.
+     * Importance: Ranks ancestors by how much of the pedigree they fill.
+     * Alternatives: Return a flag.
+     *
+     * @return the line count.
+     */
+    public long getLines() {
+        return lines;
+    }
+}
@@ -0,0 +1,35 @@
+package com.heritagegraph360.profile.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a bulk sensitive field storage request.
+ * Importance: Lets clients store all sensitive fields of a profile in one round trip.
+ * Alternatives: Call the single-field endpoint per field.
+ */
+public class SensitiveFieldBatchRequest {
+    private List<SensitiveFieldRequest> fields = new ArrayList<>();
+
+    /**
+     * Returns the fields to store.
+     * Importance: Provides the batch items in submission order.
+     * Alternatives: Accept a map of field type to value.
+     *
+     * @return the fields.
+     */
+    public List<SensitiveFieldRequest> getFields() {
+        return fields;
+    }
+
+    /**
+     * Updates the fields to store.
+     * Importance: Supports JSON binding.
+     * Alternatives: Use constructor binding.
+     *
+     * @param fields the fields.
+     */
+    public void setFields(List<SensitiveFieldRequest> fields) {
+        this.fields = fields;
+    }
+}
@@ -1,6 +1,7 @@
 package com.heritagegraph360.profile.api;
 
 import com.heritagegraph360.profile.service.SensitiveFieldService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -57,4 +58,31 @@ public class SensitiveFieldController {
             request.getPlainValue());
         return ResponseEntity.ok(new SensitiveFieldResponse("STORED"));
     }
+
+    /**
+     * Stores several encrypted sensitive fields for a profile.
+     * Importance: Encrypts the batch under one key lookup and persists it with bulk writes.
+     * Alternatives: Call the single-field endpoint per field.
+     *
+     * @param tenantId the tenant identifier.
+     * @param actorId the actor identifier.
+     * @param profileId the profile identifier.
+     * @param request the batch request.
+     * @return the response, or 400 when the batch is empty or too large.
+     */
+    @PostMapping("/{profileId}/sensitive-fields:batch")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('REVIEWER')")
+    public ResponseEntity<SensitiveFieldResponse> storeSensitiveFields(
+        @RequestHeader("x-tenant-id") String tenantId,
+        @RequestHeader("x-actor-id") String actorId,
+        @PathVariable String profileId,
+        @RequestBody SensitiveFieldBatchRequest request) {
+        try {
+            sensitiveFieldService.storeSensitiveFields(tenantId, UUID.fromString(actorId), profileId,
+                request.getFields());
+            return ResponseEntity.ok(new SensitiveFieldResponse("STORED"));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
 }
@@ -0,0 +1,87 @@
+package com.heritagegraph360.profile.audit;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Identifies a position in an audit trail by creation time and audit identifier.
+ * Importance: Lets clients resume a trail with an index seek instead of an OFFSET scan.
+ * Alternatives: Use page numbers with OFFSET.
+ */
+public final class AuditCursor {
+    private static final char SEPARATOR = '|';
+
+    private final Instant createdAt;
+    private final UUID auditId;
+
+    /**
+     * Creates a cursor.
+     * Importance: Captures the keyset of the last returned entry.
+     * Alternatives: Encode the row number.
+     *
+     * @param createdAt the entry creation time.
+     * @param auditId the entry audit identifier.
+     */
+    public AuditCursor(Instant createdAt, UUID auditId) {
+        this.createdAt = createdAt;
+        this.auditId = auditId;
+    }
+
+    /**
+     * Parses an opaque cursor token.
+     * Importance: Rejects tampered or malformed tokens as client errors.
+     * Alternatives: Accept raw timestamps and identifiers as query parameters.
+     *
+     * @param token the cursor token.
+     * @return the cursor.
+     */
+    public static AuditCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int split = raw.indexOf(SEPARATOR);
+            if (split < 0) {
+                throw new IllegalArgumentException("Malformed audit cursor");
+            }
+            return new AuditCursor(Instant.parse(raw.substring(0, split)), UUID.fromString(raw.substring(split + 1)));
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Malformed audit cursor", ex);
+        }
+    }
+
+    /**
+     * Encodes the cursor as an opaque URL-safe token.
+     * Importance: Keeps the cursor format free to change without breaking clients.
+     * Alternatives: Return the keyset fields directly.
+     *
+     * @return the cursor token.
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + auditId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the creation time.
+     * Importance: First keyset column.
+     * Alternatives: Store epoch microseconds.
+     *
+     * @return the creation time.
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Returns the audit identifier.
+     * Importance: Breaks ties between entries created in the same microsecond.
+     * Alternatives: Use a sequence column.
+     *
+     * @return the audit identifier.
+     */
+    public UUID getAuditId() {
+        return auditId;
+    }
+}
@@ -0,0 +1,17 @@
+package com.heritagegraph360.profile.audit;
+
+/**
+ * Defines when an audit write is acknowledged to the caller.
+ * Importance: Lets deployments trade audit durability against request latency.
+ * Alternatives: Always block until the audit row is committed.
+ */
+public enum AuditDurability {
+    /**
+     * Blocks the caller until the entry's batch has been committed.
+     */
+    SYNC,
+    /**
+     * Returns to the caller as soon as the entry is enqueued.
+     */
+    ASYNC
+}
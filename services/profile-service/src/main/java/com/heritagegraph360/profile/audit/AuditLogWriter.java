@@ -0,0 +1,430 @@
+package com.heritagegraph360.profile.audit;
+
+import com.heritagegraph360.profile.config.AuditWriterProperties;
+import com.heritagegraph360.profile.domain.AuditLogEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Buffers audit entries and writes them with multi-row inserts from a single flusher thread.
+ * Importance: Takes per-entry audit inserts off the request path while keeping every entry.
+ * Alternatives: Save each AuditLogEntity through the JPA repository.
+ */
+@Component
+public class AuditLogWriter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuditLogWriter.class);
+    private static final String INSERT_PREFIX =
+        "INSERT INTO audit_logs (audit_id, tenant_id, actor_id, action, entity_id, details, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final long BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditWriterProperties properties;
+    private final AuditRingBuffer<PendingAudit> buffer;
+    private final int rowsPerStatement;
+    private final String fullStatement;
+    private final DistributionSummary flushSize;
+    private final Timer flushLatency;
+    private final Counter flushFailures;
+    private final Counter overflowWrites;
+    private volatile Thread flusher;
+    private volatile boolean running;
+
+    /**
+     * Creates the audit writer.
+     * Importance: Connects the buffer to relational storage and the metrics registry.
+     * Alternatives: Build the writer manually in a configuration class.
+     *
+     * @param jdbcTemplate the JDBC template.
+     * @param transactionManager the transaction manager used for flush transactions.
+     * @param properties the writer properties.
+     * @param meterRegistry the metrics registry.
+     */
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          AuditWriterProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.buffer = new AuditRingBuffer<>(properties.getBufferCapacity());
+        this.rowsPerStatement = Math.max(1, properties.getMaxRowsPerStatement());
+        this.fullStatement = statementFor(rowsPerStatement);
+        Gauge.builder("audit.writer.queue.depth", buffer, AuditRingBuffer::size)
+            .description("Audit entries waiting to be flushed")
+            .register(meterRegistry);
+        this.flushSize = DistributionSummary.builder("audit.writer.flush.size")
+            .description("Audit entries written per flush")
+            .register(meterRegistry);
+        this.flushLatency = Timer.builder("audit.writer.flush.latency")
+            .description("Time spent writing one audit flush")
+            .register(meterRegistry);
+        this.flushFailures = Counter.builder("audit.writer.flush.failures")
+            .description("Audit flushes that fell back to row-by-row inserts")
+            .register(meterRegistry);
+        this.overflowWrites = Counter.builder("audit.writer.overflow.writes")
+            .description("Audit entries inserted directly because the buffer stayed full")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Starts the flusher thread.
+     * Importance: Begins draining the buffer once the bean is ready.
+     * Alternatives: Drain the buffer from a scheduled task.
+     */
+    @PostConstruct
+    public void start() {
+        if (!properties.isBatchingEnabled() || running) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::runFlusher, "audit-log-flusher");
+        thread.setDaemon(true);
+        flusher = thread;
+        thread.start();
+    }
+
+    /**
+     * Stops the flusher thread after writing every buffered entry.
+     * Importance: Prevents audit loss on graceful shutdown.
+     * Alternatives: Drop unflushed entries on shutdown.
+     */
+    @PreDestroy
+    public void stop() {
+        Thread thread = flusher;
+        running = false;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(properties.getSyncTimeoutMs());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingAudit> remaining = new ArrayList<>();
+        buffer.drainTo(remaining, Integer.MAX_VALUE);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+        flusher = null;
+    }
+
+    /**
+     * Records an audit entry, deferring it until the surrounding transaction commits.
+     * Importance: Keeps audit rows from describing changes that were rolled back.
+     * Alternatives: Write the audit row inside the business transaction.
+     *
+     * @param tenantId the tenant identifier.
+     * @param actorId the actor identifier.
+     * @param action the action performed.
+     * @param entityId the entity identifier.
+     * @param details the audit details.
+     */
+    public void record(String tenantId, UUID actorId, String action, UUID entityId, String details) {
+        AuditLogEntity entry = new AuditLogEntity();
+        entry.setAuditId(UUID.randomUUID());
+        entry.setTenantId(tenantId);
+        entry.setActorId(actorId);
+        entry.setAction(action);
+        entry.setEntityId(entityId);
+        entry.setDetails(details);
+        entry.setCreatedAt(Instant.now());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(entry);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(entry);
+            }
+        });
+    }
+
+    /**
+     * Writes entries immediately on the caller's connection with multi-row inserts.
+     * Importance: Lets bulk workflows commit their audit rows atomically with the batch they describe.
+     * Alternatives: Record each entry through the buffer.
+     *
+     * @param entries the audit entries.
+     */
+    public void recordBulk(List<AuditLogEntity> entries) {
+        insertRows(entries);
+    }
+
+    /**
+     * Hands an entry to the flusher according to the durability mode.
+     * Importance: SYNC waits for the entry's batch to commit; ASYNC returns after the enqueue.
+     * Alternatives: Always wait for the flush.
+     *
+     * @param entry the audit entry.
+     */
+    void submit(AuditLogEntity entry) {
+        if (!running) {
+            insertRows(List.of(entry));
+            return;
+        }
+        boolean sync = properties.getDurability() == AuditDurability.SYNC;
+        PendingAudit pending = new PendingAudit(entry, sync ? new CompletableFuture<>() : null);
+        if (!enqueue(pending)) {
+            overflowWrites.increment();
+            insertRows(List.of(entry));
+            return;
+        }
+        if (sync) {
+            LockSupport.unpark(flusher);
+            await(pending.flushed);
+        } else if (buffer.size() >= properties.getFlushSize()) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    /**
+     * Returns the number of buffered entries.
+     * Importance: Exposes queue depth to health checks and tests.
+     * Alternatives: Read the gauge from the meter registry.
+     *
+     * @return the buffered entry count.
+     */
+    public int pendingCount() {
+        return buffer.size();
+    }
+
+    /**
+     * Adds an entry to the buffer, waiting briefly for space when it is full.
+     * Importance: Applies back-pressure to producers instead of dropping entries.
+     * Alternatives: Fail the request when the buffer is full.
+     *
+     * @param pending the pending entry.
+     * @return false when no space became available within the enqueue timeout.
+     */
+    private boolean enqueue(PendingAudit pending) {
+        if (buffer.offer(pending)) {
+            return true;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getEnqueueTimeoutMs());
+        do {
+            LockSupport.unpark(flusher);
+            LockSupport.parkNanos(this, BACKOFF_NANOS);
+            if (buffer.offer(pending)) {
+                return true;
+            }
+        } while (System.nanoTime() < deadline);
+        return false;
+    }
+
+    /**
+     * Waits for a SYNC entry's batch to be written.
+     * Importance: Surfaces audit write failures as data access errors, as the repository save did.
+     * Alternatives: Log failures and let the request succeed.
+     *
+     * @param flushed the completion signal of the entry.
+     */
+    private void await(CompletableFuture<Void> flushed) {
+        try {
+            flushed.get(properties.getSyncTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessResourceFailureException("Interrupted while waiting for audit flush", ex);
+        } catch (TimeoutException ex) {
+            throw new QueryTimeoutException("Audit flush did not complete within "
+                + properties.getSyncTimeoutMs() + " ms", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new DataAccessResourceFailureException("Audit flush failed", ex.getCause());
+        }
+    }
+
+    /**
+     * Drains the buffer and flushes on size, time, or a waiting SYNC caller.
+     * Importance: Groups concurrent entries into one transaction without delaying SYNC callers once the buffer is empty.
+     * Alternatives: Flush on a fixed schedule only.
+     */
+    private void runFlusher() {
+        int limit = Math.max(1, properties.getFlushSize());
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, properties.getFlushIntervalMs()));
+        List<PendingAudit> batch = new ArrayList<>(limit);
+        long deadline = 0;
+        boolean waiter = false;
+        while (true) {
+            int before = batch.size();
+            int moved = buffer.drainTo(batch, limit - before);
+            if (before == 0 && moved > 0) {
+                deadline = System.nanoTime() + intervalNanos;
+            }
+            for (int i = before; i < batch.size() && !waiter; i++) {
+                waiter = batch.get(i).flushed != null;
+            }
+            if (batch.isEmpty()) {
+                if (!running) {
+                    return;
+                }
+                LockSupport.parkNanos(this, intervalNanos);
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (waiter || batch.size() >= limit || remaining <= 0 || !running) {
+                flush(batch);
+                batch.clear();
+                waiter = false;
+            } else {
+                LockSupport.parkNanos(this, remaining);
+            }
+        }
+    }
+
+    /**
+     * Writes one batch in a single transaction, isolating bad rows when it fails.
+     * Importance: One commit per batch replaces one commit per entry.
+     * Alternatives: Fail the whole batch on any error.
+     *
+     * @param batch the pending entries.
+     */
+    private void flush(List<PendingAudit> batch) {
+        long started = System.nanoTime();
+        List<AuditLogEntity> rows = new ArrayList<>(batch.size());
+        for (PendingAudit pending : batch) {
+            rows.add(pending.entry);
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertRows(rows));
+            for (PendingAudit pending : batch) {
+                pending.complete(null);
+            }
+        } catch (RuntimeException ex) {
+            flushFailures.increment();
+            LOGGER.warn("Audit flush of {} entries failed; retrying row by row", batch.size(), ex);
+            for (PendingAudit pending : batch) {
+                try {
+                    insertRows(List.of(pending.entry));
+                    pending.complete(null);
+                } catch (RuntimeException rowFailure) {
+                    AuditLogEntity entry = pending.entry;
+                    LOGGER.error("Audit entry {} ({} {} on {} for tenant {}) could not be written",
+                        entry.getAuditId(), entry.getAction(), entry.getActorId(), entry.getEntityId(),
+                        entry.getTenantId(), rowFailure);
+                    pending.complete(rowFailure);
+                }
+            }
+        } finally {
+            flushSize.record(batch.size());
+            flushLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Inserts rows with multi-row INSERT statements.
+     * Importance: Sends up to the configured number of rows per round trip.
+     * Alternatives: Use JDBC batching with one single-row statement per entry.
+     *
+     * @param rows the rows to insert.
+     */
+    void insertRows(List<AuditLogEntity> rows) {
+        for (int from = 0; from < rows.size(); from += rowsPerStatement) {
+            List<AuditLogEntity> chunk = rows.subList(from, Math.min(rows.size(), from + rowsPerStatement));
+            String sql = chunk.size() == rowsPerStatement ? fullStatement : statementFor(chunk.size());
+            jdbcTemplate.update(sql, ps -> {
+                int index = 1;
+                for (AuditLogEntity row : chunk) {
+                    ps.setObject(index++, row.getAuditId());
+                    ps.setString(index++, row.getTenantId());
+                    ps.setObject(index++, row.getActorId());
+                    ps.setString(index++, row.getAction());
+                    ps.setObject(index++, row.getEntityId());
+                    ps.setString(index++, row.getDetails());
+                    ps.setTimestamp(index++, Timestamp.from(row.getCreatedAt()));
+                }
+            });
+        }
+    }
+
+    /**
+     * Builds a multi-row INSERT statement.
+     * Importance: Produces one VALUES tuple per row.
+     * Alternatives: Use a database-specific bulk load command.
+     *
+     * @param rows the number of rows.
+     * @return the SQL statement.
+     */
+    private static String statementFor(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDERS.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDERS);
+        }
+        return sql.toString();
+    }
+
+    /**
+     * Pairs a buffered entry with the signal its SYNC caller waits on.
+     * Importance: Lets one flush release every waiting request in the batch.
+     * Alternatives: Use a CountDownLatch per batch.
+     */
+    private static final class PendingAudit {
+        private final AuditLogEntity entry;
+        private final CompletableFuture<Void> flushed;
+
+        /**
+         * Creates a pending entry.
+         * Importance: Captures the entry and its optional completion signal.
+         * Alternatives: Store futures in a side map keyed by audit id.
+         *
+         * @param entry the audit entry.
+         * @param flushed the completion signal, or null for ASYNC entries.
+         */
+        private PendingAudit(AuditLogEntity entry, CompletableFuture<Void> flushed) {
+            this.entry = entry;
+            this.flushed = flushed;
+        }
+
+        /**
+         * Signals the outcome to a waiting caller.
+         * Importance: Releases SYNC callers once their row is written or has failed.
+         * Alternatives: Poll the table for the audit id.
+         *
+         * @param failure the failure, or null on success.
+         */
+        private void complete(RuntimeException failure) {
+            if (flushed == null) {
+                return;
+            }
+            if (failure == null) {
+                flushed.complete(null);
+            } else {
+                flushed.completeExceptionally(failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.heritagegraph360.profile.audit;
+
+import com.heritagegraph360.profile.config.AuditArchiveProperties;
+import com.heritagegraph360.profile.domain.AuditLogEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Creates monthly audit partitions ahead of time and, when archiving is enabled, compacts closed ones into cold
+ * segments.
+ * Importance: Keeps the hot audit table bounded while history moves to compressed files.
+ * Alternatives: Use pg_partman with an external archiving job.
+ */
+@Component
+public class AuditPartitionMaintainer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuditPartitionMaintainer.class);
+    private static final long LOCK_KEY = 0x4847333641554454L;
+    private static final Pattern PARTITION = Pattern.compile("audit_logs_p(\\d{4})(\\d{2})");
+    private static final String DEFAULT_MONTHS =
+        "SELECT DISTINCT date_trunc('month', created_at) FROM audit_logs_default ORDER BY 1";
+    private static final String COLUMNS = "audit_id, tenant_id, actor_id, action, entity_id, details, created_at";
+    private static final String LIST_PARTITIONS =
+        "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+            + "WHERE i.inhparent = 'audit_logs'::regclass ORDER BY c.relname";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AuditSegmentStore segmentStore;
+    private final AuditArchiveProperties properties;
+    private final Counter compactedRows;
+    private final Counter droppedPartitions;
+    private final Counter movedRows;
+
+    /**
+     * Creates the partition maintainer.
+     * Importance: Connects partition management to the database and the segment store.
+     * Alternatives: Manage partitions from migration scripts.
+     *
+     * @param jdbcTemplate the JDBC template.
+     * @param transactionManager the transaction manager.
+     * @param segmentStore the cold segment store.
+     * @param properties the archive properties.
+     * @param meterRegistry the metrics registry.
+     */
+    public AuditPartitionMaintainer(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    AuditSegmentStore segmentStore,
+                                    AuditArchiveProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.segmentStore = segmentStore;
+        this.properties = properties;
+        this.compactedRows = Counter.builder("audit.archive.compacted.rows")
+            .description("Audit rows written to cold segments")
+            .register(meterRegistry);
+        this.droppedPartitions = Counter.builder("audit.archive.dropped.partitions")
+            .description("Audit partitions dropped after compaction")
+            .register(meterRegistry);
+        this.movedRows = Counter.builder("audit.partition.moved.rows")
+            .description("Audit rows moved out of the default partition into monthly partitions")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Runs partition maintenance on one replica at a time, starting at application startup.
+     * Importance: A session advisory lock keeps replicas from compacting the same partition concurrently.
+     * Partitions are managed whether or not archiving is enabled, so rows never pile up in the default partition.
+     * Alternatives: Run maintenance on a dedicated instance.
+     */
+    @Scheduled(fixedDelayString = "${app.audit-archive.interval-ms:3600000}")
+    public void maintain() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!lock(connection, "SELECT pg_try_advisory_lock(?)")) {
+                LOGGER.debug("Audit partition maintenance is running on another replica");
+                return null;
+            }
+            try {
+                maintain(YearMonth.now());
+            } finally {
+                lock(connection, "SELECT pg_advisory_unlock(?)");
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Splits the default partition, ensures upcoming partitions exist, and, when archiving is enabled, archives
+     * partitions older than the hot window.
+     * Importance: Processes partitions oldest first so cold history stays contiguous.
+     * Alternatives: Archive only the oldest partition per run.
+     *
+     * @param current the current month.
+     */
+    void maintain(YearMonth current) {
+        splitDefaultPartition();
+        ensurePartitions(current);
+        if (!properties.isEnabled()) {
+            return;
+        }
+        segmentStore.rescan();
+        YearMonth coldBefore = current.minusMonths(properties.getHotMonths());
+        List<String> partitions = jdbcTemplate.queryForList(LIST_PARTITIONS, String.class);
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (!month.isBefore(coldBefore)) {
+                continue;
+            }
+            try {
+                archive(partition, month);
+            } catch (IOException | RuntimeException ex) {
+                LOGGER.error("Failed to archive audit partition {}; it stays in PostgreSQL", partition, ex);
+            }
+        }
+    }
+
+    /**
+     * Moves rows that landed in the default partition into monthly partitions, one month per transaction.
+     * Importance: A monthly partition cannot be created while the default partition holds rows for its range,
+     * and only monthly partitions are archived.
+     * Alternatives: Ask operators to move rows by hand.
+     */
+    private void splitDefaultPartition() {
+        List<Timestamp> months = jdbcTemplate.queryForList(DEFAULT_MONTHS, Timestamp.class);
+        for (Timestamp start : months) {
+            YearMonth month = YearMonth.from(start.toLocalDateTime());
+            try {
+                Integer moved = transactionTemplate.execute(status -> moveOutOfDefault(month));
+                movedRows.increment(moved == null ? 0 : moved);
+                LOGGER.info("Moved {} audit rows from the default partition into {}", moved, partitionName(month));
+            } catch (DataAccessException ex) {
+                LOGGER.error("Failed to move {} audit rows out of the default partition", month, ex);
+            }
+        }
+    }
+
+    /**
+     * Detaches the default partition, creates the month's partition, moves the month's rows, and reattaches.
+     * Importance: Detaching locks audit_logs until commit, so concurrent audit inserts wait instead of failing
+     * for months that have no partition while the default is detached.
+     * Alternatives: Split the default partition with a trigger-based copy.
+     *
+     * @param month the month to move.
+     * @return the number of rows moved.
+     */
+    private int moveOutOfDefault(YearMonth month) {
+        Timestamp lower = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp upper = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+        jdbcTemplate.execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_default");
+        jdbcTemplate.execute(createPartitionSql(month));
+        int moved = jdbcTemplate.update("INSERT INTO audit_logs (" + COLUMNS + ") SELECT " + COLUMNS
+            + " FROM audit_logs_default WHERE created_at >= ? AND created_at < ?", lower, upper);
+        jdbcTemplate.update("DELETE FROM audit_logs_default WHERE created_at >= ? AND created_at < ?", lower, upper);
+        jdbcTemplate.execute("ALTER TABLE audit_logs ATTACH PARTITION audit_logs_default DEFAULT");
+        return moved;
+    }
+
+    /**
+     * Creates the current and upcoming monthly partitions.
+     * Importance: Keeps inserts out of the default partition.
+     * Alternatives: Create partitions from a migration per month.
+     *
+     * @param current the current month.
+     */
+    private void ensurePartitions(YearMonth current) {
+        for (int offset = 0; offset <= properties.getPrecreateMonths(); offset++) {
+            YearMonth month = current.plusMonths(offset);
+            String partition = partitionName(month);
+            try {
+                jdbcTemplate.execute(createPartitionSql(month));
+            } catch (DataAccessException ex) {
+                LOGGER.warn("Could not create audit partition {}", partition, ex);
+            }
+        }
+    }
+
+    /**
+     * Compacts a partition, or drops it once its segments have aged past the grace period.
+     * Importance: A partition is dropped only when its live row count still matches its segments.
+     * Alternatives: Drop partitions immediately after compaction.
+     *
+     * @param partition the partition name.
+     * @param month the partition month.
+     * @throws IOException when segment files cannot be written.
+     */
+    private void archive(String partition, YearMonth month) throws IOException {
+        long segmentRows = segmentStore.rowsFor(partition);
+        if (segmentRows < 0) {
+            compact(partition, month);
+            return;
+        }
+        if (System.currentTimeMillis() - segmentStore.writtenAtMillis(partition) < properties.getDropGraceMs()) {
+            return;
+        }
+        Boolean dropped = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("LOCK TABLE " + partition + " IN ACCESS EXCLUSIVE MODE");
+            Long live = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + partition, Long.class);
+            if (live == null || live != segmentRows) {
+                return false;
+            }
+            jdbcTemplate.execute("ALTER TABLE audit_logs DETACH PARTITION " + partition);
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            return true;
+        });
+        if (Boolean.TRUE.equals(dropped)) {
+            droppedPartitions.increment();
+            LOGGER.info("Dropped audit partition {} after compacting {} rows", partition, segmentRows);
+            return;
+        }
+        LOGGER.warn("Audit partition {} changed since compaction; compacting again", partition);
+        segmentStore.discard(partition);
+        compact(partition, month);
+    }
+
+    /**
+     * Streams a partition in segment order into new segment files.
+     * Importance: Reads through a server-side cursor so memory stays bounded for any partition size.
+     * Alternatives: Export with COPY and convert offline.
+     *
+     * @param partition the partition name.
+     * @param month the partition month.
+     * @throws IOException when segment files cannot be written.
+     */
+    private void compact(String partition, YearMonth month) throws IOException {
+        Path directory = segmentStore.directory();
+        Files.createDirectories(directory);
+        long lower = AuditSegmentFormat.micros(Timestamp.valueOf(month.atDay(1).atStartOfDay()).toInstant());
+        long upper = AuditSegmentFormat.micros(
+            Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay()).toInstant());
+        long started = System.nanoTime();
+        try (AuditSegmentWriter writer = new AuditSegmentWriter(directory, partition, lower, upper,
+            properties.getBlockRows(), properties.getMaxSegmentBytes())) {
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(
+                "SELECT audit_id, tenant_id, actor_id, action, entity_id, details, created_at FROM " + partition
+                    + " ORDER BY tenant_id COLLATE \"C\", entity_id, created_at, audit_id",
+                ps -> ps.setFetchSize(properties.getFetchSize()),
+                rs -> {
+                    AuditLogEntity row = new AuditLogEntity();
+                    row.setAuditId(rs.getObject(1, UUID.class));
+                    row.setTenantId(rs.getString(2));
+                    row.setActorId(rs.getObject(3, UUID.class));
+                    row.setAction(rs.getString(4));
+                    row.setEntityId(rs.getObject(5, UUID.class));
+                    row.setDetails(rs.getString(6));
+                    row.setCreatedAt(rs.getTimestamp(7).toInstant());
+                    try {
+                        writer.append(row);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                }));
+            List<Path> files = writer.finish();
+            compactedRows.increment(writer.rowCount());
+            LOGGER.info("Compacted audit partition {} into {} segment files ({} rows) in {} ms",
+                partition, files.size(), writer.rowCount(), (System.nanoTime() - started) / 1_000_000);
+        }
+        segmentStore.rescan();
+    }
+
+    /**
+     * Runs an advisory lock function for the maintenance key.
+     * Importance: Shares lock and unlock plumbing.
+     * Alternatives: Use ShedLock.
+     *
+     * @param connection the connection holding the session lock.
+     * @param sql the lock function query.
+     * @return the function result.
+     * @throws SQLException when the query fails.
+     */
+    private static boolean lock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    /**
+     * Returns the DDL that creates a month's partition when it does not exist.
+     * Importance: Shares the range bounds between scheduled creation and default-partition splits.
+     * Alternatives: Build the statement at each call site.
+     *
+     * @param month the month.
+     * @return the CREATE TABLE statement.
+     */
+    private static String createPartitionSql(YearMonth month) {
+        return "CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF audit_logs "
+            + "FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+
+    /**
+     * Returns the partition name for a month.
+     * Importance: Partition names encode their range, so no bound parsing is needed.
+     * Alternatives: Read bounds with pg_get_expr.
+     *
+     * @param month the month.
+     * @return the partition name.
+     */
+    static String partitionName(YearMonth month) {
+        return String.format("audit_logs_p%04d%02d", month.getYear(), month.getMonthValue());
+    }
+}
@@ -0,0 +1,116 @@
+package com.heritagegraph360.profile.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Buffers entries in a bounded lock-free ring for many producers and one consumer.
+ * Importance: Lets request threads hand off audit entries with a single CAS and no lock.
+ * Alternatives: Use a java.util.concurrent.ArrayBlockingQueue.
+ *
+ * @param <E> the entry type.
+ */
+public class AuditRingBuffer<E> {
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final int mask;
+    private volatile long head;
+
+    /**
+     * Creates a ring buffer.
+     * Importance: Fixes the memory bound up front.
+     * Alternatives: Grow the buffer on demand.
+     *
+     * @param capacity the requested capacity, rounded up to a power of two.
+     */
+    public AuditRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds an entry when space is available.
+     * Importance: Claims a slot with a CAS on the tail, then publishes it through the slot sequence.
+     * Alternatives: Guard the buffer with a lock.
+     *
+     * @param entry the entry.
+     * @return false when the buffer is full.
+     */
+    public boolean offer(E entry) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, entry);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Moves published entries into a sink in insertion order.
+     * Importance: Lets the single flusher thread collect a batch without contending with producers.
+     * Alternatives: Poll one entry at a time.
+     *
+     * @param sink the list receiving entries.
+     * @param limit the maximum number of entries to move.
+     * @return the number of entries moved.
+     */
+    public int drainTo(List<E> sink, int limit) {
+        long position = head;
+        int moved = 0;
+        while (moved < limit) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            sink.add(slots.get(index));
+            slots.lazySet(index, null);
+            sequences.lazySet(index, position + mask + 1);
+            position++;
+            moved++;
+        }
+        head = position;
+        return moved;
+    }
+
+    /**
+     * Returns the approximate number of buffered entries.
+     * Importance: Feeds the queue depth gauge and flush triggers.
+     * Alternatives: Maintain a separate counter.
+     *
+     * @return the buffered entry count.
+     */
+    public int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, mask + 1L));
+    }
+
+    /**
+     * Returns the ring capacity.
+     * Importance: Reports the configured bound after power-of-two rounding.
+     * Alternatives: Expose the requested capacity.
+     *
+     * @return the capacity.
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
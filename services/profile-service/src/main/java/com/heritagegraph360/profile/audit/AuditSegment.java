@@ -0,0 +1,473 @@
+package com.heritagegraph360.profile.audit;
+
+import com.heritagegraph360.profile.domain.AuditLogEntity;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads one immutable audit segment file through a read-only memory mapping.
+ * Importance: Serves cold audit history from the page cache without heap copies of the file.
+ * Alternatives: Reload cold partitions into PostgreSQL on demand.
+ */
+final class AuditSegment {
+    private final Path path;
+    private final String partition;
+    private final MappedByteBuffer data;
+    private final long sizeBytes;
+    private final long writtenAtMillis;
+    private final long rowCount;
+    private final long lowerMicros;
+    private final long upperMicros;
+    private final long[] offsets;
+    private final int[] compressedLengths;
+    private final int[] rawLengths;
+    private final byte[][] firstTenants;
+    private final long[] firstMsb;
+    private final long[] firstLsb;
+    private final byte[][] lastTenants;
+    private final long[] lastMsb;
+    private final long[] lastLsb;
+    private final long[] firstMicros;
+    private final UUID[] firstIds;
+
+    /**
+     * Maps a segment file and parses its sparse index.
+     * Importance: Validates the header and footer before the segment serves reads.
+     * Alternatives: Parse the index lazily on first lookup.
+     *
+     * @param path the segment file.
+     * @throws IOException when the file cannot be read or is corrupt.
+     */
+    AuditSegment(Path path) throws IOException {
+        this.path = path;
+        String name = path.getFileName().toString();
+        int split = name.lastIndexOf('-');
+        if (split < 0) {
+            throw new IOException("Unexpected audit segment name " + name);
+        }
+        this.partition = name.substring(0, split);
+        this.writtenAtMillis = Files.getLastModifiedTime(path).toMillis();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.sizeBytes = channel.size();
+            if (sizeBytes < AuditSegmentFormat.HEADER_BYTES + AuditSegmentFormat.FOOTER_BYTES
+                || sizeBytes > Integer.MAX_VALUE) {
+                throw new IOException("Audit segment " + name + " has invalid size " + sizeBytes);
+            }
+            this.data = channel.map(FileChannel.MapMode.READ_ONLY, 0, sizeBytes);
+        }
+        int size = (int) sizeBytes;
+        if (data.getInt(0) != AuditSegmentFormat.MAGIC || data.getInt(4) != AuditSegmentFormat.VERSION
+            || data.getInt(size - 4) != AuditSegmentFormat.MAGIC) {
+            throw new IOException("Audit segment " + name + " has an invalid header or footer");
+        }
+        int footer = size - AuditSegmentFormat.FOOTER_BYTES;
+        long indexOffset = data.getLong(footer);
+        int blocks = data.getInt(footer + 8);
+        this.rowCount = data.getLong(footer + 12);
+        this.lowerMicros = data.getLong(footer + 20);
+        this.upperMicros = data.getLong(footer + 28);
+        this.offsets = new long[blocks];
+        this.compressedLengths = new int[blocks];
+        this.rawLengths = new int[blocks];
+        this.firstTenants = new byte[blocks][];
+        this.firstMsb = new long[blocks];
+        this.firstLsb = new long[blocks];
+        this.lastTenants = new byte[blocks][];
+        this.lastMsb = new long[blocks];
+        this.lastLsb = new long[blocks];
+        this.firstMicros = new long[blocks];
+        this.firstIds = new UUID[blocks];
+        ByteBuffer index = data.slice((int) indexOffset, footer - (int) indexOffset);
+        for (int block = 0; block < blocks; block++) {
+            offsets[block] = index.getLong();
+            compressedLengths[block] = index.getInt();
+            rawLengths[block] = index.getInt();
+            index.getInt();
+            firstTenants[block] = readTenant(index);
+            firstMsb[block] = index.getLong();
+            firstLsb[block] = index.getLong();
+            lastTenants[block] = readTenant(index);
+            lastMsb[block] = index.getLong();
+            lastLsb[block] = index.getLong();
+            firstMicros[block] = index.getLong();
+            firstIds[block] = new UUID(index.getLong(), index.getLong());
+        }
+    }
+
+    /**
+     * Returns an entity's rows after a cursor, in trail order.
+     * Importance: Decodes only the blocks the sparse index says can hold the entity, one block at a time.
+     * Alternatives: Decode every block in the file.
+     *
+     * @param tenant the tenant identifier as UTF-8.
+     * @param tenantId the tenant identifier.
+     * @param entityId the entity identifier.
+     * @param after the cursor, or null for the start of the trail.
+     * @return a lazy iterator over matching rows.
+     */
+    Iterator<AuditLogEntity> trail(byte[] tenant, String tenantId, UUID entityId, AuditCursor after) {
+        long msb = entityId.getMostSignificantBits();
+        long lsb = entityId.getLeastSignificantBits();
+        int start = firstBlockEndingAtOrAfter(tenant, msb, lsb);
+        if (after != null) {
+            long afterMicros = AuditSegmentFormat.micros(after.getCreatedAt());
+            while (start + 1 < offsets.length && startsWith(start + 1, tenant, msb, lsb)
+                && AuditSegmentFormat.comparePosition(firstMicros[start + 1], firstIds[start + 1],
+                    afterMicros, after.getAuditId()) <= 0) {
+                start++;
+            }
+        }
+        int first = start;
+        return new Iterator<>() {
+            private int block = first;
+            private Iterator<AuditLogEntity> current = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext()) {
+                    if (block >= offsets.length || AuditSegmentFormat.compareKey(firstTenants[block],
+                        firstMsb[block], firstLsb[block], tenant, msb, lsb) > 0) {
+                        return false;
+                    }
+                    current = readBlock(block++, tenantId, entityId, after).iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public AuditLogEntity next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+    }
+
+    /**
+     * Returns the partition this segment was compacted from.
+     * Importance: Groups rolled-over files of one partition.
+     * Alternatives: Store the partition name in the footer.
+     *
+     * @return the partition name.
+     */
+    String partition() {
+        return partition;
+    }
+
+    /**
+     * Returns the segment file.
+     * Importance: Lets the store delete superseded segments.
+     * Alternatives: Track paths separately.
+     *
+     * @return the path.
+     */
+    Path path() {
+        return path;
+    }
+
+    /**
+     * Returns the rows stored in this file.
+     * Importance: Lets the compactor compare segment contents with the partition.
+     * Alternatives: Count rows by decoding blocks.
+     *
+     * @return the row count.
+     */
+    long rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the file size.
+     * Importance: Feeds the cold storage size gauge.
+     * Alternatives: Stat the directory.
+     *
+     * @return the size in bytes.
+     */
+    long sizeBytes() {
+        return sizeBytes;
+    }
+
+    /**
+     * Returns when the file was published.
+     * Importance: Starts the grace period before the source partition is dropped.
+     * Alternatives: Record publication time in a table.
+     *
+     * @return the modification time in epoch milliseconds.
+     */
+    long writtenAtMillis() {
+        return writtenAtMillis;
+    }
+
+    /**
+     * Returns the inclusive lower bound of the partition's time range.
+     * Importance: Lets hot reads exclude ranges served from segments.
+     * Alternatives: Derive the range from the partition name.
+     *
+     * @return the lower bound in epoch microseconds.
+     */
+    long lowerMicros() {
+        return lowerMicros;
+    }
+
+    /**
+     * Returns the exclusive upper bound of the partition's time range.
+     * Importance: Lets hot reads exclude ranges served from segments.
+     * Alternatives: Derive the range from the partition name.
+     *
+     * @return the upper bound in epoch microseconds.
+     */
+    long upperMicros() {
+        return upperMicros;
+    }
+
+    /**
+     * Finds the first block whose last key is at or after the target key.
+     * Importance: Binary search over the sparse index.
+     * Alternatives: Scan the index linearly.
+     *
+     * @param tenant the tenant as UTF-8.
+     * @param msb the entity's high bits.
+     * @param lsb the entity's low bits.
+     * @return the block index, or the block count when no block qualifies.
+     */
+    private int firstBlockEndingAtOrAfter(byte[] tenant, long msb, long lsb) {
+        int low = 0;
+        int high = offsets.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (AuditSegmentFormat.compareKey(lastTenants[mid], lastMsb[mid], lastLsb[mid], tenant, msb, lsb) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Checks whether a block starts with the target key.
+     * Importance: Lets cursor reads skip whole blocks of an entity that precede the cursor.
+     * Alternatives: Decode the block to check.
+     *
+     * @param block the block index.
+     * @param tenant the tenant as UTF-8.
+     * @param msb the entity's high bits.
+     * @param lsb the entity's low bits.
+     * @return true when the block's first key equals the target.
+     */
+    private boolean startsWith(int block, byte[] tenant, long msb, long lsb) {
+        return AuditSegmentFormat.compareKey(firstTenants[block], firstMsb[block], firstLsb[block],
+            tenant, msb, lsb) == 0;
+    }
+
+    /**
+     * Decompresses a block and materializes the target entity's rows after the cursor.
+     * Importance: Reads fixed-width columns only for the matching row range.
+     * Alternatives: Materialize every row in the block.
+     *
+     * @param block the block index.
+     * @param tenantId the tenant identifier.
+     * @param entityId the entity identifier.
+     * @param after the cursor, or null.
+     * @return the matching rows.
+     */
+    private List<AuditLogEntity> readBlock(int block, String tenantId, UUID entityId, AuditCursor after) {
+        ByteBuffer in = ByteBuffer.wrap(inflate(block));
+        int rows = (int) AuditSegmentFormat.readVarLong(in);
+        String[] tenants = readDictionary(in);
+        int[] tenantCodes = readCodes(in, rows);
+        int entityColumn = in.position();
+        long msb = entityId.getMostSignificantBits();
+        long lsb = entityId.getLeastSignificantBits();
+        int from = -1;
+        int to = -1;
+        for (int row = 0; row < rows; row++) {
+            String tenant = tenantCodes[row] == 0 ? null : tenants[tenantCodes[row] - 1];
+            int offset = entityColumn + row * 16;
+            boolean match = tenantId.equals(tenant) && in.getLong(offset) == msb && in.getLong(offset + 8) == lsb;
+            if (match && from < 0) {
+                from = row;
+            }
+            if (match) {
+                to = row + 1;
+            }
+        }
+        if (from < 0) {
+            return List.of();
+        }
+        int auditColumn = entityColumn + rows * 16;
+        int actorColumn = auditColumn + rows * 16;
+        in.position(actorColumn + rows * 16);
+        String[] actions = readDictionary(in);
+        int[] actionCodes = readCodes(in, rows);
+        long[] micros = new long[to];
+        long previous = 0;
+        for (int row = 0; row < rows; row++) {
+            previous += AuditSegmentFormat.unZigZag(AuditSegmentFormat.readVarLong(in));
+            if (row < to) {
+                micros[row] = previous;
+            }
+        }
+        for (int row = 0; row < from; row++) {
+            skipString(in);
+        }
+        long afterMicros = after == null ? 0 : AuditSegmentFormat.micros(after.getCreatedAt());
+        List<AuditLogEntity> result = new ArrayList<>(to - from);
+        for (int row = from; row < to; row++) {
+            String details = readString(in);
+            UUID auditId = uuidAt(in, auditColumn + row * 16);
+            if (after != null
+                && AuditSegmentFormat.comparePosition(micros[row], auditId, afterMicros, after.getAuditId()) <= 0) {
+                continue;
+            }
+            AuditLogEntity entity = new AuditLogEntity();
+            entity.setAuditId(auditId);
+            entity.setTenantId(tenantId);
+            entity.setEntityId(entityId);
+            entity.setActorId(uuidAt(in, actorColumn + row * 16));
+            entity.setAction(actionCodes[row] == 0 ? null : actions[actionCodes[row] - 1]);
+            entity.setDetails(details);
+            entity.setCreatedAt(AuditSegmentFormat.instant(micros[row]));
+            result.add(entity);
+        }
+        return result;
+    }
+
+    /**
+     * Decompresses one block from the mapping.
+     * Importance: Inflates directly from mapped memory without copying the compressed bytes.
+     * Alternatives: Copy the block into a heap array first.
+     *
+     * @param block the block index.
+     * @return the uncompressed block.
+     */
+    private byte[] inflate(int block) {
+        byte[] raw = new byte[rawLengths[block]];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data.slice((int) offsets[block], compressedLengths[block]));
+            int filled = 0;
+            while (filled < raw.length) {
+                int read = inflater.inflate(raw, filled, raw.length - filled);
+                if (read == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new IllegalStateException("Truncated block " + block + " in " + path);
+                }
+                filled += read;
+            }
+            return raw;
+        } catch (DataFormatException ex) {
+            throw new IllegalStateException("Corrupt block " + block + " in " + path, ex);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Reads a column dictionary.
+     * Importance: Decodes tenant and action values once per block.
+     * Alternatives: Store values inline.
+     *
+     * @param in the block buffer.
+     * @return the dictionary values.
+     */
+    private static String[] readDictionary(ByteBuffer in) {
+        String[] values = new String[(int) AuditSegmentFormat.readVarLong(in)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readString(in);
+        }
+        return values;
+    }
+
+    /**
+     * Reads per-row dictionary codes.
+     * Importance: Zero marks a null value.
+     * Alternatives: Use a null bitmap.
+     *
+     * @param in the block buffer.
+     * @param rows the row count.
+     * @return the codes.
+     */
+    private static int[] readCodes(ByteBuffer in, int rows) {
+        int[] codes = new int[rows];
+        for (int row = 0; row < rows; row++) {
+            codes[row] = (int) AuditSegmentFormat.readVarLong(in);
+        }
+        return codes;
+    }
+
+    /**
+     * Reads a nullable length-prefixed string.
+     * Importance: Mirrors the writer's string encoding.
+     * Alternatives: Use DataInput.readUTF.
+     *
+     * @param in the block buffer.
+     * @return the string, or null.
+     */
+    private static String readString(ByteBuffer in) {
+        int length = (int) AuditSegmentFormat.readVarLong(in);
+        if (length == 0) {
+            return null;
+        }
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length - 1, StandardCharsets.UTF_8);
+        in.position(in.position() + length - 1);
+        return value;
+    }
+
+    /**
+     * Skips a nullable length-prefixed string.
+     * Importance: Avoids decoding details of rows outside the match range.
+     * Alternatives: Decode and discard.
+     *
+     * @param in the block buffer.
+     */
+    private static void skipString(ByteBuffer in) {
+        int length = (int) AuditSegmentFormat.readVarLong(in);
+        if (length > 0) {
+            in.position(in.position() + length - 1);
+        }
+    }
+
+    /**
+     * Reads a nullable UUID at an absolute position.
+     * Importance: Fixed-width columns allow random access by row.
+     * Alternatives: Decode the whole column.
+     *
+     * @param in the block buffer.
+     * @param offset the absolute offset.
+     * @return the UUID, or null for all-zero bits.
+     */
+    private static UUID uuidAt(ByteBuffer in, int offset) {
+        long high = in.getLong(offset);
+        long low = in.getLong(offset + 8);
+        return high == 0L && low == 0L ? null : new UUID(high, low);
+    }
+
+    /**
+     * Reads a length-prefixed tenant key from the index.
+     * Importance: Keeps tenant keys as raw UTF-8 for byte-order comparison.
+     * Alternatives: Decode to strings and compare with a collator.
+     *
+     * @param index the index buffer.
+     * @return the tenant bytes.
+     */
+    private static byte[] readTenant(ByteBuffer index) {
+        byte[] tenant = new byte[index.getShort() & 0xFFFF];
+        index.get(tenant);
+        return tenant;
+    }
+}
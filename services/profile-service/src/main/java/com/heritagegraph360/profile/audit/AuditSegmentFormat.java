@@ -0,0 +1,171 @@
+package com.heritagegraph360.profile.audit;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Defines the on-disk layout shared by audit segment writers and readers.
+ * Importance: Keeps the sort order and encodings of cold segments in one place.
+ * Alternatives: Use Parquet or ORC files through a third-party library.
+ */
+final class AuditSegmentFormat {
+    static final int MAGIC = 0x48474153;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 8;
+    static final int FOOTER_BYTES = 40;
+    static final String SUFFIX = ".seg";
+    static final String TEMP_SUFFIX = ".seg.tmp";
+
+    /**
+     * Prevents instantiation.
+     * Importance: The format is a set of static helpers.
+     * Alternatives: Use an interface with constants.
+     */
+    private AuditSegmentFormat() {
+    }
+
+    /**
+     * Compares two (tenant, entity) keys in PostgreSQL's C-collation and uuid order.
+     * Importance: Segment blocks are sorted by the database, so lookups must use the same order.
+     * Alternatives: Sort rows in Java before writing.
+     *
+     * @param tenantA the first tenant as UTF-8.
+     * @param msbA the first entity's high bits.
+     * @param lsbA the first entity's low bits.
+     * @param tenantB the second tenant as UTF-8.
+     * @param msbB the second entity's high bits.
+     * @param lsbB the second entity's low bits.
+     * @return a negative, zero, or positive comparison result.
+     */
+    static int compareKey(byte[] tenantA, long msbA, long lsbA, byte[] tenantB, long msbB, long lsbB) {
+        int tenant = Arrays.compareUnsigned(tenantA, tenantB);
+        if (tenant != 0) {
+            return tenant;
+        }
+        int msb = Long.compareUnsigned(msbA, msbB);
+        return msb != 0 ? msb : Long.compareUnsigned(lsbA, lsbB);
+    }
+
+    /**
+     * Compares two trail positions by creation time and then audit identifier.
+     * Importance: Matches the (created_at, audit_id) keyset order used by the hot query.
+     * Alternatives: Use UUID.compareTo, which orders signed halves differently from PostgreSQL.
+     *
+     * @param microsA the first creation time in epoch microseconds.
+     * @param idA the first audit identifier.
+     * @param microsB the second creation time in epoch microseconds.
+     * @param idB the second audit identifier.
+     * @return a negative, zero, or positive comparison result.
+     */
+    static int comparePosition(long microsA, UUID idA, long microsB, UUID idB) {
+        int time = Long.compare(microsA, microsB);
+        if (time != 0) {
+            return time;
+        }
+        int msb = Long.compareUnsigned(idA.getMostSignificantBits(), idB.getMostSignificantBits());
+        return msb != 0 ? msb : Long.compareUnsigned(idA.getLeastSignificantBits(), idB.getLeastSignificantBits());
+    }
+
+    /**
+     * Converts an instant to epoch microseconds.
+     * Importance: Stores timestamps at PostgreSQL precision.
+     * Alternatives: Store seconds and nanoseconds separately.
+     *
+     * @param instant the instant.
+     * @return epoch microseconds.
+     */
+    static long micros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1000);
+    }
+
+    /**
+     * Converts epoch microseconds to an instant.
+     * Importance: Restores timestamps exactly as PostgreSQL returned them.
+     * Alternatives: Store ISO-8601 strings.
+     *
+     * @param micros epoch microseconds.
+     * @return the instant.
+     */
+    static Instant instant(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1000L);
+    }
+
+    /**
+     * Writes an unsigned LEB128 integer.
+     * Importance: Keeps lengths, dictionary codes, and time deltas to one or two bytes.
+     * Alternatives: Write fixed-width integers.
+     *
+     * @param out the target stream.
+     * @param value the non-negative value.
+     */
+    static void writeVarLong(ByteArrayOutputStream out, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.write((int) remaining);
+    }
+
+    /**
+     * Reads an unsigned LEB128 integer.
+     * Importance: Decodes values written by writeVarLong.
+     * Alternatives: Read fixed-width integers.
+     *
+     * @param in the source buffer.
+     * @return the value.
+     */
+    static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    /**
+     * Writes a fixed-width long in big-endian order.
+     * Importance: Stores identifiers at a fixed stride within a column.
+     * Alternatives: Wrap the stream in a DataOutputStream.
+     *
+     * @param out the target stream.
+     * @param value the value.
+     */
+    static void writeLong(ByteArrayOutputStream out, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    /**
+     * Zig-zag encodes a signed delta.
+     * Importance: Keeps small negative time deltas small, since rows are sorted per entity rather than globally.
+     * Alternatives: Store absolute timestamps.
+     *
+     * @param value the signed value.
+     * @return the encoded value.
+     */
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * Decodes a zig-zag encoded delta.
+     * Importance: Reverses zigZag.
+     * Alternatives: Store absolute timestamps.
+     *
+     * @param value the encoded value.
+     * @return the signed value.
+     */
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
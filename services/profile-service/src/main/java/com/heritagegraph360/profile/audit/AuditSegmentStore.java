@@ -0,0 +1,314 @@
+package com.heritagegraph360.profile.audit;
+
+import com.heritagegraph360.profile.config.AuditArchiveProperties;
+import com.heritagegraph360.profile.domain.AuditLogEntity;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the cold audit segments loaded from the segment directory.
+ * Importance: Serves compacted history and tells hot reads which time ranges it covers.
+ * Alternatives: Query an external archive service.
+ */
+@Component
+public class AuditSegmentStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuditSegmentStore.class);
+
+    private final AuditArchiveProperties properties;
+    private volatile Snapshot current = new Snapshot(List.of(), List.of());
+
+    /**
+     * Creates the segment store and registers its metrics.
+     * Importance: Exposes cold storage size on the Prometheus endpoint.
+     * Alternatives: Leave cold storage unmonitored.
+     *
+     * @param properties the archive properties.
+     * @param meterRegistry the metrics registry.
+     */
+    public AuditSegmentStore(AuditArchiveProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        Gauge.builder("audit.archive.segments", this, store -> store.current.segments.size())
+            .description("Cold audit segment files loaded")
+            .register(meterRegistry);
+        Gauge.builder("audit.archive.rows", this, store -> store.totalRows())
+            .description("Audit rows served from cold segments")
+            .register(meterRegistry);
+        Gauge.builder("audit.archive.bytes", this, store -> store.totalBytes())
+            .description("Size of cold audit segment files")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Loads new segment files and forgets removed ones.
+     * Importance: Picks up segments published by any replica on the shared volume.
+     * Alternatives: Load segments only at startup.
+     */
+    @Scheduled(fixedDelayString = "${app.audit-archive.rescan-interval-ms:300000}")
+    public synchronized void rescan() {
+        Path directory = directory();
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        Map<Path, AuditSegment> known = new HashMap<>();
+        for (AuditSegment segment : current.segments) {
+            known.put(segment.path(), segment);
+        }
+        List<AuditSegment> loaded = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + AuditSegmentFormat.SUFFIX)) {
+            for (Path file : files) {
+                AuditSegment segment = known.get(file);
+                if (segment == null) {
+                    try {
+                        segment = new AuditSegment(file);
+                    } catch (IOException ex) {
+                        LOGGER.error("Skipping unreadable audit segment {}", file, ex);
+                        continue;
+                    }
+                }
+                loaded.add(segment);
+            }
+        } catch (IOException ex) {
+            LOGGER.error("Failed to list audit segments in {}", directory, ex);
+            return;
+        }
+        loaded.sort(Comparator.comparing(segment -> segment.path().getFileName().toString()));
+        publish(loaded);
+    }
+
+    /**
+     * Returns the currently loaded segments and the time ranges they cover.
+     * Importance: Gives each read a consistent view while segments are added or discarded.
+     * Alternatives: Guard reads with a lock.
+     *
+     * @return the snapshot.
+     */
+    public Snapshot snapshot() {
+        return current;
+    }
+
+    /**
+     * Returns the rows stored for a partition across its files.
+     * Importance: Lets the compactor verify a partition before dropping it.
+     * Alternatives: Record counts in a manifest table.
+     *
+     * @param partition the partition name.
+     * @return the row count, or -1 when the partition has no segments.
+     */
+    long rowsFor(String partition) {
+        long rows = -1;
+        for (AuditSegment segment : current.segments) {
+            if (segment.partition().equals(partition)) {
+                rows = Math.max(rows, 0) + segment.rowCount();
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Returns when a partition's newest segment file was published.
+     * Importance: Starts the drop grace period.
+     * Alternatives: Record publication time in a table.
+     *
+     * @param partition the partition name.
+     * @return epoch milliseconds, or 0 when the partition has no segments.
+     */
+    long writtenAtMillis(String partition) {
+        long written = 0;
+        for (AuditSegment segment : current.segments) {
+            if (segment.partition().equals(partition)) {
+                written = Math.max(written, segment.writtenAtMillis());
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Unloads and deletes a partition's segment files.
+     * Importance: Clears stale segments before a partition is compacted again.
+     * Alternatives: Version segment files and keep old ones.
+     *
+     * @param partition the partition name.
+     */
+    synchronized void discard(String partition) {
+        List<AuditSegment> kept = new ArrayList<>();
+        List<AuditSegment> removed = new ArrayList<>();
+        for (AuditSegment segment : current.segments) {
+            (segment.partition().equals(partition) ? removed : kept).add(segment);
+        }
+        publish(kept);
+        for (AuditSegment segment : removed) {
+            try {
+                Files.deleteIfExists(segment.path());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    /**
+     * Returns the segment directory.
+     * Importance: Shares the configured location with the compactor.
+     * Alternatives: Inject the path separately.
+     *
+     * @return the directory.
+     */
+    Path directory() {
+        return Paths.get(properties.getDirectory());
+    }
+
+    /**
+     * Publishes a new segment list and its merged covered ranges.
+     * Importance: Readers see the list and ranges change together.
+     * Alternatives: Publish the list and ranges separately.
+     *
+     * @param loaded the segments in name order.
+     */
+    private void publish(List<AuditSegment> loaded) {
+        List<long[]> ranges = new ArrayList<>();
+        List<AuditSegment> byTime = new ArrayList<>(loaded);
+        byTime.sort(Comparator.comparingLong(AuditSegment::lowerMicros));
+        for (AuditSegment segment : byTime) {
+            long[] last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+            if (last != null && segment.lowerMicros() <= last[1]) {
+                last[1] = Math.max(last[1], segment.upperMicros());
+            } else {
+                ranges.add(new long[] {segment.lowerMicros(), segment.upperMicros()});
+            }
+        }
+        List<Instant[]> covered = new ArrayList<>(ranges.size());
+        for (long[] range : ranges) {
+            covered.add(new Instant[] {AuditSegmentFormat.instant(range[0]), AuditSegmentFormat.instant(range[1])});
+        }
+        this.current = new Snapshot(List.copyOf(loaded), List.copyOf(covered));
+    }
+
+    /**
+     * Returns the rows across loaded segments.
+     * Importance: Feeds the rows gauge.
+     * Alternatives: Maintain a counter.
+     *
+     * @return the row count.
+     */
+    private double totalRows() {
+        long total = 0;
+        for (AuditSegment segment : current.segments) {
+            total += segment.rowCount();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the bytes across loaded segments.
+     * Importance: Feeds the size gauge.
+     * Alternatives: Stat the directory.
+     *
+     * @return the size in bytes.
+     */
+    private double totalBytes() {
+        long total = 0;
+        for (AuditSegment segment : current.segments) {
+            total += segment.sizeBytes();
+        }
+        return total;
+    }
+
+    /**
+     * Captures an immutable view of loaded segments.
+     * Importance: Pairs cold rows with the exact ranges hot reads must exclude.
+     * Alternatives: Expose the segment list directly.
+     */
+    public static final class Snapshot {
+        private final List<AuditSegment> segments;
+        private final List<Instant[]> coveredRanges;
+
+        /**
+         * Creates a snapshot.
+         * Importance: Freezes segments and ranges together.
+         * Alternatives: Use a mutable holder.
+         *
+         * @param segments the segments in name order.
+         * @param coveredRanges the merged covered ranges.
+         */
+        private Snapshot(List<AuditSegment> segments, List<Instant[]> coveredRanges) {
+            this.segments = segments;
+            this.coveredRanges = coveredRanges;
+        }
+
+        /**
+         * Returns an entity's cold audit rows after a cursor, in trail order.
+         * Importance: Segments are ordered by partition month, so concatenating them preserves trail order.
+         * Alternatives: Merge segment results by timestamp.
+         *
+         * @param tenantId the tenant identifier.
+         * @param entityId the entity identifier.
+         * @param after the cursor, or null for the start of the trail.
+         * @return a lazy iterator over cold rows.
+         */
+        public Iterator<AuditLogEntity> trail(String tenantId, UUID entityId, AuditCursor after) {
+            List<AuditSegment> snapshot = segments;
+            if (snapshot.isEmpty()) {
+                return Collections.emptyIterator();
+            }
+            byte[] tenant = tenantId.getBytes(StandardCharsets.UTF_8);
+            long afterMicros = after == null ? Long.MIN_VALUE : AuditSegmentFormat.micros(after.getCreatedAt());
+            return new Iterator<>() {
+                private int next;
+                private Iterator<AuditLogEntity> current = Collections.emptyIterator();
+
+                @Override
+                public boolean hasNext() {
+                    while (!current.hasNext()) {
+                        if (next >= snapshot.size()) {
+                            return false;
+                        }
+                        AuditSegment segment = snapshot.get(next++);
+                        if (segment.upperMicros() > afterMicros) {
+                            current = segment.trail(tenant, tenantId, entityId, after);
+                        }
+                    }
+                    return true;
+                }
+
+                @Override
+                public AuditLogEntity next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return current.next();
+                }
+            };
+        }
+
+        /**
+         * Returns the time ranges served from segments.
+         * Importance: Hot reads exclude these ranges so rows are never returned twice while a partition awaits dropping.
+         * Alternatives: Drop partitions in the same step that publishes segments.
+         *
+         * @return merged [from, to) ranges in ascending order.
+         */
+        public List<Instant[]> coveredRanges() {
+            return coveredRanges;
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package com.heritagegraph360.profile.audit;
+
+import com.heritagegraph360.profile.domain.AuditLogEntity;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes one audit partition into immutable, compressed columnar segment files.
+ * Importance: Turns a month of audit rows into compact files readable through memory mapping.
+ * Alternatives: Export partitions with pg_dump or COPY.
+ */
+public final class AuditSegmentWriter implements Closeable {
+    private static final long MAX_FILE_BYTES = Integer.MAX_VALUE - (64L << 20);
+
+    private final Path directory;
+    private final String partition;
+    private final long lowerMicros;
+    private final long upperMicros;
+    private final int blockRows;
+    private final long maxBytes;
+    private final List<AuditLogEntity> pending;
+    private final List<Path> temps = new ArrayList<>();
+    private FileOutputStream file;
+    private DataOutputStream out;
+    private DataOutputStream index;
+    private ByteArrayOutputStream indexBytes;
+    private long position;
+    private int blockCount;
+    private long fileRows;
+    private long totalRows;
+    private AuditLogEntity previous;
+    private boolean finished;
+
+    /**
+     * Creates a writer for one partition.
+     * Importance: Fixes the partition's time range and block geometry.
+     * Alternatives: Infer the time range from the rows.
+     *
+     * @param directory the segment directory.
+     * @param partition the partition name used as the file prefix.
+     * @param lowerMicros the inclusive partition lower bound in epoch microseconds.
+     * @param upperMicros the exclusive partition upper bound in epoch microseconds.
+     * @param blockRows the rows per block.
+     * @param maxBytes the size at which a file is rolled over.
+     */
+    public AuditSegmentWriter(Path directory, String partition, long lowerMicros, long upperMicros,
+                       int blockRows, long maxBytes) {
+        this.directory = directory;
+        this.partition = partition;
+        this.lowerMicros = lowerMicros;
+        this.upperMicros = upperMicros;
+        this.blockRows = Math.max(1, blockRows);
+        this.maxBytes = Math.min(Math.max(maxBytes, 1L << 20), MAX_FILE_BYTES);
+        this.pending = new ArrayList<>(this.blockRows);
+    }
+
+    /**
+     * Appends the next row in (tenant, entity, created_at, audit_id) order.
+     * Importance: Rejects out-of-order input, since lookups binary-search the block keys.
+     * Alternatives: Buffer and sort the whole partition in memory.
+     *
+     * @param row the audit row.
+     * @throws IOException when writing fails.
+     */
+    public void append(AuditLogEntity row) throws IOException {
+        if (row.getTenantId() == null || row.getEntityId() == null || row.getCreatedAt() == null) {
+            throw new IllegalStateException("Audit row " + row.getAuditId() + " is missing tenant, entity, or time");
+        }
+        if (previous != null && compare(previous, row) >= 0) {
+            throw new IllegalStateException("Audit rows are not in segment order at " + row.getAuditId());
+        }
+        previous = row;
+        pending.add(row);
+        totalRows++;
+        if (pending.size() >= blockRows) {
+            flushBlock();
+        }
+    }
+
+    /**
+     * Completes all files and publishes them under their final names.
+     * Importance: Readers only ever see fully written, fsynced segments.
+     * Alternatives: Write in place and mark completion in a manifest.
+     *
+     * @return the published segment files.
+     * @throws IOException when writing or renaming fails.
+     */
+    public List<Path> finish() throws IOException {
+        if (!pending.isEmpty()) {
+            flushBlock();
+        }
+        if (file == null && temps.isEmpty()) {
+            openFile();
+        }
+        if (file != null) {
+            closeFile();
+        }
+        List<Path> published = new ArrayList<>(temps.size());
+        for (Path temp : temps) {
+            String name = temp.getFileName().toString();
+            Path target = temp.resolveSibling(
+                name.substring(0, name.length() - AuditSegmentFormat.TEMP_SUFFIX.length()) + AuditSegmentFormat.SUFFIX);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            published.add(target);
+        }
+        finished = true;
+        return published;
+    }
+
+    /**
+     * Returns the rows appended so far.
+     * Importance: Lets the compactor verify segment contents against the partition.
+     * Alternatives: Reopen the files and count.
+     *
+     * @return the row count.
+     */
+    public long rowCount() {
+        return totalRows;
+    }
+
+    /**
+     * Discards unfinished temporary files.
+     * Importance: Leaves no partial segments behind after a failed compaction.
+     * Alternatives: Clean up temporary files at startup.
+     *
+     * @throws IOException when closing fails.
+     */
+    @Override
+    public void close() throws IOException {
+        if (finished) {
+            return;
+        }
+        if (out != null) {
+            out.close();
+            out = null;
+            file = null;
+        }
+        for (Path temp : temps) {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Encodes, compresses, and writes the pending rows as one block.
+     * Importance: Records the block's first and last keys and first trail position in the sparse index.
+     * Alternatives: Index every entity.
+     *
+     * @throws IOException when writing fails.
+     */
+    private void flushBlock() throws IOException {
+        if (file == null) {
+            openFile();
+        }
+        byte[] raw = encodeBlock(pending);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.length / 4 + 64);
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(compressed, deflater)) {
+            deflate.write(raw);
+        } finally {
+            deflater.end();
+        }
+        byte[] block = compressed.toByteArray();
+        out.write(block);
+        index.writeLong(position);
+        index.writeInt(block.length);
+        index.writeInt(raw.length);
+        index.writeInt(pending.size());
+        writeKey(index, pending.get(0));
+        writeKey(index, pending.get(pending.size() - 1));
+        index.writeLong(AuditSegmentFormat.micros(pending.get(0).getCreatedAt()));
+        index.writeLong(pending.get(0).getAuditId().getMostSignificantBits());
+        index.writeLong(pending.get(0).getAuditId().getLeastSignificantBits());
+        position += block.length;
+        blockCount++;
+        fileRows += pending.size();
+        pending.clear();
+        if (position >= maxBytes) {
+            closeFile();
+        }
+    }
+
+    /**
+     * Lays out a block column by column.
+     * Importance: Groups similar values so identifiers, dictionary codes, and time deltas compress well.
+     * Alternatives: Write rows one after another.
+     *
+     * @param rows the block rows.
+     * @return the uncompressed block.
+     */
+    private static byte[] encodeBlock(List<AuditLogEntity> rows) {
+        ByteArrayOutputStream block = new ByteArrayOutputStream(rows.size() * 96);
+        AuditSegmentFormat.writeVarLong(block, rows.size());
+        writeDictionary(block, rows, AuditLogEntity::getTenantId);
+        for (AuditLogEntity row : rows) {
+            writeUuid(block, row.getEntityId());
+        }
+        for (AuditLogEntity row : rows) {
+            writeUuid(block, row.getAuditId());
+        }
+        for (AuditLogEntity row : rows) {
+            writeUuid(block, row.getActorId());
+        }
+        writeDictionary(block, rows, AuditLogEntity::getAction);
+        long previousMicros = 0;
+        for (AuditLogEntity row : rows) {
+            long micros = AuditSegmentFormat.micros(row.getCreatedAt());
+            AuditSegmentFormat.writeVarLong(block, AuditSegmentFormat.zigZag(micros - previousMicros));
+            previousMicros = micros;
+        }
+        for (AuditLogEntity row : rows) {
+            writeString(block, row.getDetails());
+        }
+        return block.toByteArray();
+    }
+
+    /**
+     * Writes a low-cardinality column as a dictionary followed by per-row codes.
+     * Importance: Tenants and actions repeat heavily within a block.
+     * Alternatives: Write every value in full and rely on compression.
+     *
+     * @param block the block buffer.
+     * @param rows the block rows.
+     * @param column the column accessor.
+     */
+    private static void writeDictionary(ByteArrayOutputStream block, List<AuditLogEntity> rows,
+                                        Function<AuditLogEntity, String> column) {
+        Map<String, Integer> codes = new LinkedHashMap<>();
+        for (AuditLogEntity row : rows) {
+            String value = column.apply(row);
+            if (value != null) {
+                codes.putIfAbsent(value, codes.size() + 1);
+            }
+        }
+        AuditSegmentFormat.writeVarLong(block, codes.size());
+        for (String value : codes.keySet()) {
+            writeString(block, value);
+        }
+        for (AuditLogEntity row : rows) {
+            String value = column.apply(row);
+            AuditSegmentFormat.writeVarLong(block, value == null ? 0 : codes.get(value));
+        }
+    }
+
+    /**
+     * Writes a nullable string as a length-plus-one prefix and UTF-8 bytes.
+     * Importance: Distinguishes null from empty strings.
+     * Alternatives: Use a separate null bitmap.
+     *
+     * @param block the block buffer.
+     * @param value the value, or null.
+     */
+    private static void writeString(ByteArrayOutputStream block, String value) {
+        if (value == null) {
+            AuditSegmentFormat.writeVarLong(block, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        AuditSegmentFormat.writeVarLong(block, bytes.length + 1L);
+        block.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Writes a nullable UUID as two longs, with all-zero bits meaning null.
+     * Importance: Keeps identifier columns fixed-width.
+     * Alternatives: Use a separate null bitmap.
+     *
+     * @param block the block buffer.
+     * @param value the value, or null.
+     */
+    private static void writeUuid(ByteArrayOutputStream block, UUID value) {
+        AuditSegmentFormat.writeLong(block, value == null ? 0L : value.getMostSignificantBits());
+        AuditSegmentFormat.writeLong(block, value == null ? 0L : value.getLeastSignificantBits());
+    }
+
+    /**
+     * Writes a row's (tenant, entity) key into the sparse index.
+     * Importance: Lets readers skip blocks that cannot contain an entity.
+     * Alternatives: Index only the first key of each block.
+     *
+     * @param target the index stream.
+     * @param row the row.
+     * @throws IOException when writing fails.
+     */
+    private static void writeKey(DataOutputStream target, AuditLogEntity row) throws IOException {
+        byte[] tenant = row.getTenantId().getBytes(StandardCharsets.UTF_8);
+        target.writeShort(tenant.length);
+        target.write(tenant);
+        target.writeLong(row.getEntityId().getMostSignificantBits());
+        target.writeLong(row.getEntityId().getLeastSignificantBits());
+    }
+
+    /**
+     * Opens the next temporary segment file and writes its header.
+     * Importance: Starts a new memory-mappable file on rollover.
+     * Alternatives: Write one unbounded file.
+     *
+     * @throws IOException when the file cannot be created.
+     */
+    private void openFile() throws IOException {
+        Path temp = directory.resolve(String.format("%s-%04d%s", partition, temps.size(),
+            AuditSegmentFormat.TEMP_SUFFIX));
+        temps.add(temp);
+        file = new FileOutputStream(temp.toFile());
+        out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16));
+        out.writeInt(AuditSegmentFormat.MAGIC);
+        out.writeInt(AuditSegmentFormat.VERSION);
+        position = AuditSegmentFormat.HEADER_BYTES;
+        indexBytes = new ByteArrayOutputStream();
+        index = new DataOutputStream(indexBytes);
+        blockCount = 0;
+        fileRows = 0;
+    }
+
+    /**
+     * Writes the sparse index and footer, then fsyncs and closes the file.
+     * Importance: Makes each file self-describing and durable before it is published.
+     * Alternatives: Keep the index in a separate file.
+     *
+     * @throws IOException when writing fails.
+     */
+    private void closeFile() throws IOException {
+        long indexOffset = position;
+        index.flush();
+        indexBytes.writeTo(out);
+        out.writeLong(indexOffset);
+        out.writeInt(blockCount);
+        out.writeLong(fileRows);
+        out.writeLong(lowerMicros);
+        out.writeLong(upperMicros);
+        out.writeInt(AuditSegmentFormat.MAGIC);
+        out.flush();
+        file.getChannel().force(true);
+        out.close();
+        out = null;
+        file = null;
+    }
+
+    /**
+     * Compares two rows in segment order.
+     * Importance: Guards the sort order the sparse index depends on.
+     * Alternatives: Trust the database ordering.
+     *
+     * @param a the first row.
+     * @param b the second row.
+     * @return a negative, zero, or positive comparison result.
+     */
+    private static int compare(AuditLogEntity a, AuditLogEntity b) {
+        int key = AuditSegmentFormat.compareKey(
+            a.getTenantId().getBytes(StandardCharsets.UTF_8),
+            a.getEntityId().getMostSignificantBits(), a.getEntityId().getLeastSignificantBits(),
+            b.getTenantId().getBytes(StandardCharsets.UTF_8),
+            b.getEntityId().getMostSignificantBits(), b.getEntityId().getLeastSignificantBits());
+        if (key != 0) {
+            return key;
+        }
+        return AuditSegmentFormat.comparePosition(
+            AuditSegmentFormat.micros(a.getCreatedAt()), a.getAuditId(),
+            AuditSegmentFormat.micros(b.getCreatedAt()), b.getAuditId());
+    }
+}
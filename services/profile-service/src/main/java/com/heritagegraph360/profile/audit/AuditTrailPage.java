@@ -0,0 +1,49 @@
+package com.heritagegraph360.profile.audit;
+
+import com.heritagegraph360.profile.api.AuditLogEntryResponse;
+import java.util.List;
+
+/**
+ * Holds one page of an audit trail.
+ * Importance: Pairs the page entries with the cursor for the next page.
+ * Alternatives: Return entries and compute the cursor in the controller.
+ */
+public class AuditTrailPage {
+    private final List<AuditLogEntryResponse> entries;
+    private final String nextCursor;
+
+    /**
+     * Creates an audit trail page.
+     * Importance: Captures page results immutably.
+     * Alternatives: Use a mutable holder.
+     *
+     * @param entries the page entries.
+     * @param nextCursor the next-page cursor, or null on the last page.
+     */
+    public AuditTrailPage(List<AuditLogEntryResponse> entries, String nextCursor) {
+        this.entries = entries;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Returns the page entries.
+     * Importance: Provides entries in creation order.
+     * Alternatives: Return entries newest first.
+     *
+     * @return the entries.
+     */
+    public List<AuditLogEntryResponse> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns the cursor for the next page.
+     * Importance: Lets clients continue the trail without offsets.
+     * Alternatives: Return a total count and page numbers.
+     *
+     * @return the next cursor, or null when no entries remain.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,259 @@
+package com.heritagegraph360.profile.audit;
+
+import com.heritagegraph360.profile.api.AuditLogEntryResponse;
+import com.heritagegraph360.profile.config.AuditTrailProperties;
+import com.heritagegraph360.profile.domain.AuditLogEntity;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reads audit trails with keyset pagination or a streaming JDBC cursor.
+ * Importance: Keeps memory per request bounded regardless of how long a profile's history is.
+ * Alternatives: Load the whole trail through the JPA repository.
+ */
+@Component
+public class AuditTrailReader {
+    private static final String SELECT_TRAIL =
+        "SELECT audit_id, action, details, created_at FROM audit_logs WHERE tenant_id = ? AND entity_id = ?";
+    private static final String AFTER_CURSOR = " AND (created_at, audit_id) > (?, ?)";
+    private static final String OUTSIDE_RANGE = " AND NOT (created_at >= ? AND created_at < ?)";
+    private static final String ORDER = " ORDER BY created_at, audit_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AuditSegmentStore segmentStore;
+    private final AuditTrailProperties properties;
+
+    /**
+     * Creates the audit trail reader.
+     * Importance: Connects audit queries to hot and cold audit storage.
+     * Alternatives: Use a separate audit query service.
+     *
+     * @param jdbcTemplate the JDBC template.
+     * @param transactionManager the transaction manager used for cursor reads.
+     * @param segmentStore the cold segment store.
+     * @param properties the audit trail properties.
+     */
+    public AuditTrailReader(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            AuditSegmentStore segmentStore,
+                            AuditTrailProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.segmentStore = segmentStore;
+        this.properties = properties;
+    }
+
+    /**
+     * Reads one page of a profile's audit trail.
+     * Importance: Seeks directly to the cursor position in both hot and cold storage.
+     * Alternatives: Use OFFSET pagination.
+     *
+     * @param tenantId the tenant identifier.
+     * @param entityId the profile identifier.
+     * @param after the cursor from the previous page, or null for the first page.
+     * @param limit the requested page size, or null for the default.
+     * @return the page.
+     */
+    public AuditTrailPage page(String tenantId, UUID entityId, AuditCursor after, Integer limit) {
+        int pageSize = limit == null ? properties.getDefaultPageSize() : limit;
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        int limitRows = Math.min(pageSize, properties.getMaxPageSize());
+        List<AuditLogEntryResponse> entries = new ArrayList<>(Math.min(limitRows, 1024));
+        AuditCursor[] last = new AuditCursor[1];
+        boolean[] more = new boolean[1];
+        readTrail(tenantId, entityId, after, limitRows + 1, (createdAt, auditId, entry) -> {
+            if (entries.size() < limitRows) {
+                entries.add(entry);
+                last[0] = new AuditCursor(createdAt, auditId);
+                return true;
+            }
+            more[0] = true;
+            return false;
+        });
+        String nextCursor = more[0] ? last[0].encode() : null;
+        return new AuditTrailPage(entries, nextCursor);
+    }
+
+    /**
+     * Streams a profile's audit trail from a server-side cursor.
+     * Importance: Hands entries to the consumer as rows arrive so memory stays constant.
+     * Alternatives: Page internally and concatenate pages.
+     *
+     * @param tenantId the tenant identifier.
+     * @param entityId the profile identifier.
+     * @param after an optional cursor to resume after.
+     * @param consumer receives entries in creation order.
+     * @return the number of entries streamed.
+     */
+    public long stream(String tenantId, UUID entityId, AuditCursor after, Consumer<AuditLogEntryResponse> consumer) {
+        long[] count = new long[1];
+        readOnlyTransaction.executeWithoutResult(status -> readTrail(tenantId, entityId, after, 0,
+            (createdAt, auditId, entry) -> {
+                consumer.accept(entry);
+                count[0]++;
+                return true;
+            }));
+        return count[0];
+    }
+
+    /**
+     * Merges cold segment rows with hot rows in (created_at, audit_id) order.
+     * Importance: Clients see one continuous trail no matter where each entry is stored.
+     * Alternatives: Return cold and hot history from separate endpoints.
+     *
+     * @param tenantId the tenant identifier.
+     * @param entityId the profile identifier.
+     * @param after the cursor, or null.
+     * @param limit the maximum rows to read, or 0 to stream without a limit.
+     * @param sink receives merged entries until it returns false.
+     */
+    private void readTrail(String tenantId, UUID entityId, AuditCursor after, int limit, TrailSink sink) {
+        AuditSegmentStore.Snapshot cold = segmentStore.snapshot();
+        List<Instant[]> covered = cold.coveredRanges();
+        Iterator<AuditLogEntity> coldRows = cold.trail(tenantId, entityId, after);
+        AuditLogEntity[] head = {coldRows.hasNext() ? coldRows.next() : null};
+        boolean[] open = {true};
+        String sql = sql(after, covered.size()) + (limit > 0 ? " LIMIT ?" : "");
+        jdbcTemplate.query(sql,
+            ps -> {
+                if (limit == 0) {
+                    ps.setFetchSize(properties.getStreamFetchSize());
+                }
+                int index = bind(ps, tenantId, entityId, after, covered);
+                if (limit > 0) {
+                    ps.setInt(index, limit);
+                }
+            },
+            rs -> {
+                if (!open[0]) {
+                    return;
+                }
+                UUID auditId = rs.getObject(1, UUID.class);
+                Instant createdAt = rs.getTimestamp(4).toInstant();
+                while (open[0] && head[0] != null && precedes(head[0], createdAt, auditId)) {
+                    open[0] = emit(head[0], sink);
+                    head[0] = coldRows.hasNext() ? coldRows.next() : null;
+                }
+                if (open[0]) {
+                    open[0] = sink.accept(createdAt, auditId, new AuditLogEntryResponse(
+                        auditId.toString(), rs.getString(2), rs.getString(3), createdAt.toString()));
+                }
+            });
+        while (open[0] && head[0] != null) {
+            open[0] = emit(head[0], sink);
+            head[0] = coldRows.hasNext() ? coldRows.next() : null;
+        }
+    }
+
+    /**
+     * Builds the hot trail query.
+     * Importance: Adds the keyset predicate when resuming and excludes ranges served from segments.
+     * Alternatives: Filter duplicates in Java.
+     *
+     * @param after the cursor, or null.
+     * @param coveredRanges the number of cold ranges to exclude.
+     * @return the SQL text without a limit.
+     */
+    private String sql(AuditCursor after, int coveredRanges) {
+        StringBuilder sql = new StringBuilder(SELECT_TRAIL);
+        if (after != null) {
+            sql.append(AFTER_CURSOR);
+        }
+        for (int i = 0; i < coveredRanges; i++) {
+            sql.append(OUTSIDE_RANGE);
+        }
+        return sql.append(ORDER).toString();
+    }
+
+    /**
+     * Binds the tenant, profile, cursor, and covered-range parameters.
+     * Importance: Shares parameter order between paged and streamed reads.
+     * Alternatives: Duplicate binding per query.
+     *
+     * @param ps the prepared statement.
+     * @param tenantId the tenant identifier.
+     * @param entityId the profile identifier.
+     * @param after the cursor, or null.
+     * @param covered the cold ranges to exclude.
+     * @return the next parameter index.
+     * @throws SQLException when binding fails.
+     */
+    private int bind(PreparedStatement ps, String tenantId, UUID entityId, AuditCursor after,
+                     List<Instant[]> covered) throws SQLException {
+        int index = 1;
+        ps.setString(index++, tenantId);
+        ps.setObject(index++, entityId);
+        if (after != null) {
+            ps.setTimestamp(index++, Timestamp.from(after.getCreatedAt()));
+            ps.setObject(index++, after.getAuditId());
+        }
+        for (Instant[] range : covered) {
+            ps.setTimestamp(index++, Timestamp.from(range[0]));
+            ps.setTimestamp(index++, Timestamp.from(range[1]));
+        }
+        return index;
+    }
+
+    /**
+     * Checks whether a cold row sorts before a hot row.
+     * Importance: Uses the same unsigned uuid order as PostgreSQL for ties.
+     * Alternatives: Use UUID.compareTo.
+     *
+     * @param cold the cold row.
+     * @param createdAt the hot row creation time.
+     * @param auditId the hot row audit identifier.
+     * @return true when the cold row comes first.
+     */
+    private static boolean precedes(AuditLogEntity cold, Instant createdAt, UUID auditId) {
+        return AuditSegmentFormat.comparePosition(AuditSegmentFormat.micros(cold.getCreatedAt()), cold.getAuditId(),
+            AuditSegmentFormat.micros(createdAt), auditId) < 0;
+    }
+
+    /**
+     * Hands a cold row to the sink.
+     * Importance: Maps cold rows to the same response shape as hot rows.
+     * Alternatives: Map cold rows inside the segment reader.
+     *
+     * @param cold the cold row.
+     * @param sink the sink.
+     * @return whether the sink wants more entries.
+     */
+    private static boolean emit(AuditLogEntity cold, TrailSink sink) {
+        return sink.accept(cold.getCreatedAt(), cold.getAuditId(), new AuditLogEntryResponse(
+            cold.getAuditId().toString(), cold.getAction(), cold.getDetails(), cold.getCreatedAt().toString()));
+    }
+
+    /**
+     * Receives merged trail entries.
+     * Importance: Lets paging stop early while streaming consumes everything.
+     * Alternatives: Collect entries into a list first.
+     */
+    private interface TrailSink {
+        /**
+         * Accepts one entry.
+         * Importance: Carries the keyset alongside the mapped entry for cursor generation.
+         * Alternatives: Parse the keyset back from the entry.
+         *
+         * @param createdAt the entry creation time.
+         * @param auditId the entry audit identifier.
+         * @param entry the mapped entry.
+         * @return true to receive more entries.
+         */
+        boolean accept(Instant createdAt, UUID auditId, AuditLogEntryResponse entry);
+    }
+}
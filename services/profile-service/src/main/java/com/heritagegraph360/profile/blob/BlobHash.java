@@ -0,0 +1,152 @@
+package com.heritagegraph360.profile.blob;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Identifies a blob by the SHA-256 digest of its bytes.
+ * Importance: Makes identical scans from any tenant resolve to one stored copy.
+ * Alternatives: Key blobs by evidence identifier and store duplicates.
+ */
+public final class BlobHash {
+    /**
+     * Number of bytes in a SHA-256 digest.
+     * Importance: Fixes the width of hashes in segment headers and index files.
+     * Alternatives: Support several digest algorithms.
+     */
+    public static final int BYTES = 32;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final byte[] digest;
+    private final int hashCode;
+
+    /**
+     * Creates a hash from digest bytes it takes ownership of.
+     * Importance: Avoids copying on the hot index paths.
+     * Alternatives: Copy defensively.
+     *
+     * @param digest the 32 digest bytes.
+     */
+    private BlobHash(byte[] digest) {
+        this.digest = digest;
+        this.hashCode = Arrays.hashCode(digest);
+    }
+
+    /**
+     * Wraps a computed SHA-256 digest.
+     * Importance: Converts MessageDigest output into an index key.
+     * Alternatives: Use the hex string as the key.
+     *
+     * @param digest the digest bytes.
+     * @return the hash.
+     */
+    public static BlobHash of(byte[] digest) {
+        if (digest.length != BYTES) {
+            throw new IllegalArgumentException("SHA-256 digest must be " + BYTES + " bytes");
+        }
+        return new BlobHash(digest.clone());
+    }
+
+    /**
+     * Parses a hex-encoded SHA-256 digest, in either case.
+     * Importance: Validates hashes supplied in URLs and headers.
+     * Alternatives: Accept base64 digests.
+     *
+     * @param hex the 64 hex characters.
+     * @return the hash.
+     */
+    public static BlobHash parse(String hex) {
+        if (hex == null || hex.length() != BYTES * 2) {
+            throw new IllegalArgumentException("SHA-256 hash must be 64 hex characters");
+        }
+        byte[] digest = new byte[BYTES];
+        for (int i = 0; i < BYTES; i++) {
+            int high = Character.digit(hex.charAt(i * 2), 16);
+            int low = Character.digit(hex.charAt(i * 2 + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new IllegalArgumentException("SHA-256 hash must be 64 hex characters");
+            }
+            digest[i] = (byte) ((high << 4) | low);
+        }
+        return new BlobHash(digest);
+    }
+
+    /**
+     * Reads a hash from the buffer's current position.
+     * Importance: Decodes segment headers and index entries.
+     * Alternatives: Store hashes as hex text.
+     *
+     * @param buffer the buffer to read from.
+     * @return the hash.
+     */
+    static BlobHash read(ByteBuffer buffer) {
+        byte[] digest = new byte[BYTES];
+        buffer.get(digest);
+        return new BlobHash(digest);
+    }
+
+    /**
+     * Writes the digest at the buffer's current position.
+     * Importance: Encodes segment headers and index entries.
+     * Alternatives: Store hashes as hex text.
+     *
+     * @param buffer the buffer to write to.
+     */
+    void writeTo(ByteBuffer buffer) {
+        buffer.put(digest);
+    }
+
+    /**
+     * Returns the lowercase hex form of the digest.
+     * Importance: Matches the form stored in ownership records and returned to clients.
+     * Alternatives: Return base64.
+     *
+     * @return the 64-character hex string.
+     */
+    public String toHex() {
+        char[] chars = new char[BYTES * 2];
+        for (int i = 0; i < BYTES; i++) {
+            chars[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[digest[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Compares digests byte for byte.
+     * Importance: Supports use as an index key.
+     * Alternatives: Compare hex strings.
+     *
+     * @param other the other object.
+     * @return true when the digests match.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof BlobHash && Arrays.equals(digest, ((BlobHash) other).digest);
+    }
+
+    /**
+     * Returns the cached digest hash code.
+     * Importance: Keeps index lookups from rehashing 32 bytes.
+     * Alternatives: Compute on every call.
+     *
+     * @return the hash code.
+     */
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * Returns the hex form of the digest.
+     * Importance: Makes hashes readable in logs.
+     * Alternatives: Use the default object representation.
+     *
+     * @return the hex string.
+     */
+    @Override
+    public String toString() {
+        return toHex();
+    }
+}
@@ -0,0 +1,107 @@
+package com.heritagegraph360.profile.blob;
+
+/**
+ * Points at a blob's bytes inside a segment file.
+ * Importance: Is the value of the in-memory index, so a read costs one map lookup and one transfer.
+ * Alternatives: Look blobs up in an on-disk B-tree.
+ */
+public final class BlobLocation {
+    private final int segmentId;
+    private final long offset;
+    private final long length;
+    private volatile long touchedAtMillis;
+    private boolean removed;
+
+    /**
+     * Creates a location.
+     * Importance: Records where an appended or loaded blob lives.
+     * Alternatives: Store the segment path instead of its identifier.
+     *
+     * @param segmentId the segment identifier.
+     * @param offset the offset of the blob's first byte.
+     * @param length the blob length in bytes.
+     * @param touchedAtMillis when the blob was last written or deduplicated.
+     */
+    BlobLocation(int segmentId, long offset, long length, long touchedAtMillis) {
+        this.segmentId = segmentId;
+        this.offset = offset;
+        this.length = length;
+        this.touchedAtMillis = touchedAtMillis;
+    }
+
+    /**
+     * Returns the segment identifier.
+     * Importance: Selects the segment file to read from.
+     * Alternatives: Hold a direct segment reference.
+     *
+     * @return the segment identifier.
+     */
+    int segmentId() {
+        return segmentId;
+    }
+
+    /**
+     * Returns the offset of the blob's first byte.
+     * Importance: Positions the transfer inside the segment.
+     * Alternatives: Store the header offset and skip it on read.
+     *
+     * @return the byte offset.
+     */
+    long offset() {
+        return offset;
+    }
+
+    /**
+     * Returns the blob length.
+     * Importance: Sets the response Content-Length before streaming.
+     * Alternatives: Use chunked responses.
+     *
+     * @return the length in bytes.
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Returns when the blob was last written or deduplicated.
+     * Importance: Keeps compaction from dropping a blob whose owner record is still being written.
+     * Alternatives: Write owner records before blobs.
+     *
+     * @return epoch milliseconds.
+     */
+    long touchedAtMillis() {
+        return touchedAtMillis;
+    }
+
+    /**
+     * Marks the blob as written again unless compaction already dropped it.
+     * Importance: Deduplicated uploads must not reuse a location that is about to disappear.
+     * Alternatives: Hold a store-wide lock during compaction.
+     *
+     * @param nowMillis the current time.
+     * @return true when the location is still live.
+     */
+    synchronized boolean touch(long nowMillis) {
+        if (removed) {
+            return false;
+        }
+        touchedAtMillis = nowMillis;
+        return true;
+    }
+
+    /**
+     * Marks the location as dropped unless it was touched within the grace period.
+     * Importance: Pairs with {@link #touch(long)} so a drop and a deduplicated upload cannot interleave.
+     * Alternatives: Hold a store-wide lock during compaction.
+     *
+     * @param keepAfterMillis locations touched after this time are kept.
+     * @return true when the location was dropped.
+     */
+    synchronized boolean remove(long keepAfterMillis) {
+        if (touchedAtMillis > keepAfterMillis) {
+            return false;
+        }
+        removed = true;
+        return true;
+    }
+}
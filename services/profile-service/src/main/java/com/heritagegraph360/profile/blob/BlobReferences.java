@@ -0,0 +1,22 @@
+package com.heritagegraph360.profile.blob;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Reports which blobs are still owned by at least one tenant.
+ * Importance: Lets compaction reclaim space from deleted evidence without the store knowing about tenants.
+ * Alternatives: Keep reference counts inside the segment files.
+ */
+@FunctionalInterface
+public interface BlobReferences {
+    /**
+     * Returns the subset of hashes that still have an owner.
+     * Importance: Blobs outside the result are dead once their grace period has passed.
+     * Alternatives: Check one hash at a time.
+     *
+     * @param hashes the hashes to check.
+     * @return the owned hashes.
+     */
+    Set<BlobHash> referenced(Collection<BlobHash> hashes);
+}
@@ -0,0 +1,556 @@
+package com.heritagegraph360.profile.blob;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Manages one append-only segment file of concatenated blobs and its sealed index.
+ * Importance: Packs many scans into a few large files and serves sealed ones from a read-only memory mapping.
+ * Alternatives: Store one file per blob, which costs an inode and an open per read.
+ */
+final class BlobSegment {
+    /**
+     * File name suffix for segment files.
+     * Importance: Distinguishes segments from index, lock, and spool files.
+     * Alternatives: Keep segments in their own directory.
+     */
+    static final String SUFFIX = ".seg";
+
+    /**
+     * Header bytes written before each blob: magic, SHA-256 digest, and length.
+     * Importance: Lets an unsealed segment be rebuilt by walking headers after a crash.
+     * Alternatives: Journal index entries separately.
+     */
+    static final int HEADER_BYTES = 4 + BlobHash.BYTES + 8;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BlobSegment.class);
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final String RETIRED_SUFFIX = ".retired";
+    private static final int RECORD_MAGIC = 0x48474231;
+    private static final int INDEX_MAGIC = 0x48474249;
+    private static final int INDEX_ENTRY_BYTES = BlobHash.BYTES + 16;
+
+    private final int id;
+    private final Path path;
+    private final FileChannel channel;
+    private volatile long size;
+    private volatile boolean sealed;
+    private volatile boolean retired;
+    private volatile MappedByteBuffer mapped;
+
+    /**
+     * Creates a segment over an open channel.
+     * Importance: Shared by the create and load paths.
+     * Alternatives: Open the channel lazily.
+     *
+     * @param id the segment identifier.
+     * @param path the segment file.
+     * @param channel the open channel.
+     * @param size the valid length of the file.
+     * @param sealed whether the segment has an index and accepts no appends.
+     */
+    private BlobSegment(int id, Path path, FileChannel channel, long size, boolean sealed) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.size = size;
+        this.sealed = sealed;
+    }
+
+    /**
+     * Creates an empty segment file.
+     * Importance: Starts a new active segment when the previous one is sealed.
+     * Alternatives: Preallocate the full segment size.
+     *
+     * @param directory the store directory.
+     * @param id the segment identifier.
+     * @return the segment.
+     * @throws IOException when the file cannot be created.
+     */
+    static BlobSegment create(Path directory, int id) throws IOException {
+        Path path = directory.resolve(fileName(id));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        return new BlobSegment(id, path, channel, 0, false);
+    }
+
+    /**
+     * Opens an existing segment file.
+     * Importance: Sealed segments open read-only; unsealed ones reopen for appends and are repaired by a header walk.
+     * Alternatives: Rebuild every segment from headers on startup.
+     *
+     * @param path the segment file.
+     * @return the segment.
+     * @throws IOException when the file cannot be read.
+     */
+    static BlobSegment open(Path path) throws IOException {
+        int id = idOf(path);
+        boolean sealed = Files.exists(indexPath(path));
+        FileChannel channel = sealed
+            ? FileChannel.open(path, StandardOpenOption.READ)
+            : FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new BlobSegment(id, path, channel, channel.size(), sealed);
+    }
+
+    /**
+     * Returns the segment file name for an identifier.
+     * Importance: Zero padding keeps directory listings in append order.
+     * Alternatives: Use timestamps.
+     *
+     * @param id the segment identifier.
+     * @return the file name.
+     */
+    static String fileName(int id) {
+        return String.format("%08d%s", id, SUFFIX);
+    }
+
+    /**
+     * Parses the identifier from a segment file name.
+     * Importance: Orders segments so later copies of a blob win on load.
+     * Alternatives: Record identifiers in a manifest.
+     *
+     * @param path the segment file.
+     * @return the identifier.
+     * @throws IOException when the name is not a segment name.
+     */
+    static int idOf(Path path) throws IOException {
+        String name = path.getFileName().toString();
+        try {
+            return Integer.parseInt(name.substring(0, name.length() - SUFFIX.length()));
+        } catch (RuntimeException ex) {
+            throw new IOException("Unexpected blob segment name " + name, ex);
+        }
+    }
+
+    /**
+     * Returns whether a file is a retired segment awaiting deletion.
+     * Importance: Retired segments left by a crash are deleted at startup.
+     * Alternatives: Track retirement in a manifest.
+     *
+     * @param path the file.
+     * @return true for retired segments.
+     */
+    static boolean isRetired(Path path) {
+        return path.getFileName().toString().endsWith(SUFFIX + RETIRED_SUFFIX);
+    }
+
+    /**
+     * Returns the blobs stored in the segment.
+     * Importance: Sealed segments read their index; the active one walks headers and truncates a torn tail.
+     * Alternatives: Keep entry lists in memory for every segment.
+     *
+     * @return the entries in file order.
+     * @throws IOException when the segment or its index is corrupt.
+     */
+    List<Entry> entries() throws IOException {
+        return sealed ? readIndex() : scan(true);
+    }
+
+    /**
+     * Appends a blob copied from another channel.
+     * Importance: Moves spooled uploads and compacted blobs with in-kernel transfers instead of heap buffers.
+     * Alternatives: Stream through a byte array.
+     *
+     * @param hash the blob hash.
+     * @param source the channel holding the bytes.
+     * @param position the first source byte.
+     * @param length the blob length.
+     * @return the offset of the blob's first byte in this segment.
+     * @throws IOException when the write fails.
+     */
+    long append(BlobHash hash, FileChannel source, long position, long length) throws IOException {
+        if (sealed) {
+            throw new IllegalStateException("Blob segment " + id + " is sealed");
+        }
+        long start = size;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(RECORD_MAGIC);
+        hash.writeTo(header);
+        header.putLong(length);
+        header.flip();
+        writeFully(header, start);
+        long offset = start + HEADER_BYTES;
+        channel.position(offset);
+        long copied = 0;
+        while (copied < length) {
+            long transferred = source.transferTo(position + copied, length - copied, channel);
+            if (transferred <= 0) {
+                throw new IOException("Source ended before " + length + " bytes were copied");
+            }
+            copied += transferred;
+        }
+        size = offset + length;
+        return offset;
+    }
+
+    /**
+     * Flushes appended bytes to disk.
+     * Importance: Acknowledged uploads survive a crash.
+     * Alternatives: Rely on the page cache writeback.
+     *
+     * @throws IOException when the flush fails.
+     */
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * Flushes the segment and writes its index file.
+     * Importance: The index lets restarts load the segment without reading it, and marks it immutable for mapping.
+     * Alternatives: Walk headers of every segment on startup.
+     *
+     * @throws IOException when the index cannot be written.
+     */
+    void seal() throws IOException {
+        if (sealed) {
+            return;
+        }
+        force();
+        List<Entry> entries = scan(false);
+        ByteBuffer buffer = ByteBuffer.allocate(8 + entries.size() * INDEX_ENTRY_BYTES);
+        buffer.putInt(INDEX_MAGIC).putInt(entries.size());
+        for (Entry entry : entries) {
+            entry.hash.writeTo(buffer);
+            buffer.putLong(entry.offset).putLong(entry.length);
+        }
+        buffer.flip();
+        Path index = indexPath(path);
+        Path temp = index.resolveSibling(index.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        }
+        Files.move(temp, index, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        sealed = true;
+    }
+
+    /**
+     * Writes a blob's bytes to a channel.
+     * Importance: Sealed segments write straight from the mapping; the active segment uses FileChannel.transferTo.
+     * Alternatives: Read into a heap buffer and copy to the response.
+     *
+     * @param offset the blob's first byte.
+     * @param length the blob length.
+     * @param target the destination channel.
+     * @throws IOException when the transfer fails.
+     */
+    void transferTo(long offset, long length, WritableByteChannel target) throws IOException {
+        if (sealed) {
+            ByteBuffer slice = mapped().duplicate();
+            slice.position((int) offset).limit((int) (offset + length));
+            while (slice.hasRemaining()) {
+                target.write(slice);
+            }
+            return;
+        }
+        long sent = 0;
+        while (sent < length) {
+            long transferred = channel.transferTo(offset + sent, length - sent, target);
+            if (transferred <= 0) {
+                throw new IOException("Blob segment " + id + " ended before the blob was read");
+            }
+            sent += transferred;
+        }
+    }
+
+    /**
+     * Renames the segment so it is no longer loaded, leaving the open channel readable.
+     * Importance: Reads that located a blob before compaction moved it still complete.
+     * Alternatives: Delete immediately and fail in-flight reads.
+     *
+     * @throws IOException when the rename fails.
+     */
+    void retire() throws IOException {
+        retired = true;
+        Files.move(path, path.resolveSibling(path.getFileName() + RETIRED_SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+        Files.deleteIfExists(indexPath(path));
+    }
+
+    /**
+     * Closes the channel and deletes the retired file.
+     * Importance: Releases disk space once no read can still reference the segment.
+     * Alternatives: Keep retired files until restart.
+     *
+     * @throws IOException when the file cannot be deleted.
+     */
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path.resolveSibling(path.getFileName() + RETIRED_SUFFIX));
+    }
+
+    /**
+     * Closes the segment channel.
+     * Importance: Releases file handles on shutdown; mappings are released when collected.
+     * Alternatives: Unmap with internal JDK APIs.
+     *
+     * @throws IOException when the channel cannot be closed.
+     */
+    void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Returns the segment identifier.
+     * Importance: Referenced by index locations.
+     * Alternatives: Reference segments by path.
+     *
+     * @return the identifier.
+     */
+    int id() {
+        return id;
+    }
+
+    /**
+     * Returns the valid length of the segment.
+     * Importance: Drives rollover and the dead-byte ratio.
+     * Alternatives: Query the channel size.
+     *
+     * @return the size in bytes.
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the segment accepts no more appends.
+     * Importance: Only sealed segments are mapped and compacted.
+     * Alternatives: Compact the active segment too.
+     *
+     * @return true when sealed.
+     */
+    boolean sealed() {
+        return sealed;
+    }
+
+    /**
+     * Returns whether compaction has retired the segment.
+     * Importance: Keeps retired segments out of later compaction runs.
+     * Alternatives: Remove them from the segment map immediately.
+     *
+     * @return true when retired.
+     */
+    boolean retired() {
+        return retired;
+    }
+
+    /**
+     * Returns the channel for copying blobs out during compaction.
+     * Importance: Lets live blobs move with a kernel transfer.
+     * Alternatives: Copy through {@link #transferTo(long, long, WritableByteChannel)}.
+     *
+     * @return the channel.
+     */
+    FileChannel channel() {
+        return channel;
+    }
+
+    /**
+     * Maps the sealed segment on first read.
+     * Importance: One mapping per segment serves every later read from the page cache.
+     * Alternatives: Map each blob region per request.
+     *
+     * @return the read-only mapping.
+     * @throws IOException when the mapping fails.
+     */
+    private MappedByteBuffer mapped() throws IOException {
+        MappedByteBuffer buffer = mapped;
+        if (buffer == null) {
+            synchronized (this) {
+                buffer = mapped;
+                if (buffer == null) {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                    mapped = buffer;
+                }
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Walks blob headers from the start of the file.
+     * Importance: Recovers the entry list of a segment that was not sealed.
+     * Alternatives: Journal index entries separately.
+     *
+     * @param repair whether to truncate a torn tail instead of failing.
+     * @return the entries in file order.
+     * @throws IOException when the file is corrupt and repair is off.
+     */
+    private List<Entry> scan(boolean repair) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        long limit = size;
+        long position = 0;
+        while (position + HEADER_BYTES <= limit) {
+            header.clear();
+            readFully(header, position);
+            header.flip();
+            if (header.getInt() != RECORD_MAGIC) {
+                break;
+            }
+            BlobHash hash = BlobHash.read(header);
+            long length = header.getLong();
+            if (length < 0 || position + HEADER_BYTES + length > limit) {
+                break;
+            }
+            entries.add(new Entry(hash, position + HEADER_BYTES, length));
+            position += HEADER_BYTES + length;
+        }
+        if (position < limit) {
+            if (!repair || sealed) {
+                throw new IOException("Blob segment " + path.getFileName() + " is corrupt at offset " + position);
+            }
+            LOGGER.warn("Truncating torn tail of blob segment {} from {} to {} bytes", path.getFileName(), limit,
+                position);
+            channel.truncate(position);
+            channel.force(true);
+            size = position;
+        }
+        return entries;
+    }
+
+    /**
+     * Reads the sealed index file.
+     * Importance: Loads a sealed segment without touching its data.
+     * Alternatives: Walk headers.
+     *
+     * @return the entries in file order.
+     * @throws IOException when the index is corrupt.
+     */
+    private List<Entry> readIndex() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(indexPath(path)));
+        if (buffer.remaining() < 8 || buffer.getInt() != INDEX_MAGIC) {
+            throw new IOException("Blob index for " + path.getFileName() + " has an invalid header");
+        }
+        int count = buffer.getInt();
+        if (count < 0 || buffer.remaining() != (long) count * INDEX_ENTRY_BYTES) {
+            throw new IOException("Blob index for " + path.getFileName() + " is truncated");
+        }
+        List<Entry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(new Entry(BlobHash.read(buffer), buffer.getLong(), buffer.getLong()));
+        }
+        return entries;
+    }
+
+    /**
+     * Writes a buffer at an absolute position.
+     * Importance: Positional writes leave concurrent positional reads unaffected.
+     * Alternatives: Write through the channel position.
+     *
+     * @param buffer the bytes.
+     * @param position the file position.
+     * @throws IOException when the write fails.
+     */
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        long at = position;
+        while (buffer.hasRemaining()) {
+            at += channel.write(buffer, at);
+        }
+    }
+
+    /**
+     * Fills a buffer from an absolute position.
+     * Importance: Reads headers without moving the append position.
+     * Alternatives: Read through the channel position.
+     *
+     * @param buffer the buffer to fill.
+     * @param position the file position.
+     * @throws IOException when the file ends early.
+     */
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        long at = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, at);
+            if (read < 0) {
+                throw new IOException("Blob segment " + path.getFileName() + " ended at offset " + at);
+            }
+            at += read;
+        }
+    }
+
+    /**
+     * Returns the index file that marks a segment as sealed.
+     * Importance: Keeps the naming rule in one place.
+     * Alternatives: Store all indexes in one file.
+     *
+     * @param segment the segment file.
+     * @return the index path.
+     */
+    private static Path indexPath(Path segment) {
+        String name = segment.getFileName().toString();
+        return segment.resolveSibling(name.substring(0, name.length() - SUFFIX.length()) + INDEX_SUFFIX);
+    }
+
+    /**
+     * Describes one blob stored in a segment.
+     * Importance: Carries index entries between files and the in-memory index.
+     * Alternatives: Return parallel arrays.
+     */
+    static final class Entry {
+        private final BlobHash hash;
+        private final long offset;
+        private final long length;
+
+        /**
+         * Creates an entry.
+         * Importance: Captures one header or index record.
+         * Alternatives: Use a map entry.
+         *
+         * @param hash the blob hash.
+         * @param offset the blob's first byte.
+         * @param length the blob length.
+         */
+        Entry(BlobHash hash, long offset, long length) {
+            this.hash = hash;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        /**
+         * Returns the blob hash.
+         * Importance: Keys the in-memory index.
+         * Alternatives: Store hex strings.
+         *
+         * @return the hash.
+         */
+        BlobHash hash() {
+            return hash;
+        }
+
+        /**
+         * Returns the blob's first byte.
+         * Importance: Builds the location served to reads.
+         * Alternatives: Store header offsets.
+         *
+         * @return the offset.
+         */
+        long offset() {
+            return offset;
+        }
+
+        /**
+         * Returns the blob length.
+         * Importance: Builds the location served to reads.
+         * Alternatives: Derive it from the next entry.
+         *
+         * @return the length in bytes.
+         */
+        long length() {
+            return length;
+        }
+    }
+}
@@ -0,0 +1,546 @@
+package com.heritagegraph360.profile.blob;
+
+import com.heritagegraph360.profile.config.BlobStoreProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores evidence scans by SHA-256 in append-only segment files with an in-memory index.
+ * Importance: Keeps one copy of each scan however many tenants upload it, and serves reads without heap copies.
+ * Alternatives: Store scans in GridFS or an external object store.
+ */
+@Component
+public class BlobStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BlobStore.class);
+    private static final String LOCK_FILE = ".lock";
+    private static final String SPOOL_DIRECTORY = "spool";
+    private static final int SPOOL_BUFFER_BYTES = 65536;
+
+    private final BlobStoreProperties properties;
+    private final Map<BlobHash, BlobLocation> index = new ConcurrentHashMap<>();
+    private final Map<Integer, BlobSegment> segments = new ConcurrentHashMap<>();
+    private final List<BlobSegment> retired = new ArrayList<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Counter storedCounter;
+    private final Counter deduplicatedCounter;
+    private final Counter rejectedCounter;
+    private final Counter reclaimedBytes;
+    private Path directory;
+    private FileChannel lockChannel;
+    private FileLock lock;
+    private volatile BlobSegment active;
+    private volatile boolean open;
+
+    /**
+     * Creates the blob store and registers its metrics.
+     * Importance: Exposes stored bytes, dedupe hits, and reclaimed space on the Prometheus endpoint.
+     * Alternatives: Leave blob storage unmonitored.
+     *
+     * @param properties the blob store properties.
+     * @param meterRegistry the metrics registry.
+     */
+    public BlobStore(BlobStoreProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.storedCounter = writes(meterRegistry, "stored");
+        this.deduplicatedCounter = writes(meterRegistry, "deduplicated");
+        this.rejectedCounter = writes(meterRegistry, "rejected");
+        this.reclaimedBytes = Counter.builder("blob.store.compaction.reclaimed.bytes")
+            .description("Segment bytes freed by blob compaction")
+            .register(meterRegistry);
+        Gauge.builder("blob.store.blobs", index, Map::size)
+            .description("Distinct blobs in the evidence blob index")
+            .register(meterRegistry);
+        Gauge.builder("blob.store.segments", segments, Map::size)
+            .description("Evidence blob segment files open")
+            .register(meterRegistry);
+        Gauge.builder("blob.store.bytes", this, BlobStore::totalBytes)
+            .description("Size of evidence blob segment files")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Opens the store when enabled.
+     * Importance: Loads the index before the first request is served.
+     * Alternatives: Open lazily on first upload.
+     *
+     * @throws IOException when the directory or a segment cannot be read.
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        if (properties.isEnabled()) {
+            open();
+        }
+    }
+
+    /**
+     * Locks the directory, loads every segment, and selects the active segment.
+     * Importance: Rebuilds the index from sealed index files and repairs a segment torn by a crash.
+     * Alternatives: Persist the whole index in one file.
+     *
+     * @throws IOException when the directory or a segment cannot be read.
+     */
+    synchronized void open() throws IOException {
+        if (open) {
+            return;
+        }
+        if (properties.getMaxSegmentBytes() <= BlobSegment.HEADER_BYTES
+            || properties.getMaxSegmentBytes() > Integer.MAX_VALUE) {
+            throw new IllegalStateException("app.blob-store.max-segment-bytes must be at most 2 GiB");
+        }
+        if (properties.getMaxBlobBytes() > properties.getMaxSegmentBytes() - BlobSegment.HEADER_BYTES) {
+            throw new IllegalStateException("app.blob-store.max-blob-bytes must fit in one segment");
+        }
+        directory = Paths.get(properties.getDirectory());
+        Files.createDirectories(directory.resolve(SPOOL_DIRECTORY));
+        lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE);
+        lock = lockChannel.tryLock();
+        if (lock == null) {
+            lockChannel.close();
+            throw new IllegalStateException("Blob store " + directory + " is locked by another process");
+        }
+        clearDirectory(directory.resolve(SPOOL_DIRECTORY), "*");
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> listing = Files.newDirectoryStream(directory, "*" + BlobSegment.SUFFIX + "*")) {
+            for (Path file : listing) {
+                if (BlobSegment.isRetired(file)) {
+                    Files.delete(file);
+                } else if (file.getFileName().toString().endsWith(BlobSegment.SUFFIX)) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort(Comparator.comparing(file -> file.getFileName().toString()));
+        long now = System.currentTimeMillis();
+        BlobSegment last = null;
+        for (Path file : files) {
+            if (last != null && !last.sealed()) {
+                last.seal();
+            }
+            BlobSegment segment = BlobSegment.open(file);
+            for (BlobSegment.Entry entry : segment.entries()) {
+                index.put(entry.hash(), new BlobLocation(segment.id(), entry.offset(), entry.length(), now));
+            }
+            segments.put(segment.id(), segment);
+            last = segment;
+        }
+        if (last == null || last.sealed()) {
+            last = BlobSegment.create(directory, last == null ? 1 : last.id() + 1);
+            segments.put(last.id(), last);
+        }
+        active = last;
+        open = true;
+        LOGGER.info("Opened evidence blob store {} with {} blobs in {} segments", directory, index.size(),
+            segments.size());
+    }
+
+    /**
+     * Returns whether the store is open.
+     * Importance: Lets the API answer 404 instead of failing when blob storage is not configured.
+     * Alternatives: Fail application startup.
+     *
+     * @return true when open.
+     */
+    public boolean isEnabled() {
+        return open;
+    }
+
+    /**
+     * Streams an upload to a spool file while hashing it, then appends it unless the hash is already stored.
+     * Importance: The hash is verified before any segment is touched, and slow uploads never hold the append lock.
+     * Alternatives: Trust a client-supplied hash.
+     *
+     * @param body the upload stream.
+     * @param expectedSha256 the hex hash the client declared, or null.
+     * @return the stored hash and size.
+     * @throws IOException when the upload or the append fails.
+     */
+    public BlobWriteResult write(InputStream body, String expectedSha256) throws IOException {
+        requireOpen();
+        BlobHash expected = expectedSha256 == null || expectedSha256.isBlank() ? null : BlobHash.parse(expectedSha256);
+        Path spool = Files.createTempFile(directory.resolve(SPOOL_DIRECTORY), "upload-", ".tmp");
+        try (FileChannel channel = FileChannel.open(spool, StandardOpenOption.READ, StandardOpenOption.WRITE,
+            StandardOpenOption.DELETE_ON_CLOSE)) {
+            MessageDigest digest = sha256();
+            long length = spool(body, channel, digest);
+            BlobHash hash = BlobHash.of(digest.digest());
+            if (expected != null && !expected.equals(hash)) {
+                rejectedCounter.increment();
+                throw new IllegalArgumentException("Upload does not match the declared SHA-256 hash");
+            }
+            boolean stored = append(hash, channel, length);
+            return new BlobWriteResult(hash.toHex(), length, !stored);
+        }
+    }
+
+    /**
+     * Finds where a blob is stored.
+     * Importance: Resolves the length for response headers before streaming.
+     * Alternatives: Open the blob as a stream directly.
+     *
+     * @param hash the blob hash.
+     * @return the location, or empty when the blob is not stored.
+     */
+    public Optional<BlobLocation> locate(BlobHash hash) {
+        requireOpen();
+        return Optional.ofNullable(index.get(hash));
+    }
+
+    /**
+     * Writes a located blob to a channel.
+     * Importance: Sealed segments write from their memory mapping and the active one uses FileChannel.transferTo.
+     * Alternatives: Return a byte array.
+     *
+     * @param location the blob location.
+     * @param target the destination channel.
+     * @throws IOException when the segment is gone or the transfer fails.
+     */
+    public void transferTo(BlobLocation location, WritableByteChannel target) throws IOException {
+        BlobSegment segment = segments.get(location.segmentId());
+        if (segment == null) {
+            throw new IOException("Blob segment " + location.segmentId() + " is no longer available");
+        }
+        segment.transferTo(location.offset(), location.getLength(), target);
+    }
+
+    /**
+     * Rewrites sealed segments whose dead-byte ratio exceeds the threshold and retires them.
+     * Importance: Reclaims space from scans whose evidence was deleted by every owning tenant.
+     * Alternatives: Rewrite the whole store offline.
+     *
+     * @param references the ownership lookup.
+     * @return the segment bytes reclaimed by this run.
+     * @throws IOException when a segment cannot be read or rewritten.
+     */
+    public synchronized long compact(BlobReferences references) throws IOException {
+        if (!open) {
+            return 0;
+        }
+        deleteRetired();
+        long keepAfter = System.currentTimeMillis() - properties.getCompactionGraceMs();
+        List<BlobSegment> candidates = new ArrayList<>();
+        for (BlobSegment segment : segments.values()) {
+            if (segment.sealed() && !segment.retired()) {
+                candidates.add(segment);
+            }
+        }
+        candidates.sort(Comparator.comparingInt(BlobSegment::id));
+        long reclaimed = 0;
+        for (BlobSegment segment : candidates) {
+            reclaimed += compact(segment, references, keepAfter);
+        }
+        reclaimedBytes.increment(reclaimed);
+        return reclaimed;
+    }
+
+    /**
+     * Releases the directory lock and closes every segment.
+     * Importance: Flushes the active segment so acknowledged uploads are on disk.
+     * Alternatives: Rely on process exit.
+     *
+     * @throws IOException when a segment cannot be flushed.
+     */
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (!open) {
+            return;
+        }
+        open = false;
+        appendLock.lock();
+        try {
+            active.force();
+            for (BlobSegment segment : segments.values()) {
+                segment.close();
+            }
+            segments.clear();
+            retired.clear();
+            index.clear();
+            lock.release();
+            lockChannel.close();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Compacts one sealed segment when enough of it is dead.
+     * Importance: Live blobs are copied to the active segment and re-pointed before the old file is retired.
+     * Alternatives: Compact segments in place.
+     *
+     * @param segment the sealed segment.
+     * @param references the ownership lookup.
+     * @param keepAfter blobs touched after this time are kept regardless of ownership.
+     * @return the bytes reclaimed, or 0 when the segment was left alone.
+     * @throws IOException when the segment cannot be read or rewritten.
+     */
+    private long compact(BlobSegment segment, BlobReferences references, long keepAfter) throws IOException {
+        Map<BlobHash, BlobLocation> indexed = new LinkedHashMap<>();
+        for (BlobSegment.Entry entry : segment.entries()) {
+            BlobLocation location = index.get(entry.hash());
+            if (location != null && location.segmentId() == segment.id() && location.offset() == entry.offset()) {
+                indexed.put(entry.hash(), location);
+            }
+        }
+        Set<BlobHash> owned = new HashSet<>();
+        List<BlobHash> batch = new ArrayList<>(properties.getReferenceBatchSize());
+        for (BlobHash hash : indexed.keySet()) {
+            batch.add(hash);
+            if (batch.size() >= properties.getReferenceBatchSize()) {
+                owned.addAll(references.referenced(batch));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            owned.addAll(references.referenced(batch));
+        }
+        long liveBytes = 0;
+        for (Map.Entry<BlobHash, BlobLocation> entry : indexed.entrySet()) {
+            if (owned.contains(entry.getKey()) || entry.getValue().touchedAtMillis() > keepAfter) {
+                liveBytes += BlobSegment.HEADER_BYTES + entry.getValue().getLength();
+            }
+        }
+        long deadBytes = segment.size() - liveBytes;
+        if (deadBytes < properties.getCompactionDeadRatio() * segment.size()) {
+            return 0;
+        }
+        int dropped = 0;
+        for (Map.Entry<BlobHash, BlobLocation> entry : indexed.entrySet()) {
+            BlobLocation location = entry.getValue();
+            if (!owned.contains(entry.getKey()) && location.remove(keepAfter)) {
+                index.remove(entry.getKey(), location);
+                dropped++;
+            } else {
+                relocate(entry.getKey(), location, segment);
+            }
+        }
+        active.force();
+        segment.retire();
+        retired.add(segment);
+        LOGGER.info("Compacted blob segment {}: dropped {} blobs, moved {}, reclaimed {} bytes", segment.id(),
+            dropped, indexed.size() - dropped, deadBytes);
+        return deadBytes;
+    }
+
+    /**
+     * Appends a spooled upload unless an identical live blob is already stored.
+     * Importance: The index check and append happen under one lock, so concurrent identical uploads store one copy.
+     * Alternatives: Let duplicates race and compact them later.
+     *
+     * @param hash the verified hash.
+     * @param source the spool channel.
+     * @param length the blob length.
+     * @return true when new bytes were written.
+     * @throws IOException when the append fails.
+     */
+    private boolean append(BlobHash hash, FileChannel source, long length) throws IOException {
+        appendLock.lock();
+        try {
+            requireOpen();
+            long now = System.currentTimeMillis();
+            BlobLocation existing = index.get(hash);
+            if (existing != null && existing.touch(now)) {
+                deduplicatedCounter.increment();
+                return false;
+            }
+            BlobSegment segment = activeFor(length);
+            long offset = segment.append(hash, source, 0, length);
+            segment.force();
+            index.put(hash, new BlobLocation(segment.id(), offset, length, now));
+            storedCounter.increment();
+            return true;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Copies a live blob out of a segment being compacted and re-points the index.
+     * Importance: Readers switch to the new copy atomically; the old one stays readable until deletion.
+     * Alternatives: Block reads during compaction.
+     *
+     * @param hash the blob hash.
+     * @param location the current location.
+     * @param source the segment being compacted.
+     * @throws IOException when the copy fails.
+     */
+    private void relocate(BlobHash hash, BlobLocation location, BlobSegment source) throws IOException {
+        appendLock.lock();
+        try {
+            BlobSegment target = activeFor(location.getLength());
+            long offset = target.append(hash, source.channel(), location.offset(), location.getLength());
+            index.replace(hash, location,
+                new BlobLocation(target.id(), offset, location.getLength(), location.touchedAtMillis()));
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the active segment, sealing it first when the blob would push it past the size limit.
+     * Importance: Keeps segments within the mappable size.
+     * Alternatives: Let segments grow without bound.
+     *
+     * @param length the blob length about to be appended.
+     * @return the segment to append to.
+     * @throws IOException when sealing or creating a segment fails.
+     */
+    private BlobSegment activeFor(long length) throws IOException {
+        BlobSegment segment = active;
+        if (segment.size() > 0 && segment.size() + BlobSegment.HEADER_BYTES + length > properties.getMaxSegmentBytes()) {
+            segment.seal();
+            segment = BlobSegment.create(directory, segment.id() + 1);
+            segments.put(segment.id(), segment);
+            active = segment;
+        }
+        return segment;
+    }
+
+    /**
+     * Copies the upload to the spool file, hashing and counting as it goes.
+     * Importance: Bounds memory to one buffer and rejects oversized uploads as soon as they cross the limit.
+     * Alternatives: Buffer the upload in memory.
+     *
+     * @param body the upload stream.
+     * @param channel the spool file.
+     * @param digest the SHA-256 digest.
+     * @return the number of bytes spooled.
+     * @throws IOException when reading or writing fails.
+     */
+    private long spool(InputStream body, FileChannel channel, MessageDigest digest) throws IOException {
+        byte[] buffer = new byte[SPOOL_BUFFER_BYTES];
+        ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+        long total = 0;
+        int read;
+        while ((read = body.read(buffer)) != -1) {
+            total += read;
+            if (total > properties.getMaxBlobBytes()) {
+                rejectedCounter.increment();
+                throw new IllegalArgumentException("Blob exceeds the " + properties.getMaxBlobBytes() + " byte limit");
+            }
+            digest.update(buffer, 0, read);
+            wrapped.clear().limit(read);
+            while (wrapped.hasRemaining()) {
+                channel.write(wrapped);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Deletes segments retired by the previous compaction run.
+     * Importance: Waiting one interval lets reads that located a blob in the old segment finish.
+     * Alternatives: Reference-count readers per segment.
+     *
+     * @throws IOException when a file cannot be deleted.
+     */
+    private void deleteRetired() throws IOException {
+        for (BlobSegment segment : retired) {
+            segments.remove(segment.id());
+            segment.delete();
+        }
+        retired.clear();
+    }
+
+    /**
+     * Sums the size of loaded segments.
+     * Importance: Backs the stored-bytes gauge.
+     * Alternatives: Track a running total.
+     *
+     * @return the total size in bytes.
+     */
+    private double totalBytes() {
+        long total = 0;
+        for (BlobSegment segment : segments.values()) {
+            total += segment.size();
+        }
+        return total;
+    }
+
+    /**
+     * Fails when the store is not open.
+     * Importance: Gives a clear error when blob storage is disabled.
+     * Alternatives: Return empty results.
+     */
+    private void requireOpen() {
+        if (!open) {
+            throw new IllegalStateException("Evidence blob store is not enabled");
+        }
+    }
+
+    /**
+     * Deletes leftover files in a directory.
+     * Importance: Removes spool files left by uploads interrupted by a crash.
+     * Alternatives: Let them accumulate.
+     *
+     * @param target the directory.
+     * @param glob the file pattern.
+     * @throws IOException when a file cannot be deleted.
+     */
+    private static void clearDirectory(Path target, String glob) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(target, glob)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Creates a SHA-256 digest.
+     * Importance: Hashes uploads while they stream.
+     * Alternatives: Hash after the upload completes.
+     *
+     * @return the digest.
+     */
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Registers a write outcome counter.
+     * Importance: Separates stored, deduplicated, and rejected uploads.
+     * Alternatives: Use one untagged counter.
+     *
+     * @param meterRegistry the metrics registry.
+     * @param result the result tag.
+     * @return the counter.
+     */
+    private static Counter writes(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("blob.store.writes")
+            .description("Evidence blob uploads by outcome")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
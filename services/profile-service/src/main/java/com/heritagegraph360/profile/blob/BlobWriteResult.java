@@ -0,0 +1,61 @@
+package com.heritagegraph360.profile.blob;
+
+/**
+ * Describes a stored blob.
+ * Importance: Tells uploaders the verified hash to record on their evidence metadata.
+ * Alternatives: Return only a status code.
+ */
+public final class BlobWriteResult {
+    private final String sha256;
+    private final long sizeBytes;
+    private final boolean deduplicated;
+
+    /**
+     * Creates a result.
+     * Importance: Captures the outcome of one upload.
+     * Alternatives: Use a map response.
+     *
+     * @param sha256 the hex SHA-256 hash.
+     * @param sizeBytes the blob size.
+     * @param deduplicated whether an identical blob was already stored, store-wide or for the uploading tenant.
+     */
+    public BlobWriteResult(String sha256, long sizeBytes, boolean deduplicated) {
+        this.sha256 = sha256;
+        this.sizeBytes = sizeBytes;
+        this.deduplicated = deduplicated;
+    }
+
+    /**
+     * Returns the hex SHA-256 hash of the uploaded bytes.
+     * Importance: Is the evidence content hash and the download key.
+     * Alternatives: Return a generated blob identifier.
+     *
+     * @return the hash.
+     */
+    public String getSha256() {
+        return sha256;
+    }
+
+    /**
+     * Returns the blob size.
+     * Importance: Lets uploaders confirm nothing was truncated.
+     * Alternatives: Omit the size.
+     *
+     * @return the size in bytes.
+     */
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    /**
+     * Returns whether the bytes were already stored.
+     * Importance: BlobStore reports store-wide dedupe for metrics; EvidenceBlobService narrows it to the uploading
+     * tenant before responding, so a tenant cannot probe for another tenant's files.
+     * Alternatives: Leave dedupe out of responses.
+     *
+     * @return true when the blob was already stored.
+     */
+    public boolean isDeduplicated() {
+        return deduplicated;
+    }
+}
@@ -0,0 +1,143 @@
+package com.heritagegraph360.profile.closure;
+
+import com.heritagegraph360.profile.graph.ProfileIdInterner;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Computes a tenant's ancestry closure from its direct parent edges.
+ * Importance: Produces the (ancestor, descendant, depth) rows a closure rebuild writes.
+ * Alternatives: Derive rows with a recursive CTE inside the database.
+ */
+public class AncestryClosureBuilder {
+    private static final int MIN_EDGES = 16;
+
+    private final ProfileIdInterner interner;
+    private int[] edgeChildren = new int[MIN_EDGES];
+    private int[] edgeParents = new int[MIN_EDGES];
+    private int edgeCount;
+
+    /**
+     * Receives closure rows as they are computed.
+     * Importance: Lets rebuilds stream rows into batched inserts without holding them all.
+     * Alternatives: Return a list of rows.
+     */
+    @FunctionalInterface
+    public interface RowSink {
+        /**
+         * Accepts one closure row.
+         * Importance: Called once per (ancestor, descendant) pair with its shortest depth.
+         * Alternatives: Accept rows in batches.
+         *
+         * @param ancestorId the ancestor profile identifier.
+         * @param descendantId the descendant profile identifier.
+         * @param depth the number of generations between them.
+         */
+        void accept(UUID ancestorId, UUID descendantId, int depth);
+    }
+
+    /**
+     * Creates a builder sized for the expected number of profiles.
+     * Importance: Avoids rehashing while streaming large tenants.
+     * Alternatives: Start small and rely on growth only.
+     *
+     * @param expectedProfiles the expected number of profiles.
+     */
+    public AncestryClosureBuilder(int expectedProfiles) {
+        this.interner = new ProfileIdInterner(expectedProfiles);
+    }
+
+    /**
+     * Records a direct child-to-parent edge.
+     * Importance: Collects the relationships table before the closure is expanded.
+     * Alternatives: Expand each edge incrementally as it arrives.
+     *
+     * @param childId the child profile identifier.
+     * @param parentId the parent profile identifier.
+     */
+    public void addEdge(UUID childId, UUID parentId) {
+        if (childId.equals(parentId)) {
+            return;
+        }
+        if (edgeCount == edgeChildren.length) {
+            edgeChildren = Arrays.copyOf(edgeChildren, edgeCount * 2);
+            edgeParents = Arrays.copyOf(edgeParents, edgeCount * 2);
+        }
+        edgeChildren[edgeCount] = interner.intern(childId);
+        edgeParents[edgeCount] = interner.intern(parentId);
+        edgeCount++;
+    }
+
+    /**
+     * Emits every ancestor of every profile within the depth limit.
+     * Importance: A breadth-first walk per profile yields the shortest depth for each pair, as the
+     * incremental maintenance stores it, and stops at cycles instead of looping.
+     * Alternatives: Join depth-limited closures level by level.
+     *
+     * @param maxDepth the largest depth to emit.
+     * @param sink the row receiver.
+     * @return the number of rows emitted.
+     */
+    public long build(int maxDepth, RowSink sink) {
+        int nodes = interner.size();
+        int[] offsets = new int[nodes + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            offsets[edgeChildren[i] + 1]++;
+        }
+        for (int node = 0; node < nodes; node++) {
+            offsets[node + 1] += offsets[node];
+        }
+        int[] parents = new int[edgeCount];
+        int[] cursor = Arrays.copyOf(offsets, nodes);
+        for (int i = 0; i < edgeCount; i++) {
+            parents[cursor[edgeChildren[i]]++] = edgeParents[i];
+        }
+
+        int[] visitedBy = new int[nodes];
+        Arrays.fill(visitedBy, -1);
+        int[] depths = new int[nodes];
+        int[] queue = new int[nodes];
+        long rows = 0;
+        for (int start = 0; start < nodes; start++) {
+            if (offsets[start] == offsets[start + 1]) {
+                continue;
+            }
+            UUID descendantId = interner.profileId(start);
+            int head = 0;
+            int tail = 0;
+            visitedBy[start] = start;
+            depths[start] = 0;
+            queue[tail++] = start;
+            while (head < tail) {
+                int node = queue[head++];
+                int depth = depths[node] + 1;
+                if (depth > maxDepth) {
+                    break;
+                }
+                for (int edge = offsets[node]; edge < offsets[node + 1]; edge++) {
+                    int parent = parents[edge];
+                    if (visitedBy[parent] == start) {
+                        continue;
+                    }
+                    visitedBy[parent] = start;
+                    depths[parent] = depth;
+                    queue[tail++] = parent;
+                    sink.accept(interner.profileId(parent), descendantId, depth);
+                    rows++;
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the number of recorded edges.
+     * Importance: Supports rebuild logging.
+     * Alternatives: Count relationship rows separately.
+     *
+     * @return the number of edges.
+     */
+    public int edgeCount() {
+        return edgeCount;
+    }
+}
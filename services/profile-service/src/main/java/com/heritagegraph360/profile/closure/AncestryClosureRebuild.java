@@ -0,0 +1,121 @@
+package com.heritagegraph360.profile.closure;
+
+import java.time.Instant;
+
+/**
+ * Tracks one tenant's ancestry closure rebuild on this instance.
+ * Importance: Lets operators poll a backfill without querying the closure table.
+ * Alternatives: Persist rebuild jobs in a table.
+ */
+public class AncestryClosureRebuild {
+    private final String tenantId;
+    private final Instant startedAt;
+    private volatile AncestryClosureRebuildStatus status = AncestryClosureRebuildStatus.RUNNING;
+    private volatile long rows;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    /**
+     * Creates a running rebuild.
+     * Importance: Records when the rebuild was requested.
+     * Alternatives: Set the start time when the worker picks it up.
+     *
+     * @param tenantId the tenant identifier.
+     */
+    public AncestryClosureRebuild(String tenantId) {
+        this.tenantId = tenantId;
+        this.startedAt = Instant.now();
+    }
+
+    /**
+     * Marks the rebuild as completed.
+     * Importance: Publishes the row count to pollers.
+     * Alternatives: Leave completion implicit in the row count.
+     *
+     * @param rows the number of closure rows written.
+     */
+    void complete(long rows) {
+        this.rows = rows;
+        this.finishedAt = Instant.now();
+        this.status = AncestryClosureRebuildStatus.COMPLETED;
+    }
+
+    /**
+     * Marks the rebuild as failed.
+     * Importance: Tells operators why the closure was left unchanged.
+     * Alternatives: Only log failures.
+     *
+     * @param error the failure message.
+     */
+    void fail(String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.status = AncestryClosureRebuildStatus.FAILED;
+    }
+
+    /**
+     * Returns the tenant identifier.
+     * Importance: Identifies the rebuild.
+     * Alternatives: Key rebuilds by a generated id.
+     *
+     * @return the tenant identifier.
+     */
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Returns when the rebuild was requested.
+     * Importance: Helps operators spot stuck rebuilds.
+     * Alternatives: Expose only the duration.
+     *
+     * @return the start time.
+     */
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Returns the rebuild status.
+     * Importance: Drives polling until a terminal state.
+     * Alternatives: Expose boolean flags.
+     *
+     * @return the status.
+     */
+    public AncestryClosureRebuildStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the number of closure rows written.
+     * Importance: Shows how large the tenant's closure is.
+     * Alternatives: Count rows with a separate query.
+     *
+     * @return the row count, or 0 until completed.
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns when the rebuild finished.
+     * Importance: Helps operators size rebuild windows.
+     * Alternatives: Expose only the duration.
+     *
+     * @return the finish time, or null while running.
+     */
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * Returns the failure message.
+     * Importance: Explains failed rebuilds.
+     * Alternatives: Only log failures.
+     *
+     * @return the error, or null.
+     */
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,136 @@
+package com.heritagegraph360.profile.closure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs ancestry closure rebuilds in the background, one tenant at a time.
+ * Importance: Backfills existing tenants without holding an HTTP request open.
+ * Alternatives: Rebuild from a one-off migration script.
+ */
+@Component
+public class AncestryClosureRebuildRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AncestryClosureRebuildRunner.class);
+
+    private final AncestryClosureStore closureStore;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final Map<String, AncestryClosureRebuild> rebuilds = new ConcurrentHashMap<>();
+    private final Set<String> rerunRequested = ConcurrentHashMap.newKeySet();
+    private final Counter completed;
+    private final Counter failed;
+
+    /**
+     * Creates the rebuild runner.
+     * Importance: Connects rebuild jobs to the closure store and metrics.
+     * Alternatives: Use the Spring task executor.
+     *
+     * @param closureStore the closure store.
+     * @param meterRegistry the meter registry.
+     */
+    public AncestryClosureRebuildRunner(AncestryClosureStore closureStore, MeterRegistry meterRegistry) {
+        this.closureStore = closureStore;
+        this.completed = rebuilds(meterRegistry, "completed");
+        this.failed = rebuilds(meterRegistry, "failed");
+    }
+
+    /**
+     * Starts a rebuild for a tenant, or schedules one more run when a rebuild is already running.
+     * Importance: Coalesces repeated requests while still covering changes the running rebuild already read past.
+     * Alternatives: Queue every request.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the running rebuild.
+     */
+    public synchronized AncestryClosureRebuild start(String tenantId) {
+        AncestryClosureRebuild existing = rebuilds.get(tenantId);
+        if (existing != null && existing.getStatus() == AncestryClosureRebuildStatus.RUNNING) {
+            rerunRequested.add(tenantId);
+            return existing;
+        }
+        AncestryClosureRebuild rebuild = new AncestryClosureRebuild(tenantId);
+        rebuilds.put(tenantId, rebuild);
+        executor.execute(() -> run(rebuild));
+        return rebuild;
+    }
+
+    /**
+     * Returns the latest rebuild for a tenant on this instance.
+     * Importance: Supports polling.
+     * Alternatives: Return every rebuild.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the latest rebuild, if any.
+     */
+    public Optional<AncestryClosureRebuild> status(String tenantId) {
+        return Optional.ofNullable(rebuilds.get(tenantId));
+    }
+
+    /**
+     * Stops the worker thread.
+     * Importance: Lets the application shut down; an interrupted rebuild rolls back.
+     * Alternatives: Let the JVM kill the thread.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Rebuilds one tenant and records the outcome.
+     * Importance: Keeps failures on the rebuild record instead of the worker thread.
+     * Alternatives: Let exceptions reach the executor.
+     *
+     * @param rebuild the rebuild to run.
+     */
+    private void run(AncestryClosureRebuild rebuild) {
+        long started = System.nanoTime();
+        long rows = -1;
+        RuntimeException failure = null;
+        try {
+            rows = closureStore.rebuildTenant(rebuild.getTenantId());
+            completed.increment();
+            LOGGER.info("Ancestry closure rebuilt for tenant {} with {} rows in {} ms",
+                rebuild.getTenantId(), rows, (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException ex) {
+            failure = ex;
+            failed.increment();
+            LOGGER.warn("Ancestry closure rebuild failed for tenant {}", rebuild.getTenantId(), ex);
+        }
+        synchronized (this) {
+            if (failure == null) {
+                rebuild.complete(rows);
+            } else {
+                rebuild.fail(failure.getMessage());
+            }
+            if (rerunRequested.remove(rebuild.getTenantId()) && !executor.isShutdown()) {
+                start(rebuild.getTenantId());
+            }
+        }
+    }
+
+    /**
+     * Builds the rebuild counter for an outcome.
+     * Importance: Tags rebuild results consistently.
+     * Alternatives: Use one counter per outcome name.
+     *
+     * @param meterRegistry the meter registry.
+     * @param result the outcome tag.
+     * @return the counter.
+     */
+    private static Counter rebuilds(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ancestry.closure.rebuilds")
+            .description("Ancestry closure rebuilds by outcome")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
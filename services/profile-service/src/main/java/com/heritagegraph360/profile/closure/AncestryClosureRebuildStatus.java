@@ -0,0 +1,12 @@
+package com.heritagegraph360.profile.closure;
+
+/**
+ * Lists the lifecycle states of an ancestry closure rebuild.
+ * Importance: Gives polling clients a stable set of states.
+ * Alternatives: Use free-form status strings.
+ */
+public enum AncestryClosureRebuildStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
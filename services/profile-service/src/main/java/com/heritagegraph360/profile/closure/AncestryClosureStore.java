@@ -0,0 +1,391 @@
+package com.heritagegraph360.profile.closure;
+
+import com.heritagegraph360.profile.config.AncestryClosureProperties;
+import com.heritagegraph360.profile.graph.LineageEntry;
+import com.heritagegraph360.profile.merge.MergeClusterIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reads and maintains the materialized ancestry closure table.
+ * Importance: Turns "ancestors within N generations" and "is Y a descendant of X" into indexed range scans.
+ * Alternatives: Walk relationships with recursive CTEs on every query.
+ */
+@Component
+public class AncestryClosureStore {
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext(?))";
+    private static final String RECORD_WRITE_SQL =
+        "INSERT INTO ancestry_closure_tenants (tenant_id, generation, version) VALUES (?, 0, 1) "
+            + "ON CONFLICT (tenant_id) DO UPDATE SET version = ancestry_closure_tenants.version + 1 "
+            + "RETURNING generation";
+    private static final String TENANT_STATE_SQL =
+        "SELECT generation, version FROM ancestry_closure_tenants WHERE tenant_id = ?";
+    private static final String SWAP_SQL =
+        "INSERT INTO ancestry_closure_tenants (tenant_id, generation, version) VALUES (?, ?, 0) "
+            + "ON CONFLICT (tenant_id) DO UPDATE SET generation = EXCLUDED.generation "
+            + "WHERE ancestry_closure_tenants.generation = ? AND ancestry_closure_tenants.version = ?";
+    private static final String CURRENT_GENERATION =
+        "COALESCE((SELECT generation FROM ancestry_closure_tenants WHERE tenant_id = ?), 0)";
+    private static final String ADD_EDGE_SQL =
+        "INSERT INTO ancestry_closure (tenant_id, generation, ancestor_id, descendant_id, depth) "
+            + "SELECT ?, ?, a.ancestor_id, d.descendant_id, MIN(a.depth + d.depth + 1) "
+            + "FROM (SELECT CAST(? AS UUID) AS ancestor_id, 0 AS depth "
+            + "UNION ALL SELECT ancestor_id, depth FROM ancestry_closure "
+            + "WHERE tenant_id = ? AND generation = ? AND descendant_id = ?) a "
+            + "CROSS JOIN (SELECT CAST(? AS UUID) AS descendant_id, 0 AS depth "
+            + "UNION ALL SELECT descendant_id, depth FROM ancestry_closure "
+            + "WHERE tenant_id = ? AND generation = ? AND ancestor_id = ?) d "
+            + "WHERE a.ancestor_id <> d.descendant_id AND a.depth + d.depth + 1 <= ? "
+            + "GROUP BY a.ancestor_id, d.descendant_id "
+            + "ON CONFLICT (tenant_id, generation, ancestor_id, descendant_id) DO UPDATE SET depth = EXCLUDED.depth "
+            + "WHERE EXCLUDED.depth < ancestry_closure.depth";
+    private static final String INSERT_ROW_SQL =
+        "INSERT INTO ancestry_closure (tenant_id, generation, ancestor_id, descendant_id, depth) "
+            + "VALUES (?, ?, ?, ?, ?)";
+    private static final String DELETE_GENERATION_SQL =
+        "DELETE FROM ancestry_closure WHERE ctid = ANY(ARRAY(SELECT ctid FROM ancestry_closure "
+            + "WHERE tenant_id = ? AND generation = ? LIMIT ?))";
+    private static final int INITIAL_TENANT_PROFILES = 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AncestryClosureStore.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final MergeClusterIndex mergeClusterIndex;
+    private final AncestryClosureProperties properties;
+
+    /**
+     * Creates the closure store.
+     * Importance: Connects closure maintenance to relational storage and merge resolution.
+     * Alternatives: Map the closure table as a JPA entity.
+     *
+     * @param dataSource the relational data source.
+     * @param transactionManager the transaction manager used for rebuilds.
+     * @param mergeClusterIndex the merge cluster index used to key rows by canonical profile.
+     * @param properties the closure properties.
+     */
+    public AncestryClosureStore(DataSource dataSource,
+                                PlatformTransactionManager transactionManager,
+                                MergeClusterIndex mergeClusterIndex,
+                                AncestryClosureProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.getLoadFetchSize());
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.mergeClusterIndex = mergeClusterIndex;
+        this.properties = properties;
+    }
+
+    /**
+     * Adds the closure rows implied by a new child-to-parent edge.
+     * Importance: Joins every ancestor of the parent with every descendant of the child in one statement.
+     * Must run inside the caller's transaction so the tenant lock covers the relationship write.
+     * Alternatives: Rebuild the tenant after each relationship change.
+     *
+     * @param tenantId the tenant identifier.
+     * @param childId the child profile identifier.
+     * @param parentId the parent profile identifier.
+     * @return the number of closure rows inserted or shortened.
+     */
+    public int addEdge(String tenantId, UUID childId, UUID parentId) {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        UUID child = mergeClusterIndex.canonicalProfile(tenantId, childId);
+        UUID parent = mergeClusterIndex.canonicalProfile(tenantId, parentId);
+        if (child.equals(parent)) {
+            return 0;
+        }
+        long generation = recordWrite(tenantId);
+        return insertEdge(tenantId, generation, child, parent);
+    }
+
+    /**
+     * Folds a merged-away canonical profile into its new canonical profile.
+     * Importance: Keeps closure rows keyed by surviving profiles when a merge is approved.
+     * Must run inside the caller's transaction so the tenant lock covers the merge decision.
+     * Alternatives: Rebuild the tenant after each approved merge.
+     *
+     * @param tenantId the tenant identifier.
+     * @param fromId the previous canonical profile of the merged-away cluster.
+     * @param toId the canonical profile that survives the merge.
+     */
+    public void mergeProfile(String tenantId, UUID fromId, UUID toId) {
+        if (!properties.isEnabled() || fromId.equals(toId)) {
+            return;
+        }
+        long generation = recordWrite(tenantId);
+        List<UUID> parents = jdbcTemplate.queryForList(
+            "SELECT ancestor_id FROM ancestry_closure "
+                + "WHERE tenant_id = ? AND generation = ? AND descendant_id = ? AND depth = 1",
+            UUID.class, tenantId, generation, fromId);
+        List<UUID> children = jdbcTemplate.queryForList(
+            "SELECT descendant_id FROM ancestry_closure "
+                + "WHERE tenant_id = ? AND generation = ? AND ancestor_id = ? AND depth = 1",
+            UUID.class, tenantId, generation, fromId);
+        jdbcTemplate.update(
+            "DELETE FROM ancestry_closure WHERE tenant_id = ? AND generation = ? "
+                + "AND (ancestor_id = ? OR descendant_id = ?)",
+            tenantId, generation, fromId, fromId);
+        for (UUID parent : parents) {
+            if (!parent.equals(toId)) {
+                insertEdge(tenantId, generation, toId, parent);
+            }
+        }
+        for (UUID child : children) {
+            if (!child.equals(toId)) {
+                insertEdge(tenantId, generation, child, toId);
+            }
+        }
+    }
+
+    /**
+     * Replaces a tenant's closure with one computed from its relationships.
+     * Importance: Backfills existing tenants and repairs the closure after a withdrawn merge. The new closure is
+     * written as a separate generation without the tenant lock and swapped in by one conditional update, so
+     * relationship writes and merge decisions only wait for the swap.
+     * Alternatives: Delete and rewrite the tenant's rows in one transaction under the tenant lock.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the number of closure rows written.
+     */
+    public long rebuildTenant(String tenantId) {
+        int attempts = Math.max(1, properties.getRebuildAttempts());
+        for (int attempt = 1; attempt < attempts; attempt++) {
+            TenantState state = tenantState(tenantId);
+            long generation = nextGeneration();
+            long written = writeGeneration(tenantId, generation);
+            Boolean swapped = transaction.execute(status -> {
+                lockTenant(tenantId);
+                return jdbcTemplate.update(SWAP_SQL, tenantId, generation, state.generation, state.version) > 0;
+            });
+            if (Boolean.TRUE.equals(swapped)) {
+                deleteGeneration(tenantId, state.generation);
+                return written;
+            }
+            deleteGeneration(tenantId, generation);
+            LOGGER.info("Ancestry closure rebuild for tenant {} raced with writes; retrying (attempt {} of {})",
+                tenantId, attempt, attempts);
+        }
+        long[] previous = new long[1];
+        Long rows = transaction.execute(status -> {
+            lockTenant(tenantId);
+            previous[0] = tenantState(tenantId).generation;
+            long generation = nextGeneration();
+            long written = writeGeneration(tenantId, generation);
+            jdbcTemplate.update(
+                "INSERT INTO ancestry_closure_tenants (tenant_id, generation, version) VALUES (?, ?, 0) "
+                    + "ON CONFLICT (tenant_id) DO UPDATE SET generation = EXCLUDED.generation",
+                tenantId, generation);
+            return written;
+        });
+        deleteGeneration(tenantId, previous[0]);
+        return rows == null ? 0 : rows;
+    }
+
+    /**
+     * Returns a profile's ancestors within a depth, nearest first.
+     * Importance: Answers pedigree queries with one scan of the descendant index.
+     * Alternatives: Walk parents generation by generation.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the profile identifier.
+     * @param maxDepth the maximum number of generations.
+     * @param limit the maximum number of rows to return.
+     * @return the ancestors with their generation; status is not stored in the closure.
+     */
+    public List<LineageEntry> ancestors(String tenantId, UUID profileId, int maxDepth, int limit) {
+        return jdbcTemplate.query(
+            "SELECT ancestor_id, depth FROM ancestry_closure WHERE tenant_id = ? AND generation = " + CURRENT_GENERATION
+                + " AND descendant_id = ? AND depth <= ? ORDER BY depth LIMIT ?",
+            (rs, row) -> new LineageEntry(rs.getObject(1, UUID.class), rs.getInt(2), null),
+            tenantId, tenantId, mergeClusterIndex.canonicalProfile(tenantId, profileId), maxDepth, limit);
+    }
+
+    /**
+     * Returns a profile's descendants within a depth, nearest first.
+     * Importance: Answers descendant queries with one scan of the ancestor index.
+     * Alternatives: Walk children generation by generation.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the profile identifier.
+     * @param maxDepth the maximum number of generations.
+     * @param limit the maximum number of rows to return.
+     * @return the descendants with their generation; status is not stored in the closure.
+     */
+    public List<LineageEntry> descendants(String tenantId, UUID profileId, int maxDepth, int limit) {
+        return jdbcTemplate.query(
+            "SELECT descendant_id, depth FROM ancestry_closure WHERE tenant_id = ? AND generation = " + CURRENT_GENERATION
+                + " AND ancestor_id = ? AND depth <= ? ORDER BY depth LIMIT ?",
+            (rs, row) -> new LineageEntry(rs.getObject(1, UUID.class), rs.getInt(2), null),
+            tenantId, tenantId, mergeClusterIndex.canonicalProfile(tenantId, profileId), maxDepth, limit);
+    }
+
+    /**
+     * Returns how many generations separate an ancestor from a descendant.
+     * Importance: Answers "is Y a descendant of X" with one primary key lookup.
+     * Alternatives: Search the lineage graph for a path.
+     *
+     * @param tenantId the tenant identifier.
+     * @param ancestorId the possible ancestor.
+     * @param descendantId the possible descendant.
+     * @return the shortest depth, or empty when the profiles are not in a line of descent.
+     */
+    public Optional<Integer> depthBetween(String tenantId, UUID ancestorId, UUID descendantId) {
+        List<Integer> depths = jdbcTemplate.queryForList(
+            "SELECT depth FROM ancestry_closure WHERE tenant_id = ? AND generation = " + CURRENT_GENERATION
+                + " AND ancestor_id = ? AND descendant_id = ?",
+            Integer.class, tenantId, tenantId, mergeClusterIndex.canonicalProfile(tenantId, ancestorId),
+            mergeClusterIndex.canonicalProfile(tenantId, descendantId));
+        return depths.stream().findFirst();
+    }
+
+    /**
+     * Inserts the rows implied by a canonical child-to-parent edge.
+     * Importance: Shares the closure join between relationship writes and merges.
+     * Alternatives: Duplicate the statement per caller.
+     *
+     * @param tenantId the tenant identifier.
+     * @param generation the tenant's current closure generation.
+     * @param child the canonical child profile identifier.
+     * @param parent the canonical parent profile identifier.
+     * @return the number of rows inserted or shortened.
+     */
+    private int insertEdge(String tenantId, long generation, UUID child, UUID parent) {
+        return jdbcTemplate.update(ADD_EDGE_SQL, tenantId, generation, parent, tenantId, generation, parent, child,
+            tenantId, generation, child, properties.getMaxDepth());
+    }
+
+    /**
+     * Computes a tenant's closure from its relationships and writes it as the given generation.
+     * Importance: Readers keep using the current generation while this one is written in bounded batches.
+     * Alternatives: Write into a separate staging table and copy it over.
+     *
+     * @param tenantId the tenant identifier.
+     * @param generation the generation to write.
+     * @return the number of closure rows written.
+     */
+    private long writeGeneration(String tenantId, long generation) {
+        AncestryClosureBuilder builder = new AncestryClosureBuilder(INITIAL_TENANT_PROFILES);
+        jdbcTemplate.query(
+            "SELECT profile_id, related_profile_id FROM relationships WHERE tenant_id = ?",
+            rs -> {
+                builder.addEdge(
+                    mergeClusterIndex.canonicalProfile(tenantId, rs.getObject(1, UUID.class)),
+                    mergeClusterIndex.canonicalProfile(tenantId, rs.getObject(2, UUID.class)));
+            },
+            tenantId);
+        int batchSize = Math.max(1, properties.getRebuildBatchSize());
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        long written = builder.build(properties.getMaxDepth(), (ancestorId, descendantId, depth) -> {
+            batch.add(new Object[] {tenantId, generation, ancestorId, descendantId, depth});
+            if (batch.size() == batchSize) {
+                jdbcTemplate.batchUpdate(INSERT_ROW_SQL, batch);
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ROW_SQL, batch);
+        }
+        return written;
+    }
+
+    /**
+     * Deletes a generation that is no longer current in bounded batches.
+     * Importance: Reclaims replaced or abandoned rows without one long delete.
+     * Alternatives: Delete every row of the generation in one statement.
+     *
+     * @param tenantId the tenant identifier.
+     * @param generation the generation to delete.
+     */
+    private void deleteGeneration(String tenantId, long generation) {
+        int batchSize = Math.max(1, properties.getRebuildBatchSize());
+        while (jdbcTemplate.update(DELETE_GENERATION_SQL, tenantId, generation, batchSize) > 0) {
+            LOGGER.debug("Deleted a batch of ancestry closure generation {} for tenant {}", generation, tenantId);
+        }
+    }
+
+    /**
+     * Allocates a closure generation no other rebuild uses.
+     * Importance: Lets rebuilds on several instances write side by side without key conflicts.
+     * Alternatives: Use the current generation plus one.
+     *
+     * @return the generation.
+     */
+    private long nextGeneration() {
+        Long generation = jdbcTemplate.queryForObject("SELECT nextval('ancestry_closure_generation_seq')",
+            Long.class);
+        return generation == null ? 0 : generation;
+    }
+
+    /**
+     * Reads a tenant's current closure generation and write version.
+     * Importance: A rebuild only swaps in its generation when neither changed while it was built.
+     * Alternatives: Compare row counts.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the state, generation 0 and version 0 for a tenant never written.
+     */
+    private TenantState tenantState(String tenantId) {
+        List<TenantState> states = jdbcTemplate.query(TENANT_STATE_SQL,
+            (rs, row) -> new TenantState(rs.getLong(1), rs.getLong(2)), tenantId);
+        return states.isEmpty() ? new TenantState(0, 0) : states.get(0);
+    }
+
+    /**
+     * Takes the tenant lock and records a closure write.
+     * Importance: Bumping the version makes any rebuild started before this write retry instead of dropping it.
+     * Alternatives: Have rebuilds hold the tenant lock while they run.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the generation the write applies to.
+     */
+    private long recordWrite(String tenantId) {
+        lockTenant(tenantId);
+        Long generation = jdbcTemplate.queryForObject(RECORD_WRITE_SQL, Long.class, tenantId);
+        return generation == null ? 0 : generation;
+    }
+
+    /**
+     * Serializes closure writes for one tenant until the transaction ends.
+     * Importance: Two concurrent edges could otherwise each miss the paths the other creates.
+     * Alternatives: Run closure maintenance at SERIALIZABLE isolation.
+     *
+     * @param tenantId the tenant identifier.
+     */
+    private void lockTenant(String tenantId) {
+        jdbcTemplate.query(LOCK_SQL, rs -> {
+        }, "ancestry_closure:" + tenantId);
+    }
+
+    /**
+     * Holds a tenant's closure generation and write version.
+     * Importance: Captures what a rebuild must still find unchanged when it swaps.
+     * Alternatives: Return a two-element array.
+     */
+    private static final class TenantState {
+        private final long generation;
+        private final long version;
+
+        /**
+         * Creates a tenant state.
+         * Importance: Captures both values read in one query.
+         * Alternatives: Read each value separately.
+         *
+         * @param generation the current generation.
+         * @param version the write version.
+         */
+        private TenantState(long generation, long version) {
+            this.generation = generation;
+            this.version = version;
+        }
+    }
+}
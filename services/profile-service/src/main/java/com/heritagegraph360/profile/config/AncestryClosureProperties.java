@@ -0,0 +1,129 @@
+package com.heritagegraph360.profile.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for the materialized ancestry closure table.
+ * Importance: Centralizes closure depth, maintenance, and rebuild batching.
+ * Alternatives: Hard-code closure limits in the closure store.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.ancestry-closure")
+public class AncestryClosureProperties {
+    private boolean enabled = true;
+    private int maxDepth = 64;
+    private int rebuildBatchSize = 1000;
+    private int loadFetchSize = 10000;
+    private int rebuildAttempts = 3;
+
+    /**
+     * Returns whether the closure table is maintained and queried.
+     * Importance: Allows turning the closure off until the table is migrated and rebuilt.
+     * Alternatives: Use a feature flag service.
+     *
+     * @return true when enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Updates the enabled flag.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param enabled the enabled flag.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the largest ancestor depth stored in the closure.
+     * Importance: Bounds closure growth for very deep pedigrees.
+     * Alternatives: Store every depth and accept unbounded growth.
+     *
+     * @return the maximum depth.
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Updates the maximum depth.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxDepth the maximum depth.
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Returns the number of closure rows inserted per rebuild batch.
+     * Importance: Balances round trips against statement size during rebuilds.
+     * Alternatives: Insert rows one at a time.
+     *
+     * @return the batch size.
+     */
+    public int getRebuildBatchSize() {
+        return rebuildBatchSize;
+    }
+
+    /**
+     * Updates the rebuild batch size.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param rebuildBatchSize the batch size.
+     */
+    public void setRebuildBatchSize(int rebuildBatchSize) {
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    /**
+     * Returns the JDBC fetch size used when streaming relationships for a rebuild.
+     * Importance: Bounds memory while reading large tenants.
+     * Alternatives: Load relationships page by page.
+     *
+     * @return the fetch size.
+     */
+    public int getLoadFetchSize() {
+        return loadFetchSize;
+    }
+
+    /**
+     * Updates the load fetch size.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param loadFetchSize the fetch size.
+     */
+    public void setLoadFetchSize(int loadFetchSize) {
+        this.loadFetchSize = loadFetchSize;
+    }
+
+    /**
+     * Returns how many times a rebuild is written before it takes the tenant lock for its last try.
+     * Importance: Rebuilds that keep racing with writes still finish instead of retrying forever.
+     * Alternatives: Always rebuild under the tenant lock.
+     *
+     * @return the rebuild attempts.
+     */
+    public int getRebuildAttempts() {
+        return rebuildAttempts;
+    }
+
+    /**
+     * Updates the rebuild attempts.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param rebuildAttempts the rebuild attempts.
+     */
+    public void setRebuildAttempts(int rebuildAttempts) {
+        this.rebuildAttempts = rebuildAttempts;
+    }
+}
@@ -0,0 +1,244 @@
+package com.heritagegraph360.profile.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for audit log partitioning and cold-segment compaction.
+ * Importance: Controls how long audit history stays hot and where cold segments live.
+ * Alternatives: Hard-code retention in the partition maintainer.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.audit-archive")
+public class AuditArchiveProperties {
+    private boolean enabled = false;
+    private String directory = "/var/lib/heritagegraph360/audit-segments";
+    private int hotMonths = 3;
+    private int precreateMonths = 2;
+    private int blockRows = 1024;
+    private long maxSegmentBytes = 536870912L;
+    private long dropGraceMs = 86400000L;
+    private long intervalMs = 3600000L;
+    private long rescanIntervalMs = 300000L;
+    private int fetchSize = 5000;
+
+    /**
+     * Returns whether audit partitions are maintained and compacted.
+     * Importance: Keeps compaction opt-in until a shared segment volume is mounted.
+     * Alternatives: Always compact.
+     *
+     * @return true when enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Updates the enabled setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param enabled the enabled flag.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the directory holding cold audit segments.
+     * Importance: Must be a volume shared by every profile-service replica so all nodes serve the same cold history.
+     * Alternatives: Store segments in object storage.
+     *
+     * @return the directory.
+     */
+    public String getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Updates the directory setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param directory the segment directory.
+     */
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns how many recent monthly partitions stay in PostgreSQL.
+     * Importance: Keeps recent, frequently read history in the database.
+     * Alternatives: Compact every closed month immediately.
+     *
+     * @return the hot month count.
+     */
+    public int getHotMonths() {
+        return hotMonths;
+    }
+
+    /**
+     * Updates the hot months setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param hotMonths the hot month count.
+     */
+    public void setHotMonths(int hotMonths) {
+        this.hotMonths = hotMonths;
+    }
+
+    /**
+     * Returns how many future monthly partitions are created ahead of time.
+     * Importance: Ensures inserts never fall back to the default partition.
+     * Alternatives: Create partitions on demand.
+     *
+     * @return the precreated month count.
+     */
+    public int getPrecreateMonths() {
+        return precreateMonths;
+    }
+
+    /**
+     * Updates the precreate months setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param precreateMonths the precreated month count.
+     */
+    public void setPrecreateMonths(int precreateMonths) {
+        this.precreateMonths = precreateMonths;
+    }
+
+    /**
+     * Returns the rows per compressed segment block.
+     * Importance: Balances compression ratio against the rows decoded per lookup.
+     * Alternatives: Compress whole segments.
+     *
+     * @return the rows per block.
+     */
+    public int getBlockRows() {
+        return blockRows;
+    }
+
+    /**
+     * Updates the block rows setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param blockRows the rows per block.
+     */
+    public void setBlockRows(int blockRows) {
+        this.blockRows = blockRows;
+    }
+
+    /**
+     * Returns the size at which a segment file is rolled over.
+     * Importance: Keeps each file within a single memory mapping.
+     * Alternatives: Write one file per partition regardless of size.
+     *
+     * @return the maximum segment size.
+     */
+    public long getMaxSegmentBytes() {
+        return maxSegmentBytes;
+    }
+
+    /**
+     * Updates the max segment bytes setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxSegmentBytes the maximum segment size.
+     */
+    public void setMaxSegmentBytes(long maxSegmentBytes) {
+        this.maxSegmentBytes = maxSegmentBytes;
+    }
+
+    /**
+     * Returns how long a compacted partition is kept after its segment is written.
+     * Importance: Gives every replica time to load the segment before the partition disappears.
+     * Alternatives: Drop partitions immediately.
+     *
+     * @return the grace period in milliseconds.
+     */
+    public long getDropGraceMs() {
+        return dropGraceMs;
+    }
+
+    /**
+     * Updates the drop grace ms setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param dropGraceMs the grace period in milliseconds.
+     */
+    public void setDropGraceMs(long dropGraceMs) {
+        this.dropGraceMs = dropGraceMs;
+    }
+
+    /**
+     * Returns how often partitions are maintained and compacted.
+     * Importance: Compaction only needs to keep pace with month boundaries.
+     * Alternatives: Run compaction from an external cron job.
+     *
+     * @return the interval in milliseconds.
+     */
+    public long getIntervalMs() {
+        return intervalMs;
+    }
+
+    /**
+     * Updates the interval ms setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param intervalMs the interval in milliseconds.
+     */
+    public void setIntervalMs(long intervalMs) {
+        this.intervalMs = intervalMs;
+    }
+
+    /**
+     * Returns how often segment files are rescanned.
+     * Importance: Picks up segments written by another replica.
+     * Alternatives: Watch the directory for changes.
+     *
+     * @return the rescan interval in milliseconds.
+     */
+    public long getRescanIntervalMs() {
+        return rescanIntervalMs;
+    }
+
+    /**
+     * Updates the rescan interval ms setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param rescanIntervalMs the rescan interval in milliseconds.
+     */
+    public void setRescanIntervalMs(long rescanIntervalMs) {
+        this.rescanIntervalMs = rescanIntervalMs;
+    }
+
+    /**
+     * Returns the JDBC fetch size used while compacting.
+     * Importance: Streams partitions into segments with bounded memory.
+     * Alternatives: Load whole partitions.
+     *
+     * @return the fetch size.
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Updates the fetch size setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param fetchSize the fetch size.
+     */
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+}
@@ -0,0 +1,83 @@
+package com.heritagegraph360.profile.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for audit trail reads.
+ * Importance: Bounds page sizes and cursor fetch sizes for audit queries.
+ * Alternatives: Hard-code limits in the audit controller.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.audit-trail")
+public class AuditTrailProperties {
+    private int defaultPageSize = 100;
+    private int maxPageSize = 1000;
+    private int streamFetchSize = 500;
+
+    /**
+     * Returns the page size used when a request omits one.
+     * Importance: Keeps default audit pages small.
+     * Alternatives: Require clients to always pass a limit.
+     *
+     * @return the default page size.
+     */
+    public int getDefaultPageSize() {
+        return defaultPageSize;
+    }
+
+    /**
+     * Updates the default page size.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param defaultPageSize the default page size.
+     */
+    public void setDefaultPageSize(int defaultPageSize) {
+        this.defaultPageSize = defaultPageSize;
+    }
+
+    /**
+     * Returns the largest page size a client may request.
+     * Importance: Caps the rows held in memory for one page.
+     * Alternatives: Trust client-supplied limits.
+     *
+     * @return the maximum page size.
+     */
+    public int getMaxPageSize() {
+        return maxPageSize;
+    }
+
+    /**
+     * Updates the maximum page size.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxPageSize the maximum page size.
+     */
+    public void setMaxPageSize(int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * Returns the JDBC fetch size used when streaming.
+     * Importance: Bounds rows buffered by the driver while streaming a trail.
+     * Alternatives: Let the driver load the full result set.
+     *
+     * @return the fetch size.
+     */
+    public int getStreamFetchSize() {
+        return streamFetchSize;
+    }
+
+    /**
+     * Updates the stream fetch size.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param streamFetchSize the fetch size.
+     */
+    public void setStreamFetchSize(int streamFetchSize) {
+        this.streamFetchSize = streamFetchSize;
+    }
+}
@@ -0,0 +1,199 @@
+package com.heritagegraph360.profile.config;
+
+import com.heritagegraph360.profile.audit.AuditDurability;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for the batched audit-log writer.
+ * Importance: Centralizes buffer sizing, flush thresholds, and durability mode.
+ * Alternatives: Hard-code writer limits in the writer component.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.audit")
+public class AuditWriterProperties {
+    private boolean batchingEnabled = true;
+    private AuditDurability durability = AuditDurability.SYNC;
+    private int bufferCapacity = 8192;
+    private int flushSize = 500;
+    private long flushIntervalMs = 50;
+    private int maxRowsPerStatement = 250;
+    private long enqueueTimeoutMs = 1000;
+    private long syncTimeoutMs = 10000;
+
+    /**
+     * Returns whether audit entries are buffered and batch-inserted.
+     * Importance: Lets deployments fall back to one insert per entry.
+     * Alternatives: Use a feature flag service.
+     *
+     * @return true when batching is enabled.
+     */
+    public boolean isBatchingEnabled() {
+        return batchingEnabled;
+    }
+
+    /**
+     * Updates the batching flag.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param batchingEnabled the batching flag.
+     */
+    public void setBatchingEnabled(boolean batchingEnabled) {
+        this.batchingEnabled = batchingEnabled;
+    }
+
+    /**
+     * Returns when audit writes are acknowledged.
+     * Importance: SYNC keeps audit rows durable before the response; ASYNC removes the flush from request latency.
+     * Alternatives: Choose the mode per call site.
+     *
+     * @return the durability mode.
+     */
+    public AuditDurability getDurability() {
+        return durability;
+    }
+
+    /**
+     * Updates the durability mode.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param durability the durability mode.
+     */
+    public void setDurability(AuditDurability durability) {
+        this.durability = durability;
+    }
+
+    /**
+     * Returns the ring buffer capacity, rounded up to a power of two.
+     * Importance: Bounds memory held by unflushed entries.
+     * Alternatives: Use an unbounded queue.
+     *
+     * @return the buffer capacity.
+     */
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    /**
+     * Updates the ring buffer capacity.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param bufferCapacity the buffer capacity.
+     */
+    public void setBufferCapacity(int bufferCapacity) {
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    /**
+     * Returns the number of pending entries that triggers a flush.
+     * Importance: Caps the size of each flush transaction.
+     * Alternatives: Flush on time only.
+     *
+     * @return the flush size.
+     */
+    public int getFlushSize() {
+        return flushSize;
+    }
+
+    /**
+     * Updates the flush size.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param flushSize the flush size.
+     */
+    public void setFlushSize(int flushSize) {
+        this.flushSize = flushSize;
+    }
+
+    /**
+     * Returns the longest time an asynchronous entry waits before being flushed.
+     * Importance: Bounds audit visibility lag under light load.
+     * Alternatives: Flush on size only.
+     *
+     * @return the flush interval in milliseconds.
+     */
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    /**
+     * Updates the flush interval.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param flushIntervalMs the flush interval in milliseconds.
+     */
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    /**
+     * Returns the number of rows bound into one multi-row INSERT.
+     * Importance: Keeps statements well below the driver's bind parameter limit.
+     * Alternatives: Use JDBC statement batching with one row per statement.
+     *
+     * @return the rows per statement.
+     */
+    public int getMaxRowsPerStatement() {
+        return maxRowsPerStatement;
+    }
+
+    /**
+     * Updates the rows per statement.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxRowsPerStatement the rows per statement.
+     */
+    public void setMaxRowsPerStatement(int maxRowsPerStatement) {
+        this.maxRowsPerStatement = maxRowsPerStatement;
+    }
+
+    /**
+     * Returns how long a producer waits for buffer space before inserting directly.
+     * Importance: Applies back-pressure without ever dropping audit entries.
+     * Alternatives: Reject requests when the buffer is full.
+     *
+     * @return the enqueue timeout in milliseconds.
+     */
+    public long getEnqueueTimeoutMs() {
+        return enqueueTimeoutMs;
+    }
+
+    /**
+     * Updates the enqueue timeout.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param enqueueTimeoutMs the enqueue timeout in milliseconds.
+     */
+    public void setEnqueueTimeoutMs(long enqueueTimeoutMs) {
+        this.enqueueTimeoutMs = enqueueTimeoutMs;
+    }
+
+    /**
+     * Returns how long a SYNC caller waits for its batch to commit.
+     * Importance: Prevents request threads from hanging on a stalled database.
+     * Alternatives: Wait indefinitely.
+     *
+     * @return the sync timeout in milliseconds.
+     */
+    public long getSyncTimeoutMs() {
+        return syncTimeoutMs;
+    }
+
+    /**
+     * Updates the sync timeout.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param syncTimeoutMs the sync timeout in milliseconds.
+     */
+    public void setSyncTimeoutMs(long syncTimeoutMs) {
+        this.syncTimeoutMs = syncTimeoutMs;
+    }
+}
@@ -0,0 +1,198 @@
+package com.heritagegraph360.profile.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for the content-addressed evidence blob store.
+ * Importance: Locates segment files and sizes segments, uploads, and compaction.
+ * Alternatives: Keep scanned documents in an external object store.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.blob-store")
+public class BlobStoreProperties {
+    private boolean enabled = false;
+    private String directory = "/var/lib/heritagegraph360/evidence-blobs";
+    private long maxSegmentBytes = 1073741824L;
+    private long maxBlobBytes = 268435456L;
+    private double compactionDeadRatio = 0.5;
+    private long compactionGraceMs = 600000L;
+    private long compactionIntervalMs = 3600000L;
+    private int referenceBatchSize = 1000;
+
+    /**
+     * Returns whether the evidence blob store is active.
+     * Importance: Keeps blob storage opt-in until a dedicated volume is mounted.
+     * Alternatives: Always create the store in the working directory.
+     *
+     * @return true when enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Updates the enabled flag setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param enabled the enabled flag.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the directory holding segment files.
+     * Importance: Segments, their index files, and upload spool files share one filesystem so spooled uploads move into segments in the kernel.
+     * Alternatives: Store blobs in GridFS.
+     *
+     * @return the directory path.
+     */
+    public String getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Updates the directory setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param directory the directory.
+     */
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the size at which the active segment is sealed.
+     * Importance: Sealed segments are memory-mapped whole, so the value is capped at 2 GiB.
+     * Alternatives: Use one file per blob.
+     *
+     * @return the segment size in bytes.
+     */
+    public long getMaxSegmentBytes() {
+        return maxSegmentBytes;
+    }
+
+    /**
+     * Updates the segment size setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxSegmentBytes the segment size.
+     */
+    public void setMaxSegmentBytes(long maxSegmentBytes) {
+        this.maxSegmentBytes = maxSegmentBytes;
+    }
+
+    /**
+     * Returns the largest accepted blob.
+     * Importance: Bounds spool disk use per upload; must fit in one segment.
+     * Alternatives: Accept unbounded uploads.
+     *
+     * @return the blob size limit in bytes.
+     */
+    public long getMaxBlobBytes() {
+        return maxBlobBytes;
+    }
+
+    /**
+     * Updates the blob size limit setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxBlobBytes the blob size limit.
+     */
+    public void setMaxBlobBytes(long maxBlobBytes) {
+        this.maxBlobBytes = maxBlobBytes;
+    }
+
+    /**
+     * Returns the dead-byte fraction that makes a sealed segment eligible for compaction.
+     * Importance: Trades rewrite I/O against reclaimed space.
+     * Alternatives: Compact every segment on every run.
+     *
+     * @return the ratio between 0 and 1.
+     */
+    public double getCompactionDeadRatio() {
+        return compactionDeadRatio;
+    }
+
+    /**
+     * Updates the dead ratio setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param compactionDeadRatio the dead ratio.
+     */
+    public void setCompactionDeadRatio(double compactionDeadRatio) {
+        this.compactionDeadRatio = compactionDeadRatio;
+    }
+
+    /**
+     * Returns how long a recently written blob is kept even without an owner.
+     * Importance: Covers the gap between writing a blob and recording its owner.
+     * Alternatives: Record owners before writing blobs.
+     *
+     * @return the grace period in milliseconds.
+     */
+    public long getCompactionGraceMs() {
+        return compactionGraceMs;
+    }
+
+    /**
+     * Updates the grace period setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param compactionGraceMs the grace period.
+     */
+    public void setCompactionGraceMs(long compactionGraceMs) {
+        this.compactionGraceMs = compactionGraceMs;
+    }
+
+    /**
+     * Returns the delay between compaction runs.
+     * Importance: Controls how quickly deleted evidence space is reclaimed.
+     * Alternatives: Compact only on demand.
+     *
+     * @return the interval in milliseconds.
+     */
+    public long getCompactionIntervalMs() {
+        return compactionIntervalMs;
+    }
+
+    /**
+     * Updates the compaction interval setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param compactionIntervalMs the compaction interval.
+     */
+    public void setCompactionIntervalMs(long compactionIntervalMs) {
+        this.compactionIntervalMs = compactionIntervalMs;
+    }
+
+    /**
+     * Returns how many hashes are checked per ownership query during compaction.
+     * Importance: Bounds the size of each $in query.
+     * Alternatives: Query one hash at a time.
+     *
+     * @return the batch size.
+     */
+    public int getReferenceBatchSize() {
+        return referenceBatchSize;
+    }
+
+    /**
+     * Updates the reference batch size setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param referenceBatchSize the reference batch size.
+     */
+    public void setReferenceBatchSize(int referenceBatchSize) {
+        this.referenceBatchSize = referenceBatchSize;
+    }
+}
@@ -0,0 +1,129 @@
+package com.heritagegraph360.profile.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for the contact-identifier membership filter.
+ * Importance: Centralizes filter accuracy and sizing.
+ * Alternatives: Hard-code filter parameters in the filter component.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.contact-filter")
+public class ContactFilterProperties {
+    private boolean enabled = true;
+    private double falsePositiveRate = 0.01;
+    private long minCapacity = 1024;
+    private double headroom = 1.5;
+    private int loadFetchSize = 10000;
+
+    /**
+     * Returns whether the filter short-circuits uniqueness checks.
+     * Importance: Lets deployments always probe the database.
+     * Alternatives: Use a feature flag service.
+     *
+     * @return true when the filter is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Updates the filter flag.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param enabled the filter flag.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the target false-positive rate per tenant.
+     * Importance: Trades memory (about 9.6 bits per identifier at 1%) against database probes.
+     * Alternatives: Size filters by a fixed bits-per-entry value.
+     *
+     * @return the false-positive rate.
+     */
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    /**
+     * Updates the false-positive rate.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param falsePositiveRate the false-positive rate.
+     */
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Returns the smallest first-layer capacity for a tenant.
+     * Importance: Avoids many tiny layers for new tenants.
+     * Alternatives: Size every tenant from its current count only.
+     *
+     * @return the minimum capacity.
+     */
+    public long getMinCapacity() {
+        return minCapacity;
+    }
+
+    /**
+     * Updates the minimum capacity.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param minCapacity the minimum capacity.
+     */
+    public void setMinCapacity(long minCapacity) {
+        this.minCapacity = minCapacity;
+    }
+
+    /**
+     * Returns the growth allowance applied to a tenant's loaded identifier count.
+     * Importance: Leaves room for new profiles before a second layer is needed.
+     * Alternatives: Always start at the loaded count.
+     *
+     * @return the headroom factor.
+     */
+    public double getHeadroom() {
+        return headroom;
+    }
+
+    /**
+     * Updates the headroom factor.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param headroom the headroom factor.
+     */
+    public void setHeadroom(double headroom) {
+        this.headroom = headroom;
+    }
+
+    /**
+     * Returns the JDBC fetch size used while building filters.
+     * Importance: Streams large profile tables without loading them into memory.
+     * Alternatives: Page with LIMIT and OFFSET.
+     *
+     * @return the fetch size.
+     */
+    public int getLoadFetchSize() {
+        return loadFetchSize;
+    }
+
+    /**
+     * Updates the fetch size.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param loadFetchSize the fetch size.
+     */
+    public void setLoadFetchSize(int loadFetchSize) {
+        this.loadFetchSize = loadFetchSize;
+    }
+}
@@ -0,0 +1,267 @@
+package com.heritagegraph360.profile.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for blocking-based duplicate candidate generation.
+ * Importance: Centralizes block size limits and candidate thresholds.
+ * Alternatives: Hard-code limits in the candidate index.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.duplicates")
+public class DuplicateDetectionProperties {
+    private boolean enabled = true;
+    private int maxBlockSize = 500;
+    private double reviewSimilarity = 0.75;
+    private int maxCandidates = 50;
+    private int scanChunkCount = 256;
+    private int scanParallelism;
+    private int scanBatchSize = 500;
+    private boolean scanResumeEnabled = true;
+    private long scanLeaseSeconds = 120;
+    private long scanResumeIntervalMs = 30000;
+    private int loadFetchSize = 10000;
+
+    /**
+     * Returns whether candidate generation is enabled.
+     * Importance: Allows disabling the per-tenant block index on constrained nodes.
+     * Alternatives: Use a feature flag service.
+     *
+     * @return true when enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Updates the enabled flag.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param enabled the enabled flag.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the largest name block that is expanded into pairs.
+     * Importance: Prevents very common names or n-grams from reintroducing quadratic work.
+     * Alternatives: Sample oversized blocks instead of skipping them.
+     *
+     * @return the maximum block size.
+     */
+    public int getMaxBlockSize() {
+        return maxBlockSize;
+    }
+
+    /**
+     * Updates the maximum block size.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxBlockSize the maximum block size.
+     */
+    public void setMaxBlockSize(int maxBlockSize) {
+        this.maxBlockSize = maxBlockSize;
+    }
+
+    /**
+     * Returns the minimum similarity reported for reviewer triage.
+     * Importance: Surfaces near misses alongside pairs that pass the duplicate rule.
+     * Alternatives: Report only pairs that pass the duplicate rule.
+     *
+     * @return the review similarity threshold.
+     */
+    public double getReviewSimilarity() {
+        return reviewSimilarity;
+    }
+
+    /**
+     * Updates the review similarity threshold.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param reviewSimilarity the review similarity threshold.
+     */
+    public void setReviewSimilarity(double reviewSimilarity) {
+        this.reviewSimilarity = reviewSimilarity;
+    }
+
+    /**
+     * Returns the maximum candidates returned for one profile.
+     * Importance: Bounds response sizes for the per-profile endpoint.
+     * Alternatives: Paginate candidate responses.
+     *
+     * @return the maximum candidates.
+     */
+    public int getMaxCandidates() {
+        return maxCandidates;
+    }
+
+    /**
+     * Updates the maximum candidates per profile.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxCandidates the maximum candidates.
+     */
+    public void setMaxCandidates(int maxCandidates) {
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * Returns the number of checkpointed chunks a tenant scan is split into.
+     * Importance: Sets the granularity of parallel work and of progress lost on restart.
+     * Alternatives: Size chunks by profile count instead.
+     *
+     * @return the chunk count.
+     */
+    public int getScanChunkCount() {
+        return scanChunkCount;
+    }
+
+    /**
+     * Updates the scan chunk count.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param scanChunkCount the chunk count.
+     */
+    public void setScanChunkCount(int scanChunkCount) {
+        this.scanChunkCount = scanChunkCount;
+    }
+
+    /**
+     * Returns the fork-join parallelism used by scans.
+     * Importance: Lets reviewer-prep nodes use every core while API nodes stay conservative.
+     * Alternatives: Always use the common pool.
+     *
+     * @return the parallelism, or 0 for the number of available processors.
+     */
+    public int getScanParallelism() {
+        return scanParallelism;
+    }
+
+    /**
+     * Updates the scan parallelism.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param scanParallelism the parallelism.
+     */
+    public void setScanParallelism(int scanParallelism) {
+        this.scanParallelism = scanParallelism;
+    }
+
+    /**
+     * Returns the JDBC batch size for merge inserts.
+     * Importance: Bounds statement size while amortizing round trips.
+     * Alternatives: Insert one merge per statement.
+     *
+     * @return the batch size.
+     */
+    public int getScanBatchSize() {
+        return scanBatchSize;
+    }
+
+    /**
+     * Updates the merge insert batch size.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param scanBatchSize the batch size.
+     */
+    public void setScanBatchSize(int scanBatchSize) {
+        this.scanBatchSize = scanBatchSize;
+    }
+
+    /**
+     * Returns whether unfinished scans are resumed at startup.
+     * Importance: Lets only the reviewer-prep node pick up interrupted scans.
+     * Alternatives: Resume scans on every node.
+     *
+     * @return true when resuming is enabled.
+     */
+    public boolean isScanResumeEnabled() {
+        return scanResumeEnabled;
+    }
+
+    /**
+     * Updates the resume flag.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param scanResumeEnabled the resume flag.
+     */
+    public void setScanResumeEnabled(boolean scanResumeEnabled) {
+        this.scanResumeEnabled = scanResumeEnabled;
+    }
+
+    /**
+     * Returns how long a scan stays owned by an instance without a heartbeat or checkpoint.
+     * Importance: Lets another instance take over a scan whose owner crashed.
+     * Alternatives: Resume scans only on the instance that started them.
+     *
+     * @return the lease in seconds.
+     */
+    public long getScanLeaseSeconds() {
+        return scanLeaseSeconds;
+    }
+
+    /**
+     * Updates the scan lease setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param scanLeaseSeconds the lease in seconds.
+     */
+    public void setScanLeaseSeconds(long scanLeaseSeconds) {
+        this.scanLeaseSeconds = scanLeaseSeconds;
+    }
+
+    /**
+     * Returns how often leases are renewed and orphaned scans are looked for.
+     * Importance: Must stay well below the lease so live scans are never taken over.
+     * Alternatives: Renew leases only on checkpoints.
+     *
+     * @return the interval in milliseconds.
+     */
+    public long getScanResumeIntervalMs() {
+        return scanResumeIntervalMs;
+    }
+
+    /**
+     * Updates the scan resume interval setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param scanResumeIntervalMs the interval in milliseconds.
+     */
+    public void setScanResumeIntervalMs(long scanResumeIntervalMs) {
+        this.scanResumeIntervalMs = scanResumeIntervalMs;
+    }
+
+    /**
+     * Returns the JDBC fetch size used when loading a tenant.
+     * Importance: Streams profiles without materializing the tenant in memory.
+     * Alternatives: Page through profiles with offset queries.
+     *
+     * @return the fetch size.
+     */
+    public int getLoadFetchSize() {
+        return loadFetchSize;
+    }
+
+    /**
+     * Updates the load fetch size.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param loadFetchSize the fetch size.
+     */
+    public void setLoadFetchSize(int loadFetchSize) {
+        this.loadFetchSize = loadFetchSize;
+    }
+}
@@ -0,0 +1,153 @@
+package com.heritagegraph360.profile.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for sensitive-field envelope encryption.
+ * Importance: Locates the master keystore and sizes the unwrapped data-key cache.
+ * Alternatives: Read keys from environment variables on every call.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.encryption")
+public class EncryptionProperties {
+    private String keystorePath = "";
+    private String keystorePassword = "";
+    private String masterKeyAlias = "hg360-master-v1";
+    private String legacyKey = "heritagegraph360!";
+    private long dataKeyCacheSize = 10000L;
+    private long dataKeyTtlSeconds = 900L;
+
+    /**
+     * Returns the PKCS12 keystore holding master keys.
+     * Importance: Keeps key-encryption keys out of the database that stores wrapped data keys.
+     * Alternatives: Fetch master keys from a KMS.
+     *
+     * @return the keystore path, or blank to derive a development master key from the legacy key under the dev,
+     *     test, or local profile.
+     */
+    public String getKeystorePath() {
+        return keystorePath;
+    }
+
+    /**
+     * Updates the keystore path setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param keystorePath the keystore path.
+     */
+    public void setKeystorePath(String keystorePath) {
+        this.keystorePath = keystorePath;
+    }
+
+    /**
+     * Returns the keystore password.
+     * Importance: Unlocks the keystore and its secret-key entries.
+     * Alternatives: Use an unprotected keystore.
+     *
+     * @return the password.
+     */
+    public String getKeystorePassword() {
+        return keystorePassword;
+    }
+
+    /**
+     * Updates the keystore password setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param keystorePassword the password.
+     */
+    public void setKeystorePassword(String keystorePassword) {
+        this.keystorePassword = keystorePassword;
+    }
+
+    /**
+     * Returns the alias of the master key used to wrap new data keys.
+     * Importance: Older aliases stay in the keystore so previously wrapped keys can still be unwrapped.
+     * Alternatives: Keep a single master key.
+     *
+     * @return the master key alias.
+     */
+    public String getMasterKeyAlias() {
+        return masterKeyAlias;
+    }
+
+    /**
+     * Updates the master key alias setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param masterKeyAlias the alias.
+     */
+    public void setMasterKeyAlias(String masterKeyAlias) {
+        this.masterKeyAlias = masterKeyAlias;
+    }
+
+    /**
+     * Returns the pre-envelope global key.
+     * Importance: Keeps values written before per-tenant keys readable.
+     * Alternatives: Re-encrypt all legacy values before deploying.
+     *
+     * @return the legacy key text.
+     */
+    public String getLegacyKey() {
+        return legacyKey;
+    }
+
+    /**
+     * Updates the legacy key setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param legacyKey the legacy key text.
+     */
+    public void setLegacyKey(String legacyKey) {
+        this.legacyKey = legacyKey;
+    }
+
+    /**
+     * Returns the maximum number of unwrapped data keys held in memory.
+     * Importance: Bounds heap use and key exposure when many tenants are active.
+     * Alternatives: Cache every tenant's key.
+     *
+     * @return the cache size.
+     */
+    public long getDataKeyCacheSize() {
+        return dataKeyCacheSize;
+    }
+
+    /**
+     * Updates the data key cache size setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param dataKeyCacheSize the cache size.
+     */
+    public void setDataKeyCacheSize(long dataKeyCacheSize) {
+        this.dataKeyCacheSize = dataKeyCacheSize;
+    }
+
+    /**
+     * Returns how long an unwrapped data key stays cached.
+     * Importance: Bounds how long plaintext keys live in memory and how quickly rotations are picked up.
+     * Alternatives: Cache keys until restart.
+     *
+     * @return the TTL in seconds.
+     */
+    public long getDataKeyTtlSeconds() {
+        return dataKeyTtlSeconds;
+    }
+
+    /**
+     * Updates the data key TTL setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param dataKeyTtlSeconds the TTL in seconds.
+     */
+    public void setDataKeyTtlSeconds(long dataKeyTtlSeconds) {
+        this.dataKeyTtlSeconds = dataKeyTtlSeconds;
+    }
+}
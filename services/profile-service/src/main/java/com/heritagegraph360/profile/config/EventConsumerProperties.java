@@ -0,0 +1,198 @@
+package com.heritagegraph360.profile.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for the profile event consumer.
+ * Importance: Tunes batch size, fetch wait, and retry behavior for event ingestion.
+ * Alternatives: Configure the consumer only through spring.kafka properties.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.event-consumer")
+public class EventConsumerProperties {
+    private boolean batchEnabled = true;
+    private int maxBatchSize = 2000;
+    private int maxWaitMs = 500;
+    private int minFetchBytes = 65536;
+    private long retryInitialMs = 500L;
+    private long retryMaxMs = 30000L;
+    private int recordMaxRetries = 5;
+    private String deadLetterTopic = "profile.events.DLT";
+
+    /**
+     * Returns whether profile events are consumed in batches.
+     * Importance: Switches between bulk writes per poll and one save per record.
+     * Alternatives: Always consume record by record.
+     *
+     * @return true when batching.
+     */
+    public boolean isBatchEnabled() {
+        return batchEnabled;
+    }
+
+    /**
+     * Updates the batch enabled setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param batchEnabled the batch flag.
+     */
+    public void setBatchEnabled(boolean batchEnabled) {
+        this.batchEnabled = batchEnabled;
+    }
+
+    /**
+     * Returns the most records delivered to one batch.
+     * Importance: Bounds each Mongo bulk write and maps to max.poll.records.
+     * Alternatives: Use the Kafka client default of 500.
+     *
+     * @return the maximum batch size.
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Updates the max batch size setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxBatchSize the maximum batch size.
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Returns how long the broker may wait to fill a fetch.
+     * Importance: Trades a little latency for fuller batches during quiet periods; maps to fetch.max.wait.ms.
+     * Alternatives: Return fetches immediately.
+     *
+     * @return the maximum wait in milliseconds.
+     */
+    public int getMaxWaitMs() {
+        return maxWaitMs;
+    }
+
+    /**
+     * Updates the max wait ms setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxWaitMs the maximum wait in milliseconds.
+     */
+    public void setMaxWaitMs(int maxWaitMs) {
+        this.maxWaitMs = maxWaitMs;
+    }
+
+    /**
+     * Returns the bytes the broker tries to accumulate before answering a fetch.
+     * Importance: Makes the maximum wait effective; maps to fetch.min.bytes.
+     * Alternatives: Answer fetches as soon as one record exists.
+     *
+     * @return the minimum fetch size.
+     */
+    public int getMinFetchBytes() {
+        return minFetchBytes;
+    }
+
+    /**
+     * Updates the min fetch bytes setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param minFetchBytes the minimum fetch size.
+     */
+    public void setMinFetchBytes(int minFetchBytes) {
+        this.minFetchBytes = minFetchBytes;
+    }
+
+    /**
+     * Returns the first delay before a failed batch is retried.
+     * Importance: Backs off while MongoDB is unavailable instead of spinning.
+     * Alternatives: Retry immediately.
+     *
+     * @return the initial delay in milliseconds.
+     */
+    public long getRetryInitialMs() {
+        return retryInitialMs;
+    }
+
+    /**
+     * Updates the retry initial ms setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param retryInitialMs the initial delay in milliseconds.
+     */
+    public void setRetryInitialMs(long retryInitialMs) {
+        this.retryInitialMs = retryInitialMs;
+    }
+
+    /**
+     * Returns the longest delay between batch retries.
+     * Importance: Keeps retries well inside max.poll.interval.ms so the consumer stays in the group.
+     * Alternatives: Use a fixed delay.
+     *
+     * @return the maximum delay in milliseconds.
+     */
+    public long getRetryMaxMs() {
+        return retryMaxMs;
+    }
+
+    /**
+     * Updates the retry max ms setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param retryMaxMs the maximum delay in milliseconds.
+     */
+    public void setRetryMaxMs(long retryMaxMs) {
+        this.retryMaxMs = retryMaxMs;
+    }
+
+    /**
+     * Returns how often a record MongoDB rejects is retried before it is dead-lettered.
+     * Importance: Keeps one invalid event from blocking its partition forever.
+     * Alternatives: Skip rejected records without retrying.
+     *
+     * @return the number of retries.
+     */
+    public int getRecordMaxRetries() {
+        return recordMaxRetries;
+    }
+
+    /**
+     * Updates the record max retries setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param recordMaxRetries the number of retries.
+     */
+    public void setRecordMaxRetries(int recordMaxRetries) {
+        this.recordMaxRetries = recordMaxRetries;
+    }
+
+    /**
+     * Returns the topic that receives records MongoDB keeps rejecting.
+     * Importance: Preserves poison events for inspection and replay instead of dropping them.
+     * Alternatives: Log and discard rejected records.
+     *
+     * @return the dead-letter topic.
+     */
+    public String getDeadLetterTopic() {
+        return deadLetterTopic;
+    }
+
+    /**
+     * Updates the dead-letter topic setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param deadLetterTopic the dead-letter topic.
+     */
+    public void setDeadLetterTopic(String deadLetterTopic) {
+        this.deadLetterTopic = deadLetterTopic;
+    }
+}
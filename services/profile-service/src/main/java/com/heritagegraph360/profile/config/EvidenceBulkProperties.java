@@ -0,0 +1,83 @@
+package com.heritagegraph360.profile.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for streaming bulk evidence uploads.
+ * Importance: Bounds batch size, line size, and error reporting so memory does not depend on the upload size.
+ * Alternatives: Hard-code limits in the importer.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.evidence-bulk")
+public class EvidenceBulkProperties {
+    private int batchSize = 1000;
+    private int maxLineBytes = 1048576;
+    private int maxReportedErrors = 100;
+
+    /**
+     * Returns the number of records sent per MongoDB bulk upsert.
+     * Importance: Bounds the records held in memory and the size of each bulk write.
+     * Alternatives: Upsert one record at a time.
+     *
+     * @return the batch size.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Updates the batch size setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param batchSize the batch size.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Returns the longest NDJSON line accepted.
+     * Importance: Rejects oversized lines without buffering them.
+     * Alternatives: Rely on the servlet request size limit.
+     *
+     * @return the maximum line length in bytes.
+     */
+    public int getMaxLineBytes() {
+        return maxLineBytes;
+    }
+
+    /**
+     * Updates the maximum line length setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxLineBytes the maximum line length in bytes.
+     */
+    public void setMaxLineBytes(int maxLineBytes) {
+        this.maxLineBytes = maxLineBytes;
+    }
+
+    /**
+     * Returns how many rejected lines are described in the summary.
+     * Importance: Keeps the response small when a whole upload is malformed.
+     * Alternatives: Report every rejected line.
+     *
+     * @return the maximum reported errors.
+     */
+    public int getMaxReportedErrors() {
+        return maxReportedErrors;
+    }
+
+    /**
+     * Updates the maximum reported errors setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxReportedErrors the maximum reported errors.
+     */
+    public void setMaxReportedErrors(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+}
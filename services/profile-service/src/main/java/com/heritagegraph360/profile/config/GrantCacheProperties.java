@@ -0,0 +1,84 @@
+package com.heritagegraph360.profile.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for the field grant decision cache.
+ * Importance: Centralizes cache bounds and expiry for grant resolution.
+ * Alternatives: Hard-code cache limits in the resolver.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.grant-cache")
+public class GrantCacheProperties {
+    private boolean enabled = true;
+    private long maximumSize = 50000;
+    private long ttlSeconds = 60;
+
+    /**
+     * Returns whether grant decisions are cached.
+     * Importance: Lets deployments force a lookup on every request.
+     * Alternatives: Use a feature flag service.
+     *
+     * @return true when caching is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Updates the caching flag.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param enabled the caching flag.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the maximum number of cached tenant, profile, and grantee triples.
+     * Importance: Bounds heap used by grant decisions.
+     * Alternatives: Bound the cache by weight.
+     *
+     * @return the maximum size.
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Updates the maximum size.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maximumSize the maximum size.
+     */
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns how long a grant decision stays cached.
+     * Importance: Bounds how long a grant created on another instance takes to apply here if its GRANT_CREATED event
+     * is missed.
+     * Alternatives: Rely on grant events alone.
+     *
+     * @return the time to live in seconds.
+     */
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    /**
+     * Updates the time to live.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param ttlSeconds the time to live in seconds.
+     */
+    public void setTtlSeconds(long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+    }
+}
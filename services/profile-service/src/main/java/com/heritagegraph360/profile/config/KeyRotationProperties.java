@@ -0,0 +1,175 @@
+package com.heritagegraph360.profile.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for the sensitive field key rotation job.
+ * Importance: Sizes re-encryption batches, workers, and rate limits so rotation does not starve live traffic.
+ * Alternatives: Hard-code limits in the job.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.key-rotation")
+public class KeyRotationProperties {
+    private boolean enabled = true;
+    private int batchSize = 500;
+    private int workers = 2;
+    private int scanWindow = 20000;
+    private double maxDocumentsPerSecond = 2000;
+    private long leaseSeconds = 120L;
+    private long resumeIntervalMs = 60000L;
+
+    /**
+     * Returns whether this instance runs key rotation jobs.
+     * Importance: Lets deployments keep rotation work off latency-sensitive nodes.
+     * Alternatives: Use a feature flag service.
+     *
+     * @return true when rotation jobs run here.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Updates the enabled flag setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param enabled the flag.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the number of documents re-encrypted and written per bulk update.
+     * Importance: Bounds bulk write size and the work lost when a batch fails.
+     * Alternatives: Write one update per document.
+     *
+     * @return the batch size.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Updates the batch size setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param batchSize the batch size.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Returns the number of worker threads re-encrypting batches.
+     * Importance: Keeps rotation CPU use bounded so live requests are not starved.
+     * Alternatives: Use every available core.
+     *
+     * @return the worker count.
+     */
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * Updates the worker count setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param workers the worker count.
+     */
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    /**
+     * Returns how many documents one Mongo cursor reads before it is reopened from the checkpoint.
+     * Importance: Keeps cursors short-lived so they never hit the server idle timeout under rate limiting.
+     * Alternatives: Hold one cursor for the whole tenant with noCursorTimeout.
+     *
+     * @return the window size.
+     */
+    public int getScanWindow() {
+        return scanWindow;
+    }
+
+    /**
+     * Updates the scan window setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param scanWindow the window size.
+     */
+    public void setScanWindow(int scanWindow) {
+        this.scanWindow = scanWindow;
+    }
+
+    /**
+     * Returns the maximum documents re-encrypted per second on this instance.
+     * Importance: Caps MongoDB write load across all rotation jobs on the instance.
+     * Alternatives: Throttle by sleeping a fixed time per batch.
+     *
+     * @return the rate, or zero or less for no limit.
+     */
+    public double getMaxDocumentsPerSecond() {
+        return maxDocumentsPerSecond;
+    }
+
+    /**
+     * Updates the rate limit setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxDocumentsPerSecond the rate.
+     */
+    public void setMaxDocumentsPerSecond(double maxDocumentsPerSecond) {
+        this.maxDocumentsPerSecond = maxDocumentsPerSecond;
+    }
+
+    /**
+     * Returns how long a job stays owned by an instance without a checkpoint.
+     * Importance: Lets another instance take over a job whose owner crashed.
+     * Alternatives: Resume jobs only on the instance that started them.
+     *
+     * @return the lease in seconds.
+     */
+    public long getLeaseSeconds() {
+        return leaseSeconds;
+    }
+
+    /**
+     * Updates the lease setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param leaseSeconds the lease in seconds.
+     */
+    public void setLeaseSeconds(long leaseSeconds) {
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    /**
+     * Returns how often idle instances look for jobs with expired leases.
+     * Importance: Bounds how long an orphaned job waits before it is resumed.
+     * Alternatives: Resume jobs only at startup.
+     *
+     * @return the interval in milliseconds.
+     */
+    public long getResumeIntervalMs() {
+        return resumeIntervalMs;
+    }
+
+    /**
+     * Updates the resume interval setting.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param resumeIntervalMs the interval in milliseconds.
+     */
+    public void setResumeIntervalMs(long resumeIntervalMs) {
+        this.resumeIntervalMs = resumeIntervalMs;
+    }
+}
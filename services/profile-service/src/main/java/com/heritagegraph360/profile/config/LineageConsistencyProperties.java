@@ -0,0 +1,175 @@
+package com.heritagegraph360.profile.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for lineage consistency checks and tenant scans.
+ * Importance: Bounds per-upsert reachability checks and sizes tenant-wide cycle scans.
+ * Alternatives: Hard-code limits in the consistency checker.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.lineage-consistency")
+public class LineageConsistencyProperties {
+    private boolean enabled = true;
+    private int checkMaxDepth = 64;
+    private int checkMaxNodes = 10000;
+    private int incrementalMaxEdges = 1000;
+    private int scanParallelism = 4;
+    private int loadFetchSize = 10000;
+    private int maxReportedMembers = 50;
+
+    /**
+     * Returns whether relationship upserts are checked for impossible lineages.
+     * Importance: Allows turning checks off during bulk repairs.
+     * Alternatives: Use a feature flag service.
+     *
+     * @return true when enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Updates the enabled flag.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param enabled the enabled flag.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the number of generations an upsert check walks above the new parent.
+     * Importance: Bounds the reachability search that proves a new cycle.
+     * Alternatives: Walk until the graph is exhausted.
+     *
+     * @return the check depth.
+     */
+    public int getCheckMaxDepth() {
+        return checkMaxDepth;
+    }
+
+    /**
+     * Updates the check depth.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param checkMaxDepth the check depth.
+     */
+    public void setCheckMaxDepth(int checkMaxDepth) {
+        this.checkMaxDepth = checkMaxDepth;
+    }
+
+    /**
+     * Returns the number of profiles an upsert check may visit.
+     * Importance: Keeps one relationship write from walking a whole tenant; scans cover what a check cannot.
+     * Alternatives: Bound checks by time instead.
+     *
+     * @return the node budget.
+     */
+    public int getCheckMaxNodes() {
+        return checkMaxNodes;
+    }
+
+    /**
+     * Updates the node budget.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param checkMaxNodes the node budget.
+     */
+    public void setCheckMaxNodes(int checkMaxNodes) {
+        this.checkMaxNodes = checkMaxNodes;
+    }
+
+    /**
+     * Returns the number of new edges above which a batch queues a tenant scan instead of checking each edge.
+     * Importance: One tenant scan is cheaper than thousands of bounded walks.
+     * Alternatives: Always check edges incrementally.
+     *
+     * @return the incremental edge limit.
+     */
+    public int getIncrementalMaxEdges() {
+        return incrementalMaxEdges;
+    }
+
+    /**
+     * Updates the incremental edge limit.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param incrementalMaxEdges the incremental edge limit.
+     */
+    public void setIncrementalMaxEdges(int incrementalMaxEdges) {
+        this.incrementalMaxEdges = incrementalMaxEdges;
+    }
+
+    /**
+     * Returns the number of threads that search components during a tenant scan.
+     * Importance: Spreads Tarjan's algorithm over independent components.
+     * Alternatives: Use the common fork-join pool.
+     *
+     * @return the scan parallelism.
+     */
+    public int getScanParallelism() {
+        return scanParallelism;
+    }
+
+    /**
+     * Updates the scan parallelism.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param scanParallelism the scan parallelism.
+     */
+    public void setScanParallelism(int scanParallelism) {
+        this.scanParallelism = scanParallelism;
+    }
+
+    /**
+     * Returns the JDBC fetch size used when a scan streams relationships.
+     * Importance: Keeps 10M-edge tenants from being buffered by the driver.
+     * Alternatives: Page through relationships with keyset queries.
+     *
+     * @return the fetch size.
+     */
+    public int getLoadFetchSize() {
+        return loadFetchSize;
+    }
+
+    /**
+     * Updates the fetch size.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param loadFetchSize the fetch size.
+     */
+    public void setLoadFetchSize(int loadFetchSize) {
+        this.loadFetchSize = loadFetchSize;
+    }
+
+    /**
+     * Returns the maximum number of cycle members stored on a review item.
+     * Importance: Keeps review items readable when a bad import links thousands of profiles.
+     * Alternatives: Store every member.
+     *
+     * @return the member limit.
+     */
+    public int getMaxReportedMembers() {
+        return maxReportedMembers;
+    }
+
+    /**
+     * Updates the member limit.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxReportedMembers the member limit.
+     */
+    public void setMaxReportedMembers(int maxReportedMembers) {
+        this.maxReportedMembers = maxReportedMembers;
+    }
+}
@@ -0,0 +1,221 @@
+package com.heritagegraph360.profile.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for the in-memory lineage graph index.
+ * Importance: Centralizes traversal limits and loading behavior.
+ * Alternatives: Hard-code limits in the lineage controller.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.lineage")
+public class LineageProperties {
+    private boolean enabled = true;
+    private int defaultDepth = 8;
+    private int maxDepth = 64;
+    private int maxNodes = 100000;
+    private int loadFetchSize = 10000;
+    private int compactionMinEdges = 4096;
+    private int pathMaxDepth = 24;
+    private int pathMaxNodes = 200000;
+    private long pathTimeoutMs = 500L;
+
+    /**
+     * Returns whether the index is loaded at startup.
+     * Importance: Allows disabling the index on memory-constrained nodes.
+     * Alternatives: Use a feature flag service.
+     *
+     * @return true when enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Updates the enabled flag.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param enabled the enabled flag.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the depth used when a request omits one.
+     * Importance: Keeps default pedigree views bounded.
+     * Alternatives: Require clients to always pass a depth.
+     *
+     * @return the default depth.
+     */
+    public int getDefaultDepth() {
+        return defaultDepth;
+    }
+
+    /**
+     * Updates the default depth.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param defaultDepth the default depth.
+     */
+    public void setDefaultDepth(int defaultDepth) {
+        this.defaultDepth = defaultDepth;
+    }
+
+    /**
+     * Returns the maximum depth a request may ask for.
+     * Importance: Caps traversal cost per request.
+     * Alternatives: Rely on node budgets only.
+     *
+     * @return the maximum depth.
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Updates the maximum depth.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxDepth the maximum depth.
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Returns the maximum number of profiles returned per traversal.
+     * Importance: Bounds response size for very wide families.
+     * Alternatives: Paginate traversal results.
+     *
+     * @return the node budget.
+     */
+    public int getMaxNodes() {
+        return maxNodes;
+    }
+
+    /**
+     * Updates the node budget.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxNodes the node budget.
+     */
+    public void setMaxNodes(int maxNodes) {
+        this.maxNodes = maxNodes;
+    }
+
+    /**
+     * Returns the JDBC fetch size used when loading edges.
+     * Importance: Streams the relationships table without materializing it.
+     * Alternatives: Page through edges with offset queries.
+     *
+     * @return the fetch size.
+     */
+    public int getLoadFetchSize() {
+        return loadFetchSize;
+    }
+
+    /**
+     * Updates the load fetch size.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param loadFetchSize the fetch size.
+     */
+    public void setLoadFetchSize(int loadFetchSize) {
+        this.loadFetchSize = loadFetchSize;
+    }
+
+    /**
+     * Returns the minimum overlay size that triggers compaction.
+     * Importance: Balances update cost against traversal locality.
+     * Alternatives: Compact on a fixed schedule.
+     *
+     * @return the compaction threshold.
+     */
+    public int getCompactionMinEdges() {
+        return compactionMinEdges;
+    }
+
+    /**
+     * Updates the compaction threshold.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param compactionMinEdges the compaction threshold.
+     */
+    public void setCompactionMinEdges(int compactionMinEdges) {
+        this.compactionMinEdges = compactionMinEdges;
+    }
+
+    /**
+     * Returns the longest relationship chain a kinship path query may return.
+     * Importance: Caps the combined depth of both search frontiers.
+     * Alternatives: Reuse the pedigree walk depth limit.
+     *
+     * @return the maximum path length in edges.
+     */
+    public int getPathMaxDepth() {
+        return pathMaxDepth;
+    }
+
+    /**
+     * Updates the path depth limit.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param pathMaxDepth the maximum path length.
+     */
+    public void setPathMaxDepth(int pathMaxDepth) {
+        this.pathMaxDepth = pathMaxDepth;
+    }
+
+    /**
+     * Returns how many profiles a kinship path query may visit across both frontiers.
+     * Importance: Bounds memory and CPU on dense or highly connected tenant graphs.
+     * Alternatives: Rely on the timeout alone.
+     *
+     * @return the node budget.
+     */
+    public int getPathMaxNodes() {
+        return pathMaxNodes;
+    }
+
+    /**
+     * Updates the path node budget.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param pathMaxNodes the node budget.
+     */
+    public void setPathMaxNodes(int pathMaxNodes) {
+        this.pathMaxNodes = pathMaxNodes;
+    }
+
+    /**
+     * Returns how long a kinship path query may search.
+     * Importance: Keeps pathological graphs from pinning a request thread.
+     * Alternatives: Run searches on a separate executor with cancellation.
+     *
+     * @return the timeout in milliseconds.
+     */
+    public long getPathTimeoutMs() {
+        return pathTimeoutMs;
+    }
+
+    /**
+     * Updates the path timeout.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param pathTimeoutMs the timeout in milliseconds.
+     */
+    public void setPathTimeoutMs(long pathTimeoutMs) {
+        this.pathTimeoutMs = pathTimeoutMs;
+    }
+}
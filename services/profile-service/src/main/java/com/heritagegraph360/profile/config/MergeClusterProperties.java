@@ -0,0 +1,106 @@
+package com.heritagegraph360.profile.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for the in-memory merge cluster index.
+ * Importance: Centralizes canonical-profile resolution and loading behavior.
+ * Alternatives: Hard-code loading settings in the index.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.merge-clusters")
+public class MergeClusterProperties {
+    private boolean enabled = true;
+    private int loadFetchSize = 10000;
+    private long refreshIntervalMs = 5000;
+    private long refreshOverlapMs = 60000;
+
+    /**
+     * Returns whether merge clusters are loaded and resolved.
+     * Importance: Allows serving profiles without canonical resolution on constrained nodes.
+     * Alternatives: Use a feature flag service.
+     *
+     * @return true when enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Updates the enabled flag.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param enabled the enabled flag.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the JDBC fetch size used when streaming approved merges.
+     * Importance: Bounds memory while loading large merge histories.
+     * Alternatives: Load merges page by page.
+     *
+     * @return the fetch size.
+     */
+    public int getLoadFetchSize() {
+        return loadFetchSize;
+    }
+
+    /**
+     * Updates the load fetch size.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param loadFetchSize the fetch size.
+     */
+    public void setLoadFetchSize(int loadFetchSize) {
+        this.loadFetchSize = loadFetchSize;
+    }
+
+    /**
+     * Returns the delay between scans for merges decided on other instances.
+     * Importance: Bounds how long this instance serves a merged-away profile after another node approved the merge.
+     * Alternatives: Refresh from merge events on the profile topic.
+     *
+     * @return the refresh interval in milliseconds.
+     */
+    public long getRefreshIntervalMs() {
+        return refreshIntervalMs;
+    }
+
+    /**
+     * Updates the refresh interval.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param refreshIntervalMs the refresh interval in milliseconds.
+     */
+    public void setRefreshIntervalMs(long refreshIntervalMs) {
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    /**
+     * Returns how far each refresh looks back before the previous one.
+     * Importance: Catches decisions whose transactions committed after a later-stamped decision was already seen.
+     * Alternatives: Track a database sequence on merge decisions.
+     *
+     * @return the refresh overlap in milliseconds.
+     */
+    public long getRefreshOverlapMs() {
+        return refreshOverlapMs;
+    }
+
+    /**
+     * Updates the refresh overlap.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param refreshOverlapMs the refresh overlap in milliseconds.
+     */
+    public void setRefreshOverlapMs(long refreshOverlapMs) {
+        this.refreshOverlapMs = refreshOverlapMs;
+    }
+}
@@ -0,0 +1,198 @@
+package com.heritagegraph360.profile.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for the transactional outbox relay.
+ * Importance: Centralizes relay batch sizing and Kafka back-pressure limits.
+ * Alternatives: Hard-code relay limits in the relay component.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+    private boolean relayEnabled = true;
+    private int batchSize = 500;
+    private int maxBatchesPerPoll = 20;
+    private int maxInFlight = 1000;
+    private long sendTimeoutMs = 30000;
+    private long pollIntervalMs = 200;
+    private long claimLeaseMs = 60000;
+    private int maxAttempts = 10;
+
+    /**
+     * Returns whether this node relays outbox events.
+     * Importance: Lets deployments disable the relay on nodes without Kafka access.
+     * Alternatives: Use a feature flag service.
+     *
+     * @return true when the relay is enabled.
+     */
+    public boolean isRelayEnabled() {
+        return relayEnabled;
+    }
+
+    /**
+     * Updates the relay flag.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param relayEnabled the relay flag.
+     */
+    public void setRelayEnabled(boolean relayEnabled) {
+        this.relayEnabled = relayEnabled;
+    }
+
+    /**
+     * Returns the number of events claimed per relay batch.
+     * Importance: Trades transaction length against round trips.
+     * Alternatives: Claim one event at a time.
+     *
+     * @return the batch size.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Updates the relay batch size.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param batchSize the batch size.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Returns the maximum batches drained per poll.
+     * Importance: Drains backlogs quickly without monopolizing the scheduler thread.
+     * Alternatives: Drain until the outbox is empty.
+     *
+     * @return the maximum batches per poll.
+     */
+    public int getMaxBatchesPerPoll() {
+        return maxBatchesPerPoll;
+    }
+
+    /**
+     * Updates the maximum batches per poll.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxBatchesPerPoll the maximum batches per poll.
+     */
+    public void setMaxBatchesPerPoll(int maxBatchesPerPoll) {
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+    }
+
+    /**
+     * Returns the maximum unacknowledged Kafka sends.
+     * Importance: Bounds producer memory and applies back-pressure to the relay.
+     * Alternatives: Rely on the producer buffer limit alone.
+     *
+     * @return the in-flight limit.
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Updates the in-flight limit.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxInFlight the in-flight limit.
+     */
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Returns how long a batch waits for Kafka acknowledgements.
+     * Importance: Releases claimed rows when the broker is unavailable.
+     * Alternatives: Wait indefinitely.
+     *
+     * @return the send timeout in milliseconds.
+     */
+    public long getSendTimeoutMs() {
+        return sendTimeoutMs;
+    }
+
+    /**
+     * Updates the send timeout.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param sendTimeoutMs the send timeout in milliseconds.
+     */
+    public void setSendTimeoutMs(long sendTimeoutMs) {
+        this.sendTimeoutMs = sendTimeoutMs;
+    }
+
+    /**
+     * Returns the delay between relay polls.
+     * Importance: Bounds event latency when the outbox is idle.
+     * Alternatives: Use database notifications to wake the relay.
+     *
+     * @return the poll interval in milliseconds.
+     */
+    public long getPollIntervalMs() {
+        return pollIntervalMs;
+    }
+
+    /**
+     * Updates the poll interval.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param pollIntervalMs the poll interval in milliseconds.
+     */
+    public void setPollIntervalMs(long pollIntervalMs) {
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    /**
+     * Returns how long a claimed row stays hidden from other relays.
+     * Importance: Lets another node retry rows whose relay died mid-send; must exceed the send timeout.
+     * Alternatives: Hold row locks for the whole send.
+     *
+     * @return the claim lease in milliseconds.
+     */
+    public long getClaimLeaseMs() {
+        return claimLeaseMs;
+    }
+
+    /**
+     * Updates the claim lease.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param claimLeaseMs the claim lease in milliseconds.
+     */
+    public void setClaimLeaseMs(long claimLeaseMs) {
+        this.claimLeaseMs = claimLeaseMs;
+    }
+
+    /**
+     * Returns how many claims a row gets before it is parked.
+     * Importance: Stops an undeliverable event from being retried forever.
+     * Alternatives: Retry until an operator deletes the row.
+     *
+     * @return the maximum delivery attempts.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Updates the maximum delivery attempts.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxAttempts the maximum delivery attempts.
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+}
@@ -0,0 +1,175 @@
+package com.heritagegraph360.profile.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for pedigree-collapse and common-ancestor analytics.
+ * Importance: Bounds analysis depth, loaded profiles, and cohort size.
+ * Alternatives: Hard-code limits in the pedigree analyzer.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.pedigree")
+public class PedigreeProperties {
+    private boolean enabled = true;
+    private int defaultGenerations = 8;
+    private int maxGenerations = 16;
+    private int maxAncestors = 20000;
+    private int maxCohortSize = 200;
+    private int parallelism = 4;
+    private int maxReportedAncestors = 50;
+
+    /**
+     * Returns whether pedigree analytics are served.
+     * Importance: Allows turning analytics off on memory-constrained instances.
+     * Alternatives: Use a feature flag service.
+     *
+     * @return true when enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Updates the enabled flag.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param enabled the enabled flag.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the number of generations analysed when a request does not ask for a depth.
+     * Importance: Keeps casual queries to a typical pedigree chart.
+     * Alternatives: Require clients to always pass a depth.
+     *
+     * @return the default depth.
+     */
+    public int getDefaultGenerations() {
+        return defaultGenerations;
+    }
+
+    /**
+     * Updates the default depth.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param defaultGenerations the default depth.
+     */
+    public void setDefaultGenerations(int defaultGenerations) {
+        this.defaultGenerations = defaultGenerations;
+    }
+
+    /**
+     * Returns the maximum number of generations a request may analyse.
+     * Importance: Bounds the per-generation bitsets each profile holds.
+     * Alternatives: Let clients pick any depth.
+     *
+     * @return the maximum depth.
+     */
+    public int getMaxGenerations() {
+        return maxGenerations;
+    }
+
+    /**
+     * Updates the maximum depth.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxGenerations the maximum depth.
+     */
+    public void setMaxGenerations(int maxGenerations) {
+        this.maxGenerations = maxGenerations;
+    }
+
+    /**
+     * Returns the maximum number of distinct profiles one analysis loads.
+     * Importance: Bounds bitset width and memory on very deep or collapsed pedigrees; larger pedigrees are truncated.
+     * Alternatives: Fail requests that exceed the limit.
+     *
+     * @return the profile limit.
+     */
+    public int getMaxAncestors() {
+        return maxAncestors;
+    }
+
+    /**
+     * Updates the profile limit.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxAncestors the profile limit.
+     */
+    public void setMaxAncestors(int maxAncestors) {
+        this.maxAncestors = maxAncestors;
+    }
+
+    /**
+     * Returns the maximum number of profiles in one cohort request.
+     * Importance: Bounds the number of pairs a cohort compares.
+     * Alternatives: Page cohorts client-side.
+     *
+     * @return the cohort limit.
+     */
+    public int getMaxCohortSize() {
+        return maxCohortSize;
+    }
+
+    /**
+     * Updates the cohort limit.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxCohortSize the cohort limit.
+     */
+    public void setMaxCohortSize(int maxCohortSize) {
+        this.maxCohortSize = maxCohortSize;
+    }
+
+    /**
+     * Returns the number of threads cohort analyses fan out to.
+     * Importance: Spreads per-profile and pairwise work across cores without starving request threads.
+     * Alternatives: Use the common fork-join pool.
+     *
+     * @return the thread count.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Updates the thread count.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param parallelism the thread count.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns the maximum number of ancestors listed per result.
+     * Importance: Keeps responses small when collapse or a shared ancestry is extensive.
+     * Alternatives: Return every ancestor.
+     *
+     * @return the report limit.
+     */
+    public int getMaxReportedAncestors() {
+        return maxReportedAncestors;
+    }
+
+    /**
+     * Updates the report limit.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxReportedAncestors the report limit.
+     */
+    public void setMaxReportedAncestors(int maxReportedAncestors) {
+        this.maxReportedAncestors = maxReportedAncestors;
+    }
+}
@@ -0,0 +1,60 @@
+package com.heritagegraph360.profile.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for bulk profile creation.
+ * Importance: Bounds request size and JDBC batching for archive onboarding.
+ * Alternatives: Hard-code limits in the batch service.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.profile-batch")
+public class ProfileBatchProperties {
+    private int maxItems = 5000;
+    private int jdbcBatchSize = 500;
+
+    /**
+     * Returns the maximum number of profiles per batch request.
+     * Importance: Keeps one batch transaction and response to a bounded size.
+     * Alternatives: Stream unbounded batches.
+     *
+     * @return the maximum items.
+     */
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    /**
+     * Updates the maximum items.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxItems the maximum items.
+     */
+    public void setMaxItems(int maxItems) {
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * Returns the number of rows sent per JDBC batch.
+     * Importance: Trades driver memory against round trips.
+     * Alternatives: Send the whole request as one JDBC batch.
+     *
+     * @return the JDBC batch size.
+     */
+    public int getJdbcBatchSize() {
+        return jdbcBatchSize;
+    }
+
+    /**
+     * Updates the JDBC batch size.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param jdbcBatchSize the JDBC batch size.
+     */
+    public void setJdbcBatchSize(int jdbcBatchSize) {
+        this.jdbcBatchSize = jdbcBatchSize;
+    }
+}
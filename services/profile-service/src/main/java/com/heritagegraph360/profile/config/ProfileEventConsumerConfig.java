@@ -0,0 +1,106 @@
+package com.heritagegraph360.profile.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+/**
+ * Defines the listener containers used for profile events.
+ * Importance: Delivers whole polls to the ingestion consumer and commits offsets only when it acknowledges them, and
+ * lets cache invalidators read every partition on every instance without a consumer group.
+ * Alternatives: Switch the default container factory to batch mode for every listener.
+ */
+@Configuration
+public class ProfileEventConsumerConfig {
+    /**
+     * Creates the batch listener container factory.
+     * Importance: Applies the profile event error handler to this factory only, leaving the default factory untouched.
+     * Alternatives: Register the error handler as a bean, which Boot would apply to every listener.
+     *
+     * @param configurer applies spring.kafka.listener settings shared with the default factory.
+     * @param consumerFactory the Boot-configured consumer factory.
+     * @param kafkaTemplate the template used to publish dead letters.
+     * @param properties the event consumer properties.
+     * @return the container factory.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> profileEventBatchFactory(
+        ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+        ConsumerFactory<Object, Object> consumerFactory,
+        KafkaTemplate<String, byte[]> kafkaTemplate,
+        EventConsumerProperties properties) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        factory.setCommonErrorHandler(errorHandler(kafkaTemplate, properties));
+        return factory;
+    }
+
+    /**
+     * Creates the listener container factory for per-instance broadcast listeners.
+     * Importance: Its consumers have no group.id and never commit, so listeners that assign every partition to
+     * themselves leave no consumer group behind when an instance restarts or scales away; each start reads from the end
+     * of every partition.
+     * Alternatives: Subscribe with a per-instance consumer group, which the broker keeps until offset retention expires.
+     *
+     * @param configurer applies spring.kafka.listener settings shared with the default factory.
+     * @param consumerFactory the Boot-configured consumer factory.
+     * @return the container factory.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> profileEventBroadcastFactory(
+        ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+        ConsumerFactory<Object, Object> consumerFactory) {
+        Map<String, Object> configs = new HashMap<>(consumerFactory.getConfigurationProperties());
+        configs.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        configs.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configs.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, new DefaultKafkaConsumerFactory<>(configs));
+        factory.setConcurrency(1);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAssignmentCommitOption(ContainerProperties.AssignmentCommitOption.NEVER);
+        return factory;
+    }
+
+    /**
+     * Creates the error handler for profile event batches.
+     * Importance: Whole-batch failures such as a MongoDB outage are retried until they succeed, while a record the
+     * listener reports as failed is retried a bounded number of times and then dead-lettered so its partition moves on.
+     * Alternatives: Bound every retry, which would dead-letter whole batches during an outage.
+     *
+     * @param kafkaTemplate the template used to publish dead letters.
+     * @param properties the event consumer properties.
+     * @return the error handler.
+     */
+    public static DefaultErrorHandler errorHandler(KafkaOperations<?, ?> kafkaTemplate,
+                                                   EventConsumerProperties properties) {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+            (record, ex) -> new TopicPartition(properties.getDeadLetterTopic(), -1));
+        ExponentialBackOff batchBackOff = new ExponentialBackOff(properties.getRetryInitialMs(), 2.0);
+        batchBackOff.setMaxInterval(properties.getRetryMaxMs());
+        ExponentialBackOffWithMaxRetries recordBackOff =
+            new ExponentialBackOffWithMaxRetries(Math.max(0, properties.getRecordMaxRetries()));
+        recordBackOff.setInitialInterval(properties.getRetryInitialMs());
+        recordBackOff.setMultiplier(2.0);
+        recordBackOff.setMaxInterval(properties.getRetryMaxMs());
+        DefaultErrorHandler handler = new DefaultErrorHandler(recoverer, batchBackOff);
+        handler.setBackOffFunction((record, ex) -> recordBackOff);
+        return handler;
+    }
+}
@@ -0,0 +1,106 @@
+package com.heritagegraph360.profile.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for the public profile read-model cache.
+ * Importance: Centralizes cache bounds and expiry for unauthenticated profile reads.
+ * Alternatives: Hard-code cache limits in the cache component.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.public-cache")
+public class PublicProfileCacheProperties {
+    private boolean enabled = true;
+    private long maximumSize = 100000;
+    private long ttlSeconds = 300;
+    private long negativeTtlSeconds = 30;
+
+    /**
+     * Returns whether public profiles are cached.
+     * Importance: Lets deployments bypass the cache during incidents.
+     * Alternatives: Use a feature flag service.
+     *
+     * @return true when caching is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Updates the caching flag.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param enabled the caching flag.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the maximum number of cached profile ids.
+     * Importance: Bounds heap used by public and negative entries together.
+     * Alternatives: Bound the cache by weight instead of count.
+     *
+     * @return the maximum size.
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Updates the maximum size.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maximumSize the maximum size.
+     */
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns how long a public profile stays cached.
+     * Importance: Caps staleness if an invalidation event is missed.
+     * Alternatives: Rely on invalidation events alone.
+     *
+     * @return the time to live in seconds.
+     */
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    /**
+     * Updates the time to live.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param ttlSeconds the time to live in seconds.
+     */
+    public void setTtlSeconds(long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * Returns how long a non-public or unknown id stays cached.
+     * Importance: Absorbs repeated probes of missing ids while letting newly published profiles appear quickly.
+     * Alternatives: Do not cache misses.
+     *
+     * @return the negative time to live in seconds.
+     */
+    public long getNegativeTtlSeconds() {
+        return negativeTtlSeconds;
+    }
+
+    /**
+     * Updates the negative time to live.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param negativeTtlSeconds the negative time to live in seconds.
+     */
+    public void setNegativeTtlSeconds(long negativeTtlSeconds) {
+        this.negativeTtlSeconds = negativeTtlSeconds;
+    }
+}
@@ -0,0 +1,83 @@
+package com.heritagegraph360.profile.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for relationship upserts and bulk edge ingestion.
+ * Importance: Bounds request size, statement size, and closure maintenance for GEDCOM-scale imports.
+ * Alternatives: Hard-code limits in the relationship services.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.relationship-batch")
+public class RelationshipBatchProperties {
+    private int maxItems = 5000;
+    private int upsertChunkSize = 1000;
+    private int closureRebuildThreshold = 1000;
+
+    /**
+     * Returns the maximum number of edges per batch request.
+     * Importance: Keeps one batch transaction and response to a bounded size.
+     * Alternatives: Stream unbounded batches.
+     *
+     * @return the maximum items.
+     */
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    /**
+     * Updates the maximum items.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxItems the maximum items.
+     */
+    public void setMaxItems(int maxItems) {
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * Returns the number of edges sent per upsert statement.
+     * Importance: Trades statement size against round trips.
+     * Alternatives: Send the whole request as one statement.
+     *
+     * @return the upsert chunk size.
+     */
+    public int getUpsertChunkSize() {
+        return upsertChunkSize;
+    }
+
+    /**
+     * Updates the upsert chunk size.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param upsertChunkSize the upsert chunk size.
+     */
+    public void setUpsertChunkSize(int upsertChunkSize) {
+        this.upsertChunkSize = upsertChunkSize;
+    }
+
+    /**
+     * Returns the number of new edges above which a batch rebuilds the closure instead of extending it.
+     * Importance: One tenant rebuild is cheaper than thousands of incremental closure joins.
+     * Alternatives: Always maintain the closure incrementally.
+     *
+     * @return the closure rebuild threshold.
+     */
+    public int getClosureRebuildThreshold() {
+        return closureRebuildThreshold;
+    }
+
+    /**
+     * Updates the closure rebuild threshold.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param closureRebuildThreshold the closure rebuild threshold.
+     */
+    public void setClosureRebuildThreshold(int closureRebuildThreshold) {
+        this.closureRebuildThreshold = closureRebuildThreshold;
+    }
+}
@@ -0,0 +1,106 @@
+package com.heritagegraph360.profile.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Holds configuration for streamed family tree exports.
+ * Importance: Bounds generations, profiles, and bytes per tree render.
+ * Alternatives: Hard-code limits in the export service.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.tree-export")
+public class TreeExportProperties {
+    private int defaultGenerations = 3;
+    private int maxGenerations = 10;
+    private int maxNodes = 5000;
+    private long maxPayloadBytes = 4L * 1024 * 1024;
+
+    /**
+     * Returns the generations exported in each direction when a request omits them.
+     * Importance: Keeps default tree renders small.
+     * Alternatives: Require clients to always pass generations.
+     *
+     * @return the default generations.
+     */
+    public int getDefaultGenerations() {
+        return defaultGenerations;
+    }
+
+    /**
+     * Updates the default generations.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param defaultGenerations the default generations.
+     */
+    public void setDefaultGenerations(int defaultGenerations) {
+        this.defaultGenerations = defaultGenerations;
+    }
+
+    /**
+     * Returns the most generations exported in each direction.
+     * Importance: Caps the depth a single request can ask for.
+     * Alternatives: Cap by node count only.
+     *
+     * @return the maximum generations.
+     */
+    public int getMaxGenerations() {
+        return maxGenerations;
+    }
+
+    /**
+     * Updates the maximum generations.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxGenerations the maximum generations.
+     */
+    public void setMaxGenerations(int maxGenerations) {
+        this.maxGenerations = maxGenerations;
+    }
+
+    /**
+     * Returns the most profiles written per export.
+     * Importance: Bounds the per-generation profile lookup and the viewer's render cost.
+     * Alternatives: Bound only by payload bytes.
+     *
+     * @return the maximum node count.
+     */
+    public int getMaxNodes() {
+        return maxNodes;
+    }
+
+    /**
+     * Updates the maximum node count.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxNodes the maximum node count.
+     */
+    public void setMaxNodes(int maxNodes) {
+        this.maxNodes = maxNodes;
+    }
+
+    /**
+     * Returns the payload size after which an export stops adding nodes and edges.
+     * Importance: Protects clients and the network from oversized trees.
+     * Alternatives: Let clients abort large downloads.
+     *
+     * @return the maximum payload bytes.
+     */
+    public long getMaxPayloadBytes() {
+        return maxPayloadBytes;
+    }
+
+    /**
+     * Updates the maximum payload bytes.
+     * Importance: Supports configuration binding.
+     * Alternatives: Use immutable configuration objects.
+     *
+     * @param maxPayloadBytes the maximum payload bytes.
+     */
+    public void setMaxPayloadBytes(long maxPayloadBytes) {
+        this.maxPayloadBytes = maxPayloadBytes;
+    }
+}
@@ -0,0 +1,278 @@
+package com.heritagegraph360.profile.consistency;
+
+import com.heritagegraph360.profile.closure.AncestryClosureStore;
+import com.heritagegraph360.profile.config.AncestryClosureProperties;
+import com.heritagegraph360.profile.config.LineageConsistencyProperties;
+import com.heritagegraph360.profile.graph.LineageDirection;
+import com.heritagegraph360.profile.graph.LineageEntry;
+import com.heritagegraph360.profile.graph.LineageGraphIndex;
+import com.heritagegraph360.profile.repo.RelationshipEdgeStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * Checks new relationship edges for impossible lineages.
+ * Importance: Catches a bad import when it creates a cycle instead of when a traversal trips over it.
+ * Alternatives: Rely on periodic tenant scans only.
+ */
+@Component
+public class LineageConsistencyChecker {
+    private final LineageGraphIndex lineageGraphIndex;
+    private final AncestryClosureStore closureStore;
+    private final AncestryClosureProperties closureProperties;
+    private final LineageViolationStore violationStore;
+    private final LineageConsistencyProperties properties;
+    private final Counter clean;
+    private final Counter violation;
+    private final Counter inconclusive;
+    private final Counter skipped;
+
+    /**
+     * Holds the outcome of one bounded ancestor search.
+     * Importance: Separates "no cycle" from "gave up before knowing".
+     * Alternatives: Return null and a flag through an array.
+     */
+    private static final class Search {
+        private final List<UUID> path;
+        private final boolean exhausted;
+
+        /**
+         * Creates a search outcome.
+         * Importance: Captures both results of the walk.
+         * Alternatives: Use two return values.
+         *
+         * @param path the path from the new parent up to the new child, or null when none was found.
+         * @param exhausted whether the depth or node budget ran out first.
+         */
+        private Search(List<UUID> path, boolean exhausted) {
+            this.path = path;
+            this.exhausted = exhausted;
+        }
+    }
+
+    /**
+     * Creates the consistency checker.
+     * Importance: Connects checks to the lineage index, the closure fallback, review items, and metrics.
+     * Alternatives: Query relationships with recursive SQL.
+     *
+     * @param lineageGraphIndex the in-memory lineage index.
+     * @param closureStore the ancestry closure store used while the index warms up.
+     * @param closureProperties the closure properties.
+     * @param violationStore the review item store.
+     * @param properties the consistency properties.
+     * @param meterRegistry the meter registry.
+     */
+    public LineageConsistencyChecker(LineageGraphIndex lineageGraphIndex,
+                                     AncestryClosureStore closureStore,
+                                     AncestryClosureProperties closureProperties,
+                                     LineageViolationStore violationStore,
+                                     LineageConsistencyProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.lineageGraphIndex = lineageGraphIndex;
+        this.closureStore = closureStore;
+        this.closureProperties = closureProperties;
+        this.violationStore = violationStore;
+        this.properties = properties;
+        this.clean = checks(meterRegistry, "clean");
+        this.violation = checks(meterRegistry, "violation");
+        this.inconclusive = checks(meterRegistry, "inconclusive");
+        this.skipped = checks(meterRegistry, "skipped");
+    }
+
+    /**
+     * Returns whether a batch of new edges is small enough to check edge by edge.
+     * Importance: Lets bulk imports hand large batches to a tenant scan.
+     * Alternatives: Always check edge by edge.
+     *
+     * @param edges the number of new edges.
+     * @return true when the edges should be checked incrementally, or when checks are disabled.
+     */
+    public boolean checksIncrementally(int edges) {
+        return !properties.isEnabled() || edges <= properties.getIncrementalMaxEdges();
+    }
+
+    /**
+     * Checks new edges and records any violations as review items.
+     * Importance: A new child-to-parent edge closes a cycle exactly when the child is already an ancestor of
+     * the parent, so one bounded walk up from the parent decides it. Edges earlier in the list count for later ones.
+     * Must run inside the transaction that writes the edges. Edges committed concurrently by other
+     * transactions are not visible yet; tenant scans cover them.
+     * Alternatives: Re-run cycle detection over the whole tenant.
+     *
+     * @param tenantId the tenant identifier.
+     * @param edges the new edges.
+     * @return the violation each edge closes, aligned with the input, or null for consistent edges.
+     */
+    public LineageViolation[] checkEdges(String tenantId, List<RelationshipEdgeStore.Edge> edges) {
+        LineageViolation[] found = new LineageViolation[edges.size()];
+        if (!properties.isEnabled() || edges.isEmpty()) {
+            return found;
+        }
+        List<LineageViolation> violations = new ArrayList<>();
+        Map<UUID, List<UUID>> pending = new HashMap<>();
+        for (int i = 0; i < edges.size(); i++) {
+            UUID child = edges.get(i).getProfileId();
+            UUID parent = edges.get(i).getRelatedProfileId();
+            found[i] = check(tenantId, child, parent, pending);
+            if (found[i] != null) {
+                violations.add(found[i]);
+            }
+            pending.computeIfAbsent(child, key -> new ArrayList<>()).add(parent);
+        }
+        violationStore.recordAll(tenantId, violations, LineageViolationStore.SOURCE_UPSERT);
+        return found;
+    }
+
+    /**
+     * Checks one edge against the committed graph and the edges already checked in this call.
+     * Importance: Falls back to one closure lookup while the lineage index warms up.
+     * Alternatives: Skip checks during warm-up.
+     *
+     * @param tenantId the tenant identifier.
+     * @param child the child profile identifier.
+     * @param parent the parent profile identifier.
+     * @param pending the edges already checked in this call, child to parents.
+     * @return the violation, or null.
+     */
+    private LineageViolation check(String tenantId, UUID child, UUID parent, Map<UUID, List<UUID>> pending) {
+        if (child.equals(parent)) {
+            violation.increment();
+            return new LineageViolation(LineageViolationType.SELF_PARENT, child, child, 1, List.of(child));
+        }
+        if (lineageGraphIndex.isReady()) {
+            Search search = ancestorPath(tenantId, parent, child, pending);
+            if (search.path != null) {
+                violation.increment();
+                List<UUID> cycle = new ArrayList<>(search.path.size());
+                cycle.add(child);
+                cycle.addAll(search.path.subList(0, search.path.size() - 1));
+                return cycle(cycle, cycle.size());
+            }
+            if (search.exhausted) {
+                inconclusive.increment();
+            } else {
+                clean.increment();
+            }
+            return null;
+        }
+        if (closureProperties.isEnabled()) {
+            Optional<Integer> depth = closureStore.depthBetween(tenantId, child, parent);
+            if (depth.isPresent()) {
+                violation.increment();
+                return cycle(List.of(child, parent), depth.get() + 1);
+            }
+            clean.increment();
+            return null;
+        }
+        skipped.increment();
+        return null;
+    }
+
+    /**
+     * Walks up from a profile, breadth first, looking for a target ancestor.
+     * Importance: Finds the shortest cycle a new edge would close, within the configured depth and node budget.
+     * Alternatives: Walk depth first and report the first path found.
+     *
+     * @param tenantId the tenant identifier.
+     * @param from the profile to start from.
+     * @param target the ancestor to look for.
+     * @param pending the edges already checked in this call, child to parents.
+     * @return the search outcome; the path runs from {@code from} up to {@code target}.
+     */
+    private Search ancestorPath(String tenantId, UUID from, UUID target, Map<UUID, List<UUID>> pending) {
+        Map<UUID, UUID> previous = new HashMap<>();
+        previous.put(from, null);
+        List<UUID> frontier = List.of(from);
+        for (int depth = 1; depth <= properties.getCheckMaxDepth() && !frontier.isEmpty(); depth++) {
+            List<UUID> next = new ArrayList<>();
+            for (UUID node : frontier) {
+                for (UUID parent : parentsOf(tenantId, node, pending)) {
+                    if (previous.containsKey(parent)) {
+                        continue;
+                    }
+                    previous.put(parent, node);
+                    if (parent.equals(target)) {
+                        List<UUID> path = new ArrayList<>();
+                        for (UUID step = parent; step != null; step = previous.get(step)) {
+                            path.add(0, step);
+                        }
+                        return new Search(path, false);
+                    }
+                    if (previous.size() > properties.getCheckMaxNodes()) {
+                        return new Search(null, true);
+                    }
+                    next.add(parent);
+                }
+            }
+            frontier = next;
+        }
+        return new Search(null, !frontier.isEmpty());
+    }
+
+    /**
+     * Returns a profile's parents from the lineage index and from edges checked earlier in this call.
+     * Importance: Lets a batch that closes a cycle among its own edges be caught before commit.
+     * Alternatives: Check only against committed edges.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the profile identifier.
+     * @param pending the edges already checked in this call, child to parents.
+     * @return the parents.
+     */
+    private List<UUID> parentsOf(String tenantId, UUID profileId, Map<UUID, List<UUID>> pending) {
+        List<LineageEntry> indexed = lineageGraphIndex.relatives(tenantId, profileId, LineageDirection.ANCESTORS);
+        List<UUID> extra = pending.getOrDefault(profileId, List.of());
+        List<UUID> parents = new ArrayList<>(indexed.size() + extra.size());
+        for (LineageEntry entry : indexed) {
+            parents.add(entry.getProfileId());
+        }
+        parents.addAll(extra);
+        return parents;
+    }
+
+    /**
+     * Describes an ordered cycle as a violation.
+     * Importance: Keys the cycle by its smallest profile id, as tenant scans do, so both report one item.
+     * Alternatives: Key the cycle by the new edge.
+     *
+     * @param cycle the cycle's profiles, each a child of the next and the last a child of the first.
+     * @param cycleSize the number of profiles in the cycle.
+     * @return the violation.
+     */
+    private LineageViolation cycle(List<UUID> cycle, int cycleSize) {
+        int key = 0;
+        for (int i = 1; i < cycle.size(); i++) {
+            if (cycle.get(i).compareTo(cycle.get(key)) < 0) {
+                key = i;
+            }
+        }
+        List<UUID> members = new ArrayList<>(cycle);
+        members.sort(null);
+        return new LineageViolation(LineageViolationType.ANCESTOR_CYCLE, cycle.get(key),
+            cycle.get((key + 1) % cycle.size()), cycleSize,
+            members.subList(0, Math.min(members.size(), Math.max(1, properties.getMaxReportedMembers()))));
+    }
+
+    /**
+     * Builds the check counter for an outcome.
+     * Importance: Tags check results consistently.
+     * Alternatives: Use one counter per outcome name.
+     *
+     * @param meterRegistry the meter registry.
+     * @param result the outcome tag.
+     * @return the counter.
+     */
+    private static Counter checks(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("lineage.consistency.checks")
+            .description("Relationship edges checked for impossible lineages by outcome")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
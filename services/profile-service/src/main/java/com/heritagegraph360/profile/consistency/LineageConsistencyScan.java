@@ -0,0 +1,149 @@
+package com.heritagegraph360.profile.consistency;
+
+import java.time.Instant;
+
+/**
+ * Tracks one tenant's lineage consistency scan on this instance.
+ * Importance: Lets operators poll a scan of a large tenant.
+ * Alternatives: Persist scan jobs in a table.
+ */
+public class LineageConsistencyScan {
+    private final String tenantId;
+    private final Instant startedAt;
+    private volatile LineageConsistencyScanStatus status = LineageConsistencyScanStatus.RUNNING;
+    private volatile long edges;
+    private volatile int selfParents;
+    private volatile int cycles;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    /**
+     * Creates a running scan.
+     * Importance: Records when the scan was requested.
+     * Alternatives: Set the start time when the worker picks it up.
+     *
+     * @param tenantId the tenant identifier.
+     */
+    public LineageConsistencyScan(String tenantId) {
+        this.tenantId = tenantId;
+        this.startedAt = Instant.now();
+    }
+
+    /**
+     * Marks the scan as completed.
+     * Importance: Publishes what the scan found to pollers.
+     * Alternatives: Leave completion implicit in the counts.
+     *
+     * @param edges the number of relationship edges scanned.
+     * @param selfParents the number of self-parent edges found.
+     * @param cycles the number of ancestor cycles found.
+     */
+    void complete(long edges, int selfParents, int cycles) {
+        this.edges = edges;
+        this.selfParents = selfParents;
+        this.cycles = cycles;
+        this.finishedAt = Instant.now();
+        this.status = LineageConsistencyScanStatus.COMPLETED;
+    }
+
+    /**
+     * Marks the scan as failed.
+     * Importance: Tells operators why no review items were written.
+     * Alternatives: Only log failures.
+     *
+     * @param error the failure message.
+     */
+    void fail(String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.status = LineageConsistencyScanStatus.FAILED;
+    }
+
+    /**
+     * Returns the tenant identifier.
+     * Importance: Identifies the scan.
+     * Alternatives: Key scans by a generated id.
+     *
+     * @return the tenant identifier.
+     */
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Returns when the scan was requested.
+     * Importance: Helps operators spot stuck scans.
+     * Alternatives: Expose only the duration.
+     *
+     * @return the start time.
+     */
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Returns the scan status.
+     * Importance: Drives polling until a terminal state.
+     * Alternatives: Expose boolean flags.
+     *
+     * @return the status.
+     */
+    public LineageConsistencyScanStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the number of relationship edges scanned.
+     * Importance: Shows how large the tenant's graph is.
+     * Alternatives: Count rows with a separate query.
+     *
+     * @return the edge count, or 0 until completed.
+     */
+    public long getEdges() {
+        return edges;
+    }
+
+    /**
+     * Returns the number of self-parent edges found.
+     * Importance: Summarizes the scan without listing review items.
+     * Alternatives: Query the review items.
+     *
+     * @return the self-parent count.
+     */
+    public int getSelfParents() {
+        return selfParents;
+    }
+
+    /**
+     * Returns the number of ancestor cycles found.
+     * Importance: Summarizes the scan without listing review items.
+     * Alternatives: Query the review items.
+     *
+     * @return the cycle count.
+     */
+    public int getCycles() {
+        return cycles;
+    }
+
+    /**
+     * Returns when the scan finished.
+     * Importance: Helps operators size scan windows.
+     * Alternatives: Expose only the duration.
+     *
+     * @return the finish time, or null while running.
+     */
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * Returns the failure message.
+     * Importance: Explains failed scans.
+     * Alternatives: Only log failures.
+     *
+     * @return the error, or null.
+     */
+    public String getError() {
+        return error;
+    }
+}
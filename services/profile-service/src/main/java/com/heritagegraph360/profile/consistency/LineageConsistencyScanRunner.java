@@ -0,0 +1,191 @@
+package com.heritagegraph360.profile.consistency;
+
+import com.heritagegraph360.profile.config.LineageConsistencyProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs tenant-wide lineage consistency scans in the background, one tenant at a time.
+ * Importance: Finds every cycle, including those upsert checks could not prove within their budget.
+ * Alternatives: Scan from a scheduled batch job.
+ */
+@Component
+public class LineageConsistencyScanRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LineageConsistencyScanRunner.class);
+    private static final int INITIAL_TENANT_PROFILES = 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate transaction;
+    private final LineageViolationStore violationStore;
+    private final LineageConsistencyProperties properties;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final ExecutorService searchPool;
+    private final Map<String, LineageConsistencyScan> scans = new ConcurrentHashMap<>();
+    private final Set<String> rerunRequested = ConcurrentHashMap.newKeySet();
+    private final Counter completed;
+    private final Counter failed;
+
+    /**
+     * Creates the scan runner.
+     * Importance: Connects scans to relationship storage, review items, and metrics.
+     * Alternatives: Use the Spring task executor.
+     *
+     * @param dataSource the relational data source.
+     * @param transactionManager the transaction manager.
+     * @param violationStore the review item store.
+     * @param properties the consistency properties.
+     * @param meterRegistry the meter registry.
+     */
+    public LineageConsistencyScanRunner(DataSource dataSource,
+                                        PlatformTransactionManager transactionManager,
+                                        LineageViolationStore violationStore,
+                                        LineageConsistencyProperties properties,
+                                        MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.getLoadFetchSize());
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.violationStore = violationStore;
+        this.properties = properties;
+        this.searchPool = Executors.newFixedThreadPool(Math.max(1, properties.getScanParallelism()));
+        this.completed = scans(meterRegistry, "completed");
+        this.failed = scans(meterRegistry, "failed");
+    }
+
+    /**
+     * Starts a scan for a tenant, or schedules one more run when a scan is already running.
+     * Importance: Coalesces repeated requests while still covering edges the running scan already read past.
+     * Alternatives: Queue every request.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the running scan.
+     */
+    public synchronized LineageConsistencyScan start(String tenantId) {
+        LineageConsistencyScan existing = scans.get(tenantId);
+        if (existing != null && existing.getStatus() == LineageConsistencyScanStatus.RUNNING) {
+            rerunRequested.add(tenantId);
+            return existing;
+        }
+        LineageConsistencyScan scan = new LineageConsistencyScan(tenantId);
+        scans.put(tenantId, scan);
+        executor.execute(() -> run(scan));
+        return scan;
+    }
+
+    /**
+     * Returns the latest scan for a tenant on this instance.
+     * Importance: Supports polling.
+     * Alternatives: Return every scan.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the latest scan, if any.
+     */
+    public Optional<LineageConsistencyScan> status(String tenantId) {
+        return Optional.ofNullable(scans.get(tenantId));
+    }
+
+    /**
+     * Stops the worker threads.
+     * Importance: Lets the application shut down; an interrupted scan records nothing.
+     * Alternatives: Let the JVM kill the threads.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        searchPool.shutdownNow();
+    }
+
+    /**
+     * Scans one tenant and records the outcome.
+     * Importance: Keeps failures on the scan record instead of the worker thread.
+     * Alternatives: Let exceptions reach the executor.
+     *
+     * @param scan the scan to run.
+     */
+    private void run(LineageConsistencyScan scan) {
+        long started = System.nanoTime();
+        String tenantId = scan.getTenantId();
+        long edges = 0;
+        int selfParents = 0;
+        int cycles = 0;
+        String error = null;
+        try {
+            LineageCycleDetector detector = new LineageCycleDetector(INITIAL_TENANT_PROFILES);
+            readOnlyTransaction.executeWithoutResult(status -> {
+                jdbcTemplate.query(
+                    "SELECT profile_id, related_profile_id FROM relationships WHERE tenant_id = ?",
+                    rs -> {
+                        detector.addEdge(rs.getObject(1, UUID.class), rs.getObject(2, UUID.class));
+                    },
+                    tenantId);
+            });
+            edges = detector.edgeCount();
+            List<LineageViolation> violations = detector.detect(searchPool, properties.getMaxReportedMembers());
+            transaction.executeWithoutResult(status ->
+                violationStore.recordAll(tenantId, violations, LineageViolationStore.SOURCE_SCAN));
+            for (LineageViolation violation : violations) {
+                if (violation.getType() == LineageViolationType.SELF_PARENT) {
+                    selfParents++;
+                } else {
+                    cycles++;
+                }
+            }
+            completed.increment();
+            LOGGER.info("Lineage consistency scan for tenant {} checked {} edges and found {} self-parent edges "
+                + "and {} cycles in {} ms", tenantId, edges, selfParents, cycles,
+                (System.nanoTime() - started) / 1_000_000);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            error = "Interrupted";
+            failed.increment();
+        } catch (RuntimeException ex) {
+            error = ex.getMessage();
+            failed.increment();
+            LOGGER.warn("Lineage consistency scan failed for tenant {}", tenantId, ex);
+        }
+        synchronized (this) {
+            if (error == null) {
+                scan.complete(edges, selfParents, cycles);
+            } else {
+                scan.fail(error);
+            }
+            if (rerunRequested.remove(tenantId) && !executor.isShutdown()) {
+                start(tenantId);
+            }
+        }
+    }
+
+    /**
+     * Builds the scan counter for an outcome.
+     * Importance: Tags scan results consistently.
+     * Alternatives: Use one counter per outcome name.
+     *
+     * @param meterRegistry the meter registry.
+     * @param result the outcome tag.
+     * @return the counter.
+     */
+    private static Counter scans(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("lineage.consistency.scans")
+            .description("Tenant lineage consistency scans by outcome")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
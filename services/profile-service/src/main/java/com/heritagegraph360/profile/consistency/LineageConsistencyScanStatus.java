@@ -0,0 +1,12 @@
+package com.heritagegraph360.profile.consistency;
+
+/**
+ * Lists the lifecycle states of a tenant consistency scan.
+ * Importance: Gives polling clients a stable set of states.
+ * Alternatives: Use free-form status strings.
+ */
+public enum LineageConsistencyScanStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,379 @@
+package com.heritagegraph360.profile.consistency;
+
+import com.heritagegraph360.profile.graph.ProfileIdInterner;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Finds every ancestor cycle in a tenant's relationship edges.
+ * Importance: Gives a tenant-wide consistency scan linear time in the number of edges.
+ * Alternatives: Run a bounded reachability check for every edge.
+ */
+public class LineageCycleDetector {
+    private static final int MIN_EDGES = 16;
+    private static final int MIN_TASK_NODES = 4096;
+
+    private final ProfileIdInterner interner;
+    private final List<UUID> selfParents = new ArrayList<>();
+    private int[] edgeChildren = new int[MIN_EDGES];
+    private int[] edgeParents = new int[MIN_EDGES];
+    private int edgeCount;
+    private int[] parentOffsets;
+    private int[] parents;
+    private boolean[] removed;
+    private int[] index;
+    private int[] low;
+    private int[] sccRoot;
+    private boolean[] onStack;
+
+    /**
+     * Creates a detector sized for the expected number of profiles.
+     * Importance: Avoids rehashing while streaming large tenants.
+     * Alternatives: Start small and rely on growth only.
+     *
+     * @param expectedProfiles the expected number of profiles.
+     */
+    public LineageCycleDetector(int expectedProfiles) {
+        this.interner = new ProfileIdInterner(expectedProfiles);
+    }
+
+    /**
+     * Records a direct child-to-parent edge.
+     * Importance: Collects the relationships table before it is searched.
+     * Alternatives: Search while streaming.
+     *
+     * @param childId the child profile identifier.
+     * @param parentId the parent profile identifier.
+     */
+    public void addEdge(UUID childId, UUID parentId) {
+        if (childId.equals(parentId)) {
+            selfParents.add(childId);
+            return;
+        }
+        if (edgeCount == edgeChildren.length) {
+            edgeChildren = Arrays.copyOf(edgeChildren, edgeCount * 2);
+            edgeParents = Arrays.copyOf(edgeParents, edgeCount * 2);
+        }
+        edgeChildren[edgeCount] = interner.intern(childId);
+        edgeParents[edgeCount] = interner.intern(parentId);
+        edgeCount++;
+    }
+
+    /**
+     * Returns the number of recorded edges, including self-parent edges.
+     * Importance: Supports scan progress reporting.
+     * Alternatives: Count relationship rows separately.
+     *
+     * @return the number of edges.
+     */
+    public long edgeCount() {
+        return (long) edgeCount + selfParents.size();
+    }
+
+    /**
+     * Reports every self-parent edge and every strongly connected component with more than one profile.
+     * Importance: Profiles that have no remaining parents or no remaining children cannot be on a cycle, so
+     * they are peeled off first; in a mostly acyclic family graph that leaves only the cycles. The rest is split
+     * into weakly connected components, and Tarjan's algorithm runs on them in parallel.
+     * Releases the streamed edge list, so call it once per detector.
+     * Alternatives: Run a single Tarjan pass over the whole graph.
+     *
+     * @param executor the executor that searches components.
+     * @param maxMembers the maximum number of members reported per violation.
+     * @return the violations.
+     * @throws InterruptedException when the scan is interrupted.
+     */
+    public List<LineageViolation> detect(ExecutorService executor, int maxMembers) throws InterruptedException {
+        List<LineageViolation> violations = new ArrayList<>();
+        for (UUID profileId : selfParents) {
+            violations.add(new LineageViolation(LineageViolationType.SELF_PARENT, profileId, profileId, 1,
+                List.of(profileId)));
+        }
+        int nodes = interner.size();
+        buildAdjacency(nodes);
+        int[] components = components(nodes);
+        if (components.length == 0) {
+            return violations;
+        }
+        index = new int[nodes];
+        Arrays.fill(index, -1);
+        low = new int[nodes];
+        sccRoot = new int[nodes];
+        onStack = new boolean[nodes];
+
+        List<Callable<List<LineageViolation>>> tasks = new ArrayList<>();
+        int taskStart = 0;
+        int taskNodes = 0;
+        for (int i = 0; i < components.length; i++) {
+            if (components[i] >= 0) {
+                taskNodes++;
+            } else if (taskNodes >= MIN_TASK_NODES) {
+                int from = taskStart;
+                int to = i;
+                tasks.add(() -> search(components, from, to, maxMembers));
+                taskStart = i;
+                taskNodes = 0;
+            }
+        }
+        int from = taskStart;
+        tasks.add(() -> search(components, from, components.length, maxMembers));
+        for (Future<List<LineageViolation>> future : executor.invokeAll(tasks)) {
+            try {
+                violations.addAll(future.get());
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException("Cycle search failed", ex.getCause());
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Builds child-to-parent adjacency arrays and peels off profiles that cannot be on a cycle.
+     * Importance: Leaves Tarjan's algorithm only the profiles that still have both parents and children.
+     * Alternatives: Search the whole graph.
+     *
+     * @param nodes the number of profiles.
+     */
+    private void buildAdjacency(int nodes) {
+        parentOffsets = new int[nodes + 1];
+        int[] childOffsets = new int[nodes + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            parentOffsets[edgeChildren[i] + 1]++;
+            childOffsets[edgeParents[i] + 1]++;
+        }
+        for (int node = 0; node < nodes; node++) {
+            parentOffsets[node + 1] += parentOffsets[node];
+            childOffsets[node + 1] += childOffsets[node];
+        }
+        parents = new int[edgeCount];
+        int[] children = new int[edgeCount];
+        int[] parentCursor = Arrays.copyOf(parentOffsets, nodes);
+        int[] childCursor = Arrays.copyOf(childOffsets, nodes);
+        for (int i = 0; i < edgeCount; i++) {
+            parents[parentCursor[edgeChildren[i]]++] = edgeParents[i];
+            children[childCursor[edgeParents[i]]++] = edgeChildren[i];
+        }
+        edgeChildren = null;
+        edgeParents = null;
+
+        int[] parentDegree = new int[nodes];
+        int[] childDegree = new int[nodes];
+        removed = new boolean[nodes];
+        int[] queue = new int[nodes];
+        int tail = 0;
+        for (int node = 0; node < nodes; node++) {
+            parentDegree[node] = parentOffsets[node + 1] - parentOffsets[node];
+            childDegree[node] = childOffsets[node + 1] - childOffsets[node];
+            if (parentDegree[node] == 0 || childDegree[node] == 0) {
+                removed[node] = true;
+                queue[tail++] = node;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int node = queue[head];
+            for (int edge = parentOffsets[node]; edge < parentOffsets[node + 1]; edge++) {
+                int parent = parents[edge];
+                if (!removed[parent] && --childDegree[parent] == 0) {
+                    removed[parent] = true;
+                    queue[tail++] = parent;
+                }
+            }
+            for (int edge = childOffsets[node]; edge < childOffsets[node + 1]; edge++) {
+                int child = children[edge];
+                if (!removed[child] && --parentDegree[child] == 0) {
+                    removed[child] = true;
+                    queue[tail++] = child;
+                }
+            }
+        }
+    }
+
+    /**
+     * Groups the profiles left after peeling into weakly connected components.
+     * Importance: Components share no edges, so each can be searched on its own thread.
+     * Alternatives: Search the remaining graph on one thread.
+     *
+     * @param nodes the number of profiles.
+     * @return the remaining profiles grouped by component, each group preceded by -1.
+     */
+    private int[] components(int nodes) {
+        int[] root = new int[nodes];
+        int remaining = 0;
+        for (int node = 0; node < nodes; node++) {
+            root[node] = node;
+            if (!removed[node]) {
+                remaining++;
+            }
+        }
+        if (remaining == 0) {
+            return new int[0];
+        }
+        for (int node = 0; node < nodes; node++) {
+            if (removed[node]) {
+                continue;
+            }
+            for (int edge = parentOffsets[node]; edge < parentOffsets[node + 1]; edge++) {
+                int parent = parents[edge];
+                if (!removed[parent]) {
+                    int a = find(root, node);
+                    int b = find(root, parent);
+                    if (a != b) {
+                        root[Math.max(a, b)] = Math.min(a, b);
+                    }
+                }
+            }
+        }
+        int[] sizes = new int[nodes];
+        int componentCount = 0;
+        for (int node = 0; node < nodes; node++) {
+            if (!removed[node] && sizes[find(root, node)]++ == 0) {
+                componentCount++;
+            }
+        }
+        int[] starts = new int[nodes];
+        int[] grouped = new int[remaining + componentCount];
+        int cursor = 0;
+        for (int node = 0; node < nodes; node++) {
+            if (!removed[node] && root[node] == node) {
+                grouped[cursor] = -1;
+                starts[node] = cursor + 1;
+                cursor += sizes[node] + 1;
+            }
+        }
+        for (int node = 0; node < nodes; node++) {
+            if (!removed[node]) {
+                grouped[starts[find(root, node)]++] = node;
+            }
+        }
+        return grouped;
+    }
+
+    /**
+     * Runs Tarjan's algorithm over a range of grouped components.
+     * Importance: Finds each component's strongly connected components with an explicit stack, so long
+     * ancestor chains cannot overflow the thread stack.
+     * Each profile belongs to exactly one range, so ranges share the per-profile arrays without locking.
+     * Alternatives: Use Kosaraju's algorithm with a reversed graph.
+     *
+     * @param grouped the grouped components.
+     * @param from the first position of the range.
+     * @param to the position after the range.
+     * @param maxMembers the maximum number of members reported per violation.
+     * @return the violations found in the range.
+     */
+    private List<LineageViolation> search(int[] grouped, int from, int to, int maxMembers) {
+        List<LineageViolation> violations = new ArrayList<>();
+        int size = to - from;
+        int[] stack = new int[size];
+        int[] callNode = new int[size];
+        int[] callEdge = new int[size];
+        int stackSize = 0;
+        int counter = 0;
+        for (int position = from; position < to; position++) {
+            int start = grouped[position];
+            if (start < 0 || index[start] >= 0) {
+                continue;
+            }
+            int depth = 0;
+            index[start] = counter;
+            low[start] = counter++;
+            stack[stackSize++] = start;
+            onStack[start] = true;
+            callNode[depth] = start;
+            callEdge[depth++] = parentOffsets[start];
+            while (depth > 0) {
+                int node = callNode[depth - 1];
+                if (callEdge[depth - 1] < parentOffsets[node + 1]) {
+                    int parent = parents[callEdge[depth - 1]++];
+                    if (removed[parent]) {
+                        continue;
+                    }
+                    if (index[parent] < 0) {
+                        index[parent] = counter;
+                        low[parent] = counter++;
+                        stack[stackSize++] = parent;
+                        onStack[parent] = true;
+                        callNode[depth] = parent;
+                        callEdge[depth++] = parentOffsets[parent];
+                    } else if (onStack[parent]) {
+                        low[node] = Math.min(low[node], index[parent]);
+                    }
+                    continue;
+                }
+                depth--;
+                if (depth > 0) {
+                    int caller = callNode[depth - 1];
+                    low[caller] = Math.min(low[caller], low[node]);
+                }
+                if (low[node] == index[node]) {
+                    int top = stackSize;
+                    int member;
+                    do {
+                        member = stack[--stackSize];
+                        onStack[member] = false;
+                        sccRoot[member] = node;
+                    } while (member != node);
+                    if (top - stackSize > 1) {
+                        violations.add(cycle(Arrays.copyOfRange(stack, stackSize, top), maxMembers));
+                    }
+                }
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Describes one strongly connected component as an ancestor cycle.
+     * Importance: Keys the component by its smallest profile id, as upsert checks do, so both report one item.
+     * Alternatives: Key components by their Tarjan root.
+     *
+     * @param component the component's profiles.
+     * @param maxMembers the maximum number of members reported.
+     * @return the violation.
+     */
+    private LineageViolation cycle(int[] component, int maxMembers) {
+        List<UUID> members = new ArrayList<>(component.length);
+        int key = component[0];
+        for (int node : component) {
+            UUID profileId = interner.profileId(node);
+            members.add(profileId);
+            if (profileId.compareTo(interner.profileId(key)) < 0) {
+                key = node;
+            }
+        }
+        int related = -1;
+        for (int edge = parentOffsets[key]; edge < parentOffsets[key + 1] && related < 0; edge++) {
+            if (!removed[parents[edge]] && sccRoot[parents[edge]] == sccRoot[key]) {
+                related = parents[edge];
+            }
+        }
+        members.sort(null);
+        return new LineageViolation(LineageViolationType.ANCESTOR_CYCLE, interner.profileId(key),
+            interner.profileId(related), component.length,
+            members.subList(0, Math.min(members.size(), Math.max(1, maxMembers))));
+    }
+
+    /**
+     * Finds a profile's component root, halving the path on the way up.
+     * Importance: Keeps component grouping near linear.
+     * Alternatives: Use recursive full path compression.
+     *
+     * @param root the parent pointers.
+     * @param node the profile node.
+     * @return the root node.
+     */
+    private static int find(int[] root, int node) {
+        int current = node;
+        while (root[current] != current) {
+            root[current] = root[root[current]];
+            current = root[current];
+        }
+        return current;
+    }
+}
@@ -0,0 +1,92 @@
+package com.heritagegraph360.profile.consistency;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Describes one detected impossible lineage.
+ * Importance: Carries what a review item needs: the kind, a stable key profile, and the profiles involved.
+ * Alternatives: Write review rows directly from the detectors.
+ */
+public class LineageViolation {
+    private final LineageViolationType type;
+    private final UUID profileId;
+    private final UUID relatedProfileId;
+    private final int cycleSize;
+    private final List<UUID> members;
+
+    /**
+     * Creates a violation.
+     * Importance: Captures one finding in an immutable value.
+     * Alternatives: Use a mutable bean.
+     *
+     * @param type the violation type.
+     * @param profileId the key profile: the smallest identifier among the reported members.
+     * @param relatedProfileId the key profile's parent within the cycle.
+     * @param cycleSize the number of profiles in the cycle or strongly connected component.
+     * @param members the reported members, at most the configured limit.
+     */
+    public LineageViolation(LineageViolationType type, UUID profileId, UUID relatedProfileId, int cycleSize,
+                            List<UUID> members) {
+        this.type = type;
+        this.profileId = profileId;
+        this.relatedProfileId = relatedProfileId;
+        this.cycleSize = cycleSize;
+        this.members = List.copyOf(members);
+    }
+
+    /**
+     * Returns the violation type.
+     * Importance: Distinguishes self-parent edges from longer cycles.
+     * Alternatives: Infer the type from the cycle size.
+     *
+     * @return the type.
+     */
+    public LineageViolationType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the key profile.
+     * Importance: Lets upsert checks and scans report the same cycle under the same key.
+     * Alternatives: Key review items by a hash of all members.
+     *
+     * @return the profile identifier.
+     */
+    public UUID getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Returns the key profile's parent within the cycle.
+     * Importance: Points reviewers at one edge that can be removed to break the cycle.
+     * Alternatives: List every edge in the cycle.
+     *
+     * @return the related profile identifier.
+     */
+    public UUID getRelatedProfileId() {
+        return relatedProfileId;
+    }
+
+    /**
+     * Returns the number of profiles involved.
+     * Importance: Shows how far a bad import spread even when members are truncated.
+     * Alternatives: Report only the members.
+     *
+     * @return the cycle size.
+     */
+    public int getCycleSize() {
+        return cycleSize;
+    }
+
+    /**
+     * Returns the reported members.
+     * Importance: Gives reviewers the profiles to inspect.
+     * Alternatives: Report only the key edge.
+     *
+     * @return the members.
+     */
+    public List<UUID> getMembers() {
+        return members;
+    }
+}
@@ -0,0 +1,86 @@
+package com.heritagegraph360.profile.consistency;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Describes a stored lineage review item.
+ * Importance: Adds the review state to a detected violation.
+ * Alternatives: Map review rows as a JPA entity.
+ */
+public class LineageViolationRecord extends LineageViolation {
+    private final UUID violationId;
+    private final String source;
+    private final String status;
+    private final Instant createdAt;
+
+    /**
+     * Creates a review item.
+     * Importance: Captures one stored row in an immutable value.
+     * Alternatives: Use a mutable bean.
+     *
+     * @param violationId the review item identifier.
+     * @param type the violation type.
+     * @param profileId the key profile.
+     * @param relatedProfileId the key profile's parent within the cycle.
+     * @param cycleSize the number of profiles involved.
+     * @param members the reported members.
+     * @param source what detected the violation: UPSERT or SCAN.
+     * @param status the review status: OPEN or RESOLVED.
+     * @param createdAt when the violation was recorded.
+     */
+    public LineageViolationRecord(UUID violationId, LineageViolationType type, UUID profileId, UUID relatedProfileId,
+                                  int cycleSize, List<UUID> members, String source, String status,
+                                  Instant createdAt) {
+        super(type, profileId, relatedProfileId, cycleSize, members);
+        this.violationId = violationId;
+        this.source = source;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Returns the review item identifier.
+     * Importance: Lets reviewers resolve the item.
+     * Alternatives: Resolve by key profile.
+     *
+     * @return the violation identifier.
+     */
+    public UUID getViolationId() {
+        return violationId;
+    }
+
+    /**
+     * Returns what detected the violation.
+     * Importance: Separates findings from live writes and from tenant scans.
+     * Alternatives: Omit the source.
+     *
+     * @return UPSERT or SCAN.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the review status.
+     * Importance: Separates open items from handled ones.
+     * Alternatives: Delete resolved items.
+     *
+     * @return OPEN or RESOLVED.
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns when the violation was recorded.
+     * Importance: Orders the review queue.
+     * Alternatives: Order by identifier.
+     *
+     * @return the creation time.
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
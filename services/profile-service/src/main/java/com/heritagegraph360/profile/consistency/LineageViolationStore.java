@@ -0,0 +1,114 @@
+package com.heritagegraph360.profile.consistency;
+
+import java.sql.Array;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores lineage violations as review items.
+ * Importance: Turns detected cycles into a queue reviewers can work through.
+ * Alternatives: Raise approvals for the affected profiles.
+ */
+@Component
+public class LineageViolationStore {
+    static final String SOURCE_UPSERT = "UPSERT";
+    static final String SOURCE_SCAN = "SCAN";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO lineage_violations (violation_id, tenant_id, violation_type, profile_id, related_profile_id, "
+            + "cycle_size, members, source, status, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'OPEN', ?) "
+            + "ON CONFLICT (tenant_id, violation_type, profile_id) WHERE status = 'OPEN' DO NOTHING";
+    private static final String LIST_SQL =
+        "SELECT violation_id, violation_type, profile_id, related_profile_id, cycle_size, members, source, status, "
+            + "created_at FROM lineage_violations WHERE tenant_id = ? AND status = ? "
+            + "ORDER BY created_at DESC, violation_id LIMIT ?";
+    private static final String RESOLVE_SQL =
+        "UPDATE lineage_violations SET status = 'RESOLVED', resolved_by = ?, resolved_at = ? "
+            + "WHERE tenant_id = ? AND violation_id = ? AND status = 'OPEN'";
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates the violation store.
+     * Importance: Connects review items to relational storage.
+     * Alternatives: Store review items in MongoDB.
+     *
+     * @param jdbcTemplate the JDBC template.
+     */
+    public LineageViolationStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Records violations, skipping those already open under the same key.
+     * Importance: Re-running a scan or re-importing a bad edge does not duplicate review items.
+     * Alternatives: Check for open items before inserting.
+     *
+     * @param tenantId the tenant identifier.
+     * @param violations the violations.
+     * @param source what detected them: UPSERT or SCAN.
+     */
+    public void recordAll(String tenantId, List<LineageViolation> violations, String source) {
+        if (violations.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, violations, INSERT_BATCH_SIZE, (ps, violation) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setString(2, tenantId);
+            ps.setString(3, violation.getType().name());
+            ps.setObject(4, violation.getProfileId());
+            ps.setObject(5, violation.getRelatedProfileId());
+            ps.setInt(6, violation.getCycleSize());
+            ps.setArray(7, ps.getConnection().createArrayOf("uuid", violation.getMembers().toArray()));
+            ps.setString(8, source);
+            ps.setTimestamp(9, now);
+        });
+    }
+
+    /**
+     * Returns a tenant's review items in a status, newest first.
+     * Importance: Feeds the reviewer queue.
+     * Alternatives: Page with a cursor.
+     *
+     * @param tenantId the tenant identifier.
+     * @param status OPEN or RESOLVED.
+     * @param limit the maximum number of items.
+     * @return the review items.
+     */
+    public List<LineageViolationRecord> list(String tenantId, String status, int limit) {
+        return jdbcTemplate.query(LIST_SQL, (rs, row) -> {
+            Array members = rs.getArray(6);
+            return new LineageViolationRecord(
+                rs.getObject(1, UUID.class),
+                LineageViolationType.valueOf(rs.getString(2)),
+                rs.getObject(3, UUID.class),
+                rs.getObject(4, UUID.class),
+                rs.getInt(5),
+                members == null ? List.of() : Arrays.asList((UUID[]) members.getArray()),
+                rs.getString(7),
+                rs.getString(8),
+                rs.getTimestamp(9).toInstant());
+        }, tenantId, status, limit);
+    }
+
+    /**
+     * Marks an open review item as resolved.
+     * Importance: Closes the item so a later recurrence of the same cycle opens a new one.
+     * Alternatives: Delete resolved items.
+     *
+     * @param tenantId the tenant identifier.
+     * @param violationId the review item identifier.
+     * @param actorId the reviewer.
+     * @return true when an open item was resolved.
+     */
+    public boolean resolve(String tenantId, UUID violationId, UUID actorId) {
+        return jdbcTemplate.update(RESOLVE_SQL, actorId, Timestamp.from(Instant.now()), tenantId, violationId) == 1;
+    }
+}
@@ -0,0 +1,18 @@
+package com.heritagegraph360.profile.consistency;
+
+/**
+ * Lists the impossible lineages the consistency checks detect.
+ * Importance: Lets reviewers triage review items by kind.
+ * Alternatives: Use free-form descriptions.
+ */
+public enum LineageViolationType {
+    /**
+     * A profile is recorded as its own parent.
+     */
+    SELF_PARENT,
+
+    /**
+     * A chain of parent edges leads back to where it started, for example a person who is their own grandparent.
+     */
+    ANCESTOR_CYCLE
+}
@@ -0,0 +1,126 @@
+package com.heritagegraph360.profile.contact;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Stores set membership in a fixed-size Bloom filter over a primitive long array.
+ * Importance: Answers "definitely absent" for most new identifiers at about ten bits per entry.
+ * Alternatives: Use a cuckoo filter, which also supports deletes.
+ */
+public class BloomFilter {
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final long capacity;
+    private final AtomicLong entries = new AtomicLong();
+
+    /**
+     * Creates a filter sized for a capacity and false-positive rate.
+     * Importance: Uses the optimal bit and hash counts for the target rate.
+     * Alternatives: Accept bit and hash counts directly.
+     *
+     * @param capacity the number of entries the rate is guaranteed for.
+     * @param falsePositiveRate the target false-positive rate.
+     */
+    public BloomFilter(long capacity, double falsePositiveRate) {
+        long size = Math.max(64, (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (size + 63) >>> 6);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * LN2));
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds a hashed value.
+     * Importance: Sets bits with atomic updates so concurrent adds never lose bits.
+     * Alternatives: Synchronize every add.
+     *
+     * @param hash the 64-bit value hash.
+     */
+    public void add(long hash) {
+        long h1 = hash;
+        long h2 = mix(hash) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+        entries.incrementAndGet();
+    }
+
+    /**
+     * Checks a hashed value.
+     * Importance: A false result proves the value was never added.
+     * Alternatives: Return a probability instead of a boolean.
+     *
+     * @param hash the 64-bit value hash.
+     * @return false when the value is definitely absent.
+     */
+    public boolean mightContain(long hash) {
+        long h1 = hash;
+        long h2 = mix(hash) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the filter has reached its sized capacity.
+     * Importance: Signals the owner to add a larger layer before the rate degrades.
+     * Alternatives: Keep adding and accept a rising rate.
+     *
+     * @return true when full.
+     */
+    public boolean isFull() {
+        return entries.get() >= capacity;
+    }
+
+    /**
+     * Returns the approximate number of added values.
+     * Importance: Feeds size metrics.
+     * Alternatives: Estimate from the bit population.
+     *
+     * @return the entry count.
+     */
+    public long entries() {
+        return entries.get();
+    }
+
+    /**
+     * Returns the number of bits in the filter.
+     * Importance: Feeds memory metrics.
+     * Alternatives: Report bytes.
+     *
+     * @return the bit count.
+     */
+    public long bitCount() {
+        return bitCount;
+    }
+
+    /**
+     * Derives the second hash for double hashing.
+     * Importance: Produces k independent-enough probes from one 64-bit hash.
+     * Alternatives: Hash the value k times.
+     *
+     * @param value the first hash.
+     * @return the second hash.
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
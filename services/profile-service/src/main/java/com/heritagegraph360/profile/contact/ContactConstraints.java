@@ -0,0 +1,46 @@
+package com.heritagegraph360.profile.contact;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Names the unique indexes that guard primary contact identifiers.
+ * Importance: Maps constraint violations back to the same messages as the pre-insert checks.
+ * Alternatives: Parse SQL states in each caller.
+ */
+public final class ContactConstraints {
+    /**
+     * Unique index on tenant and primary email.
+     */
+    public static final String EMAIL_INDEX = "ux_profiles_tenant_email";
+    /**
+     * Unique index on tenant and primary phone.
+     */
+    public static final String PHONE_INDEX = "ux_profiles_tenant_phone";
+
+    /**
+     * Prevents instantiation.
+     * Importance: Holds constants and helpers only.
+     * Alternatives: Use an interface of constants.
+     */
+    private ContactConstraints() {
+    }
+
+    /**
+     * Describes a violation of a contact unique index.
+     * Importance: Keeps API messages stable whether the check or the index caught the duplicate.
+     * Alternatives: Return the database message.
+     *
+     * @param ex the violation.
+     * @return the user-facing message.
+     */
+    public static String describe(DataIntegrityViolationException ex) {
+        String detail = String.valueOf(ex.getMostSpecificCause().getMessage());
+        if (detail.contains(PHONE_INDEX)) {
+            return "Primary phone already exists";
+        }
+        if (detail.contains(EMAIL_INDEX)) {
+            return "Primary email already exists";
+        }
+        return "Primary email or phone already exists";
+    }
+}
@@ -0,0 +1,289 @@
+package com.heritagegraph360.profile.contact;
+
+import com.heritagegraph360.profile.config.ContactFilterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tracks each tenant's primary emails and phones in probabilistic membership filters.
+ * Importance: Skips uniqueness probes for identifiers that are definitely new; the unique indexes stay authoritative.
+ * Alternatives: Probe the database for every identifier.
+ */
+@Component
+public class ContactIdentifierFilter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContactIdentifierFilter.class);
+    private static final char EMAIL = 'E';
+    private static final char PHONE = 'P';
+
+    private final Map<String, TenantContactFilter> tenants = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ContactFilterProperties properties;
+    private final Counter absentChecks;
+    private final Counter maybeChecks;
+    private volatile boolean ready;
+
+    /**
+     * Creates the filter and registers its metrics.
+     * Importance: Exposes filter size and hit rates on the Prometheus endpoint.
+     * Alternatives: Leave the filter unmonitored.
+     *
+     * @param dataSource the relational data source.
+     * @param transactionManager the transaction manager used for cursor reads.
+     * @param properties the filter properties.
+     * @param meterRegistry the metrics registry.
+     */
+    public ContactIdentifierFilter(DataSource dataSource,
+                                   PlatformTransactionManager transactionManager,
+                                   ContactFilterProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.getLoadFetchSize());
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+        Gauge.builder("contact.filter.entries", this, ContactIdentifierFilter::entries)
+            .description("Contact identifiers held in membership filters")
+            .register(meterRegistry);
+        Gauge.builder("contact.filter.bits", this, ContactIdentifierFilter::bitCount)
+            .description("Bits allocated to contact membership filters")
+            .register(meterRegistry);
+        Gauge.builder("contact.filter.tenants", tenants, Map::size)
+            .description("Tenants with a contact membership filter")
+            .register(meterRegistry);
+        this.absentChecks = Counter.builder("contact.filter.checks").tag("result", "absent")
+            .description("Uniqueness checks answered without a database probe")
+            .register(meterRegistry);
+        this.maybeChecks = Counter.builder("contact.filter.checks").tag("result", "maybe")
+            .description("Uniqueness checks that still required a database probe")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Builds tenant filters from the profiles table once the application is ready.
+     * Importance: Sizes each tenant from its identifier count, then streams identifiers into it.
+     * Alternatives: Build tenant filters lazily on first use.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        if (!properties.isEnabled()) {
+            LOGGER.info("Contact filter disabled; uniqueness checks always probe the database");
+            return;
+        }
+        long started = System.nanoTime();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.query(
+                "SELECT tenant_id, COUNT(primary_email) + COUNT(primary_phone) FROM profiles GROUP BY tenant_id",
+                rs -> {
+                    long capacity = (long) Math.ceil(rs.getLong(2) * properties.getHeadroom());
+                    tenants.computeIfAbsent(rs.getString(1), key -> newTenantFilter(capacity));
+                });
+            jdbcTemplate.query("SELECT tenant_id, primary_email, primary_phone FROM profiles", rs -> {
+                add(rs.getString(1), rs.getString(2), rs.getString(3));
+            });
+        });
+        ready = true;
+        LOGGER.info("Contact filter loaded {} identifiers for {} tenants in {} ms",
+            entries(), tenants.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Checks whether a primary email may already exist for the tenant.
+     * Importance: A false result lets callers skip the email uniqueness query.
+     * Alternatives: Always run the query.
+     *
+     * @param tenantId the tenant identifier.
+     * @param email the primary email.
+     * @return false when the email is definitely not in use.
+     */
+    public boolean mightContainEmail(String tenantId, String email) {
+        return mightContain(tenantId, hash(EMAIL, normalizeEmail(email)));
+    }
+
+    /**
+     * Checks whether a primary phone may already exist for the tenant.
+     * Importance: A false result lets callers skip the phone uniqueness query.
+     * Alternatives: Always run the query.
+     *
+     * @param tenantId the tenant identifier.
+     * @param phone the primary phone.
+     * @return false when the phone is definitely not in use.
+     */
+    public boolean mightContainPhone(String tenantId, String phone) {
+        return mightContain(tenantId, hash(PHONE, normalizePhone(phone)));
+    }
+
+    /**
+     * Adds a profile's identifiers to its tenant filter.
+     * Importance: Called before the insert commits so this node never reports a created identifier as absent.
+     * Alternatives: Add identifiers after commit and rely on the unique index in between.
+     *
+     * @param tenantId the tenant identifier.
+     * @param email the primary email, or null.
+     * @param phone the primary phone, or null.
+     */
+    public void recordProfile(String tenantId, String email, String phone) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        add(tenantId, email, phone);
+    }
+
+    /**
+     * Returns whether the startup load has completed.
+     * Importance: Lets callers and health checks see when the filter starts answering.
+     * Alternatives: Block requests until loading completes.
+     *
+     * @return true when the filter is ready.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Checks a hashed identifier.
+     * Importance: Answers "maybe" until the filter is loaded so no check is ever skipped wrongly.
+     * Alternatives: Fail requests during warm-up.
+     *
+     * @param tenantId the tenant identifier.
+     * @param hash the identifier hash.
+     * @return false when the identifier is definitely absent.
+     */
+    private boolean mightContain(String tenantId, long hash) {
+        if (!properties.isEnabled() || !ready) {
+            return true;
+        }
+        TenantContactFilter filter = tenants.get(tenantId);
+        boolean maybe = filter != null && filter.mightContain(hash);
+        (maybe ? maybeChecks : absentChecks).increment();
+        return maybe;
+    }
+
+    /**
+     * Adds identifiers to a tenant filter, creating the filter when absent.
+     * Importance: Shares the add path between loading and profile creation.
+     * Alternatives: Separate load and update paths.
+     *
+     * @param tenantId the tenant identifier.
+     * @param email the primary email, or null.
+     * @param phone the primary phone, or null.
+     */
+    private void add(String tenantId, String email, String phone) {
+        TenantContactFilter filter = tenants.computeIfAbsent(tenantId, key -> newTenantFilter(0));
+        if (email != null) {
+            filter.add(hash(EMAIL, normalizeEmail(email)));
+        }
+        if (phone != null) {
+            filter.add(hash(PHONE, normalizePhone(phone)));
+        }
+    }
+
+    /**
+     * Creates a tenant filter with at least the minimum capacity.
+     * Importance: Applies configured sizing consistently.
+     * Alternatives: Size every tenant identically.
+     *
+     * @param capacity the requested capacity.
+     * @return the tenant filter.
+     */
+    private TenantContactFilter newTenantFilter(long capacity) {
+        return new TenantContactFilter(Math.max(properties.getMinCapacity(), capacity),
+            properties.getFalsePositiveRate());
+    }
+
+    /**
+     * Returns the identifiers held across tenants.
+     * Importance: Feeds the entries gauge.
+     * Alternatives: Maintain a global counter.
+     *
+     * @return the entry count.
+     */
+    private double entries() {
+        long total = 0;
+        for (TenantContactFilter filter : tenants.values()) {
+            total += filter.entries();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the bits allocated across tenants.
+     * Importance: Feeds the memory gauge.
+     * Alternatives: Report heap usage from the JVM.
+     *
+     * @return the bit count.
+     */
+    private double bitCount() {
+        long total = 0;
+        for (TenantContactFilter filter : tenants.values()) {
+            total += filter.bitCount();
+        }
+        return total;
+    }
+
+    /**
+     * Normalizes an email for hashing.
+     * Importance: Any two equal stored values normalize identically, so exact-match checks never see false negatives.
+     * Alternatives: Hash raw values.
+     *
+     * @param email the email.
+     * @return the normalized email.
+     */
+    static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Normalizes a phone number for hashing.
+     * Importance: Folds formatting variants; values without digits hash as trimmed text.
+     * Alternatives: Use libphonenumber for E.164 normalization.
+     *
+     * @param phone the phone number.
+     * @return the normalized phone.
+     */
+    static String normalizePhone(String phone) {
+        StringBuilder digits = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.length() == 0 ? phone.trim() : digits.toString();
+    }
+
+    /**
+     * Hashes a typed identifier with 64-bit FNV-1a and a final avalanche.
+     * Importance: Keeps emails and phones in one filter without cross-type collisions by construction.
+     * Alternatives: Keep separate filters per identifier type.
+     *
+     * @param type the identifier type marker.
+     * @param value the normalized value.
+     * @return the hash.
+     */
+    static long hash(char type, String value) {
+        long h = 0xCBF29CE484222325L;
+        h = (h ^ type) * 0x100000001B3L;
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+}
@@ -0,0 +1,99 @@
+package com.heritagegraph360.profile.contact;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Holds one tenant's contact identifiers in a scalable stack of Bloom filters.
+ * Importance: Grows with the tenant while keeping the compound false-positive rate bounded.
+ * Alternatives: Rebuild a larger filter from the database when full.
+ */
+public class TenantContactFilter {
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    private final List<BloomFilter> layers = new CopyOnWriteArrayList<>();
+    private final double falsePositiveRate;
+
+    /**
+     * Creates a tenant filter.
+     * Importance: Sizes the first layer for the tenant's current identifiers.
+     * Alternatives: Start every tenant at a fixed size.
+     *
+     * @param initialCapacity the first layer capacity.
+     * @param falsePositiveRate the target compound false-positive rate.
+     */
+    public TenantContactFilter(long initialCapacity, double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+        layers.add(new BloomFilter(Math.max(1, initialCapacity), falsePositiveRate * (1 - TIGHTENING_RATIO)));
+    }
+
+    /**
+     * Adds a hashed identifier, appending a layer when the current one is full.
+     * Importance: Each new layer doubles capacity and halves its rate so the sum stays below the target.
+     * Alternatives: Let one layer saturate.
+     *
+     * @param hash the identifier hash.
+     */
+    public void add(long hash) {
+        BloomFilter current = layers.get(layers.size() - 1);
+        if (current.isFull()) {
+            synchronized (this) {
+                current = layers.get(layers.size() - 1);
+                if (current.isFull()) {
+                    int depth = layers.size();
+                    double rate = falsePositiveRate * (1 - TIGHTENING_RATIO) * Math.pow(TIGHTENING_RATIO, depth);
+                    current = new BloomFilter(current.entries() * 2, rate);
+                    layers.add(current);
+                }
+            }
+        }
+        current.add(hash);
+    }
+
+    /**
+     * Checks a hashed identifier against every layer.
+     * Importance: A false result proves the identifier was never added.
+     * Alternatives: Check only the newest layer.
+     *
+     * @param hash the identifier hash.
+     * @return false when the identifier is definitely absent.
+     */
+    public boolean mightContain(long hash) {
+        for (BloomFilter layer : layers) {
+            if (layer.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of added identifiers.
+     * Importance: Feeds size metrics.
+     * Alternatives: Track counts in the owner.
+     *
+     * @return the entry count.
+     */
+    public long entries() {
+        long total = 0;
+        for (BloomFilter layer : layers) {
+            total += layer.entries();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the bits allocated across layers.
+     * Importance: Feeds memory metrics.
+     * Alternatives: Report bytes.
+     *
+     * @return the bit count.
+     */
+    public long bitCount() {
+        long total = 0;
+        for (BloomFilter layer : layers) {
+            total += layer.bitCount();
+        }
+        return total;
+    }
+}
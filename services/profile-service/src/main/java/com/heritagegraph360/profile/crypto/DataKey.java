@@ -0,0 +1,89 @@
+package com.heritagegraph360.profile.crypto;
+
+import java.nio.charset.StandardCharsets;
+import javax.crypto.SecretKey;
+
+/**
+ * Holds one unwrapped tenant data key and its generation.
+ * Importance: Binds the key to its tenant through the associated data used with every encryption.
+ * Alternatives: Pass raw secret keys and rebuild the associated data per call.
+ */
+public final class DataKey {
+    private final String tenantId;
+    private final int generation;
+    private final SecretKey secretKey;
+    private final byte[] associatedData;
+
+    /**
+     * Creates a data key.
+     * Importance: Precomputes the associated data once per cached key.
+     * Alternatives: Compute associated data on every operation.
+     *
+     * @param tenantId the owning tenant.
+     * @param generation the key generation, starting at 1.
+     * @param secretKey the AES key.
+     */
+    public DataKey(String tenantId, int generation, SecretKey secretKey) {
+        this.tenantId = tenantId;
+        this.generation = generation;
+        this.secretKey = secretKey;
+        this.associatedData = id(tenantId, generation).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Builds the storage identifier of a tenant key generation.
+     * Importance: Gives each generation a deterministic id, so concurrent creators collide instead of forking keys.
+     * Alternatives: Use random key identifiers.
+     *
+     * @param tenantId the tenant identifier.
+     * @param generation the key generation.
+     * @return the identifier.
+     */
+    public static String id(String tenantId, int generation) {
+        return tenantId + ':' + generation;
+    }
+
+    /**
+     * Returns the owning tenant.
+     * Importance: Lets callers verify they hold the right tenant's key.
+     * Alternatives: Track tenants beside the key.
+     *
+     * @return the tenant identifier.
+     */
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Returns the key generation.
+     * Importance: Written into every ciphertext so decryption finds the right key after rotation.
+     * Alternatives: Try every key until one authenticates.
+     *
+     * @return the generation.
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the AES key.
+     * Importance: Used by the field cipher.
+     * Alternatives: Expose raw key bytes.
+     *
+     * @return the secret key.
+     */
+    SecretKey secretKey() {
+        return secretKey;
+    }
+
+    /**
+     * Returns the associated data authenticated with every ciphertext.
+     * Importance: Makes a ciphertext copied to another tenant or generation fail authentication.
+     * Alternatives: Authenticate only the ciphertext.
+     *
+     * @return the associated data; callers must not modify it.
+     */
+    byte[] associatedData() {
+        return associatedData;
+    }
+}
@@ -0,0 +1,199 @@
+package com.heritagegraph360.profile.crypto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DrbgParameters;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import org.springframework.stereotype.Component;
+
+/**
+ * Encrypts field values with AES-GCM under tenant data keys.
+ * Importance: Reuses one cipher per thread and one shared DRBG instead of building both on every call.
+ * Alternatives: Call Cipher.getInstance and new SecureRandom per operation.
+ */
+@Component
+public class FieldCipher {
+    /**
+     * Prefix of envelope ciphertexts: {@code hg2:<generation>:<base64(iv | ciphertext | tag)>}.
+     */
+    public static final String PREFIX = "hg2:";
+
+    /**
+     * Generation reported for values written with the pre-envelope global key.
+     */
+    public static final int LEGACY_GENERATION = 0;
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+    private static final int TAG_LENGTH = TAG_BITS / 8;
+    private static final int DRBG_STRENGTH = 256;
+
+    private final SecureRandom random;
+    private final ThreadLocal<Cipher> ciphers = ThreadLocal.withInitial(FieldCipher::newCipher);
+
+    /**
+     * Creates the cipher with a shared 256-bit DRBG.
+     * Importance: DRBG seeds once from the system entropy source and never blocks afterwards.
+     * Alternatives: Use SecureRandom.getInstanceStrong, which may block on some platforms.
+     */
+    public FieldCipher() {
+        this(strongRandom());
+    }
+
+    /**
+     * Creates the cipher with a given random source.
+     * Importance: Lets tests supply a deterministic source.
+     * Alternatives: Always use the DRBG.
+     *
+     * @param random the random source for IVs and keys.
+     */
+    public FieldCipher(SecureRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Encrypts a value under a data key.
+     * Importance: Random 96-bit IVs stay far below the GCM collision bound because every tenant and generation has its own key.
+     * Alternatives: Use deterministic encryption for searchable fields.
+     *
+     * @param key the data key.
+     * @param plainText the plaintext.
+     * @return the envelope ciphertext.
+     */
+    public String encrypt(DataKey key, String plainText) {
+        byte[] plain = plainText.getBytes(StandardCharsets.UTF_8);
+        byte[] out = new byte[IV_LENGTH + plain.length + TAG_LENGTH];
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+        System.arraycopy(iv, 0, out, 0, IV_LENGTH);
+        try {
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.ENCRYPT_MODE, key.secretKey(), new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(key.associatedData());
+            cipher.doFinal(plain, 0, plain.length, out, IV_LENGTH);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Failed to encrypt value", ex);
+        }
+        return PREFIX + key.getGeneration() + ':' + Base64.getEncoder().encodeToString(out);
+    }
+
+    /**
+     * Decrypts an envelope ciphertext.
+     * Importance: Fails closed when the value was written for another tenant or key generation.
+     * Alternatives: Skip associated data.
+     *
+     * @param key the data key named by the ciphertext generation.
+     * @param cipherText the envelope ciphertext.
+     * @return the plaintext.
+     */
+    public String decrypt(DataKey key, String cipherText) {
+        int separator = cipherText.indexOf(':', PREFIX.length());
+        byte[] data = Base64.getDecoder().decode(cipherText.substring(separator + 1));
+        if (data.length < IV_LENGTH + TAG_LENGTH) {
+            throw new IllegalStateException("Failed to decrypt value: ciphertext too short");
+        }
+        try {
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.DECRYPT_MODE, key.secretKey(), new GCMParameterSpec(TAG_BITS, data, 0, IV_LENGTH));
+            cipher.updateAAD(key.associatedData());
+            return new String(cipher.doFinal(data, IV_LENGTH, data.length - IV_LENGTH), StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Failed to decrypt value", ex);
+        }
+    }
+
+    /**
+     * Decrypts a value written with the pre-envelope global key.
+     * Importance: Keeps existing sensitive fields readable until they are re-encrypted.
+     * Alternatives: Migrate all values before deploying envelope encryption.
+     *
+     * @param key the legacy key.
+     * @param cipherText the Base64 legacy ciphertext.
+     * @return the plaintext.
+     */
+    public String decryptLegacy(SecretKey key, String cipherText) {
+        byte[] data = Base64.getDecoder().decode(cipherText);
+        if (data.length < IV_LENGTH + TAG_LENGTH) {
+            throw new IllegalStateException("Failed to decrypt value: ciphertext too short");
+        }
+        try {
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, data, 0, IV_LENGTH));
+            return new String(cipher.doFinal(data, IV_LENGTH, data.length - IV_LENGTH), StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Failed to decrypt value", ex);
+        }
+    }
+
+    /**
+     * Returns the key generation named by a ciphertext.
+     * Importance: Lets batch callers group values by key without decrypting them.
+     * Alternatives: Store the generation in a separate field.
+     *
+     * @param cipherText the ciphertext.
+     * @return the generation, or {@link #LEGACY_GENERATION} for pre-envelope values.
+     * @throws IllegalArgumentException when an envelope ciphertext has no valid generation.
+     */
+    public static int generationOf(String cipherText) {
+        if (!cipherText.startsWith(PREFIX)) {
+            return LEGACY_GENERATION;
+        }
+        int separator = cipherText.indexOf(':', PREFIX.length());
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed envelope ciphertext");
+        }
+        int generation = Integer.parseInt(cipherText, PREFIX.length(), separator, 10);
+        if (generation <= LEGACY_GENERATION) {
+            throw new IllegalArgumentException("Malformed envelope ciphertext");
+        }
+        return generation;
+    }
+
+    /**
+     * Fills a buffer from the shared random source.
+     * Importance: Generates data keys and wrapping IVs from the same DRBG as field IVs.
+     * Alternatives: Create a KeyGenerator per key.
+     *
+     * @param bytes the buffer to fill.
+     */
+    void nextBytes(byte[] bytes) {
+        random.nextBytes(bytes);
+    }
+
+    /**
+     * Creates an AES-GCM cipher for the calling thread.
+     * Importance: Provider lookup happens once per thread instead of once per value.
+     * Alternatives: Pool ciphers in a shared queue.
+     *
+     * @return the cipher.
+     */
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("AES/GCM is not available", ex);
+        }
+    }
+
+    /**
+     * Creates the shared random source.
+     * Importance: Prefers a 256-bit DRBG and falls back to the platform default.
+     * Alternatives: Use the platform default directly.
+     *
+     * @return the random source.
+     */
+    private static SecureRandom strongRandom() {
+        try {
+            return SecureRandom.getInstance("DRBG",
+                DrbgParameters.instantiation(DRBG_STRENGTH, DrbgParameters.Capability.RESEED_ONLY, null));
+        } catch (NoSuchAlgorithmException ex) {
+            return new SecureRandom();
+        }
+    }
+}
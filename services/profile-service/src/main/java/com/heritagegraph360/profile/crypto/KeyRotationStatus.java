@@ -0,0 +1,14 @@
+package com.heritagegraph360.profile.crypto;
+
+/**
+ * Lists the lifecycle states of a key rotation job.
+ * Importance: Gives polling clients a stable set of states. PARTIAL means some values could not be re-encrypted and
+ * still need an older key generation.
+ * Alternatives: Use free-form status strings.
+ */
+public enum KeyRotationStatus {
+    RUNNING,
+    COMPLETED,
+    PARTIAL,
+    FAILED
+}
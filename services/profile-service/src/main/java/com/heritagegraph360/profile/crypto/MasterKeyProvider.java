@@ -0,0 +1,163 @@
+package com.heritagegraph360.profile.crypto;
+
+import com.heritagegraph360.profile.config.EncryptionProperties;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads master key-encryption keys from a local PKCS12 keystore.
+ * Importance: Master keys never touch MongoDB; only data keys wrapped under them are stored there.
+ * Alternatives: Wrap data keys with a cloud KMS.
+ */
+@Component
+public class MasterKeyProvider {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MasterKeyProvider.class);
+    private static final String AES = "AES";
+    private static final Profiles DEVELOPMENT_PROFILES = Profiles.of("dev | test | local");
+
+    private final Map<String, SecretKey> keys;
+    private final String activeAlias;
+
+    /**
+     * Loads every AES secret-key entry from the configured keystore.
+     * Importance: Keeps retired master keys available for unwrapping older data keys.
+     * Alternatives: Load only the active alias.
+     *
+     * @param properties the encryption properties.
+     * @param environment the environment whose active profiles decide whether a derived key is allowed.
+     */
+    public MasterKeyProvider(EncryptionProperties properties, Environment environment) {
+        this.activeAlias = normalize(properties.getMasterKeyAlias());
+        this.keys = Collections.unmodifiableMap(load(properties, environment));
+        if (!keys.containsKey(activeAlias)) {
+            throw new IllegalStateException("Master key alias " + activeAlias + " not found in keystore");
+        }
+    }
+
+    /**
+     * Returns the alias used to wrap new data keys.
+     * Importance: Recorded beside each wrapped key so it can be unwrapped after the active alias changes.
+     * Alternatives: Assume a single master key.
+     *
+     * @return the active alias.
+     */
+    public String activeAlias() {
+        return activeAlias;
+    }
+
+    /**
+     * Returns the master key for an alias.
+     * Importance: Unwraps data keys wrapped under current or retired master keys.
+     * Alternatives: Re-read the keystore per lookup.
+     *
+     * @param alias the alias.
+     * @return the master key.
+     */
+    public SecretKey key(String alias) {
+        SecretKey key = keys.get(normalize(alias));
+        if (key == null) {
+            throw new IllegalStateException("Master key alias " + alias + " not found in keystore");
+        }
+        return key;
+    }
+
+    /**
+     * Returns the loaded aliases.
+     * Importance: Lets operators and tests confirm which master keys are available.
+     * Alternatives: Inspect the keystore with keytool.
+     *
+     * @return the aliases.
+     */
+    public Set<String> aliases() {
+        return keys.keySet();
+    }
+
+    /**
+     * Reads the keystore, or derives a development key when no keystore is configured under a dev, test, or local
+     * profile.
+     * Importance: The legacy key has a public default, so any other deployment without a keystore fails startup
+     * instead of wrapping data keys under a guessable master key.
+     * Alternatives: Derive the key whenever the legacy key is overridden.
+     *
+     * @param properties the encryption properties.
+     * @param environment the environment.
+     * @return the keys by alias.
+     */
+    private Map<String, SecretKey> load(EncryptionProperties properties, Environment environment) {
+        Map<String, SecretKey> loaded = new HashMap<>();
+        if (properties.getKeystorePath() == null || properties.getKeystorePath().isBlank()) {
+            if (!environment.acceptsProfiles(DEVELOPMENT_PROFILES)) {
+                throw new IllegalStateException("app.encryption.keystore-path is required unless the dev, test, "
+                    + "or local profile is active");
+            }
+            LOGGER.warn("No app.encryption.keystore-path configured; deriving a development master key from the legacy key");
+            loaded.put(activeAlias, derive(properties.getLegacyKey()));
+            return loaded;
+        }
+        char[] password = properties.getKeystorePassword().toCharArray();
+        try (InputStream in = Files.newInputStream(Path.of(properties.getKeystorePath()))) {
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(in, password);
+            for (String alias : Collections.list(keyStore.aliases())) {
+                if (keyStore.isKeyEntry(alias)) {
+                    Key key = keyStore.getKey(alias, password);
+                    if (key instanceof SecretKey && AES.equalsIgnoreCase(key.getAlgorithm())) {
+                        loaded.put(normalize(alias), new SecretKeySpec(key.getEncoded(), AES));
+                    }
+                }
+            }
+        } catch (IOException | GeneralSecurityException ex) {
+            throw new IllegalStateException("Failed to load master keystore " + properties.getKeystorePath(), ex);
+        }
+        LOGGER.info("Loaded {} master keys; active alias {}", loaded.size(), activeAlias);
+        return loaded;
+    }
+
+    /**
+     * Derives a 256-bit key from text.
+     * Importance: Gives local environments a stable master key.
+     * Alternatives: Generate a random key per start, which loses all data keys on restart.
+     *
+     * @param secret the secret text.
+     * @return the derived key.
+     */
+    private static SecretKey derive(String secret) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return new SecretKeySpec(digest.digest(("hg360-master:" + secret).getBytes(StandardCharsets.UTF_8)), AES);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Normalizes an alias the way PKCS12 keystores store it.
+     * Importance: Keytool lower-cases aliases, so configured aliases must match case-insensitively.
+     * Alternatives: Require lower-case configuration.
+     *
+     * @param alias the alias.
+     * @return the normalized alias.
+     */
+    private static String normalize(String alias) {
+        return alias.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,53 @@
+package com.heritagegraph360.profile.crypto;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paces re-encryption work to a fixed number of documents per second.
+ * Importance: Keeps key rotation from saturating MongoDB while live traffic shares the cluster.
+ * Alternatives: Use a token bucket from a resilience library.
+ */
+public class RotationRateLimiter {
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final long nanosPerPermit;
+    private long nextFreeNanos;
+
+    /**
+     * Creates a limiter.
+     * Importance: A non-positive rate disables limiting for off-peak or test runs.
+     * Alternatives: Require a positive rate.
+     *
+     * @param permitsPerSecond the permits per second, or zero or less for no limit.
+     */
+    public RotationRateLimiter(double permitsPerSecond) {
+        this.nanosPerPermit = permitsPerSecond > 0 ? (long) (NANOS_PER_SECOND / permitsPerSecond) : 0L;
+        this.nextFreeNanos = System.nanoTime();
+    }
+
+    /**
+     * Waits until permits are available.
+     * Importance: Reserves the permits first and sleeps outside the lock, so concurrent jobs share the rate fairly.
+     * Alternatives: Spin until a refill.
+     *
+     * @param permits the number of documents about to be processed.
+     * @throws InterruptedException when interrupted while waiting.
+     */
+    public void acquire(int permits) throws InterruptedException {
+        if (nanosPerPermit == 0L) {
+            return;
+        }
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (nextFreeNanos - now < 0) {
+                nextFreeNanos = now;
+            }
+            waitNanos = nextFreeNanos - now;
+            nextFreeNanos += permits * nanosPerPermit;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
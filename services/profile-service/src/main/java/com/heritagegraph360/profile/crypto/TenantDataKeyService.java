@@ -0,0 +1,230 @@
+package com.heritagegraph360.profile.crypto;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.heritagegraph360.profile.config.EncryptionProperties;
+import com.heritagegraph360.profile.nosql.TenantDataKeyDocument;
+import com.heritagegraph360.profile.nosql.TenantDataKeyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates, wraps, and caches per-tenant data keys.
+ * Importance: Unwraps each tenant key once per TTL instead of deriving or loading a key on every field operation.
+ * Alternatives: Use one global key for every tenant.
+ */
+@Component
+public class TenantDataKeyService {
+    static final String CACHE_NAME = "tenant-data-keys";
+    static final String ACTIVE_CACHE_NAME = "tenant-active-data-keys";
+
+    private static final String WRAP_TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int DATA_KEY_LENGTH = 32;
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+    private static final int FIRST_GENERATION = 1;
+
+    private final TenantDataKeyRepository repository;
+    private final MasterKeyProvider masterKeys;
+    private final FieldCipher fieldCipher;
+    private final Cache<String, DataKey> keys;
+    private final Cache<String, DataKey> activeKeys;
+
+    /**
+     * Creates the service and registers cache metrics.
+     * Importance: Exposes key cache hit rates so unwrap load is visible.
+     * Alternatives: Leave the caches unmonitored.
+     *
+     * @param repository the wrapped key repository.
+     * @param masterKeys the master key provider.
+     * @param fieldCipher the field cipher, used for its shared random source.
+     * @param properties the encryption properties.
+     * @param meterRegistry the metrics registry.
+     */
+    public TenantDataKeyService(TenantDataKeyRepository repository,
+                                MasterKeyProvider masterKeys,
+                                FieldCipher fieldCipher,
+                                EncryptionProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.masterKeys = masterKeys;
+        this.fieldCipher = fieldCipher;
+        this.keys = newCache(properties);
+        this.activeKeys = newCache(properties);
+        CaffeineCacheMetrics.monitor(meterRegistry, keys, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, activeKeys, ACTIVE_CACHE_NAME);
+    }
+
+    /**
+     * Returns the key used for new encryptions in a tenant.
+     * Importance: Creates the tenant's first key on demand so onboarding needs no key provisioning step.
+     * Alternatives: Provision keys when tenants are created.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the active data key.
+     */
+    public DataKey activeKey(String tenantId) {
+        return activeKeys.get(tenantId, this::loadActive);
+    }
+
+    /**
+     * Returns a specific key generation for a tenant.
+     * Importance: Decrypts values written before a rotation.
+     * Alternatives: Re-encrypt every value on rotation before switching keys.
+     *
+     * @param tenantId the tenant identifier.
+     * @param generation the key generation.
+     * @return the data key.
+     * @throws IllegalStateException when the generation does not exist.
+     */
+    public DataKey key(String tenantId, int generation) {
+        return keys.get(DataKey.id(tenantId, generation), id -> repository.findById(id)
+            .map(this::unwrap)
+            .orElseThrow(() -> new IllegalStateException("Unknown data key " + id)));
+    }
+
+    /**
+     * Creates the next key generation for a tenant and makes it active on this instance.
+     * Importance: Existing ciphertexts keep decrypting with their own generation while new writes use the new key.
+     * Alternatives: Replace the tenant key in place, which makes existing values unreadable.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the new active data key.
+     */
+    public DataKey rotate(String tenantId) {
+        int next = repository.findFirstByTenantIdOrderByGenerationDesc(tenantId)
+            .map(document -> document.getGeneration() + 1)
+            .orElse(FIRST_GENERATION);
+        DataKey key = create(tenantId, next);
+        keys.put(DataKey.id(tenantId, key.getGeneration()), key);
+        activeKeys.put(tenantId, key);
+        return key;
+    }
+
+    /**
+     * Loads the newest key of a tenant, creating the first one if needed.
+     * Importance: Seeds the generation cache too, so the first decrypt after an encrypt is a hit.
+     * Alternatives: Cache active and historical keys independently.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the active data key.
+     */
+    private DataKey loadActive(String tenantId) {
+        DataKey key = repository.findFirstByTenantIdOrderByGenerationDesc(tenantId)
+            .map(this::unwrap)
+            .orElseGet(() -> create(tenantId, FIRST_GENERATION));
+        keys.put(DataKey.id(tenantId, key.getGeneration()), key);
+        return key;
+    }
+
+    /**
+     * Generates, wraps, and inserts a key generation.
+     * Importance: Insert fails on the deterministic id when another instance won the race, and the winner's key is used.
+     * Alternatives: Take a distributed lock around key creation.
+     *
+     * @param tenantId the tenant identifier.
+     * @param generation the generation to create.
+     * @return the data key now stored for the generation.
+     */
+    DataKey create(String tenantId, int generation) {
+        byte[] raw = new byte[DATA_KEY_LENGTH];
+        fieldCipher.nextBytes(raw);
+        String id = DataKey.id(tenantId, generation);
+        String alias = masterKeys.activeAlias();
+        TenantDataKeyDocument document = new TenantDataKeyDocument();
+        document.setId(id);
+        document.setTenantId(tenantId);
+        document.setGeneration(generation);
+        document.setMasterKeyAlias(alias);
+        document.setWrappedKey(wrap(masterKeys.key(alias), id, raw));
+        document.setCreatedAt(Instant.now());
+        try {
+            repository.insert(document);
+        } catch (DuplicateKeyException ex) {
+            return repository.findById(id).map(this::unwrap)
+                .orElseThrow(() -> new IllegalStateException("Data key " + id + " vanished after a concurrent insert"));
+        }
+        DataKey key = new DataKey(tenantId, generation, new SecretKeySpec(raw, "AES"));
+        Arrays.fill(raw, (byte) 0);
+        return key;
+    }
+
+    /**
+     * Unwraps a stored key document.
+     * Importance: Authenticates the key id, so a wrapped key copied to another tenant is rejected.
+     * Alternatives: Wrap without associated data.
+     *
+     * @param document the stored key.
+     * @return the data key.
+     */
+    private DataKey unwrap(TenantDataKeyDocument document) {
+        byte[] data = Base64.getDecoder().decode(document.getWrappedKey());
+        try {
+            Cipher cipher = Cipher.getInstance(WRAP_TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, masterKeys.key(document.getMasterKeyAlias()),
+                new GCMParameterSpec(TAG_BITS, data, 0, IV_LENGTH));
+            cipher.updateAAD(document.getId().getBytes(StandardCharsets.UTF_8));
+            byte[] raw = cipher.doFinal(data, IV_LENGTH, data.length - IV_LENGTH);
+            DataKey key = new DataKey(document.getTenantId(), document.getGeneration(), new SecretKeySpec(raw, "AES"));
+            Arrays.fill(raw, (byte) 0);
+            return key;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Failed to unwrap data key " + document.getId(), ex);
+        }
+    }
+
+    /**
+     * Wraps raw key bytes under a master key.
+     * Importance: Runs once per key creation, so a fresh cipher instance is acceptable here.
+     * Alternatives: Use AES key wrap (RFC 3394).
+     *
+     * @param masterKey the master key.
+     * @param id the key id, authenticated as associated data.
+     * @param raw the raw data key.
+     * @return the Base64 wrapped key.
+     */
+    private String wrap(SecretKey masterKey, String id, byte[] raw) {
+        byte[] iv = new byte[IV_LENGTH];
+        fieldCipher.nextBytes(iv);
+        try {
+            Cipher cipher = Cipher.getInstance(WRAP_TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, masterKey, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(id.getBytes(StandardCharsets.UTF_8));
+            byte[] sealed = cipher.doFinal(raw);
+            byte[] out = new byte[IV_LENGTH + sealed.length];
+            System.arraycopy(iv, 0, out, 0, IV_LENGTH);
+            System.arraycopy(sealed, 0, out, IV_LENGTH, sealed.length);
+            return Base64.getEncoder().encodeToString(out);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Failed to wrap data key " + id, ex);
+        }
+    }
+
+    /**
+     * Builds a bounded, expiring key cache.
+     * Importance: Limits how many plaintext keys are resident and for how long.
+     * Alternatives: Use an unbounded map.
+     *
+     * @param properties the encryption properties.
+     * @return the cache.
+     */
+    private static Cache<String, DataKey> newCache(EncryptionProperties properties) {
+        return Caffeine.newBuilder()
+            .maximumSize(properties.getDataKeyCacheSize())
+            .expireAfterWrite(Duration.ofSeconds(properties.getDataKeyTtlSeconds()))
+            .recordStats()
+            .build();
+    }
+}
@@ -34,6 +34,9 @@ public class MergeEntity {
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
+    @Column(name = "decided_at")
+    private Instant decidedAt;
+
     /**
      * Creates an empty merge entity.
      * Importance: Required by JPA for entity instantiation.
@@ -173,4 +176,26 @@ public class MergeEntity {
     public void setCreatedAt(Instant createdAt) {
         this.createdAt = createdAt;
     }
+
+    /**
+     * Returns when the latest decision was recorded.
+     * Importance: Lets the merge cluster index replay approvals in decision order after a restart.
+     * Alternatives: Replay approvals in request order.
+     *
+     * @return the decision timestamp, or null while undecided.
+     */
+    public Instant getDecidedAt() {
+        return decidedAt;
+    }
+
+    /**
+     * Updates the decision timestamp.
+     * Importance: Supports merge decision workflows.
+     * Alternatives: Derive decision times from audit logs.
+     *
+     * @param decidedAt the decision timestamp.
+     */
+    public void setDecidedAt(Instant decidedAt) {
+        this.decidedAt = decidedAt;
+    }
 }
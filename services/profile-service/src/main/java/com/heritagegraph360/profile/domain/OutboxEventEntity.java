@@ -0,0 +1,203 @@
+package com.heritagegraph360.profile.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+/**
+ * Represents a domain event waiting to be relayed to Kafka.
+ * Importance: Commits events atomically with the profile change that produced them.
+ * Alternatives: Publish to Kafka directly from the request thread.
+ */
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEventEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id", nullable = false)
+    private Long outboxId;
+
+    @Column(name = "tenant_id", nullable = false, length = 64)
+    private String tenantId;
+
+    @Column(name = "topic", nullable = false, length = 128)
+    private String topic;
+
+    @Column(name = "event_key", length = 128)
+    private String eventKey;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "BYTEA")
+    private byte[] payload;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    /**
+     * Creates an empty outbox entity.
+     * Importance: Required by JPA for entity instantiation.
+     * Alternatives: Use a builder with a protected constructor.
+     */
+    public OutboxEventEntity() {
+    }
+
+    /**
+     * Returns the outbox identifier.
+     * Importance: Orders events for relay.
+     * Alternatives: Order by creation timestamp.
+     *
+     * @return the outbox identifier.
+     */
+    public Long getOutboxId() {
+        return outboxId;
+    }
+
+    /**
+     * Updates the outbox identifier.
+     * Importance: Supports JPA hydration.
+     * Alternatives: Expose the identifier as read-only.
+     *
+     * @param outboxId the outbox identifier.
+     */
+    public void setOutboxId(Long outboxId) {
+        this.outboxId = outboxId;
+    }
+
+    /**
+     * Returns the tenant identifier.
+     * Importance: Enforces tenant isolation for events.
+     * Alternatives: Embed the tenant in the payload only.
+     *
+     * @return the tenant identifier.
+     */
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Updates the tenant identifier.
+     * Importance: Supports event creation workflows.
+     * Alternatives: Use a tenant relation entity.
+     *
+     * @param tenantId the tenant identifier.
+     */
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    /**
+     * Returns the destination topic.
+     * Importance: Routes the event when relayed.
+     * Alternatives: Use one outbox table per topic.
+     *
+     * @return the topic.
+     */
+    public String getTopic() {
+        return topic;
+    }
+
+    /**
+     * Updates the destination topic.
+     * Importance: Supports event creation workflows.
+     * Alternatives: Hard-code the topic in the relay.
+     *
+     * @param topic the topic.
+     */
+    public void setTopic(String topic) {
+        this.topic = topic;
+    }
+
+    /**
+     * Returns the Kafka record key.
+     * Importance: Preserves per-key partitioning and ordering.
+     * Alternatives: Derive the key from the payload at relay time.
+     *
+     * @return the event key.
+     */
+    public String getEventKey() {
+        return eventKey;
+    }
+
+    /**
+     * Updates the Kafka record key.
+     * Importance: Supports event creation workflows.
+     * Alternatives: Always key by tenant.
+     *
+     * @param eventKey the event key.
+     */
+    public void setEventKey(String eventKey) {
+        this.eventKey = eventKey;
+    }
+
+    /**
+     * Returns the serialized event payload.
+     * Importance: Carries the exact bytes sent to Kafka, in either envelope format.
+     * Alternatives: Store structured columns and serialize at relay time.
+     *
+     * @return the payload.
+     */
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    /**
+     * Updates the serialized event payload.
+     * Importance: Supports event creation workflows.
+     * Alternatives: Store payloads in MongoDB.
+     *
+     * @param payload the payload.
+     */
+    public void setPayload(byte[] payload) {
+        this.payload = payload;
+    }
+
+    /**
+     * Returns the number of failed relay attempts.
+     * Importance: Surfaces events that repeatedly fail to publish.
+     * Alternatives: Track failures in logs only.
+     *
+     * @return the attempts.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Updates the number of failed relay attempts.
+     * Importance: Supports relay bookkeeping.
+     * Alternatives: Use a separate failure table.
+     *
+     * @param attempts the attempts.
+     */
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    /**
+     * Returns the creation timestamp.
+     * Importance: Supports relay lag monitoring.
+     * Alternatives: Derive lag from identifiers.
+     *
+     * @return the creation timestamp.
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Updates the creation timestamp.
+     * Importance: Supports event creation workflows.
+     * Alternatives: Use a database default.
+     *
+     * @param createdAt the creation timestamp.
+     */
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
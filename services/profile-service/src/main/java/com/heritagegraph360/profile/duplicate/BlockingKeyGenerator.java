@@ -0,0 +1,182 @@
+package com.heritagegraph360.profile.duplicate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * Derives blocking keys for duplicate candidate generation.
+ * Importance: Limits similarity scoring to profiles that share a normalized name or contact key.
+ * Alternatives: Compare every pair of profiles in a tenant.
+ */
+@Component
+public class BlockingKeyGenerator {
+    private static final int NGRAM_LENGTH = 3;
+    private static final int MIN_PHONE_DIGITS = 7;
+    private static final char[] SOUNDEX_CODES = "01230120022455012623010202".toCharArray();
+
+    /**
+     * Builds all blocking keys for a profile.
+     * Importance: Produces the phonetic, sorted-token, n-gram, and contact blocks a profile belongs to.
+     * Alternatives: Use a single sorted-neighborhood key.
+     *
+     * @param displayName the display name.
+     * @param email the primary email.
+     * @param phone the primary phone.
+     * @return the distinct blocking keys.
+     */
+    public List<String> keysFor(String displayName, String email, String phone) {
+        Set<String> keys = new LinkedHashSet<>();
+        String normalized = normalizeName(displayName);
+        if (!normalized.isEmpty()) {
+            String[] tokens = normalized.split(" ");
+            Arrays.sort(tokens);
+            keys.add("T:" + String.join(" ", tokens));
+            String[] codes = new String[tokens.length];
+            for (int i = 0; i < tokens.length; i++) {
+                codes[i] = soundex(tokens[i]);
+            }
+            Arrays.sort(codes);
+            keys.add("P:" + String.join(" ", codes));
+            for (int i = 0; i + NGRAM_LENGTH <= normalized.length(); i++) {
+                keys.add("G:" + normalized.substring(i, i + NGRAM_LENGTH));
+            }
+        }
+        String normalizedEmail = normalizeEmail(email);
+        if (normalizedEmail != null) {
+            keys.add("E:" + normalizedEmail);
+        }
+        String normalizedPhone = normalizePhone(phone);
+        if (normalizedPhone != null) {
+            keys.add("H:" + normalizedPhone);
+        }
+        return new ArrayList<>(keys);
+    }
+
+    /**
+     * Returns whether a key is a contact key.
+     * Importance: Contact blocks are never skipped for size because they feed the shared-contact rule.
+     * Alternatives: Track key types in a separate enum.
+     *
+     * @param key the blocking key.
+     * @return true for email or phone keys.
+     */
+    public boolean isContactKey(String key) {
+        return key.startsWith("E:") || key.startsWith("H:");
+    }
+
+    /**
+     * Normalizes a display name for blocking.
+     * Importance: Folds case, diacritics, and punctuation so spelling variants share blocks.
+     * Alternatives: Use a transliteration library.
+     *
+     * @param displayName the display name.
+     * @return the normalized name, or an empty string.
+     */
+    public String normalizeName(String displayName) {
+        if (displayName == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(displayName, Normalizer.Form.NFD);
+        StringBuilder builder = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && builder.length() > 0) {
+                    builder.append(' ');
+                }
+                pendingSpace = false;
+                builder.append(Character.toLowerCase(c));
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Normalizes an email address.
+     * Importance: Makes case and whitespace variants share a contact block.
+     * Alternatives: Apply provider-specific canonicalization rules.
+     *
+     * @param email the email address.
+     * @return the normalized email, or null when blank.
+     */
+    public String normalizeEmail(String email) {
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Normalizes a phone number to its digits.
+     * Importance: Makes formatting variants share a contact block.
+     * Alternatives: Use libphonenumber for E.164 normalization.
+     *
+     * @param phone the phone number.
+     * @return the digits, or null when too short.
+     */
+    public String normalizePhone(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.length() < MIN_PHONE_DIGITS ? null : digits.toString();
+    }
+
+    /**
+     * Computes an American Soundex code for a token.
+     * Importance: Groups phonetically similar surnames and given names.
+     * Alternatives: Use Double Metaphone for better non-English coverage.
+     *
+     * @param token the normalized token.
+     * @return the four-character code, or the token itself when it has no letters.
+     */
+    private String soundex(String token) {
+        char first = 0;
+        StringBuilder code = new StringBuilder(4);
+        char previous = 0;
+        for (int i = 0; i < token.length() && code.length() < 4; i++) {
+            char c = token.charAt(i);
+            if (c < 'a' || c > 'z') {
+                continue;
+            }
+            char digit = SOUNDEX_CODES[c - 'a'];
+            if (first == 0) {
+                first = c;
+                code.append(Character.toUpperCase(c));
+                previous = digit;
+                continue;
+            }
+            if (digit != '0' && digit != previous) {
+                code.append(digit);
+            }
+            if (c != 'h' && c != 'w') {
+                previous = digit;
+            }
+        }
+        if (first == 0) {
+            return token;
+        }
+        while (code.length() < 4) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+}
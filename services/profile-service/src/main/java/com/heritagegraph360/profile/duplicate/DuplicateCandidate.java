@@ -0,0 +1,91 @@
+package com.heritagegraph360.profile.duplicate;
+
+import java.util.UUID;
+
+/**
+ * Describes a scored pair of profiles that share a blocking key.
+ * Importance: Carries the duplicate rule outcome alongside the raw similarity.
+ * Alternatives: Return only pairs that pass the duplicate rule.
+ */
+public class DuplicateCandidate {
+    private final UUID profileId;
+    private final UUID candidateProfileId;
+    private final double similarity;
+    private final boolean sharedContact;
+    private final boolean potentialDuplicate;
+
+    /**
+     * Creates a scored candidate pair.
+     * Importance: Captures the comparison result in one immutable value.
+     * Alternatives: Use a map of fields.
+     *
+     * @param profileId the profile identifier.
+     * @param candidateProfileId the candidate profile identifier.
+     * @param similarity the name similarity.
+     * @param sharedContact whether email or phone matches.
+     * @param potentialDuplicate whether the duplicate rule passed.
+     */
+    public DuplicateCandidate(UUID profileId, UUID candidateProfileId, double similarity,
+                              boolean sharedContact, boolean potentialDuplicate) {
+        this.profileId = profileId;
+        this.candidateProfileId = candidateProfileId;
+        this.similarity = similarity;
+        this.sharedContact = sharedContact;
+        this.potentialDuplicate = potentialDuplicate;
+    }
+
+    /**
+     * Returns the profile identifier.
+     * Importance: Identifies the first profile of the pair.
+     * Alternatives: Use positional pair fields.
+     *
+     * @return the profile identifier.
+     */
+    public UUID getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Returns the candidate profile identifier.
+     * Importance: Identifies the second profile of the pair.
+     * Alternatives: Use positional pair fields.
+     *
+     * @return the candidate profile identifier.
+     */
+    public UUID getCandidateProfileId() {
+        return candidateProfileId;
+    }
+
+    /**
+     * Returns the name similarity.
+     * Importance: Lets reviewers rank candidates.
+     * Alternatives: Return a coarse confidence band.
+     *
+     * @return the similarity between 0.0 and 1.0.
+     */
+    public double getSimilarity() {
+        return similarity;
+    }
+
+    /**
+     * Returns whether the pair shares an email or phone.
+     * Importance: Exposes the contact half of the duplicate rule.
+     * Alternatives: Return the matching contact values.
+     *
+     * @return true when contact data matches.
+     */
+    public boolean isSharedContact() {
+        return sharedContact;
+    }
+
+    /**
+     * Returns whether the pair passes the duplicate rule.
+     * Importance: Flags pairs eligible for a staged merge.
+     * Alternatives: Let clients apply the rule.
+     *
+     * @return true when a potential duplicate.
+     */
+    public boolean isPotentialDuplicate() {
+        return potentialDuplicate;
+    }
+}
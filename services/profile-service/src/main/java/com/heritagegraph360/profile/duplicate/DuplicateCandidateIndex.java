@@ -0,0 +1,133 @@
+package com.heritagegraph360.profile.duplicate;
+
+import com.heritagegraph360.profile.config.DuplicateDetectionProperties;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains per-tenant blocking-key indexes for duplicate detection.
+ * Importance: Lets candidate lookups touch only profiles that share a block.
+ * Alternatives: Run pairwise comparisons against every profile in the tenant.
+ */
+@Component
+public class DuplicateCandidateIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DuplicateCandidateIndex.class);
+    private static final int INITIAL_TENANT_PROFILES = 1024;
+
+    private final Map<String, TenantBlockIndex> tenants = new ConcurrentHashMap<>();
+    private final Map<String, Object> loadLocks = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final BlockingKeyGenerator keyGenerator;
+    private final DuplicateDetectionProperties properties;
+
+    /**
+     * Creates the candidate index.
+     * Importance: Connects the index to profile storage for lazy tenant loads.
+     * Alternatives: Load profiles through the JPA repository.
+     *
+     * @param dataSource the relational data source.
+     * @param transactionManager the transaction manager used for cursor reads.
+     * @param keyGenerator the blocking key generator.
+     * @param properties the duplicate detection properties.
+     */
+    public DuplicateCandidateIndex(DataSource dataSource,
+                                   PlatformTransactionManager transactionManager,
+                                   BlockingKeyGenerator keyGenerator,
+                                   DuplicateDetectionProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.getLoadFetchSize());
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.keyGenerator = keyGenerator;
+        this.properties = properties;
+    }
+
+    /**
+     * Records a newly created profile in its tenant index.
+     * Importance: Keeps loaded tenants consistent with profile creation.
+     * Alternatives: Reload the tenant before each lookup.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the profile identifier.
+     * @param displayName the display name.
+     * @param email the primary email.
+     * @param phone the primary phone.
+     */
+    public void recordProfile(String tenantId, UUID profileId, String displayName, String email, String phone) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        TenantBlockIndex index = tenants.get(tenantId);
+        if (index != null) {
+            index.add(profileId, displayName, keyGenerator.keysFor(displayName, email, phone), keyGenerator);
+        }
+    }
+
+    /**
+     * Returns the loaded index for a tenant, loading it on first use.
+     * Importance: Defers memory cost to tenants that actually request duplicate checks.
+     * Alternatives: Load every tenant at startup.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the loaded tenant index.
+     */
+    public TenantBlockIndex loadedTenant(String tenantId) {
+        TenantBlockIndex index = tenants.get(tenantId);
+        if (index != null && index.isLoaded()) {
+            return index;
+        }
+        synchronized (loadLocks.computeIfAbsent(tenantId, key -> new Object())) {
+            index = tenants.get(tenantId);
+            if (index != null && index.isLoaded()) {
+                return index;
+            }
+            index = new TenantBlockIndex(INITIAL_TENANT_PROFILES);
+            tenants.put(tenantId, index);
+            load(tenantId, index);
+            index.markLoaded();
+            return index;
+        }
+    }
+
+    /**
+     * Returns whether candidate generation is enabled.
+     * Importance: Lets callers reject requests when the index is disabled.
+     * Alternatives: Return empty candidate lists when disabled.
+     *
+     * @return true when enabled.
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Streams a tenant's profiles into an index.
+     * Importance: Builds postings in one pass without materializing entities.
+     * Alternatives: Page through the profile repository.
+     *
+     * @param tenantId the tenant identifier.
+     * @param index the index to populate.
+     */
+    private void load(String tenantId, TenantBlockIndex index) {
+        long started = System.nanoTime();
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(
+            "SELECT profile_id, display_name, primary_email, primary_phone FROM profiles WHERE tenant_id = ?",
+            rs -> {
+                String displayName = rs.getString(2);
+                index.add(rs.getObject(1, UUID.class), displayName,
+                    keyGenerator.keysFor(displayName, rs.getString(3), rs.getString(4)), keyGenerator);
+            },
+            tenantId));
+        LOGGER.info("Duplicate index loaded {} profiles in {} blocks for tenant {} in {} ms",
+            index.size(), index.blockCount(), tenantId, (System.nanoTime() - started) / 1_000_000);
+    }
+}
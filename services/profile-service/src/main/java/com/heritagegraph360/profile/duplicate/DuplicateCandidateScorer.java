@@ -0,0 +1,59 @@
+package com.heritagegraph360.profile.duplicate;
+
+import com.heritagegraph360.profile.config.DuplicateDetectionProperties;
+import com.heritagegraph360.profile.service.DuplicateDetectionService;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scores candidate pairs produced by the blocking index.
+ * Importance: Shares one scoring rule between per-profile lookups and tenant scans.
+ * Alternatives: Duplicate scoring logic in each caller.
+ */
+@Component
+public class DuplicateCandidateScorer {
+    private final DuplicateDetectionService duplicateDetectionService;
+    private final DuplicateDetectionProperties properties;
+
+    /**
+     * Creates the candidate scorer.
+     * Importance: Connects candidates to the duplicate rule.
+     * Alternatives: Call the similarity kernel directly.
+     *
+     * @param duplicateDetectionService the duplicate rule service.
+     * @param properties the duplicate detection properties.
+     */
+    public DuplicateCandidateScorer(DuplicateDetectionService duplicateDetectionService,
+                                    DuplicateDetectionProperties properties) {
+        this.duplicateDetectionService = duplicateDetectionService;
+        this.properties = properties;
+    }
+
+    /**
+     * Scores one candidate pair with the duplicate rule.
+     * Importance: Keeps a single definition of a potential duplicate.
+     * Alternatives: Inline the similarity threshold here.
+     *
+     * @param index the tenant index.
+     * @param profileId the profile identifier.
+     * @param displayName the profile display name.
+     * @param candidate the candidate node id.
+     * @param sharedContact whether the pair shares an email or phone.
+     * @return the scored candidate, or null when below the review threshold.
+     */
+    public DuplicateCandidate score(TenantBlockIndex index, UUID profileId, String displayName,
+                                    int candidate, boolean sharedContact) {
+        double minimum = Math.min(properties.getReviewSimilarity(), DuplicateDetectionService.DUPLICATE_SIMILARITY);
+        double similarity = duplicateDetectionService.calculateSimilarity(
+            displayName, index.displayName(candidate), minimum);
+        if (similarity < minimum) {
+            return null;
+        }
+        boolean potentialDuplicate = duplicateDetectionService.isPotentialDuplicate(similarity, sharedContact);
+        if (!potentialDuplicate && similarity < properties.getReviewSimilarity()) {
+            return null;
+        }
+        return new DuplicateCandidate(profileId, index.profileId(candidate), similarity,
+            sharedContact, potentialDuplicate);
+    }
+}
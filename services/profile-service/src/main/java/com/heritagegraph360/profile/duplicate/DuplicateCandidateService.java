@@ -0,0 +1,131 @@
+package com.heritagegraph360.profile.duplicate;
+
+import com.heritagegraph360.profile.config.DuplicateDetectionProperties;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+
+/**
+ * Serves duplicate candidate lookups and tenant-wide scans.
+ * Importance: Applies the existing duplicate rule only to pairs that share a block.
+ * Alternatives: Score every pair in the tenant.
+ */
+@Service
+public class DuplicateCandidateService {
+    private final DuplicateCandidateIndex candidateIndex;
+    private final DuplicateCandidateScorer scorer;
+    private final DuplicateScanStore scanStore;
+    private final DuplicateScanRunner scanRunner;
+    private final DuplicateDetectionProperties properties;
+
+    /**
+     * Creates the candidate service.
+     * Importance: Connects the block index, scorer, and scan runner.
+     * Alternatives: Embed scoring in the index.
+     *
+     * @param candidateIndex the candidate index.
+     * @param scorer the candidate scorer.
+     * @param scanStore the scan store.
+     * @param scanRunner the scan runner.
+     * @param properties the duplicate detection properties.
+     */
+    public DuplicateCandidateService(DuplicateCandidateIndex candidateIndex,
+                                     DuplicateCandidateScorer scorer,
+                                     DuplicateScanStore scanStore,
+                                     DuplicateScanRunner scanRunner,
+                                     DuplicateDetectionProperties properties) {
+        this.candidateIndex = candidateIndex;
+        this.scorer = scorer;
+        this.scanStore = scanStore;
+        this.scanRunner = scanRunner;
+        this.properties = properties;
+    }
+
+    /**
+     * Finds scored duplicate candidates for one profile.
+     * Importance: Answers "who might this be?" without a tenant-wide comparison.
+     * Alternatives: Query by exact email or phone only.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the profile identifier.
+     * @return the candidates ordered by similarity.
+     */
+    public List<DuplicateCandidate> findCandidates(String tenantId, UUID profileId) {
+        requireEnabled();
+        TenantBlockIndex index = candidateIndex.loadedTenant(tenantId);
+        int node = index.find(profileId);
+        if (node < 0) {
+            throw new IllegalStateException("Profile not found");
+        }
+        List<DuplicateCandidate> candidates = new ArrayList<>();
+        String displayName = index.displayName(node);
+        index.visitCandidates(node, false, properties.getMaxBlockSize(), (candidate, sharedContact) -> {
+            DuplicateCandidate scored = scorer.score(index, profileId, displayName, candidate, sharedContact);
+            if (scored != null) {
+                candidates.add(scored);
+            }
+        });
+        candidates.sort(Comparator.comparing(DuplicateCandidate::isPotentialDuplicate)
+            .thenComparingDouble(DuplicateCandidate::getSimilarity)
+            .reversed());
+        return candidates.size() > properties.getMaxCandidates()
+            ? new ArrayList<>(candidates.subList(0, properties.getMaxCandidates()))
+            : candidates;
+    }
+
+    /**
+     * Starts a checkpointed tenant-wide duplicate scan.
+     * Importance: Persists the scan before any work so it can be resumed after a restart.
+     * Alternatives: Run scans through a batch scheduler.
+     *
+     * @param tenantId the tenant identifier.
+     * @param actorId the requesting actor.
+     * @return the running scan.
+     */
+    public DuplicateScanRecord startScan(String tenantId, UUID actorId) {
+        requireEnabled();
+        UUID scanId = UUID.randomUUID();
+        int chunkCount = Math.max(1, properties.getScanChunkCount());
+        scanRunner.start(scanId, tenantId, chunkCount, actorId);
+        return getScan(tenantId, scanId);
+    }
+
+    /**
+     * Returns a scan owned by the tenant.
+     * Importance: Lets clients poll scan progress.
+     * Alternatives: Push progress through a webhook.
+     *
+     * @param tenantId the tenant identifier.
+     * @param scanId the scan identifier.
+     * @return the scan record.
+     */
+    public DuplicateScanRecord getScan(String tenantId, UUID scanId) {
+        return scanStore.findScan(scanId)
+            .filter(scan -> scan.getTenantId().equals(tenantId))
+            .orElseThrow(() -> new IllegalStateException("Scan not found"));
+    }
+
+    /**
+     * Returns whether candidate generation is configured.
+     * Importance: Lets the API answer 404 when the candidate index is disabled.
+     * Alternatives: Fail every request.
+     *
+     * @return true when enabled.
+     */
+    public boolean isEnabled() {
+        return candidateIndex.isEnabled();
+    }
+
+    /**
+     * Rejects requests when candidate generation is disabled.
+     * Importance: Avoids loading tenant indexes on nodes configured without them.
+     * Alternatives: Return empty results.
+     */
+    private void requireEnabled() {
+        if (!candidateIndex.isEnabled()) {
+            throw new IllegalStateException("Duplicate candidate index disabled");
+        }
+    }
+}
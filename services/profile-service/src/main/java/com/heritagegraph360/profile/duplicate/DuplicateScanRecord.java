@@ -0,0 +1,163 @@
+package com.heritagegraph360.profile.duplicate;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Describes a persisted tenant-wide duplicate scan and its checkpoint progress.
+ * Importance: Lets clients and restarted nodes see how far a scan has progressed.
+ * Alternatives: Keep scan state in memory only.
+ */
+public class DuplicateScanRecord {
+    private final UUID scanId;
+    private final String tenantId;
+    private final DuplicateScanStatus status;
+    private final int chunkCount;
+    private final int chunksCompleted;
+    private final long comparisons;
+    private final long mergesCreated;
+    private final Instant createdAt;
+    private final Instant completedAt;
+    private final String error;
+
+    /**
+     * Creates a scan record.
+     * Importance: Captures scan state read from storage.
+     * Alternatives: Expose result sets directly.
+     *
+     * @param scanId the scan identifier.
+     * @param tenantId the tenant identifier.
+     * @param status the scan status.
+     * @param chunkCount the total number of chunks.
+     * @param chunksCompleted the number of checkpointed chunks.
+     * @param comparisons the pair comparisons made so far.
+     * @param mergesCreated the merges inserted so far.
+     * @param createdAt the creation time.
+     * @param completedAt the completion time.
+     * @param error the failure message.
+     */
+    public DuplicateScanRecord(UUID scanId, String tenantId, DuplicateScanStatus status, int chunkCount,
+                               int chunksCompleted, long comparisons, long mergesCreated, Instant createdAt,
+                               Instant completedAt, String error) {
+        this.scanId = scanId;
+        this.tenantId = tenantId;
+        this.status = status;
+        this.chunkCount = chunkCount;
+        this.chunksCompleted = chunksCompleted;
+        this.comparisons = comparisons;
+        this.mergesCreated = mergesCreated;
+        this.createdAt = createdAt;
+        this.completedAt = completedAt;
+        this.error = error;
+    }
+
+    /**
+     * Returns the scan identifier.
+     * Importance: Identifies the scan for polling and resumption.
+     * Alternatives: Use tenant-scoped sequence numbers.
+     *
+     * @return the scan identifier.
+     */
+    public UUID getScanId() {
+        return scanId;
+    }
+
+    /**
+     * Returns the tenant identifier.
+     * Importance: Enforces tenant isolation on status reads.
+     * Alternatives: Key scans by tenant.
+     *
+     * @return the tenant identifier.
+     */
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Returns the scan status.
+     * Importance: Tells clients whether to keep polling.
+     * Alternatives: Infer status from chunk counts.
+     *
+     * @return the status.
+     */
+    public DuplicateScanStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the total number of chunks.
+     * Importance: Fixes the partitioning so resumed runs skip the same chunks.
+     * Alternatives: Re-derive chunks from configuration.
+     *
+     * @return the chunk count.
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Returns the number of checkpointed chunks.
+     * Importance: Reports scan progress.
+     * Alternatives: Report a percentage.
+     *
+     * @return the completed chunks.
+     */
+    public int getChunksCompleted() {
+        return chunksCompleted;
+    }
+
+    /**
+     * Returns the number of pair comparisons made.
+     * Importance: Shows how much work blocking left for scoring.
+     * Alternatives: Omit comparison counts.
+     *
+     * @return the comparisons.
+     */
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    /**
+     * Returns the number of merges inserted.
+     * Importance: Tells reviewers how much work the scan queued.
+     * Alternatives: Count merges in SQL.
+     *
+     * @return the merges created.
+     */
+    public long getMergesCreated() {
+        return mergesCreated;
+    }
+
+    /**
+     * Returns when the scan was created.
+     * Importance: Supports duration reporting.
+     * Alternatives: Omit timing data.
+     *
+     * @return the creation time.
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Returns when the scan finished.
+     * Importance: Supports duration reporting.
+     * Alternatives: Omit timing data.
+     *
+     * @return the completion time, or null while running.
+     */
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    /**
+     * Returns the failure message.
+     * Importance: Explains failed scans.
+     * Alternatives: Return error codes.
+     *
+     * @return the error, or null.
+     */
+    public String getError() {
+        return error;
+    }
+}
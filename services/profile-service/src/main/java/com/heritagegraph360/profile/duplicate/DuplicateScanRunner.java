@@ -0,0 +1,325 @@
+package com.heritagegraph360.profile.duplicate;
+
+import com.heritagegraph360.profile.config.DuplicateDetectionProperties;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs tenant-wide duplicate scans in parallel with per-chunk checkpoints.
+ * Importance: Saturates all cores on reviewer-prep nodes and leases each scan to one instance so interrupted scans resume exactly once.
+ * Alternatives: Run scans single-threaded or through an external batch framework.
+ */
+@Component
+public class DuplicateScanRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DuplicateScanRunner.class);
+
+    private final DuplicateCandidateIndex candidateIndex;
+    private final DuplicateCandidateScorer scorer;
+    private final DuplicateScanStore scanStore;
+    private final DuplicateDetectionProperties properties;
+    private final ForkJoinPool pool;
+    private final String instanceId = System.getenv().getOrDefault("HOSTNAME", "local") + "-"
+        + UUID.randomUUID().toString().substring(0, 8);
+    private final Set<UUID> activeScans = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates the scan runner.
+     * Importance: Sizes a dedicated pool so scans do not compete with the common pool.
+     * Alternatives: Use ForkJoinPool.commonPool.
+     *
+     * @param candidateIndex the candidate index.
+     * @param scorer the candidate scorer.
+     * @param scanStore the scan store.
+     * @param properties the duplicate detection properties.
+     */
+    public DuplicateScanRunner(DuplicateCandidateIndex candidateIndex,
+                               DuplicateCandidateScorer scorer,
+                               DuplicateScanStore scanStore,
+                               DuplicateDetectionProperties properties) {
+        this.candidateIndex = candidateIndex;
+        this.scorer = scorer;
+        this.scanStore = scanStore;
+        this.properties = properties;
+        int parallelism = properties.getScanParallelism() > 0
+            ? properties.getScanParallelism()
+            : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Creates a scan leased to this instance and starts it.
+     * Importance: The scan is owned from the moment it exists, so no other instance can resume it while it runs here.
+     * Alternatives: Create the scan unowned and claim it on submission.
+     *
+     * @param scanId the scan identifier.
+     * @param tenantId the tenant identifier.
+     * @param chunkCount the number of chunks.
+     * @param requestedBy the requesting actor.
+     */
+    public void start(UUID scanId, String tenantId, int chunkCount, UUID requestedBy) {
+        scanStore.createScan(scanId, tenantId, chunkCount, requestedBy, instanceId, leaseUntil());
+        submit(scanId, tenantId, chunkCount);
+    }
+
+    /**
+     * Renews leases on local scans and resumes scans whose owner stopped renewing its lease.
+     * Importance: Continues scans from their checkpoint after crashes and deploys without two instances running one scan.
+     * Alternatives: Resume every running scan at startup.
+     */
+    @Scheduled(fixedDelayString = "${app.duplicates.scan-resume-interval-ms:30000}")
+    public void resumeOrphanedScans() {
+        for (UUID scanId : activeScans) {
+            if (!scanStore.claimScan(scanId, instanceId, Instant.now(), leaseUntil())) {
+                LOGGER.warn("Duplicate scan {} lost its lease to another instance", scanId);
+            }
+        }
+        if (!properties.isEnabled() || !properties.isScanResumeEnabled()) {
+            return;
+        }
+        for (DuplicateScanRecord scan : scanStore.findOrphanedScans(Instant.now())) {
+            if (activeScans.contains(scan.getScanId())
+                || !scanStore.claimScan(scan.getScanId(), instanceId, Instant.now(), leaseUntil())) {
+                continue;
+            }
+            LOGGER.info("Resuming duplicate scan {} for tenant {} at {}/{} chunks",
+                scan.getScanId(), scan.getTenantId(), scan.getChunksCompleted(), scan.getChunkCount());
+            submit(scan.getScanId(), scan.getTenantId(), scan.getChunkCount());
+        }
+    }
+
+    /**
+     * Submits a leased scan to the fork-join pool.
+     * Importance: Returns immediately while chunks run in the background.
+     * Alternatives: Block the caller until the scan completes.
+     *
+     * @param scanId the scan identifier.
+     * @param tenantId the tenant identifier.
+     * @param chunkCount the number of chunks.
+     */
+    private void submit(UUID scanId, String tenantId, int chunkCount) {
+        if (!activeScans.add(scanId)) {
+            return;
+        }
+        pool.execute(() -> {
+            try {
+                run(scanId, tenantId, chunkCount);
+            } finally {
+                activeScans.remove(scanId);
+            }
+        });
+    }
+
+    /**
+     * Stops the scan pool on shutdown.
+     * Importance: Interrupts in-flight chunks; their transactions roll back and the scan resumes once the lease lapses.
+     * Alternatives: Wait for running scans to finish.
+     */
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Runs every unfinished chunk of a scan.
+     * Importance: Partitions the tenant once and fans chunks out across the pool.
+     * Alternatives: Submit each chunk as an independent task.
+     *
+     * @param scanId the scan identifier.
+     * @param tenantId the tenant identifier.
+     * @param chunkCount the number of chunks.
+     */
+    private void run(UUID scanId, String tenantId, int chunkCount) {
+        long started = System.nanoTime();
+        try {
+            TenantBlockIndex index = candidateIndex.loadedTenant(tenantId);
+            BitSet completed = scanStore.completedChunks(scanId);
+            int[][] chunks = partition(index, chunkCount);
+            AtomicLong merges = new AtomicLong();
+            new ChunkRangeTask(scanId, tenantId, index, chunks, completed, 0, chunkCount, merges).invoke();
+            if (!scanStore.finishScan(scanId, instanceId, DuplicateScanStatus.COMPLETED, null)) {
+                LOGGER.warn("Duplicate scan {} lost its lease to another instance", scanId);
+                return;
+            }
+            LOGGER.info("Duplicate scan {} for tenant {} inserted {} merges in {} ms",
+                scanId, tenantId, merges.get(), (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException ex) {
+            if (pool.isShutdown()) {
+                LOGGER.info("Duplicate scan {} interrupted by shutdown; it will resume from its checkpoint", scanId);
+                return;
+            }
+            if (!scanStore.finishScan(scanId, instanceId, DuplicateScanStatus.FAILED, ex.getMessage())) {
+                LOGGER.warn("Duplicate scan {} lost its lease to another instance", scanId);
+                return;
+            }
+            LOGGER.warn("Duplicate scan {} failed", scanId, ex);
+        }
+    }
+
+    /**
+     * Groups index nodes into chunks by profile identifier hash.
+     * Importance: Keeps chunk membership stable across restarts even though node ids are not.
+     * Alternatives: Partition by node id ranges.
+     *
+     * @param index the tenant index.
+     * @param chunkCount the number of chunks.
+     * @return the node ids of each chunk.
+     */
+    private int[][] partition(TenantBlockIndex index, int chunkCount) {
+        int profiles = index.size();
+        int[] sizes = new int[chunkCount];
+        int[] assignment = new int[profiles];
+        for (int node = 0; node < profiles; node++) {
+            int chunk = chunkOf(index.profileId(node), chunkCount);
+            assignment[node] = chunk;
+            sizes[chunk]++;
+        }
+        int[][] chunks = new int[chunkCount][];
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            chunks[chunk] = new int[sizes[chunk]];
+            sizes[chunk] = 0;
+        }
+        for (int node = 0; node < profiles; node++) {
+            int chunk = assignment[node];
+            chunks[chunk][sizes[chunk]++] = node;
+        }
+        return chunks;
+    }
+
+    /**
+     * Returns the chunk a profile belongs to.
+     * Importance: Uses the UUID's specified hash so assignment is identical on every JVM.
+     * Alternatives: Store chunk assignments in the database.
+     *
+     * @param profileId the profile identifier.
+     * @param chunkCount the number of chunks.
+     * @return the chunk index.
+     */
+    static int chunkOf(UUID profileId, int chunkCount) {
+        return Math.floorMod(profileId.hashCode(), chunkCount);
+    }
+
+    /**
+     * Scores one chunk and checkpoints it with its merges.
+     * Importance: Emits each pair once by letting the lower profile identifier own it, and stops the scan once the lease is lost.
+     * Alternatives: Track emitted pairs in a shared set.
+     *
+     * @param scanId the scan identifier.
+     * @param tenantId the tenant identifier.
+     * @param index the tenant index.
+     * @param nodes the chunk's node ids.
+     * @param chunkIndex the chunk index.
+     * @return the merges inserted.
+     */
+    private int processChunk(UUID scanId, String tenantId, TenantBlockIndex index, int[] nodes, int chunkIndex) {
+        List<DuplicateCandidate> candidates = new ArrayList<>();
+        long[] comparisons = new long[1];
+        for (int node : nodes) {
+            UUID profileId = index.profileId(node);
+            String displayName = index.displayName(node);
+            index.visitCandidates(node, false, properties.getMaxBlockSize(), (candidate, sharedContact) -> {
+                UUID candidateId = index.profileId(candidate);
+                if (profileId.compareTo(candidateId) >= 0) {
+                    return;
+                }
+                comparisons[0]++;
+                DuplicateCandidate scored = scorer.score(index, profileId, displayName, candidate, sharedContact);
+                if (scored != null) {
+                    candidates.add(scored);
+                }
+            });
+        }
+        int inserted = scanStore.completeChunk(scanId, instanceId, leaseUntil(), tenantId, chunkIndex, candidates,
+            comparisons[0], properties.getScanBatchSize());
+        if (inserted < 0) {
+            throw new IllegalStateException("Duplicate scan lease lost");
+        }
+        return inserted;
+    }
+
+    /**
+     * Returns the end of a lease taken now.
+     * Importance: Keeps claims, heartbeats, and checkpoints on one lease length.
+     * Alternatives: Pass lease ends from the caller.
+     *
+     * @return the lease end.
+     */
+    private Instant leaseUntil() {
+        return Instant.now().plusSeconds(properties.getScanLeaseSeconds());
+    }
+
+    /**
+     * Splits a chunk range in half until single chunks remain.
+     * Importance: Lets the fork-join pool balance uneven chunk sizes by work stealing.
+     * Alternatives: Submit a fixed task per chunk to an executor.
+     */
+    private final class ChunkRangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final UUID scanId;
+        private final String tenantId;
+        private final TenantBlockIndex index;
+        private final int[][] chunks;
+        private final BitSet completed;
+        private final int from;
+        private final int to;
+        private final AtomicLong merges;
+
+        /**
+         * Creates a task for a chunk range.
+         * Importance: Carries shared scan state to subtasks.
+         * Alternatives: Use static fields for shared state.
+         *
+         * @param scanId the scan identifier.
+         * @param tenantId the tenant identifier.
+         * @param index the tenant index.
+         * @param chunks the chunk node ids.
+         * @param completed the checkpointed chunks.
+         * @param from the first chunk, inclusive.
+         * @param to the last chunk, exclusive.
+         * @param merges the merge counter.
+         */
+        private ChunkRangeTask(UUID scanId, String tenantId, TenantBlockIndex index, int[][] chunks,
+                               BitSet completed, int from, int to, AtomicLong merges) {
+            this.scanId = scanId;
+            this.tenantId = tenantId;
+            this.index = index;
+            this.chunks = chunks;
+            this.completed = completed;
+            this.from = from;
+            this.to = to;
+            this.merges = merges;
+        }
+
+        /**
+         * Processes a single chunk or forks two halves.
+         * Importance: Skips checkpointed chunks so resumed scans only redo unfinished work.
+         * Alternatives: Process ranges sequentially.
+         */
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                if (!completed.get(from)) {
+                    merges.addAndGet(processChunk(scanId, tenantId, index, chunks[from], from));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(
+                new ChunkRangeTask(scanId, tenantId, index, chunks, completed, from, middle, merges),
+                new ChunkRangeTask(scanId, tenantId, index, chunks, completed, middle, to, merges));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.heritagegraph360.profile.duplicate;
+
+/**
+ * Lists the lifecycle states of a duplicate scan.
+ * Importance: Gives polling clients a stable set of states.
+ * Alternatives: Use free-form status strings.
+ */
+public enum DuplicateScanStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,270 @@
+package com.heritagegraph360.profile.duplicate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Persists duplicate scans, chunk checkpoints, and the merges they produce.
+ * Importance: Makes each chunk's merges and checkpoint commit atomically so restarts never duplicate work.
+ * Alternatives: Persist merges through JPA one entity at a time.
+ */
+@Component
+public class DuplicateScanStore {
+    private static final String INSERT_MERGES =
+        "INSERT INTO merges (merge_id, tenant_id, source_profile_id, target_profile_id, status, created_at) "
+            + "SELECT m.merge_id, ?, m.source_profile_id, m.target_profile_id, m.status, ? "
+            + "FROM unnest(CAST(? AS UUID[]), CAST(? AS UUID[]), CAST(? AS UUID[]), CAST(? AS VARCHAR[])) "
+            + "AS m(merge_id, source_profile_id, target_profile_id, status) "
+            + "WHERE NOT EXISTS (SELECT 1 FROM merges e WHERE e.tenant_id = ? "
+            + "AND LEAST(e.source_profile_id, e.target_profile_id) = LEAST(m.source_profile_id, m.target_profile_id) "
+            + "AND GREATEST(e.source_profile_id, e.target_profile_id) "
+            + "= GREATEST(m.source_profile_id, m.target_profile_id)) "
+            + "ON CONFLICT DO NOTHING RETURNING merge_id";
+    private static final String SELECT_SCAN =
+        "SELECT s.scan_id, s.tenant_id, s.status, s.chunk_count, s.created_at, s.completed_at, s.error, "
+            + "COUNT(c.chunk_index), COALESCE(SUM(c.comparisons), 0), COALESCE(SUM(c.merges_created), 0) "
+            + "FROM duplicate_scans s LEFT JOIN duplicate_scan_chunks c ON c.scan_id = s.scan_id ";
+    private static final String GROUP_SCAN =
+        " GROUP BY s.scan_id, s.tenant_id, s.status, s.chunk_count, s.created_at, s.completed_at, s.error";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Creates the scan store.
+     * Importance: Connects scans to relational storage.
+     * Alternatives: Store checkpoints in MongoDB.
+     *
+     * @param jdbcTemplate the JDBC template.
+     * @param transactionManager the transaction manager.
+     */
+    public DuplicateScanStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Creates a running scan leased to the instance that will run it.
+     * Importance: Fixes the chunk count for the lifetime of the scan and keeps other instances from resuming it.
+     * Alternatives: Create chunk rows up front.
+     *
+     * @param scanId the scan identifier.
+     * @param tenantId the tenant identifier.
+     * @param chunkCount the number of chunks.
+     * @param requestedBy the requesting actor.
+     * @param owner the owning instance.
+     * @param leaseUntil the end of the owner's lease.
+     */
+    public void createScan(UUID scanId, String tenantId, int chunkCount, UUID requestedBy, String owner,
+                           Instant leaseUntil) {
+        jdbcTemplate.update(
+            "INSERT INTO duplicate_scans (scan_id, tenant_id, status, chunk_count, requested_by, owner, lease_until, "
+                + "created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+            scanId, tenantId, DuplicateScanStatus.RUNNING.name(), chunkCount, requestedBy, owner,
+            Timestamp.from(leaseUntil), Timestamp.from(Instant.now()));
+    }
+
+    /**
+     * Returns a scan with aggregated checkpoint progress.
+     * Importance: Serves status polling from the checkpoint table.
+     * Alternatives: Maintain counters on the scan row.
+     *
+     * @param scanId the scan identifier.
+     * @return the scan, when present.
+     */
+    public Optional<DuplicateScanRecord> findScan(UUID scanId) {
+        List<DuplicateScanRecord> scans = jdbcTemplate.query(
+            SELECT_SCAN + "WHERE s.scan_id = ?" + GROUP_SCAN,
+            (rs, rowNum) -> mapScan(rs),
+            scanId);
+        return scans.stream().findFirst();
+    }
+
+    /**
+     * Returns running scans whose owner stopped renewing its lease.
+     * Importance: Lets a surviving instance resume scans whose owner crashed or was redeployed.
+     * Alternatives: Resume every running scan at startup.
+     *
+     * @param now the current time.
+     * @return the orphaned scans.
+     */
+    public List<DuplicateScanRecord> findOrphanedScans(Instant now) {
+        return jdbcTemplate.query(
+            SELECT_SCAN + "WHERE s.status = ? AND (s.lease_until IS NULL OR s.lease_until < ?)" + GROUP_SCAN,
+            (rs, rowNum) -> mapScan(rs),
+            DuplicateScanStatus.RUNNING.name(), Timestamp.from(now));
+    }
+
+    /**
+     * Takes or renews the lease on a running scan.
+     * Importance: The conditional update makes the claim exclusive, so only one instance runs a scan at a time.
+     * Alternatives: Lock the scan row with SELECT FOR UPDATE.
+     *
+     * @param scanId the scan identifier.
+     * @param owner the claiming instance.
+     * @param now the current time.
+     * @param leaseUntil the end of the new lease.
+     * @return true when the instance holds the lease.
+     */
+    public boolean claimScan(UUID scanId, String owner, Instant now, Instant leaseUntil) {
+        return jdbcTemplate.update(
+            "UPDATE duplicate_scans SET owner = ?, lease_until = ? WHERE scan_id = ? AND status = ? "
+                + "AND (owner = ? OR lease_until IS NULL OR lease_until < ?)",
+            owner, Timestamp.from(leaseUntil), scanId, DuplicateScanStatus.RUNNING.name(), owner,
+            Timestamp.from(now)) == 1;
+    }
+
+    /**
+     * Returns the chunks of a scan that are already checkpointed.
+     * Importance: Lets resumed runs skip completed work.
+     * Alternatives: Re-run all chunks and rely on merge deduplication.
+     *
+     * @param scanId the scan identifier.
+     * @return the completed chunk indexes.
+     */
+    public BitSet completedChunks(UUID scanId) {
+        BitSet completed = new BitSet();
+        jdbcTemplate.query(
+            "SELECT chunk_index FROM duplicate_scan_chunks WHERE scan_id = ?",
+            rs -> {
+                completed.set(rs.getInt(1));
+            },
+            scanId);
+        return completed;
+    }
+
+    /**
+     * Inserts a chunk's merges and its checkpoint in one transaction while the owner still holds the lease.
+     * Importance: Renewing the lease first locks the scan row, so an instance that lost the scan never checkpoints a chunk.
+     * Pairs that already have a merge in any status are skipped, so rescans never re-queue decided pairs, and
+     * merges are counted from the returned rows, which stay exact when the driver rewrites batches.
+     * Alternatives: Checkpoint separately and tolerate duplicate merges.
+     *
+     * @param scanId the scan identifier.
+     * @param owner the owning instance.
+     * @param leaseUntil the end of the renewed lease.
+     * @param tenantId the tenant identifier.
+     * @param chunkIndex the chunk index.
+     * @param candidates the scored candidates to persist as merges.
+     * @param comparisons the comparisons made in the chunk.
+     * @param batchSize the number of merges per insert statement.
+     * @return the number of merges inserted, or -1 when the owner no longer holds the lease.
+     */
+    public int completeChunk(UUID scanId, String owner, Instant leaseUntil, String tenantId, int chunkIndex,
+                             List<DuplicateCandidate> candidates, long comparisons, int batchSize) {
+        Integer inserted = transactionTemplate.execute(status -> {
+            int renewed = jdbcTemplate.update(
+                "UPDATE duplicate_scans SET lease_until = ? WHERE scan_id = ? AND owner = ? AND status = ?",
+                Timestamp.from(leaseUntil), scanId, owner, DuplicateScanStatus.RUNNING.name());
+            if (renewed == 0) {
+                return -1;
+            }
+            Timestamp now = Timestamp.from(Instant.now());
+            int count = 0;
+            int chunkSize = Math.max(1, batchSize);
+            for (int from = 0; from < candidates.size(); from += chunkSize) {
+                count += insertMerges(tenantId,
+                    candidates.subList(from, Math.min(candidates.size(), from + chunkSize)), now);
+            }
+            jdbcTemplate.update(
+                "INSERT INTO duplicate_scan_chunks (scan_id, chunk_index, comparisons, merges_created, completed_at) "
+                    + "VALUES (?, ?, ?, ?, ?)",
+                scanId, chunkIndex, comparisons, count, now);
+            return count;
+        });
+        return inserted == null ? 0 : inserted;
+    }
+
+    /**
+     * Inserts merges for pairs that have no merge yet with one multi-row statement.
+     * Importance: Counts the rows the database returns instead of batch update counts, which pgjdbc reports as
+     * SUCCESS_NO_INFO once reWriteBatchedInserts is on.
+     * Alternatives: Count merges with a follow-up query.
+     *
+     * @param tenantId the tenant identifier.
+     * @param candidates the scored candidates.
+     * @param now the creation time.
+     * @return the number of merges inserted.
+     */
+    private int insertMerges(String tenantId, List<DuplicateCandidate> candidates, Timestamp now) {
+        int[] inserted = new int[1];
+        jdbcTemplate.query(INSERT_MERGES, ps -> {
+            Connection connection = ps.getConnection();
+            Object[] ids = new Object[candidates.size()];
+            Object[] sources = new Object[candidates.size()];
+            Object[] targets = new Object[candidates.size()];
+            Object[] statuses = new Object[candidates.size()];
+            for (int i = 0; i < candidates.size(); i++) {
+                DuplicateCandidate candidate = candidates.get(i);
+                ids[i] = UUID.randomUUID();
+                sources[i] = candidate.getProfileId();
+                targets[i] = candidate.getCandidateProfileId();
+                statuses[i] = candidate.isPotentialDuplicate() ? "PENDING" : "REVIEW_REQUIRED";
+            }
+            ps.setString(1, tenantId);
+            ps.setTimestamp(2, now);
+            ps.setArray(3, connection.createArrayOf("uuid", ids));
+            ps.setArray(4, connection.createArrayOf("uuid", sources));
+            ps.setArray(5, connection.createArrayOf("uuid", targets));
+            ps.setArray(6, connection.createArrayOf("varchar", statuses));
+            ps.setString(7, tenantId);
+        }, rs -> {
+            inserted[0]++;
+        });
+        return inserted[0];
+    }
+
+    /**
+     * Marks a scan as finished and releases its lease.
+     * Importance: Stops resumption and records the outcome unless another instance has taken the scan over.
+     * Alternatives: Derive completion from chunk counts.
+     *
+     * @param scanId the scan identifier.
+     * @param owner the owning instance.
+     * @param status the final status.
+     * @param error the failure message, or null.
+     * @return true when the owner still held the scan.
+     */
+    public boolean finishScan(UUID scanId, String owner, DuplicateScanStatus status, String error) {
+        return jdbcTemplate.update(
+            "UPDATE duplicate_scans SET status = ?, completed_at = ?, error = ?, owner = NULL, lease_until = NULL "
+                + "WHERE scan_id = ? AND owner = ? AND status = ?",
+            status.name(), Timestamp.from(Instant.now()), error, scanId, owner,
+            DuplicateScanStatus.RUNNING.name()) == 1;
+    }
+
+    /**
+     * Maps an aggregated scan row.
+     * Importance: Keeps the row mapping in one place for both queries.
+     * Alternatives: Use a BeanPropertyRowMapper.
+     *
+     * @param rs the result set.
+     * @return the scan record.
+     * @throws SQLException when a column cannot be read.
+     */
+    private DuplicateScanRecord mapScan(ResultSet rs) throws SQLException {
+        Timestamp completedAt = rs.getTimestamp(6);
+        return new DuplicateScanRecord(
+            rs.getObject(1, UUID.class),
+            rs.getString(2),
+            DuplicateScanStatus.valueOf(rs.getString(3)),
+            rs.getInt(4),
+            rs.getInt(8),
+            rs.getLong(9),
+            rs.getLong(10),
+            rs.getTimestamp(5).toInstant(),
+            completedAt == null ? null : completedAt.toInstant(),
+            rs.getString(7));
+    }
+}
@@ -0,0 +1,280 @@
+package com.heritagegraph360.profile.duplicate;
+
+import com.heritagegraph360.profile.graph.IntHashSet;
+import com.heritagegraph360.profile.graph.ProfileIdInterner;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Stores blocking-key postings for one tenant.
+ * Importance: Maps each profile to the small blocks it shares with likely duplicates.
+ * Alternatives: Keep blocking keys in a relational table and join on them.
+ */
+public class TenantBlockIndex {
+    private static final int[] NO_BLOCKS = new int[0];
+    private static final int INITIAL_POSTING_CAPACITY = 4;
+
+    private final ProfileIdInterner ids;
+    private final Map<String, Integer> blockIds = new HashMap<>();
+    private final BitSet contactBlocks = new BitSet();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private String[] displayNames;
+    private int[][] nodeBlocks;
+    private int[][] postings;
+    private int[] postingSizes;
+    private volatile boolean loaded;
+
+    /**
+     * Creates an empty tenant index.
+     * Importance: Sizes node arrays for the expected tenant size.
+     * Alternatives: Start with fixed small arrays.
+     *
+     * @param expectedProfiles the expected number of profiles.
+     */
+    public TenantBlockIndex(int expectedProfiles) {
+        int capacity = Math.max(16, expectedProfiles);
+        this.ids = new ProfileIdInterner(capacity);
+        this.displayNames = new String[capacity];
+        this.nodeBlocks = new int[capacity][];
+        this.postings = new int[capacity][];
+        this.postingSizes = new int[capacity];
+    }
+
+    /**
+     * Adds a profile and its blocking keys.
+     * Importance: Registers the profile in every block it belongs to.
+     * Alternatives: Rebuild the tenant index on every change.
+     *
+     * @param profileId the profile identifier.
+     * @param displayName the display name used for scoring.
+     * @param keys the blocking keys.
+     * @param generator the generator used to classify contact keys.
+     * @return true when the profile was not already indexed.
+     */
+    public boolean add(UUID profileId, String displayName, List<String> keys, BlockingKeyGenerator generator) {
+        lock.writeLock().lock();
+        try {
+            if (ids.find(profileId) >= 0) {
+                return false;
+            }
+            int node = ids.intern(profileId);
+            if (node >= displayNames.length) {
+                int capacity = displayNames.length * 2;
+                displayNames = Arrays.copyOf(displayNames, capacity);
+                nodeBlocks = Arrays.copyOf(nodeBlocks, capacity);
+            }
+            displayNames[node] = displayName;
+            int[] blocks = keys.isEmpty() ? NO_BLOCKS : new int[keys.size()];
+            for (int i = 0; i < blocks.length; i++) {
+                String key = keys.get(i);
+                int block = blockIds.computeIfAbsent(key, ignored -> blockIds.size());
+                if (generator.isContactKey(key)) {
+                    contactBlocks.set(block);
+                }
+                appendPosting(block, node);
+                blocks[i] = block;
+            }
+            nodeBlocks[node] = blocks;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Visits the candidates that share a usable block with a profile.
+     * Importance: Generates comparison pairs without touching the rest of the tenant.
+     * Alternatives: Return a materialized candidate list.
+     *
+     * @param node the profile node id.
+     * @param laterOnly whether to visit only candidates with a higher node id.
+     * @param maxBlockSize the largest name block that is expanded.
+     * @param visitor the candidate visitor.
+     * @return the number of distinct candidates visited.
+     */
+    public int visitCandidates(int node, boolean laterOnly, int maxBlockSize, CandidateVisitor visitor) {
+        lock.readLock().lock();
+        try {
+            int[] blocks = nodeBlocks[node];
+            IntHashSet seen = new IntHashSet(32);
+            seen.add(node);
+            int visited = 0;
+            for (int pass = 0; pass < 2; pass++) {
+                boolean contactPass = pass == 0;
+                for (int block : blocks) {
+                    if (contactBlocks.get(block) != contactPass) {
+                        continue;
+                    }
+                    int size = postingSizes[block];
+                    if (!contactPass && size > maxBlockSize) {
+                        continue;
+                    }
+                    int[] members = postings[block];
+                    for (int i = 0; i < size; i++) {
+                        int candidate = members[i];
+                        if ((laterOnly && candidate < node) || !seen.add(candidate)) {
+                            continue;
+                        }
+                        visitor.visit(candidate, contactPass);
+                        visited++;
+                    }
+                }
+            }
+            return visited;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the node id for a profile.
+     * Importance: Resolves API identifiers into index nodes.
+     * Alternatives: Key postings by UUID directly.
+     *
+     * @param profileId the profile identifier.
+     * @return the node id, or -1 when unknown.
+     */
+    public int find(UUID profileId) {
+        lock.readLock().lock();
+        try {
+            return ids.find(profileId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the profile identifier for a node.
+     * Importance: Maps candidate nodes back to API identifiers.
+     * Alternatives: Store UUIDs in the postings.
+     *
+     * @param node the node id.
+     * @return the profile identifier.
+     */
+    public UUID profileId(int node) {
+        lock.readLock().lock();
+        try {
+            return ids.profileId(node);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the display name stored for a node.
+     * Importance: Provides the value compared by the duplicate rule.
+     * Alternatives: Load names from the database per comparison.
+     *
+     * @param node the node id.
+     * @return the display name.
+     */
+    public String displayName(int node) {
+        lock.readLock().lock();
+        try {
+            return displayNames[node];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed profiles.
+     * Importance: Bounds tenant scans and reports progress.
+     * Alternatives: Count profiles in SQL.
+     *
+     * @return the profile count.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ids.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of distinct blocks.
+     * Importance: Supports load logging and capacity planning.
+     * Alternatives: Omit block statistics.
+     *
+     * @return the block count.
+     */
+    public int blockCount() {
+        lock.readLock().lock();
+        try {
+            return blockIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns whether the initial tenant load has completed.
+     * Importance: Prevents scoring against a partially loaded tenant.
+     * Alternatives: Block writers until loading completes.
+     *
+     * @return true when loaded.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Marks the initial tenant load as complete.
+     * Importance: Publishes the loaded index to readers.
+     * Alternatives: Replace the index atomically after loading.
+     */
+    public void markLoaded() {
+        loaded = true;
+    }
+
+    /**
+     * Appends a node to a block posting list.
+     * Importance: Grows postings in place to avoid boxing.
+     * Alternatives: Use a list of integers per block.
+     *
+     * @param block the block id.
+     * @param node the node id.
+     */
+    private void appendPosting(int block, int node) {
+        if (block >= postings.length) {
+            int capacity = Math.max(postings.length * 2, block + 1);
+            postings = Arrays.copyOf(postings, capacity);
+            postingSizes = Arrays.copyOf(postingSizes, capacity);
+        }
+        int[] members = postings[block];
+        int size = postingSizes[block];
+        if (members == null) {
+            members = new int[INITIAL_POSTING_CAPACITY];
+        } else if (size == members.length) {
+            members = Arrays.copyOf(members, size * 2);
+        }
+        members[size] = node;
+        postings[block] = members;
+        postingSizes[block] = size + 1;
+    }
+
+    /**
+     * Receives candidates produced by the block index.
+     * Importance: Lets callers score candidates without intermediate collections.
+     * Alternatives: Return candidate arrays.
+     */
+    @FunctionalInterface
+    public interface CandidateVisitor {
+        /**
+         * Handles one candidate node.
+         * Importance: Carries the shared-contact signal alongside the candidate.
+         * Alternatives: Recompute contact overlap in the caller.
+         *
+         * @param candidate the candidate node id.
+         * @param sharedContact whether the candidate shares an email or phone block.
+         */
+        void visit(int candidate, boolean sharedContact);
+    }
+}
@@ -0,0 +1,192 @@
+package com.heritagegraph360.profile.evidence;
+
+import com.heritagegraph360.profile.blob.BlobHash;
+import com.heritagegraph360.profile.blob.BlobLocation;
+import com.heritagegraph360.profile.blob.BlobReferences;
+import com.heritagegraph360.profile.blob.BlobStore;
+import com.heritagegraph360.profile.blob.BlobWriteResult;
+import com.heritagegraph360.profile.nosql.EvidenceBlobDocument;
+import com.heritagegraph360.profile.nosql.EvidenceBlobRepository;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Stores evidence scans in the shared blob store and tracks which tenants own each one.
+ * Importance: Tenants only read blobs they uploaded themselves, even though identical scans share storage.
+ * Alternatives: Store a copy of each scan per tenant.
+ */
+@Service
+public class EvidenceBlobService implements BlobReferences {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EvidenceBlobService.class);
+
+    private final BlobStore blobStore;
+    private final EvidenceBlobRepository evidenceBlobRepository;
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Creates the evidence blob service.
+     * Importance: Connects blob storage to tenant ownership records.
+     * Alternatives: Let controllers call the blob store directly.
+     *
+     * @param blobStore the blob store.
+     * @param evidenceBlobRepository the ownership repository.
+     * @param mongoTemplate the MongoDB template.
+     */
+    public EvidenceBlobService(BlobStore blobStore, EvidenceBlobRepository evidenceBlobRepository,
+                               MongoTemplate mongoTemplate) {
+        this.blobStore = blobStore;
+        this.evidenceBlobRepository = evidenceBlobRepository;
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Returns whether blob storage is configured.
+     * Importance: Lets the API answer 404 when the store is disabled.
+     * Alternatives: Fail every request.
+     *
+     * @return true when enabled.
+     */
+    public boolean isEnabled() {
+        return blobStore.isEnabled();
+    }
+
+    /**
+     * Stores an uploaded scan and records the tenant as an owner.
+     * Importance: Ownership is recorded only after the bytes were verified, so a tenant cannot claim a blob by hash alone.
+     * Alternatives: Accept a hash and skip the upload when it is already stored.
+     *
+     * @param tenantId the tenant identifier.
+     * @param body the upload stream.
+     * @param expectedSha256 the hex hash the client declared, or null.
+     * @return the stored hash and size, deduplicated only when this tenant already held the blob.
+     * @throws IOException when the upload cannot be stored.
+     */
+    public BlobWriteResult store(String tenantId, InputStream body, String expectedSha256) throws IOException {
+        BlobWriteResult result = blobStore.write(body, expectedSha256);
+        String id = ownerId(tenantId, result.getSha256());
+        boolean alreadyOwned = evidenceBlobRepository.existsById(id);
+        EvidenceBlobDocument document = new EvidenceBlobDocument();
+        document.setId(id);
+        document.setTenantId(tenantId);
+        document.setSha256(result.getSha256());
+        document.setSizeBytes(result.getSizeBytes());
+        document.setStoredAt(Instant.now());
+        evidenceBlobRepository.save(document);
+        return new BlobWriteResult(result.getSha256(), result.getSizeBytes(), alreadyOwned);
+    }
+
+    /**
+     * Locates a blob the tenant owns.
+     * Importance: Hides blobs uploaded only by other tenants.
+     * Alternatives: Authorize through evidence records, which can be written without the bytes.
+     *
+     * @param tenantId the tenant identifier.
+     * @param sha256 the hex hash.
+     * @return the location, or empty when the tenant does not own the blob.
+     */
+    public Optional<BlobLocation> locate(String tenantId, String sha256) {
+        BlobHash hash = BlobHash.parse(sha256);
+        if (!evidenceBlobRepository.existsById(ownerId(tenantId, hash.toHex()))) {
+            return Optional.empty();
+        }
+        return blobStore.locate(hash);
+    }
+
+    /**
+     * Writes a located blob to a channel.
+     * Importance: Streams the blob into the HTTP response without buffering it.
+     * Alternatives: Return a byte array.
+     *
+     * @param location the blob location.
+     * @param target the destination channel.
+     * @throws IOException when the transfer fails.
+     */
+    public void transferTo(BlobLocation location, WritableByteChannel target) throws IOException {
+        blobStore.transferTo(location, target);
+    }
+
+    /**
+     * Removes the tenant's ownership of a blob.
+     * Importance: Once no tenant owns a blob, compaction reclaims its space.
+     * Alternatives: Delete bytes immediately, which would break other owners.
+     *
+     * @param tenantId the tenant identifier.
+     * @param sha256 the hex hash.
+     * @return true when the tenant owned the blob.
+     */
+    public boolean delete(String tenantId, String sha256) {
+        String id = ownerId(tenantId, BlobHash.parse(sha256).toHex());
+        if (!evidenceBlobRepository.existsById(id)) {
+            return false;
+        }
+        evidenceBlobRepository.deleteById(id);
+        return true;
+    }
+
+    /**
+     * Returns the hashes that still have at least one owner.
+     * Importance: Drives compaction with one indexed $in query per batch.
+     * Alternatives: Check one hash at a time.
+     *
+     * @param hashes the hashes to check.
+     * @return the owned hashes.
+     */
+    @Override
+    public Set<BlobHash> referenced(Collection<BlobHash> hashes) {
+        List<String> hex = new ArrayList<>(hashes.size());
+        for (BlobHash hash : hashes) {
+            hex.add(hash.toHex());
+        }
+        Query query = Query.query(Criteria.where("sha256").in(hex));
+        Set<BlobHash> owned = new HashSet<>();
+        for (String value : mongoTemplate.findDistinct(query, "sha256", EvidenceBlobDocument.class, String.class)) {
+            owned.add(BlobHash.parse(value));
+        }
+        return owned;
+    }
+
+    /**
+     * Compacts blob segments on a fixed delay.
+     * Importance: Reclaims space from deleted evidence without operator action.
+     * Alternatives: Run compaction from an admin endpoint.
+     */
+    @Scheduled(fixedDelayString = "${app.blob-store.compaction-interval-ms:3600000}")
+    public void compactBlobs() {
+        if (!blobStore.isEnabled()) {
+            return;
+        }
+        try {
+            blobStore.compact(this);
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.error("Evidence blob compaction failed", ex);
+        }
+    }
+
+    /**
+     * Builds the ownership document identifier.
+     * Importance: One document per tenant and blob keeps repeated uploads idempotent.
+     * Alternatives: Use a unique compound index.
+     *
+     * @param tenantId the tenant identifier.
+     * @param sha256 the lowercase hex hash.
+     * @return the identifier.
+     */
+    static String ownerId(String tenantId, String sha256) {
+        return tenantId + ":" + sha256;
+    }
+}
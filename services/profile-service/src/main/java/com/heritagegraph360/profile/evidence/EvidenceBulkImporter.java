@@ -0,0 +1,319 @@
+package com.heritagegraph360.profile.evidence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.heritagegraph360.profile.config.EvidenceBulkProperties;
+import com.heritagegraph360.profile.nosql.EvidenceRecordDocument;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+import org.springframework.stereotype.Component;
+
+/**
+ * Streams NDJSON evidence uploads into MongoDB with content-hash dedupe.
+ * Importance: Parses one line at a time and writes bounded bulk upserts, so memory does not grow with the upload.
+ * Alternatives: Bind the whole upload to a list and save it.
+ */
+@Component
+public class EvidenceBulkImporter {
+    private static final int CHUNK_BYTES = 64 * 1024;
+    private static final int INITIAL_LINE_BYTES = 4096;
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectReader recordReader;
+    private final EvidenceBulkProperties properties;
+    private final Counter insertedRecords;
+    private final Counter duplicateRecords;
+    private final Counter rejectedRecords;
+    private final Timer writeLatency;
+
+    /**
+     * Creates the importer and registers upload metrics.
+     * Importance: Shares one thread-safe reader for every upload.
+     * Alternatives: Build a reader per request.
+     *
+     * @param mongoTemplate the MongoDB template.
+     * @param objectMapper the JSON mapper.
+     * @param properties the bulk upload properties.
+     * @param meterRegistry the metrics registry.
+     */
+    public EvidenceBulkImporter(MongoTemplate mongoTemplate,
+                                ObjectMapper objectMapper,
+                                EvidenceBulkProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.recordReader = objectMapper.readerFor(EvidenceBulkRecord.class);
+        this.properties = properties;
+        this.insertedRecords = records(meterRegistry, "inserted");
+        this.duplicateRecords = records(meterRegistry, "duplicate");
+        this.rejectedRecords = records(meterRegistry, "rejected");
+        this.writeLatency = Timer.builder("evidence.bulk.write.latency")
+            .description("Time per MongoDB bulk upsert of evidence records")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Imports an NDJSON stream of evidence records for a tenant.
+     * Importance: Rejects bad lines individually so one malformed record does not fail a multi-million-line upload.
+     * Alternatives: Stop at the first bad line.
+     *
+     * @param tenantId the tenant identifier.
+     * @param body the NDJSON body.
+     * @return the upload summary.
+     * @throws IOException when the body cannot be read.
+     */
+    public EvidenceBulkSummary importNdjson(String tenantId, InputStream body) throws IOException {
+        Upload upload = new Upload(tenantId);
+        byte[] chunk = new byte[CHUNK_BYTES];
+        int read;
+        while ((read = body.read(chunk)) != -1) {
+            int start = 0;
+            for (int i = 0; i < read; i++) {
+                if (chunk[i] == '\n') {
+                    upload.append(chunk, start, i - start);
+                    upload.endLine();
+                    start = i + 1;
+                }
+            }
+            upload.append(chunk, start, read - start);
+        }
+        upload.endLine();
+        upload.flush();
+        return upload.summary;
+    }
+
+    /**
+     * Upserts a batch, inserting only records whose content hash is new for the tenant.
+     * Importance: The unique (tenantId, contentHash) index turns racing uploads of the same record into duplicates, not copies.
+     * Alternatives: Query for existing hashes before inserting.
+     *
+     * @param tenantId the tenant identifier.
+     * @param batch the deduplicated records.
+     * @param summary the summary to update.
+     */
+    private void write(String tenantId, List<EvidenceBulkRecord> batch, EvidenceBulkSummary summary) {
+        Instant now = Instant.now();
+        List<Pair<Query, Update>> upserts = new ArrayList<>(batch.size());
+        for (EvidenceBulkRecord record : batch) {
+            upserts.add(Pair.of(EvidenceService.hashQuery(tenantId, record.getContentHash()),
+                EvidenceService.insertOnly(record.getProfileId(), record, now)));
+        }
+        long started = System.nanoTime();
+        BulkWriteResult result;
+        try {
+            result = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EvidenceRecordDocument.class)
+                .upsert(upserts)
+                .execute();
+        } catch (BulkOperationException ex) {
+            for (BulkWriteError error : ex.getErrors()) {
+                if (error.getCode() != DUPLICATE_KEY) {
+                    throw ex;
+                }
+            }
+            result = ex.getResult();
+        } finally {
+            writeLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+        int inserted = result.getUpserts().size();
+        summary.stored(inserted, batch.size() - inserted);
+        insertedRecords.increment(inserted);
+        duplicateRecords.increment(batch.size() - inserted);
+    }
+
+    /**
+     * Registers an evidence record counter.
+     * Importance: Tags every outcome under one metric name.
+     * Alternatives: Use one metric per outcome.
+     *
+     * @param meterRegistry the metrics registry.
+     * @param result the outcome tag.
+     * @return the counter.
+     */
+    private static Counter records(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("evidence.bulk.records").tag("result", result)
+            .description("Bulk-uploaded evidence records by outcome")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Holds the state of one upload: the current line, the pending batch, and the summary.
+     * Importance: Everything here is bounded by the line limit and batch size.
+     * Alternatives: Keep state in local variables of one long method.
+     */
+    private final class Upload {
+        private final String tenantId;
+        private final EvidenceBulkSummary summary = new EvidenceBulkSummary(properties.getMaxReportedErrors());
+        private final List<EvidenceBulkRecord> batch = new ArrayList<>(properties.getBatchSize());
+        private final Set<String> batchHashes = new HashSet<>();
+        private byte[] line = new byte[Math.min(INITIAL_LINE_BYTES, properties.getMaxLineBytes())];
+        private int length;
+        private boolean oversized;
+        private long lineNumber;
+
+        /**
+         * Creates the upload state.
+         * Importance: Binds every record to the caller's tenant.
+         * Alternatives: Read the tenant from each line.
+         *
+         * @param tenantId the tenant identifier.
+         */
+        private Upload(String tenantId) {
+            this.tenantId = tenantId;
+        }
+
+        /**
+         * Appends bytes to the current line.
+         * Importance: Drops the line's bytes once it exceeds the limit instead of buffering it.
+         * Alternatives: Buffer the whole line and check its size afterwards.
+         *
+         * @param bytes the source bytes.
+         * @param offset the start offset.
+         * @param count the number of bytes.
+         */
+        private void append(byte[] bytes, int offset, int count) {
+            if (count == 0 || oversized) {
+                return;
+            }
+            if (length + count > properties.getMaxLineBytes()) {
+                oversized = true;
+                return;
+            }
+            if (length + count > line.length) {
+                line = Arrays.copyOf(line, Math.min(properties.getMaxLineBytes(),
+                    Math.max(line.length * 2, length + count)));
+            }
+            System.arraycopy(bytes, offset, line, length, count);
+            length += count;
+        }
+
+        /**
+         * Parses, validates, and queues the current line.
+         * Importance: Dedupes within the batch before the record reaches MongoDB.
+         * Alternatives: Let MongoDB dedupe everything.
+         */
+        private void endLine() {
+            boolean tooLong = oversized;
+            int size = length;
+            oversized = false;
+            length = 0;
+            lineNumber++;
+            if (!tooLong && isBlank(size)) {
+                return;
+            }
+            summary.received();
+            if (tooLong) {
+                reject("exceeds " + properties.getMaxLineBytes() + " bytes");
+                return;
+            }
+            EvidenceBulkRecord record;
+            try {
+                record = recordReader.readValue(line, 0, size);
+            } catch (IOException ex) {
+                reject("malformed JSON");
+                return;
+            }
+            String problem = validate(record);
+            if (problem != null) {
+                reject(problem);
+                return;
+            }
+            if (!batchHashes.add(record.getContentHash())) {
+                summary.stored(0, 1);
+                duplicateRecords.increment();
+                return;
+            }
+            batch.add(record);
+            if (batch.size() >= properties.getBatchSize()) {
+                flush();
+            }
+        }
+
+        /**
+         * Writes the pending batch.
+         * Importance: Clears the batch and its hash set, keeping memory flat.
+         * Alternatives: Keep hashes across batches, which grows with the upload.
+         */
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            write(tenantId, batch, summary);
+            batch.clear();
+            batchHashes.clear();
+        }
+
+        /**
+         * Counts the current line as rejected.
+         * Importance: Records the line number for the partner.
+         * Alternatives: Skip silently.
+         *
+         * @param reason the rejection reason.
+         */
+        private void reject(String reason) {
+            summary.rejected(lineNumber, reason);
+            rejectedRecords.increment();
+        }
+
+        /**
+         * Returns whether the current line holds only whitespace.
+         * Importance: Tolerates trailing newlines and CRLF line endings.
+         * Alternatives: Reject blank lines.
+         *
+         * @param size the line length.
+         * @return true when the line is blank.
+         */
+        private boolean isBlank(int size) {
+            for (int i = 0; i < size; i++) {
+                if (!Character.isWhitespace(line[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Checks the fields a bulk record needs.
+     * Importance: A record without a content hash cannot be deduplicated, and one without a valid profile cannot be linked.
+     * Alternatives: Store incomplete records.
+     *
+     * @param record the record.
+     * @return the problem, or null when the record is valid.
+     */
+    private static String validate(EvidenceBulkRecord record) {
+        if (record == null) {
+            return "empty record";
+        }
+        if (record.getContentHash() == null || record.getContentHash().isBlank()) {
+            return "contentHash is required";
+        }
+        if (record.getProfileId() == null) {
+            return "profileId is required";
+        }
+        try {
+            UUID.fromString(record.getProfileId());
+        } catch (IllegalArgumentException ex) {
+            return "profileId is not a UUID";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.heritagegraph360.profile.evidence;
+
+/**
+ * Represents one line of a bulk evidence upload.
+ * Importance: Adds the target profile to the single-record fields, since one upload spans many profiles.
+ * Alternatives: Require one upload per profile.
+ */
+public class EvidenceBulkRecord extends EvidenceRequest {
+    private String profileId;
+
+    /**
+     * Returns the profile the evidence belongs to.
+     * Importance: Routes each record to its profile.
+     * Alternatives: Take the profile from the URL.
+     *
+     * @return the profile identifier.
+     */
+    public String getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Updates the profile identifier.
+     * Importance: Supports payload binding.
+     * Alternatives: Use constructor-only immutable requests.
+     *
+     * @param profileId the profile identifier.
+     */
+    public void setProfileId(String profileId) {
+        this.profileId = profileId;
+    }
+}
@@ -0,0 +1,122 @@
+package com.heritagegraph360.profile.evidence;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Summarizes a bulk evidence upload.
+ * Importance: Reports per-outcome counts instead of echoing millions of records back.
+ * Alternatives: Return one result per line.
+ */
+public class EvidenceBulkSummary {
+    private final int maxReportedErrors;
+    private final List<String> errors = new ArrayList<>();
+    private long received;
+    private long inserted;
+    private long duplicates;
+    private long rejected;
+
+    /**
+     * Creates an empty summary.
+     * Importance: Caps the error list so the summary size stays bounded.
+     * Alternatives: Keep every error.
+     *
+     * @param maxReportedErrors the maximum number of error descriptions kept.
+     */
+    public EvidenceBulkSummary(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Returns the number of non-blank lines read.
+     * Importance: Lets partners reconcile the summary with their export.
+     * Alternatives: Count bytes instead.
+     *
+     * @return the received count.
+     */
+    public long getReceived() {
+        return received;
+    }
+
+    /**
+     * Returns the number of records stored for the first time.
+     * Importance: Shows how much new evidence the upload contained.
+     * Alternatives: Report only totals.
+     *
+     * @return the inserted count.
+     */
+    public long getInserted() {
+        return inserted;
+    }
+
+    /**
+     * Returns the number of records whose content hash was already stored or repeated in the upload.
+     * Importance: Makes cross-scan duplication visible to partners.
+     * Alternatives: Fold duplicates into inserted.
+     *
+     * @return the duplicate count.
+     */
+    public long getDuplicates() {
+        return duplicates;
+    }
+
+    /**
+     * Returns the number of lines that were malformed or missing required fields.
+     * Importance: Flags records the partner has to fix and resend.
+     * Alternatives: Fail the whole upload.
+     *
+     * @return the rejected count.
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Returns descriptions of the first rejected lines.
+     * Importance: Points partners at the failing line numbers.
+     * Alternatives: Log rejections server-side only.
+     *
+     * @return the error descriptions.
+     */
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Counts a received line.
+     * Importance: Tracks the denominator of the summary.
+     * Alternatives: Derive it from the other counts.
+     */
+    void received() {
+        received++;
+    }
+
+    /**
+     * Adds stored and duplicate counts from one bulk write.
+     * Importance: Accumulates outcomes batch by batch.
+     * Alternatives: Count per record.
+     *
+     * @param insertedCount the records inserted.
+     * @param duplicateCount the records already present.
+     */
+    void stored(long insertedCount, long duplicateCount) {
+        inserted += insertedCount;
+        duplicates += duplicateCount;
+    }
+
+    /**
+     * Counts a line rejected before reaching MongoDB.
+     * Importance: Keeps the first errors for the response.
+     * Alternatives: Keep only the count.
+     *
+     * @param line the one-based line number.
+     * @param reason the rejection reason.
+     */
+    void rejected(long line, String reason) {
+        rejected++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add("line " + line + ": " + reason);
+        }
+    }
+}
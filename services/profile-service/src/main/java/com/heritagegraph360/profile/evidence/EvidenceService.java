@@ -1,6 +1,12 @@
 package com.heritagegraph360.profile.evidence;
 
 import java.time.Instant;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import com.heritagegraph360.profile.nosql.EvidenceRecordDocument;
@@ -14,6 +20,7 @@ import com.heritagegraph360.profile.nosql.EvidenceRecordRepository;
 @Service
 public class EvidenceService {
     private final EvidenceRecordRepository evidenceRecordRepository;
+    private final MongoTemplate mongoTemplate;
 
     /**
      * Creates the evidence service.
@@ -21,9 +28,11 @@ public class EvidenceService {
      * Alternatives: Use a dedicated evidence storage service.
      *
      * @param evidenceRecordRepository the repository.
+     * @param mongoTemplate the MongoDB template.
      */
-    public EvidenceService(EvidenceRecordRepository evidenceRecordRepository) {
+    public EvidenceService(EvidenceRecordRepository evidenceRecordRepository, MongoTemplate mongoTemplate) {
         this.evidenceRecordRepository = evidenceRecordRepository;
+        this.mongoTemplate = mongoTemplate;
     }
 
     /**
@@ -34,9 +43,20 @@ public class EvidenceService {
      * @param tenantId the tenant identifier.
      * @param profileId the profile identifier.
      * @param request the evidence request.
-     * @return the stored record.
+     * @return the stored record, or the record already stored with the same content hash.
      */
     public EvidenceRecordDocument storeEvidence(String tenantId, String profileId, EvidenceRequest request) {
+        String contentHash = request.getContentHash();
+        if (contentHash != null && !contentHash.isBlank()) {
+            Query query = hashQuery(tenantId, contentHash);
+            FindAndModifyOptions options = FindAndModifyOptions.options().upsert(true).returnNew(true);
+            try {
+                return mongoTemplate.findAndModify(query, insertOnly(profileId, request, Instant.now()), options,
+                    EvidenceRecordDocument.class);
+            } catch (DuplicateKeyException ex) {
+                return mongoTemplate.findOne(query, EvidenceRecordDocument.class);
+            }
+        }
         EvidenceRecordDocument document = new EvidenceRecordDocument();
         document.setTenantId(tenantId);
         document.setProfileId(profileId);
@@ -48,4 +68,37 @@ public class EvidenceService {
         document.setIngestedAt(Instant.now());
         return evidenceRecordRepository.save(document);
     }
+
+    /**
+     * Selects the record stored for a tenant and content hash.
+     * Importance: Matches the unique index used for dedupe.
+     * Alternatives: Dedupe on the evidence identifier.
+     *
+     * @param tenantId the tenant identifier.
+     * @param contentHash the content hash.
+     * @return the query.
+     */
+    static Query hashQuery(String tenantId, String contentHash) {
+        return Query.query(Criteria.where("tenantId").is(tenantId).and("contentHash").is(contentHash));
+    }
+
+    /**
+     * Builds an upsert that only writes fields when the record is new.
+     * Importance: Keeps the first stored copy of a record; later duplicates never overwrite it.
+     * Alternatives: Overwrite with the latest copy.
+     *
+     * @param profileId the profile identifier.
+     * @param request the evidence fields.
+     * @param ingestedAt the ingestion time.
+     * @return the update.
+     */
+    static Update insertOnly(String profileId, EvidenceRequest request, Instant ingestedAt) {
+        return new Update()
+            .setOnInsert("profileId", profileId)
+            .setOnInsert("evidenceId", request.getEvidenceId())
+            .setOnInsert("sourceType", request.getSourceType())
+            .setOnInsert("schemaVersion", request.getSchemaVersion())
+            .setOnInsert("metadataJson", request.getMetadataJson())
+            .setOnInsert("ingestedAt", ingestedAt);
+    }
 }
@@ -0,0 +1,96 @@
+package com.heritagegraph360.profile.grant;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Holds the fields a grantee may view on one profile as a bitset.
+ * Importance: Answers any number of field checks from a single grant lookup.
+ * Alternatives: Scan the grant list for every field.
+ */
+public final class FieldGrantSet {
+    /**
+     * Grant set with no visible fields.
+     */
+    public static final FieldGrantSet NONE = new FieldGrantSet(new long[0], Set.of());
+
+    private final long[] words;
+    private final Set<String> overflow;
+
+    /**
+     * Creates a grant set.
+     * Importance: Captures compiled bits and any names beyond the registry limit.
+     * Alternatives: Store only bits and drop overflow fields.
+     *
+     * @param words the field bits.
+     * @param overflow normalized field names without a bit position.
+     */
+    private FieldGrantSet(long[] words, Set<String> overflow) {
+        this.words = words;
+        this.overflow = overflow;
+    }
+
+    /**
+     * Compiles grants into a grant set.
+     * Importance: Runs once per tenant, profile, and grantee instead of once per field.
+     * Alternatives: Compile lazily per field.
+     *
+     * @param grants the grants for one profile and grantee.
+     * @return the grant set.
+     */
+    public static FieldGrantSet compile(List<ProfileGrantEntity> grants) {
+        if (grants.isEmpty()) {
+            return NONE;
+        }
+        long[] words = new long[0];
+        Set<String> overflow = Set.of();
+        for (ProfileGrantEntity grant : grants) {
+            int index = GrantFieldRegistry.register(grant.getFieldName());
+            if (index < 0) {
+                if (overflow.isEmpty()) {
+                    overflow = new HashSet<>();
+                }
+                overflow.add(GrantFieldRegistry.normalize(grant.getFieldName()));
+                continue;
+            }
+            int word = index >>> 6;
+            if (word >= words.length) {
+                long[] grown = new long[word + 1];
+                System.arraycopy(words, 0, grown, 0, words.length);
+                words = grown;
+            }
+            words[word] |= 1L << index;
+        }
+        return new FieldGrantSet(words, overflow);
+    }
+
+    /**
+     * Checks a field by its registry position.
+     * Importance: Lets hot paths skip name normalization.
+     * Alternatives: Always check by name.
+     *
+     * @param fieldIndex the position from GrantFieldRegistry.
+     * @return true if the field is visible.
+     */
+    public boolean canView(int fieldIndex) {
+        int word = fieldIndex >>> 6;
+        return fieldIndex >= 0 && word < words.length && (words[word] & (1L << fieldIndex)) != 0;
+    }
+
+    /**
+     * Checks a field by name.
+     * Importance: Supports callers without a precomputed position.
+     * Alternatives: Require precomputed positions.
+     *
+     * @param fieldName the field name.
+     * @return true if the field is visible.
+     */
+    public boolean canView(String fieldName) {
+        int index = GrantFieldRegistry.indexOf(fieldName);
+        if (index >= 0) {
+            return canView(index);
+        }
+        return !overflow.isEmpty() && overflow.contains(GrantFieldRegistry.normalize(fieldName));
+    }
+}
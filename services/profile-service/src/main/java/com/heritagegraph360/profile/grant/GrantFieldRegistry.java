@@ -0,0 +1,73 @@
+package com.heritagegraph360.profile.grant;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns stable bit positions to grantable field names.
+ * Importance: Lets grant sets store fields as bits and callers check them by precomputed index.
+ * Alternatives: Use a fixed enum of grantable fields.
+ */
+public final class GrantFieldRegistry {
+    /**
+     * Maximum number of distinct field names given a bit position.
+     */
+    public static final int MAX_FIELDS = 1024;
+
+    private static final Map<String, Integer> INDEXES = new ConcurrentHashMap<>();
+
+    /**
+     * Prevents instantiation.
+     * Importance: The registry is process-wide.
+     * Alternatives: Make the registry a Spring bean.
+     */
+    private GrantFieldRegistry() {
+    }
+
+    /**
+     * Returns the bit position for a field, assigning one when the field is new.
+     * Importance: Field names compare case-insensitively, matching the original grant checks.
+     * Alternatives: Reject unknown field names.
+     *
+     * @param fieldName the field name.
+     * @return the bit position, or -1 once the registry is full.
+     */
+    public static int register(String fieldName) {
+        String key = normalize(fieldName);
+        Integer index = INDEXES.get(key);
+        if (index != null) {
+            return index;
+        }
+        synchronized (INDEXES) {
+            if (INDEXES.size() >= MAX_FIELDS) {
+                return INDEXES.getOrDefault(key, -1);
+            }
+            return INDEXES.computeIfAbsent(key, name -> INDEXES.size());
+        }
+    }
+
+    /**
+     * Returns the bit position for a field without assigning one.
+     * Importance: Keeps read-only checks from growing the registry.
+     * Alternatives: Register on every lookup.
+     *
+     * @param fieldName the field name.
+     * @return the bit position, or -1 when the field has no position.
+     */
+    public static int indexOf(String fieldName) {
+        return INDEXES.getOrDefault(normalize(fieldName), -1);
+    }
+
+    /**
+     * Normalizes a field name for comparison.
+     * Importance: Gives PRIMARY_EMAIL and primary_email the same position.
+     * Alternatives: Require canonical upper-case names at the API.
+     *
+     * @param fieldName the field name.
+     * @return the normalized name.
+     */
+    static String normalize(String fieldName) {
+        return fieldName.toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,118 @@
+package com.heritagegraph360.profile.graph;
+
+import java.util.Arrays;
+
+/**
+ * Stores non-negative node ids in an open-addressing primitive hash set.
+ * Importance: Tracks visited nodes without boxing or tenant-sized bitmaps.
+ * Alternatives: Use java.util.BitSet sized to the whole graph.
+ */
+public class IntHashSet {
+    private static final int EMPTY = -1;
+
+    private int[] slots;
+    private int size;
+
+    /**
+     * Creates a set sized for the expected number of entries.
+     * Importance: Avoids early rehashing for typical traversal sizes.
+     * Alternatives: Always start at a fixed capacity.
+     *
+     * @param expectedSize the expected number of entries.
+     */
+    public IntHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(8, expectedSize * 2 - 1)) << 1;
+        this.slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+    }
+
+    /**
+     * Adds a node id to the set.
+     * Importance: Marks nodes as visited in a single probe sequence.
+     * Alternatives: Call contains before add.
+     *
+     * @param value the non-negative node id.
+     * @return true when the value was not already present.
+     */
+    public boolean add(int value) {
+        int mask = slots.length - 1;
+        int slot = mix(value) & mask;
+        while (slots[slot] != EMPTY) {
+            if (slots[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = value;
+        size++;
+        if (size * 2 > slots.length) {
+            rehash();
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a node id is present.
+     * Importance: Supports membership tests during traversal.
+     * Alternatives: Use a sorted array with binary search.
+     *
+     * @param value the node id.
+     * @return true when present.
+     */
+    public boolean contains(int value) {
+        int mask = slots.length - 1;
+        int slot = mix(value) & mask;
+        while (slots[slot] != EMPTY) {
+            if (slots[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of stored node ids.
+     * Importance: Enforces traversal node budgets.
+     * Alternatives: Track counts in the caller.
+     *
+     * @return the number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Doubles the table and reinserts all entries.
+     * Importance: Keeps the load factor at or below one half.
+     * Alternatives: Use a higher load factor with longer probes.
+     */
+    private void rehash() {
+        int[] previous = slots;
+        slots = new int[previous.length * 2];
+        Arrays.fill(slots, EMPTY);
+        int mask = slots.length - 1;
+        for (int value : previous) {
+            if (value != EMPTY) {
+                int slot = mix(value) & mask;
+                while (slots[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = value;
+            }
+        }
+    }
+
+    /**
+     * Scrambles a node id for slot selection.
+     * Importance: Avoids clustering of sequential node ids.
+     * Alternatives: Use the identity hash.
+     *
+     * @param value the node id.
+     * @return the mixed hash.
+     */
+    private static int mix(int value) {
+        int hash = value * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,132 @@
+package com.heritagegraph360.profile.graph;
+
+import java.util.Arrays;
+
+/**
+ * Maps non-negative node ids to int values in an open-addressing primitive hash table.
+ * Importance: Doubles as a visited set and predecessor table during path searches without boxing.
+ * Alternatives: Pair an {@link IntHashSet} with a HashMap of predecessors.
+ */
+public class IntIntHashMap {
+    /**
+     * Value returned for absent keys.
+     * Importance: Lets callers test membership and read the value with one probe.
+     * Alternatives: Throw for absent keys.
+     */
+    public static final int MISSING = -1;
+
+    private static final int EMPTY = -1;
+
+    private int[] keys;
+    private int[] values;
+    private int size;
+
+    /**
+     * Creates a map sized for the expected number of entries.
+     * Importance: Avoids early rehashing for typical search sizes.
+     * Alternatives: Always start at a fixed capacity.
+     *
+     * @param expectedSize the expected number of entries.
+     */
+    public IntIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(8, expectedSize * 2 - 1)) << 1;
+        this.keys = new int[capacity];
+        this.values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    /**
+     * Adds a key unless it is already present.
+     * Importance: Records the first predecessor that reached a node, which lies on a shortest path.
+     * Alternatives: Overwrite existing values.
+     *
+     * @param key the non-negative node id.
+     * @param value the value.
+     * @return true when the key was not already present.
+     */
+    public boolean putIfAbsent(int key, int value) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (size * 2 > keys.length) {
+            rehash();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the value stored for a key.
+     * Importance: Walks predecessor chains when a path is rebuilt.
+     * Alternatives: Store predecessors in a parallel array sized to the graph.
+     *
+     * @param key the node id.
+     * @return the value, or {@link #MISSING}.
+     */
+    public int get(int key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    /**
+     * Returns the number of stored keys.
+     * Importance: Enforces search node budgets.
+     * Alternatives: Track counts in the caller.
+     *
+     * @return the number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Doubles the table and reinserts all entries.
+     * Importance: Keeps the load factor at or below one half.
+     * Alternatives: Use a higher load factor with longer probes.
+     */
+    private void rehash() {
+        int[] previousKeys = keys;
+        int[] previousValues = values;
+        keys = new int[previousKeys.length * 2];
+        values = new int[previousKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        int mask = keys.length - 1;
+        for (int i = 0; i < previousKeys.length; i++) {
+            if (previousKeys[i] != EMPTY) {
+                int slot = mix(previousKeys[i]) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = previousKeys[i];
+                values[slot] = previousValues[i];
+            }
+        }
+    }
+
+    /**
+     * Scrambles a node id for slot selection.
+     * Importance: Avoids clustering of sequential node ids.
+     * Alternatives: Use the identity hash.
+     *
+     * @param key the node id.
+     * @return the mixed hash.
+     */
+    private static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
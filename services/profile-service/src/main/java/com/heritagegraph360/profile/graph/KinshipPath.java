@@ -0,0 +1,62 @@
+package com.heritagegraph360.profile.graph;
+
+import java.util.List;
+
+/**
+ * Holds the result of a kinship path search.
+ * Importance: Reports the shortest chain together with why a search stopped.
+ * Alternatives: Return null when no path is found.
+ */
+public class KinshipPath {
+    private final KinshipSearchOutcome outcome;
+    private final List<KinshipStep> steps;
+    private final int visitedNodes;
+
+    /**
+     * Creates a search result.
+     * Importance: Captures the outcome and path in one value.
+     * Alternatives: Throw on limits instead of returning an outcome.
+     *
+     * @param outcome how the search ended.
+     * @param steps the path steps, empty unless found.
+     * @param visitedNodes the profiles visited by both frontiers.
+     */
+    public KinshipPath(KinshipSearchOutcome outcome, List<KinshipStep> steps, int visitedNodes) {
+        this.outcome = outcome;
+        this.steps = steps;
+        this.visitedNodes = visitedNodes;
+    }
+
+    /**
+     * Returns how the search ended.
+     * Importance: Separates unrelated profiles from exhausted limits.
+     * Alternatives: Infer from an empty path.
+     *
+     * @return the outcome.
+     */
+    public KinshipSearchOutcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Returns the steps from the first profile to the second.
+     * Importance: Is the relationship chain shown to reviewers.
+     * Alternatives: Return profile ids only.
+     *
+     * @return the steps.
+     */
+    public List<KinshipStep> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Returns how many profiles both frontiers visited.
+     * Importance: Helps tune the node budget.
+     * Alternatives: Expose the count only through logs.
+     *
+     * @return the visited node count.
+     */
+    public int getVisitedNodes() {
+        return visitedNodes;
+    }
+}
@@ -0,0 +1,18 @@
+package com.heritagegraph360.profile.graph;
+
+/**
+ * Describes how one step of a kinship path follows a relationship edge.
+ * Importance: Lets reviewers read a chain such as parent, parent, child as "cousin via grandparent".
+ * Alternatives: Return raw edges and let clients infer direction.
+ */
+public enum KinshipRelation {
+    /**
+     * The next profile is a related (parent) profile of the current one.
+     */
+    PARENT,
+
+    /**
+     * The next profile is a child of the current one.
+     */
+    CHILD
+}
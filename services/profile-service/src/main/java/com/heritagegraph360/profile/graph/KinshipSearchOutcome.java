@@ -0,0 +1,33 @@
+package com.heritagegraph360.profile.graph;
+
+/**
+ * Reports how a kinship path search ended.
+ * Importance: Distinguishes "not related" from "gave up" so reviewers know whether to widen the limits.
+ * Alternatives: Return an empty path for every failure.
+ */
+public enum KinshipSearchOutcome {
+    /**
+     * A shortest path was found.
+     */
+    FOUND,
+
+    /**
+     * Both profiles were searched exhaustively and are not connected.
+     */
+    NOT_FOUND,
+
+    /**
+     * No path exists within the depth limit; a longer one may exist.
+     */
+    DEPTH_LIMIT,
+
+    /**
+     * The search visited its node budget before the frontiers met.
+     */
+    NODE_BUDGET,
+
+    /**
+     * The search ran past its timeout before the frontiers met.
+     */
+    TIMEOUT
+}
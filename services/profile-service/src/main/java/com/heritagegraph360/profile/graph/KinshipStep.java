@@ -0,0 +1,76 @@
+package com.heritagegraph360.profile.graph;
+
+import java.util.UUID;
+
+/**
+ * Represents one relationship edge on a kinship path.
+ * Importance: Carries the edge direction and status color for each hop.
+ * Alternatives: Return only the profile ids along the path.
+ */
+public class KinshipStep {
+    private final UUID fromProfileId;
+    private final UUID toProfileId;
+    private final KinshipRelation relation;
+    private final String status;
+
+    /**
+     * Creates a path step.
+     * Importance: Captures one hop of the search result.
+     * Alternatives: Use a map-based representation.
+     *
+     * @param fromProfileId the profile the step starts at.
+     * @param toProfileId the profile the step ends at.
+     * @param relation how the edge is followed.
+     * @param status the relationship status.
+     */
+    public KinshipStep(UUID fromProfileId, UUID toProfileId, KinshipRelation relation, String status) {
+        this.fromProfileId = fromProfileId;
+        this.toProfileId = toProfileId;
+        this.relation = relation;
+        this.status = status;
+    }
+
+    /**
+     * Returns the profile the step starts at.
+     * Importance: Chains steps into a readable path.
+     * Alternatives: Return only end profiles.
+     *
+     * @return the starting profile identifier.
+     */
+    public UUID getFromProfileId() {
+        return fromProfileId;
+    }
+
+    /**
+     * Returns the profile the step ends at.
+     * Importance: Chains steps into a readable path.
+     * Alternatives: Return only start profiles.
+     *
+     * @return the ending profile identifier.
+     */
+    public UUID getToProfileId() {
+        return toProfileId;
+    }
+
+    /**
+     * Returns how the edge is followed.
+     * Importance: Distinguishes going up to a parent from going down to a child.
+     * Alternatives: Return the stored edge orientation.
+     *
+     * @return the relation.
+     */
+    public KinshipRelation getRelation() {
+        return relation;
+    }
+
+    /**
+     * Returns the relationship status.
+     * Importance: Shows green/yellow/orange/red confidence for each hop.
+     * Alternatives: Return only the weakest status on the path.
+     *
+     * @return the status, or null when unset.
+     */
+    public String getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,18 @@
+package com.heritagegraph360.profile.graph;
+
+/**
+ * Identifies which way a lineage traversal follows relationship edges.
+ * Importance: Lets one traversal routine serve ancestor and descendant queries.
+ * Alternatives: Expose separate traversal methods per direction.
+ */
+public enum LineageDirection {
+    /**
+     * Follows edges from a profile to its related (parent) profiles.
+     */
+    ANCESTORS,
+
+    /**
+     * Follows edges from a related (parent) profile back to its children.
+     */
+    DESCENDANTS
+}
@@ -0,0 +1,62 @@
+package com.heritagegraph360.profile.graph;
+
+import java.util.UUID;
+
+/**
+ * Represents a profile reached by a lineage traversal.
+ * Importance: Carries the generation distance and edge status for pedigree views.
+ * Alternatives: Return bare profile identifiers without traversal metadata.
+ */
+public class LineageEntry {
+    private final UUID profileId;
+    private final int generation;
+    private final String status;
+
+    /**
+     * Creates a lineage entry.
+     * Importance: Captures traversal output in an immutable value.
+     * Alternatives: Use a mutable bean populated by the traversal.
+     *
+     * @param profileId the reached profile identifier.
+     * @param generation the generation distance from the start profile.
+     * @param status the status of the edge that reached the profile.
+     */
+    public LineageEntry(UUID profileId, int generation, String status) {
+        this.profileId = profileId;
+        this.generation = generation;
+        this.status = status;
+    }
+
+    /**
+     * Returns the reached profile identifier.
+     * Importance: Identifies the ancestor or descendant.
+     * Alternatives: Return interned node ids.
+     *
+     * @return the profile identifier.
+     */
+    public UUID getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Returns the generation distance.
+     * Importance: Lets clients lay out pedigree charts by generation.
+     * Alternatives: Return the full path instead of a distance.
+     *
+     * @return the generation distance.
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the status of the reaching edge.
+     * Importance: Preserves green/yellow/orange/red relationship states.
+     * Alternatives: Look up statuses in a separate query.
+     *
+     * @return the relationship status.
+     */
+    public String getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,710 @@
+package com.heritagegraph360.profile.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Holds one tenant's relationship edges as compressed sparse row adjacency.
+ * Importance: Turns multi-generation lineage walks into in-memory array scans.
+ * Alternatives: Run recursive SQL queries against the relationships table.
+ *
+ * <p>An edge from {@code profile_id} to {@code related_profile_id} is treated as a
+ * child-to-parent link. Edges recorded after the last compaction live in small
+ * per-node overlay buffers and are folded into the CSR arrays once the overlay
+ * grows past a fraction of the compacted edge count.</p>
+ */
+public class LineageGraph {
+    private static final int MAX_STATUS_CODES = 256;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ProfileIdInterner interner;
+    private final List<String> statusTable = new ArrayList<>();
+    private final Map<String, Integer> statusCodes = new HashMap<>();
+    private final int compactionMinEdges;
+    private final Adjacency parents = new Adjacency();
+    private final Adjacency children = new Adjacency();
+    private int compactedNodeCount;
+    private int compactedEdgeCount;
+    private int overlayEdgeCount;
+
+    /**
+     * Creates an empty lineage graph.
+     * Importance: Provides a per-tenant container for incremental edge updates.
+     * Alternatives: Build graphs only from complete edge snapshots.
+     *
+     * @param expectedNodes the expected number of profiles.
+     * @param compactionMinEdges the minimum overlay size before compaction.
+     */
+    public LineageGraph(int expectedNodes, int compactionMinEdges) {
+        this.interner = new ProfileIdInterner(expectedNodes);
+        this.compactionMinEdges = compactionMinEdges;
+        statusTable.add(null);
+    }
+
+    /**
+     * Records a child-to-parent edge, updating the status when it already exists.
+     * Importance: Keeps the index current as relationships are upserted.
+     * Alternatives: Rebuild the tenant graph after every change.
+     *
+     * @param childId the profile that owns the relationship.
+     * @param parentId the related profile.
+     * @param status the relationship status.
+     * @return true when a new edge was added.
+     */
+    public boolean addEdge(UUID childId, UUID parentId, String status) {
+        lock.writeLock().lock();
+        try {
+            boolean added = addEdgeLocked(childId, parentId, status);
+            if (overlayEdgeCount > Math.max(compactionMinEdges, compactedEdgeCount / 8)) {
+                compactLocked();
+            }
+            return added;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Records an edge during bulk loading without triggering compaction.
+     * Importance: Avoids repeated array rebuilds while streaming a tenant's edges.
+     * Alternatives: Collect edges into lists before building the arrays.
+     *
+     * @param childId the profile that owns the relationship.
+     * @param parentId the related profile.
+     * @param status the relationship status.
+     */
+    void loadEdge(UUID childId, UUID parentId, String status) {
+        lock.writeLock().lock();
+        try {
+            addEdgeLocked(childId, parentId, status);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Folds overlay edges into the CSR arrays.
+     * Importance: Restores contiguous adjacency after bulk loads or many updates.
+     * Alternatives: Keep all edges in growable per-node lists.
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            compactLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Walks ancestors or descendants breadth-first up to a depth limit.
+     * Importance: Answers pedigree questions without database round-trips.
+     * Alternatives: Use recursive CTE queries per request.
+     *
+     * @param profileId the starting profile identifier.
+     * @param direction the traversal direction.
+     * @param maxDepth the maximum number of generations.
+     * @param maxNodes the maximum number of profiles to return.
+     * @return the traversal result.
+     */
+    public LineageWalk walk(UUID profileId, LineageDirection direction, int maxDepth, int maxNodes) {
+        lock.readLock().lock();
+        try {
+            int start = interner.find(profileId);
+            List<LineageEntry> entries = new ArrayList<>();
+            if (start < 0 || maxDepth <= 0) {
+                return new LineageWalk(entries, false);
+            }
+            Adjacency adjacency = direction == LineageDirection.ANCESTORS ? parents : children;
+            IntHashSet visited = new IntHashSet(64);
+            visited.add(start);
+            int[] frontier = {start};
+            int frontierSize = 1;
+            int[] next = new int[16];
+            for (int generation = 1; generation <= maxDepth && frontierSize > 0; generation++) {
+                int nextSize = 0;
+                for (int i = 0; i < frontierSize; i++) {
+                    int node = frontier[i];
+                    int baseStart = adjacency.baseStart(node, compactedNodeCount);
+                    int baseEnd = adjacency.baseEnd(node, compactedNodeCount);
+                    EdgeBuffer overlay = adjacency.overlayOf(node);
+                    int overlaySize = overlay == null ? 0 : overlay.size;
+                    int degree = (baseEnd - baseStart) + overlaySize;
+                    for (int e = 0; e < degree; e++) {
+                        int target;
+                        byte status;
+                        if (e < baseEnd - baseStart) {
+                            target = adjacency.targets[baseStart + e];
+                            status = adjacency.statuses[baseStart + e];
+                        } else {
+                            target = overlay.targets[e - (baseEnd - baseStart)];
+                            status = overlay.statuses[e - (baseEnd - baseStart)];
+                        }
+                        if (!visited.add(target)) {
+                            continue;
+                        }
+                        entries.add(new LineageEntry(interner.profileId(target), generation,
+                            statusTable.get(status & 0xFF)));
+                        if (entries.size() >= maxNodes) {
+                            return new LineageWalk(entries, true);
+                        }
+                        if (nextSize == next.length) {
+                            next = Arrays.copyOf(next, nextSize * 2);
+                        }
+                        next[nextSize++] = target;
+                    }
+                }
+                int[] swap = frontier;
+                frontier = next;
+                frontierSize = nextSize;
+                next = swap.length >= 16 ? swap : new int[16];
+            }
+            return new LineageWalk(entries, false);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a profile's direct parents or children with their relationship statuses.
+     * Importance: Lets level-by-level exports read one generation at a time without holding the lock across I/O.
+     * Alternatives: Walk the whole subtree under one read lock.
+     *
+     * @param profileId the profile identifier.
+     * @param direction ANCESTORS for parents, DESCENDANTS for children.
+     * @return the relatives at generation 1, empty when the profile is unknown.
+     */
+    public List<LineageEntry> relatives(UUID profileId, LineageDirection direction) {
+        lock.readLock().lock();
+        try {
+            int node = interner.find(profileId);
+            if (node < 0) {
+                return List.of();
+            }
+            Adjacency adjacency = direction == LineageDirection.ANCESTORS ? parents : children;
+            int baseStart = adjacency.baseStart(node, compactedNodeCount);
+            int baseEnd = adjacency.baseEnd(node, compactedNodeCount);
+            EdgeBuffer overlay = adjacency.overlayOf(node);
+            int overlaySize = overlay == null ? 0 : overlay.size;
+            List<LineageEntry> entries = new ArrayList<>(baseEnd - baseStart + overlaySize);
+            for (int e = baseStart; e < baseEnd; e++) {
+                entries.add(new LineageEntry(interner.profileId(adjacency.targets[e]), 1,
+                    statusTable.get(adjacency.statuses[e] & 0xFF)));
+            }
+            for (int e = 0; e < overlaySize; e++) {
+                entries.add(new LineageEntry(interner.profileId(overlay.targets[e]), 1,
+                    statusTable.get(overlay.statuses[e] & 0xFF)));
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the shortest relationship chain between two profiles with a bidirectional breadth-first search.
+     * Importance: Answers "how are these two related?" by expanding the smaller frontier from each end.
+     * Alternatives: Run a one-sided search, which visits far more profiles on wide pedigrees.
+     *
+     * <p>Edges are followed in both directions, so paths may go up to shared ancestors and back down.
+     * The search gives up when the path would exceed {@code maxDepth}, when both frontiers together
+     * have visited {@code maxNodes} profiles, or after {@code timeoutNanos}.</p>
+     *
+     * @param fromId the first profile identifier.
+     * @param toId the second profile identifier.
+     * @param maxDepth the maximum path length in edges.
+     * @param maxNodes the maximum number of profiles visited.
+     * @param timeoutNanos the search time limit.
+     * @return the search result.
+     */
+    public KinshipPath findPath(UUID fromId, UUID toId, int maxDepth, int maxNodes, long timeoutNanos) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        lock.readLock().lock();
+        try {
+            int source = interner.find(fromId);
+            int target = interner.find(toId);
+            if (source < 0 || target < 0) {
+                return new KinshipPath(KinshipSearchOutcome.NOT_FOUND, List.of(), 0);
+            }
+            if (source == target) {
+                return new KinshipPath(KinshipSearchOutcome.FOUND, List.of(), 1);
+            }
+            SearchSide forward = new SearchSide(source);
+            SearchSide backward = new SearchSide(target);
+            Adjacency[] directions = {parents, children};
+            int expanded = 0;
+            while (forward.frontierSize > 0 && backward.frontierSize > 0) {
+                if (forward.depth + backward.depth >= maxDepth) {
+                    return new KinshipPath(KinshipSearchOutcome.DEPTH_LIMIT, List.of(), visited(forward, backward));
+                }
+                boolean forwardTurn = forward.frontierSize <= backward.frontierSize;
+                SearchSide side = forwardTurn ? forward : backward;
+                SearchSide other = forwardTurn ? backward : forward;
+                int meeting = -1;
+                int bestLength = Integer.MAX_VALUE;
+                side.nextSize = 0;
+                for (int i = 0; i < side.frontierSize; i++) {
+                    if ((++expanded & 0xFF) == 0 && System.nanoTime() > deadline) {
+                        return new KinshipPath(KinshipSearchOutcome.TIMEOUT, List.of(), visited(forward, backward));
+                    }
+                    int node = side.frontier[i];
+                    for (Adjacency adjacency : directions) {
+                        int baseStart = adjacency.baseStart(node, compactedNodeCount);
+                        int baseEnd = adjacency.baseEnd(node, compactedNodeCount);
+                        EdgeBuffer overlay = adjacency.overlayOf(node);
+                        int degree = (baseEnd - baseStart) + (overlay == null ? 0 : overlay.size);
+                        for (int e = 0; e < degree; e++) {
+                            int neighbor = e < baseEnd - baseStart
+                                ? adjacency.targets[baseStart + e]
+                                : overlay.targets[e - (baseEnd - baseStart)];
+                            if (!side.predecessors.putIfAbsent(neighbor, node)) {
+                                continue;
+                            }
+                            if (other.predecessors.get(neighbor) != IntIntHashMap.MISSING) {
+                                int length = side.depth + 1 + other.distance(neighbor);
+                                if (length < bestLength) {
+                                    bestLength = length;
+                                    meeting = neighbor;
+                                }
+                            }
+                            if (visited(forward, backward) > maxNodes) {
+                                return new KinshipPath(KinshipSearchOutcome.NODE_BUDGET, List.of(),
+                                    visited(forward, backward));
+                            }
+                            side.push(neighbor);
+                        }
+                    }
+                }
+                side.advance();
+                if (meeting >= 0) {
+                    return new KinshipPath(KinshipSearchOutcome.FOUND, pathThrough(meeting, forward, backward),
+                        visited(forward, backward));
+                }
+            }
+            return new KinshipPath(KinshipSearchOutcome.NOT_FOUND, List.of(), visited(forward, backward));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of distinct edges.
+     * Importance: Supports sizing metrics for the lineage index.
+     * Alternatives: Count rows in the relationships table.
+     *
+     * @return the edge count.
+     */
+    public int edgeCount() {
+        lock.readLock().lock();
+        try {
+            return compactedEdgeCount + overlayEdgeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of interned profiles.
+     * Importance: Supports sizing metrics for the lineage index.
+     * Alternatives: Count distinct profiles in SQL.
+     *
+     * @return the node count.
+     */
+    public int nodeCount() {
+        lock.readLock().lock();
+        try {
+            return interner.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or updates an edge while holding the write lock.
+     * Importance: Shares edge bookkeeping between live updates and bulk loads.
+     * Alternatives: Duplicate the logic per entry point.
+     *
+     * @param childId the child profile identifier.
+     * @param parentId the parent profile identifier.
+     * @param status the relationship status.
+     * @return true when a new edge was added.
+     */
+    private boolean addEdgeLocked(UUID childId, UUID parentId, String status) {
+        int child = interner.intern(childId);
+        int parent = interner.intern(parentId);
+        byte code = statusCode(status);
+        if (parents.updateStatus(child, parent, code, compactedNodeCount)) {
+            children.updateStatus(parent, child, code, compactedNodeCount);
+            return false;
+        }
+        parents.append(child, parent, code);
+        children.append(parent, child, code);
+        overlayEdgeCount++;
+        return true;
+    }
+
+    /**
+     * Rebuilds both adjacency directions while holding the write lock.
+     * Importance: Keeps compaction atomic with respect to readers.
+     * Alternatives: Build replacement arrays off-lock and swap references.
+     */
+    private void compactLocked() {
+        int nodes = interner.size();
+        parents.compact(nodes, compactedNodeCount);
+        children.compact(nodes, compactedNodeCount);
+        compactedNodeCount = nodes;
+        compactedEdgeCount += overlayEdgeCount;
+        overlayEdgeCount = 0;
+    }
+
+    /**
+     * Rebuilds the path through the node where the two frontiers met.
+     * Importance: Follows each side's predecessor chain and labels every hop with its edge.
+     * Alternatives: Store full paths on the frontier.
+     *
+     * @param meeting the node reached by both searches.
+     * @param forward the search from the first profile.
+     * @param backward the search from the second profile.
+     * @return the steps from the first profile to the second.
+     */
+    private List<KinshipStep> pathThrough(int meeting, SearchSide forward, SearchSide backward) {
+        List<Integer> nodes = new ArrayList<>();
+        for (int node = meeting; ; node = forward.predecessors.get(node)) {
+            nodes.add(node);
+            if (node == forward.origin) {
+                break;
+            }
+        }
+        Collections.reverse(nodes);
+        for (int node = meeting; node != backward.origin; ) {
+            node = backward.predecessors.get(node);
+            nodes.add(node);
+        }
+        List<KinshipStep> steps = new ArrayList<>(nodes.size() - 1);
+        for (int i = 0; i + 1 < nodes.size(); i++) {
+            int from = nodes.get(i);
+            int to = nodes.get(i + 1);
+            int status = parents.statusOf(from, to, compactedNodeCount);
+            KinshipRelation relation = KinshipRelation.PARENT;
+            if (status < 0) {
+                status = children.statusOf(from, to, compactedNodeCount);
+                relation = KinshipRelation.CHILD;
+            }
+            steps.add(new KinshipStep(interner.profileId(from), interner.profileId(to), relation,
+                statusTable.get(status)));
+        }
+        return steps;
+    }
+
+    /**
+     * Counts profiles visited by both searches.
+     * Importance: Enforces the shared node budget.
+     * Alternatives: Budget each side separately.
+     *
+     * @param forward the search from the first profile.
+     * @param backward the search from the second profile.
+     * @return the visited count.
+     */
+    private static int visited(SearchSide forward, SearchSide backward) {
+        return forward.predecessors.size() + backward.predecessors.size();
+    }
+
+    /**
+     * Maps a status string to its compact code.
+     * Importance: Stores per-edge statuses as single bytes.
+     * Alternatives: Store status strings per edge.
+     *
+     * @param status the relationship status.
+     * @return the status code.
+     */
+    private byte statusCode(String status) {
+        if (status == null) {
+            return 0;
+        }
+        Integer code = statusCodes.get(status);
+        if (code == null) {
+            if (statusTable.size() >= MAX_STATUS_CODES) {
+                throw new IllegalArgumentException("Too many distinct relationship statuses");
+            }
+            code = statusTable.size();
+            statusTable.add(status);
+            statusCodes.put(status, code);
+        }
+        return (byte) code.intValue();
+    }
+
+    /**
+     * Stores one direction of adjacency as CSR arrays plus overlay buffers.
+     * Importance: Shares layout logic between parent and child edges.
+     * Alternatives: Duplicate fields per direction in the graph.
+     */
+    private static final class Adjacency {
+        private int[] offsets = {0};
+        private int[] targets = new int[0];
+        private byte[] statuses = new byte[0];
+        private EdgeBuffer[] overlay = new EdgeBuffer[16];
+
+        /**
+         * Returns the first CSR slot for a node.
+         * Importance: Bounds the compacted neighbor range.
+         * Alternatives: Store explicit start and end arrays.
+         *
+         * @param node the node id.
+         * @param compactedNodes the number of compacted nodes.
+         * @return the start offset.
+         */
+        private int baseStart(int node, int compactedNodes) {
+            return node < compactedNodes ? offsets[node] : 0;
+        }
+
+        /**
+         * Returns the end CSR slot for a node.
+         * Importance: Bounds the compacted neighbor range.
+         * Alternatives: Store explicit start and end arrays.
+         *
+         * @param node the node id.
+         * @param compactedNodes the number of compacted nodes.
+         * @return the exclusive end offset.
+         */
+        private int baseEnd(int node, int compactedNodes) {
+            return node < compactedNodes ? offsets[node + 1] : 0;
+        }
+
+        /**
+         * Returns the overlay buffer for a node.
+         * Importance: Exposes edges recorded since the last compaction.
+         * Alternatives: Merge overlays on every read.
+         *
+         * @param node the node id.
+         * @return the overlay buffer, or null.
+         */
+        private EdgeBuffer overlayOf(int node) {
+            return node < overlay.length ? overlay[node] : null;
+        }
+
+        /**
+         * Updates the status of an existing edge.
+         * Importance: Makes repeated relationship upserts idempotent in the index.
+         * Alternatives: Allow duplicate edges and dedupe on read.
+         *
+         * @param from the source node.
+         * @param to the target node.
+         * @param status the new status code.
+         * @param compactedNodes the number of compacted nodes.
+         * @return true when the edge existed.
+         */
+        private boolean updateStatus(int from, int to, byte status, int compactedNodes) {
+            int end = baseEnd(from, compactedNodes);
+            for (int i = baseStart(from, compactedNodes); i < end; i++) {
+                if (targets[i] == to) {
+                    statuses[i] = status;
+                    return true;
+                }
+            }
+            EdgeBuffer buffer = overlayOf(from);
+            if (buffer != null) {
+                for (int i = 0; i < buffer.size; i++) {
+                    if (buffer.targets[i] == to) {
+                        buffer.statuses[i] = status;
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the status code of an edge.
+         * Importance: Labels path steps after the search, so the search itself only tracks node ids.
+         * Alternatives: Record statuses alongside predecessors.
+         *
+         * @param from the source node.
+         * @param to the target node.
+         * @param compactedNodes the number of compacted nodes.
+         * @return the unsigned status code, or -1 when there is no such edge.
+         */
+        private int statusOf(int from, int to, int compactedNodes) {
+            int end = baseEnd(from, compactedNodes);
+            for (int i = baseStart(from, compactedNodes); i < end; i++) {
+                if (targets[i] == to) {
+                    return statuses[i] & 0xFF;
+                }
+            }
+            EdgeBuffer buffer = overlayOf(from);
+            if (buffer != null) {
+                for (int i = 0; i < buffer.size; i++) {
+                    if (buffer.targets[i] == to) {
+                        return buffer.statuses[i] & 0xFF;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Appends an edge to a node's overlay buffer.
+         * Importance: Records new edges without rebuilding CSR arrays.
+         * Alternatives: Rebuild CSR arrays per insert.
+         *
+         * @param from the source node.
+         * @param to the target node.
+         * @param status the status code.
+         */
+        private void append(int from, int to, byte status) {
+            if (from >= overlay.length) {
+                overlay = Arrays.copyOf(overlay, Math.max(from + 1, overlay.length * 2));
+            }
+            EdgeBuffer buffer = overlay[from];
+            if (buffer == null) {
+                buffer = new EdgeBuffer();
+                overlay[from] = buffer;
+            }
+            buffer.add(to, status);
+        }
+
+        /**
+         * Merges compacted and overlay edges into fresh CSR arrays.
+         * Importance: Keeps neighbor scans contiguous in memory.
+         * Alternatives: Sort an edge list and rebuild offsets.
+         *
+         * @param nodes the current node count.
+         * @param compactedNodes the node count of the previous compaction.
+         */
+        private void compact(int nodes, int compactedNodes) {
+            int[] rebuiltOffsets = new int[nodes + 1];
+            for (int node = 0; node < nodes; node++) {
+                EdgeBuffer buffer = overlayOf(node);
+                int degree = baseEnd(node, compactedNodes) - baseStart(node, compactedNodes)
+                    + (buffer == null ? 0 : buffer.size);
+                rebuiltOffsets[node + 1] = rebuiltOffsets[node] + degree;
+            }
+            int[] rebuiltTargets = new int[rebuiltOffsets[nodes]];
+            byte[] rebuiltStatuses = new byte[rebuiltOffsets[nodes]];
+            for (int node = 0; node < nodes; node++) {
+                int cursor = rebuiltOffsets[node];
+                int start = baseStart(node, compactedNodes);
+                int length = baseEnd(node, compactedNodes) - start;
+                System.arraycopy(targets, start, rebuiltTargets, cursor, length);
+                System.arraycopy(statuses, start, rebuiltStatuses, cursor, length);
+                cursor += length;
+                EdgeBuffer buffer = overlayOf(node);
+                if (buffer != null) {
+                    System.arraycopy(buffer.targets, 0, rebuiltTargets, cursor, buffer.size);
+                    System.arraycopy(buffer.statuses, 0, rebuiltStatuses, cursor, buffer.size);
+                }
+            }
+            offsets = rebuiltOffsets;
+            targets = rebuiltTargets;
+            statuses = rebuiltStatuses;
+            overlay = new EdgeBuffer[Math.max(16, nodes)];
+        }
+    }
+
+    /**
+     * Buffers edges appended to one node since the last compaction.
+     * Importance: Keeps incremental updates O(1) amortized.
+     * Alternatives: Use boxed lists per node.
+     */
+    private static final class EdgeBuffer {
+        private int[] targets = new int[2];
+        private byte[] statuses = new byte[2];
+        private int size;
+
+        /**
+         * Appends a target and status.
+         * Importance: Grows buffers geometrically.
+         * Alternatives: Use fixed-size buffers with spill lists.
+         *
+         * @param target the target node.
+         * @param status the status code.
+         */
+        private void add(int target, byte status) {
+            if (size == targets.length) {
+                targets = Arrays.copyOf(targets, size * 2);
+                statuses = Arrays.copyOf(statuses, size * 2);
+            }
+            targets[size] = target;
+            statuses[size] = status;
+            size++;
+        }
+    }
+
+    /**
+     * Tracks one end of a bidirectional search.
+     * Importance: Keeps the frontier, its depth, and the predecessor table together per side.
+     * Alternatives: Use parallel local variables for both sides.
+     */
+    private static final class SearchSide {
+        private final int origin;
+        private final IntIntHashMap predecessors = new IntIntHashMap(64);
+        private int[] frontier;
+        private int frontierSize;
+        private int[] next = new int[16];
+        private int nextSize;
+        private int depth;
+
+        /**
+         * Starts a search at a node.
+         * Importance: The origin is its own predecessor, which ends chain walks.
+         * Alternatives: Use a sentinel predecessor.
+         *
+         * @param origin the starting node.
+         */
+        private SearchSide(int origin) {
+            this.origin = origin;
+            this.frontier = new int[] {origin};
+            this.frontierSize = 1;
+            predecessors.putIfAbsent(origin, origin);
+        }
+
+        /**
+         * Adds a node to the next frontier.
+         * Importance: Grows the frontier buffer geometrically.
+         * Alternatives: Use a boxed queue.
+         *
+         * @param node the node.
+         */
+        private void push(int node) {
+            if (nextSize == next.length) {
+                next = Arrays.copyOf(next, nextSize * 2);
+            }
+            next[nextSize++] = node;
+        }
+
+        /**
+         * Makes the next frontier current and moves one level deeper.
+         * Importance: Reuses the previous frontier buffer.
+         * Alternatives: Allocate a fresh array per level.
+         */
+        private void advance() {
+            int[] swap = frontier;
+            frontier = next;
+            frontierSize = nextSize;
+            next = swap.length >= 16 ? swap : new int[16];
+            nextSize = 0;
+            depth++;
+        }
+
+        /**
+         * Returns how many edges separate a visited node from the origin.
+         * Importance: Picks the shortest total path when several nodes meet on the same level.
+         * Alternatives: Store depths alongside predecessors.
+         *
+         * @param node a node visited by this side.
+         * @return the distance in edges.
+         */
+        private int distance(int node) {
+            int distance = 0;
+            for (int current = node; current != origin; current = predecessors.get(current)) {
+                distance++;
+            }
+            return distance;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.heritagegraph360.profile.graph;
+
+import com.heritagegraph360.profile.config.LineageProperties;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains per-tenant in-memory lineage graphs.
+ * Importance: Serves ancestor and descendant walks without per-generation SQL queries.
+ * Alternatives: Use a graph database or recursive CTEs.
+ */
+@Component
+public class LineageGraphIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LineageGraphIndex.class);
+    private static final int INITIAL_TENANT_NODES = 1024;
+
+    private final Map<String, LineageGraph> graphs = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final LineageProperties properties;
+    private volatile boolean ready;
+
+    /**
+     * Creates the lineage index.
+     * Importance: Connects the index to relationship storage for warm-up.
+     * Alternatives: Load edges through the JPA repository.
+     *
+     * @param dataSource the relational data source.
+     * @param transactionManager the transaction manager used for cursor reads.
+     * @param properties the lineage properties.
+     */
+    public LineageGraphIndex(DataSource dataSource,
+                             PlatformTransactionManager transactionManager,
+                             LineageProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.getLoadFetchSize());
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+    }
+
+    /**
+     * Loads all relationship edges once the application is ready.
+     * Importance: Builds the index from the relationships table at startup.
+     * Alternatives: Build tenant graphs lazily on first access.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        if (!properties.isEnabled()) {
+            LOGGER.info("Lineage index disabled; skipping warm-up");
+            return;
+        }
+        long started = System.nanoTime();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.query(
+                "SELECT tenant_id, profile_id, related_profile_id, status FROM relationships",
+                rs -> {
+                    graphFor(rs.getString(1)).loadEdge(
+                        rs.getObject(2, UUID.class),
+                        rs.getObject(3, UUID.class),
+                        rs.getString(4));
+                });
+        });
+        long edges = 0;
+        for (LineageGraph graph : graphs.values()) {
+            graph.compact();
+            edges += graph.edgeCount();
+        }
+        ready = true;
+        LOGGER.info("Lineage index loaded {} edges for {} tenants in {} ms",
+            edges, graphs.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Records a relationship edge in the tenant graph.
+     * Importance: Keeps the index consistent with relationship upserts.
+     * Alternatives: Reload the tenant from SQL after each change.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the child profile identifier.
+     * @param relatedProfileId the parent profile identifier.
+     * @param status the relationship status.
+     */
+    public void recordRelationship(String tenantId, UUID profileId, UUID relatedProfileId, String status) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        graphFor(tenantId).addEdge(profileId, relatedProfileId, status);
+    }
+
+    /**
+     * Walks a profile's lineage in one direction.
+     * Importance: Provides bounded ancestor and descendant queries.
+     * Alternatives: Query relationships generation by generation.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the starting profile identifier.
+     * @param direction the traversal direction.
+     * @param depth the requested depth, or null for the default.
+     * @return the traversal result.
+     */
+    public LineageWalk walk(String tenantId, UUID profileId, LineageDirection direction, Integer depth) {
+        LineageGraph graph = graphs.get(tenantId);
+        if (graph == null) {
+            return new LineageWalk(List.of(), false);
+        }
+        int resolvedDepth = depth == null ? properties.getDefaultDepth() : depth;
+        resolvedDepth = Math.max(1, Math.min(resolvedDepth, properties.getMaxDepth()));
+        return graph.walk(profileId, direction, resolvedDepth, properties.getMaxNodes());
+    }
+
+    /**
+     * Returns a profile's direct parents or children.
+     * Importance: Supports generation-by-generation tree exports.
+     * Alternatives: Run a depth-one walk.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the profile identifier.
+     * @param direction the relationship direction.
+     * @return the relatives with their relationship statuses.
+     */
+    public List<LineageEntry> relatives(String tenantId, UUID profileId, LineageDirection direction) {
+        LineageGraph graph = graphs.get(tenantId);
+        return graph == null ? List.of() : graph.relatives(profileId, direction);
+    }
+
+    /**
+     * Finds the shortest relationship chain between two profiles.
+     * Importance: Applies the configured depth, node, and time limits to path queries.
+     * Alternatives: Let callers pass their own limits.
+     *
+     * @param tenantId the tenant identifier.
+     * @param fromId the first profile identifier.
+     * @param toId the second profile identifier.
+     * @param depth the requested maximum path length, or null for the configured limit.
+     * @return the search result.
+     */
+    public KinshipPath findPath(String tenantId, UUID fromId, UUID toId, Integer depth) {
+        LineageGraph graph = graphs.get(tenantId);
+        if (graph == null) {
+            return new KinshipPath(KinshipSearchOutcome.NOT_FOUND, List.of(), 0);
+        }
+        int resolvedDepth = depth == null ? properties.getPathMaxDepth()
+            : Math.max(1, Math.min(depth, properties.getPathMaxDepth()));
+        return graph.findPath(fromId, toId, resolvedDepth, properties.getPathMaxNodes(),
+            TimeUnit.MILLISECONDS.toNanos(properties.getPathTimeoutMs()));
+    }
+
+    /**
+     * Returns whether the startup load has completed.
+     * Importance: Lets callers avoid serving partial lineage during warm-up.
+     * Alternatives: Block requests until loading completes.
+     *
+     * @return true when the index is ready.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns the graph for a tenant, creating it when absent.
+     * Importance: Isolates tenants into separate graphs.
+     * Alternatives: Use a single graph keyed by tenant-qualified ids.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the tenant graph.
+     */
+    private LineageGraph graphFor(String tenantId) {
+        return graphs.computeIfAbsent(tenantId,
+            key -> new LineageGraph(INITIAL_TENANT_NODES, properties.getCompactionMinEdges()));
+    }
+}
@@ -0,0 +1,48 @@
+package com.heritagegraph360.profile.graph;
+
+import java.util.List;
+
+/**
+ * Holds the result of a bounded lineage traversal.
+ * Importance: Signals when node budgets cut a traversal short.
+ * Alternatives: Throw when the budget is exceeded.
+ */
+public class LineageWalk {
+    private final List<LineageEntry> entries;
+    private final boolean truncated;
+
+    /**
+     * Creates a traversal result.
+     * Importance: Pairs reached profiles with truncation state.
+     * Alternatives: Return entries only.
+     *
+     * @param entries the reached profiles in breadth-first order.
+     * @param truncated whether the node budget was exhausted.
+     */
+    public LineageWalk(List<LineageEntry> entries, boolean truncated) {
+        this.entries = entries;
+        this.truncated = truncated;
+    }
+
+    /**
+     * Returns the reached profiles.
+     * Importance: Provides traversal output in generation order.
+     * Alternatives: Group entries by generation.
+     *
+     * @return the lineage entries.
+     */
+    public List<LineageEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns whether the traversal was truncated.
+     * Importance: Lets clients request narrower walks when budgets are hit.
+     * Alternatives: Omit truncation signals.
+     *
+     * @return true when truncated.
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -0,0 +1,160 @@
+package com.heritagegraph360.profile.graph;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Interns profile identifiers into dense integer node ids.
+ * Importance: Lets lineage structures use primitive arrays instead of UUID object graphs.
+ * Alternatives: Use a HashMap of UUID to Integer at a higher memory cost.
+ */
+public class ProfileIdInterner {
+    private static final int EMPTY = 0;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] mostSignificant;
+    private long[] leastSignificant;
+    private int[] slots;
+    private int size;
+
+    /**
+     * Creates an interner sized for the expected number of profiles.
+     * Importance: Avoids rehashing while bulk-loading large tenants.
+     * Alternatives: Start small and rely on growth only.
+     *
+     * @param expectedSize the expected number of distinct identifiers.
+     */
+    public ProfileIdInterner(int expectedSize) {
+        int capacity = Math.max(MIN_CAPACITY, expectedSize);
+        this.mostSignificant = new long[capacity];
+        this.leastSignificant = new long[capacity];
+        this.slots = new int[tableSizeFor(capacity * 2)];
+    }
+
+    /**
+     * Returns the node id for an identifier, assigning a new one when absent.
+     * Importance: Provides stable dense ids for CSR offsets.
+     * Alternatives: Pre-assign ids from a database sequence.
+     *
+     * @param profileId the profile identifier.
+     * @return the node id.
+     */
+    public int intern(UUID profileId) {
+        long msb = profileId.getMostSignificantBits();
+        long lsb = profileId.getLeastSignificantBits();
+        int mask = slots.length - 1;
+        int slot = hash(msb, lsb) & mask;
+        while (slots[slot] != EMPTY) {
+            int node = slots[slot] - 1;
+            if (mostSignificant[node] == msb && leastSignificant[node] == lsb) {
+                return node;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size == mostSignificant.length) {
+            mostSignificant = Arrays.copyOf(mostSignificant, size * 2);
+            leastSignificant = Arrays.copyOf(leastSignificant, size * 2);
+        }
+        int node = size++;
+        mostSignificant[node] = msb;
+        leastSignificant[node] = lsb;
+        slots[slot] = node + 1;
+        if (size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+        return node;
+    }
+
+    /**
+     * Returns the node id for an identifier without assigning one.
+     * Importance: Supports read-only lookups during traversal queries.
+     * Alternatives: Intern on read and accept unused nodes.
+     *
+     * @param profileId the profile identifier.
+     * @return the node id, or -1 when unknown.
+     */
+    public int find(UUID profileId) {
+        long msb = profileId.getMostSignificantBits();
+        long lsb = profileId.getLeastSignificantBits();
+        int mask = slots.length - 1;
+        int slot = hash(msb, lsb) & mask;
+        while (slots[slot] != EMPTY) {
+            int node = slots[slot] - 1;
+            if (mostSignificant[node] == msb && leastSignificant[node] == lsb) {
+                return node;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the identifier for a node id.
+     * Importance: Maps traversal results back to API identifiers.
+     * Alternatives: Keep a parallel UUID array.
+     *
+     * @param node the node id.
+     * @return the profile identifier.
+     */
+    public UUID profileId(int node) {
+        return new UUID(mostSignificant[node], leastSignificant[node]);
+    }
+
+    /**
+     * Returns the number of interned identifiers.
+     * Importance: Sizes CSR offset arrays.
+     * Alternatives: Track node counts in the graph instead.
+     *
+     * @return the number of identifiers.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Rebuilds the open-addressing table at a new capacity.
+     * Importance: Keeps probe sequences short as the tenant grows.
+     * Alternatives: Use chained buckets.
+     *
+     * @param capacity the new table capacity.
+     */
+    private void rehash(int capacity) {
+        int[] rebuilt = new int[capacity];
+        int mask = capacity - 1;
+        for (int node = 0; node < size; node++) {
+            int slot = hash(mostSignificant[node], leastSignificant[node]) & mask;
+            while (rebuilt[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            rebuilt[slot] = node + 1;
+        }
+        slots = rebuilt;
+    }
+
+    /**
+     * Mixes both halves of a UUID into a table hash.
+     * Importance: Spreads random and time-based UUIDs evenly across slots.
+     * Alternatives: Use UUID.hashCode directly.
+     *
+     * @param msb the most significant bits.
+     * @param lsb the least significant bits.
+     * @return the mixed hash.
+     */
+    private static int hash(long msb, long lsb) {
+        long mixed = (msb ^ (lsb * 0x9E3779B97F4A7C15L)) * 0xBF58476D1CE4E5B9L;
+        return (int) (mixed ^ (mixed >>> 31));
+    }
+
+    /**
+     * Rounds a capacity up to the next power of two.
+     * Importance: Enables mask-based slot indexing.
+     * Alternatives: Use modulo arithmetic with prime table sizes.
+     *
+     * @param capacity the requested capacity.
+     * @return the power-of-two capacity.
+     */
+    private static int tableSizeFor(int capacity) {
+        int highest = Integer.highestOneBit(Math.max(MIN_CAPACITY, capacity - 1));
+        return highest << 1;
+    }
+}
@@ -0,0 +1,299 @@
+package com.heritagegraph360.profile.merge;
+
+import com.heritagegraph360.profile.config.MergeClusterProperties;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains per-tenant merge clusters built from approved merges.
+ * Importance: Serves "canonical profile for id X" without following merge chains in SQL.
+ * Alternatives: Resolve merge chains with recursive CTEs on every read.
+ */
+@Component
+public class MergeClusterIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MergeClusterIndex.class);
+    private static final Set<String> APPROVED_STATUSES = Set.of("APPROVED", "ACCEPTED");
+    private static final int INITIAL_TENANT_PROFILES = 256;
+    private static final String APPROVED_FILTER = "UPPER(status) IN ('APPROVED', 'ACCEPTED')";
+    private static final String ORDER = " ORDER BY COALESCE(decided_at, created_at), merge_id";
+
+    private final Map<String, MergeClusterSet> clusters = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MergeClusterProperties properties;
+    private volatile boolean ready;
+    private Instant refreshedThrough = Instant.now();
+
+    /**
+     * Creates the merge cluster index.
+     * Importance: Connects the index to merge storage for warm-up and rebuilds.
+     * Alternatives: Load merges through the JPA repository.
+     *
+     * @param dataSource the relational data source.
+     * @param transactionManager the transaction manager used for cursor reads.
+     * @param properties the merge cluster properties.
+     */
+    public MergeClusterIndex(DataSource dataSource,
+                             PlatformTransactionManager transactionManager,
+                             MergeClusterProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.getLoadFetchSize());
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+    }
+
+    /**
+     * Loads all approved merges once the application is ready.
+     * Importance: Builds every tenant's clusters from the merges table at startup. Tenants already loaded on demand
+     * during warm-up keep their newer clusters.
+     * Alternatives: Build tenant clusters lazily on first access only.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        if (!properties.isEnabled()) {
+            LOGGER.info("Merge cluster index disabled; skipping warm-up");
+            return;
+        }
+        long started = System.nanoTime();
+        Map<String, MergeClusterSet> loaded = new HashMap<>();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.query(
+                "SELECT tenant_id, source_profile_id, target_profile_id FROM merges WHERE " + APPROVED_FILTER + ORDER,
+                rs -> {
+                    loaded.computeIfAbsent(rs.getString(1), key -> new MergeClusterSet(INITIAL_TENANT_PROFILES))
+                        .union(rs.getObject(2, UUID.class), rs.getObject(3, UUID.class));
+                });
+        });
+        long merges = 0;
+        synchronized (this) {
+            loaded.forEach(clusters::putIfAbsent);
+            for (MergeClusterSet set : clusters.values()) {
+                merges += set.mergeCount();
+            }
+            ready = true;
+        }
+        LOGGER.info("Merge cluster index loaded {} merges for {} tenants in {} ms",
+            merges, clusters.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Picks up merges decided on other instances since the last refresh.
+     * Importance: Decisions are applied locally only by the instance that recorded them, so without this every
+     * other instance would keep serving merged-away profiles until restart.
+     * Alternatives: Consume merge decisions from the profile event stream.
+     */
+    @Scheduled(fixedDelayString = "${app.merge-clusters.refresh-interval-ms:5000}")
+    public void refresh() {
+        if (!properties.isEnabled() || !ready) {
+            return;
+        }
+        Instant since;
+        synchronized (this) {
+            since = refreshedThrough;
+        }
+        Instant now = Instant.now();
+        List<Decision> decisions = jdbcTemplate.query(
+            "SELECT tenant_id, source_profile_id, target_profile_id, status FROM merges WHERE decided_at > ?",
+            (rs, row) -> new Decision(rs.getString(1), rs.getObject(2, UUID.class), rs.getObject(3, UUID.class),
+                rs.getString(4)),
+            Timestamp.from(since.minusMillis(properties.getRefreshOverlapMs())));
+        synchronized (this) {
+            Set<String> stale = new HashSet<>();
+            for (Decision decision : decisions) {
+                MergeClusterSet set = clusters.get(decision.tenantId);
+                boolean joined = set != null && set.canonicalProfile(decision.sourceProfileId)
+                    .equals(set.canonicalProfile(decision.targetProfileId));
+                if (joined != isApproved(decision.status)) {
+                    stale.add(decision.tenantId);
+                }
+            }
+            for (String tenantId : stale) {
+                rebuildTenant(tenantId);
+            }
+            refreshedThrough = now;
+        }
+    }
+
+    /**
+     * Applies a committed merge decision to the tenant's clusters.
+     * Importance: Keeps clusters incremental for approvals and exact when an approval is withdrawn.
+     * Alternatives: Reload the tenant from SQL after every decision.
+     *
+     * @param tenantId the tenant identifier.
+     * @param sourceProfileId the profile merged away.
+     * @param targetProfileId the profile merged into.
+     * @param previousStatus the merge status before the decision.
+     * @param newStatus the merge status after the decision.
+     */
+    public synchronized void recordDecision(String tenantId, UUID sourceProfileId, UUID targetProfileId,
+                                            String previousStatus, String newStatus) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!ready && !clusters.containsKey(tenantId)) {
+            rebuildTenant(tenantId);
+            return;
+        }
+        boolean wasApproved = isApproved(previousStatus);
+        boolean approved = isApproved(newStatus);
+        if (approved && !wasApproved) {
+            clusterFor(tenantId).union(sourceProfileId, targetProfileId);
+        } else if (wasApproved && !approved) {
+            rebuildTenant(tenantId);
+        }
+    }
+
+    /**
+     * Returns the surviving profile for a profile identifier.
+     * Importance: Is the single lookup every merged-profile read goes through.
+     * Alternatives: Follow merge rows from the requested profile in SQL.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the profile identifier.
+     * @return the canonical profile identifier, or the input when it was never merged.
+     */
+    public UUID canonicalProfile(String tenantId, UUID profileId) {
+        MergeClusterSet set = tenantClusters(tenantId);
+        return set == null ? profileId : set.canonicalProfile(profileId);
+    }
+
+    /**
+     * Returns the number of profiles in a profile's merge cluster.
+     * Importance: Shows reviewers how many duplicates resolve to the canonical profile.
+     * Alternatives: List the cluster members.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the profile identifier.
+     * @return the cluster size, or 1 when the profile was never merged.
+     */
+    public int clusterSize(String tenantId, UUID profileId) {
+        MergeClusterSet set = tenantClusters(tenantId);
+        return set == null ? 1 : set.clusterSize(profileId);
+    }
+
+    /**
+     * Returns whether the full warm-up has finished.
+     * Importance: Lookups are exact either way; before warm-up they load the tenant on demand.
+     * Alternatives: Reject requests until loading completes.
+     *
+     * @return true when the index is loaded, or disabled so lookups are the identity.
+     */
+    public boolean isReady() {
+        return ready || !properties.isEnabled();
+    }
+
+    /**
+     * Returns a tenant's clusters, loading them from SQL when warm-up has not reached the tenant yet.
+     * Importance: Lets reads resolve merged profiles during warm-up instead of failing or skipping resolution.
+     * Alternatives: Answer 503 until warm-up completes.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the tenant's clusters, or null when the tenant has no approved merges or the index is disabled.
+     */
+    private MergeClusterSet tenantClusters(String tenantId) {
+        MergeClusterSet set = clusters.get(tenantId);
+        if (set != null || ready || !properties.isEnabled()) {
+            return set;
+        }
+        synchronized (this) {
+            if (!clusters.containsKey(tenantId)) {
+                rebuildTenant(tenantId);
+            }
+            return clusters.get(tenantId);
+        }
+    }
+
+    /**
+     * Replaces a tenant's clusters with a fresh load of its approved merges.
+     * Importance: Disjoint sets cannot split, so a withdrawn approval needs a rebuild.
+     * Alternatives: Keep a link-cut structure that supports deletions.
+     *
+     * @param tenantId the tenant identifier.
+     */
+    private void rebuildTenant(String tenantId) {
+        MergeClusterSet rebuilt = new MergeClusterSet(INITIAL_TENANT_PROFILES);
+        readOnlyTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.query(
+                "SELECT source_profile_id, target_profile_id FROM merges WHERE tenant_id = ? AND "
+                    + APPROVED_FILTER + ORDER,
+                rs -> {
+                    rebuilt.union(rs.getObject(1, UUID.class), rs.getObject(2, UUID.class));
+                },
+                tenantId);
+        });
+        clusters.put(tenantId, rebuilt);
+        LOGGER.info("Merge clusters rebuilt for tenant {} with {} merges", tenantId, rebuilt.mergeCount());
+    }
+
+    /**
+     * Returns whether a merge status counts as approved.
+     * Importance: Accepts the reviewer vocabularies already stored in merge rows.
+     * Alternatives: Validate decisions against an enum.
+     *
+     * @param status the merge status.
+     * @return true when the merge is approved.
+     */
+    public static boolean isApproved(String status) {
+        return status != null && APPROVED_STATUSES.contains(status.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the cluster set for a tenant, creating it when absent.
+     * Importance: Isolates tenants into separate cluster sets.
+     * Alternatives: Use a single set keyed by tenant-qualified ids.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the tenant cluster set.
+     */
+    private MergeClusterSet clusterFor(String tenantId) {
+        return clusters.computeIfAbsent(tenantId, key -> new MergeClusterSet(INITIAL_TENANT_PROFILES));
+    }
+
+    /**
+     * Holds one merge decision read during a refresh.
+     * Importance: Lets the refresh compare decisions with local clusters after the query returns.
+     * Alternatives: Compare inside the row callback while holding the index lock.
+     */
+    private static final class Decision {
+        private final String tenantId;
+        private final UUID sourceProfileId;
+        private final UUID targetProfileId;
+        private final String status;
+
+        /**
+         * Creates a decision.
+         * Importance: Captures the columns the refresh needs.
+         * Alternatives: Use the JPA merge entity.
+         *
+         * @param tenantId the tenant identifier.
+         * @param sourceProfileId the profile merged away.
+         * @param targetProfileId the profile merged into.
+         * @param status the merge status.
+         */
+        private Decision(String tenantId, UUID sourceProfileId, UUID targetProfileId, String status) {
+            this.tenantId = tenantId;
+            this.sourceProfileId = sourceProfileId;
+            this.targetProfileId = targetProfileId;
+            this.status = status;
+        }
+    }
+}
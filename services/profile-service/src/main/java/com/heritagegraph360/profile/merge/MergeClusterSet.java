@@ -0,0 +1,152 @@
+package com.heritagegraph360.profile.merge;
+
+import com.heritagegraph360.profile.graph.ProfileIdInterner;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Groups one tenant's profiles into merge clusters with a disjoint-set forest.
+ * Importance: Resolves transitive merges (A into B, B into C) to one surviving profile in near-constant time.
+ * Alternatives: Follow merge chains in SQL with recursive queries on every read.
+ */
+public class MergeClusterSet {
+    private static final int MIN_CAPACITY = 16;
+
+    private final ProfileIdInterner interner;
+    private int[] parent;
+    private int[] size;
+    private int[] canonical;
+    private int merges;
+
+    /**
+     * Creates a cluster set sized for the expected number of merged profiles.
+     * Importance: Avoids array growth while bulk-loading approved merges.
+     * Alternatives: Start small and rely on growth only.
+     *
+     * @param expectedProfiles the expected number of profiles that take part in merges.
+     */
+    public MergeClusterSet(int expectedProfiles) {
+        int capacity = Math.max(MIN_CAPACITY, expectedProfiles);
+        this.interner = new ProfileIdInterner(capacity);
+        this.parent = new int[capacity];
+        this.size = new int[capacity];
+        this.canonical = new int[capacity];
+    }
+
+    /**
+     * Records an approved merge of the source profile into the target profile.
+     * Importance: Joins both clusters and keeps the target cluster's surviving profile as canonical.
+     * Alternatives: Store the merge pair and resolve clusters on read.
+     *
+     * @param sourceProfileId the profile merged away.
+     * @param targetProfileId the profile merged into.
+     */
+    public synchronized void union(UUID sourceProfileId, UUID targetProfileId) {
+        int sourceRoot = find(node(sourceProfileId));
+        int targetRoot = find(node(targetProfileId));
+        if (sourceRoot == targetRoot) {
+            return;
+        }
+        int survivor = canonical[targetRoot];
+        int root = size[sourceRoot] > size[targetRoot] ? sourceRoot : targetRoot;
+        int child = root == sourceRoot ? targetRoot : sourceRoot;
+        parent[child] = root;
+        size[root] += size[child];
+        canonical[root] = survivor;
+        merges++;
+    }
+
+    /**
+     * Returns the surviving profile for a profile identifier.
+     * Importance: Gives every read one O(α(n)) lookup instead of a merge-chain walk.
+     * Alternatives: Store the canonical id on each profile row and rewrite it on every merge.
+     *
+     * @param profileId the profile identifier.
+     * @return the canonical profile identifier, or the input when it was never merged.
+     */
+    public synchronized UUID canonicalProfile(UUID profileId) {
+        int node = interner.find(profileId);
+        if (node < 0) {
+            return profileId;
+        }
+        return interner.profileId(canonical[find(node)]);
+    }
+
+    /**
+     * Returns the number of profiles in a profile's merge cluster.
+     * Importance: Tells reviewers how many duplicates collapsed into the canonical profile.
+     * Alternatives: List every cluster member.
+     *
+     * @param profileId the profile identifier.
+     * @return the cluster size, or 1 when the profile was never merged.
+     */
+    public synchronized int clusterSize(UUID profileId) {
+        int node = interner.find(profileId);
+        return node < 0 ? 1 : size[find(node)];
+    }
+
+    /**
+     * Returns the number of unions that joined two distinct clusters.
+     * Importance: Supports load logging and tests.
+     * Alternatives: Count merge rows instead.
+     *
+     * @return the number of effective merges.
+     */
+    public synchronized int mergeCount() {
+        return merges;
+    }
+
+    /**
+     * Returns the node id for a profile, adding a singleton cluster when absent.
+     * Importance: Lazily admits only profiles that take part in merges.
+     * Alternatives: Pre-register every tenant profile.
+     *
+     * @param profileId the profile identifier.
+     * @return the node id.
+     */
+    private int node(UUID profileId) {
+        int before = interner.size();
+        int node = interner.intern(profileId);
+        if (node == before) {
+            ensureCapacity(node + 1);
+            parent[node] = node;
+            size[node] = 1;
+            canonical[node] = node;
+        }
+        return node;
+    }
+
+    /**
+     * Finds a node's cluster root, halving the path on the way up.
+     * Importance: Path compression keeps later lookups near constant time.
+     * Alternatives: Use recursive full path compression at the cost of stack depth.
+     *
+     * @param node the node id.
+     * @return the root node id.
+     */
+    private int find(int node) {
+        int current = node;
+        while (parent[current] != current) {
+            parent[current] = parent[parent[current]];
+            current = parent[current];
+        }
+        return current;
+    }
+
+    /**
+     * Grows the parallel arrays to hold at least the given number of nodes.
+     * Importance: Keeps parent, size, and canonical arrays aligned with interned ids.
+     * Alternatives: Use growable int lists.
+     *
+     * @param required the required capacity.
+     */
+    private void ensureCapacity(int required) {
+        if (required <= parent.length) {
+            return;
+        }
+        int capacity = Math.max(required, parent.length * 2);
+        parent = Arrays.copyOf(parent, capacity);
+        size = Arrays.copyOf(size, capacity);
+        canonical = Arrays.copyOf(canonical, capacity);
+    }
+}
@@ -15,6 +15,8 @@ public class EventPayloadDocument {
     private String id;
     private String tenantId;
     private String eventType;
+    private String profileId;
+    private String correlationId;
     private String payloadJson;
     private Instant ingestedAt;
 
@@ -84,6 +86,50 @@ public class EventPayloadDocument {
         this.eventType = eventType;
     }
 
+    /**
+     * Returns the profile identifier from the event header.
+     * Importance: Lets audits find a profile's events without parsing payloads.
+     * Alternatives: Query inside the payload JSON.
+     *
+     * @return the profile identifier, or null.
+     */
+    public String getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Updates the profile identifier.
+     * Importance: Supports event payload persistence.
+     * Alternatives: Derive the identifier from the payload on read.
+     *
+     * @param profileId the profile identifier.
+     */
+    public void setProfileId(String profileId) {
+        this.profileId = profileId;
+    }
+
+    /**
+     * Returns the correlation identifier from the event header.
+     * Importance: Ties stored events back to the request or ingestion record that produced them.
+     * Alternatives: Correlate on timestamps.
+     *
+     * @return the correlation identifier, or null.
+     */
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    /**
+     * Updates the correlation identifier.
+     * Importance: Supports event payload persistence.
+     * Alternatives: Derive the identifier from the payload on read.
+     *
+     * @param correlationId the correlation identifier.
+     */
+    public void setCorrelationId(String correlationId) {
+        this.correlationId = correlationId;
+    }
+
     /**
      * Returns the payload JSON.
      * Importance: Stores dynamic event payload structures.
@@ -0,0 +1,132 @@
+package com.heritagegraph360.profile.nosql;
+
+import java.time.Instant;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Records that a tenant uploaded a stored evidence blob.
+ * Importance: Gates downloads per tenant and tells compaction which shared blobs are still owned.
+ * Alternatives: Count references inside the blob store.
+ */
+@Document(collection = "evidence_blobs")
+@CompoundIndex(name = "evidence_blob_sha256_idx", def = "{'sha256': 1}")
+public class EvidenceBlobDocument {
+    @Id
+    private String id;
+    private String tenantId;
+    private String sha256;
+    private long sizeBytes;
+    private Instant storedAt;
+
+    /**
+     * Returns the document identifier.
+     * Importance: Deterministic {@code tenantId:sha256} ids make repeated uploads idempotent.
+     * Alternatives: Use generated ObjectIds with a unique index.
+     *
+     * @return the identifier.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Updates the document identifier.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Use generated ObjectIds.
+     *
+     * @param id the identifier.
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the owning tenant.
+     * Importance: Ensures tenant isolation for shared blobs.
+     * Alternatives: Encode the tenant only in the identifier.
+     *
+     * @return the tenant identifier.
+     */
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Updates the owning tenant.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Use constructor injection.
+     *
+     * @param tenantId the tenant identifier.
+     */
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    /**
+     * Returns the lowercase hex SHA-256 of the blob.
+     * Importance: Links the owner to the blob and to evidence records with the same content hash.
+     * Alternatives: Store a blob identifier.
+     *
+     * @return the hash.
+     */
+    public String getSha256() {
+        return sha256;
+    }
+
+    /**
+     * Updates the blob hash.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Use constructor injection.
+     *
+     * @param sha256 the hash.
+     */
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    /**
+     * Returns the blob size.
+     * Importance: Supports per-tenant storage reporting.
+     * Alternatives: Look the size up in the blob store.
+     *
+     * @return the size in bytes.
+     */
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    /**
+     * Updates the blob size.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Use constructor injection.
+     *
+     * @param sizeBytes the size in bytes.
+     */
+    public void setSizeBytes(long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    /**
+     * Returns when the tenant last uploaded the blob.
+     * Importance: Supports audits of evidence uploads.
+     * Alternatives: Rely on audit logs.
+     *
+     * @return the upload time.
+     */
+    public Instant getStoredAt() {
+        return storedAt;
+    }
+
+    /**
+     * Updates the upload time.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Use constructor injection.
+     *
+     * @param storedAt the upload time.
+     */
+    public void setStoredAt(Instant storedAt) {
+        this.storedAt = storedAt;
+    }
+}
@@ -0,0 +1,11 @@
+package com.heritagegraph360.profile.nosql;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+/**
+ * Manages tenant ownership of evidence blobs.
+ * Importance: Persists which tenants may read each shared blob.
+ * Alternatives: Store owners as an array on a per-blob document.
+ */
+public interface EvidenceBlobRepository extends MongoRepository<EvidenceBlobDocument, String> {
+}
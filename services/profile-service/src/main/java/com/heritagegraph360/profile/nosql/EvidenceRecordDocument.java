@@ -2,6 +2,7 @@ package com.heritagegraph360.profile.nosql;
 
 import java.time.Instant;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
@@ -10,6 +11,8 @@ import org.springframework.data.mongodb.core.mapping.Document;
  * Alternatives: Store evidence metadata in SQL with rigid schemas.
  */
 @Document(collection = "evidence_records")
+@CompoundIndex(name = "ux_evidence_tenant_hash", def = "{'tenantId': 1, 'contentHash': 1}", unique = true,
+    partialFilter = "{'contentHash': {'$exists': true}}")
 public class EvidenceRecordDocument {
     @Id
     private String id;
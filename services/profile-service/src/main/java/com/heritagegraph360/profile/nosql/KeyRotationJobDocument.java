@@ -0,0 +1,363 @@
+package com.heritagegraph360.profile.nosql;
+
+import com.heritagegraph360.profile.crypto.KeyRotationStatus;
+import java.time.Instant;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Stores the progress of a tenant's sensitive field key rotation.
+ * Importance: Checkpoints and leases let a rotation over tens of millions of documents survive restarts.
+ * Alternatives: Keep job state in memory and restart rotations from scratch.
+ */
+@Document(collection = "key_rotation_jobs")
+public class KeyRotationJobDocument {
+    @Id
+    private String id;
+    @Version
+    private Long version;
+    private int targetGeneration;
+    private KeyRotationStatus status;
+    private String checkpoint;
+    private long total;
+    private long processed;
+    private long reencrypted;
+    private long failed;
+    private String owner;
+    private Instant leaseUntil;
+    private Instant startedAt;
+    private Instant passStartedAt;
+    private Instant updatedAt;
+    private String error;
+
+    /**
+     * Returns the job identifier, which is the tenant identifier.
+     * Importance: Allows at most one rotation job per tenant.
+     * Alternatives: Use generated job ids.
+     *
+     * @return the identifier.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Updates the id.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Use generated job ids.
+     *
+     * @param id the id.
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the optimistic lock version.
+     * Importance: Makes concurrent lease claims fail instead of two instances running one job.
+     * Alternatives: Claim leases with findAndModify.
+     *
+     * @return the version.
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Updates the version.
+     * Importance: Supports optimistic locking.
+     * Alternatives: Claim leases with findAndModify.
+     *
+     * @param version the version.
+     */
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    /**
+     * Returns the key generation values are re-encrypted to.
+     * Importance: Stays fixed across resumes, so a restarted job never rotates twice.
+     * Alternatives: Re-read the active generation on resume.
+     *
+     * @return the target generation.
+     */
+    public int getTargetGeneration() {
+        return targetGeneration;
+    }
+
+    /**
+     * Updates the target generation.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Re-read the active generation on resume.
+     *
+     * @param targetGeneration the target generation.
+     */
+    public void setTargetGeneration(int targetGeneration) {
+        this.targetGeneration = targetGeneration;
+    }
+
+    /**
+     * Returns the job status.
+     * Importance: Lets clients poll for completion.
+     * Alternatives: Derive status from counters.
+     *
+     * @return the status.
+     */
+    public KeyRotationStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Updates the status.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Derive status from counters.
+     *
+     * @param status the status.
+     */
+    public void setStatus(KeyRotationStatus status) {
+        this.status = status;
+    }
+
+    /**
+     * Returns the last document id whose batch, and every batch before it, was written.
+     * Importance: Resumes the scan without revisiting finished documents.
+     * Alternatives: Restart from the beginning and skip documents already at the target generation.
+     *
+     * @return the checkpoint, or null before the first batch.
+     */
+    public String getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Updates the checkpoint.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Checkpoint by page number.
+     *
+     * @param checkpoint the checkpoint.
+     */
+    public void setCheckpoint(String checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Returns the number of documents that needed re-encryption when the job started.
+     * Importance: Gives progress a denominator.
+     * Alternatives: Report only processed counts.
+     *
+     * @return the total.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Updates the total.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Count on every status read.
+     *
+     * @param total the total.
+     */
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    /**
+     * Returns the number of documents handled so far.
+     * Importance: Tracks progress across resumes.
+     * Alternatives: Count from metrics.
+     *
+     * @return the processed count.
+     */
+    public long getProcessed() {
+        return processed;
+    }
+
+    /**
+     * Updates the processed.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Count from metrics.
+     *
+     * @param processed the processed.
+     */
+    public void setProcessed(long processed) {
+        this.processed = processed;
+    }
+
+    /**
+     * Returns the number of documents re-encrypted and written.
+     * Importance: Separates real rewrites from skipped and conflicting documents.
+     * Alternatives: Report only processed counts.
+     *
+     * @return the re-encrypted count.
+     */
+    public long getReencrypted() {
+        return reencrypted;
+    }
+
+    /**
+     * Updates the reencrypted.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Report only processed counts.
+     *
+     * @param reencrypted the reencrypted.
+     */
+    public void setReencrypted(long reencrypted) {
+        this.reencrypted = reencrypted;
+    }
+
+    /**
+     * Returns the number of documents that could not be decrypted.
+     * Importance: Flags values that will stay under an old key.
+     * Alternatives: Abort the job on the first failure.
+     *
+     * @return the failed count.
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+    /**
+     * Updates the failed.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Abort the job on the first failure.
+     *
+     * @param failed the failed.
+     */
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    /**
+     * Returns the instance currently running the job.
+     * Importance: Shows which replica holds the lease.
+     * Alternatives: Omit ownership.
+     *
+     * @return the owner, or null when unowned.
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * Updates the owner.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Omit ownership.
+     *
+     * @param owner the owner.
+     */
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Returns when the owner's lease lapses.
+     * Importance: Another instance resumes the job once the lease has lapsed.
+     * Alternatives: Use a heartbeat collection.
+     *
+     * @return the lease expiry.
+     */
+    public Instant getLeaseUntil() {
+        return leaseUntil;
+    }
+
+    /**
+     * Updates the lease until.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Use a heartbeat collection.
+     *
+     * @param leaseUntil the lease until.
+     */
+    public void setLeaseUntil(Instant leaseUntil) {
+        this.leaseUntil = leaseUntil;
+    }
+
+    /**
+     * Returns when the key was rotated.
+     * Importance: Other instances may write under the previous key until their key caches expire after this time.
+     * Alternatives: Broadcast rotations to every instance.
+     *
+     * @return the rotation time.
+     */
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Updates the started at.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Broadcast rotations to every instance.
+     *
+     * @param startedAt the started at.
+     */
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * Returns when the current scan pass started from the first document.
+     * Importance: Only a pass that started after other instances' key caches expired can complete the job.
+     * Alternatives: Count passes.
+     *
+     * @return the pass start time.
+     */
+    public Instant getPassStartedAt() {
+        return passStartedAt;
+    }
+
+    /**
+     * Updates the pass started at.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Count passes.
+     *
+     * @param passStartedAt the pass start time.
+     */
+    public void setPassStartedAt(Instant passStartedAt) {
+        this.passStartedAt = passStartedAt;
+    }
+
+    /**
+     * Returns when the job last checkpointed.
+     * Importance: Shows whether a job is making progress.
+     * Alternatives: Use the lease expiry.
+     *
+     * @return the update time.
+     */
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * Updates the updated at.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Use the lease expiry.
+     *
+     * @param updatedAt the updated at.
+     */
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Returns the failure message of a failed job.
+     * Importance: Helps operators decide whether to restart the job.
+     * Alternatives: Log errors only.
+     *
+     * @return the error, or null.
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Updates the error.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Log errors only.
+     *
+     * @param error the error.
+     */
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,24 @@
+package com.heritagegraph360.profile.nosql;
+
+import com.heritagegraph360.profile.crypto.KeyRotationStatus;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+/**
+ * Manages key rotation job checkpoints.
+ * Importance: Persists rotation progress so jobs resume after restarts.
+ * Alternatives: Store job state in PostgreSQL.
+ */
+public interface KeyRotationJobRepository extends MongoRepository<KeyRotationJobDocument, String> {
+    /**
+     * Finds jobs in a status whose lease lapsed before a time.
+     * Importance: Finds jobs orphaned by a crashed or stopped instance.
+     * Alternatives: Resume only on the instance that started the job.
+     *
+     * @param status the job status.
+     * @param time the lease cutoff.
+     * @return the matching jobs.
+     */
+    List<KeyRotationJobDocument> findByStatusAndLeaseUntilBefore(KeyRotationStatus status, Instant time);
+}
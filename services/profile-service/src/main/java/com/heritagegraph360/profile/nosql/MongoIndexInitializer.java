@@ -0,0 +1,60 @@
+package com.heritagegraph360.profile.nosql;
+
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the indexes declared on document classes whose queries or write rules depend on them.
+ * Importance: Spring Boot leaves annotation-driven index creation off, so unique constraints would otherwise never exist.
+ * Alternatives: Enable spring.data.mongodb.auto-index-creation for every document.
+ */
+@Component
+public class MongoIndexInitializer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MongoIndexInitializer.class);
+    private static final List<Class<?>> DOCUMENTS = List.of(EvidenceRecordDocument.class,
+        SensitiveFieldDocument.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Creates the initializer.
+     * Importance: Uses the application's template so indexes land in the configured database.
+     * Alternatives: Open a separate admin client.
+     *
+     * @param mongoTemplate the MongoDB template.
+     */
+    public MongoIndexInitializer(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Ensures every declared index before the first request is served.
+     * Importance: Fails startup when existing duplicates block a unique index instead of running without it.
+     * Alternatives: Log and continue without the index.
+     */
+    @PostConstruct
+    public void ensureIndexes() {
+        IndexResolver resolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+        for (Class<?> document : DOCUMENTS) {
+            IndexOperations indexOps = mongoTemplate.indexOps(document);
+            for (IndexDefinition index : resolver.resolveIndexFor(document)) {
+                try {
+                    String name = indexOps.ensureIndex(index);
+                    LOGGER.info("Ensured MongoDB index {} on {}", name, mongoTemplate.getCollectionName(document));
+                } catch (DataAccessException ex) {
+                    throw new IllegalStateException("Cannot create MongoDB index "
+                        + index.getIndexOptions().get("name") + " on " + mongoTemplate.getCollectionName(document)
+                        + "; remove conflicting documents as described in docs/runbook.md", ex);
+                }
+            }
+        }
+    }
+}
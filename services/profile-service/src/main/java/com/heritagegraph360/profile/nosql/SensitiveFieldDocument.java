@@ -2,6 +2,7 @@ package com.heritagegraph360.profile.nosql;
 
 import java.time.Instant;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
@@ -10,6 +11,7 @@ import org.springframework.data.mongodb.core.mapping.Document;
  * Alternatives: Use a dedicated vault or HSM-backed secrets store.
  */
 @Document(collection = "sensitive_fields")
+@CompoundIndex(name = "tenant_id_idx", def = "{'tenantId': 1, '_id': 1}")
 public class SensitiveFieldDocument {
     @Id
     private String id;
@@ -17,6 +19,7 @@ public class SensitiveFieldDocument {
     private String profileId;
     private String fieldType;
     private String encryptedValue;
+    private Integer keyGeneration;
     private Instant createdAt;
 
     /**
@@ -129,6 +132,28 @@ public class SensitiveFieldDocument {
         this.encryptedValue = encryptedValue;
     }
 
+    /**
+     * Returns the data key generation of the encrypted value.
+     * Importance: Lets the rotation job select values not yet under the target key without decrypting them.
+     * Alternatives: Parse the generation from every ciphertext.
+     *
+     * @return the generation, or null for values written with the legacy global key.
+     */
+    public Integer getKeyGeneration() {
+        return keyGeneration;
+    }
+
+    /**
+     * Updates the data key generation.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Parse the generation from every ciphertext.
+     *
+     * @param keyGeneration the generation.
+     */
+    public void setKeyGeneration(Integer keyGeneration) {
+        this.keyGeneration = keyGeneration;
+    }
+
     /**
      * Returns the creation timestamp.
      * Importance: Supports audit timelines for sensitive data.
@@ -0,0 +1,153 @@
+package com.heritagegraph360.profile.nosql;
+
+import java.time.Instant;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Stores a tenant data key wrapped under a master key.
+ * Importance: Gives every tenant its own encryption keys without keeping plaintext keys at rest.
+ * Alternatives: Store wrapped keys in PostgreSQL.
+ */
+@Document(collection = "tenant_data_keys")
+public class TenantDataKeyDocument {
+    @Id
+    private String id;
+    private String tenantId;
+    private int generation;
+    private String masterKeyAlias;
+    private String wrappedKey;
+    private Instant createdAt;
+
+    /**
+     * Returns the document identifier.
+     * Importance: Deterministic {@code tenantId:generation} ids make concurrent key creation collide.
+     * Alternatives: Use generated ObjectIds.
+     *
+     * @return the identifier.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Updates the document identifier.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Use generated ObjectIds.
+     *
+     * @param id the identifier.
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the owning tenant.
+     * Importance: Scopes key lookups to one tenant.
+     * Alternatives: Parse the tenant from the id.
+     *
+     * @return the tenant identifier.
+     */
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Updates the owning tenant.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Parse the tenant from the id.
+     *
+     * @param tenantId the tenant identifier.
+     */
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    /**
+     * Returns the key generation.
+     * Importance: The highest generation is the tenant's active key.
+     * Alternatives: Store an active flag.
+     *
+     * @return the generation.
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Updates the key generation.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Parse the generation from the id.
+     *
+     * @param generation the generation.
+     */
+    public void setGeneration(int generation) {
+        this.generation = generation;
+    }
+
+    /**
+     * Returns the alias of the master key that wrapped this key.
+     * Importance: Lets data keys outlive master key changes.
+     * Alternatives: Re-wrap every data key when the master key changes.
+     *
+     * @return the master key alias.
+     */
+    public String getMasterKeyAlias() {
+        return masterKeyAlias;
+    }
+
+    /**
+     * Updates the master key alias.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Assume a single master key.
+     *
+     * @param masterKeyAlias the alias.
+     */
+    public void setMasterKeyAlias(String masterKeyAlias) {
+        this.masterKeyAlias = masterKeyAlias;
+    }
+
+    /**
+     * Returns the wrapped key as Base64 of IV, ciphertext, and tag.
+     * Importance: Only the master key can recover the data key.
+     * Alternatives: Use AES key wrap (RFC 3394).
+     *
+     * @return the wrapped key.
+     */
+    public String getWrappedKey() {
+        return wrappedKey;
+    }
+
+    /**
+     * Updates the wrapped key.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Store binary data.
+     *
+     * @param wrappedKey the wrapped key.
+     */
+    public void setWrappedKey(String wrappedKey) {
+        this.wrappedKey = wrappedKey;
+    }
+
+    /**
+     * Returns the creation time.
+     * Importance: Supports key age reporting and rotation policies.
+     * Alternatives: Derive age from the ObjectId.
+     *
+     * @return the creation time.
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Updates the creation time.
+     * Importance: Supports MongoDB document persistence.
+     * Alternatives: Use database-generated timestamps.
+     *
+     * @param createdAt the creation time.
+     */
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,21 @@
+package com.heritagegraph360.profile.nosql;
+
+import java.util.Optional;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+/**
+ * Manages wrapped tenant data keys.
+ * Importance: Persists the per-tenant keys used for sensitive-field encryption.
+ * Alternatives: Keep keys in a dedicated key service.
+ */
+public interface TenantDataKeyRepository extends MongoRepository<TenantDataKeyDocument, String> {
+    /**
+     * Finds a tenant's newest key generation.
+     * Importance: Resolves the active key used for new encryptions.
+     * Alternatives: Track the active generation in a separate document.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the newest key, if any.
+     */
+    Optional<TenantDataKeyDocument> findFirstByTenantIdOrderByGenerationDesc(String tenantId);
+}
@@ -0,0 +1,175 @@
+package com.heritagegraph360.profile.pedigree;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Holds one profile's ancestors as one bitset per generation over a {@link PedigreeGraph}.
+ * Importance: Turns common-ancestor questions into bitset intersections that cost a few words per 64 profiles.
+ * Alternatives: Keep hash sets of ancestor identifiers.
+ */
+final class AncestorLevels {
+    private final int root;
+    private final BitSet[] generations;
+    private final BitSet reach;
+    private final PedigreeCollapse collapse;
+
+    /**
+     * Creates ancestor levels.
+     * Importance: Captures one member's result for reuse by every pair it takes part in.
+     * Alternatives: Recompute per pair.
+     *
+     * @param root the analysed node.
+     * @param generations the ancestors at each generation, index 0 holding the root.
+     * @param reach the root and all its ancestors.
+     * @param collapse the root's collapse summary.
+     */
+    private AncestorLevels(int root, BitSet[] generations, BitSet reach, PedigreeCollapse collapse) {
+        this.root = root;
+        this.generations = generations;
+        this.reach = reach;
+        this.collapse = collapse;
+    }
+
+    /**
+     * Expands a profile's ancestors generation by generation, counting the lines that reach each one.
+     * Importance: Carries line counts instead of paths, so an ancestor reached through many lines is expanded
+     * once per generation rather than once per line.
+     * Alternatives: Enumerate every ancestral path.
+     *
+     * @param graph the loaded pedigree.
+     * @param root the analysed node.
+     * @param depth the number of generations.
+     * @param maxReported the maximum number of repeated ancestors to list.
+     * @return the ancestor levels.
+     */
+    static AncestorLevels compute(PedigreeGraph graph, int root, int depth, int maxReported) {
+        BitSet[] generations = new BitSet[depth + 1];
+        long[] current = new long[graph.size()];
+        long[] next = new long[graph.size()];
+        long[] lines = new long[graph.size()];
+        int[] nearest = new int[graph.size()];
+        List<GenerationCollapse> summaries = new ArrayList<>(depth);
+        BitSet reach = new BitSet(graph.size());
+        BitSet ancestors = new BitSet(graph.size());
+        long totalSlots = 0;
+        generations[0] = new BitSet(graph.size());
+        generations[0].set(root);
+        reach.set(root);
+        current[root] = 1;
+        int generation = 1;
+        for (; generation <= depth; generation++) {
+            BitSet level = new BitSet(graph.size());
+            long slots = 0;
+            BitSet previous = generations[generation - 1];
+            for (int node = previous.nextSetBit(0); node >= 0; node = previous.nextSetBit(node + 1)) {
+                long count = current[node];
+                current[node] = 0;
+                for (int parent : graph.parents(node)) {
+                    next[parent] = saturatedAdd(next[parent], count);
+                    slots = saturatedAdd(slots, count);
+                    level.set(parent);
+                }
+            }
+            if (level.isEmpty()) {
+                break;
+            }
+            for (int node = level.nextSetBit(0); node >= 0; node = level.nextSetBit(node + 1)) {
+                if (!ancestors.get(node)) {
+                    nearest[node] = generation;
+                }
+                lines[node] = saturatedAdd(lines[node], next[node]);
+            }
+            long[] swap = current;
+            current = next;
+            next = swap;
+            generations[generation] = level;
+            reach.or(level);
+            ancestors.or(level);
+            ancestors.clear(root);
+            totalSlots = saturatedAdd(totalSlots, slots);
+            summaries.add(new GenerationCollapse(generation, slots, level.cardinality()));
+        }
+        for (int unused = generation; unused <= depth; unused++) {
+            generations[unused] = new BitSet();
+        }
+        List<RepeatedAncestor> repeated = new ArrayList<>();
+        for (int node = ancestors.nextSetBit(0); node >= 0; node = ancestors.nextSetBit(node + 1)) {
+            if (lines[node] > 1) {
+                repeated.add(new RepeatedAncestor(graph.profileId(node), nearest[node], lines[node]));
+            }
+        }
+        repeated.sort(Comparator.comparingLong(RepeatedAncestor::getLines).reversed()
+            .thenComparingInt(RepeatedAncestor::getNearestGeneration)
+            .thenComparing(RepeatedAncestor::getProfileId));
+        PedigreeCollapse collapse = new PedigreeCollapse(graph.profileId(root), summaries, ancestors.cardinality(),
+            totalSlots, repeated.subList(0, Math.min(repeated.size(), maxReported)));
+        return new AncestorLevels(root, generations, reach, collapse);
+    }
+
+    /**
+     * Returns the analysed node.
+     * Importance: Identifies the member.
+     * Alternatives: Track members by list position.
+     *
+     * @return the node.
+     */
+    int root() {
+        return root;
+    }
+
+    /**
+     * Returns the root and all its ancestors.
+     * Importance: The operand of common-ancestor intersections.
+     * Alternatives: Union the generation bitsets per query.
+     *
+     * @return the reach bitset; callers must not modify it.
+     */
+    BitSet reach() {
+        return reach;
+    }
+
+    /**
+     * Returns the collapse summary.
+     * Importance: Computed in the same pass as the bitsets.
+     * Alternatives: Recompute on request.
+     *
+     * @return the collapse summary.
+     */
+    PedigreeCollapse collapse() {
+        return collapse;
+    }
+
+    /**
+     * Returns the nearest generation a node appears at.
+     * Importance: Gives the distance from the member to a common ancestor.
+     * Alternatives: Store a distance per node.
+     *
+     * @param node the node.
+     * @return the generation, 0 for the root, or -1 when the node is not an ancestor.
+     */
+    int nearestGeneration(int node) {
+        for (int generation = 0; generation < generations.length; generation++) {
+            if (generations[generation].get(node)) {
+                return generation;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds two non-negative counts, saturating instead of overflowing.
+     * Importance: Line counts double per generation on malformed multi-parent data.
+     * Alternatives: Use BigInteger.
+     *
+     * @param left the first count.
+     * @param right the second count.
+     * @return the sum, at most Long.MAX_VALUE.
+     */
+    private static long saturatedAdd(long left, long right) {
+        long sum = left + right;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+}
@@ -0,0 +1,105 @@
+package com.heritagegraph360.profile.pedigree;
+
+import java.util.List;
+
+/**
+ * Holds the result of analysing one or more profiles' pedigrees together.
+ * Importance: Serves single-profile, pair, and cohort queries from one engine.
+ * Alternatives: Use a separate result type per query shape.
+ */
+public class CohortAnalysis {
+    private final List<PedigreeCollapse> members;
+    private final List<CommonAncestor> commonAncestors;
+    private final List<CommonAncestorPair> pairs;
+    private final int generations;
+    private final int profilesLoaded;
+    private final boolean truncated;
+
+    /**
+     * Creates a cohort analysis.
+     * Importance: Captures one analysis in an immutable value.
+     * Alternatives: Use a mutable bean.
+     *
+     * @param members the per-member collapse summaries, in request order.
+     * @param commonAncestors the most recent ancestors shared by every member.
+     * @param pairs the member pairs that share an ancestor.
+     * @param generations the number of generations analysed.
+     * @param profilesLoaded the distinct profiles loaded for the analysis.
+     * @param truncated whether the profile limit cut the pedigrees short.
+     */
+    public CohortAnalysis(List<PedigreeCollapse> members, List<CommonAncestor> commonAncestors,
+                          List<CommonAncestorPair> pairs, int generations, int profilesLoaded, boolean truncated) {
+        this.members = List.copyOf(members);
+        this.commonAncestors = List.copyOf(commonAncestors);
+        this.pairs = List.copyOf(pairs);
+        this.generations = generations;
+        this.profilesLoaded = profilesLoaded;
+        this.truncated = truncated;
+    }
+
+    /**
+     * Returns the per-member collapse summaries.
+     * Importance: Compares collapse across the cohort.
+     * Alternatives: Return collapse only on request.
+     *
+     * @return the summaries in request order.
+     */
+    public List<PedigreeCollapse> getMembers() {
+        return members;
+    }
+
+    /**
+     * Returns the most recent ancestors shared by every member.
+     * Importance: Answers "who do all of these people descend from?".
+     * Alternatives: Intersect pair results client-side.
+     *
+     * @return the ancestors, nearest first; empty for a single member.
+     */
+    public List<CommonAncestor> getCommonAncestors() {
+        return commonAncestors;
+    }
+
+    /**
+     * Returns the member pairs that share an ancestor.
+     * Importance: Maps the relatedness inside a cohort.
+     * Alternatives: Return a full pair matrix including unrelated pairs.
+     *
+     * @return the related pairs in request order.
+     */
+    public List<CommonAncestorPair> getPairs() {
+        return pairs;
+    }
+
+    /**
+     * Returns the number of generations analysed.
+     * Importance: Echoes the depth after defaults and caps.
+     * Alternatives: Omit it.
+     *
+     * @return the generations.
+     */
+    public int getGenerations() {
+        return generations;
+    }
+
+    /**
+     * Returns the distinct profiles loaded for the analysis.
+     * Importance: Helps size the profile limit.
+     * Alternatives: Only log it.
+     *
+     * @return the profile count.
+     */
+    public int getProfilesLoaded() {
+        return profilesLoaded;
+    }
+
+    /**
+     * Returns whether the profile limit cut the pedigrees short.
+     * Importance: Warns that deeper ancestors and collapse may be missing.
+     * Alternatives: Fail the analysis instead.
+     *
+     * @return true when truncated.
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -0,0 +1,50 @@
+package com.heritagegraph360.profile.pedigree;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Describes a most recent common ancestor of two or more profiles.
+ * Importance: Carries the ancestor and how far back it sits from each compared profile.
+ * Alternatives: Return bare profile identifiers.
+ */
+public class CommonAncestor {
+    private final UUID profileId;
+    private final List<Integer> generations;
+
+    /**
+     * Creates a common ancestor.
+     * Importance: Captures one result in an immutable value.
+     * Alternatives: Use a mutable bean.
+     *
+     * @param profileId the ancestor.
+     * @param generations the nearest generation from each compared profile, in request order; 0 when the
+     *     compared profile is the ancestor itself.
+     */
+    public CommonAncestor(UUID profileId, List<Integer> generations) {
+        this.profileId = profileId;
+        this.generations = List.copyOf(generations);
+    }
+
+    /**
+     * Returns the ancestor.
+     * Importance: Identifies the shared profile.
+     * Alternatives: Return interned node ids.
+     *
+     * @return the profile identifier.
+     */
+    public UUID getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Returns the nearest generation from each compared profile.
+     * Importance: Lets clients name the relationship, for example second cousins at 3 and 3.
+     * Alternatives: Return only the sum.
+     *
+     * @return the generations in request order.
+     */
+    public List<Integer> getGenerations() {
+        return generations;
+    }
+}
@@ -0,0 +1,63 @@
+package com.heritagegraph360.profile.pedigree;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Describes the most recent common ancestors of two cohort members.
+ * Importance: Lets cohort analyses report every related pair in one pass.
+ * Alternatives: Have clients issue one pair query per combination.
+ */
+public class CommonAncestorPair {
+    private final UUID firstProfileId;
+    private final UUID secondProfileId;
+    private final List<CommonAncestor> ancestors;
+
+    /**
+     * Creates a pair result.
+     * Importance: Captures one pair in an immutable value.
+     * Alternatives: Use a map keyed by both profiles.
+     *
+     * @param firstProfileId the earlier member in request order.
+     * @param secondProfileId the later member in request order.
+     * @param ancestors the pair's most recent common ancestors, nearest first.
+     */
+    public CommonAncestorPair(UUID firstProfileId, UUID secondProfileId, List<CommonAncestor> ancestors) {
+        this.firstProfileId = firstProfileId;
+        this.secondProfileId = secondProfileId;
+        this.ancestors = List.copyOf(ancestors);
+    }
+
+    /**
+     * Returns the earlier member.
+     * Importance: Identifies the pair.
+     * Alternatives: Return member indexes.
+     *
+     * @return the profile identifier.
+     */
+    public UUID getFirstProfileId() {
+        return firstProfileId;
+    }
+
+    /**
+     * Returns the later member.
+     * Importance: Identifies the pair.
+     * Alternatives: Return member indexes.
+     *
+     * @return the profile identifier.
+     */
+    public UUID getSecondProfileId() {
+        return secondProfileId;
+    }
+
+    /**
+     * Returns the pair's most recent common ancestors.
+     * Importance: Usually one couple; more suggests several independent connections.
+     * Alternatives: Return only the nearest one.
+     *
+     * @return the ancestors, nearest first.
+     */
+    public List<CommonAncestor> getAncestors() {
+        return ancestors;
+    }
+}
@@ -0,0 +1,71 @@
+package com.heritagegraph360.profile.pedigree;
+
+/**
+ * Describes one generation of a pedigree: how many lines reach it and how many distinct ancestors fill them.
+ * Importance: Shows where in a pedigree the same ancestors start filling several slots.
+ * Alternatives: Report only a whole-pedigree collapse factor.
+ */
+public class GenerationCollapse {
+    private final int generation;
+    private final long slots;
+    private final int ancestors;
+
+    /**
+     * Creates a generation summary.
+     * Importance: Captures one generation in an immutable value.
+     * Alternatives: Use parallel arrays.
+     *
+     * @param generation the generation, 1 for parents.
+     * @param slots the number of ancestral lines reaching the generation.
+     * @param ancestors the number of distinct profiles at the generation.
+     */
+    public GenerationCollapse(int generation, long slots, int ancestors) {
+        this.generation = generation;
+        this.slots = slots;
+        this.ancestors = ancestors;
+    }
+
+    /**
+     * Returns the generation.
+     * Importance: Orders the summaries.
+     * Alternatives: Rely on list position.
+     *
+     * @return the generation, 1 for parents.
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the number of ancestral lines reaching the generation.
+     * Importance: Counts only recorded parents, so missing data is not mistaken for collapse.
+     * Alternatives: Compare against the theoretical 2^generation slots.
+     *
+     * @return the slot count, saturating at Long.MAX_VALUE.
+     */
+    public long getSlots() {
+        return slots;
+    }
+
+    /**
+     * Returns the number of distinct profiles at the generation.
+     * Importance: The gap between slots and ancestors is the collapse.
+     * Alternatives: Return the profiles themselves.
+     *
+     * @return the ancestor count.
+     */
+    public int getAncestors() {
+        return ancestors;
+    }
+
+    /**
+     * Returns the share of slots filled by an ancestor who already fills another slot.
+     * Importance: Gives genealogists the usual collapse percentage per generation.
+     * Alternatives: Let clients divide.
+     *
+     * @return the collapse factor between 0 and 1.
+     */
+    public double getCollapseFactor() {
+        return PedigreeCollapse.collapseFactor(ancestors, slots);
+    }
+}
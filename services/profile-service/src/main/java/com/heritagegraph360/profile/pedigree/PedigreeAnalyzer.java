@@ -0,0 +1,245 @@
+package com.heritagegraph360.profile.pedigree;
+
+import com.heritagegraph360.profile.config.PedigreeProperties;
+import com.heritagegraph360.profile.graph.LineageGraphIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * Computes pedigree collapse and most recent common ancestors from the lineage index.
+ * Importance: Answers genealogists' collapse and common-ancestor questions online instead of from database dumps.
+ * Alternatives: Precompute statistics for every profile in a batch job.
+ *
+ * <p>An analysis loads the members' ancestors once into a {@link PedigreeGraph}, builds per-generation
+ * ancestor bitsets for each member in parallel, and then intersects those bitsets for every pair in parallel.
+ * A common ancestor is most recent when none of its children is also a common ancestor.</p>
+ */
+@Component
+public class PedigreeAnalyzer {
+    private final LineageGraphIndex lineageGraphIndex;
+    private final PedigreeProperties properties;
+    private final ExecutorService executor;
+    private final Counter complete;
+    private final Counter truncated;
+    private final Timer latency;
+
+    /**
+     * Creates the pedigree analyzer.
+     * Importance: Connects analyses to the lineage index, a bounded worker pool, and metrics.
+     * Alternatives: Use the common fork-join pool.
+     *
+     * @param lineageGraphIndex the in-memory lineage index.
+     * @param properties the pedigree properties.
+     * @param meterRegistry the meter registry.
+     */
+    public PedigreeAnalyzer(LineageGraphIndex lineageGraphIndex,
+                            PedigreeProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.lineageGraphIndex = lineageGraphIndex;
+        this.properties = properties;
+        this.executor = Executors.newFixedThreadPool(Math.max(1, properties.getParallelism()));
+        this.complete = analyses(meterRegistry, "complete");
+        this.truncated = analyses(meterRegistry, "truncated");
+        this.latency = Timer.builder("pedigree.analysis.latency")
+            .description("Time to analyse one profile, pair, or cohort")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Analyses one or more profiles' pedigrees together.
+     * Importance: Serves single-profile collapse, pair, and cohort queries with one load of the shared ancestry.
+     * Alternatives: Run one query per profile and pair.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileIds the distinct profiles to analyse, at most the configured cohort size.
+     * @param generations the requested depth, or null for the default; capped by configuration.
+     * @return the analysis.
+     */
+    public CohortAnalysis analyze(String tenantId, List<UUID> profileIds, Integer generations) {
+        if (profileIds == null || profileIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one profile is required");
+        }
+        if (profileIds.size() > properties.getMaxCohortSize()) {
+            throw new IllegalArgumentException("Cohort exceeds " + properties.getMaxCohortSize() + " profiles");
+        }
+        Set<UUID> distinct = new HashSet<>(profileIds);
+        if (distinct.size() != profileIds.size() || distinct.contains(null)) {
+            throw new IllegalArgumentException("Profiles must be distinct");
+        }
+        int depth = generations == null ? properties.getDefaultGenerations()
+            : Math.max(1, Math.min(generations, properties.getMaxGenerations()));
+        long started = System.nanoTime();
+        PedigreeGraph graph = PedigreeGraph.load(lineageGraphIndex, tenantId, profileIds, depth,
+            Math.max(properties.getMaxAncestors(), profileIds.size()));
+        List<Callable<AncestorLevels>> memberTasks = new ArrayList<>(profileIds.size());
+        for (int i = 0; i < profileIds.size(); i++) {
+            int root = i;
+            memberTasks.add(() -> AncestorLevels.compute(graph, root, depth, properties.getMaxReportedAncestors()));
+        }
+        List<AncestorLevels> members = fanOut(memberTasks);
+        List<Callable<List<CommonAncestorPair>>> pairTasks = new ArrayList<>();
+        for (int i = 0; i < members.size() - 1; i++) {
+            int first = i;
+            pairTasks.add(() -> pairsFrom(graph, members, first));
+        }
+        List<CommonAncestorPair> pairs = new ArrayList<>();
+        for (List<CommonAncestorPair> row : fanOut(pairTasks)) {
+            pairs.addAll(row);
+        }
+        List<PedigreeCollapse> collapses = new ArrayList<>(members.size());
+        for (AncestorLevels member : members) {
+            collapses.add(member.collapse());
+        }
+        List<CommonAncestor> shared = members.size() < 2 ? List.of() : mostRecent(graph, members);
+        latency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        if (graph.isTruncated()) {
+            truncated.increment();
+        } else {
+            complete.increment();
+        }
+        return new CohortAnalysis(collapses, shared, pairs, depth, graph.size(), graph.isTruncated());
+    }
+
+    /**
+     * Stops the worker threads.
+     * Importance: Lets the application shut down cleanly.
+     * Alternatives: Let the JVM kill the threads.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Finds the related pairs between one member and every later member.
+     * Importance: Splits the pair matrix into rows that run in parallel.
+     * Alternatives: Submit one task per pair.
+     *
+     * @param graph the loaded pedigree.
+     * @param members the members' ancestor levels.
+     * @param first the row's member index.
+     * @return the pairs sharing at least one ancestor.
+     */
+    private List<CommonAncestorPair> pairsFrom(PedigreeGraph graph, List<AncestorLevels> members, int first) {
+        List<CommonAncestorPair> pairs = new ArrayList<>();
+        AncestorLevels left = members.get(first);
+        for (int second = first + 1; second < members.size(); second++) {
+            AncestorLevels right = members.get(second);
+            if (!left.reach().intersects(right.reach())) {
+                continue;
+            }
+            pairs.add(new CommonAncestorPair(graph.profileId(left.root()), graph.profileId(right.root()),
+                mostRecent(graph, List.of(left, right))));
+        }
+        return pairs;
+    }
+
+    /**
+     * Finds the most recent ancestors shared by every given member.
+     * Importance: Any ancestor of a common ancestor is also common, so dropping common ancestors that are a
+     * parent of another common ancestor leaves exactly the most recent ones.
+     * Alternatives: Compare generation distances to pick the nearest.
+     *
+     * @param graph the loaded pedigree.
+     * @param members the members to intersect.
+     * @return the most recent common ancestors, nearest first, capped by configuration.
+     */
+    private List<CommonAncestor> mostRecent(PedigreeGraph graph, List<AncestorLevels> members) {
+        BitSet common = (BitSet) members.get(0).reach().clone();
+        for (int i = 1; i < members.size(); i++) {
+            common.and(members.get(i).reach());
+        }
+        BitSet older = new BitSet(graph.size());
+        for (int node = common.nextSetBit(0); node >= 0; node = common.nextSetBit(node + 1)) {
+            for (int parent : graph.parents(node)) {
+                if (common.get(parent)) {
+                    older.set(parent);
+                }
+            }
+        }
+        common.andNot(older);
+        List<CommonAncestor> ancestors = new ArrayList<>(common.cardinality());
+        for (int node = common.nextSetBit(0); node >= 0; node = common.nextSetBit(node + 1)) {
+            List<Integer> distances = new ArrayList<>(members.size());
+            for (AncestorLevels member : members) {
+                distances.add(member.nearestGeneration(node));
+            }
+            ancestors.add(new CommonAncestor(graph.profileId(node), distances));
+        }
+        ancestors.sort(Comparator.comparingInt((CommonAncestor ancestor) -> sum(ancestor.getGenerations()))
+            .thenComparing(CommonAncestor::getProfileId));
+        return ancestors.subList(0, Math.min(ancestors.size(), properties.getMaxReportedAncestors()));
+    }
+
+    /**
+     * Runs tasks on the worker pool and collects their results in order.
+     * Importance: Fans cohort work out across cores while keeping results aligned with members.
+     * Alternatives: Use parallel streams.
+     *
+     * @param tasks the tasks.
+     * @param <T> the result type.
+     * @return the results in task order.
+     */
+    private <T> List<T> fanOut(List<Callable<T>> tasks) {
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Pedigree analysis interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Pedigree analysis failed", ex.getCause());
+        }
+        return results;
+    }
+
+    /**
+     * Sums generation distances.
+     * Importance: Orders common ancestors nearest first.
+     * Alternatives: Order by the largest distance.
+     *
+     * @param generations the distances.
+     * @return the sum.
+     */
+    private static int sum(List<Integer> generations) {
+        int total = 0;
+        for (int generation : generations) {
+            total += generation;
+        }
+        return total;
+    }
+
+    /**
+     * Builds the analysis counter for an outcome.
+     * Importance: Tags analysis results consistently.
+     * Alternatives: Use one counter per outcome name.
+     *
+     * @param meterRegistry the meter registry.
+     * @param result the outcome tag.
+     * @return the counter.
+     */
+    private static Counter analyses(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("pedigree.analyses")
+            .description("Pedigree analyses by outcome")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,116 @@
+package com.heritagegraph360.profile.pedigree;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Summarizes pedigree collapse for one profile.
+ * Importance: Quantifies how often the same ancestors recur across a pedigree.
+ * Alternatives: Compute collapse offline from relationship dumps.
+ */
+public class PedigreeCollapse {
+    private final UUID profileId;
+    private final List<GenerationCollapse> generations;
+    private final int ancestors;
+    private final long slots;
+    private final List<RepeatedAncestor> repeatedAncestors;
+
+    /**
+     * Creates a collapse summary.
+     * Importance: Captures one profile's result in an immutable value.
+     * Alternatives: Use a mutable bean.
+     *
+     * @param profileId the analysed profile.
+     * @param generations the per-generation summaries, parents first.
+     * @param ancestors the number of distinct ancestors across all generations.
+     * @param slots the number of ancestral lines across all generations.
+     * @param repeatedAncestors the ancestors reached through more than one line, most lines first.
+     */
+    public PedigreeCollapse(UUID profileId, List<GenerationCollapse> generations, int ancestors, long slots,
+                            List<RepeatedAncestor> repeatedAncestors) {
+        this.profileId = profileId;
+        this.generations = List.copyOf(generations);
+        this.ancestors = ancestors;
+        this.slots = slots;
+        this.repeatedAncestors = List.copyOf(repeatedAncestors);
+    }
+
+    /**
+     * Returns the analysed profile.
+     * Importance: Identifies the result within a cohort.
+     * Alternatives: Rely on list position.
+     *
+     * @return the profile identifier.
+     */
+    public UUID getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Returns the per-generation summaries.
+     * Importance: Shows where collapse begins.
+     * Alternatives: Return only totals.
+     *
+     * @return the summaries, parents first.
+     */
+    public List<GenerationCollapse> getGenerations() {
+        return generations;
+    }
+
+    /**
+     * Returns the number of distinct ancestors.
+     * Importance: An ancestor found at several generations counts once.
+     * Alternatives: Sum the per-generation counts.
+     *
+     * @return the ancestor count.
+     */
+    public int getAncestors() {
+        return ancestors;
+    }
+
+    /**
+     * Returns the number of ancestral lines across all generations.
+     * Importance: The denominator of the collapse factor.
+     * Alternatives: Use theoretical slot counts.
+     *
+     * @return the slot count, saturating at Long.MAX_VALUE.
+     */
+    public long getSlots() {
+        return slots;
+    }
+
+    /**
+     * Returns the share of all slots filled by a repeated ancestor.
+     * Importance: Gives one comparable number per profile.
+     * Alternatives: Report only per-generation factors.
+     *
+     * @return the collapse factor between 0 and 1.
+     */
+    public double getCollapseFactor() {
+        return collapseFactor(ancestors, slots);
+    }
+
+    /**
+     * Returns the ancestors reached through more than one line.
+     * Importance: Names the profiles behind the collapse.
+     * Alternatives: Report only counts.
+     *
+     * @return the repeated ancestors, most lines first, capped by configuration.
+     */
+    public List<RepeatedAncestor> getRepeatedAncestors() {
+        return repeatedAncestors;
+    }
+
+    /**
+     * Computes a collapse factor.
+     * Importance: Keeps the per-generation and total factors consistent.
+     * Alternatives: Duplicate the arithmetic.
+     *
+     * @param ancestors the distinct ancestors.
+     * @param slots the ancestral lines.
+     * @return 1 - ancestors / slots, or 0 when there are no slots.
+     */
+    static double collapseFactor(int ancestors, long slots) {
+        return slots == 0 ? 0.0 : 1.0 - (double) ancestors / slots;
+    }
+}
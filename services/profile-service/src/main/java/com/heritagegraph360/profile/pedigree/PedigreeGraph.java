@@ -0,0 +1,149 @@
+package com.heritagegraph360.profile.pedigree;
+
+import com.heritagegraph360.profile.graph.LineageDirection;
+import com.heritagegraph360.profile.graph.LineageEntry;
+import com.heritagegraph360.profile.graph.LineageGraphIndex;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Holds the ancestors of a set of profiles, numbered densely for bitset work.
+ * Importance: Looks up each shared ancestor's parents once per analysis, however many members and lines reach it.
+ * Alternatives: Walk the lineage index separately for every member.
+ *
+ * <p>Read-only once loaded, so member and pair computations can share it across threads.</p>
+ */
+final class PedigreeGraph {
+    private static final int[] NO_PARENTS = new int[0];
+
+    private final List<UUID> profileIds = new ArrayList<>();
+    private final Map<UUID, Integer> nodes = new HashMap<>();
+    private int[][] parents = new int[16][];
+    private boolean truncated;
+
+    /**
+     * Creates an empty pedigree graph.
+     * Importance: Forces construction through {@link #load}.
+     * Alternatives: Expose a public constructor.
+     */
+    private PedigreeGraph() {
+    }
+
+    /**
+     * Loads the ancestors of the given profiles, generation by generation, from the lineage index.
+     * Importance: Expands every profile at the nearest generation any root reaches it, so each is read once.
+     * Alternatives: Load each root's ancestors separately.
+     *
+     * @param index the lineage index.
+     * @param tenantId the tenant identifier.
+     * @param roots the analysed profiles; they become nodes 0 to roots.size() - 1.
+     * @param generations the number of generations to load.
+     * @param maxProfiles the maximum number of profiles to load.
+     * @return the loaded graph.
+     */
+    static PedigreeGraph load(LineageGraphIndex index, String tenantId, List<UUID> roots, int generations,
+                              int maxProfiles) {
+        PedigreeGraph graph = new PedigreeGraph();
+        List<Integer> frontier = new ArrayList<>(roots.size());
+        for (UUID root : roots) {
+            frontier.add(graph.node(root));
+        }
+        for (int generation = 0; generation < generations && !frontier.isEmpty(); generation++) {
+            List<Integer> next = new ArrayList<>();
+            for (int node : frontier) {
+                List<LineageEntry> entries = index.relatives(tenantId, graph.profileIds.get(node),
+                    LineageDirection.ANCESTORS);
+                int[] found = new int[entries.size()];
+                int count = 0;
+                for (LineageEntry entry : entries) {
+                    Integer parent = graph.nodes.get(entry.getProfileId());
+                    if (parent == null) {
+                        if (graph.size() >= maxProfiles) {
+                            graph.truncated = true;
+                            continue;
+                        }
+                        parent = graph.node(entry.getProfileId());
+                        next.add(parent);
+                    }
+                    found[count++] = parent;
+                }
+                graph.parents[node] = count == found.length ? found : Arrays.copyOf(found, count);
+            }
+            frontier = next;
+        }
+        return graph;
+    }
+
+    /**
+     * Returns the number of loaded profiles.
+     * Importance: Sizes bitsets and per-node arrays.
+     * Alternatives: Expose the identifier list.
+     *
+     * @return the profile count.
+     */
+    int size() {
+        return profileIds.size();
+    }
+
+    /**
+     * Returns a node's parents.
+     * Importance: Drives generation-by-generation expansion.
+     * Alternatives: Return a list of boxed integers.
+     *
+     * @param node the node.
+     * @return the parent nodes; empty when none are recorded or the node was not expanded.
+     */
+    int[] parents(int node) {
+        int[] found = parents[node];
+        return found == null ? NO_PARENTS : found;
+    }
+
+    /**
+     * Returns a node's profile identifier.
+     * Importance: Maps results back to profiles.
+     * Alternatives: Keep a reverse map in each result.
+     *
+     * @param node the node.
+     * @return the profile identifier.
+     */
+    UUID profileId(int node) {
+        return profileIds.get(node);
+    }
+
+    /**
+     * Returns whether the profile limit stopped the load early.
+     * Importance: Flags results that may miss deeper ancestors.
+     * Alternatives: Fail the analysis.
+     *
+     * @return true when truncated.
+     */
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Returns a profile's node, numbering it when first seen.
+     * Importance: Keeps node numbers dense so bitsets stay small.
+     * Alternatives: Use the lineage index's tenant-wide node numbers.
+     *
+     * @param profileId the profile identifier.
+     * @return the node.
+     */
+    private int node(UUID profileId) {
+        Integer existing = nodes.get(profileId);
+        if (existing != null) {
+            return existing;
+        }
+        int node = profileIds.size();
+        profileIds.add(profileId);
+        nodes.put(profileId, node);
+        if (node == parents.length) {
+            parents = Arrays.copyOf(parents, node * 2);
+        }
+        return node;
+    }
+}
@@ -0,0 +1,62 @@
+package com.heritagegraph360.profile.pedigree;
+
+import java.util.UUID;
+
+/**
+ * Describes an ancestor reached through more than one line.
+ * Importance: Names the profiles responsible for pedigree collapse.
+ * Alternatives: Report only collapse counts.
+ */
+public class RepeatedAncestor {
+    private final UUID profileId;
+    private final int nearestGeneration;
+    private final long lines;
+
+    /**
+     * Creates a repeated ancestor.
+     * Importance: Captures one collapsed ancestor in an immutable value.
+     * Alternatives: Use a map of profile to line count.
+     *
+     * @param profileId the ancestor.
+     * @param nearestGeneration the closest generation the ancestor appears at.
+     * @param lines the number of distinct lines reaching the ancestor.
+     */
+    public RepeatedAncestor(UUID profileId, int nearestGeneration, long lines) {
+        this.profileId = profileId;
+        this.nearestGeneration = nearestGeneration;
+        this.lines = lines;
+    }
+
+    /**
+     * Returns the ancestor.
+     * Importance: Identifies the collapsed profile.
+     * Alternatives: Return interned node ids.
+     *
+     * @return the profile identifier.
+     */
+    public UUID getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Returns the closest generation the ancestor appears at.
+     * Importance: Near collapse usually means a cousin marriage worth reviewing.
+     * Alternatives: Return every generation.
+     *
+     * @return the generation, 1 for parents.
+     */
+    public int getNearestGeneration() {
+        return nearestGeneration;
+    }
+
+    /**
+     * Returns the number of distinct lines reaching the ancestor.
+     * Importance: Ranks ancestors by how much of the pedigree they fill.
+     * Alternatives: Return a boolean flag.
+     *
+     * @return the line count, saturating at Long.MAX_VALUE.
+     */
+    public long getLines() {
+        return lines;
+    }
+}
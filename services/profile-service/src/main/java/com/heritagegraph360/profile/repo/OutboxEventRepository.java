@@ -0,0 +1,12 @@
+package com.heritagegraph360.profile.repo;
+
+import com.heritagegraph360.profile.domain.OutboxEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Manages outbox event persistence operations.
+ * Importance: Writes events inside the profile workflow transaction.
+ * Alternatives: Insert outbox rows with JDBC.
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+}
@@ -0,0 +1,176 @@
+package com.heritagegraph360.profile.repo;
+
+import com.heritagegraph360.profile.config.RelationshipBatchProperties;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Upserts relationship edges on their natural key.
+ * Importance: Repeated imports of the same edge update one row instead of adding duplicates.
+ * Alternatives: Look up each edge through JPA before saving it.
+ */
+@Repository
+public class RelationshipEdgeStore {
+    private static final String UPSERT_SQL =
+        "INSERT INTO relationships (relationship_id, tenant_id, profile_id, related_profile_id, status, created_at) "
+            + "SELECT e.relationship_id, ?, e.profile_id, e.related_profile_id, e.status, ? "
+            + "FROM unnest(CAST(? AS UUID[]), CAST(? AS UUID[]), CAST(? AS UUID[]), CAST(? AS VARCHAR[])) "
+            + "AS e(relationship_id, profile_id, related_profile_id, status) "
+            + "ON CONFLICT (tenant_id, profile_id, related_profile_id) DO UPDATE SET status = EXCLUDED.status "
+            + "WHERE relationships.status IS DISTINCT FROM EXCLUDED.status "
+            + "RETURNING profile_id, related_profile_id, (xmax = 0) AS inserted";
+    private static final Comparator<Edge> LOCK_ORDER =
+        Comparator.comparing(Edge::getProfileId).thenComparing(Edge::getRelatedProfileId);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RelationshipBatchProperties properties;
+
+    /**
+     * A child-to-parent edge to upsert.
+     * Importance: Carries the natural key and the status that should end up stored.
+     * Alternatives: Pass relationship entities.
+     */
+    public static final class Edge {
+        private final UUID profileId;
+        private final UUID relatedProfileId;
+        private final String status;
+
+        /**
+         * Creates an edge.
+         * Importance: Captures one upsert in an immutable value.
+         * Alternatives: Use parallel lists.
+         *
+         * @param profileId the profile that owns the relationship.
+         * @param relatedProfileId the related profile.
+         * @param status the relationship status.
+         */
+        public Edge(UUID profileId, UUID relatedProfileId, String status) {
+            this.profileId = profileId;
+            this.relatedProfileId = relatedProfileId;
+            this.status = status;
+        }
+
+        /**
+         * Returns the profile that owns the relationship.
+         * Importance: First half of the natural key.
+         * Alternatives: Expose the field directly.
+         *
+         * @return the profile identifier.
+         */
+        public UUID getProfileId() {
+            return profileId;
+        }
+
+        /**
+         * Returns the related profile.
+         * Importance: Second half of the natural key.
+         * Alternatives: Expose the field directly.
+         *
+         * @return the related profile identifier.
+         */
+        public UUID getRelatedProfileId() {
+            return relatedProfileId;
+        }
+
+        /**
+         * Returns the relationship status.
+         * Importance: Is the only column an upsert can change.
+         * Alternatives: Expose the field directly.
+         *
+         * @return the status.
+         */
+        public String getStatus() {
+            return status;
+        }
+    }
+
+    /**
+     * Creates the edge store.
+     * Importance: Connects upserts to relational storage.
+     * Alternatives: Extend RelationshipRepository with a native query.
+     *
+     * @param jdbcTemplate the JDBC template.
+     * @param properties the relationship batch properties.
+     */
+    public RelationshipEdgeStore(JdbcTemplate jdbcTemplate, RelationshipBatchProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * Upserts one edge.
+     * Importance: Gives the single-relationship endpoint the same semantics as bulk ingestion.
+     * Alternatives: Keep a separate single-row statement.
+     *
+     * @param tenantId the tenant identifier.
+     * @param edge the edge.
+     * @return what the upsert did.
+     */
+    public RelationshipUpsertOutcome upsert(String tenantId, Edge edge) {
+        return upsertAll(tenantId, List.of(edge))[0];
+    }
+
+    /**
+     * Upserts edges with one multi-row statement per chunk.
+     * Importance: Applies thousands of edges in a few round trips and still reports each edge's outcome,
+     * which JDBC batch update counts cannot distinguish.
+     * Edges are written in natural-key order so concurrent imports lock rows in the same order.
+     * Alternatives: Send one INSERT per edge with JDBC batching.
+     *
+     * @param tenantId the tenant identifier.
+     * @param edges the edges; natural keys must be unique within the list.
+     * @return the outcomes, aligned with the input order.
+     */
+    public RelationshipUpsertOutcome[] upsertAll(String tenantId, List<Edge> edges) {
+        RelationshipUpsertOutcome[] outcomes = new RelationshipUpsertOutcome[edges.size()];
+        Arrays.fill(outcomes, RelationshipUpsertOutcome.UNCHANGED);
+        Map<List<UUID>, Integer> positions = new HashMap<>(edges.size() * 2);
+        for (int i = 0; i < edges.size(); i++) {
+            Edge edge = edges.get(i);
+            positions.put(List.of(edge.getProfileId(), edge.getRelatedProfileId()), i);
+        }
+        Edge[] ordered = edges.toArray(new Edge[0]);
+        Arrays.sort(ordered, LOCK_ORDER);
+        Timestamp now = Timestamp.from(Instant.now());
+        int chunkSize = Math.max(1, properties.getUpsertChunkSize());
+        for (int from = 0; from < ordered.length; from += chunkSize) {
+            Edge[] chunk = Arrays.copyOfRange(ordered, from, Math.min(ordered.length, from + chunkSize));
+            jdbcTemplate.query(UPSERT_SQL, ps -> {
+                Connection connection = ps.getConnection();
+                Object[] ids = new Object[chunk.length];
+                Object[] profiles = new Object[chunk.length];
+                Object[] related = new Object[chunk.length];
+                Object[] statuses = new Object[chunk.length];
+                for (int i = 0; i < chunk.length; i++) {
+                    ids[i] = UUID.randomUUID();
+                    profiles[i] = chunk[i].getProfileId();
+                    related[i] = chunk[i].getRelatedProfileId();
+                    statuses[i] = chunk[i].getStatus();
+                }
+                ps.setString(1, tenantId);
+                ps.setTimestamp(2, now);
+                ps.setArray(3, connection.createArrayOf("uuid", ids));
+                ps.setArray(4, connection.createArrayOf("uuid", profiles));
+                ps.setArray(5, connection.createArrayOf("uuid", related));
+                ps.setArray(6, connection.createArrayOf("varchar", statuses));
+            }, rs -> {
+                Integer position = positions.get(List.of(rs.getObject(1, UUID.class), rs.getObject(2, UUID.class)));
+                if (position != null) {
+                    outcomes[position] = rs.getBoolean(3)
+                        ? RelationshipUpsertOutcome.CREATED
+                        : RelationshipUpsertOutcome.UPDATED;
+                }
+            });
+        }
+        return outcomes;
+    }
+}
@@ -0,0 +1,12 @@
+package com.heritagegraph360.profile.repo;
+
+/**
+ * Lists what a relationship upsert did to the stored edge.
+ * Importance: Lets callers skip index updates, audits, and events for edges that did not change.
+ * Alternatives: Return a boolean for inserted rows only.
+ */
+public enum RelationshipUpsertOutcome {
+    CREATED,
+    UPDATED,
+    UNCHANGED
+}
@@ -9,6 +9,13 @@ import org.springframework.stereotype.Service;
  */
 @Service
 public class DuplicateDetectionService {
+    /**
+     * Minimum name similarity for a potential duplicate.
+     */
+    public static final double DUPLICATE_SIMILARITY = 0.90;
+
+    private final NameSimilarityKernel kernel = new NameSimilarityKernel();
+
     /**
      * Determines if two profiles are potential duplicates.
      * Importance: Applies the 90% similarity rule plus shared contact data.
@@ -20,8 +27,20 @@ public class DuplicateDetectionService {
      * @return true if potential duplicate.
      */
     public boolean isPotentialDuplicate(String nameA, String nameB, boolean sharedContact) {
-        double similarity = calculateSimilarity(nameA, nameB);
-        return similarity >= 0.90 && sharedContact;
+        return sharedContact && kernel.boundedSimilarity(nameA, nameB, DUPLICATE_SIMILARITY) >= DUPLICATE_SIMILARITY;
+    }
+
+    /**
+     * Determines if an already computed similarity is a potential duplicate.
+     * Importance: Lets callers that scored a pair reuse the rule without rescoring.
+     * Alternatives: Recompute similarity inside the rule.
+     *
+     * @param similarity the name similarity.
+     * @param sharedContact whether email or phone matches.
+     * @return true if potential duplicate.
+     */
+    public boolean isPotentialDuplicate(double similarity, boolean sharedContact) {
+        return similarity >= DUPLICATE_SIMILARITY && sharedContact;
     }
 
     /**
@@ -34,46 +53,20 @@ public class DuplicateDetectionService {
      * @return similarity between 0.0 and 1.0.
      */
     public double calculateSimilarity(String nameA, String nameB) {
-        if (nameA == null || nameB == null) {
-            return 0.0;
-        }
-        String a = nameA.trim().toLowerCase();
-        String b = nameB.trim().toLowerCase();
-        if (a.isEmpty() || b.isEmpty()) {
-            return 0.0;
-        }
-        int distance = levenshteinDistance(a, b);
-        int maxLength = Math.max(a.length(), b.length());
-        if (maxLength == 0) {
-            return 1.0;
-        }
-        return 1.0 - ((double) distance / (double) maxLength);
+        return kernel.similarity(nameA, nameB);
     }
 
     /**
-     * Computes the Levenshtein distance between two strings.
-     * Importance: Supports similarity computation for duplicate detection.
-     * Alternatives: Use a third-party string similarity library.
+     * Calculates name similarity, abandoning pairs that cannot reach a minimum.
+     * Importance: Lets bulk scans skip most of the distance computation for dissimilar names.
+     * Alternatives: Compute exact similarity for every pair.
      *
-     * @param a the first string.
-     * @param b the second string.
-     * @return the distance.
+     * @param nameA the first name.
+     * @param nameB the second name.
+     * @param minimum the minimum similarity of interest.
+     * @return the exact similarity when at least the minimum, otherwise a value below it.
      */
-    private int levenshteinDistance(String a, String b) {
-        int[] costs = new int[b.length() + 1];
-        for (int j = 0; j < costs.length; j++) {
-            costs[j] = j;
-        }
-        for (int i = 1; i <= a.length(); i++) {
-            costs[0] = i;
-            int nw = i - 1;
-            for (int j = 1; j <= b.length(); j++) {
-                int cj = Math.min(1 + Math.min(costs[j], costs[j - 1]),
-                    a.charAt(i - 1) == b.charAt(j - 1) ? nw : nw + 1);
-                nw = costs[j];
-                costs[j] = cj;
-            }
-        }
-        return costs[b.length()];
+    public double calculateSimilarity(String nameA, String nameB, double minimum) {
+        return kernel.boundedSimilarity(nameA, nameB, minimum);
     }
 }
@@ -0,0 +1,396 @@
+package com.heritagegraph360.profile.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heritagegraph360.profile.config.TreeExportProperties;
+import com.heritagegraph360.profile.domain.ProfileEntity;
+import com.heritagegraph360.profile.graph.LineageDirection;
+import com.heritagegraph360.profile.graph.LineageEntry;
+import com.heritagegraph360.profile.graph.LineageGraphIndex;
+import com.heritagegraph360.profile.merge.MergeClusterIndex;
+import com.heritagegraph360.profile.repo.ProfileRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+
+/**
+ * Streams family trees around a profile as JSON, one generation at a time.
+ * Importance: Gives the tree viewer a whole subtree in one request instead of hundreds of edge lookups.
+ * Alternatives: Build the full tree in memory and serialize it with the ObjectMapper.
+ */
+@Service
+public class FamilyTreeExportService {
+    /**
+     * Reason reported when the node limit stopped the export.
+     * Importance: Tells clients to request fewer generations.
+     * Alternatives: Fail the request.
+     */
+    public static final String NODE_LIMIT = "NODE_LIMIT";
+
+    /**
+     * Reason reported when the payload limit stopped the export.
+     * Importance: Tells clients the tree was cut to keep the response bounded.
+     * Alternatives: Fail the request.
+     */
+    public static final String PAYLOAD_LIMIT = "PAYLOAD_LIMIT";
+
+    private final LineageGraphIndex lineageGraphIndex;
+    private final ProfileRepository profileRepository;
+    private final MergeClusterIndex mergeClusterIndex;
+    private final ObjectMapper objectMapper;
+    private final TreeExportProperties properties;
+    private final Counter completeExports;
+    private final Counter truncatedExports;
+    private final DistributionSummary exportBytes;
+
+    /**
+     * Creates the tree export service.
+     * Importance: Connects the lineage index, profile lookups, and JSON streaming.
+     * Alternatives: Export from the relationships table directly.
+     *
+     * @param lineageGraphIndex the lineage graph index.
+     * @param profileRepository the profile repository.
+     * @param mergeClusterIndex the merge cluster index.
+     * @param objectMapper the shared object mapper.
+     * @param properties the tree export properties.
+     * @param meterRegistry the meter registry.
+     */
+    public FamilyTreeExportService(LineageGraphIndex lineageGraphIndex,
+                                   ProfileRepository profileRepository,
+                                   MergeClusterIndex mergeClusterIndex,
+                                   ObjectMapper objectMapper,
+                                   TreeExportProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.lineageGraphIndex = lineageGraphIndex;
+        this.profileRepository = profileRepository;
+        this.mergeClusterIndex = mergeClusterIndex;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.completeExports = exports(meterRegistry, "complete");
+        this.truncatedExports = exports(meterRegistry, "truncated");
+        this.exportBytes = DistributionSummary.builder("tree.export.bytes")
+            .description("Bytes written per family tree export")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Resolves the export root to its canonical profile within the tenant.
+     * Importance: Lets the controller return 404 before the streamed response starts.
+     * Alternatives: Report a missing root inside the stream.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the requested profile identifier.
+     * @return the canonical root profile, or empty when it does not belong to the tenant.
+     */
+    public Optional<ProfileEntity> findRoot(String tenantId, UUID profileId) {
+        return profileRepository.findById(mergeClusterIndex.canonicalProfile(tenantId, profileId))
+            .filter(profile -> tenantId.equals(profile.getTenantId()));
+    }
+
+    /**
+     * Clamps a requested generation count to the configured limits.
+     * Importance: Keeps one request from walking the whole tenant.
+     * Alternatives: Reject out-of-range requests.
+     *
+     * @param requested the requested generations, or null for the default.
+     * @return the generations to export.
+     */
+    public int resolveGenerations(Integer requested) {
+        int generations = requested == null ? properties.getDefaultGenerations() : requested;
+        return Math.max(0, Math.min(generations, properties.getMaxGenerations()));
+    }
+
+    /**
+     * Writes the tree around a root profile to a stream.
+     * Importance: Walks ancestors and descendants level by level, looking up each generation's profiles in one
+     * {@code findAllById} and writing it before the next generation is read.
+     * Alternatives: Collect every generation before writing.
+     *
+     * @param tenantId the tenant identifier.
+     * @param root the canonical root profile.
+     * @param ancestorGenerations the generations to export upward.
+     * @param descendantGenerations the generations to export downward.
+     * @param out the response stream.
+     * @throws IOException when the client disconnects.
+     */
+    public void write(String tenantId, ProfileEntity root, int ancestorGenerations, int descendantGenerations,
+                      OutputStream out) throws IOException {
+        CountingOutputStream counting = new CountingOutputStream(out);
+        Export export = new Export(tenantId);
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(counting)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            export.json = json;
+            export.counting = counting;
+            json.writeStartObject();
+            json.writeStringField("rootProfileId", root.getProfileId().toString());
+            json.writeArrayFieldStart("generations");
+            export.seen.add(root.getProfileId());
+            writeGeneration(export, 0, List.of(root.getProfileId()), Map.of(root.getProfileId(), root), List.of());
+            List<UUID> up = List.of(root.getProfileId());
+            List<UUID> down = List.of(root.getProfileId());
+            int generations = Math.max(ancestorGenerations, descendantGenerations);
+            for (int generation = 1; generation <= generations && export.truncatedReason == null; generation++) {
+                if (generation <= ancestorGenerations && !up.isEmpty()) {
+                    up = expand(export, up, LineageDirection.ANCESTORS, generation);
+                }
+                if (generation <= descendantGenerations && !down.isEmpty() && export.truncatedReason == null) {
+                    down = expand(export, down, LineageDirection.DESCENDANTS, -generation);
+                }
+            }
+            json.writeEndArray();
+            json.writeBooleanField("truncated", export.truncatedReason != null);
+            json.writeStringField("truncatedReason", export.truncatedReason);
+            json.writeEndObject();
+        }
+        out.flush();
+        (export.truncatedReason == null ? completeExports : truncatedExports).increment();
+        exportBytes.record(counting.count);
+    }
+
+    /**
+     * Reads one generation's edges, looks up its new profiles, and writes it.
+     * Importance: Holds only one generation in memory and issues one profile query per generation.
+     * Alternatives: Look up profiles one at a time as edges are found.
+     *
+     * @param export the export state.
+     * @param frontier the previous generation's profiles.
+     * @param direction the walk direction.
+     * @param generation the signed generation number, negative for descendants.
+     * @return the profiles written in this generation, which form the next frontier.
+     * @throws IOException when the client disconnects.
+     */
+    private List<UUID> expand(Export export, List<UUID> frontier, LineageDirection direction, int generation)
+        throws IOException {
+        Set<UUID> discovered = new LinkedHashSet<>();
+        List<TreeEdge> edges = new ArrayList<>();
+        for (UUID node : frontier) {
+            for (LineageEntry relative : lineageGraphIndex.relatives(export.tenantId, node, direction)) {
+                UUID relativeId = relative.getProfileId();
+                if (!export.seen.contains(relativeId) && !discovered.contains(relativeId)) {
+                    if (export.seen.size() + discovered.size() >= properties.getMaxNodes()) {
+                        export.truncatedReason = NODE_LIMIT;
+                        continue;
+                    }
+                    discovered.add(relativeId);
+                }
+                edges.add(direction == LineageDirection.ANCESTORS
+                    ? new TreeEdge(node, relativeId, relative.getStatus())
+                    : new TreeEdge(relativeId, node, relative.getStatus()));
+            }
+        }
+        if (discovered.isEmpty() && edges.isEmpty()) {
+            return List.of();
+        }
+        export.seen.addAll(discovered);
+        Map<UUID, ProfileEntity> profiles = new HashMap<>();
+        for (ProfileEntity profile : profileRepository.findAllById(discovered)) {
+            if (export.tenantId.equals(profile.getTenantId())) {
+                profiles.put(profile.getProfileId(), profile);
+            }
+        }
+        return writeGeneration(export, generation, new ArrayList<>(discovered), profiles, edges);
+    }
+
+    /**
+     * Writes one generation object with its nodes and edges.
+     * Importance: Stops cleanly at the payload limit without writing edges to missing nodes.
+     * Alternatives: Write nodes and edges in separate top-level arrays.
+     *
+     * @param export the export state.
+     * @param generation the signed generation number.
+     * @param nodes the new profiles in this generation.
+     * @param profiles the looked-up profiles by identifier.
+     * @param edges the edges found while reading this generation.
+     * @return the profiles that were written.
+     * @throws IOException when the client disconnects.
+     */
+    private List<UUID> writeGeneration(Export export, int generation, List<UUID> nodes,
+                                       Map<UUID, ProfileEntity> profiles, List<TreeEdge> edges) throws IOException {
+        JsonGenerator json = export.json;
+        List<UUID> written = new ArrayList<>(nodes.size());
+        json.writeStartObject();
+        json.writeNumberField("generation", generation);
+        json.writeArrayFieldStart("nodes");
+        for (UUID node : nodes) {
+            if (overPayload(export)) {
+                break;
+            }
+            ProfileEntity profile = profiles.get(node);
+            json.writeStartObject();
+            json.writeStringField("profileId", node.toString());
+            json.writeStringField("displayName", profile == null ? null : profile.getDisplayName());
+            json.writeEndObject();
+            export.written.add(node);
+            written.add(node);
+        }
+        json.writeEndArray();
+        json.writeArrayFieldStart("edges");
+        for (TreeEdge edge : edges) {
+            if (overPayload(export)) {
+                break;
+            }
+            if (!export.written.contains(edge.childId) || !export.written.contains(edge.parentId)) {
+                continue;
+            }
+            json.writeStartObject();
+            json.writeStringField("childProfileId", edge.childId.toString());
+            json.writeStringField("parentProfileId", edge.parentId.toString());
+            json.writeStringField("status", edge.status);
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+        return written;
+    }
+
+    /**
+     * Checks whether the export has reached the payload limit.
+     * Importance: Counts bytes still buffered in the generator as well as bytes already sent.
+     * Alternatives: Flush after every element to count exactly.
+     *
+     * @param export the export state.
+     * @return true when no more nodes or edges should be written.
+     */
+    private boolean overPayload(Export export) {
+        if (PAYLOAD_LIMIT.equals(export.truncatedReason)) {
+            return true;
+        }
+        long size = export.counting.count + Math.max(0, export.json.getOutputBuffered());
+        if (size >= properties.getMaxPayloadBytes()) {
+            export.truncatedReason = PAYLOAD_LIMIT;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Builds the export counter for an outcome.
+     * Importance: Tags export results consistently.
+     * Alternatives: Use one counter per outcome name.
+     *
+     * @param meterRegistry the meter registry.
+     * @param result the outcome tag.
+     * @return the counter.
+     */
+    private static Counter exports(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("tree.export.requests")
+            .description("Family tree exports by outcome")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Holds the state of one export.
+     * Importance: Keeps per-request sets off the shared service.
+     * Alternatives: Pass each value as a parameter.
+     */
+    private static final class Export {
+        private final String tenantId;
+        private final Set<UUID> seen = new HashSet<>();
+        private final Set<UUID> written = new HashSet<>();
+        private JsonGenerator json;
+        private CountingOutputStream counting;
+        private String truncatedReason;
+
+        /**
+         * Creates export state for a tenant.
+         * Importance: Scopes lookups to the requesting tenant.
+         * Alternatives: Read the tenant from a request context.
+         *
+         * @param tenantId the tenant identifier.
+         */
+        private Export(String tenantId) {
+            this.tenantId = tenantId;
+        }
+    }
+
+    /**
+     * Represents one child-to-parent edge found during the walk.
+     * Importance: Buffers a generation's edges until its profiles are written.
+     * Alternatives: Reuse the lineage entry type.
+     */
+    private static final class TreeEdge {
+        private final UUID childId;
+        private final UUID parentId;
+        private final String status;
+
+        /**
+         * Creates a tree edge.
+         * Importance: Normalizes edges found in either direction to child and parent.
+         * Alternatives: Store the walk direction with each edge.
+         *
+         * @param childId the child profile identifier.
+         * @param parentId the parent profile identifier.
+         * @param status the relationship status.
+         */
+        private TreeEdge(UUID childId, UUID parentId, String status) {
+            this.childId = childId;
+            this.parentId = parentId;
+            this.status = status;
+        }
+    }
+
+    /**
+     * Counts bytes written to the response.
+     * Importance: Enforces the payload limit and feeds the size metric.
+     * Alternatives: Rely on the servlet container's byte counters.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        /**
+         * Wraps a stream.
+         * Importance: Counts without buffering.
+         * Alternatives: Use a third-party counting stream.
+         *
+         * @param out the underlying stream.
+         */
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        /**
+         * Writes and counts one byte.
+         * Importance: Keeps the count exact for single-byte writes.
+         * Alternatives: Count only array writes.
+         *
+         * @param b the byte.
+         * @throws IOException when the write fails.
+         */
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        /**
+         * Writes and counts a byte range.
+         * Importance: Avoids the byte-at-a-time default of FilterOutputStream.
+         * Alternatives: Count in the generator instead.
+         *
+         * @param b the bytes.
+         * @param off the offset.
+         * @param len the length.
+         * @throws IOException when the write fails.
+         */
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,550 @@
+package com.heritagegraph360.profile.service;
+
+import com.heritagegraph360.profile.config.EncryptionProperties;
+import com.heritagegraph360.profile.config.KeyRotationProperties;
+import com.heritagegraph360.profile.crypto.DataKey;
+import com.heritagegraph360.profile.crypto.KeyRotationStatus;
+import com.heritagegraph360.profile.crypto.RotationRateLimiter;
+import com.heritagegraph360.profile.crypto.TenantDataKeyService;
+import com.heritagegraph360.profile.nosql.KeyRotationJobDocument;
+import com.heritagegraph360.profile.nosql.KeyRotationJobRepository;
+import com.heritagegraph360.profile.nosql.SensitiveFieldDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.data.util.Pair;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Re-encrypts a tenant's sensitive fields under a newly rotated data key.
+ * Importance: Streams the collection in checkpointed, rate-limited batches so rotation finishes on very large tenants without starving live traffic.
+ * Alternatives: Re-encrypt every document in one blocking migration.
+ */
+@Component
+public class KeyRotationJobRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(KeyRotationJobRunner.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final KeyRotationJobRepository jobRepository;
+    private final TenantDataKeyService dataKeys;
+    private final SensitiveFieldEncryptor encryptor;
+    private final KeyRotationProperties properties;
+    private final long dataKeyTtlSeconds;
+    private final RotationRateLimiter rateLimiter;
+    private final ExecutorService coordinators = Executors.newCachedThreadPool();
+    private final ExecutorService workers;
+    private final String instanceId = System.getenv().getOrDefault("HOSTNAME", "local") + "-"
+        + UUID.randomUUID().toString().substring(0, 8);
+    private final Set<String> activeJobs = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> remaining = new ConcurrentHashMap<>();
+    private final Counter reencrypted;
+    private final Counter conflicts;
+    private final Counter failures;
+    private final Timer batchLatency;
+
+    /**
+     * Creates the runner and registers rotation metrics.
+     * Importance: Sizes a dedicated worker pool so re-encryption never borrows request threads.
+     * Alternatives: Use the common fork-join pool.
+     *
+     * @param mongoTemplate the MongoDB template.
+     * @param jobRepository the job checkpoint repository.
+     * @param dataKeys the tenant data key service.
+     * @param encryptor the sensitive field encryptor.
+     * @param properties the rotation properties.
+     * @param encryptionProperties the encryption properties.
+     * @param meterRegistry the metrics registry.
+     */
+    public KeyRotationJobRunner(MongoTemplate mongoTemplate,
+                                KeyRotationJobRepository jobRepository,
+                                TenantDataKeyService dataKeys,
+                                SensitiveFieldEncryptor encryptor,
+                                KeyRotationProperties properties,
+                                EncryptionProperties encryptionProperties,
+                                MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.jobRepository = jobRepository;
+        this.dataKeys = dataKeys;
+        this.encryptor = encryptor;
+        this.properties = properties;
+        this.dataKeyTtlSeconds = encryptionProperties.getDataKeyTtlSeconds();
+        this.rateLimiter = new RotationRateLimiter(properties.getMaxDocumentsPerSecond());
+        this.workers = Executors.newFixedThreadPool(Math.max(1, properties.getWorkers()));
+        this.reencrypted = documents(meterRegistry, "reencrypted");
+        this.conflicts = documents(meterRegistry, "conflict");
+        this.failures = documents(meterRegistry, "failed");
+        this.batchLatency = Timer.builder("sensitive.rotation.batch.latency")
+            .description("Time to re-encrypt and bulk-write one rotation batch")
+            .register(meterRegistry);
+        Gauge.builder("sensitive.rotation.remaining", remaining,
+                values -> values.values().stream().mapToLong(Long::longValue).sum())
+            .description("Documents left to scan by rotation jobs running on this instance")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Rotates a tenant's data key and starts re-encrypting its sensitive fields.
+     * Importance: Returns a running job as is, resumes a failed job at its checkpoint, and rescans a partial job from
+     * the start, both without rotating again.
+     * Alternatives: Reject requests while a job exists.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the job.
+     */
+    public KeyRotationJobDocument start(String tenantId) {
+        Optional<KeyRotationJobDocument> existing = jobRepository.findById(tenantId);
+        if (existing.isPresent() && existing.get().getStatus() == KeyRotationStatus.RUNNING) {
+            return existing.get();
+        }
+        KeyRotationJobDocument job;
+        if (existing.isPresent() && existing.get().getStatus() == KeyRotationStatus.FAILED) {
+            job = existing.get();
+            job.setError(null);
+        } else if (existing.isPresent() && existing.get().getStatus() == KeyRotationStatus.PARTIAL) {
+            job = existing.get();
+            job.setError(null);
+            startPass(job, Instant.now());
+        } else {
+            DataKey key = dataKeys.rotate(tenantId);
+            job = existing.orElseGet(KeyRotationJobDocument::new);
+            job.setId(tenantId);
+            job.setTargetGeneration(key.getGeneration());
+            job.setCheckpoint(null);
+            job.setTotal(mongoTemplate.count(Query.query(Criteria.where("tenantId").is(tenantId)),
+                SensitiveFieldDocument.class));
+            job.setProcessed(0);
+            job.setReencrypted(0);
+            job.setFailed(0);
+            job.setError(null);
+            job.setStartedAt(Instant.now());
+            job.setPassStartedAt(job.getStartedAt());
+        }
+        job.setStatus(KeyRotationStatus.RUNNING);
+        claim(job);
+        try {
+            job = jobRepository.save(job);
+        } catch (OptimisticLockingFailureException | DuplicateKeyException ex) {
+            return jobRepository.findById(tenantId).orElseThrow(() -> ex);
+        }
+        LOGGER.info("Started key rotation for tenant {} to generation {} over {} documents",
+            tenantId, job.getTargetGeneration(), job.getTotal());
+        submit(tenantId);
+        return job;
+    }
+
+    /**
+     * Returns a tenant's most recent rotation job.
+     * Importance: Lets operators poll progress.
+     * Alternatives: Expose progress through metrics only.
+     *
+     * @param tenantId the tenant identifier.
+     * @return the job, if any.
+     */
+    public Optional<KeyRotationJobDocument> status(String tenantId) {
+        return jobRepository.findById(tenantId);
+    }
+
+    /**
+     * Resumes running jobs whose owner stopped renewing its lease.
+     * Importance: Continues rotations from their checkpoint after crashes, deploys, and the post-rotation settle period.
+     * Alternatives: Require operators to restart interrupted jobs.
+     */
+    @Scheduled(fixedDelayString = "${app.key-rotation.resume-interval-ms:60000}")
+    public void resumeOrphanedJobs() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (KeyRotationJobDocument job
+            : jobRepository.findByStatusAndLeaseUntilBefore(KeyRotationStatus.RUNNING, Instant.now())) {
+            if (activeJobs.contains(job.getId())) {
+                continue;
+            }
+            claim(job);
+            try {
+                jobRepository.save(job);
+            } catch (OptimisticLockingFailureException ex) {
+                continue;
+            }
+            LOGGER.info("Resuming key rotation for tenant {} after {}", job.getId(), job.getCheckpoint());
+            submit(job.getId());
+        }
+    }
+
+    /**
+     * Stops rotation threads on shutdown.
+     * Importance: In-flight batches are abandoned; the job resumes from its checkpoint once the lease lapses.
+     * Alternatives: Wait for running jobs to finish.
+     */
+    @PreDestroy
+    public void shutdown() {
+        coordinators.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    /**
+     * Runs a job on a coordinator thread unless it already runs here.
+     * Importance: Returns immediately while the job runs in the background.
+     * Alternatives: Block the caller until the job completes.
+     *
+     * @param tenantId the tenant identifier.
+     */
+    private void submit(String tenantId) {
+        if (!activeJobs.add(tenantId)) {
+            return;
+        }
+        coordinators.execute(() -> {
+            try {
+                run(tenantId);
+            } finally {
+                activeJobs.remove(tenantId);
+                remaining.remove(tenantId);
+            }
+        });
+    }
+
+    /**
+     * Scans the tenant window by window until no documents remain under an older key.
+     * Importance: Holds the job open until other instances' key caches have expired, then rescans from the first
+     * document, so late writes under the previous key are rotated even behind the checkpoint.
+     * Alternatives: Broadcast the rotation to every instance before scanning.
+     *
+     * @param tenantId the tenant identifier.
+     */
+    private void run(String tenantId) {
+        KeyRotationJobDocument job = jobRepository.findById(tenantId).orElse(null);
+        if (job == null || job.getStatus() != KeyRotationStatus.RUNNING || !instanceId.equals(job.getOwner())) {
+            return;
+        }
+        JobRun run = new JobRun(job);
+        try {
+            Instant settled = run.job.getStartedAt().plusSeconds(dataKeyTtlSeconds);
+            while (true) {
+                while (!run.scanWindow()) {
+                    LOGGER.debug("Key rotation for tenant {} checkpointed at {}", tenantId, run.job.getCheckpoint());
+                }
+                Instant passStarted = Optional.ofNullable(run.job.getPassStartedAt()).orElse(run.job.getStartedAt());
+                if (!passStarted.isBefore(settled)) {
+                    break;
+                }
+                Instant now = Instant.now();
+                if (now.isBefore(settled)) {
+                    startPass(run.job, settled);
+                    run.job.setOwner(null);
+                    run.job.setLeaseUntil(settled);
+                    run.save();
+                    LOGGER.info("Key rotation for tenant {} caught up; final pass after {}", tenantId, settled);
+                    return;
+                }
+                startPass(run.job, now);
+                claim(run.job);
+                run.save();
+            }
+            if (run.job.getFailed() > 0) {
+                run.job.setStatus(KeyRotationStatus.PARTIAL);
+                run.job.setError(run.job.getFailed() + " values could not be re-encrypted and still need an older "
+                    + "key generation");
+            } else {
+                run.job.setStatus(KeyRotationStatus.COMPLETED);
+            }
+            run.job.setOwner(null);
+            run.save();
+            LOGGER.info("Key rotation for tenant {} {}: {} re-encrypted, {} failed", tenantId,
+                run.job.getStatus(), run.job.getReencrypted(), run.job.getFailed());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            LOGGER.info("Key rotation for tenant {} interrupted; it resumes from {}", tenantId, run.job.getCheckpoint());
+        } catch (OptimisticLockingFailureException ex) {
+            LOGGER.warn("Key rotation for tenant {} lost its lease to another instance", tenantId);
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Key rotation for tenant {} failed at {}", tenantId, run.job.getCheckpoint(), ex);
+            run.job.setStatus(KeyRotationStatus.FAILED);
+            run.job.setError(ex.getMessage());
+            run.job.setOwner(null);
+            run.save();
+        }
+    }
+
+    /**
+     * Resets a job to scan from the first document again.
+     * Importance: Failures are recounted per pass, so the final pass alone decides whether older generations are
+     * still needed.
+     * Alternatives: Keep failure counts across passes and dedupe by document id.
+     *
+     * @param job the job.
+     * @param passStartedAt when the pass starts, at the earliest.
+     */
+    private static void startPass(KeyRotationJobDocument job, Instant passStartedAt) {
+        job.setCheckpoint(null);
+        job.setFailed(0);
+        job.setPassStartedAt(passStartedAt);
+    }
+
+    /**
+     * Re-encrypts one batch and writes it back with a single unordered bulk update.
+     * Importance: Each update matches the old ciphertext, so a concurrent change is never overwritten with stale data.
+     * Alternatives: Replace whole documents.
+     *
+     * @param tenantId the tenant identifier.
+     * @param targetGeneration the generation to encrypt under.
+     * @param batch the documents.
+     * @return the batch outcome.
+     */
+    private BatchResult reencryptBatch(String tenantId, int targetGeneration, List<SensitiveFieldDocument> batch) {
+        long started = System.nanoTime();
+        List<Pair<Query, UpdateDefinition>> updates = new ArrayList<>(batch.size());
+        int failed = 0;
+        for (SensitiveFieldDocument document : batch) {
+            String value = document.getEncryptedValue();
+            if (value == null) {
+                continue;
+            }
+            try {
+                String rotated = encryptor.reencrypt(tenantId, value, targetGeneration);
+                updates.add(Pair.of(
+                    Query.query(Criteria.where("id").is(document.getId()).and("encryptedValue").is(value)),
+                    new Update().set("encryptedValue", rotated).set("keyGeneration", targetGeneration)));
+            } catch (RuntimeException ex) {
+                failed++;
+                LOGGER.warn("Cannot re-encrypt sensitive field {} for tenant {}: {}", document.getId(), tenantId,
+                    ex.getMessage());
+            }
+        }
+        int matched = 0;
+        if (!updates.isEmpty()) {
+            matched = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SensitiveFieldDocument.class)
+                .updateOne(updates)
+                .execute()
+                .getMatchedCount();
+        }
+        reencrypted.increment(matched);
+        conflicts.increment(updates.size() - matched);
+        failures.increment(failed);
+        batchLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return new BatchResult(batch.size(), matched, failed);
+    }
+
+    /**
+     * Assigns the job to this instance for one lease period.
+     * Importance: The optimistic version check on save makes the claim exclusive.
+     * Alternatives: Claim with findAndModify.
+     *
+     * @param job the job.
+     */
+    private void claim(KeyRotationJobDocument job) {
+        Instant now = Instant.now();
+        job.setOwner(instanceId);
+        job.setLeaseUntil(now.plusSeconds(properties.getLeaseSeconds()));
+        job.setUpdatedAt(now);
+    }
+
+    /**
+     * Registers a rotation document counter.
+     * Importance: Tags every outcome under one metric name.
+     * Alternatives: Use one metric per outcome.
+     *
+     * @param meterRegistry the metrics registry.
+     * @param result the outcome tag.
+     * @return the counter.
+     */
+    private static Counter documents(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("sensitive.rotation.documents").tag("result", result)
+            .description("Sensitive field documents handled by key rotation jobs")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Holds the state of one job execution on this instance.
+     * Importance: Keeps the latest saved job version and the in-flight batches together.
+     * Alternatives: Thread the job through every method.
+     */
+    private final class JobRun {
+        private final Deque<InFlightBatch> inFlight = new ArrayDeque<>();
+        private KeyRotationJobDocument job;
+
+        /**
+         * Creates the execution state.
+         * Importance: Starts from the claimed job version.
+         * Alternatives: Reload the job per window.
+         *
+         * @param job the claimed job.
+         */
+        private JobRun(KeyRotationJobDocument job) {
+            this.job = job;
+        }
+
+        /**
+         * Streams one window of pending documents from the checkpoint and re-encrypts it.
+         * Importance: Reopening the cursor per window keeps it short-lived even when rate limiting slows the scan.
+         * Alternatives: Hold one cursor for the whole tenant.
+         *
+         * @return true when the window reached the end of the tenant's pending documents.
+         * @throws InterruptedException when interrupted while rate limited or waiting on workers.
+         */
+        private boolean scanWindow() throws InterruptedException {
+            Criteria criteria = Criteria.where("tenantId").is(job.getId())
+                .and("keyGeneration").ne(job.getTargetGeneration());
+            if (job.getCheckpoint() != null) {
+                criteria = criteria.and("id").gt(job.getCheckpoint());
+            }
+            Query query = Query.query(criteria).with(Sort.by("id")).limit(properties.getScanWindow())
+                .cursorBatchSize(properties.getBatchSize());
+            query.fields().include("encryptedValue", "keyGeneration");
+            int scanned = 0;
+            List<SensitiveFieldDocument> batch = new ArrayList<>(properties.getBatchSize());
+            try (Stream<SensitiveFieldDocument> stream = mongoTemplate.stream(query, SensitiveFieldDocument.class)) {
+                Iterator<SensitiveFieldDocument> documents = stream.iterator();
+                while (documents.hasNext()) {
+                    batch.add(documents.next());
+                    scanned++;
+                    if (batch.size() == properties.getBatchSize()) {
+                        dispatch(batch);
+                        batch = new ArrayList<>(properties.getBatchSize());
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                dispatch(batch);
+            }
+            while (!inFlight.isEmpty()) {
+                completeOldest();
+            }
+            return scanned < properties.getScanWindow();
+        }
+
+        /**
+         * Hands a batch to the worker pool once the rate limit and in-flight bound allow it.
+         * Importance: Bounds memory and parallel write load to the configured worker count.
+         * Alternatives: Submit every batch immediately.
+         *
+         * @param batch the documents.
+         * @throws InterruptedException when interrupted while waiting.
+         */
+        private void dispatch(List<SensitiveFieldDocument> batch) throws InterruptedException {
+            rateLimiter.acquire(batch.size());
+            while (inFlight.size() >= Math.max(1, properties.getWorkers())) {
+                completeOldest();
+            }
+            String tenantId = job.getId();
+            int targetGeneration = job.getTargetGeneration();
+            String lastId = batch.get(batch.size() - 1).getId();
+            inFlight.addLast(new InFlightBatch(
+                workers.submit(() -> reencryptBatch(tenantId, targetGeneration, batch)), lastId));
+        }
+
+        /**
+         * Waits for the oldest batch and checkpoints past it.
+         * Importance: Completing in submission order means the checkpoint never skips an unfinished batch.
+         * Alternatives: Checkpoint the highest finished batch and risk gaps.
+         *
+         * @throws InterruptedException when interrupted while waiting.
+         */
+        private void completeOldest() throws InterruptedException {
+            InFlightBatch oldest = inFlight.removeFirst();
+            BatchResult result;
+            try {
+                result = oldest.future.get();
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalStateException(ex.getCause());
+            }
+            job.setProcessed(job.getProcessed() + result.scanned);
+            job.setReencrypted(job.getReencrypted() + result.reencrypted);
+            job.setFailed(job.getFailed() + result.failed);
+            job.setCheckpoint(oldest.lastId);
+            claim(job);
+            save();
+            remaining.put(job.getId(), Math.max(0L, job.getTotal() - job.getProcessed()));
+        }
+
+        /**
+         * Saves the job and keeps the returned version.
+         * Importance: A version conflict means another instance took over, which stops this run.
+         * Alternatives: Save without versioning.
+         */
+        private void save() {
+            job = jobRepository.save(job);
+        }
+    }
+
+    /**
+     * Pairs a submitted batch with the id of its last document.
+     * Importance: Provides the checkpoint once the batch completes.
+     * Alternatives: Recompute the last id from the batch.
+     */
+    private static final class InFlightBatch {
+        private final Future<BatchResult> future;
+        private final String lastId;
+
+        /**
+         * Creates the pair.
+         * Importance: Captures the checkpoint at submission time.
+         * Alternatives: Keep the whole batch until completion.
+         *
+         * @param future the batch result.
+         * @param lastId the last document id.
+         */
+        private InFlightBatch(Future<BatchResult> future, String lastId) {
+            this.future = future;
+            this.lastId = lastId;
+        }
+    }
+
+    /**
+     * Summarizes one re-encrypted batch.
+     * Importance: Feeds job progress counters from the coordinator thread only.
+     * Alternatives: Update the job from worker threads.
+     */
+    private static final class BatchResult {
+        private final int scanned;
+        private final int reencrypted;
+        private final int failed;
+
+        /**
+         * Creates the summary.
+         * Importance: Carries the counts back from the worker.
+         * Alternatives: Return a counts array.
+         *
+         * @param scanned the documents read.
+         * @param reencrypted the documents written.
+         * @param failed the documents that could not be decrypted.
+         */
+        private BatchResult(int scanned, int reencrypted, int failed) {
+            this.scanned = scanned;
+            this.reencrypted = reencrypted;
+            this.failed = failed;
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.heritagegraph360.profile.service;
+
+import java.util.Locale;
+
+/**
+ * Computes normalized Levenshtein similarity with threshold-aware early exits.
+ * Importance: Keeps bulk duplicate scans CPU-bound on real work instead of allocation and full DP tables.
+ * Alternatives: Use a third-party string similarity library.
+ */
+public class NameSimilarityKernel {
+    private static final int LATIN1_LIMIT = 256;
+    private static final int WORD_BITS = 64;
+    private static final int HISTOGRAM_BUCKETS = 64;
+    private static final int INITIAL_BUFFER = 64;
+
+    private final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+
+    /**
+     * Calculates the exact similarity between two names.
+     * Importance: Matches the legacy trim, lower-case, and normalized distance semantics.
+     * Alternatives: Return an approximate score for speed.
+     *
+     * @param nameA the first name.
+     * @param nameB the second name.
+     * @return similarity between 0.0 and 1.0.
+     */
+    public double similarity(String nameA, String nameB) {
+        return boundedSimilarity(nameA, nameB, 0.0);
+    }
+
+    /**
+     * Calculates similarity, stopping early once it cannot reach a minimum.
+     * Importance: Lets threshold checks reject most pairs after prefilters or a few DP rows.
+     * Alternatives: Always compute the full distance.
+     *
+     * @param nameA the first name.
+     * @param nameB the second name.
+     * @param minimum the minimum similarity of interest.
+     * @return the exact similarity when it is at least the minimum, otherwise a value below it.
+     */
+    public double boundedSimilarity(String nameA, String nameB, double minimum) {
+        if (nameA == null || nameB == null) {
+            return 0.0;
+        }
+        Buffers local = buffers.get();
+        int m = normalize(nameA, local, true);
+        int n = normalize(nameB, local, false);
+        if (m == 0 || n == 0) {
+            return 0.0;
+        }
+        int maxLength = Math.max(m, n);
+        int bound = maxDistance(maxLength, minimum);
+        if (bound < 0) {
+            return -1.0;
+        }
+        int distance = distance(local, m, n, bound);
+        if (distance > bound) {
+            return -1.0;
+        }
+        return 1.0 - ((double) distance / (double) maxLength);
+    }
+
+    /**
+     * Returns the largest distance whose similarity still reaches the minimum.
+     * Importance: Derives the DP cut-off with the same floating-point expression used for scoring.
+     * Alternatives: Compute the bound algebraically and risk rounding mismatches.
+     *
+     * @param maxLength the longer normalized length.
+     * @param minimum the minimum similarity.
+     * @return the distance bound, or -1 when no distance qualifies.
+     */
+    static int maxDistance(int maxLength, double minimum) {
+        if (minimum <= 0.0) {
+            return maxLength;
+        }
+        int bound = Math.min(maxLength, (int) Math.ceil((1.0 - minimum) * maxLength) + 1);
+        while (bound >= 0 && 1.0 - ((double) bound / (double) maxLength) < minimum) {
+            bound--;
+        }
+        return bound;
+    }
+
+    /**
+     * Computes the edit distance, or any value above the bound once it is exceeded.
+     * Importance: Chooses the cheapest exact algorithm for the pair.
+     * Alternatives: Always use the banded DP.
+     *
+     * @param local the thread-local buffers holding both names.
+     * @param m the first length.
+     * @param n the second length.
+     * @param bound the distance bound.
+     * @return the distance, or a value greater than the bound.
+     */
+    private int distance(Buffers local, int m, int n, int bound) {
+        if (Math.abs(m - n) > bound) {
+            return bound + 1;
+        }
+        if (bound < Math.max(m, n) && histogramLowerBound(local, m, n) > bound) {
+            return bound + 1;
+        }
+        if (local.latin1A && local.latin1B && Math.min(m, n) <= WORD_BITS) {
+            return m <= n
+                ? bitParallel(local, local.a, m, local.b, n, bound)
+                : bitParallel(local, local.b, n, local.a, m, bound);
+        }
+        return banded(local, m, n, bound);
+    }
+
+    /**
+     * Computes a character-histogram lower bound on the edit distance.
+     * Importance: Rejects pairs with different letter content without any DP.
+     * Alternatives: Rely on the length filter alone.
+     *
+     * @param local the thread-local buffers.
+     * @param m the first length.
+     * @param n the second length.
+     * @return a lower bound on the distance.
+     */
+    private int histogramLowerBound(Buffers local, int m, int n) {
+        int[] histogram = local.histogram;
+        for (int i = 0; i < m; i++) {
+            histogram[local.a[i] & (HISTOGRAM_BUCKETS - 1)]++;
+        }
+        for (int j = 0; j < n; j++) {
+            histogram[local.b[j] & (HISTOGRAM_BUCKETS - 1)]--;
+        }
+        int surplus = 0;
+        int deficit = 0;
+        for (int k = 0; k < HISTOGRAM_BUCKETS; k++) {
+            int delta = histogram[k];
+            if (delta > 0) {
+                surplus += delta;
+            } else {
+                deficit -= delta;
+            }
+            histogram[k] = 0;
+        }
+        return Math.max(surplus, deficit);
+    }
+
+    /**
+     * Computes edit distance with the Myers/Hyyro bit-vector algorithm.
+     * Importance: Processes a whole DP column per text character for patterns up to 64 characters.
+     * Alternatives: Use the scalar DP for all lengths.
+     *
+     * @param local the thread-local buffers.
+     * @param pattern the shorter string.
+     * @param m the pattern length.
+     * @param text the longer string.
+     * @param n the text length.
+     * @param bound the distance bound.
+     * @return the distance, or a value greater than the bound.
+     */
+    private int bitParallel(Buffers local, char[] pattern, int m, char[] text, int n, int bound) {
+        long[] peq = local.peq;
+        for (int i = 0; i < m; i++) {
+            peq[pattern[i]] |= 1L << i;
+        }
+        long last = 1L << (m - 1);
+        long pv = -1L;
+        long mv = 0L;
+        int score = m;
+        int result = -1;
+        for (int j = 0; j < n; j++) {
+            long eq = peq[text[j]];
+            long xv = eq | mv;
+            long xh = (((eq & pv) + pv) ^ pv) | eq;
+            long ph = mv | ~(xh | pv);
+            long mh = pv & xh;
+            if ((ph & last) != 0) {
+                score++;
+            } else if ((mh & last) != 0) {
+                score--;
+            }
+            if (score - (n - j - 1) > bound) {
+                result = bound + 1;
+                break;
+            }
+            ph = (ph << 1) | 1L;
+            mh = mh << 1;
+            pv = mh | ~(xv | ph);
+            mv = ph & xv;
+        }
+        for (int i = 0; i < m; i++) {
+            peq[pattern[i]] = 0L;
+        }
+        return result < 0 ? score : result;
+    }
+
+    /**
+     * Computes edit distance with a diagonal band of width twice the bound.
+     * Importance: Handles long or non-Latin-1 names in O(bound * length) with early termination.
+     * Alternatives: Compute the full DP table.
+     *
+     * @param local the thread-local buffers.
+     * @param m the first length.
+     * @param n the second length.
+     * @param bound the distance bound.
+     * @return the distance, or a value greater than the bound.
+     */
+    private int banded(Buffers local, int m, int n, int bound) {
+        char[] a = local.a;
+        char[] b = local.b;
+        int overflow = bound + 1;
+        int[] previous = local.rowCapacity(n + 1, true);
+        int[] current = local.rowCapacity(n + 1, false);
+        for (int j = 0; j <= n; j++) {
+            previous[j] = j <= bound ? j : overflow;
+        }
+        for (int i = 1; i <= m; i++) {
+            int from = Math.max(1, i - bound);
+            int to = Math.min(n, i + bound);
+            current[0] = i <= bound ? i : overflow;
+            if (from > 1) {
+                current[from - 1] = overflow;
+            }
+            int rowMinimum = current[0];
+            char ca = a[i - 1];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (ca == b[j - 1] ? 0 : 1);
+                int deletion = previous[j] + 1;
+                int insertion = current[j - 1] + 1;
+                int cell = Math.min(Math.min(deletion, insertion), substitution);
+                if (cell > overflow) {
+                    cell = overflow;
+                }
+                current[j] = cell;
+                if (cell < rowMinimum) {
+                    rowMinimum = cell;
+                }
+            }
+            if (to < n) {
+                current[to + 1] = overflow;
+            }
+            if (rowMinimum > bound) {
+                return overflow;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[n];
+    }
+
+    /**
+     * Copies a trimmed, lower-cased name into a thread-local buffer.
+     * Importance: Avoids allocating trimmed and lower-cased strings for Latin-1 names.
+     * Alternatives: Call trim and toLowerCase on every comparison.
+     *
+     * @param name the raw name.
+     * @param local the thread-local buffers.
+     * @param first whether to fill the first buffer.
+     * @return the normalized length.
+     */
+    private int normalize(String name, Buffers local, boolean first) {
+        int start = 0;
+        int end = name.length();
+        boolean latin1 = true;
+        while (start < end && name.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && name.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        for (int i = start; i < end && latin1; i++) {
+            latin1 = name.charAt(i) < LATIN1_LIMIT;
+        }
+        String source = name;
+        boolean fold = latin1 && latin1LowerCaseIsStable();
+        if (!fold) {
+            source = name.trim().toLowerCase();
+            start = 0;
+            end = source.length();
+            latin1 = true;
+            for (int i = 0; i < end && latin1; i++) {
+                latin1 = source.charAt(i) < LATIN1_LIMIT;
+            }
+        }
+        int length = end - start;
+        char[] target = local.capacity(length, first);
+        for (int i = 0; i < length; i++) {
+            char c = source.charAt(start + i);
+            target[i] = fold ? (char) Character.toLowerCase((int) c) : c;
+        }
+        if (first) {
+            local.latin1A = latin1;
+        } else {
+            local.latin1B = latin1;
+        }
+        return length;
+    }
+
+    /**
+     * Returns whether the default locale lower-cases Latin-1 text one character at a time.
+     * Importance: Keeps the fast path identical to String.toLowerCase; only tr, az, and lt special-case I.
+     * Alternatives: Always lower-case with Locale.ROOT and change legacy semantics.
+     *
+     * @return true when per-character folding matches the default locale.
+     */
+    private static boolean latin1LowerCaseIsStable() {
+        String language = Locale.getDefault().getLanguage();
+        return !"tr".equals(language) && !"az".equals(language) && !"lt".equals(language);
+    }
+
+    /**
+     * Holds per-thread scratch space for the kernel.
+     * Importance: Removes per-comparison allocations from the hot path.
+     * Alternatives: Allocate arrays per call.
+     */
+    private static final class Buffers {
+        private final long[] peq = new long[LATIN1_LIMIT];
+        private final int[] histogram = new int[HISTOGRAM_BUCKETS];
+        private char[] a = new char[INITIAL_BUFFER];
+        private char[] b = new char[INITIAL_BUFFER];
+        private int[] rowA = new int[INITIAL_BUFFER + 1];
+        private int[] rowB = new int[INITIAL_BUFFER + 1];
+        private boolean latin1A;
+        private boolean latin1B;
+
+        /**
+         * Returns a character buffer of at least the requested length.
+         * Importance: Grows name buffers only for unusually long names.
+         * Alternatives: Cap supported name lengths.
+         *
+         * @param length the required length.
+         * @param first whether to return the first buffer.
+         * @return the buffer.
+         */
+        private char[] capacity(int length, boolean first) {
+            if (first) {
+                if (a.length < length) {
+                    a = new char[Math.max(length, a.length * 2)];
+                }
+                return a;
+            }
+            if (b.length < length) {
+                b = new char[Math.max(length, b.length * 2)];
+            }
+            return b;
+        }
+
+        /**
+         * Returns a DP row of at least the requested length.
+         * Importance: Reuses rows across comparisons.
+         * Alternatives: Allocate rows per comparison.
+         *
+         * @param length the required length.
+         * @param first whether to return the first row.
+         * @return the row.
+         */
+        private int[] rowCapacity(int length, boolean first) {
+            if (first) {
+                if (rowA.length < length) {
+                    rowA = new int[Math.max(length, rowA.length * 2)];
+                }
+                return rowA;
+            }
+            if (rowB.length < length) {
+                rowB = new int[Math.max(length, rowB.length * 2)];
+            }
+            return rowB;
+        }
+    }
+}
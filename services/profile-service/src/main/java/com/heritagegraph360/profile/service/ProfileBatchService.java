@@ -0,0 +1,353 @@
+package com.heritagegraph360.profile.service;
+
+import com.heritagegraph360.profile.api.ProfileBatchCreateResponse;
+import com.heritagegraph360.profile.api.ProfileBatchItemResult;
+import com.heritagegraph360.profile.api.ProfileCreateRequest;
+import com.heritagegraph360.profile.audit.AuditLogWriter;
+import com.heritagegraph360.profile.config.ProfileBatchProperties;
+import com.heritagegraph360.profile.contact.ContactConstraints;
+import com.heritagegraph360.profile.contact.ContactIdentifierFilter;
+import com.heritagegraph360.profile.domain.AuditLogEntity;
+import com.heritagegraph360.profile.domain.ProfileEntity;
+import com.heritagegraph360.profile.duplicate.DuplicateCandidateIndex;
+import com.heritagegraph360.profile.nosql.EventPayloadDocument;
+import com.heritagegraph360.profile.nosql.EventPayloadRepository;
+import com.heritagegraph360.profile.stream.ProfileEventPublisher;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Creates profiles in bulk with set-based uniqueness checks.
+ * Importance: Replaces per-profile probes, inserts, audits, and events with a handful of batched statements.
+ * Alternatives: Loop over the single-profile creation workflow.
+ */
+@Service
+public class ProfileBatchService {
+    static final String STATUS_CREATED = "CREATED";
+    static final String STATUS_REJECTED = "REJECTED";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProfileBatchService.class);
+    private static final String INSERT_PROFILE =
+        "INSERT INTO profiles (profile_id, tenant_id, primary_email, primary_phone, display_name, claimed, "
+            + "visibility, created_at) VALUES (?, ?, ?, ?, ?, FALSE, 'PRIVATE', ?)";
+    private static final String EXISTING_EMAILS =
+        "SELECT primary_email FROM profiles WHERE tenant_id = ? AND primary_email = ANY(?)";
+    private static final String EXISTING_PHONES =
+        "SELECT primary_phone FROM profiles WHERE tenant_id = ? AND primary_phone = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditLogWriter auditLogWriter;
+    private final ProfileEventPublisher eventPublisher;
+    private final EventPayloadRepository eventPayloadRepository;
+    private final DuplicateCandidateIndex duplicateCandidateIndex;
+    private final ContactIdentifierFilter contactFilter;
+    private final ProfileBatchProperties properties;
+
+    /**
+     * Creates the batch service.
+     * Importance: Connects bulk creation to relational storage, audit, and the outbox.
+     * Alternatives: Extend ProfileWorkflowService with bulk methods.
+     *
+     * @param jdbcTemplate the JDBC template.
+     * @param transactionManager the transaction manager.
+     * @param auditLogWriter the audit log writer.
+     * @param eventPublisher the profile event publisher.
+     * @param eventPayloadRepository the event payload repository.
+     * @param duplicateCandidateIndex the duplicate candidate index.
+     * @param contactFilter the contact-identifier membership filter.
+     * @param properties the batch properties.
+     */
+    public ProfileBatchService(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               AuditLogWriter auditLogWriter,
+                               ProfileEventPublisher eventPublisher,
+                               EventPayloadRepository eventPayloadRepository,
+                               DuplicateCandidateIndex duplicateCandidateIndex,
+                               ContactIdentifierFilter contactFilter,
+                               ProfileBatchProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.auditLogWriter = auditLogWriter;
+        this.eventPublisher = eventPublisher;
+        this.eventPayloadRepository = eventPayloadRepository;
+        this.duplicateCandidateIndex = duplicateCandidateIndex;
+        this.contactFilter = contactFilter;
+        this.properties = properties;
+    }
+
+    /**
+     * Creates a batch of profiles, rejecting invalid and duplicate items individually.
+     * Importance: Applies the single-create rules to every item with one query per identifier type.
+     * Alternatives: Reject the whole batch when any item fails.
+     *
+     * @param tenantId the tenant identifier.
+     * @param actorId the actor identifier.
+     * @param requests the profiles to create.
+     * @return per-item results in request order.
+     */
+    public ProfileBatchCreateResponse createProfiles(String tenantId, UUID actorId, List<ProfileCreateRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one profile is required");
+        }
+        if (requests.size() > properties.getMaxItems()) {
+            throw new IllegalArgumentException("Batch exceeds " + properties.getMaxItems() + " profiles");
+        }
+        ProfileBatchItemResult[] results = new ProfileBatchItemResult[requests.size()];
+        Map<String, Integer> emails = new HashMap<>();
+        Map<String, Integer> phones = new HashMap<>();
+        List<Integer> candidates = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            ProfileCreateRequest request = requests.get(i);
+            if (request == null || !hasIdentifier(request)) {
+                results[i] = rejected(i, "Email or phone is required");
+            } else if (request.getPrimaryEmail() != null && emails.containsKey(request.getPrimaryEmail())) {
+                results[i] = rejected(i, "Primary email duplicated in batch");
+            } else if (request.getPrimaryPhone() != null && phones.containsKey(request.getPrimaryPhone())) {
+                results[i] = rejected(i, "Primary phone duplicated in batch");
+            } else {
+                if (request.getPrimaryEmail() != null) {
+                    emails.put(request.getPrimaryEmail(), i);
+                }
+                if (request.getPrimaryPhone() != null) {
+                    phones.put(request.getPrimaryPhone(), i);
+                }
+                candidates.add(i);
+            }
+        }
+
+        List<String> maybeEmails = new ArrayList<>();
+        for (String email : emails.keySet()) {
+            if (contactFilter.mightContainEmail(tenantId, email)) {
+                maybeEmails.add(email);
+            }
+        }
+        List<String> maybePhones = new ArrayList<>();
+        for (String phone : phones.keySet()) {
+            if (contactFilter.mightContainPhone(tenantId, phone)) {
+                maybePhones.add(phone);
+            }
+        }
+
+        List<ProfileEntity> created;
+        try {
+            created = transactionTemplate.execute(status -> {
+                Set<String> takenEmails = existing(EXISTING_EMAILS, tenantId, maybeEmails);
+                Set<String> takenPhones = existing(EXISTING_PHONES, tenantId, maybePhones);
+                Instant now = Instant.now();
+                List<ProfileEntity> accepted = new ArrayList<>(candidates.size());
+                for (int index : candidates) {
+                    ProfileCreateRequest request = requests.get(index);
+                    if (request.getPrimaryEmail() != null && takenEmails.contains(request.getPrimaryEmail())) {
+                        results[index] = rejected(index, "Primary email already exists");
+                    } else if (request.getPrimaryPhone() != null && takenPhones.contains(request.getPrimaryPhone())) {
+                        results[index] = rejected(index, "Primary phone already exists");
+                    } else {
+                        ProfileEntity profile = newProfile(tenantId, request, now);
+                        accepted.add(profile);
+                        results[index] = new ProfileBatchItemResult(index, STATUS_CREATED,
+                            profile.getProfileId().toString(), "Profile created: " + profile.getProfileId());
+                    }
+                }
+                if (!accepted.isEmpty()) {
+                    for (ProfileEntity profile : accepted) {
+                        contactFilter.recordProfile(tenantId, profile.getPrimaryEmail(), profile.getPrimaryPhone());
+                    }
+                    insertProfiles(accepted);
+                    auditLogWriter.recordBulk(auditEntries(tenantId, actorId, accepted));
+                    eventPublisher.publishProfileEvents(tenantId, "PROFILE_CREATED", profileIds(accepted));
+                }
+                return accepted;
+            });
+        } catch (DataIntegrityViolationException ex) {
+            throw new IllegalArgumentException(ContactConstraints.describe(ex)
+                + " for a profile created concurrently; retry the batch", ex);
+        }
+
+        afterBatchCommit(tenantId, created);
+        return new ProfileBatchCreateResponse(created.size(), requests.size() - created.size(), List.of(results));
+    }
+
+    /**
+     * Applies post-commit side effects for created profiles.
+     * Importance: Updates in-memory indexes and MongoDB payloads only for committed profiles.
+     * Alternatives: Rely on the profile.events consumer for all follow-up work.
+     *
+     * @param tenantId the tenant identifier.
+     * @param created the created profiles.
+     */
+    private void afterBatchCommit(String tenantId, List<ProfileEntity> created) {
+        if (created.isEmpty()) {
+            return;
+        }
+        for (ProfileEntity profile : created) {
+            duplicateCandidateIndex.recordProfile(tenantId, profile.getProfileId(), profile.getDisplayName(),
+                profile.getPrimaryEmail(), profile.getPrimaryPhone());
+        }
+        List<EventPayloadDocument> payloads = new ArrayList<>(created.size());
+        Instant now = Instant.now();
+        for (ProfileEntity profile : created) {
+            EventPayloadDocument payload = new EventPayloadDocument();
+            payload.setTenantId(tenantId);
+            payload.setEventType("PROFILE_CREATED");
+            payload.setPayloadJson("{\"profileId\":\"" + profile.getProfileId() + "\"}");
+            payload.setIngestedAt(now);
+            payloads.add(payload);
+        }
+        try {
+            eventPayloadRepository.saveAll(payloads);
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Stored {} profiles for tenant {} but could not record their event payloads",
+                created.size(), tenantId, ex);
+        }
+    }
+
+    /**
+     * Returns the identifiers from a set that already exist for the tenant.
+     * Importance: Checks a whole batch with one indexed query.
+     * Alternatives: Probe each identifier with an exists query.
+     *
+     * @param sql the lookup query.
+     * @param tenantId the tenant identifier.
+     * @param values the identifiers to check.
+     * @return the identifiers already in use.
+     */
+    private Set<String> existing(String sql, String tenantId, Collection<String> values) {
+        if (values.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> taken = new HashSet<>();
+        jdbcTemplate.query(sql, ps -> {
+            ps.setString(1, tenantId);
+            ps.setArray(2, ps.getConnection().createArrayOf("varchar", values.toArray()));
+        }, rs -> {
+            taken.add(rs.getString(1));
+        });
+        return taken;
+    }
+
+    /**
+     * Inserts profiles with JDBC batching.
+     * Importance: Sends jdbc-batch-size rows per round trip.
+     * Alternatives: Save entities through JPA one at a time.
+     *
+     * @param profiles the profiles to insert.
+     */
+    private void insertProfiles(List<ProfileEntity> profiles) {
+        jdbcTemplate.batchUpdate(INSERT_PROFILE, profiles, properties.getJdbcBatchSize(), (ps, profile) -> {
+            ps.setObject(1, profile.getProfileId());
+            ps.setString(2, profile.getTenantId());
+            ps.setString(3, profile.getPrimaryEmail());
+            ps.setString(4, profile.getPrimaryPhone());
+            ps.setString(5, profile.getDisplayName());
+            ps.setTimestamp(6, Timestamp.from(profile.getCreatedAt()));
+        });
+    }
+
+    /**
+     * Builds a new private, unclaimed profile.
+     * Importance: Matches the defaults of single-profile creation.
+     * Alternatives: Let database defaults fill visibility and claim state.
+     *
+     * @param tenantId the tenant identifier.
+     * @param request the creation request.
+     * @param now the creation time.
+     * @return the profile.
+     */
+    private ProfileEntity newProfile(String tenantId, ProfileCreateRequest request, Instant now) {
+        ProfileEntity profile = new ProfileEntity();
+        profile.setProfileId(UUID.randomUUID());
+        profile.setTenantId(tenantId);
+        profile.setPrimaryEmail(request.getPrimaryEmail());
+        profile.setPrimaryPhone(request.getPrimaryPhone());
+        profile.setDisplayName(request.getDisplayName());
+        profile.setClaimed(false);
+        profile.setVisibility("PRIVATE");
+        profile.setCreatedAt(now);
+        return profile;
+    }
+
+    /**
+     * Builds one PROFILE_CREATED audit entry per profile.
+     * Importance: Keeps bulk-created profiles as traceable as single ones.
+     * Alternatives: Write one summary audit entry per batch.
+     *
+     * @param tenantId the tenant identifier.
+     * @param actorId the actor identifier.
+     * @param profiles the created profiles.
+     * @return the audit entries.
+     */
+    private List<AuditLogEntity> auditEntries(String tenantId, UUID actorId, List<ProfileEntity> profiles) {
+        List<AuditLogEntity> entries = new ArrayList<>(profiles.size());
+        for (ProfileEntity profile : profiles) {
+            AuditLogEntity entry = new AuditLogEntity();
+            entry.setAuditId(UUID.randomUUID());
+            entry.setTenantId(tenantId);
+            entry.setActorId(actorId);
+            entry.setAction("PROFILE_CREATED");
+            entry.setEntityId(profile.getProfileId());
+            entry.setDetails("Created profile with contact identifiers (batch).");
+            entry.setCreatedAt(profile.getCreatedAt());
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * Returns profile identifiers as strings.
+     * Importance: Feeds bulk event publishing.
+     * Alternatives: Publish UUIDs directly.
+     *
+     * @param profiles the profiles.
+     * @return the identifiers.
+     */
+    private static List<String> profileIds(List<ProfileEntity> profiles) {
+        List<String> ids = new ArrayList<>(profiles.size());
+        for (ProfileEntity profile : profiles) {
+            ids.add(profile.getProfileId().toString());
+        }
+        return ids;
+    }
+
+    /**
+     * Checks that a request carries an email or phone.
+     * Importance: Applies the single-create identifier rule to batch items.
+     * Alternatives: Validate with bean validation annotations.
+     *
+     * @param request the creation request.
+     * @return true when an identifier is present.
+     */
+    private static boolean hasIdentifier(ProfileCreateRequest request) {
+        boolean hasEmail = request.getPrimaryEmail() != null && !request.getPrimaryEmail().isBlank();
+        boolean hasPhone = request.getPrimaryPhone() != null && !request.getPrimaryPhone().isBlank();
+        return hasEmail || hasPhone;
+    }
+
+    /**
+     * Builds a rejected item result.
+     * Importance: Standardizes rejection entries.
+     * Alternatives: Throw per-item exceptions.
+     *
+     * @param index the item index.
+     * @param message the rejection reason.
+     * @return the item result.
+     */
+    private static ProfileBatchItemResult rejected(int index, String message) {
+        return new ProfileBatchItemResult(index, STATUS_REJECTED, null, message);
+    }
+}
@@ -1,11 +1,14 @@
 package com.heritagegraph360.profile.service;
 
+import com.heritagegraph360.profile.grant.FieldGrantResolver;
+import com.heritagegraph360.profile.grant.FieldGrantSet;
 import com.heritagegraph360.profile.grant.ProfileGrantEntity;
 import com.heritagegraph360.profile.grant.ProfileGrantRepository;
+import com.heritagegraph360.profile.stream.ProfileEventPublisher;
 import java.time.Instant;
-import java.util.List;
 import java.util.UUID;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Manages field-level visibility grants.
@@ -15,6 +18,8 @@ import org.springframework.stereotype.Service;
 @Service
 public class ProfileGrantService {
     private final ProfileGrantRepository grantRepository;
+    private final FieldGrantResolver grantResolver;
+    private final ProfileEventPublisher eventPublisher;
 
     /**
      * Creates the grant service.
@@ -22,13 +27,19 @@ public class ProfileGrantService {
      * Alternatives: Use an external policy service.
      *
      * @param grantRepository the grant repository.
+     * @param grantResolver the cached grant resolver.
+     * @param eventPublisher the profile event publisher.
      */
-    public ProfileGrantService(ProfileGrantRepository grantRepository) {
+    public ProfileGrantService(ProfileGrantRepository grantRepository,
+                               FieldGrantResolver grantResolver,
+                               ProfileEventPublisher eventPublisher) {
         this.grantRepository = grantRepository;
+        this.grantResolver = grantResolver;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
-     * Creates a field-level visibility grant.
+     * Creates a field-level visibility grant and publishes it to the other instances' grant caches.
      * Importance: Enables per-person access to sensitive fields.
      * Alternatives: Use policy-based rules only.
      *
@@ -39,6 +50,7 @@ public class ProfileGrantService {
      * @param visibility the visibility level.
      * @return the created grant.
      */
+    @Transactional
     public ProfileGrantEntity createGrant(String tenantId,
                                           UUID profileId,
                                           UUID granteeAccountId,
@@ -52,7 +64,24 @@ public class ProfileGrantService {
         grant.setFieldName(fieldName);
         grant.setVisibility(visibility);
         grant.setCreatedAt(Instant.now());
-        return grantRepository.save(grant);
+        ProfileGrantEntity saved = grantRepository.save(grant);
+        eventPublisher.publishProfileEvent(tenantId, FieldGrantResolver.GRANT_CREATED_EVENT, profileId.toString());
+        grantResolver.invalidate(tenantId, profileId, granteeAccountId);
+        return saved;
+    }
+
+    /**
+     * Returns every field a grantee may view on a profile.
+     * Importance: Lets callers check any number of fields with one cached lookup.
+     * Alternatives: Call canViewField once per field.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the profile identifier.
+     * @param granteeAccountId the grantee account identifier.
+     * @return the grant set.
+     */
+    public FieldGrantSet resolveGrants(String tenantId, UUID profileId, UUID granteeAccountId) {
+        return grantResolver.resolve(tenantId, profileId, granteeAccountId);
     }
 
     /**
@@ -70,8 +99,6 @@ public class ProfileGrantService {
                                 UUID profileId,
                                 UUID granteeAccountId,
                                 String fieldName) {
-        List<ProfileGrantEntity> grants = grantRepository.findByTenantIdAndProfileIdAndGranteeAccountId(
-            tenantId, profileId, granteeAccountId);
-        return grants.stream().anyMatch(grant -> fieldName.equalsIgnoreCase(grant.getFieldName()));
+        return resolveGrants(tenantId, profileId, granteeAccountId).canView(fieldName);
     }
 }
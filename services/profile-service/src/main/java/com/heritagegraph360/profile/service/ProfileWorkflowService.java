@@ -13,23 +13,35 @@ import com.heritagegraph360.profile.api.ProfileCreateResponse;
 import com.heritagegraph360.profile.api.PublicProfileResponse;
 import com.heritagegraph360.profile.api.RelationshipRequest;
 import com.heritagegraph360.profile.api.RelationshipResponse;
+import com.heritagegraph360.profile.audit.AuditLogWriter;
+import com.heritagegraph360.profile.closure.AncestryClosureRebuildRunner;
+import com.heritagegraph360.profile.closure.AncestryClosureStore;
+import com.heritagegraph360.profile.consistency.LineageConsistencyChecker;
+import com.heritagegraph360.profile.contact.ContactConstraints;
+import com.heritagegraph360.profile.contact.ContactIdentifierFilter;
 import com.heritagegraph360.profile.domain.ApprovalEntity;
-import com.heritagegraph360.profile.domain.AuditLogEntity;
 import com.heritagegraph360.profile.domain.MergeEntity;
 import com.heritagegraph360.profile.domain.ProfileEntity;
-import com.heritagegraph360.profile.domain.RelationshipEntity;
+import com.heritagegraph360.profile.duplicate.DuplicateCandidateIndex;
+import com.heritagegraph360.profile.graph.LineageGraphIndex;
+import com.heritagegraph360.profile.merge.MergeClusterIndex;
 import com.heritagegraph360.profile.nosql.EventPayloadDocument;
 import com.heritagegraph360.profile.nosql.EventPayloadRepository;
 import com.heritagegraph360.profile.repo.ApprovalRepository;
-import com.heritagegraph360.profile.repo.AuditLogRepository;
 import com.heritagegraph360.profile.repo.MergeRepository;
 import com.heritagegraph360.profile.repo.ProfileRepository;
-import com.heritagegraph360.profile.repo.RelationshipRepository;
+import com.heritagegraph360.profile.repo.RelationshipEdgeStore;
+import com.heritagegraph360.profile.repo.RelationshipUpsertOutcome;
 import com.heritagegraph360.profile.stream.ProfileEventPublisher;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Coordinates profile lifecycle workflows and persistence.
@@ -41,13 +53,21 @@ public class ProfileWorkflowService {
     private static final String VISIBILITY_PRIVATE = "PRIVATE";
     private static final String VISIBILITY_PUBLIC = "PUBLIC";
     private final ProfileRepository profileRepository;
-    private final RelationshipRepository relationshipRepository;
+    private final RelationshipEdgeStore relationshipEdgeStore;
     private final ApprovalRepository approvalRepository;
-    private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
     private final MergeRepository mergeRepository;
     private final EventPayloadRepository eventPayloadRepository;
     private final DuplicateDetectionService duplicateDetectionService;
     private final ProfileEventPublisher eventPublisher;
+    private final LineageGraphIndex lineageGraphIndex;
+    private final DuplicateCandidateIndex duplicateCandidateIndex;
+    private final PublicProfileCache publicProfileCache;
+    private final ContactIdentifierFilter contactFilter;
+    private final MergeClusterIndex mergeClusterIndex;
+    private final AncestryClosureStore closureStore;
+    private final AncestryClosureRebuildRunner closureRebuildRunner;
+    private final LineageConsistencyChecker consistencyChecker;
 
     /**
      * Creates the workflow service.
@@ -55,30 +75,54 @@ public class ProfileWorkflowService {
      * Alternatives: Use a domain orchestration layer.
      *
      * @param profileRepository the profile repository.
-     * @param relationshipRepository the relationship repository.
+     * @param relationshipEdgeStore the relationship edge store.
      * @param approvalRepository the approval repository.
-     * @param auditLogRepository the audit log repository.
+     * @param auditLogWriter the batched audit log writer.
      * @param mergeRepository the merge repository.
      * @param eventPayloadRepository the event payload repository.
      * @param duplicateDetectionService the duplicate detection service.
      * @param eventPublisher the profile event publisher.
+     * @param lineageGraphIndex the in-memory lineage index.
+     * @param duplicateCandidateIndex the duplicate candidate index.
+     * @param publicProfileCache the public profile read-model cache.
+     * @param contactFilter the contact-identifier membership filter.
+     * @param mergeClusterIndex the merge cluster index.
+     * @param closureStore the ancestry closure store.
+     * @param closureRebuildRunner the ancestry closure rebuild runner.
+     * @param consistencyChecker the lineage consistency checker.
      */
     public ProfileWorkflowService(ProfileRepository profileRepository,
-                                  RelationshipRepository relationshipRepository,
+                                  RelationshipEdgeStore relationshipEdgeStore,
                                   ApprovalRepository approvalRepository,
-                                  AuditLogRepository auditLogRepository,
+                                  AuditLogWriter auditLogWriter,
                                   MergeRepository mergeRepository,
                                   EventPayloadRepository eventPayloadRepository,
                                   DuplicateDetectionService duplicateDetectionService,
-                                  ProfileEventPublisher eventPublisher) {
+                                  ProfileEventPublisher eventPublisher,
+                                  LineageGraphIndex lineageGraphIndex,
+                                  DuplicateCandidateIndex duplicateCandidateIndex,
+                                  PublicProfileCache publicProfileCache,
+                                  ContactIdentifierFilter contactFilter,
+                                  MergeClusterIndex mergeClusterIndex,
+                                  AncestryClosureStore closureStore,
+                                  AncestryClosureRebuildRunner closureRebuildRunner,
+                                  LineageConsistencyChecker consistencyChecker) {
         this.profileRepository = profileRepository;
-        this.relationshipRepository = relationshipRepository;
+        this.relationshipEdgeStore = relationshipEdgeStore;
         this.approvalRepository = approvalRepository;
-        this.auditLogRepository = auditLogRepository;
+        this.auditLogWriter = auditLogWriter;
         this.mergeRepository = mergeRepository;
         this.eventPayloadRepository = eventPayloadRepository;
         this.duplicateDetectionService = duplicateDetectionService;
         this.eventPublisher = eventPublisher;
+        this.lineageGraphIndex = lineageGraphIndex;
+        this.duplicateCandidateIndex = duplicateCandidateIndex;
+        this.publicProfileCache = publicProfileCache;
+        this.contactFilter = contactFilter;
+        this.mergeClusterIndex = mergeClusterIndex;
+        this.closureStore = closureStore;
+        this.closureRebuildRunner = closureRebuildRunner;
+        this.consistencyChecker = consistencyChecker;
     }
 
     /**
@@ -91,13 +135,16 @@ public class ProfileWorkflowService {
      * @param request the profile creation request.
      * @return the profile creation response.
      */
+    @Transactional
     public ProfileCreateResponse createProfile(String tenantId, UUID actorId, ProfileCreateRequest request) {
         validatePrimaryIdentifiers(request);
         if (request.getPrimaryEmail() != null
+            && contactFilter.mightContainEmail(tenantId, request.getPrimaryEmail())
             && profileRepository.existsByTenantIdAndPrimaryEmail(tenantId, request.getPrimaryEmail())) {
             throw new IllegalArgumentException("Primary email already exists");
         }
         if (request.getPrimaryPhone() != null
+            && contactFilter.mightContainPhone(tenantId, request.getPrimaryPhone())
             && profileRepository.existsByTenantIdAndPrimaryPhone(tenantId, request.getPrimaryPhone())) {
             throw new IllegalArgumentException("Primary phone already exists");
         }
@@ -111,12 +158,19 @@ public class ProfileWorkflowService {
         profile.setClaimed(false);
         profile.setVisibility(VISIBILITY_PRIVATE);
         profile.setCreatedAt(Instant.now());
-        profileRepository.save(profile);
+        contactFilter.recordProfile(tenantId, profile.getPrimaryEmail(), profile.getPrimaryPhone());
+        try {
+            profileRepository.saveAndFlush(profile);
+        } catch (DataIntegrityViolationException ex) {
+            throw new IllegalArgumentException(ContactConstraints.describe(ex), ex);
+        }
+        afterCommit(() -> duplicateCandidateIndex.recordProfile(tenantId, profile.getProfileId(),
+            profile.getDisplayName(), profile.getPrimaryEmail(), profile.getPrimaryPhone()));
 
         recordAudit(tenantId, actorId, "PROFILE_CREATED", profile.getProfileId(),
             "Created profile with contact identifiers.");
-        recordEventPayload(tenantId, "PROFILE_CREATED",
-            "{\"profileId\":\"" + profile.getProfileId() + "\"}");
+        afterCommit(() -> recordEventPayload(tenantId, "PROFILE_CREATED",
+            "{\"profileId\":\"" + profile.getProfileId() + "\"}"));
         eventPublisher.publishProfileEvent(tenantId, "PROFILE_CREATED", profile.getProfileId().toString());
 
         return new ProfileCreateResponse("ACCEPTED", "Profile created: " + profile.getProfileId());
@@ -131,12 +185,25 @@ public class ProfileWorkflowService {
      * @return the public profile response.
      */
     public PublicProfileResponse getPublicProfile(UUID profileId) {
-        Optional<ProfileEntity> profile = profileRepository.findByProfileIdAndVisibility(profileId, VISIBILITY_PUBLIC);
-        if (profile.isEmpty()) {
-            throw new IllegalStateException("Profile not public");
-        }
-        ProfileEntity entity = profile.get();
-        return new PublicProfileResponse(entity.getProfileId().toString(), "Public Profile", entity.getVisibility());
+        return publicProfileCache.get(profileId, this::loadPublicProfile)
+            .orElseThrow(() -> new IllegalStateException("Profile not public"));
+    }
+
+    /**
+     * Loads the public profile summary of a profile's canonical profile from the database.
+     * Importance: Supplies the public profile cache on a miss, resolving merged-away ids like authenticated reads.
+     * Alternatives: Project the summary directly in the repository query.
+     *
+     * @param profileId the profile identifier.
+     * @return the public profile summary, or empty when the profile is not public.
+     */
+    private Optional<PublicProfileResponse> loadPublicProfile(UUID profileId) {
+        UUID canonicalId = profileRepository.findById(profileId)
+            .map(entity -> mergeClusterIndex.canonicalProfile(entity.getTenantId(), profileId))
+            .orElse(profileId);
+        return profileRepository.findByProfileIdAndVisibility(canonicalId, VISIBILITY_PUBLIC)
+            .map(entity -> new PublicProfileResponse(entity.getProfileId().toString(), "Public Profile",
+                entity.getVisibility()));
     }
 
     /**
@@ -158,8 +225,10 @@ public class ProfileWorkflowService {
     }
 
     /**
-     * Creates or updates a relationship.
-     * Importance: Maintains lineage connections between profiles.
+     * Creates or updates a relationship on its (tenant, profile, related profile) key.
+     * Importance: Maintains lineage connections between profiles without duplicating repeated edges;
+     * unchanged edges skip closure, index, audit, and event work. New edges that close an ancestor cycle are
+     * stored and recorded as lineage review items.
      * Alternatives: Use a graph database for relationships.
      *
      * @param tenantId the tenant identifier.
@@ -168,23 +237,28 @@ public class ProfileWorkflowService {
      * @param request the relationship request.
      * @return the relationship response.
      */
+    @Transactional
     public RelationshipResponse upsertRelationship(String tenantId, UUID actorId, UUID profileId,
                                                    RelationshipRequest request) {
         requireProfile(tenantId, profileId);
-        RelationshipEntity relationship = new RelationshipEntity();
-        relationship.setRelationshipId(UUID.randomUUID());
-        relationship.setTenantId(tenantId);
-        relationship.setProfileId(profileId);
-        relationship.setRelatedProfileId(UUID.fromString(request.getRelatedProfileId()));
-        relationship.setStatus(request.getStatus());
-        relationship.setCreatedAt(Instant.now());
-        relationshipRepository.save(relationship);
-
-        recordAudit(tenantId, actorId, "RELATIONSHIP_UPSERTED", profileId,
-            "Related profile: " + request.getRelatedProfileId());
-        eventPublisher.publishProfileEvent(tenantId, "RELATIONSHIP_UPSERTED", profileId.toString());
+        UUID relatedProfileId = UUID.fromString(request.getRelatedProfileId());
+        RelationshipEdgeStore.Edge edge = new RelationshipEdgeStore.Edge(profileId, relatedProfileId,
+            request.getStatus());
+        RelationshipUpsertOutcome outcome = relationshipEdgeStore.upsert(tenantId, edge);
+        if (outcome == RelationshipUpsertOutcome.CREATED) {
+            consistencyChecker.checkEdges(tenantId, List.of(edge));
+            closureStore.addEdge(tenantId, profileId, relatedProfileId);
+        }
+        if (outcome != RelationshipUpsertOutcome.UNCHANGED) {
+            afterCommit(() -> lineageGraphIndex.recordRelationship(tenantId, profileId, relatedProfileId,
+                request.getStatus()));
+            recordAudit(tenantId, actorId, "RELATIONSHIP_UPSERTED", profileId,
+                "Related profile: " + request.getRelatedProfileId());
+            eventPublisher.publishProfileEvent(tenantId, "RELATIONSHIP_UPSERTED", profileId.toString());
+        }
 
-        return new RelationshipResponse(profileId.toString(), request.getRelatedProfileId(), request.getStatus());
+        return new RelationshipResponse(profileId.toString(), request.getRelatedProfileId(), request.getStatus(),
+            outcome.name());
     }
 
     /**
@@ -198,6 +272,7 @@ public class ProfileWorkflowService {
      * @param request the merge request.
      * @return the merge response.
      */
+    @Transactional
     public MergeResponse requestMerge(String tenantId, UUID actorId, UUID profileId, MergeRequest request) {
         ProfileEntity source = requireProfile(tenantId, profileId);
         ProfileEntity target = requireProfile(tenantId, UUID.fromString(request.getTargetProfileId()));
@@ -213,7 +288,7 @@ public class ProfileWorkflowService {
         merge.setTargetProfileId(UUID.fromString(request.getTargetProfileId()));
         merge.setStatus(duplicate ? "PENDING" : "REVIEW_REQUIRED");
         merge.setCreatedAt(Instant.now());
-        mergeRepository.save(merge);
+        mergeRepository.saveAndFlush(merge);
 
         recordAudit(tenantId, actorId, "MERGE_REQUESTED", profileId, request.getReason());
         eventPublisher.publishProfileEvent(tenantId, "MERGE_REQUESTED", profileId.toString());
@@ -232,12 +307,28 @@ public class ProfileWorkflowService {
      * @param request the merge decision request.
      * @return the merge decision response.
      */
+    @Transactional
     public MergeDecisionResponse decideMerge(String tenantId, UUID actorId, UUID mergeId,
                                              MergeDecisionRequest request) {
         MergeEntity merge = requireMerge(tenantId, mergeId);
+        String previousStatus = merge.getStatus();
         merge.setStatus(request.getDecision());
+        merge.setDecidedAt(Instant.now());
         mergeRepository.save(merge);
+        boolean wasApproved = MergeClusterIndex.isApproved(previousStatus);
+        boolean approved = MergeClusterIndex.isApproved(merge.getStatus());
+        if (approved && !wasApproved) {
+            closureStore.mergeProfile(tenantId,
+                mergeClusterIndex.canonicalProfile(tenantId, merge.getSourceProfileId()),
+                mergeClusterIndex.canonicalProfile(tenantId, merge.getTargetProfileId()));
+        }
+        afterCommit(() -> mergeClusterIndex.recordDecision(tenantId, merge.getSourceProfileId(),
+            merge.getTargetProfileId(), previousStatus, merge.getStatus()));
+        if (wasApproved && !approved) {
+            afterCommit(() -> closureRebuildRunner.start(tenantId));
+        }
         recordAudit(tenantId, actorId, "MERGE_DECISION", merge.getSourceProfileId(), request.getReason());
+        eventPublisher.publishProfileEvent(tenantId, "MERGE_DECIDED", merge.getSourceProfileId().toString());
         return new MergeDecisionResponse(mergeId.toString(), request.getDecision(), "RECORDED");
     }
 
@@ -316,8 +407,8 @@ public class ProfileWorkflowService {
     }
 
     /**
-     * Records an audit log entry.
-     * Importance: Ensures compliance tracking for profile operations.
+     * Records an audit log entry through the batched writer.
+     * Importance: Ensures compliance tracking for profile operations without a per-entry insert.
      * Alternatives: Stream audit events to an external audit service.
      *
      * @param tenantId the tenant identifier.
@@ -327,15 +418,7 @@ public class ProfileWorkflowService {
      * @param details the audit details.
      */
     private void recordAudit(String tenantId, UUID actorId, String action, UUID entityId, String details) {
-        AuditLogEntity audit = new AuditLogEntity();
-        audit.setAuditId(UUID.randomUUID());
-        audit.setTenantId(tenantId);
-        audit.setActorId(actorId);
-        audit.setAction(action);
-        audit.setEntityId(entityId);
-        audit.setDetails(details);
-        audit.setCreatedAt(Instant.now());
-        auditLogRepository.save(audit);
+        auditLogWriter.record(tenantId, actorId, action, entityId, details);
     }
 
     /**
@@ -356,6 +439,26 @@ public class ProfileWorkflowService {
         eventPayloadRepository.save(payload);
     }
 
+    /**
+     * Runs an action once the current transaction commits.
+     * Importance: Keeps in-memory indexes and MongoDB payloads from reflecting rolled-back changes.
+     * Alternatives: Publish application events with a transactional listener.
+     *
+     * @param action the action to run.
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     /**
      * Determines whether two profiles share contact identifiers.
      * Importance: Supports duplicate detection rules that require shared contacts.
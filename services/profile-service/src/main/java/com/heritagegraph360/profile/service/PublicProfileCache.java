@@ -0,0 +1,167 @@
+package com.heritagegraph360.profile.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.heritagegraph360.profile.api.PublicProfileResponse;
+import com.heritagegraph360.profile.config.PublicProfileCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches public profile responses, including negative results for non-public ids.
+ * Importance: Keeps anonymous public profile traffic off PostgreSQL.
+ * Alternatives: Serve public profiles from a CDN or a separate read store.
+ */
+@Component
+public class PublicProfileCache {
+    static final String CACHE_NAME = "public-profiles";
+
+    private final Cache<UUID, Optional<PublicProfileResponse>> cache;
+    private final boolean enabled;
+
+    /**
+     * Creates the cache and registers its metrics.
+     * Importance: Exposes hit, miss, and eviction counts on the Prometheus endpoint.
+     * Alternatives: Use Spring's cache abstraction with a CaffeineCacheManager.
+     *
+     * @param properties the cache properties.
+     * @param meterRegistry the metrics registry.
+     */
+    public PublicProfileCache(PublicProfileCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfter(new VisibilityExpiry(
+                TimeUnit.SECONDS.toNanos(properties.getTtlSeconds()),
+                TimeUnit.SECONDS.toNanos(properties.getNegativeTtlSeconds())))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached response for a profile, loading it once on a miss.
+     * Importance: Coalesces concurrent misses for the same id into one query.
+     * Alternatives: Let every concurrent miss query the database.
+     *
+     * @param profileId the profile identifier.
+     * @param loader the loader returning the response, or empty when the profile is not public.
+     * @return the public profile response, or empty when the profile is not public.
+     */
+    public Optional<PublicProfileResponse> get(UUID profileId,
+                                               Function<UUID, Optional<PublicProfileResponse>> loader) {
+        if (!enabled) {
+            return loader.apply(profileId);
+        }
+        return cache.get(profileId, loader);
+    }
+
+    /**
+     * Removes a profile from the cache.
+     * Importance: Applies profile change events to the read model.
+     * Alternatives: Wait for the entry to expire.
+     *
+     * @param profileId the profile identifier.
+     */
+    public void invalidate(UUID profileId) {
+        cache.invalidate(profileId);
+    }
+
+    /**
+     * Removes every cached profile.
+     * Importance: Recovers from events that cannot be attributed to a profile.
+     * Alternatives: Ignore unattributed events.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the approximate number of cached ids.
+     * Importance: Supports diagnostics and tests.
+     * Alternatives: Read the cache.size gauge.
+     *
+     * @return the estimated size.
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Expires public entries and negative entries on separate schedules.
+     * Importance: Keeps negative entries short-lived so newly public profiles appear quickly.
+     * Alternatives: Use one TTL for both kinds of entries.
+     */
+    private static final class VisibilityExpiry implements Expiry<UUID, Optional<PublicProfileResponse>> {
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        /**
+         * Creates the expiry policy.
+         * Importance: Captures both TTLs once.
+         * Alternatives: Read properties on every call.
+         *
+         * @param ttlNanos the public entry time to live.
+         * @param negativeTtlNanos the negative entry time to live.
+         */
+        private VisibilityExpiry(long ttlNanos, long negativeTtlNanos) {
+            this.ttlNanos = ttlNanos;
+            this.negativeTtlNanos = negativeTtlNanos;
+        }
+
+        /**
+         * Returns the lifetime of a new entry.
+         * Importance: Chooses the TTL by entry kind.
+         * Alternatives: Apply a single TTL.
+         *
+         * @param key the profile identifier.
+         * @param value the cached response.
+         * @param currentTime the current ticker time.
+         * @return the lifetime in nanoseconds.
+         */
+        @Override
+        public long expireAfterCreate(UUID key, Optional<PublicProfileResponse> value, long currentTime) {
+            return value.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+
+        /**
+         * Returns the lifetime of a replaced entry.
+         * Importance: Restarts the TTL for the new value.
+         * Alternatives: Keep the original expiry.
+         *
+         * @param key the profile identifier.
+         * @param value the cached response.
+         * @param currentTime the current ticker time.
+         * @param currentDuration the remaining lifetime.
+         * @return the lifetime in nanoseconds.
+         */
+        @Override
+        public long expireAfterUpdate(UUID key, Optional<PublicProfileResponse> value,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        /**
+         * Returns the lifetime after a read.
+         * Importance: Reads never extend an entry, so the TTL bounds staleness.
+         * Alternatives: Extend entries on access.
+         *
+         * @param key the profile identifier.
+         * @param value the cached response.
+         * @param currentTime the current ticker time.
+         * @param currentDuration the remaining lifetime.
+         * @return the remaining lifetime in nanoseconds.
+         */
+        @Override
+        public long expireAfterRead(UUID key, Optional<PublicProfileResponse> value,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
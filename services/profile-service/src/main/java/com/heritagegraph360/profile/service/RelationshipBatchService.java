@@ -0,0 +1,394 @@
+package com.heritagegraph360.profile.service;
+
+import com.heritagegraph360.profile.api.RelationshipBatchEdge;
+import com.heritagegraph360.profile.api.RelationshipBatchItemResult;
+import com.heritagegraph360.profile.api.RelationshipBatchResponse;
+import com.heritagegraph360.profile.audit.AuditLogWriter;
+import com.heritagegraph360.profile.closure.AncestryClosureRebuildRunner;
+import com.heritagegraph360.profile.closure.AncestryClosureStore;
+import com.heritagegraph360.profile.config.RelationshipBatchProperties;
+import com.heritagegraph360.profile.consistency.LineageConsistencyChecker;
+import com.heritagegraph360.profile.consistency.LineageConsistencyScanRunner;
+import com.heritagegraph360.profile.consistency.LineageViolation;
+import com.heritagegraph360.profile.domain.AuditLogEntity;
+import com.heritagegraph360.profile.graph.LineageGraphIndex;
+import com.heritagegraph360.profile.repo.RelationshipEdgeStore;
+import com.heritagegraph360.profile.repo.RelationshipUpsertOutcome;
+import com.heritagegraph360.profile.stream.ProfileEventPublisher;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Upserts relationship edges in bulk with per-edge outcomes.
+ * Importance: Lets GEDCOM-scale imports apply thousands of edges per call without duplicating repeated ones.
+ * Alternatives: Loop over the single-relationship workflow.
+ */
+@Service
+public class RelationshipBatchService {
+    static final String OUTCOME_REJECTED = "REJECTED";
+
+    private static final int MAX_STATUS_LENGTH = 16;
+    private static final String EXISTING_PROFILES =
+        "SELECT profile_id FROM profiles WHERE tenant_id = ? AND profile_id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RelationshipEdgeStore edgeStore;
+    private final AncestryClosureStore closureStore;
+    private final AncestryClosureRebuildRunner closureRebuildRunner;
+    private final LineageGraphIndex lineageGraphIndex;
+    private final AuditLogWriter auditLogWriter;
+    private final ProfileEventPublisher eventPublisher;
+    private final LineageConsistencyChecker consistencyChecker;
+    private final LineageConsistencyScanRunner consistencyScanRunner;
+    private final RelationshipBatchProperties properties;
+
+    /**
+     * Holds a validated edge with its request position.
+     * Importance: Keeps parsed identifiers next to the index their result belongs to.
+     * Alternatives: Re-parse identifiers after the upsert.
+     */
+    private static final class Candidate {
+        private final int index;
+        private final RelationshipEdgeStore.Edge edge;
+
+        /**
+         * Creates a candidate.
+         * Importance: Pairs an edge with its request position.
+         * Alternatives: Use parallel lists.
+         *
+         * @param index the edge position in the request.
+         * @param edge the parsed edge.
+         */
+        private Candidate(int index, RelationshipEdgeStore.Edge edge) {
+            this.index = index;
+            this.edge = edge;
+        }
+    }
+
+    /**
+     * Creates the relationship batch service.
+     * Importance: Connects bulk edges to relational storage, closure maintenance, indexes, audit, and the outbox.
+     * Alternatives: Extend ProfileWorkflowService with bulk methods.
+     *
+     * @param jdbcTemplate the JDBC template.
+     * @param transactionManager the transaction manager.
+     * @param edgeStore the relationship edge store.
+     * @param closureStore the ancestry closure store.
+     * @param closureRebuildRunner the ancestry closure rebuild runner.
+     * @param lineageGraphIndex the in-memory lineage index.
+     * @param auditLogWriter the audit log writer.
+     * @param eventPublisher the profile event publisher.
+     * @param consistencyChecker the lineage consistency checker.
+     * @param consistencyScanRunner the lineage consistency scan runner.
+     * @param properties the relationship batch properties.
+     */
+    public RelationshipBatchService(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    RelationshipEdgeStore edgeStore,
+                                    AncestryClosureStore closureStore,
+                                    AncestryClosureRebuildRunner closureRebuildRunner,
+                                    LineageGraphIndex lineageGraphIndex,
+                                    AuditLogWriter auditLogWriter,
+                                    ProfileEventPublisher eventPublisher,
+                                    LineageConsistencyChecker consistencyChecker,
+                                    LineageConsistencyScanRunner consistencyScanRunner,
+                                    RelationshipBatchProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.edgeStore = edgeStore;
+        this.closureStore = closureStore;
+        this.closureRebuildRunner = closureRebuildRunner;
+        this.lineageGraphIndex = lineageGraphIndex;
+        this.auditLogWriter = auditLogWriter;
+        this.eventPublisher = eventPublisher;
+        this.consistencyChecker = consistencyChecker;
+        this.consistencyScanRunner = consistencyScanRunner;
+        this.properties = properties;
+    }
+
+    /**
+     * Upserts a batch of edges, rejecting invalid and duplicate edges individually.
+     * Importance: Applies the single-upsert semantics to every edge with one profile lookup and a few
+     * multi-row upserts.
+     * Alternatives: Reject the whole batch when any edge fails.
+     *
+     * @param tenantId the tenant identifier.
+     * @param actorId the actor identifier.
+     * @param edges the edges to upsert.
+     * @return per-edge results in request order.
+     */
+    public RelationshipBatchResponse upsertRelationships(String tenantId, UUID actorId,
+                                                         List<RelationshipBatchEdge> edges) {
+        if (edges == null || edges.isEmpty()) {
+            throw new IllegalArgumentException("At least one edge is required");
+        }
+        if (edges.size() > properties.getMaxItems()) {
+            throw new IllegalArgumentException("Batch exceeds " + properties.getMaxItems() + " edges");
+        }
+        RelationshipBatchItemResult[] results = new RelationshipBatchItemResult[edges.size()];
+        Set<List<UUID>> keys = new HashSet<>();
+        Set<UUID> profileIds = new LinkedHashSet<>();
+        List<Candidate> candidates = new ArrayList<>(edges.size());
+        for (int i = 0; i < edges.size(); i++) {
+            String problem = validate(edges.get(i));
+            if (problem != null) {
+                results[i] = rejected(i, problem);
+                continue;
+            }
+            RelationshipBatchEdge request = edges.get(i);
+            RelationshipEdgeStore.Edge edge = new RelationshipEdgeStore.Edge(UUID.fromString(request.getProfileId()),
+                UUID.fromString(request.getRelatedProfileId()), request.getStatus());
+            if (!keys.add(List.of(edge.getProfileId(), edge.getRelatedProfileId()))) {
+                results[i] = rejected(i, "Edge duplicated in batch");
+                continue;
+            }
+            profileIds.add(edge.getProfileId());
+            profileIds.add(edge.getRelatedProfileId());
+            candidates.add(new Candidate(i, edge));
+        }
+
+        List<Candidate> changed = new ArrayList<>();
+        int[] created = new int[1];
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<UUID> known = existingProfiles(tenantId, profileIds);
+            List<Candidate> accepted = new ArrayList<>(candidates.size());
+            for (Candidate candidate : candidates) {
+                if (!known.contains(candidate.edge.getProfileId())) {
+                    results[candidate.index] = rejected(candidate.index, "Profile not found");
+                } else if (!known.contains(candidate.edge.getRelatedProfileId())) {
+                    results[candidate.index] = rejected(candidate.index, "Related profile not found");
+                } else {
+                    accepted.add(candidate);
+                }
+            }
+            if (accepted.isEmpty()) {
+                return;
+            }
+            List<RelationshipEdgeStore.Edge> batch = new ArrayList<>(accepted.size());
+            for (Candidate candidate : accepted) {
+                batch.add(candidate.edge);
+            }
+            RelationshipUpsertOutcome[] outcomes = edgeStore.upsertAll(tenantId, batch);
+            List<Candidate> inserted = new ArrayList<>();
+            for (int i = 0; i < outcomes.length; i++) {
+                Candidate candidate = accepted.get(i);
+                results[candidate.index] = new RelationshipBatchItemResult(candidate.index, outcomes[i].name(), null);
+                if (outcomes[i] == RelationshipUpsertOutcome.CREATED) {
+                    inserted.add(candidate);
+                }
+                if (outcomes[i] != RelationshipUpsertOutcome.UNCHANGED) {
+                    changed.add(candidate);
+                }
+            }
+            created[0] = inserted.size();
+            if (consistencyChecker.checksIncrementally(inserted.size())) {
+                checkConsistency(tenantId, inserted, results);
+            }
+            if (inserted.size() <= properties.getClosureRebuildThreshold()) {
+                for (Candidate candidate : inserted) {
+                    closureStore.addEdge(tenantId, candidate.edge.getProfileId(), candidate.edge.getRelatedProfileId());
+                }
+            }
+            if (!changed.isEmpty()) {
+                auditLogWriter.recordBulk(auditEntries(tenantId, actorId, changed));
+                eventPublisher.publishProfileEvents(tenantId, "RELATIONSHIP_UPSERTED", changedProfileIds(changed));
+            }
+        });
+
+        afterBatchCommit(tenantId, changed, created[0]);
+        return summarize(results);
+    }
+
+    /**
+     * Applies post-commit side effects for changed edges.
+     * Importance: Updates the lineage index only for committed edges and hands large imports to a closure rebuild
+     * and a consistency scan.
+     * Alternatives: Rely on the next lineage index reload.
+     *
+     * @param tenantId the tenant identifier.
+     * @param changed the created or updated edges.
+     * @param created the number of created edges.
+     */
+    private void afterBatchCommit(String tenantId, List<Candidate> changed, int created) {
+        for (Candidate candidate : changed) {
+            lineageGraphIndex.recordRelationship(tenantId, candidate.edge.getProfileId(),
+                candidate.edge.getRelatedProfileId(), candidate.edge.getStatus());
+        }
+        if (created > properties.getClosureRebuildThreshold()) {
+            closureRebuildRunner.start(tenantId);
+        }
+        if (!consistencyChecker.checksIncrementally(created)) {
+            consistencyScanRunner.start(tenantId);
+        }
+    }
+
+    /**
+     * Checks new edges for impossible lineages and notes violations on their results.
+     * Importance: Tells importers which edges were stored but queued for review.
+     * Alternatives: Report violations only through the review queue.
+     *
+     * @param tenantId the tenant identifier.
+     * @param inserted the created edges.
+     * @param results the per-edge results to annotate.
+     */
+    private void checkConsistency(String tenantId, List<Candidate> inserted, RelationshipBatchItemResult[] results) {
+        List<RelationshipEdgeStore.Edge> edges = new ArrayList<>(inserted.size());
+        for (Candidate candidate : inserted) {
+            edges.add(candidate.edge);
+        }
+        LineageViolation[] violations = consistencyChecker.checkEdges(tenantId, edges);
+        for (int i = 0; i < violations.length; i++) {
+            if (violations[i] != null) {
+                int index = inserted.get(i).index;
+                results[index] = new RelationshipBatchItemResult(index, RelationshipUpsertOutcome.CREATED.name(),
+                    "Recorded for review: " + violations[i].getType());
+            }
+        }
+    }
+
+    /**
+     * Returns the profiles from a set that exist for the tenant.
+     * Importance: Checks every endpoint of a batch with one indexed query.
+     * Alternatives: Let foreign keys fail the whole batch.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileIds the profiles to check.
+     * @return the existing profiles.
+     */
+    private Set<UUID> existingProfiles(String tenantId, Collection<UUID> profileIds) {
+        if (profileIds.isEmpty()) {
+            return Set.of();
+        }
+        Set<UUID> known = new HashSet<>();
+        jdbcTemplate.query(EXISTING_PROFILES, ps -> {
+            ps.setString(1, tenantId);
+            ps.setArray(2, ps.getConnection().createArrayOf("uuid", profileIds.toArray()));
+        }, rs -> {
+            known.add(rs.getObject(1, UUID.class));
+        });
+        return known;
+    }
+
+    /**
+     * Builds one RELATIONSHIP_UPSERTED audit entry per changed edge.
+     * Importance: Keeps bulk edges as traceable as single upserts.
+     * Alternatives: Write one summary audit entry per batch.
+     *
+     * @param tenantId the tenant identifier.
+     * @param actorId the actor identifier.
+     * @param changed the created or updated edges.
+     * @return the audit entries.
+     */
+    private static List<AuditLogEntity> auditEntries(String tenantId, UUID actorId, List<Candidate> changed) {
+        Instant now = Instant.now();
+        List<AuditLogEntity> entries = new ArrayList<>(changed.size());
+        for (Candidate candidate : changed) {
+            AuditLogEntity entry = new AuditLogEntity();
+            entry.setAuditId(UUID.randomUUID());
+            entry.setTenantId(tenantId);
+            entry.setActorId(actorId);
+            entry.setAction("RELATIONSHIP_UPSERTED");
+            entry.setEntityId(candidate.edge.getProfileId());
+            entry.setDetails("Related profile: " + candidate.edge.getRelatedProfileId() + " (batch)");
+            entry.setCreatedAt(now);
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the distinct owning profiles of changed edges.
+     * Importance: Publishes one event per affected profile rather than per edge.
+     * Alternatives: Publish one event per edge.
+     *
+     * @param changed the created or updated edges.
+     * @return the profile identifiers.
+     */
+    private static List<String> changedProfileIds(List<Candidate> changed) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (Candidate candidate : changed) {
+            ids.add(candidate.edge.getProfileId().toString());
+        }
+        return new ArrayList<>(ids);
+    }
+
+    /**
+     * Counts outcomes and wraps the results.
+     * Importance: Gives importers totals without scanning the results.
+     * Alternatives: Track counters while applying edges.
+     *
+     * @param results the per-edge results.
+     * @return the batch response.
+     */
+    private static RelationshipBatchResponse summarize(RelationshipBatchItemResult[] results) {
+        int created = 0;
+        int updated = 0;
+        int unchanged = 0;
+        int rejected = 0;
+        for (RelationshipBatchItemResult result : results) {
+            switch (result.getOutcome()) {
+                case "CREATED" -> created++;
+                case "UPDATED" -> updated++;
+                case "UNCHANGED" -> unchanged++;
+                default -> rejected++;
+            }
+        }
+        return new RelationshipBatchResponse(created, updated, unchanged, rejected, List.of(results));
+    }
+
+    /**
+     * Checks an edge's identifiers and status.
+     * Importance: Rejects edges that would fail the upsert before any SQL runs.
+     * Alternatives: Validate with bean validation annotations.
+     *
+     * @param edge the requested edge.
+     * @return the rejection reason, or null when the edge is well formed.
+     */
+    private static String validate(RelationshipBatchEdge edge) {
+        if (edge == null || edge.getProfileId() == null || edge.getRelatedProfileId() == null) {
+            return "Profile and related profile are required";
+        }
+        UUID profileId;
+        UUID relatedProfileId;
+        try {
+            profileId = UUID.fromString(edge.getProfileId());
+            relatedProfileId = UUID.fromString(edge.getRelatedProfileId());
+        } catch (IllegalArgumentException ex) {
+            return "Malformed profile identifier";
+        }
+        if (profileId.equals(relatedProfileId)) {
+            return "A profile cannot be related to itself";
+        }
+        if (edge.getStatus() == null || edge.getStatus().isBlank()) {
+            return "Status is required";
+        }
+        if (edge.getStatus().length() > MAX_STATUS_LENGTH) {
+            return "Status exceeds " + MAX_STATUS_LENGTH + " characters";
+        }
+        return null;
+    }
+
+    /**
+     * Builds a rejected item result.
+     * Importance: Standardizes rejection entries.
+     * Alternatives: Throw per-item exceptions.
+     *
+     * @param index the edge position.
+     * @param message the rejection reason.
+     * @return the item result.
+     */
+    private static RelationshipBatchItemResult rejected(int index, String message) {
+        return new RelationshipBatchItemResult(index, OUTCOME_REJECTED, message);
+    }
+}
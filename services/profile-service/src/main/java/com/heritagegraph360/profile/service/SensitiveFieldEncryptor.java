@@ -1,83 +1,146 @@
 package com.heritagegraph360.profile.service;
 
+import com.heritagegraph360.profile.config.EncryptionProperties;
+import com.heritagegraph360.profile.crypto.DataKey;
+import com.heritagegraph360.profile.crypto.FieldCipher;
+import com.heritagegraph360.profile.crypto.TenantDataKeyService;
 import java.nio.charset.StandardCharsets;
-import java.security.SecureRandom;
-import java.util.Base64;
-import javax.crypto.Cipher;
+import java.util.ArrayList;
+import java.util.List;
 import javax.crypto.SecretKey;
-import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import org.springframework.stereotype.Component;
 
 /**
  * Encrypts and decrypts sensitive field values.
- * Importance: Protects medical and financial data at rest.
+ * Importance: Protects medical and financial data at rest under a per-tenant data key.
  * Alternatives: Use an external vault or HSM-backed service.
  */
 @Component
 public class SensitiveFieldEncryptor {
-    private static final int IV_LENGTH = 12;
-    private static final int TAG_LENGTH = 128;
+    private static final int LEGACY_KEY_LENGTH = 16;
+
+    private final TenantDataKeyService dataKeys;
+    private final FieldCipher cipher;
+    private final SecretKey legacyKey;
 
     /**
-     * Encrypts a sensitive value using AES-GCM.
-     * Importance: Ensures confidentiality and integrity for sensitive data.
-     * Alternatives: Use envelope encryption with KMS.
+     * Creates the encryptor.
+     * Importance: Builds the legacy key once instead of on every decrypt.
+     * Alternatives: Read the legacy key from the environment per call.
      *
+     * @param dataKeys the tenant data key service.
+     * @param cipher the pooled field cipher.
+     * @param properties the encryption properties.
+     */
+    public SensitiveFieldEncryptor(TenantDataKeyService dataKeys, FieldCipher cipher, EncryptionProperties properties) {
+        this.dataKeys = dataKeys;
+        this.cipher = cipher;
+        this.legacyKey = legacyKey(properties.getLegacyKey());
+    }
+
+    /**
+     * Encrypts a sensitive value using the tenant's active data key.
+     * Importance: Ensures confidentiality, integrity, and tenant binding for sensitive data.
+     * Alternatives: Encrypt with a single global key.
+     *
+     * @param tenantId the tenant identifier.
      * @param plainText the plaintext value.
-     * @return the Base64-encoded encrypted value.
+     * @return the envelope ciphertext.
      */
-    public String encrypt(String plainText) {
-        try {
-            byte[] iv = new byte[IV_LENGTH];
-            new SecureRandom().nextBytes(iv);
-            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
-            cipher.init(Cipher.ENCRYPT_MODE, getKey(), new GCMParameterSpec(TAG_LENGTH, iv));
-            byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
-            byte[] combined = new byte[iv.length + encrypted.length];
-            System.arraycopy(iv, 0, combined, 0, iv.length);
-            System.arraycopy(encrypted, 0, combined, iv.length, encrypted.length);
-            return Base64.getEncoder().encodeToString(combined);
-        } catch (Exception ex) {
-            throw new IllegalStateException("Failed to encrypt value", ex);
-        }
+    public String encrypt(String tenantId, String plainText) {
+        return cipher.encrypt(dataKeys.activeKey(tenantId), plainText);
     }
 
     /**
-     * Decrypts a sensitive value using AES-GCM.
-     * Importance: Allows authorized workflows to access sensitive data.
-     * Alternatives: Use envelope encryption with KMS.
+     * Decrypts a sensitive value written for a tenant.
+     * Importance: Resolves the key generation from the ciphertext and still reads pre-envelope values.
+     * Alternatives: Store the key generation in a separate field.
      *
-     * @param cipherText the Base64-encoded encrypted value.
+     * @param tenantId the tenant identifier.
+     * @param cipherText the ciphertext.
      * @return the decrypted plaintext.
      */
-    public String decrypt(String cipherText) {
-        try {
-            byte[] decoded = Base64.getDecoder().decode(cipherText);
-            byte[] iv = new byte[IV_LENGTH];
-            byte[] encrypted = new byte[decoded.length - IV_LENGTH];
-            System.arraycopy(decoded, 0, iv, 0, IV_LENGTH);
-            System.arraycopy(decoded, IV_LENGTH, encrypted, 0, encrypted.length);
-            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
-            cipher.init(Cipher.DECRYPT_MODE, getKey(), new GCMParameterSpec(TAG_LENGTH, iv));
-            byte[] decrypted = cipher.doFinal(encrypted);
-            return new String(decrypted, StandardCharsets.UTF_8);
-        } catch (Exception ex) {
-            throw new IllegalStateException("Failed to decrypt value", ex);
+    public String decrypt(String tenantId, String cipherText) {
+        int generation = FieldCipher.generationOf(cipherText);
+        if (generation == FieldCipher.LEGACY_GENERATION) {
+            return cipher.decryptLegacy(legacyKey, cipherText);
+        }
+        return cipher.decrypt(dataKeys.key(tenantId, generation), cipherText);
+    }
+
+    /**
+     * Encrypts several values for one tenant.
+     * Importance: Resolves the data key once for the whole batch.
+     * Alternatives: Call {@link #encrypt(String, String)} per value.
+     *
+     * @param tenantId the tenant identifier.
+     * @param plainTexts the plaintext values.
+     * @return the ciphertexts, in input order.
+     */
+    public List<String> encryptAll(String tenantId, List<String> plainTexts) {
+        DataKey key = dataKeys.activeKey(tenantId);
+        List<String> encrypted = new ArrayList<>(plainTexts.size());
+        for (String plainText : plainTexts) {
+            encrypted.add(cipher.encrypt(key, plainText));
+        }
+        return encrypted;
+    }
+
+    /**
+     * Decrypts several values for one tenant.
+     * Importance: Reuses the resolved key while consecutive values share a generation.
+     * Alternatives: Call {@link #decrypt(String, String)} per value.
+     *
+     * @param tenantId the tenant identifier.
+     * @param cipherTexts the ciphertexts.
+     * @return the plaintexts, in input order.
+     */
+    public List<String> decryptAll(String tenantId, List<String> cipherTexts) {
+        List<String> decrypted = new ArrayList<>(cipherTexts.size());
+        DataKey key = null;
+        for (String cipherText : cipherTexts) {
+            int generation = FieldCipher.generationOf(cipherText);
+            if (generation == FieldCipher.LEGACY_GENERATION) {
+                decrypted.add(cipher.decryptLegacy(legacyKey, cipherText));
+                continue;
+            }
+            if (key == null || key.getGeneration() != generation) {
+                key = dataKeys.key(tenantId, generation);
+            }
+            decrypted.add(cipher.decrypt(key, cipherText));
+        }
+        return decrypted;
+    }
+
+    /**
+     * Re-encrypts a value under a specific key generation.
+     * Importance: Lets the rotation job target the generation it rotated to, even while other instances still cache the previous active key.
+     * Alternatives: Encrypt with whatever key is active when the value is processed.
+     *
+     * @param tenantId the tenant identifier.
+     * @param cipherText the current ciphertext, in any generation including legacy.
+     * @param targetGeneration the generation to encrypt under.
+     * @return the new ciphertext, or the input when it is already under the target generation.
+     */
+    public String reencrypt(String tenantId, String cipherText, int targetGeneration) {
+        if (FieldCipher.generationOf(cipherText) == targetGeneration) {
+            return cipherText;
         }
+        return cipher.encrypt(dataKeys.key(tenantId, targetGeneration), decrypt(tenantId, cipherText));
     }
 
     /**
-     * Returns the encryption key.
-     * Importance: Centralizes key loading for encryption operations.
-     * Alternatives: Load keys from a secrets manager.
+     * Builds the pre-envelope global key.
+     * Importance: Matches the original key normalization so existing values stay readable.
+     * Alternatives: Derive the key with a KDF, which would not match stored values.
      *
+     * @param key the legacy key text.
      * @return the secret key.
      */
-    private SecretKey getKey() {
-        String key = System.getenv().getOrDefault("HG360_ENCRYPTION_KEY", "heritagegraph360!");
+    private static SecretKey legacyKey(String key) {
         byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
-        byte[] normalized = new byte[16];
+        byte[] normalized = new byte[LEGACY_KEY_LENGTH];
         System.arraycopy(keyBytes, 0, normalized, 0, Math.min(keyBytes.length, normalized.length));
         return new SecretKeySpec(normalized, "AES");
     }
@@ -1,10 +1,14 @@
 package com.heritagegraph360.profile.service;
 
+import com.heritagegraph360.profile.api.SensitiveFieldRequest;
+import com.heritagegraph360.profile.audit.AuditLogWriter;
+import com.heritagegraph360.profile.crypto.FieldCipher;
 import com.heritagegraph360.profile.domain.AuditLogEntity;
 import com.heritagegraph360.profile.nosql.SensitiveFieldDocument;
 import com.heritagegraph360.profile.nosql.SensitiveFieldRepository;
-import com.heritagegraph360.profile.repo.AuditLogRepository;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.stereotype.Service;
 
@@ -15,9 +19,12 @@ import org.springframework.stereotype.Service;
  */
 @Service
 public class SensitiveFieldService {
+    static final int MAX_BATCH_FIELDS = 100;
+    private static final String STORED_ACTION = "SENSITIVE_FIELD_STORED";
+
     private final SensitiveFieldEncryptor encryptor;
     private final SensitiveFieldRepository repository;
-    private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
 
     /**
      * Creates the sensitive field service.
@@ -26,13 +33,14 @@ public class SensitiveFieldService {
      *
      * @param encryptor the encryptor.
      * @param repository the repository.
+     * @param auditLogWriter the batched audit log writer.
      */
     public SensitiveFieldService(SensitiveFieldEncryptor encryptor,
                                  SensitiveFieldRepository repository,
-                                 AuditLogRepository auditLogRepository) {
+                                 AuditLogWriter auditLogWriter) {
         this.encryptor = encryptor;
         this.repository = repository;
-        this.auditLogRepository = auditLogRepository;
+        this.auditLogWriter = auditLogWriter;
     }
 
     /**
@@ -41,19 +49,82 @@ public class SensitiveFieldService {
      * Alternatives: Store only hashes of sensitive fields.
      *
      * @param tenantId the tenant identifier.
+     * @param actorId the actor identifier.
      * @param profileId the profile identifier.
      * @param fieldType the field type.
      * @param plainValue the plaintext value.
      */
     public void storeSensitiveField(String tenantId, UUID actorId, String profileId, String fieldType, String plainValue) {
+        repository.save(document(tenantId, profileId, fieldType, encryptor.encrypt(tenantId, plainValue), Instant.now()));
+        recordAudit(tenantId, actorId, profileId, fieldType);
+    }
+
+    /**
+     * Stores several encrypted sensitive fields for one profile.
+     * Importance: Resolves the tenant key once, saves all documents in one bulk insert, and writes one audit batch.
+     * Alternatives: Call {@link #storeSensitiveField} per field.
+     *
+     * @param tenantId the tenant identifier.
+     * @param actorId the actor identifier.
+     * @param profileId the profile identifier.
+     * @param fields the fields to store.
+     * @throws IllegalArgumentException when the batch is empty or too large.
+     */
+    public void storeSensitiveFields(String tenantId, UUID actorId, String profileId, List<SensitiveFieldRequest> fields) {
+        if (fields == null || fields.isEmpty()) {
+            throw new IllegalArgumentException("At least one field is required");
+        }
+        if (fields.size() > MAX_BATCH_FIELDS) {
+            throw new IllegalArgumentException("Batch exceeds " + MAX_BATCH_FIELDS + " fields");
+        }
+        UUID entityId = UUID.fromString(profileId);
+        List<String> plainValues = new ArrayList<>(fields.size());
+        for (SensitiveFieldRequest field : fields) {
+            plainValues.add(field.getPlainValue());
+        }
+        List<String> encrypted = encryptor.encryptAll(tenantId, plainValues);
+        Instant now = Instant.now();
+        List<SensitiveFieldDocument> documents = new ArrayList<>(fields.size());
+        List<AuditLogEntity> audits = new ArrayList<>(fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            String fieldType = fields.get(i).getFieldType();
+            documents.add(document(tenantId, profileId, fieldType, encrypted.get(i), now));
+            AuditLogEntity audit = new AuditLogEntity();
+            audit.setAuditId(UUID.randomUUID());
+            audit.setTenantId(tenantId);
+            audit.setActorId(actorId);
+            audit.setAction(STORED_ACTION);
+            audit.setEntityId(entityId);
+            audit.setDetails("Stored field type: " + fieldType);
+            audit.setCreatedAt(now);
+            audits.add(audit);
+        }
+        repository.saveAll(documents);
+        auditLogWriter.recordBulk(audits);
+    }
+
+    /**
+     * Builds a sensitive field document.
+     * Importance: Shares document construction between single and batch storage.
+     * Alternatives: Duplicate the setters in both paths.
+     *
+     * @param tenantId the tenant identifier.
+     * @param profileId the profile identifier.
+     * @param fieldType the field type.
+     * @param encryptedValue the ciphertext.
+     * @param createdAt the creation time.
+     * @return the document.
+     */
+    private static SensitiveFieldDocument document(String tenantId, String profileId, String fieldType,
+                                                   String encryptedValue, Instant createdAt) {
         SensitiveFieldDocument document = new SensitiveFieldDocument();
         document.setTenantId(tenantId);
         document.setProfileId(profileId);
         document.setFieldType(fieldType);
-        document.setEncryptedValue(encryptor.encrypt(plainValue));
-        document.setCreatedAt(Instant.now());
-        repository.save(document);
-        recordAudit(tenantId, actorId, profileId, fieldType);
+        document.setEncryptedValue(encryptedValue);
+        document.setKeyGeneration(FieldCipher.generationOf(encryptedValue));
+        document.setCreatedAt(createdAt);
+        return document;
     }
 
     /**
@@ -67,14 +138,7 @@ public class SensitiveFieldService {
      * @param fieldType the field type.
      */
     private void recordAudit(String tenantId, UUID actorId, String profileId, String fieldType) {
-        AuditLogEntity audit = new AuditLogEntity();
-        audit.setAuditId(UUID.randomUUID());
-        audit.setTenantId(tenantId);
-        audit.setActorId(actorId);
-        audit.setAction("SENSITIVE_FIELD_STORED");
-        audit.setEntityId(UUID.fromString(profileId));
-        audit.setDetails("Stored field type: " + fieldType);
-        audit.setCreatedAt(Instant.now());
-        auditLogRepository.save(audit);
+        auditLogWriter.record(tenantId, actorId, STORED_ACTION, UUID.fromString(profileId),
+            "Stored field type: " + fieldType);
     }
 }
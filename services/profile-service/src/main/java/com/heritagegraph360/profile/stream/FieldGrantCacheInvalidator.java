@@ -0,0 +1,60 @@
+package com.heritagegraph360.profile.stream;
+
+import com.heritagegraph360.common.event.EventEnvelope;
+import com.heritagegraph360.common.event.EventEnvelopeCodec;
+import com.heritagegraph360.profile.grant.FieldGrantResolver;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalidates the field grant cache from the profile event stream.
+ * Importance: Applies grants created on any instance to every instance's cache without waiting for the TTL.
+ * Alternatives: Share one grant cache in Redis and invalidate it on write.
+ */
+@Component
+public class FieldGrantCacheInvalidator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FieldGrantCacheInvalidator.class);
+
+    private final FieldGrantResolver grantResolver;
+
+    /**
+     * Creates the invalidator.
+     * Importance: Connects the event stream to the grant cache.
+     * Alternatives: Invalidate from PublicProfileCacheInvalidator.
+     *
+     * @param grantResolver the cached grant resolver.
+     */
+    public FieldGrantCacheInvalidator(FieldGrantResolver grantResolver) {
+        this.grantResolver = grantResolver;
+    }
+
+    /**
+     * Evicts the grants cached for the profile named by a GRANT_CREATED event.
+     * Importance: Assigns every partition without a consumer group because the shared profile-service group
+     * delivers each event to one node only.
+     * Alternatives: Publish invalidations on a dedicated broadcast topic.
+     *
+     * @param payload the event record value, as a binary envelope or legacy JSON.
+     */
+    @KafkaListener(topicPartitions = @TopicPartition(topic = ProfileEventPublisher.PROFILE_EVENTS_TOPIC,
+        partitions = "#{@topicPartitionFinder.partitions('" + ProfileEventPublisher.PROFILE_EVENTS_TOPIC + "')}"),
+        containerFactory = "profileEventBroadcastFactory",
+        autoStartup = "${app.grant-cache.enabled:true}")
+    public void onProfileEvent(byte[] payload) {
+        EventEnvelope envelope;
+        try {
+            envelope = EventEnvelopeCodec.decode(payload);
+        } catch (IllegalArgumentException ex) {
+            LOGGER.debug("Unreadable profile event; ignoring for grant cache", ex);
+            return;
+        }
+        if (FieldGrantResolver.GRANT_CREATED_EVENT.equals(envelope.getEventType())
+            && envelope.getTenantId() != null && envelope.getProfileId() != null) {
+            grantResolver.invalidateProfile(envelope.getTenantId(), UUID.fromString(envelope.getProfileId()));
+        }
+    }
+}
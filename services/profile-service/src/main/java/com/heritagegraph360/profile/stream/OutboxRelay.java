@@ -0,0 +1,256 @@
+package com.heritagegraph360.profile.stream;
+
+import com.heritagegraph360.profile.config.OutboxProperties;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drains the transactional outbox to Kafka in batches.
+ * Importance: Takes Kafka latency off the request path while guaranteeing at-least-once delivery.
+ * Alternatives: Use Debezium to stream the outbox table.
+ */
+@Component
+public class OutboxRelay {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final String CLAIM_BATCH =
+        "UPDATE outbox_events SET attempts = attempts + 1, claimed_until = ? WHERE outbox_id IN ("
+            + "SELECT outbox_id FROM outbox_events WHERE status = 'PENDING' "
+            + "AND (claimed_until IS NULL OR claimed_until < ?) "
+            + "ORDER BY outbox_id LIMIT ? FOR UPDATE SKIP LOCKED) "
+            + "RETURNING outbox_id, topic, event_key, payload";
+    private static final String RELEASE_FAILED =
+        "UPDATE outbox_events SET claimed_until = NULL, "
+            + "status = CASE WHEN attempts >= ? THEN 'PARKED' ELSE status END "
+            + "WHERE outbox_id = ANY(?) RETURNING status";
+    private static final String PARKED = "PARKED";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final OutboxProperties properties;
+    private final Semaphore inFlight;
+
+    /**
+     * Creates the outbox relay.
+     * Importance: Connects the outbox table to the Kafka producer.
+     * Alternatives: Relay through a separate service.
+     *
+     * @param jdbcTemplate the JDBC template.
+     * @param transactionManager the transaction manager.
+     * @param kafkaTemplate the Kafka template.
+     * @param properties the outbox properties.
+     */
+    public OutboxRelay(JdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager,
+                       KafkaTemplate<String, byte[]> kafkaTemplate,
+                       OutboxProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.kafkaTemplate = kafkaTemplate;
+        this.properties = properties;
+        this.inFlight = new Semaphore(properties.getMaxInFlight());
+    }
+
+    /**
+     * Drains pending outbox batches.
+     * Importance: Keeps relaying while batches come back full, up to a per-poll limit.
+     * Alternatives: Relay a single batch per poll.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:200}")
+    public void relay() {
+        if (!properties.isRelayEnabled()) {
+            return;
+        }
+        for (int batch = 0; batch < properties.getMaxBatchesPerPoll(); batch++) {
+            if (relayBatch() < properties.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Claims one batch, sends it asynchronously, and deletes what Kafka acknowledged.
+     * Importance: Rows are claimed with a lease in a short transaction, so no row lock is held while Kafka is slow.
+     * Alternatives: Hold FOR UPDATE locks until every send completes.
+     *
+     * @return the number of rows claimed.
+     */
+    private int relayBatch() {
+        List<OutboxRow> rows = claimBatch();
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<CompletableFuture<?>> sends = new ArrayList<>(rows.size());
+        for (OutboxRow row : rows) {
+            sends.add(send(row));
+        }
+        List<Long> delivered = new ArrayList<>(rows.size());
+        List<Long> failed = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getSendTimeoutMs());
+        for (int i = 0; i < rows.size(); i++) {
+            if (awaitSend(sends.get(i), deadline)) {
+                delivered.add(rows.get(i).outboxId);
+            } else {
+                failed.add(rows.get(i).outboxId);
+            }
+        }
+        if (!delivered.isEmpty()) {
+            jdbcTemplate.update("DELETE FROM outbox_events WHERE outbox_id = ANY(?)",
+                ps -> ps.setArray(1, bigintArray(ps.getConnection(), delivered)));
+        }
+        if (!failed.isEmpty()) {
+            releaseFailed(failed, rows.size());
+        }
+        return rows.size();
+    }
+
+    /**
+     * Leases the oldest pending rows to this relay and counts the attempt.
+     * Importance: SKIP LOCKED keeps concurrent relays off each other's rows, and the lease keeps them off until it
+     * expires, so a relay that dies mid-send only delays its rows.
+     * Alternatives: Keep the claim transaction open for the whole send.
+     *
+     * @return the claimed rows in outbox order.
+     */
+    private List<OutboxRow> claimBatch() {
+        Instant now = Instant.now();
+        List<OutboxRow> rows = transactionTemplate.execute(status -> jdbcTemplate.query(CLAIM_BATCH,
+            (rs, rowNum) -> new OutboxRow(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getBytes(4)),
+            Timestamp.from(now.plusMillis(properties.getClaimLeaseMs())), Timestamp.from(now),
+            properties.getBatchSize()));
+        if (rows == null) {
+            return List.of();
+        }
+        List<OutboxRow> ordered = new ArrayList<>(rows);
+        ordered.sort(Comparator.comparingLong(row -> row.outboxId));
+        return ordered;
+    }
+
+    /**
+     * Releases undelivered rows for retry and parks those out of attempts.
+     * Importance: An event Kafka keeps rejecting stops consuming relay capacity and is left for an operator.
+     * Alternatives: Retry undelivered rows forever.
+     *
+     * @param failed the undelivered outbox identifiers.
+     * @param claimed the number of rows in the batch.
+     */
+    private void releaseFailed(List<Long> failed, int claimed) {
+        List<String> statuses = jdbcTemplate.query(RELEASE_FAILED, ps -> {
+            ps.setInt(1, properties.getMaxAttempts());
+            ps.setArray(2, bigintArray(ps.getConnection(), failed));
+        }, (rs, rowNum) -> rs.getString(1));
+        long parked = statuses.stream().filter(PARKED::equals).count();
+        if (parked < failed.size()) {
+            LOGGER.warn("Outbox relay failed to deliver {} of {} events; they will be retried",
+                failed.size() - parked, claimed);
+        }
+        if (parked > 0) {
+            LOGGER.error("Parked {} outbox events after {} delivery attempts", parked, properties.getMaxAttempts());
+        }
+    }
+
+    /**
+     * Sends one outbox row once an in-flight permit is available.
+     * Importance: Bounds unacknowledged sends so a slow broker applies back-pressure.
+     * Alternatives: Send without limits and rely on producer buffer blocking.
+     *
+     * @param row the outbox row.
+     * @return the send future.
+     */
+    private CompletableFuture<?> send(OutboxRow row) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(ex);
+        }
+        try {
+            return kafkaTemplate.send(row.topic, row.eventKey, row.payload)
+                .whenComplete((result, error) -> inFlight.release());
+        } catch (RuntimeException ex) {
+            inFlight.release();
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    /**
+     * Waits for a send to be acknowledged before the batch deadline.
+     * Importance: Only deletes rows Kafka has acknowledged.
+     * Alternatives: Fire and forget.
+     *
+     * @param send the send future.
+     * @param deadline the batch deadline in nanoseconds.
+     * @return true when the send succeeded.
+     */
+    private boolean awaitSend(CompletableFuture<?> send, long deadline) {
+        try {
+            send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Builds a PostgreSQL bigint array parameter.
+     * Importance: Deletes or updates a whole batch in one statement.
+     * Alternatives: Use a JDBC batch of single-row statements.
+     *
+     * @param connection the JDBC connection.
+     * @param ids the outbox identifiers.
+     * @return the SQL array.
+     * @throws SQLException when the array cannot be created.
+     */
+    private static Array bigintArray(Connection connection, List<Long> ids) throws SQLException {
+        return connection.createArrayOf("bigint", ids.toArray());
+    }
+
+    /**
+     * Holds one claimed outbox row.
+     * Importance: Keeps claimed data together while sends are in flight.
+     * Alternatives: Use the JPA entity.
+     */
+    private static final class OutboxRow {
+        private final long outboxId;
+        private final String topic;
+        private final String eventKey;
+        private final byte[] payload;
+
+        /**
+         * Creates a claimed row.
+         * Importance: Captures the fields needed to send.
+         * Alternatives: Use a map of columns.
+         *
+         * @param outboxId the outbox identifier.
+         * @param topic the topic.
+         * @param eventKey the event key.
+         * @param payload the payload.
+         */
+        private OutboxRow(long outboxId, String topic, String eventKey, byte[] payload) {
+            this.outboxId = outboxId;
+            this.topic = topic;
+            this.eventKey = eventKey;
+            this.payload = payload;
+        }
+    }
+}
@@ -1,11 +1,36 @@
 package com.heritagegraph360.profile.stream;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heritagegraph360.common.event.EventEnvelope;
+import com.heritagegraph360.common.event.EventEnvelopeCodec;
+import com.heritagegraph360.common.event.EventEnvelopeFormat;
 import com.heritagegraph360.profile.nosql.EventPayloadDocument;
 import com.heritagegraph360.profile.nosql.EventPayloadRepository;
+import com.mongodb.bulk.BulkWriteError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
 /**
@@ -15,8 +40,21 @@ import org.springframework.stereotype.Component;
  */
 @Component
 public class ProfileEventConsumer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProfileEventConsumer.class);
+    private static final int DUPLICATE_KEY = 11000;
+    private static final String UNKNOWN_TENANT = "unknown-tenant";
+    private static final String UNKNOWN_TYPE = "UNKNOWN";
+
     private final EventPayloadRepository eventPayloadRepository;
-    private final ObjectMapper objectMapper;
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Counter consumed;
+    private final Counter binaryEvents;
+    private final Counter jsonEvents;
+    private final DistributionSummary batchSize;
+    private final Timer writeLatency;
+    private final AtomicLong delayMs = new AtomicLong();
+    private final Map<TopicPartition, AtomicLong> partitionLag = new ConcurrentHashMap<>();
 
     /**
      * Creates the event consumer.
@@ -24,49 +62,201 @@ public class ProfileEventConsumer {
      * Alternatives: Use a stream processor framework.
      *
      * @param eventPayloadRepository the event payload repository.
-     * @param objectMapper the object mapper.
+     * @param mongoTemplate the Mongo template used for bulk writes.
+     * @param meterRegistry the metrics registry.
      */
-    public ProfileEventConsumer(EventPayloadRepository eventPayloadRepository, ObjectMapper objectMapper) {
+    public ProfileEventConsumer(EventPayloadRepository eventPayloadRepository,
+                                MongoTemplate mongoTemplate,
+                                MeterRegistry meterRegistry) {
         this.eventPayloadRepository = eventPayloadRepository;
-        this.objectMapper = objectMapper;
+        this.mongoTemplate = mongoTemplate;
+        this.meterRegistry = meterRegistry;
+        this.consumed = Counter.builder("profile.events.consumed")
+            .description("Profile events persisted to MongoDB")
+            .register(meterRegistry);
+        this.binaryEvents = Counter.builder("profile.events.format").tag("format", "binary")
+            .description("Consumed profile events by wire format")
+            .register(meterRegistry);
+        this.jsonEvents = Counter.builder("profile.events.format").tag("format", "json")
+            .description("Consumed profile events by wire format")
+            .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("profile.events.batch.size")
+            .description("Profile events per consumed batch")
+            .register(meterRegistry);
+        this.writeLatency = Timer.builder("profile.events.write.latency")
+            .description("Time per MongoDB bulk write of profile events")
+            .register(meterRegistry);
+        Gauge.builder("profile.events.consumer.delay", delayMs, AtomicLong::get)
+            .description("Milliseconds between the newest consumed event's timestamp and its persistence")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
     }
 
     /**
-     * Handles profile events from Kafka.
-     * Importance: Persists event payloads for later inspection.
+     * Handles profile events from Kafka one record at a time.
+     * Importance: Serves as the fallback when batch consumption is disabled.
      * Alternatives: Store only selected events.
      *
-     * @param payload the event payload JSON.
+     * @param payload the event record value.
      */
-    @KafkaListener(topics = "profile.events", groupId = "profile-service")
-    public void onProfileEvent(String payload) {
-        EventPayloadDocument document = new EventPayloadDocument();
-        document.setTenantId(extractField(payload, "tenantId", "unknown-tenant"));
-        document.setEventType(extractField(payload, "eventType", "UNKNOWN"));
-        document.setPayloadJson(payload);
-        document.setIngestedAt(Instant.now());
-        eventPayloadRepository.save(document);
+    @KafkaListener(topics = ProfileEventPublisher.PROFILE_EVENTS_TOPIC, groupId = "profile-service",
+        autoStartup = "#{!${app.event-consumer.batch-enabled:true}}")
+    public void onProfileEvent(byte[] payload) {
+        eventPayloadRepository.save(toDocument(payload, null, Instant.now()));
+        consumed.increment();
+    }
+
+    /**
+     * Handles one poll of profile events with a single unordered bulk insert.
+     * Importance: Offsets are acknowledged only after MongoDB confirms the write; failures are retried by the container.
+     * Alternatives: Save each record and let the container commit per poll.
+     *
+     * @param records the polled records.
+     * @param acknowledgment commits the batch's offsets.
+     * @param consumer the underlying consumer, used to read partition lag.
+     */
+    @KafkaListener(topics = ProfileEventPublisher.PROFILE_EVENTS_TOPIC, groupId = "profile-service",
+        containerFactory = "profileEventBatchFactory",
+        autoStartup = "${app.event-consumer.batch-enabled:true}",
+        properties = {
+            "max.poll.records=${app.event-consumer.max-batch-size:2000}",
+            "fetch.max.wait.ms=${app.event-consumer.max-wait-ms:500}",
+            "fetch.min.bytes=${app.event-consumer.min-fetch-bytes:65536}"
+        })
+    public void onProfileEvents(List<ConsumerRecord<String, byte[]>> records,
+                                Acknowledgment acknowledgment,
+                                Consumer<?, ?> consumer) {
+        if (records.isEmpty()) {
+            acknowledgment.acknowledge();
+            return;
+        }
+        Instant now = Instant.now();
+        List<EventPayloadDocument> documents = new ArrayList<>(records.size());
+        long newestTimestamp = -1;
+        for (ConsumerRecord<String, byte[]> record : records) {
+            documents.add(toDocument(record.value(), recordId(record), now));
+            newestTimestamp = Math.max(newestTimestamp, record.timestamp());
+        }
+        writeLatency.record(() -> bulkInsert(documents));
+        acknowledgment.acknowledge();
+        consumed.increment(records.size());
+        batchSize.record(records.size());
+        if (newestTimestamp >= 0) {
+            delayMs.set(Math.max(0, System.currentTimeMillis() - newestTimestamp));
+        }
+        recordLag(records, consumer);
+    }
+
+    /**
+     * Inserts documents with one unordered bulk write.
+     * Importance: Redelivered records reuse their topic-partition-offset id, so duplicate-key errors are expected and
+     * ignored; any other rejection names the first rejected record so only it is retried and dead-lettered.
+     * Alternatives: Upsert every document.
+     *
+     * @param documents the documents to insert.
+     */
+    private void bulkInsert(List<EventPayloadDocument> documents) {
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EventPayloadDocument.class)
+                .insert(documents)
+                .execute();
+        } catch (BulkOperationException ex) {
+            BulkWriteError rejected = null;
+            for (BulkWriteError error : ex.getErrors()) {
+                if (error.getCode() != DUPLICATE_KEY && (rejected == null || error.getIndex() < rejected.getIndex())) {
+                    rejected = error;
+                }
+            }
+            if (rejected != null) {
+                throw new BatchListenerFailedException("MongoDB rejected profile event (code " + rejected.getCode()
+                    + "): " + rejected.getMessage(), ex, rejected.getIndex());
+            }
+            LOGGER.debug("Skipped {} already persisted profile events", ex.getErrors().size());
+        }
     }
 
     /**
-     * Extracts a field from a JSON payload.
-     * Importance: Maps event data into storage fields.
-     * Alternatives: Use a schema registry with typed events.
+     * Builds an event document from the envelope headers.
+     * Importance: Binary envelopes are routed without touching the body; legacy JSON is scanned once for top-level fields.
+     * Alternatives: Read the payload into a JsonNode once per field.
      *
-     * @param payload the JSON payload.
-     * @param field the field name.
-     * @param fallback the fallback value.
-     * @return the field value or fallback.
+     * @param payload the record value in either envelope format.
+     * @param id the document identifier, or null to let MongoDB assign one.
+     * @param ingestedAt the ingestion time.
+     * @return the document.
      */
-    private String extractField(String payload, String field, String fallback) {
+    private EventPayloadDocument toDocument(byte[] payload, String id, Instant ingestedAt) {
+        EventEnvelope envelope;
         try {
-            JsonNode node = objectMapper.readTree(payload);
-            if (node.hasNonNull(field)) {
-                return node.get(field).asText();
+            envelope = EventEnvelopeCodec.decode(payload);
+        } catch (IllegalArgumentException ex) {
+            LOGGER.warn("Unreadable profile event envelope; storing with fallback fields", ex);
+            envelope = EventEnvelope.of(null, null, null, null, null);
+        }
+        (envelope.getFormat() == EventEnvelopeFormat.BINARY ? binaryEvents : jsonEvents).increment();
+        EventPayloadDocument document = new EventPayloadDocument();
+        document.setId(id);
+        document.setTenantId(envelope.getTenantId() == null ? UNKNOWN_TENANT : envelope.getTenantId());
+        document.setEventType(envelope.getEventType() == null ? UNKNOWN_TYPE : envelope.getEventType());
+        document.setProfileId(envelope.getProfileId());
+        document.setCorrelationId(envelope.getCorrelationId());
+        document.setPayloadJson(envelope.getBodyAsString());
+        document.setIngestedAt(ingestedAt);
+        return document;
+    }
+
+    /**
+     * Derives a stable document id from the record position.
+     * Importance: Makes redelivery after a failed acknowledgment idempotent.
+     * Alternatives: Require an event id in every payload.
+     *
+     * @param record the record.
+     * @return the document identifier.
+     */
+    private static String recordId(ConsumerRecord<String, byte[]> record) {
+        return record.topic() + ':' + record.partition() + ':' + record.offset();
+    }
+
+    /**
+     * Publishes the remaining lag of each partition in the batch.
+     * Importance: Shows backfill progress per partition without querying the broker.
+     * Alternatives: Rely on the client's records-lag-max metric.
+     *
+     * @param records the batch records.
+     * @param consumer the consumer that polled them.
+     */
+    private void recordLag(List<ConsumerRecord<String, byte[]>> records, Consumer<?, ?> consumer) {
+        if (consumer == null) {
+            return;
+        }
+        Set<TopicPartition> partitions = new HashSet<>();
+        for (ConsumerRecord<String, byte[]> record : records) {
+            partitions.add(new TopicPartition(record.topic(), record.partition()));
+        }
+        for (TopicPartition partition : partitions) {
+            OptionalLong lag = consumer.currentLag(partition);
+            if (lag.isPresent()) {
+                lagHolder(partition).set(lag.getAsLong());
             }
-        } catch (Exception ex) {
-            return fallback;
         }
-        return fallback;
+    }
+
+    /**
+     * Returns the lag holder for a partition, registering its gauge on first use.
+     * Importance: Tags lag by partition so hot partitions are visible.
+     * Alternatives: Report only the maximum lag.
+     *
+     * @param partition the partition.
+     * @return the lag holder.
+     */
+    private AtomicLong lagHolder(TopicPartition partition) {
+        return partitionLag.computeIfAbsent(partition, key -> {
+            AtomicLong holder = new AtomicLong();
+            Gauge.builder("profile.events.consumer.lag", holder, AtomicLong::get)
+                .description("Records remaining after the last consumed batch")
+                .tag("partition", String.valueOf(key.partition()))
+                .register(meterRegistry);
+            return holder;
+        });
     }
 }
@@ -1,53 +1,116 @@
 package com.heritagegraph360.profile.stream;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.HashMap;
-import java.util.Map;
-import org.springframework.kafka.core.KafkaTemplate;
+import com.heritagegraph360.common.event.EventEnvelope;
+import com.heritagegraph360.common.event.EventEnvelopeCodec;
+import com.heritagegraph360.profile.config.EventEnvelopeProperties;
+import com.heritagegraph360.profile.domain.OutboxEventEntity;
+import com.heritagegraph360.profile.repo.OutboxEventRepository;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
- * Publishes profile domain events to Kafka.
- * Importance: Notifies downstream services of profile changes.
- * Alternatives: Use a database outbox and CDC pipeline.
+ * Publishes profile domain events through the transactional outbox.
+ * Importance: Notifies downstream services of profile changes without losing events on crashes.
+ * Alternatives: Use a CDC pipeline on the outbox table.
  */
 @Component
 public class ProfileEventPublisher {
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    /**
+     * Topic that receives profile domain events.
+     */
+    public static final String PROFILE_EVENTS_TOPIC = "profile.events";
+
+    private static final String INSERT_OUTBOX =
+        "INSERT INTO outbox_events (tenant_id, topic, event_key, payload, attempts, created_at) VALUES (?, ?, ?, ?, 0, ?)";
+    private static final int OUTBOX_BATCH_SIZE = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EventEnvelopeProperties envelopeProperties;
 
     /**
      * Creates the publisher.
-     * Importance: Connects profile workflows to Kafka publishing.
+     * Importance: Connects profile workflows to the outbox.
      * Alternatives: Use a reactive Kafka producer.
      *
-     * @param kafkaTemplate the Kafka template.
-     * @param objectMapper the object mapper.
+     * @param outboxEventRepository the outbox repository.
+     * @param jdbcTemplate the JDBC template used for bulk outbox writes.
+     * @param envelopeProperties the event envelope properties.
      */
-    public ProfileEventPublisher(KafkaTemplate<String, String> kafkaTemplate, ObjectMapper objectMapper) {
-        this.kafkaTemplate = kafkaTemplate;
-        this.objectMapper = objectMapper;
+    public ProfileEventPublisher(OutboxEventRepository outboxEventRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 EventEnvelopeProperties envelopeProperties) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.envelopeProperties = envelopeProperties;
     }
 
     /**
      * Publishes a profile event.
-     * Importance: Emits events for downstream processing.
-     * Alternatives: Persist events only in MongoDB.
+     * Importance: Writes the event in the caller's transaction; the outbox relay sends it after commit.
+     * Alternatives: Send to Kafka synchronously on the request thread.
      *
      * @param tenantId the tenant identifier.
      * @param eventType the event type.
      * @param profileId the profile identifier.
      */
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishProfileEvent(String tenantId, String eventType, String profileId) {
-        try {
-            Map<String, Object> payload = new HashMap<>();
-            payload.put("tenantId", tenantId);
-            payload.put("eventType", eventType);
-            payload.put("profileId", profileId);
-            String json = objectMapper.writeValueAsString(payload);
-            kafkaTemplate.send("profile.events", tenantId, json);
-        } catch (Exception ex) {
-            throw new IllegalStateException("Failed to publish profile event", ex);
+        OutboxEventEntity event = new OutboxEventEntity();
+        event.setTenantId(tenantId);
+        event.setTopic(PROFILE_EVENTS_TOPIC);
+        event.setEventKey(tenantId);
+        event.setPayload(payloadFor(tenantId, eventType, profileId, UUID.randomUUID().toString()));
+        event.setCreatedAt(Instant.now());
+        outboxEventRepository.save(event);
+    }
+
+    /**
+     * Publishes one profile event per profile with batched outbox inserts.
+     * Importance: Lets bulk workflows write thousands of events without one JPA insert each; the events share a correlation id.
+     * Alternatives: Call publishProfileEvent in a loop.
+     *
+     * @param tenantId the tenant identifier.
+     * @param eventType the event type.
+     * @param profileIds the profile identifiers.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishProfileEvents(String tenantId, String eventType, List<String> profileIds) {
+        String correlationId = UUID.randomUUID().toString();
+        List<byte[]> payloads = new ArrayList<>(profileIds.size());
+        for (String profileId : profileIds) {
+            payloads.add(payloadFor(tenantId, eventType, profileId, correlationId));
         }
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX, payloads, OUTBOX_BATCH_SIZE, (ps, payload) -> {
+            ps.setString(1, tenantId);
+            ps.setString(2, PROFILE_EVENTS_TOPIC);
+            ps.setString(3, tenantId);
+            ps.setBytes(4, payload);
+            ps.setTimestamp(5, now);
+        });
+    }
+
+    /**
+     * Serializes a header-only profile event in the configured envelope format.
+     * Importance: Keeps single and bulk events in the same shape; consumers route on the headers alone.
+     * Alternatives: Use a typed event class serialized with Jackson.
+     *
+     * @param tenantId the tenant identifier.
+     * @param eventType the event type.
+     * @param profileId the profile identifier.
+     * @param correlationId the correlation identifier.
+     * @return the payload bytes.
+     */
+    private byte[] payloadFor(String tenantId, String eventType, String profileId, String correlationId) {
+        return EventEnvelopeCodec.encode(EventEnvelope.of(tenantId, eventType, profileId, correlationId, null),
+            envelopeProperties.getFormat());
     }
 }
@@ -0,0 +1,59 @@
+package com.heritagegraph360.profile.stream;
+
+import com.heritagegraph360.common.event.EventEnvelope;
+import com.heritagegraph360.common.event.EventEnvelopeCodec;
+import com.heritagegraph360.profile.service.PublicProfileCache;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalidates the public profile cache from the profile event stream.
+ * Importance: Keeps every instance's cache consistent with profile changes made on any instance.
+ * Alternatives: Share one cache in Redis and invalidate it on write.
+ */
+@Component
+public class PublicProfileCacheInvalidator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PublicProfileCacheInvalidator.class);
+
+    private final PublicProfileCache cache;
+
+    /**
+     * Creates the invalidator.
+     * Importance: Connects the event stream to the cache.
+     * Alternatives: Invalidate from ProfileEventConsumer.
+     *
+     * @param cache the public profile cache.
+     */
+    public PublicProfileCacheInvalidator(PublicProfileCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Evicts the profile named by a profile event.
+     * Importance: Assigns every partition without a consumer group because the shared profile-service group
+     * delivers each event to one node only.
+     * Alternatives: Publish invalidations on a dedicated broadcast topic.
+     *
+     * @param payload the event record value, as a binary envelope or legacy JSON.
+     */
+    @KafkaListener(topicPartitions = @TopicPartition(topic = ProfileEventPublisher.PROFILE_EVENTS_TOPIC,
+        partitions = "#{@topicPartitionFinder.partitions('" + ProfileEventPublisher.PROFILE_EVENTS_TOPIC + "')}"),
+        containerFactory = "profileEventBroadcastFactory",
+        autoStartup = "${app.public-cache.enabled:true}")
+    public void onProfileEvent(byte[] payload) {
+        try {
+            EventEnvelope envelope = EventEnvelopeCodec.decode(payload);
+            if (envelope.getProfileId() != null) {
+                cache.invalidate(UUID.fromString(envelope.getProfileId()));
+                return;
+            }
+        } catch (IllegalArgumentException ex) {
+            LOGGER.debug("Unreadable profile event; clearing public profile cache", ex);
+        }
+        cache.invalidateAll();
+    }
+}
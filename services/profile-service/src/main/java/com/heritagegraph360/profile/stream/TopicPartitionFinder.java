@@ -0,0 +1,50 @@
+package com.heritagegraph360.profile.stream;
+
+import java.util.List;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Looks up the partitions of a topic for listeners that assign partitions themselves.
+ * Importance: Lets per-instance broadcast listeners read every partition without joining a consumer group.
+ * Alternatives: Configure partition lists per environment.
+ */
+@Component
+public class TopicPartitionFinder {
+    private final ConsumerFactory<Object, Object> consumerFactory;
+
+    /**
+     * Creates the finder.
+     * Importance: Reuses the group-less consumer settings of the broadcast listeners.
+     * Alternatives: Use a Kafka AdminClient.
+     *
+     * @param profileEventBroadcastFactory the broadcast listener container factory.
+     */
+    public TopicPartitionFinder(
+        @Qualifier("profileEventBroadcastFactory")
+        ConcurrentKafkaListenerContainerFactory<Object, Object> profileEventBroadcastFactory) {
+        this.consumerFactory = profileEventBroadcastFactory.getConsumerFactory();
+    }
+
+    /**
+     * Returns the partition numbers of a topic.
+     * Importance: Resolved once when listeners are created, so partitions added later are read after a restart.
+     * Alternatives: Watch partition counts and reassign at runtime.
+     *
+     * @param topic the topic.
+     * @return the partition numbers.
+     */
+    public String[] partitions(String topic) {
+        try (Consumer<Object, Object> consumer = consumerFactory.createConsumer()) {
+            List<PartitionInfo> partitions = consumer.partitionsFor(topic);
+            if (partitions == null || partitions.isEmpty()) {
+                throw new IllegalStateException("Topic " + topic + " has no partitions");
+            }
+            return partitions.stream().map(partition -> String.valueOf(partition.partition())).toArray(String[]::new);
+        }
+    }
+}
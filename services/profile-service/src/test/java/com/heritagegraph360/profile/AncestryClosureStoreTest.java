@@ -0,0 +1,224 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.closure.AncestryClosureStore;
+import com.heritagegraph360.profile.config.AncestryClosureProperties;
+import com.heritagegraph360.profile.merge.MergeClusterIndex;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Validates closure rebuilds through a real JDBC template over a mocked driver.
+ * Importance: Ensures rebuilds write a new generation without the tenant lock and swap it in only when no closure
+ * write raced them.
+ * Alternatives: Run rebuilds against a live PostgreSQL with concurrent writers.
+ */
+public class AncestryClosureStoreTest {
+    private static final String TENANT = "tenant-a";
+    private static final long CURRENT_GENERATION = 5;
+
+    private final Connection connection = Mockito.mock(Connection.class);
+    private final List<String> prepared = new ArrayList<>();
+    private final List<PreparedStatement> statements = new ArrayList<>();
+    private final AtomicLong generations = new AtomicLong(100);
+    private final AtomicInteger swapResult = new AtomicInteger(1);
+    private final UUID child = UUID.randomUUID();
+    private final UUID parent = UUID.randomUUID();
+    private final UUID grandparent = UUID.randomUUID();
+    private AncestryClosureProperties properties;
+    private AncestryClosureStore store;
+
+    /**
+     * Routes every prepared statement to a mock scripted by its SQL.
+     * Importance: Records statement order so tests can see when the tenant lock is taken.
+     * Alternatives: Mock JdbcTemplate methods.
+     *
+     * @throws Exception if the mocked driver fails.
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        DatabaseMetaData metaData = Mockito.mock(DatabaseMetaData.class);
+        Mockito.when(metaData.supportsBatchUpdates()).thenReturn(true);
+        Mockito.when(metaData.getDriverName()).thenReturn("PostgreSQL JDBC Driver");
+        Mockito.when(connection.getMetaData()).thenReturn(metaData);
+        Mockito.when(connection.prepareStatement(Mockito.anyString()))
+            .thenAnswer(invocation -> statement(invocation.getArgument(0)));
+        Statement plain = Mockito.mock(Statement.class);
+        Mockito.when(plain.executeQuery(Mockito.contains("nextval")))
+            .thenAnswer(invocation -> rows(new Object[] {generations.getAndIncrement()}));
+        Mockito.when(connection.createStatement()).thenReturn(plain);
+        DataSource dataSource = Mockito.mock(DataSource.class);
+        Mockito.when(dataSource.getConnection()).thenReturn(connection);
+        MergeClusterIndex mergeClusterIndex = Mockito.mock(MergeClusterIndex.class);
+        Mockito.when(mergeClusterIndex.canonicalProfile(Mockito.any(), Mockito.any()))
+            .thenAnswer(invocation -> invocation.getArgument(1));
+        properties = new AncestryClosureProperties();
+        store = new AncestryClosureStore(dataSource, Mockito.mock(PlatformTransactionManager.class),
+            mergeClusterIndex, properties);
+    }
+
+    /**
+     * Ensures an unraced rebuild takes the tenant lock only for the swap, then drops the old generation.
+     * Importance: Confirms relationship writes never wait for the closure to be computed and written.
+     * Alternatives: Time concurrent writers against a live database.
+     *
+     * @throws Exception if the mocked driver fails.
+     */
+    @Test
+    public void shouldLockOnlyToSwapGeneration() throws Exception {
+        long rows = store.rebuildTenant(TENANT);
+
+        Assertions.assertEquals(3, rows);
+        int lock = indexOf("SELECT pg_advisory_xact_lock");
+        Assertions.assertEquals(lock, prepared.lastIndexOf(prepared.get(lock)));
+        Assertions.assertTrue(lastIndexOf("INSERT INTO ancestry_closure (") < lock);
+        Assertions.assertEquals(lock + 1, indexOf("INSERT INTO ancestry_closure_tenants"));
+        PreparedStatement swap = statements.get(lock + 1);
+        Mockito.verify(swap).setObject(2, 100L);
+        Mockito.verify(swap).setObject(3, CURRENT_GENERATION);
+        Mockito.verify(statements.get(indexOf("DELETE FROM ancestry_closure"))).setObject(2, CURRENT_GENERATION);
+    }
+
+    /**
+     * Ensures a rebuild that raced a write discards its generation and finishes under the lock on its last try.
+     * Importance: Confirms edges written during a rebuild are never dropped and rebuilds always finish.
+     * Alternatives: Retry without limit.
+     *
+     * @throws Exception if the mocked driver fails.
+     */
+    @Test
+    public void shouldDiscardRacedGenerationAndFinishUnderLock() throws Exception {
+        swapResult.set(0);
+        properties.setRebuildAttempts(2);
+
+        long rows = store.rebuildTenant(TENANT);
+
+        Assertions.assertEquals(3, rows);
+        int discarded = indexOf("DELETE FROM ancestry_closure");
+        Mockito.verify(statements.get(discarded)).setObject(2, 100L);
+        int lock = prepared.lastIndexOf(prepared.get(indexOf("SELECT pg_advisory_xact_lock")));
+        Assertions.assertTrue(discarded < lock);
+        Assertions.assertTrue(lock < lastIndexOf("SELECT profile_id"));
+        Assertions.assertTrue(lastIndexOf("INSERT INTO ancestry_closure (") < lastIndexOf(
+            "INSERT INTO ancestry_closure_tenants"));
+        Assertions.assertTrue(prepared.get(lastIndexOf("INSERT INTO ancestry_closure_tenants"))
+            .endsWith("DO UPDATE SET generation = EXCLUDED.generation"));
+    }
+
+    /**
+     * Ensures closure reads resolve the tenant's current generation.
+     * Importance: Confirms readers never see a generation that is still being written.
+     * Alternatives: Filter generations in Java.
+     */
+    @Test
+    public void shouldReadCurrentGeneration() {
+        store.ancestors(TENANT, child, 4, 10);
+
+        Assertions.assertTrue(prepared.get(0).contains(
+            "generation = COALESCE((SELECT generation FROM ancestry_closure_tenants WHERE tenant_id = ?), 0)"));
+    }
+
+    /**
+     * Builds a statement mock scripted for the given SQL.
+     * Importance: Plays the database for each statement the store issues.
+     * Alternatives: Use an embedded database.
+     *
+     * @param sql the SQL text.
+     * @return the statement.
+     * @throws SQLException never, required by the JDBC API.
+     */
+    private PreparedStatement statement(String sql) throws SQLException {
+        PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+        prepared.add(sql);
+        statements.add(statement);
+        Mockito.when(statement.getConnection()).thenReturn(connection);
+        if (sql.startsWith("SELECT generation, version")) {
+            ResultSet rs = rows(new Object[] {CURRENT_GENERATION, 7L});
+            Mockito.when(statement.executeQuery()).thenReturn(rs);
+        } else if (sql.startsWith("SELECT profile_id")) {
+            ResultSet rs = rows(new Object[] {child, parent}, new Object[] {parent, grandparent});
+            Mockito.when(statement.executeQuery()).thenReturn(rs);
+        } else if (sql.startsWith("SELECT")) {
+            ResultSet rs = rows();
+            Mockito.when(statement.executeQuery()).thenReturn(rs);
+        } else if (sql.contains("WHERE ancestry_closure_tenants.generation = ?")) {
+            Mockito.when(statement.executeUpdate()).thenAnswer(invocation -> swapResult.get());
+        } else if (sql.startsWith("INSERT INTO ancestry_closure_tenants")) {
+            Mockito.when(statement.executeUpdate()).thenReturn(1);
+        }
+        Mockito.when(statement.executeBatch()).thenReturn(new int[] {1, 1, 1});
+        return statement;
+    }
+
+    /**
+     * Builds a result set over the given rows.
+     * Importance: Serves single-column and multi-column queries alike.
+     * Alternatives: Script each getter per test.
+     *
+     * @param rows the row values.
+     * @return the result set.
+     * @throws SQLException never, required by the JDBC API.
+     */
+    private static ResultSet rows(Object[]... rows) throws SQLException {
+        ResultSet rs = Mockito.mock(ResultSet.class);
+        AtomicInteger cursor = new AtomicInteger(-1);
+        Mockito.when(rs.next()).thenAnswer(invocation -> cursor.incrementAndGet() < rows.length);
+        ResultSetMetaData metaData = Mockito.mock(ResultSetMetaData.class);
+        Mockito.when(metaData.getColumnCount()).thenReturn(rows.length == 0 ? 1 : rows[0].length);
+        Mockito.when(rs.getMetaData()).thenReturn(metaData);
+        Mockito.when(rs.getLong(Mockito.anyInt()))
+            .thenAnswer(invocation -> (Long) rows[cursor.get()][invocation.<Integer>getArgument(0) - 1]);
+        Mockito.when(rs.getObject(Mockito.anyInt(), Mockito.eq(UUID.class)))
+            .thenAnswer(invocation -> rows[cursor.get()][invocation.<Integer>getArgument(0) - 1]);
+        return rs;
+    }
+
+    /**
+     * Returns the first prepared statement starting with a prefix.
+     * Importance: Locates statements in the recorded order.
+     * Alternatives: Capture statements with an ArgumentCaptor.
+     *
+     * @param prefix the SQL prefix.
+     * @return the index.
+     */
+    private int indexOf(String prefix) {
+        for (int i = 0; i < prepared.size(); i++) {
+            if (prepared.get(i).startsWith(prefix)) {
+                return i;
+            }
+        }
+        throw new AssertionError("Not prepared: " + prefix);
+    }
+
+    /**
+     * Returns the last prepared statement starting with a prefix.
+     * Importance: Locates statements of the final rebuild attempt.
+     * Alternatives: Capture statements with an ArgumentCaptor.
+     *
+     * @param prefix the SQL prefix.
+     * @return the index.
+     */
+    private int lastIndexOf(String prefix) {
+        for (int i = prepared.size() - 1; i >= 0; i--) {
+            if (prepared.get(i).startsWith(prefix)) {
+                return i;
+            }
+        }
+        throw new AssertionError("Not prepared: " + prefix);
+    }
+}
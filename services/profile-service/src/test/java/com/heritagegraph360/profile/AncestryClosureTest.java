@@ -0,0 +1,129 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.closure.AncestryClosureBuilder;
+import com.heritagegraph360.profile.closure.AncestryClosureRebuild;
+import com.heritagegraph360.profile.closure.AncestryClosureRebuildRunner;
+import com.heritagegraph360.profile.closure.AncestryClosureRebuildStatus;
+import com.heritagegraph360.profile.closure.AncestryClosureStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Validates ancestry closure computation and rebuild jobs.
+ * Importance: Ensures rebuilt closure rows match what incremental maintenance stores.
+ * Alternatives: Verify the closure against a live PostgreSQL database.
+ */
+public class AncestryClosureTest {
+
+    /**
+     * Ensures every ancestor is emitted once with its shortest depth, within the depth limit.
+     * Importance: Confirms pedigree collapse keeps the nearest line and deep chains are capped.
+     * Alternatives: Compare only row counts.
+     */
+    @Test
+    public void shouldEmitShortestDepthPerPair() {
+        UUID child = UUID.randomUUID();
+        UUID mother = UUID.randomUUID();
+        UUID father = UUID.randomUUID();
+        UUID grandparent = UUID.randomUUID();
+        UUID great = UUID.randomUUID();
+        AncestryClosureBuilder builder = new AncestryClosureBuilder(2);
+        builder.addEdge(child, mother);
+        builder.addEdge(child, father);
+        builder.addEdge(mother, grandparent);
+        builder.addEdge(father, grandparent);
+        builder.addEdge(grandparent, great);
+        builder.addEdge(child, great);
+        builder.addEdge(great, great);
+
+        Map<String, Integer> rows = new HashMap<>();
+        long count = builder.build(8, (ancestor, descendant, depth) ->
+            Assertions.assertNull(rows.put(ancestor + ">" + descendant, depth)));
+        Assertions.assertEquals(rows.size(), count);
+        Assertions.assertEquals(1, rows.get(mother + ">" + child));
+        Assertions.assertEquals(2, rows.get(grandparent + ">" + child));
+        Assertions.assertEquals(1, rows.get(great + ">" + child));
+        Assertions.assertEquals(2, rows.get(great + ">" + mother));
+        Assertions.assertEquals(9, rows.size());
+
+        Map<String, Integer> capped = new HashMap<>();
+        builder.build(1, (ancestor, descendant, depth) -> capped.put(ancestor + ">" + descendant, depth));
+        Assertions.assertEquals(6, capped.size());
+        Assertions.assertFalse(capped.containsKey(grandparent + ">" + child));
+    }
+
+    /**
+     * Ensures cycles terminate without self rows.
+     * Importance: Bad data must not hang a rebuild or claim a profile is its own ancestor.
+     * Alternatives: Reject cyclic tenants before rebuilding.
+     */
+    @Test
+    public void shouldTerminateOnCycles() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        AncestryClosureBuilder builder = new AncestryClosureBuilder(4);
+        builder.addEdge(a, b);
+        builder.addEdge(b, c);
+        builder.addEdge(c, a);
+        Map<String, Integer> rows = new HashMap<>();
+        builder.build(64, (ancestor, descendant, depth) -> {
+            Assertions.assertNotEquals(ancestor, descendant);
+            rows.put(ancestor + ">" + descendant, depth);
+        });
+        Assertions.assertEquals(6, rows.size());
+        Assertions.assertEquals(2, rows.get(c + ">" + a));
+    }
+
+    /**
+     * Ensures a rebuild requested while one runs is coalesced into a single follow-up run.
+     * Importance: Merge withdrawals during a backfill must still reach the closure.
+     * Alternatives: Reject requests while a rebuild runs.
+     *
+     * @throws Exception when waiting fails.
+     */
+    @Test
+    public void shouldRerunOnceWhenRequestedDuringRebuild() throws Exception {
+        AncestryClosureStore store = Mockito.mock(AncestryClosureStore.class);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(store.rebuildTenant("tenant-a"))
+            .thenAnswer(invocation -> {
+                entered.countDown();
+                Assertions.assertTrue(release.await(5, TimeUnit.SECONDS));
+                return 10L;
+            })
+            .thenReturn(12L);
+        AncestryClosureRebuildRunner runner = new AncestryClosureRebuildRunner(store, new SimpleMeterRegistry());
+        try {
+            AncestryClosureRebuild first = runner.start("tenant-a");
+            Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+            Assertions.assertSame(first, runner.start("tenant-a"));
+            Assertions.assertSame(first, runner.start("tenant-a"));
+            release.countDown();
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            AncestryClosureRebuild latest = first;
+            while (System.nanoTime() < deadline) {
+                latest = runner.status("tenant-a").orElseThrow();
+                if (latest != first && latest.getStatus() == AncestryClosureRebuildStatus.COMPLETED) {
+                    break;
+                }
+                Thread.sleep(5);
+            }
+            Assertions.assertEquals(AncestryClosureRebuildStatus.COMPLETED, first.getStatus());
+            Assertions.assertEquals(10L, first.getRows());
+            Assertions.assertEquals(12L, latest.getRows());
+            Mockito.verify(store, Mockito.times(2)).rebuildTenant("tenant-a");
+        } finally {
+            runner.shutdown();
+        }
+    }
+}
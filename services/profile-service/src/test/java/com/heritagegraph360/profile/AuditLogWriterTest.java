@@ -0,0 +1,106 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.audit.AuditDurability;
+import com.heritagegraph360.profile.audit.AuditLogWriter;
+import com.heritagegraph360.profile.audit.AuditRingBuffer;
+import com.heritagegraph360.profile.config.AuditWriterProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Validates the batched audit-log writer.
+ * Importance: Ensures buffered audit entries are neither lost nor reordered.
+ * Alternatives: Verify audit rows against a live database.
+ */
+public class AuditLogWriterTest {
+    /**
+     * Ensures the ring buffer is bounded and preserves order across wrap-around.
+     * Importance: Confirms producers see a full buffer instead of overwriting entries.
+     * Alternatives: Stress the buffer with concurrent producers.
+     */
+    @Test
+    public void shouldBoundRingBufferAndPreserveOrder() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(3);
+        Assertions.assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertTrue(buffer.offer(i));
+        }
+        Assertions.assertFalse(buffer.offer(4));
+        List<Integer> drained = new ArrayList<>();
+        Assertions.assertEquals(3, buffer.drainTo(drained, 3));
+        Assertions.assertTrue(buffer.offer(4));
+        Assertions.assertTrue(buffer.offer(5));
+        buffer.drainTo(drained, Integer.MAX_VALUE);
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 4, 5), drained);
+        Assertions.assertEquals(0, buffer.size());
+    }
+
+    /**
+     * Ensures asynchronous entries are flushed with multi-row inserts on shutdown.
+     * Importance: Confirms graceful shutdown writes every acknowledged entry.
+     * Alternatives: Wait for the time threshold in the test.
+     */
+    @Test
+    public void shouldFlushAsyncEntriesWithMultiRowInserts() {
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        AuditWriterProperties properties = new AuditWriterProperties();
+        properties.setDurability(AuditDurability.ASYNC);
+        properties.setMaxRowsPerStatement(2);
+        properties.setFlushIntervalMs(60000);
+        AuditLogWriter writer = newWriter(jdbcTemplate, properties);
+        writer.start();
+        for (int i = 0; i < 3; i++) {
+            writer.record("org-us-001", UUID.randomUUID(), "PROFILE_CREATED", UUID.randomUUID(), "entry " + i);
+        }
+        writer.stop();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(jdbcTemplate, Mockito.times(2)).update(sql.capture(), Mockito.any(PreparedStatementSetter.class));
+        Assertions.assertTrue(sql.getAllValues().get(0).endsWith("(?, ?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?, ?)"));
+        Assertions.assertTrue(sql.getAllValues().get(1).endsWith("VALUES (?, ?, ?, ?, ?, ?, ?)"));
+        Assertions.assertEquals(0, writer.pendingCount());
+    }
+
+    /**
+     * Ensures SYNC callers return only after their entry is written.
+     * Importance: Confirms the blocking durability mode.
+     * Alternatives: Inspect the completion future directly.
+     */
+    @Test
+    public void shouldBlockSyncCallersUntilFlushed() {
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        AuditWriterProperties properties = new AuditWriterProperties();
+        properties.setFlushIntervalMs(60000);
+        AuditLogWriter writer = newWriter(jdbcTemplate, properties);
+        writer.start();
+        try {
+            writer.record("org-us-001", UUID.randomUUID(), "PROFILE_CLAIMED", UUID.randomUUID(), "claimed");
+            Mockito.verify(jdbcTemplate).update(Mockito.anyString(), Mockito.any(PreparedStatementSetter.class));
+        } finally {
+            writer.stop();
+        }
+    }
+
+    /**
+     * Builds a writer over mocked storage.
+     * Importance: Keeps tests independent of a database.
+     * Alternatives: Use an embedded database.
+     *
+     * @param jdbcTemplate the mocked JDBC template.
+     * @param properties the writer properties.
+     * @return the writer.
+     */
+    private AuditLogWriter newWriter(JdbcTemplate jdbcTemplate, AuditWriterProperties properties) {
+        return new AuditLogWriter(jdbcTemplate, Mockito.mock(PlatformTransactionManager.class), properties,
+            new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,78 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.audit.AuditPartitionMaintainer;
+import com.heritagegraph360.profile.audit.AuditSegmentStore;
+import com.heritagegraph360.profile.config.AuditArchiveProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Validates audit partition management.
+ * Importance: Ensures monthly partitions exist even while archiving is off, so history never piles up in the
+ * default partition.
+ * Alternatives: Run maintenance against a live PostgreSQL.
+ */
+public class AuditPartitionMaintainerTest {
+
+    /**
+     * Ensures rows in the default partition are moved into monthly partitions and upcoming months are created
+     * while archiving is disabled.
+     * Importance: Confirms enabling archiving later finds every month in its own partition.
+     * Alternatives: Assert on the partitions in a live database.
+     *
+     * @throws Exception if the mocked connection fails.
+     */
+    @Test
+    public void shouldManagePartitionsWhileArchivingIsDisabled() throws Exception {
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        Connection connection = Mockito.mock(Connection.class);
+        PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+        ResultSet locked = Mockito.mock(ResultSet.class);
+        Mockito.when(connection.prepareStatement(Mockito.anyString())).thenReturn(statement);
+        Mockito.when(statement.executeQuery()).thenReturn(locked);
+        Mockito.when(locked.next()).thenReturn(true);
+        Mockito.when(locked.getBoolean(1)).thenReturn(true);
+        Mockito.when(jdbcTemplate.execute(Mockito.<ConnectionCallback<Object>>any()))
+            .thenAnswer(invocation -> invocation.<ConnectionCallback<Object>>getArgument(0).doInConnection(connection));
+        Mockito.when(jdbcTemplate.queryForList(Mockito.contains("FROM audit_logs_default"), Mockito.eq(Timestamp.class)))
+            .thenReturn(List.of(Timestamp.valueOf("2025-11-01 00:00:00")));
+        Mockito.when(jdbcTemplate.update(Mockito.startsWith("INSERT INTO audit_logs"), Mockito.<Object>any(),
+            Mockito.<Object>any())).thenReturn(42);
+        AuditSegmentStore segmentStore = Mockito.mock(AuditSegmentStore.class);
+        AuditArchiveProperties properties = new AuditArchiveProperties();
+        properties.setEnabled(false);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AuditPartitionMaintainer maintainer = new AuditPartitionMaintainer(jdbcTemplate,
+            Mockito.mock(PlatformTransactionManager.class), segmentStore, properties, registry);
+
+        maintainer.maintain();
+
+        InOrder order = Mockito.inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_default");
+        order.verify(jdbcTemplate).execute(Mockito.startsWith(
+            "CREATE TABLE IF NOT EXISTS audit_logs_p202511 PARTITION OF audit_logs FOR VALUES FROM ('2025-11-01')"));
+        order.verify(jdbcTemplate).update(Mockito.startsWith("INSERT INTO audit_logs"), Mockito.<Object>any(),
+            Mockito.<Object>any());
+        order.verify(jdbcTemplate).update(Mockito.startsWith("DELETE FROM audit_logs_default"),
+            Mockito.<Object>any(), Mockito.<Object>any());
+        order.verify(jdbcTemplate).execute("ALTER TABLE audit_logs ATTACH PARTITION audit_logs_default DEFAULT");
+        ArgumentCaptor<String> ddl = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(jdbcTemplate, Mockito.atLeast(2)).execute(ddl.capture());
+        long created = ddl.getAllValues().stream().filter(sql -> sql.startsWith("CREATE TABLE IF NOT EXISTS")).count();
+        Assertions.assertEquals(1 + properties.getPrecreateMonths() + 1, created);
+        Assertions.assertEquals(42.0, registry.counter("audit.partition.moved.rows").count());
+        Mockito.verifyNoInteractions(segmentStore);
+    }
+}
@@ -0,0 +1,215 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.api.AuditLogEntryResponse;
+import com.heritagegraph360.profile.audit.AuditCursor;
+import com.heritagegraph360.profile.audit.AuditSegmentStore;
+import com.heritagegraph360.profile.audit.AuditSegmentWriter;
+import com.heritagegraph360.profile.audit.AuditTrailPage;
+import com.heritagegraph360.profile.audit.AuditTrailReader;
+import com.heritagegraph360.profile.config.AuditArchiveProperties;
+import com.heritagegraph360.profile.config.AuditTrailProperties;
+import com.heritagegraph360.profile.domain.AuditLogEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Validates cold audit segments and their merge with hot audit rows.
+ * Importance: Ensures compacted history reads back exactly and in trail order.
+ * Alternatives: Compact a seeded PostgreSQL partition in an integration test.
+ */
+public class AuditSegmentStoreTest {
+    private static final Instant JANUARY = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant FEBRUARY = Instant.parse("2026-02-01T00:00:00Z");
+    private static final UUID LOW_ENTITY = new UUID(1L, 0L);
+    private static final UUID HIGH_ENTITY = new UUID(-1L, 0L);
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Ensures segments return each entity's rows, honor cursors, and keep nulls.
+     * Importance: Confirms block skipping, unsigned uuid ordering, and column decoding.
+     * Alternatives: Inspect the file bytes.
+     *
+     * @throws IOException when the segment cannot be written.
+     */
+    @Test
+    public void shouldReadEntityTrailsFromSegments() throws IOException {
+        AuditSegmentStore store = writeJanuary();
+        AuditSegmentStore.Snapshot snapshot = store.snapshot();
+
+        List<AuditLogEntity> high = drain(snapshot.trail("org-a", HIGH_ENTITY, null));
+        Assertions.assertEquals(3, high.size());
+        Assertions.assertNull(high.get(0).getDetails());
+        Assertions.assertEquals("détails 1", high.get(1).getDetails());
+        Assertions.assertNull(high.get(2).getActorId());
+
+        List<AuditLogEntity> low = drain(snapshot.trail("org-a", LOW_ENTITY, null));
+        Assertions.assertEquals(5, low.size());
+        AuditCursor cursor = new AuditCursor(low.get(1).getCreatedAt(), low.get(1).getAuditId());
+        List<AuditLogEntity> resumed = drain(snapshot.trail("org-a", LOW_ENTITY, cursor));
+        Assertions.assertEquals(low.subList(2, 5).stream().map(AuditLogEntity::getAuditId).toList(),
+            resumed.stream().map(AuditLogEntity::getAuditId).toList());
+        Assertions.assertEquals(2, drain(snapshot.trail("org-b", LOW_ENTITY, null)).size());
+        Assertions.assertTrue(drain(snapshot.trail("org-c", LOW_ENTITY, null)).isEmpty());
+
+        Assertions.assertEquals(1, snapshot.coveredRanges().size());
+        Assertions.assertEquals(JANUARY, snapshot.coveredRanges().get(0)[0]);
+        Assertions.assertEquals(FEBRUARY, snapshot.coveredRanges().get(0)[1]);
+    }
+
+    /**
+     * Ensures the writer rejects rows outside segment order.
+     * Importance: The sparse index is only valid for sorted input.
+     * Alternatives: Sort rows inside the writer.
+     *
+     * @throws IOException when the segment cannot be written.
+     */
+    @Test
+    public void shouldRejectUnsortedRows() throws IOException {
+        try (AuditSegmentWriter writer = new AuditSegmentWriter(directory, "audit_logs_p202601",
+            micros(JANUARY), micros(FEBRUARY), 2, 1L << 20)) {
+            writer.append(row("org-a", HIGH_ENTITY, 1));
+            Assertions.assertThrows(IllegalStateException.class, () -> writer.append(row("org-a", LOW_ENTITY, 2)));
+        }
+        Assertions.assertEquals(0, directory.toFile().list().length);
+    }
+
+    /**
+     * Ensures pages merge cold and hot rows and exclude covered ranges from the hot query.
+     * Importance: Confirms one continuous trail while a compacted partition still exists.
+     * Alternatives: Verify with a live partitioned table.
+     *
+     * @throws Exception when the segment or mocks fail.
+     */
+    @Test
+    public void shouldMergeColdAndHotRows() throws Exception {
+        AuditSegmentStore store = writeJanuary();
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        UUID hotId = UUID.randomUUID();
+        Mockito.when(resultSet.getObject(1, UUID.class)).thenReturn(hotId);
+        Mockito.when(resultSet.getString(2)).thenReturn("PROFILE_UPDATED");
+        Mockito.when(resultSet.getTimestamp(4)).thenReturn(Timestamp.from(FEBRUARY.plusSeconds(5)));
+        Mockito.doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            handler.processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(Mockito.anyString(), Mockito.any(PreparedStatementSetter.class),
+            Mockito.any(RowCallbackHandler.class));
+        AuditTrailReader reader = new AuditTrailReader(jdbcTemplate, Mockito.mock(PlatformTransactionManager.class),
+            store, new AuditTrailProperties());
+
+        AuditTrailPage first = reader.page("org-a", LOW_ENTITY, null, 4);
+        AuditTrailPage second = reader.page("org-a", LOW_ENTITY, AuditCursor.decode(first.getNextCursor()), 4);
+        List<AuditLogEntryResponse> entries = new ArrayList<>(first.getEntries());
+        entries.addAll(second.getEntries());
+
+        Assertions.assertEquals(6, entries.size());
+        Assertions.assertEquals(hotId.toString(), entries.get(5).getAuditId());
+        Assertions.assertNull(second.getNextCursor());
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(jdbcTemplate, Mockito.times(2)).query(sql.capture(), Mockito.any(PreparedStatementSetter.class),
+            Mockito.any(RowCallbackHandler.class));
+        Assertions.assertTrue(sql.getValue().contains("NOT (created_at >= ? AND created_at < ?)"));
+    }
+
+    /**
+     * Writes a January segment with small blocks and loads it.
+     * Importance: Spreads entities across several blocks.
+     * Alternatives: Use a checked-in segment file.
+     *
+     * @return the loaded store.
+     * @throws IOException when the segment cannot be written.
+     */
+    private AuditSegmentStore writeJanuary() throws IOException {
+        try (AuditSegmentWriter writer = new AuditSegmentWriter(directory, "audit_logs_p202601",
+            micros(JANUARY), micros(FEBRUARY), 2, 1L << 20)) {
+            for (int i = 0; i < 5; i++) {
+                writer.append(row("org-a", LOW_ENTITY, i));
+            }
+            AuditLogEntity noDetails = row("org-a", HIGH_ENTITY, 0);
+            noDetails.setDetails(null);
+            writer.append(noDetails);
+            AuditLogEntity accented = row("org-a", HIGH_ENTITY, 1);
+            accented.setDetails("détails 1");
+            writer.append(accented);
+            AuditLogEntity noActor = row("org-a", HIGH_ENTITY, 2);
+            noActor.setActorId(null);
+            writer.append(noActor);
+            writer.append(row("org-b", LOW_ENTITY, 0));
+            writer.append(row("org-b", LOW_ENTITY, 1));
+            Assertions.assertEquals(1, writer.finish().size());
+        }
+        AuditArchiveProperties properties = new AuditArchiveProperties();
+        properties.setDirectory(directory.toString());
+        AuditSegmentStore store = new AuditSegmentStore(properties, new SimpleMeterRegistry());
+        store.rescan();
+        return store;
+    }
+
+    /**
+     * Builds an audit row one minute apart per sequence number.
+     * Importance: Produces rows already in segment order.
+     * Alternatives: Sort generated rows.
+     *
+     * @param tenantId the tenant identifier.
+     * @param entityId the entity identifier.
+     * @param sequence the row sequence.
+     * @return the row.
+     */
+    private AuditLogEntity row(String tenantId, UUID entityId, int sequence) {
+        AuditLogEntity row = new AuditLogEntity();
+        row.setAuditId(UUID.randomUUID());
+        row.setTenantId(tenantId);
+        row.setEntityId(entityId);
+        row.setActorId(UUID.randomUUID());
+        row.setAction("PROFILE_UPDATED");
+        row.setDetails("details " + sequence);
+        row.setCreatedAt(JANUARY.plusSeconds(60L * sequence).plusNanos(123_000));
+        return row;
+    }
+
+    /**
+     * Collects an iterator into a list.
+     * Importance: Simplifies assertions.
+     * Alternatives: Assert while iterating.
+     *
+     * @param rows the iterator.
+     * @return the rows.
+     */
+    private List<AuditLogEntity> drain(Iterator<AuditLogEntity> rows) {
+        List<AuditLogEntity> result = new ArrayList<>();
+        rows.forEachRemaining(result::add);
+        return result;
+    }
+
+    /**
+     * Converts an instant to epoch microseconds.
+     * Importance: Matches the writer's bound encoding.
+     * Alternatives: Expose the format helper.
+     *
+     * @param instant the instant.
+     * @return epoch microseconds.
+     */
+    private long micros(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1000;
+    }
+}
@@ -0,0 +1,133 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.api.AuditLogEntryResponse;
+import com.heritagegraph360.profile.audit.AuditCursor;
+import com.heritagegraph360.profile.audit.AuditSegmentStore;
+import com.heritagegraph360.profile.audit.AuditTrailPage;
+import com.heritagegraph360.profile.audit.AuditTrailReader;
+import com.heritagegraph360.profile.config.AuditArchiveProperties;
+import com.heritagegraph360.profile.config.AuditTrailProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Validates keyset pagination and streaming of audit trails.
+ * Importance: Ensures long trails are read in bounded chunks without skipping entries.
+ * Alternatives: Page through a seeded PostgreSQL database.
+ */
+public class AuditTrailReaderTest {
+    private static final Instant BASE = Instant.parse("2026-01-01T00:00:00Z");
+
+    /**
+     * Ensures a full page yields a cursor positioned on its last entry.
+     * Importance: Confirms the extra probe row is dropped and the keyset resumes after the page.
+     * Alternatives: Compare against OFFSET results.
+     *
+     * @throws SQLException never, required by the ResultSet API.
+     */
+    @Test
+    public void shouldReturnCursorForFullPage() throws SQLException {
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        answerRows(jdbcTemplate, ids);
+        AuditTrailReader reader = newReader(jdbcTemplate);
+
+        AuditTrailPage page = reader.page("org-us-001", UUID.randomUUID(), null, 2);
+
+        Assertions.assertEquals(2, page.getEntries().size());
+        AuditCursor next = AuditCursor.decode(page.getNextCursor());
+        Assertions.assertEquals(ids.get(1), next.getAuditId());
+        Assertions.assertEquals(BASE.plusMillis(1), next.getCreatedAt());
+
+        AuditTrailPage resumed = reader.page("org-us-001", UUID.randomUUID(), next, 2);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(jdbcTemplate, Mockito.times(2)).query(sql.capture(), Mockito.any(PreparedStatementSetter.class),
+            Mockito.any(RowCallbackHandler.class));
+        Assertions.assertTrue(sql.getAllValues().get(1).contains("(created_at, audit_id) > (?, ?)"));
+        Assertions.assertNotNull(resumed.getNextCursor());
+    }
+
+    /**
+     * Ensures a short page ends the trail and streaming visits every row.
+     * Importance: Confirms clients can detect the last page and exports are complete.
+     * Alternatives: Count rows with a separate query.
+     *
+     * @throws SQLException never, required by the ResultSet API.
+     */
+    @Test
+    public void shouldEndTrailAndStreamEveryRow() throws SQLException {
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        answerRows(jdbcTemplate, ids);
+        AuditTrailReader reader = newReader(jdbcTemplate);
+
+        Assertions.assertNull(reader.page("org-us-001", UUID.randomUUID(), null, 5).getNextCursor());
+        List<AuditLogEntryResponse> streamed = new ArrayList<>();
+        Assertions.assertEquals(2, reader.stream("org-us-001", UUID.randomUUID(), null, streamed::add));
+        Assertions.assertEquals(ids.get(1).toString(), streamed.get(1).getAuditId());
+    }
+
+    /**
+     * Ensures malformed cursors are rejected as client errors.
+     * Importance: Keeps tampered tokens from reaching SQL.
+     * Alternatives: Ignore invalid cursors and restart the trail.
+     */
+    @Test
+    public void shouldRejectMalformedCursor() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> AuditCursor.decode("not-a-cursor"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> AuditCursor.decode("!!"));
+    }
+
+    /**
+     * Makes the mocked template feed rows to the row callback.
+     * Importance: Exercises the reader's own mapping and page accounting.
+     * Alternatives: Expose row mapping for tests.
+     *
+     * @param jdbcTemplate the mocked template.
+     * @param ids the audit identifiers to return, one per millisecond.
+     * @throws SQLException never, required by the ResultSet API.
+     */
+    private void answerRows(JdbcTemplate jdbcTemplate, List<UUID> ids) throws SQLException {
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        int[] row = new int[1];
+        Mockito.when(resultSet.getObject(1, UUID.class)).thenAnswer(invocation -> ids.get(row[0]));
+        Mockito.when(resultSet.getString(2)).thenReturn("PROFILE_UPDATED");
+        Mockito.when(resultSet.getTimestamp(4))
+            .thenAnswer(invocation -> Timestamp.from(BASE.plusMillis(row[0])));
+        Mockito.doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            for (row[0] = 0; row[0] < ids.size(); row[0]++) {
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(Mockito.anyString(), Mockito.any(PreparedStatementSetter.class),
+            Mockito.any(RowCallbackHandler.class));
+    }
+
+    /**
+     * Builds a reader over mocked storage.
+     * Importance: Keeps tests independent of a database.
+     * Alternatives: Use an embedded database.
+     *
+     * @param jdbcTemplate the mocked JDBC template.
+     * @return the reader.
+     */
+    private AuditTrailReader newReader(JdbcTemplate jdbcTemplate) {
+        return new AuditTrailReader(jdbcTemplate, Mockito.mock(PlatformTransactionManager.class),
+            new AuditSegmentStore(new AuditArchiveProperties(), new SimpleMeterRegistry()), new AuditTrailProperties());
+    }
+}
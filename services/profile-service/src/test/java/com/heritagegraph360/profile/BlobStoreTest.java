@@ -0,0 +1,244 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.blob.BlobHash;
+import com.heritagegraph360.profile.blob.BlobLocation;
+import com.heritagegraph360.profile.blob.BlobStore;
+import com.heritagegraph360.profile.blob.BlobWriteResult;
+import com.heritagegraph360.profile.config.BlobStoreProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Validates the content-addressed evidence blob store.
+ * Importance: Ensures uploads are verified, deduplicated, readable after restarts, and reclaimed by compaction.
+ * Alternatives: Exercise the store through the HTTP API.
+ */
+public class BlobStoreTest {
+    @TempDir
+    Path directory;
+
+    private BlobStoreProperties properties;
+    private BlobStore store;
+
+    /**
+     * Opens a store with small segments so tests cross segment boundaries.
+     * Importance: Exercises sealing and mapped reads with a few kilobytes of data.
+     * Alternatives: Write gigabyte segments.
+     *
+     * @throws IOException when the store cannot open.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        properties = new BlobStoreProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory.toString());
+        properties.setMaxSegmentBytes(4096);
+        properties.setMaxBlobBytes(2048);
+        properties.setCompactionGraceMs(0);
+        store = open();
+    }
+
+    /**
+     * Closes the store.
+     * Importance: Releases the directory lock between tests.
+     * Alternatives: Leak the lock until the JVM exits.
+     *
+     * @throws IOException when the store cannot close.
+     */
+    @AfterEach
+    public void tearDown() throws IOException {
+        store.close();
+    }
+
+    /**
+     * Ensures identical uploads are stored once and mismatched or oversized uploads are rejected.
+     * Importance: Confirms hash verification and cross-tenant dedupe.
+     * Alternatives: Compare segment file sizes only.
+     *
+     * @throws Exception when the store fails.
+     */
+    @Test
+    public void shouldVerifyAndDeduplicateUploads() throws Exception {
+        byte[] scan = bytes("parish register page 14", 900);
+        BlobWriteResult first = store.write(new ByteArrayInputStream(scan), sha256(scan));
+        BlobWriteResult second = store.write(new ByteArrayInputStream(scan), null);
+        Assertions.assertEquals(sha256(scan), first.getSha256());
+        Assertions.assertEquals(scan.length, first.getSizeBytes());
+        Assertions.assertFalse(first.isDeduplicated());
+        Assertions.assertTrue(second.isDeduplicated());
+        Assertions.assertEquals(1, segmentFiles());
+        Assertions.assertArrayEquals(scan, read(first.getSha256()));
+
+        byte[] other = bytes("census 1881", 100);
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> store.write(new ByteArrayInputStream(other), sha256(scan)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> store.write(new ByteArrayInputStream(new byte[2049]), null));
+        Assertions.assertTrue(store.locate(BlobHash.parse(sha256(other))).isEmpty());
+        try (Stream<Path> spool = Files.list(directory.resolve("spool"))) {
+            Assertions.assertEquals(0, spool.count());
+        }
+    }
+
+    /**
+     * Ensures blobs in sealed and active segments survive a restart, including a torn final append.
+     * Importance: Confirms index files, header recovery, and mapped reads.
+     * Alternatives: Persist the whole index on shutdown.
+     *
+     * @throws Exception when the store fails.
+     */
+    @Test
+    public void shouldReloadSegmentsAndRepairTornTail() throws Exception {
+        Set<String> hashes = new HashSet<>();
+        for (int i = 0; i < 8; i++) {
+            hashes.add(store.write(new ByteArrayInputStream(bytes("scan-" + i, 1500)), null).getSha256());
+        }
+        Assertions.assertTrue(segmentFiles() > 2);
+        store.close();
+
+        Path active;
+        try (Stream<Path> files = Files.list(directory)) {
+            active = files.filter(file -> file.toString().endsWith(".seg")).max(Path::compareTo).orElseThrow();
+        }
+        long validSize = Files.size(active);
+        Files.write(active, new byte[] {0x48, 0x47, 0x42, 0x31, 7}, java.nio.file.StandardOpenOption.APPEND);
+
+        store = open();
+        Assertions.assertEquals(validSize, Files.size(active));
+        for (int i = 0; i < 8; i++) {
+            byte[] expected = bytes("scan-" + i, 1500);
+            Assertions.assertTrue(hashes.contains(sha256(expected)));
+            Assertions.assertArrayEquals(expected, read(sha256(expected)));
+        }
+    }
+
+    /**
+     * Ensures compaction drops unowned blobs, moves owned ones, and respects the grace period.
+     * Importance: Confirms deleted evidence space is reclaimed without losing shared scans.
+     * Alternatives: Inspect segment files directly.
+     *
+     * @throws Exception when the store fails.
+     */
+    @Test
+    public void shouldCompactSegmentsWithDeadBlobs() throws Exception {
+        byte[] kept = bytes("kept", 1500);
+        byte[] deleted = bytes("deleted", 1500);
+        byte[] filler = bytes("filler", 1500);
+        store.write(new ByteArrayInputStream(kept), null);
+        store.write(new ByteArrayInputStream(deleted), null);
+        store.write(new ByteArrayInputStream(filler), null);
+        BlobHash keptHash = BlobHash.parse(sha256(kept));
+        BlobHash fillerHash = BlobHash.parse(sha256(filler));
+
+        properties.setCompactionGraceMs(60000);
+        Assertions.assertEquals(0, store.compact(hashes -> Set.of()));
+
+        properties.setCompactionGraceMs(0);
+        Thread.sleep(5);
+        long reclaimed = store.compact(hashes -> hashes.contains(keptHash) ? Set.of(keptHash) : Set.of());
+        Assertions.assertTrue(reclaimed >= deleted.length);
+        Assertions.assertTrue(store.locate(BlobHash.parse(sha256(deleted))).isEmpty());
+        Assertions.assertArrayEquals(kept, read(sha256(kept)));
+        Assertions.assertArrayEquals(filler, read(fillerHash.toHex()));
+
+        store.compact(hashes -> Set.of(keptHash, fillerHash));
+        try (Stream<Path> files = Files.list(directory)) {
+            Assertions.assertEquals(0, files.filter(file -> file.toString().endsWith(".retired")).count());
+        }
+        store.close();
+        store = open();
+        Assertions.assertTrue(store.locate(BlobHash.parse(sha256(deleted))).isEmpty());
+        Assertions.assertArrayEquals(kept, read(sha256(kept)));
+    }
+
+    /**
+     * Opens a store over the test directory.
+     * Importance: Lets tests simulate restarts.
+     * Alternatives: Reuse one instance.
+     *
+     * @return the open store.
+     * @throws IOException when the store cannot open.
+     */
+    private BlobStore open() throws IOException {
+        BlobStore opened = new BlobStore(properties, new SimpleMeterRegistry());
+        opened.start();
+        return opened;
+    }
+
+    /**
+     * Reads a blob through the store's transfer path.
+     * Importance: Covers both mapped and FileChannel reads.
+     * Alternatives: Read segment files directly.
+     *
+     * @param sha256 the hex hash.
+     * @return the blob bytes.
+     * @throws IOException when the read fails.
+     */
+    private byte[] read(String sha256) throws IOException {
+        BlobLocation location = store.locate(BlobHash.parse(sha256)).orElseThrow();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        store.transferTo(location, Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    /**
+     * Counts live segment files.
+     * Importance: Shows whether uploads were appended or deduplicated.
+     * Alternatives: Read the segment gauge.
+     *
+     * @return the number of segment files.
+     * @throws IOException when the directory cannot be listed.
+     */
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".seg")).count();
+        }
+    }
+
+    /**
+     * Builds deterministic content of a given size.
+     * Importance: Gives each scan distinct bytes and a known hash.
+     * Alternatives: Use random bytes.
+     *
+     * @param seed the text repeated through the content.
+     * @param size the content size.
+     * @return the bytes.
+     */
+    private static byte[] bytes(String seed, int size) {
+        byte[] text = seed.getBytes(StandardCharsets.UTF_8);
+        byte[] out = new byte[size];
+        for (int i = 0; i < size; i++) {
+            out[i] = text[i % text.length];
+        }
+        return out;
+    }
+
+    /**
+     * Computes the hex SHA-256 of content.
+     * Importance: Provides the expected blob keys.
+     * Alternatives: Hard-code digests.
+     *
+     * @param content the bytes.
+     * @return the hex hash.
+     * @throws NoSuchAlgorithmException when SHA-256 is unavailable.
+     */
+    private static String sha256(byte[] content) throws NoSuchAlgorithmException {
+        return BlobHash.of(MessageDigest.getInstance("SHA-256").digest(content)).toHex();
+    }
+}
@@ -0,0 +1,41 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.contact.TenantContactFilter;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Validates the scalable contact membership filter.
+ * Importance: Ensures the filter never reports a stored identifier as absent.
+ * Alternatives: Validate against a live profiles table.
+ */
+public class ContactFilterTest {
+    /**
+     * Ensures growth beyond the initial capacity keeps no false negatives and a bounded false-positive rate.
+     * Importance: Confirms skipped uniqueness probes are always safe.
+     * Alternatives: Check a single fixed-size filter only.
+     */
+    @Test
+    public void shouldHaveNoFalseNegativesAndBoundedFalsePositivesAfterGrowth() {
+        TenantContactFilter filter = new TenantContactFilter(1000, 0.01);
+        SplittableRandom random = new SplittableRandom(42);
+        long[] stored = new long[20000];
+        for (int i = 0; i < stored.length; i++) {
+            stored[i] = random.nextLong();
+            filter.add(stored[i]);
+        }
+        for (long hash : stored) {
+            Assertions.assertTrue(filter.mightContain(hash));
+        }
+        int falsePositives = 0;
+        int probes = 100000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(random.nextLong())) {
+                falsePositives++;
+            }
+        }
+        Assertions.assertTrue(falsePositives < probes * 0.02, "false positives: " + falsePositives);
+        Assertions.assertEquals(stored.length, filter.entries());
+    }
+}
@@ -0,0 +1,81 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.duplicate.BlockingKeyGenerator;
+import com.heritagegraph360.profile.duplicate.TenantBlockIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Validates candidate generation from the blocking-key index.
+ * Importance: Ensures blocking keeps likely duplicates together and skips oversized blocks.
+ * Alternatives: Verify candidates through controller integration tests.
+ */
+public class DuplicateBlockIndexTest {
+    private final BlockingKeyGenerator generator = new BlockingKeyGenerator();
+
+    /**
+     * Ensures spelling and formatting variants share blocks and contact matches are flagged.
+     * Importance: Confirms the normalizations that make blocking recall-safe for the duplicate rule.
+     * Alternatives: Assert individual blocking keys.
+     */
+    @Test
+    public void shouldGroupVariantsAndFlagSharedContact() {
+        TenantBlockIndex index = new TenantBlockIndex(4);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID unrelated = UUID.randomUUID();
+        add(index, first, "José Álvarez", "Jose@Example.com ", "+1 (555) 010-2000");
+        add(index, second, "Alvarez, Jose", "jose@example.com", null);
+        add(index, unrelated, "Mary Wong", null, "555-999-0000");
+
+        List<Integer> candidates = new ArrayList<>();
+        List<Boolean> shared = new ArrayList<>();
+        index.visitCandidates(index.find(first), false, 100, (candidate, sharedContact) -> {
+            candidates.add(candidate);
+            shared.add(sharedContact);
+        });
+
+        Assertions.assertEquals(List.of(index.find(second)), candidates);
+        Assertions.assertEquals(List.of(true), shared);
+    }
+
+    /**
+     * Ensures name blocks above the size limit are skipped and pairs are emitted once in scans.
+     * Importance: Confirms common names cannot reintroduce quadratic comparisons.
+     * Alternatives: Sample oversized blocks.
+     */
+    @Test
+    public void shouldSkipOversizedNameBlocks() {
+        TenantBlockIndex index = new TenantBlockIndex(4);
+        UUID probe = UUID.randomUUID();
+        add(index, probe, "Ann Lee", null, null);
+        for (int i = 0; i < 6; i++) {
+            add(index, UUID.randomUUID(), "Ann Lee", null, null);
+        }
+        add(index, UUID.randomUUID(), "Zed", "ann@example.com", null);
+
+        int visited = index.visitCandidates(index.find(probe), false, 3, (candidate, sharedContact) -> { });
+        int laterOnly = index.visitCandidates(index.find(probe), true, 100, (candidate, sharedContact) -> { });
+
+        Assertions.assertEquals(0, visited);
+        Assertions.assertEquals(6, laterOnly);
+    }
+
+    /**
+     * Adds a profile with generated keys.
+     * Importance: Keeps test setup concise.
+     * Alternatives: Inline key generation per profile.
+     *
+     * @param index the index.
+     * @param profileId the profile identifier.
+     * @param name the display name.
+     * @param email the email.
+     * @param phone the phone.
+     */
+    private void add(TenantBlockIndex index, UUID profileId, String name, String email, String phone) {
+        index.add(profileId, name, generator.keysFor(name, email, phone), generator);
+    }
+}
@@ -0,0 +1,187 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.config.DuplicateDetectionProperties;
+import com.heritagegraph360.profile.duplicate.BlockingKeyGenerator;
+import com.heritagegraph360.profile.duplicate.DuplicateCandidate;
+import com.heritagegraph360.profile.duplicate.DuplicateCandidateIndex;
+import com.heritagegraph360.profile.duplicate.DuplicateCandidateScorer;
+import com.heritagegraph360.profile.duplicate.DuplicateScanRecord;
+import com.heritagegraph360.profile.duplicate.DuplicateScanRunner;
+import com.heritagegraph360.profile.duplicate.DuplicateScanStatus;
+import com.heritagegraph360.profile.duplicate.DuplicateScanStore;
+import com.heritagegraph360.profile.duplicate.TenantBlockIndex;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Validates chunked duplicate scans against a mocked scan store.
+ * Importance: Ensures chunks are partitioned stably, checkpointed chunks are skipped, and scans finish with the
+ * right status only while leased.
+ * Alternatives: Run scans against a live PostgreSQL.
+ */
+public class DuplicateScanRunnerTest {
+    private static final String TENANT = "tenant-a";
+    private static final int CHUNKS = 4;
+    private static final int PROFILES = 12;
+
+    private final BlockingKeyGenerator generator = new BlockingKeyGenerator();
+    private final Map<Integer, List<DuplicateCandidate>> checkpoints = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> comparisons = new ConcurrentHashMap<>();
+    private DuplicateScanStore scanStore;
+    private DuplicateScanRunner runner;
+
+    /**
+     * Builds a runner over one block of identically named profiles.
+     * Importance: Puts every pair in the same block so each chunk has work.
+     * Alternatives: Load the index from a database.
+     */
+    @BeforeEach
+    public void setUp() {
+        TenantBlockIndex index = new TenantBlockIndex(PROFILES);
+        for (int i = 0; i < PROFILES; i++) {
+            index.add(UUID.randomUUID(), "Ann Lee", generator.keysFor("Ann Lee", null, null), generator);
+        }
+        DuplicateCandidateIndex candidateIndex = Mockito.mock(DuplicateCandidateIndex.class);
+        Mockito.when(candidateIndex.loadedTenant(TENANT)).thenReturn(index);
+        DuplicateCandidateScorer scorer = Mockito.mock(DuplicateCandidateScorer.class);
+        Mockito.when(scorer.score(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyBoolean()))
+            .thenAnswer(invocation -> new DuplicateCandidate(invocation.getArgument(1),
+                index.profileId(invocation.<Integer>getArgument(3)), 1.0, false, true));
+        scanStore = Mockito.mock(DuplicateScanStore.class);
+        Mockito.when(scanStore.completedChunks(Mockito.any())).thenReturn(new BitSet());
+        Mockito.when(scanStore.finishScan(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+            .thenReturn(true);
+        Mockito.when(scanStore.completeChunk(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
+                Mockito.anyInt(), Mockito.any(), Mockito.anyLong(), Mockito.anyInt()))
+            .thenAnswer(invocation -> {
+                List<DuplicateCandidate> candidates = invocation.getArgument(5);
+                checkpoints.put(invocation.getArgument(4), candidates);
+                comparisons.put(invocation.getArgument(4), invocation.getArgument(6));
+                return candidates.size();
+            });
+        DuplicateDetectionProperties properties = new DuplicateDetectionProperties();
+        properties.setScanParallelism(2);
+        runner = new DuplicateScanRunner(candidateIndex, scorer, scanStore, properties);
+    }
+
+    /**
+     * Stops the runner's pool.
+     * Importance: Keeps pool threads from leaking across tests.
+     * Alternatives: Share one runner across tests.
+     */
+    @AfterEach
+    public void tearDown() {
+        runner.shutdown();
+    }
+
+    /**
+     * Ensures every chunk holds only profiles hashed to it and each pair is compared once.
+     * Importance: Confirms chunk membership is stable across restarts and the lower profile id owns each pair.
+     * Alternatives: Test the partitioning helper directly.
+     */
+    @Test
+    public void shouldPartitionProfilesByHashAndCompareEachPairOnce() {
+        UUID scanId = UUID.randomUUID();
+
+        runner.start(scanId, TENANT, CHUNKS, UUID.randomUUID());
+
+        Mockito.verify(scanStore, Mockito.timeout(5000))
+            .finishScan(Mockito.eq(scanId), Mockito.any(), Mockito.eq(DuplicateScanStatus.COMPLETED), Mockito.isNull());
+        Assertions.assertEquals(Set.of(0, 1, 2, 3), checkpoints.keySet());
+        checkpoints.forEach((chunk, candidates) -> candidates.forEach(candidate -> {
+            Assertions.assertEquals((int) chunk, Math.floorMod(candidate.getProfileId().hashCode(), CHUNKS));
+            Assertions.assertTrue(candidate.getProfileId().compareTo(candidate.getCandidateProfileId()) < 0);
+        }));
+        long pairs = (long) PROFILES * (PROFILES - 1) / 2;
+        Assertions.assertEquals(pairs, comparisons.values().stream().mapToLong(Long::longValue).sum());
+        Assertions.assertEquals(pairs, checkpoints.values().stream().mapToLong(List::size).sum());
+    }
+
+    /**
+     * Ensures a resumed scan skips chunks that already have a checkpoint.
+     * Importance: Confirms restarts only redo unfinished work.
+     * Alternatives: Count merges in a live database.
+     */
+    @Test
+    public void shouldSkipCheckpointedChunksOnResume() {
+        UUID scanId = UUID.randomUUID();
+        BitSet completed = new BitSet();
+        completed.set(0);
+        completed.set(2);
+        Mockito.when(scanStore.completedChunks(scanId)).thenReturn(completed);
+        Mockito.when(scanStore.findOrphanedScans(Mockito.any())).thenReturn(List.of(record(scanId)));
+        Mockito.when(scanStore.claimScan(Mockito.eq(scanId), Mockito.any(), Mockito.any(), Mockito.any()))
+            .thenReturn(true);
+
+        runner.resumeOrphanedScans();
+
+        Mockito.verify(scanStore, Mockito.timeout(5000))
+            .finishScan(Mockito.eq(scanId), Mockito.any(), Mockito.eq(DuplicateScanStatus.COMPLETED), Mockito.isNull());
+        Assertions.assertEquals(Set.of(1, 3), checkpoints.keySet());
+    }
+
+    /**
+     * Ensures orphaned scans claimed by another instance are not run here.
+     * Importance: Confirms two pods resuming together never run one scan twice.
+     * Alternatives: Run two runners against a live database.
+     */
+    @Test
+    public void shouldOnlyResumeScansItClaims() {
+        UUID claimed = UUID.randomUUID();
+        UUID taken = UUID.randomUUID();
+        Mockito.when(scanStore.findOrphanedScans(Mockito.any())).thenReturn(List.of(record(claimed), record(taken)));
+        Mockito.when(scanStore.claimScan(Mockito.eq(claimed), Mockito.any(), Mockito.any(), Mockito.any()))
+            .thenReturn(true);
+
+        runner.resumeOrphanedScans();
+
+        Mockito.verify(scanStore, Mockito.timeout(5000))
+            .finishScan(Mockito.eq(claimed), Mockito.any(), Mockito.eq(DuplicateScanStatus.COMPLETED), Mockito.isNull());
+        Mockito.verify(scanStore, Mockito.never()).completedChunks(taken);
+        Mockito.verify(scanStore, Mockito.never())
+            .finishScan(Mockito.eq(taken), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    /**
+     * Ensures a chunk failure marks the scan failed with the cause.
+     * Importance: Confirms broken scans stop instead of staying running forever.
+     * Alternatives: Assert on logs.
+     */
+    @Test
+    public void shouldFailScanWhenChunkFails() {
+        UUID scanId = UUID.randomUUID();
+        Mockito.doThrow(new IllegalStateException("database unavailable")).when(scanStore).completeChunk(
+            Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.any(),
+            Mockito.anyLong(), Mockito.anyInt());
+
+        runner.start(scanId, TENANT, CHUNKS, UUID.randomUUID());
+
+        Mockito.verify(scanStore, Mockito.timeout(5000)).finishScan(Mockito.eq(scanId), Mockito.any(),
+            Mockito.eq(DuplicateScanStatus.FAILED), Mockito.eq("database unavailable"));
+        Mockito.verify(scanStore, Mockito.never())
+            .finishScan(Mockito.any(), Mockito.any(), Mockito.eq(DuplicateScanStatus.COMPLETED), Mockito.any());
+    }
+
+    /**
+     * Builds an orphaned scan record.
+     * Importance: Keeps resume setup concise.
+     * Alternatives: Inline the constructor per test.
+     *
+     * @param scanId the scan identifier.
+     * @return the record.
+     */
+    private static DuplicateScanRecord record(UUID scanId) {
+        return new DuplicateScanRecord(scanId, TENANT, DuplicateScanStatus.RUNNING, CHUNKS, 0, 0, 0,
+            Instant.now(), null, null);
+    }
+}
@@ -0,0 +1,199 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.duplicate.DuplicateCandidate;
+import com.heritagegraph360.profile.duplicate.DuplicateScanStatus;
+import com.heritagegraph360.profile.duplicate.DuplicateScanStore;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Validates duplicate scan persistence through a real JDBC template over a mocked driver.
+ * Importance: Ensures checkpoints count the merges the database returns, skip decided pairs, and that an instance
+ * without the lease writes nothing.
+ * Alternatives: Run the store against a live PostgreSQL.
+ */
+public class DuplicateScanStoreTest {
+    private final Connection connection = Mockito.mock(Connection.class);
+    private final Map<String, PreparedStatement> statements = new ConcurrentHashMap<>();
+    private final Map<String, String> prepared = new ConcurrentHashMap<>();
+    private DuplicateScanStore store;
+
+    /**
+     * Routes every prepared statement to a per-statement mock.
+     * Importance: Lets each test script the lease update, merge insert, and checkpoint independently.
+     * Alternatives: Mock JdbcTemplate methods.
+     *
+     * @throws Exception if the mocked driver fails.
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        DataSource dataSource = Mockito.mock(DataSource.class);
+        Mockito.when(dataSource.getConnection()).thenReturn(connection);
+        DatabaseMetaData metaData = Mockito.mock(DatabaseMetaData.class);
+        Mockito.when(metaData.getDriverName()).thenReturn("PostgreSQL JDBC Driver");
+        Mockito.when(connection.getMetaData()).thenReturn(metaData);
+        Mockito.when(connection.prepareStatement(Mockito.anyString())).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            PreparedStatement statement = statement(sql);
+            prepared.put(prefixOf(sql), sql);
+            return statement;
+        });
+        Mockito.when(connection.createArrayOf(Mockito.anyString(), Mockito.any()))
+            .thenReturn(Mockito.mock(Array.class));
+        store = new DuplicateScanStore(new JdbcTemplate(dataSource), Mockito.mock(PlatformTransactionManager.class));
+    }
+
+    /**
+     * Ensures a chunk checkpoint records the merges returned by the insert, not driver batch counts.
+     * Importance: Confirms merges_created stays exact when pgjdbc rewrites batches and reports SUCCESS_NO_INFO.
+     * Alternatives: Count merges after the scan.
+     *
+     * @throws Exception if the mocked driver fails.
+     */
+    @Test
+    public void shouldCheckpointReturnedMerges() throws Exception {
+        UUID scanId = UUID.randomUUID();
+        Mockito.when(statement("UPDATE duplicate_scans SET lease_until").executeUpdate()).thenReturn(1);
+        PreparedStatement insert = statement("INSERT INTO merges");
+        ResultSet returned = Mockito.mock(ResultSet.class);
+        Mockito.when(returned.next()).thenReturn(true, true, false);
+        Mockito.when(insert.executeQuery()).thenReturn(returned);
+        Mockito.when(insert.executeBatch()).thenReturn(new int[] {Statement.SUCCESS_NO_INFO});
+        PreparedStatement checkpoint = statement("INSERT INTO duplicate_scan_chunks");
+        Mockito.when(checkpoint.executeUpdate()).thenReturn(1);
+
+        int inserted = store.completeChunk(scanId, "owner-a", Instant.now(), "tenant-a", 3,
+            List.of(candidate(), candidate(), candidate()), 7, 500);
+
+        Assertions.assertEquals(2, inserted);
+        Mockito.verify(insert, Mockito.never()).executeBatch();
+        Mockito.verify(checkpoint).setObject(4, 2);
+        String sql = prepared.get("INSERT INTO merges");
+        Assertions.assertTrue(sql.contains("WHERE NOT EXISTS (SELECT 1 FROM merges e"));
+        Assertions.assertFalse(sql.contains("e.status"));
+        Assertions.assertTrue(sql.contains("RETURNING merge_id"));
+    }
+
+    /**
+     * Ensures merges are written in statements of at most the batch size.
+     * Importance: Confirms large chunks stay within statement and array size limits.
+     * Alternatives: Send one statement per chunk.
+     *
+     * @throws Exception if the mocked driver fails.
+     */
+    @Test
+    public void shouldSplitMergesIntoStatementsOfBatchSize() throws Exception {
+        Mockito.when(statement("UPDATE duplicate_scans SET lease_until").executeUpdate()).thenReturn(1);
+        PreparedStatement insert = statement("INSERT INTO merges");
+        ResultSet returned = Mockito.mock(ResultSet.class);
+        Mockito.when(returned.next()).thenReturn(true, false, true, false, false);
+        Mockito.when(insert.executeQuery()).thenReturn(returned);
+
+        int inserted = store.completeChunk(UUID.randomUUID(), "owner-a", Instant.now(), "tenant-a", 0,
+            List.of(candidate(), candidate(), candidate(), candidate(), candidate()), 5, 2);
+
+        Assertions.assertEquals(2, inserted);
+        Mockito.verify(insert, Mockito.times(3)).executeQuery();
+    }
+
+    /**
+     * Ensures an instance that lost the lease neither inserts merges nor checkpoints.
+     * Importance: Confirms a stale owner cannot collide with the instance that took the scan over.
+     * Alternatives: Rely on the checkpoint primary key.
+     *
+     * @throws Exception if the mocked driver fails.
+     */
+    @Test
+    public void shouldWriteNothingWithoutLease() throws Exception {
+        Mockito.when(statement("UPDATE duplicate_scans SET lease_until").executeUpdate()).thenReturn(0);
+
+        int inserted = store.completeChunk(UUID.randomUUID(), "owner-a", Instant.now(), "tenant-a", 0,
+            List.of(candidate()), 1, 500);
+
+        Assertions.assertEquals(-1, inserted);
+        Assertions.assertFalse(statements.containsKey("INSERT INTO merges"));
+        Assertions.assertFalse(statements.containsKey("INSERT INTO duplicate_scan_chunks"));
+    }
+
+    /**
+     * Ensures finishing a scan is conditional on the owner and reports whether it applied.
+     * Importance: Confirms COMPLETED and FAILED transitions only come from the instance holding the scan.
+     * Alternatives: Reload the scan after finishing it.
+     *
+     * @throws Exception if the mocked driver fails.
+     */
+    @Test
+    public void shouldFinishScanOnlyForOwner() throws Exception {
+        Mockito.when(statement("UPDATE duplicate_scans SET status").executeUpdate()).thenReturn(1, 0);
+
+        Assertions.assertTrue(store.finishScan(UUID.randomUUID(), "owner-a", DuplicateScanStatus.COMPLETED, null));
+        Assertions.assertFalse(store.finishScan(UUID.randomUUID(), "owner-b", DuplicateScanStatus.FAILED, "lost"));
+        Assertions.assertTrue(prepared.get("UPDATE duplicate_scans SET status").contains("AND owner = ?"));
+    }
+
+    /**
+     * Returns the mocked statement for SQL starting with a known prefix.
+     * Importance: Gives repeated executions of one statement the same mock.
+     * Alternatives: Capture statements in order.
+     *
+     * @param sql the SQL text or its prefix.
+     * @return the statement.
+     */
+    private PreparedStatement statement(String sql) {
+        return statements.computeIfAbsent(prefixOf(sql), key -> {
+            PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+            try {
+                Mockito.when(statement.getConnection()).thenReturn(connection);
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+            return statement;
+        });
+    }
+
+    /**
+     * Returns the known statement prefix the SQL starts with.
+     * Importance: Keys statements by purpose rather than full text.
+     * Alternatives: Key statements by full SQL text.
+     *
+     * @param sql the SQL text or its prefix.
+     * @return the prefix.
+     */
+    private static String prefixOf(String sql) {
+        for (String prefix : List.of("UPDATE duplicate_scans SET lease_until", "UPDATE duplicate_scans SET status",
+            "INSERT INTO merges", "INSERT INTO duplicate_scan_chunks")) {
+            if (sql.startsWith(prefix)) {
+                return prefix;
+            }
+        }
+        throw new IllegalArgumentException("Unexpected SQL: " + sql);
+    }
+
+    /**
+     * Builds a scored candidate.
+     * Importance: Keeps candidate setup concise.
+     * Alternatives: Score real profiles.
+     *
+     * @return the candidate.
+     */
+    private static DuplicateCandidate candidate() {
+        return new DuplicateCandidate(UUID.randomUUID(), UUID.randomUUID(), 0.9, false, true);
+    }
+}
@@ -0,0 +1,84 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.blob.BlobStore;
+import com.heritagegraph360.profile.blob.BlobWriteResult;
+import com.heritagegraph360.profile.evidence.EvidenceBlobService;
+import com.heritagegraph360.profile.nosql.EvidenceBlobRepository;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Validates how evidence uploads report dedupe to tenants.
+ * Importance: Ensures an upload never reveals that another tenant holds the same document.
+ * Alternatives: Assert on HTTP responses in a web test.
+ */
+public class EvidenceBlobServiceTest {
+    private static final String HASH = "ab".repeat(32);
+
+    private final BlobStore blobStore = Mockito.mock(BlobStore.class);
+    private final EvidenceBlobRepository repository = Mockito.mock(EvidenceBlobRepository.class);
+    private EvidenceBlobService service;
+
+    /**
+     * Simulates a store that already holds the uploaded bytes for some tenant.
+     * Importance: Makes store-wide dedupe true in every test.
+     * Alternatives: Open a real blob store.
+     *
+     * @throws IOException never, required by the store API.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        Mockito.when(blobStore.write(Mockito.any(InputStream.class), Mockito.any()))
+            .thenReturn(new BlobWriteResult(HASH, 4, true));
+        service = new EvidenceBlobService(blobStore, repository, Mockito.mock(MongoTemplate.class));
+    }
+
+    /**
+     * Ensures a first upload by this tenant is not reported as deduplicated.
+     * Importance: Confirms cross-tenant dedupe stays internal.
+     * Alternatives: Drop the flag from responses.
+     *
+     * @throws IOException never, the store is mocked.
+     */
+    @Test
+    public void shouldHideDedupeAgainstOtherTenants() throws IOException {
+        Mockito.when(repository.existsById("tenant-b:" + HASH)).thenReturn(false);
+
+        BlobWriteResult result = service.store("tenant-b", upload(), null);
+
+        Assertions.assertFalse(result.isDeduplicated());
+        Assertions.assertEquals(HASH, result.getSha256());
+        Mockito.verify(repository).save(Mockito.any());
+    }
+
+    /**
+     * Ensures a repeated upload by the same tenant is reported as deduplicated.
+     * Importance: Tells clients their retry did not store anything new.
+     * Alternatives: Always report false.
+     *
+     * @throws IOException never, the store is mocked.
+     */
+    @Test
+    public void shouldReportDedupeForOwnUploads() throws IOException {
+        Mockito.when(repository.existsById("tenant-a:" + HASH)).thenReturn(true);
+
+        Assertions.assertTrue(service.store("tenant-a", upload(), null).isDeduplicated());
+    }
+
+    /**
+     * Builds a small upload stream.
+     * Importance: Keeps test setup concise.
+     * Alternatives: Read a fixture file.
+     *
+     * @return the stream.
+     */
+    private static InputStream upload() {
+        return new ByteArrayInputStream(new byte[] {1, 2, 3, 4});
+    }
+}
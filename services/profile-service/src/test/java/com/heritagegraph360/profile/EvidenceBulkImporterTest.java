@@ -0,0 +1,162 @@
+package com.heritagegraph360.profile;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heritagegraph360.profile.config.EvidenceBulkProperties;
+import com.heritagegraph360.profile.evidence.EvidenceBulkImporter;
+import com.heritagegraph360.profile.evidence.EvidenceBulkSummary;
+import com.heritagegraph360.profile.nosql.EvidenceRecordDocument;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+
+/**
+ * Validates streaming NDJSON evidence uploads.
+ * Importance: Ensures dedupe, per-line rejection, and bounded batching across chunk boundaries.
+ * Alternatives: Upload through the controller with MockMvc.
+ */
+public class EvidenceBulkImporterTest {
+    /**
+     * Ensures duplicates inside a batch and already stored hashes are counted, and bad lines are rejected.
+     * Importance: Confirms the summary counts reconcile with the upload.
+     * Alternatives: Assert only on MongoDB writes.
+     *
+     * @throws IOException when the body cannot be read.
+     */
+    @Test
+    public void shouldDedupeAndRejectWhileStreaming() throws IOException {
+        Set<String> stored = new HashSet<>(Set.of("h0"));
+        List<List<Pair<Query, Update>>> writes = new ArrayList<>();
+        MongoTemplate mongoTemplate = Mockito.mock(MongoTemplate.class);
+        Mockito.when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EvidenceRecordDocument.class))
+            .thenAnswer(invocation -> bulkOperations(stored, writes));
+        EvidenceBulkProperties properties = new EvidenceBulkProperties();
+        properties.setBatchSize(2);
+        properties.setMaxLineBytes(200);
+        EvidenceBulkImporter importer = new EvidenceBulkImporter(mongoTemplate, new ObjectMapper(), properties,
+            new SimpleMeterRegistry());
+
+        String profileId = UUID.randomUUID().toString();
+        String ndjson = record(profileId, "h1") + "\n"
+            + record(profileId, "h1") + "\r\n"
+            + "\n"
+            + "{not json\n"
+            + "{\"contentHash\":\"h2\"}\n"
+            + record(profileId, "h2") + "\n"
+            + "{\"metadataJson\":\"" + "x".repeat(300) + "\"}\n"
+            + record(profileId, "h0") + "\n"
+            + record(profileId, "h3");
+        EvidenceBulkSummary summary = importer.importNdjson("org-us-001", trickle(ndjson));
+
+        Assertions.assertEquals(8, summary.getReceived());
+        Assertions.assertEquals(3, summary.getInserted());
+        Assertions.assertEquals(2, summary.getDuplicates());
+        Assertions.assertEquals(3, summary.getRejected());
+        Assertions.assertEquals(List.of("line 4: malformed JSON", "line 5: profileId is required",
+            "line 7: exceeds 200 bytes"), summary.getErrors());
+        Assertions.assertEquals(2, writes.size());
+        Assertions.assertEquals(List.of("h1", "h2"), hashes(writes.get(0)));
+        Assertions.assertEquals(List.of("h0", "h3"), hashes(writes.get(1)));
+        Document setOnInsert = (Document) writes.get(0).get(0).getSecond().getUpdateObject().get("$setOnInsert");
+        Assertions.assertEquals(profileId, setOnInsert.getString("profileId"));
+        Assertions.assertEquals("CENSUS", setOnInsert.getString("sourceType"));
+        Assertions.assertEquals("org-us-001", writes.get(0).get(0).getFirst().getQueryObject().getString("tenantId"));
+    }
+
+    /**
+     * Builds an NDJSON line.
+     * Importance: Keeps the upload readable.
+     * Alternatives: Serialize request objects.
+     *
+     * @param profileId the profile identifier.
+     * @param contentHash the content hash.
+     * @return the JSON line.
+     */
+    private static String record(String profileId, String contentHash) {
+        return "{\"profileId\":\"" + profileId + "\",\"sourceType\":\"CENSUS\",\"contentHash\":\"" + contentHash
+            + "\",\"metadataJson\":\"{}\"}";
+    }
+
+    /**
+     * Wraps a body so every read returns at most seven bytes.
+     * Importance: Forces lines to span many reads.
+     * Alternatives: Use a large fixture.
+     *
+     * @param body the body text.
+     * @return the input stream.
+     */
+    private static InputStream trickle(String body) {
+        return new FilterInputStream(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))) {
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                return super.read(buffer, offset, Math.min(length, 7));
+            }
+        };
+    }
+
+    /**
+     * Creates a bulk operation mock that upserts into a set of stored hashes.
+     * Importance: Reports new hashes as upserts and known hashes as matches, like MongoDB.
+     * Alternatives: Use an embedded MongoDB.
+     *
+     * @param stored the stored hashes.
+     * @param writes the list collecting every batch.
+     * @return the bulk operations.
+     */
+    @SuppressWarnings("unchecked")
+    private static BulkOperations bulkOperations(Set<String> stored, List<List<Pair<Query, Update>>> writes) {
+        BulkOperations bulk = Mockito.mock(BulkOperations.class, Answers.RETURNS_SELF);
+        BulkWriteResult result = Mockito.mock(BulkWriteResult.class);
+        Mockito.when(bulk.upsert(Mockito.anyList())).thenAnswer(invocation -> {
+            List<Pair<Query, Update>> batch = new ArrayList<>(invocation.<List<Pair<Query, Update>>>getArgument(0));
+            writes.add(batch);
+            List<BulkWriteUpsert> upserts = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                String hash = batch.get(i).getFirst().getQueryObject().getString("contentHash");
+                if (stored.add(hash)) {
+                    upserts.add(new BulkWriteUpsert(i, new BsonString(hash)));
+                }
+            }
+            Mockito.when(result.getUpserts()).thenReturn(upserts);
+            return bulk;
+        });
+        Mockito.when(bulk.execute()).thenReturn(result);
+        return bulk;
+    }
+
+    /**
+     * Extracts the content hashes of a batch.
+     * Importance: Shows batch boundaries and order.
+     * Alternatives: Compare queries directly.
+     *
+     * @param batch the batch.
+     * @return the hashes.
+     */
+    private static List<String> hashes(List<Pair<Query, Update>> batch) {
+        List<String> hashes = new ArrayList<>();
+        for (Pair<Query, Update> upsert : batch) {
+            hashes.add(upsert.getFirst().getQueryObject().getString("contentHash"));
+        }
+        return hashes;
+    }
+}
@@ -0,0 +1,209 @@
+package com.heritagegraph360.profile;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heritagegraph360.profile.config.LineageProperties;
+import com.heritagegraph360.profile.config.MergeClusterProperties;
+import com.heritagegraph360.profile.config.TreeExportProperties;
+import com.heritagegraph360.profile.domain.ProfileEntity;
+import com.heritagegraph360.profile.graph.LineageGraphIndex;
+import com.heritagegraph360.profile.merge.MergeClusterIndex;
+import com.heritagegraph360.profile.repo.ProfileRepository;
+import com.heritagegraph360.profile.service.FamilyTreeExportService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Validates streamed family tree exports.
+ * Importance: Ensures the viewer gets every generation, edge status, and an honest truncation flag.
+ * Alternatives: Verify exports through controller integration tests.
+ */
+public class FamilyTreeExportTest {
+    private static final String TENANT = "tenant-a";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<UUID, ProfileEntity> profiles = new HashMap<>();
+    private final List<Integer> lookupSizes = new ArrayList<>();
+    private LineageGraphIndex lineageIndex;
+    private TreeExportProperties properties;
+    private FamilyTreeExportService service;
+
+    /**
+     * Wires the export service over an in-memory lineage index and a mocked profile repository.
+     * Importance: Records the size of each batched profile lookup.
+     * Alternatives: Start a Spring context.
+     */
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        lineageIndex = new LineageGraphIndex(Mockito.mock(DataSource.class),
+            Mockito.mock(PlatformTransactionManager.class), new LineageProperties());
+        ProfileRepository repository = Mockito.mock(ProfileRepository.class);
+        Mockito.when(repository.findById(Mockito.any()))
+            .thenAnswer(invocation -> java.util.Optional.ofNullable(profiles.get(invocation.getArgument(0))));
+        Mockito.when(repository.findAllById(Mockito.any())).thenAnswer(invocation -> {
+            List<ProfileEntity> found = new ArrayList<>();
+            int size = 0;
+            for (UUID id : (Iterable<UUID>) invocation.getArgument(0)) {
+                size++;
+                if (profiles.containsKey(id)) {
+                    found.add(profiles.get(id));
+                }
+            }
+            lookupSizes.add(size);
+            return found;
+        });
+        properties = new TreeExportProperties();
+        MergeClusterProperties mergeProperties = new MergeClusterProperties();
+        mergeProperties.setEnabled(false);
+        MergeClusterIndex mergeIndex = new MergeClusterIndex(Mockito.mock(DataSource.class),
+            Mockito.mock(PlatformTransactionManager.class), mergeProperties);
+        service = new FamilyTreeExportService(lineageIndex, repository, mergeIndex, objectMapper, properties,
+            new SimpleMeterRegistry());
+    }
+
+    /**
+     * Ensures ancestors and descendants are written generation by generation with statuses.
+     * Importance: Confirms one profile lookup per generation and shared ancestors written once.
+     * Alternatives: Compare against a golden JSON file.
+     *
+     * @throws Exception when export fails.
+     */
+    @Test
+    public void shouldStreamGenerationsAroundProfile() throws Exception {
+        UUID self = profile("Self");
+        UUID mother = profile("Mother");
+        UUID father = profile("Father");
+        UUID grandmother = profile("Grandmother");
+        UUID child = profile("Child");
+        edge(self, mother, "GREEN");
+        edge(self, father, "YELLOW");
+        edge(mother, grandmother, "GREEN");
+        edge(father, grandmother, "RED");
+        edge(child, self, "GREEN");
+        edge(UUID.randomUUID(), child, "ORANGE");
+
+        JsonNode tree = export(self, 2, 1);
+        Assertions.assertEquals(self.toString(), tree.get("rootProfileId").asText());
+        Assertions.assertFalse(tree.get("truncated").asBoolean());
+        JsonNode generations = tree.get("generations");
+        Assertions.assertEquals(4, generations.size());
+        Assertions.assertEquals(0, generations.get(0).get("generation").asInt());
+        Assertions.assertEquals("Self", generations.get(0).get("nodes").get(0).get("displayName").asText());
+
+        JsonNode parents = generations.get(1);
+        Assertions.assertEquals(1, parents.get("generation").asInt());
+        Assertions.assertEquals(2, parents.get("nodes").size());
+        Assertions.assertEquals(2, parents.get("edges").size());
+        Assertions.assertEquals(self.toString(), parents.get("edges").get(0).get("childProfileId").asText());
+
+        JsonNode children = generations.get(2);
+        Assertions.assertEquals(-1, children.get("generation").asInt());
+        Assertions.assertEquals(child.toString(), children.get("edges").get(0).get("childProfileId").asText());
+        Assertions.assertEquals(self.toString(), children.get("edges").get(0).get("parentProfileId").asText());
+
+        JsonNode grandparents = generations.get(3);
+        Assertions.assertEquals(2, grandparents.get("generation").asInt());
+        Assertions.assertEquals(1, grandparents.get("nodes").size());
+        Assertions.assertEquals(2, grandparents.get("edges").size());
+        Assertions.assertEquals(List.of(2, 1, 1), lookupSizes);
+    }
+
+    /**
+     * Ensures node and payload limits stop the export with a reason and valid JSON.
+     * Importance: Confirms limits never produce edges to profiles that were not written.
+     * Alternatives: Check only the truncated flag.
+     *
+     * @throws Exception when export fails.
+     */
+    @Test
+    public void shouldTruncateAtNodeAndPayloadLimits() throws Exception {
+        UUID root = profile("Root");
+        for (int i = 0; i < 50; i++) {
+            edge(profile("Child " + i), root, "GREEN");
+        }
+        properties.setMaxNodes(10);
+        JsonNode limited = export(root, 0, 3);
+        Assertions.assertEquals("NODE_LIMIT", limited.get("truncatedReason").asText());
+        Assertions.assertEquals(9, limited.get("generations").get(1).get("nodes").size());
+        Assertions.assertEquals(9, limited.get("generations").get(1).get("edges").size());
+
+        properties.setMaxNodes(1000);
+        properties.setMaxPayloadBytes(600);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.write(TENANT, profiles.get(root), 0, 3, out);
+        JsonNode cut = objectMapper.readTree(out.toByteArray());
+        Assertions.assertEquals("PAYLOAD_LIMIT", cut.get("truncatedReason").asText());
+        JsonNode children = cut.get("generations").get(1);
+        Assertions.assertTrue(children.get("nodes").size() < 50);
+        for (JsonNode edge : children.get("edges")) {
+            boolean written = false;
+            for (JsonNode node : children.get("nodes")) {
+                written |= node.get("profileId").asText().equals(edge.get("childProfileId").asText());
+            }
+            Assertions.assertTrue(written);
+        }
+        Assertions.assertTrue(out.size() < 1200);
+        Assertions.assertEquals(0, service.resolveGenerations(-4));
+        Assertions.assertEquals(10, service.resolveGenerations(99));
+        Assertions.assertEquals(3, service.resolveGenerations(null));
+    }
+
+    /**
+     * Exports a tree and parses it.
+     * Importance: Keeps assertions on the JSON structure.
+     * Alternatives: Assert on raw strings.
+     *
+     * @param root the root profile.
+     * @param ancestors the ancestor generations.
+     * @param descendants the descendant generations.
+     * @return the parsed tree.
+     * @throws Exception when export fails.
+     */
+    private JsonNode export(UUID root, int ancestors, int descendants) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.write(TENANT, service.findRoot(TENANT, root).orElseThrow(), ancestors, descendants, out);
+        return objectMapper.readTree(out.toByteArray());
+    }
+
+    /**
+     * Registers a tenant profile.
+     * Importance: Backs the mocked profile lookups.
+     * Alternatives: Persist profiles in an embedded database.
+     *
+     * @param displayName the display name.
+     * @return the profile identifier.
+     */
+    private UUID profile(String displayName) {
+        ProfileEntity profile = new ProfileEntity();
+        profile.setProfileId(UUID.randomUUID());
+        profile.setTenantId(TENANT);
+        profile.setDisplayName(displayName);
+        profiles.put(profile.getProfileId(), profile);
+        return profile.getProfileId();
+    }
+
+    /**
+     * Records a child-to-parent relationship.
+     * Importance: Builds the lineage graph the export walks.
+     * Alternatives: Load edges from SQL.
+     *
+     * @param child the child profile.
+     * @param parent the parent profile.
+     * @param status the relationship status.
+     */
+    private void edge(UUID child, UUID parent, String status) {
+        lineageIndex.recordRelationship(TENANT, child, parent, status);
+    }
+}
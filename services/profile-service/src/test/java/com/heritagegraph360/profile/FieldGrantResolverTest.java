@@ -0,0 +1,128 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.config.GrantCacheProperties;
+import com.heritagegraph360.profile.grant.FieldGrantResolver;
+import com.heritagegraph360.profile.grant.FieldGrantSet;
+import com.heritagegraph360.profile.grant.ProfileGrantEntity;
+import com.heritagegraph360.profile.grant.ProfileGrantRepository;
+import com.heritagegraph360.profile.service.ProfileGrantService;
+import com.heritagegraph360.profile.stream.FieldGrantCacheInvalidator;
+import com.heritagegraph360.profile.stream.ProfileEventPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Validates cached field grant resolution.
+ * Importance: Ensures grant checks keep their case-insensitive semantics with one lookup.
+ * Alternatives: Verify grants through the query controller.
+ */
+public class FieldGrantResolverTest {
+    /**
+     * Ensures one lookup answers many fields and createGrant invalidates it.
+     * Importance: Confirms new grants apply immediately on the creating instance.
+     * Alternatives: Wait for the cache TTL.
+     */
+    @Test
+    public void shouldResolveManyFieldsWithOneLookupUntilGrantCreated() {
+        ProfileGrantRepository repository = Mockito.mock(ProfileGrantRepository.class);
+        FieldGrantResolver resolver = new FieldGrantResolver(repository, new GrantCacheProperties(),
+            new SimpleMeterRegistry());
+        ProfileEventPublisher publisher = Mockito.mock(ProfileEventPublisher.class);
+        ProfileGrantService service = new ProfileGrantService(repository, resolver, publisher);
+        String tenantId = "org-us-001";
+        UUID profileId = UUID.randomUUID();
+        UUID grantee = UUID.randomUUID();
+        List<ProfileGrantEntity> grants = new ArrayList<>();
+        grants.add(grant("primary_email"));
+        for (int i = 0; i < 70; i++) {
+            grants.add(grant("CUSTOM_FIELD_" + i));
+        }
+        Mockito.when(repository.findByTenantIdAndProfileIdAndGranteeAccountId(tenantId, profileId, grantee))
+            .thenReturn(grants);
+        Mockito.when(repository.save(Mockito.any(ProfileGrantEntity.class)))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+
+        FieldGrantSet resolved = service.resolveGrants(tenantId, profileId, grantee);
+        Assertions.assertTrue(resolved.canView("PRIMARY_EMAIL"));
+        Assertions.assertTrue(resolved.canView("custom_field_69"));
+        Assertions.assertFalse(resolved.canView("PRIMARY_PHONE"));
+        Assertions.assertTrue(service.canViewField(tenantId, profileId, grantee, "CUSTOM_FIELD_0"));
+        Mockito.verify(repository, Mockito.times(1))
+            .findByTenantIdAndProfileIdAndGranteeAccountId(tenantId, profileId, grantee);
+
+        service.createGrant(tenantId, profileId, grantee, "PRIMARY_PHONE", "GRANTED");
+        service.resolveGrants(tenantId, profileId, grantee);
+        Mockito.verify(repository, Mockito.times(2))
+            .findByTenantIdAndProfileIdAndGranteeAccountId(tenantId, profileId, grantee);
+        Mockito.verify(publisher).publishProfileEvent(tenantId, FieldGrantResolver.GRANT_CREATED_EVENT,
+            profileId.toString());
+    }
+
+    /**
+     * Ensures a GRANT_CREATED event evicts every grantee cached for the profile and nothing else.
+     * Importance: Confirms grants created on another instance apply without waiting for the TTL.
+     * Alternatives: Verify with an embedded Kafka broker.
+     */
+    @Test
+    public void shouldEvictProfileGrantsOnGrantEvent() {
+        ProfileGrantRepository repository = Mockito.mock(ProfileGrantRepository.class);
+        Mockito.when(repository.findByTenantIdAndProfileIdAndGranteeAccountId(Mockito.any(), Mockito.any(),
+            Mockito.any())).thenReturn(List.of(grant("primary_email")));
+        FieldGrantResolver resolver = new FieldGrantResolver(repository, new GrantCacheProperties(),
+            new SimpleMeterRegistry());
+        FieldGrantCacheInvalidator invalidator = new FieldGrantCacheInvalidator(resolver);
+        String tenantId = "org-us-001";
+        UUID profileId = UUID.randomUUID();
+        UUID otherProfileId = UUID.randomUUID();
+        UUID grantee = UUID.randomUUID();
+        resolver.resolve(tenantId, profileId, grantee);
+        resolver.resolve(tenantId, otherProfileId, grantee);
+
+        invalidator.onProfileEvent(event("PROFILE_CREATED", profileId));
+        resolver.resolve(tenantId, profileId, grantee);
+        Mockito.verify(repository, Mockito.times(1))
+            .findByTenantIdAndProfileIdAndGranteeAccountId(tenantId, profileId, grantee);
+
+        invalidator.onProfileEvent(event(FieldGrantResolver.GRANT_CREATED_EVENT, profileId));
+        resolver.resolve(tenantId, profileId, grantee);
+        resolver.resolve(tenantId, otherProfileId, grantee);
+        Mockito.verify(repository, Mockito.times(2))
+            .findByTenantIdAndProfileIdAndGranteeAccountId(tenantId, profileId, grantee);
+        Mockito.verify(repository, Mockito.times(1))
+            .findByTenantIdAndProfileIdAndGranteeAccountId(tenantId, otherProfileId, grantee);
+    }
+
+    /**
+     * Builds a legacy JSON profile event.
+     * Importance: Keeps event fixtures concise.
+     * Alternatives: Encode a binary envelope.
+     *
+     * @param eventType the event type.
+     * @param profileId the profile identifier.
+     * @return the payload.
+     */
+    private static byte[] event(String eventType, UUID profileId) {
+        return ("{\"tenantId\":\"org-us-001\",\"eventType\":\"" + eventType + "\",\"profileId\":\""
+            + profileId + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Builds a grant for a field.
+     * Importance: Keeps fixtures concise.
+     * Alternatives: Use a fixture builder.
+     *
+     * @param fieldName the field name.
+     * @return the grant.
+     */
+    private static ProfileGrantEntity grant(String fieldName) {
+        ProfileGrantEntity grant = new ProfileGrantEntity();
+        grant.setFieldName(fieldName);
+        return grant;
+    }
+}
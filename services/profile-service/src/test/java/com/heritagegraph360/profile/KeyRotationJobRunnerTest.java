@@ -0,0 +1,311 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.config.EncryptionProperties;
+import com.heritagegraph360.profile.config.KeyRotationProperties;
+import com.heritagegraph360.profile.crypto.FieldCipher;
+import com.heritagegraph360.profile.crypto.KeyRotationStatus;
+import com.heritagegraph360.profile.crypto.MasterKeyProvider;
+import com.heritagegraph360.profile.crypto.TenantDataKeyService;
+import com.heritagegraph360.profile.nosql.KeyRotationJobDocument;
+import com.heritagegraph360.profile.nosql.KeyRotationJobRepository;
+import com.heritagegraph360.profile.nosql.SensitiveFieldDocument;
+import com.heritagegraph360.profile.nosql.TenantDataKeyDocument;
+import com.heritagegraph360.profile.nosql.TenantDataKeyRepository;
+import com.heritagegraph360.profile.service.KeyRotationJobRunner;
+import com.heritagegraph360.profile.service.SensitiveFieldEncryptor;
+import com.mongodb.bulk.BulkWriteResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.data.util.Pair;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Validates the sensitive field key rotation job.
+ * Importance: Ensures rotation re-encrypts legacy and older values, checkpoints, and survives undecryptable documents.
+ * Alternatives: Run the job against an embedded MongoDB.
+ */
+public class KeyRotationJobRunnerTest {
+    private static final String TENANT = "org-us-001";
+
+    /**
+     * Ensures a rotation moves every readable value to the new generation in bulk batches.
+     * Importance: Confirms rotation leaves no value stranded under the old key and keeps plaintexts intact.
+     * Alternatives: Assert on the ciphertext prefix only.
+     *
+     * @throws Exception when the job does not finish in time.
+     */
+    @Test
+    public void shouldReencryptOlderValuesAndCheckpoint() throws Exception {
+        EncryptionProperties encryption = new EncryptionProperties();
+        encryption.setDataKeyTtlSeconds(0);
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("test");
+        FieldCipher cipher = new FieldCipher();
+        TenantDataKeyService dataKeys = new TenantDataKeyService(keyRepository(),
+            new MasterKeyProvider(encryption, environment), cipher, encryption, new SimpleMeterRegistry());
+        SensitiveFieldEncryptor encryptor = new SensitiveFieldEncryptor(dataKeys, cipher, encryption);
+
+        List<SensitiveFieldDocument> documents = new ArrayList<>();
+        documents.add(document("a1", encryptor.encrypt(TENANT, "allergy: penicillin")));
+        documents.add(document("a2", legacy("card 4111")));
+        documents.add(document("a3", "hg2:1:AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA"));
+        documents.add(document("a4", encryptor.encrypt(TENANT, "blood type B-")));
+        documents.add(document("a5", encryptor.encrypt(TENANT, "")));
+
+        MongoTemplate mongoTemplate = Mockito.mock(MongoTemplate.class);
+        Mockito.when(mongoTemplate.count(Mockito.any(Query.class), Mockito.eq(SensitiveFieldDocument.class)))
+            .thenReturn((long) documents.size());
+        Mockito.when(mongoTemplate.stream(Mockito.any(Query.class), Mockito.eq(SensitiveFieldDocument.class)))
+            .thenAnswer(invocation -> documents.stream());
+        List<Pair<Query, UpdateDefinition>> updates = new ArrayList<>();
+        Mockito.when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SensitiveFieldDocument.class))
+            .thenAnswer(invocation -> bulkOperations(updates));
+        Map<String, KeyRotationJobDocument> jobs = new ConcurrentHashMap<>();
+        KeyRotationJobRepository jobRepository = jobRepository(jobs);
+
+        KeyRotationProperties properties = new KeyRotationProperties();
+        properties.setBatchSize(2);
+        properties.setWorkers(2);
+        properties.setMaxDocumentsPerSecond(0);
+        KeyRotationJobRunner runner = new KeyRotationJobRunner(mongoTemplate, jobRepository, dataKeys, encryptor,
+            properties, encryption, new SimpleMeterRegistry());
+        try {
+            Assertions.assertEquals(2, runner.start(TENANT).getTargetGeneration());
+            KeyRotationJobDocument job = awaitFinished(runner);
+
+            Assertions.assertEquals(KeyRotationStatus.PARTIAL, job.getStatus());
+            Assertions.assertNotNull(job.getError());
+            Assertions.assertEquals(5, job.getTotal());
+            Assertions.assertEquals(5, job.getProcessed());
+            Assertions.assertEquals(4, job.getReencrypted());
+            Assertions.assertEquals(1, job.getFailed());
+            Assertions.assertEquals("a5", job.getCheckpoint());
+            Assertions.assertTrue(encryptor.encrypt(TENANT, "new").startsWith("hg2:2:"));
+
+            List<String> plainTexts = new ArrayList<>();
+            for (Pair<Query, UpdateDefinition> update : updates) {
+                Document set = (Document) update.getSecond().getUpdateObject().get("$set");
+                String rotated = set.getString("encryptedValue");
+                Assertions.assertTrue(rotated.startsWith("hg2:2:"));
+                Assertions.assertEquals(2, set.getInteger("keyGeneration"));
+                Assertions.assertTrue(update.getFirst().getQueryObject().containsKey("encryptedValue"));
+                plainTexts.add(encryptor.decrypt(TENANT, rotated));
+            }
+            plainTexts.sort(Comparator.naturalOrder());
+            Assertions.assertEquals(List.of("", "allergy: penicillin", "blood type B-", "card 4111"), plainTexts);
+        } finally {
+            runner.shutdown();
+        }
+    }
+
+    /**
+     * Ensures the final pass after the key cache settle period rescans from the first document.
+     * Importance: Confirms values written under the previous key behind the checkpoint are rotated, and that failures
+     * are counted once by the final pass.
+     * Alternatives: Resume the final pass from the checkpoint.
+     *
+     * @throws Exception when the job does not finish in time.
+     */
+    @Test
+    public void shouldRescanFromStartAfterSettling() throws Exception {
+        EncryptionProperties encryption = new EncryptionProperties();
+        encryption.setDataKeyTtlSeconds(1);
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("test");
+        FieldCipher cipher = new FieldCipher();
+        TenantDataKeyService dataKeys = new TenantDataKeyService(keyRepository(),
+            new MasterKeyProvider(encryption, environment), cipher, encryption, new SimpleMeterRegistry());
+        SensitiveFieldEncryptor encryptor = new SensitiveFieldEncryptor(dataKeys, cipher, encryption);
+        List<SensitiveFieldDocument> documents = List.of(
+            document("a1", encryptor.encrypt(TENANT, "allergy: penicillin")),
+            document("a2", "hg2:1:AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA"));
+
+        MongoTemplate mongoTemplate = Mockito.mock(MongoTemplate.class);
+        List<Query> scans = new ArrayList<>();
+        Mockito.when(mongoTemplate.stream(Mockito.any(Query.class), Mockito.eq(SensitiveFieldDocument.class)))
+            .thenAnswer(invocation -> {
+                scans.add(invocation.getArgument(0));
+                return documents.stream();
+            });
+        Mockito.when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SensitiveFieldDocument.class))
+            .thenAnswer(invocation -> bulkOperations(new ArrayList<>()));
+        Map<String, KeyRotationJobDocument> jobs = new ConcurrentHashMap<>();
+        KeyRotationJobRepository jobRepository = jobRepository(jobs);
+        Mockito.when(jobRepository.findByStatusAndLeaseUntilBefore(Mockito.eq(KeyRotationStatus.RUNNING),
+            Mockito.any(Instant.class))).thenAnswer(invocation -> jobs.values().stream()
+                .filter(job -> job.getStatus() == KeyRotationStatus.RUNNING)
+                .filter(job -> job.getLeaseUntil().isBefore(invocation.getArgument(1)))
+                .toList());
+
+        KeyRotationProperties properties = new KeyRotationProperties();
+        properties.setMaxDocumentsPerSecond(0);
+        KeyRotationJobRunner runner = new KeyRotationJobRunner(mongoTemplate, jobRepository, dataKeys, encryptor,
+            properties, encryption, new SimpleMeterRegistry());
+        try {
+            KeyRotationJobDocument job = runner.start(TENANT);
+            for (int i = 0; i < 500 && job.getOwner() != null; i++) {
+                Thread.sleep(10);
+            }
+            Assertions.assertEquals(KeyRotationStatus.RUNNING, job.getStatus());
+            Assertions.assertNull(job.getCheckpoint());
+            Thread.sleep(Math.max(0L, Duration.between(Instant.now(), job.getLeaseUntil()).toMillis() + 10));
+            runner.resumeOrphanedJobs();
+            job = awaitFinished(runner);
+
+            Assertions.assertEquals(KeyRotationStatus.PARTIAL, job.getStatus());
+            Assertions.assertEquals(1, job.getFailed());
+            Assertions.assertEquals(2, scans.size());
+            Assertions.assertFalse(scans.get(1).getQueryObject().containsKey("id"));
+        } finally {
+            runner.shutdown();
+        }
+    }
+
+    /**
+     * Waits for the tenant's job to leave the running state.
+     * Importance: The job runs on background threads.
+     * Alternatives: Expose a synchronous run method.
+     *
+     * @param runner the runner.
+     * @return the finished job.
+     * @throws InterruptedException when interrupted.
+     */
+    private static KeyRotationJobDocument awaitFinished(KeyRotationJobRunner runner) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            KeyRotationJobDocument job = runner.status(TENANT).orElseThrow();
+            if (job.getStatus() != KeyRotationStatus.RUNNING) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Key rotation did not finish");
+    }
+
+    /**
+     * Creates a bulk operation mock that records its updates and reports them all as matched.
+     * Importance: Each worker batch gets its own mock, so concurrent batches do not share results.
+     * Alternatives: Use one shared mock with a synchronized answer.
+     *
+     * @param updates the list collecting every update.
+     * @return the bulk operations.
+     */
+    @SuppressWarnings("unchecked")
+    private static BulkOperations bulkOperations(List<Pair<Query, UpdateDefinition>> updates) {
+        BulkOperations bulk = Mockito.mock(BulkOperations.class, Answers.RETURNS_SELF);
+        BulkWriteResult result = Mockito.mock(BulkWriteResult.class);
+        Mockito.when(bulk.updateOne(Mockito.anyList())).thenAnswer(invocation -> {
+            List<Pair<Query, UpdateDefinition>> batch = invocation.getArgument(0);
+            synchronized (updates) {
+                updates.addAll(batch);
+            }
+            Mockito.when(result.getMatchedCount()).thenReturn(batch.size());
+            return bulk;
+        });
+        Mockito.when(bulk.execute()).thenReturn(result);
+        return bulk;
+    }
+
+    /**
+     * Encrypts a value the way the pre-envelope encryptor did.
+     * Importance: Produces a genuine legacy value for the rotation to migrate.
+     * Alternatives: Hard-code a captured legacy ciphertext.
+     *
+     * @param plainText the plaintext.
+     * @return the legacy ciphertext.
+     * @throws GeneralSecurityException when encryption fails.
+     */
+    private static String legacy(String plainText) throws GeneralSecurityException {
+        byte[] normalized = Arrays.copyOf("heritagegraph360!".getBytes(StandardCharsets.UTF_8), 16);
+        byte[] iv = new byte[12];
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(normalized, "AES"), new GCMParameterSpec(128, iv));
+        byte[] sealed = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+        byte[] combined = new byte[iv.length + sealed.length];
+        System.arraycopy(sealed, 0, combined, iv.length, sealed.length);
+        return Base64.getEncoder().encodeToString(combined);
+    }
+
+    /**
+     * Builds a sensitive field document as the rotation query projects it.
+     * Importance: Mirrors the id, value, and generation fields the job reads.
+     * Alternatives: Build full documents.
+     *
+     * @param id the document id.
+     * @param encryptedValue the ciphertext.
+     * @return the document.
+     */
+    private static SensitiveFieldDocument document(String id, String encryptedValue) {
+        SensitiveFieldDocument document = new SensitiveFieldDocument();
+        document.setId(id);
+        document.setEncryptedValue(encryptedValue);
+        document.setKeyGeneration(FieldCipher.generationOf(encryptedValue));
+        return document;
+    }
+
+    /**
+     * Creates a job repository mock backed by a map.
+     * Importance: Lets checkpoints be saved and read back without MongoDB.
+     * Alternatives: Use an embedded MongoDB.
+     *
+     * @param jobs the backing map.
+     * @return the repository.
+     */
+    private static KeyRotationJobRepository jobRepository(Map<String, KeyRotationJobDocument> jobs) {
+        KeyRotationJobRepository repository = Mockito.mock(KeyRotationJobRepository.class);
+        Mockito.when(repository.findById(Mockito.anyString()))
+            .thenAnswer(invocation -> Optional.ofNullable(jobs.get(invocation.<String>getArgument(0))));
+        Mockito.when(repository.save(Mockito.any(KeyRotationJobDocument.class))).thenAnswer(invocation -> {
+            KeyRotationJobDocument job = invocation.getArgument(0);
+            jobs.put(job.getId(), job);
+            return job;
+        });
+        return repository;
+    }
+
+    /**
+     * Creates a data key repository mock backed by a map.
+     * Importance: Lets key creation, rotation, and lookup interact without MongoDB.
+     * Alternatives: Use an embedded MongoDB.
+     *
+     * @return the repository.
+     */
+    private static TenantDataKeyRepository keyRepository() {
+        Map<String, TenantDataKeyDocument> documents = new ConcurrentHashMap<>();
+        TenantDataKeyRepository repository = Mockito.mock(TenantDataKeyRepository.class);
+        Mockito.when(repository.insert(Mockito.any(TenantDataKeyDocument.class))).thenAnswer(invocation -> {
+            TenantDataKeyDocument document = invocation.getArgument(0);
+            documents.put(document.getId(), document);
+            return document;
+        });
+        Mockito.when(repository.findById(Mockito.anyString()))
+            .thenAnswer(invocation -> Optional.ofNullable(documents.get(invocation.<String>getArgument(0))));
+        Mockito.when(repository.findFirstByTenantIdOrderByGenerationDesc(Mockito.anyString()))
+            .thenAnswer(invocation -> documents.values().stream()
+                .filter(document -> document.getTenantId().equals(invocation.getArgument(0)))
+                .max(Comparator.comparingInt(TenantDataKeyDocument::getGeneration)));
+        return repository;
+    }
+}
@@ -0,0 +1,140 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.graph.KinshipPath;
+import com.heritagegraph360.profile.graph.KinshipRelation;
+import com.heritagegraph360.profile.graph.KinshipSearchOutcome;
+import com.heritagegraph360.profile.graph.KinshipStep;
+import com.heritagegraph360.profile.graph.LineageGraph;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Validates bidirectional kinship path search over the lineage graph.
+ * Importance: Ensures reviewers get the shortest chain and an honest reason when the search gives up.
+ * Alternatives: Verify paths through controller integration tests.
+ */
+public class KinshipPathTest {
+    private static final long TIMEOUT = TimeUnit.SECONDS.toNanos(5);
+
+    /**
+     * Ensures first cousins are linked through a shared grandparent with statuses per hop.
+     * Importance: Confirms paths go up and back down, across compacted and overlay edges.
+     * Alternatives: Assert only the path length.
+     */
+    @Test
+    public void shouldFindCousinPathThroughSharedGrandparent() {
+        UUID grandparent = UUID.randomUUID();
+        UUID aunt = UUID.randomUUID();
+        UUID father = UUID.randomUUID();
+        UUID cousin = UUID.randomUUID();
+        UUID self = UUID.randomUUID();
+        LineageGraph graph = new LineageGraph(8, 1024);
+        graph.addEdge(self, father, "GREEN");
+        graph.addEdge(father, grandparent, "YELLOW");
+        graph.compact();
+        graph.addEdge(aunt, grandparent, "ORANGE");
+        graph.addEdge(cousin, aunt, "RED");
+        graph.addEdge(self, UUID.randomUUID(), "GREEN");
+
+        KinshipPath path = graph.findPath(self, cousin, 8, 1000, TIMEOUT);
+        Assertions.assertEquals(KinshipSearchOutcome.FOUND, path.getOutcome());
+        List<KinshipStep> steps = path.getSteps();
+        Assertions.assertEquals(4, steps.size());
+        Assertions.assertEquals(self, steps.get(0).getFromProfileId());
+        Assertions.assertEquals(father, steps.get(0).getToProfileId());
+        Assertions.assertEquals(KinshipRelation.PARENT, steps.get(0).getRelation());
+        Assertions.assertEquals("GREEN", steps.get(0).getStatus());
+        Assertions.assertEquals(grandparent, steps.get(1).getToProfileId());
+        Assertions.assertEquals("YELLOW", steps.get(1).getStatus());
+        Assertions.assertEquals(aunt, steps.get(2).getToProfileId());
+        Assertions.assertEquals(KinshipRelation.CHILD, steps.get(2).getRelation());
+        Assertions.assertEquals("ORANGE", steps.get(2).getStatus());
+        Assertions.assertEquals(cousin, steps.get(3).getToProfileId());
+        Assertions.assertEquals("RED", steps.get(3).getStatus());
+
+        KinshipPath reverse = graph.findPath(cousin, self, 8, 1000, TIMEOUT);
+        Assertions.assertEquals(4, reverse.getSteps().size());
+        Assertions.assertEquals(KinshipRelation.PARENT, reverse.getSteps().get(0).getRelation());
+        Assertions.assertEquals(self, reverse.getSteps().get(3).getToProfileId());
+    }
+
+    /**
+     * Ensures the shorter of two routes is returned.
+     * Importance: Confirms the level-complete meeting rule picks the shortest chain.
+     * Alternatives: Compare against a one-sided search.
+     */
+    @Test
+    public void shouldPreferShortestRoute() {
+        LineageGraph graph = new LineageGraph(16, 1024);
+        UUID start = UUID.randomUUID();
+        UUID end = UUID.randomUUID();
+        UUID previous = start;
+        for (int i = 0; i < 5; i++) {
+            UUID next = UUID.randomUUID();
+            graph.addEdge(previous, next, "GREEN");
+            previous = next;
+        }
+        graph.addEdge(previous, end, "GREEN");
+        UUID shortcut = UUID.randomUUID();
+        graph.addEdge(start, shortcut, "YELLOW");
+        graph.addEdge(end, shortcut, "YELLOW");
+
+        KinshipPath path = graph.findPath(start, end, 10, 1000, TIMEOUT);
+        Assertions.assertEquals(KinshipSearchOutcome.FOUND, path.getOutcome());
+        Assertions.assertEquals(2, path.getSteps().size());
+        Assertions.assertEquals(shortcut, path.getSteps().get(0).getToProfileId());
+    }
+
+    /**
+     * Ensures unrelated profiles, depth limits, node budgets, and timeouts are reported distinctly.
+     * Importance: Reviewers must know whether to widen the search or accept "not related".
+     * Alternatives: Return an empty path for every failure.
+     */
+    @Test
+    public void shouldReportWhySearchStopped() {
+        LineageGraph graph = new LineageGraph(64, 1024);
+        UUID left = UUID.randomUUID();
+        UUID right = UUID.randomUUID();
+        graph.addEdge(left, UUID.randomUUID(), "GREEN");
+        graph.addEdge(right, UUID.randomUUID(), "GREEN");
+        Assertions.assertEquals(KinshipSearchOutcome.NOT_FOUND,
+            graph.findPath(left, right, 8, 1000, TIMEOUT).getOutcome());
+        Assertions.assertEquals(KinshipSearchOutcome.NOT_FOUND,
+            graph.findPath(left, UUID.randomUUID(), 8, 1000, TIMEOUT).getOutcome());
+        Assertions.assertEquals(KinshipSearchOutcome.FOUND, graph.findPath(left, left, 8, 1000, TIMEOUT).getOutcome());
+
+        UUID head = UUID.randomUUID();
+        UUID tail = head;
+        for (int i = 0; i < 6; i++) {
+            UUID next = UUID.randomUUID();
+            graph.addEdge(tail, next, "GREEN");
+            tail = next;
+        }
+        Assertions.assertEquals(KinshipSearchOutcome.DEPTH_LIMIT,
+            graph.findPath(head, tail, 5, 1000, TIMEOUT).getOutcome());
+        Assertions.assertEquals(6, graph.findPath(head, tail, 6, 1000, TIMEOUT).getSteps().size());
+
+        UUID hub = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+        for (int i = 0; i < 50; i++) {
+            graph.addEdge(UUID.randomUUID(), hub, "GREEN");
+        }
+        graph.addEdge(target, UUID.randomUUID(), "GREEN");
+        KinshipPath budget = graph.findPath(hub, target, 8, 20, TIMEOUT);
+        Assertions.assertEquals(KinshipSearchOutcome.NODE_BUDGET, budget.getOutcome());
+        Assertions.assertTrue(budget.getSteps().isEmpty());
+
+        UUID otherHub = UUID.randomUUID();
+        for (int i = 0; i < 300; i++) {
+            graph.addEdge(UUID.randomUUID(), otherHub, "GREEN");
+            graph.addEdge(UUID.randomUUID(), hub, "GREEN");
+        }
+        Assertions.assertEquals(KinshipSearchOutcome.TIMEOUT,
+            graph.findPath(hub, otherHub, 8, 100000, 0).getOutcome());
+        Assertions.assertEquals(KinshipSearchOutcome.NOT_FOUND,
+            graph.findPath(hub, otherHub, 8, 100000, TIMEOUT).getOutcome());
+    }
+}
@@ -0,0 +1,202 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.closure.AncestryClosureStore;
+import com.heritagegraph360.profile.config.AncestryClosureProperties;
+import com.heritagegraph360.profile.config.LineageConsistencyProperties;
+import com.heritagegraph360.profile.consistency.LineageConsistencyChecker;
+import com.heritagegraph360.profile.consistency.LineageCycleDetector;
+import com.heritagegraph360.profile.consistency.LineageViolation;
+import com.heritagegraph360.profile.consistency.LineageViolationStore;
+import com.heritagegraph360.profile.consistency.LineageViolationType;
+import com.heritagegraph360.profile.graph.LineageDirection;
+import com.heritagegraph360.profile.graph.LineageEntry;
+import com.heritagegraph360.profile.graph.LineageGraphIndex;
+import com.heritagegraph360.profile.repo.RelationshipEdgeStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Validates lineage cycle detection for upserts and tenant scans.
+ * Importance: Ensures impossible lineages become review items instead of traversal hazards.
+ * Alternatives: Verify against a live database.
+ */
+public class LineageConsistencyTest {
+    private static final String TENANT = "org-us-001";
+
+    /**
+     * Ensures a scan reports self-parents and every cycle once, keyed by its smallest member, and ignores
+     * acyclic parts.
+     * Importance: Confirms trimming and the parallel component search agree with the upsert-time key.
+     * Alternatives: Compare against a recursive reference implementation.
+     *
+     * @throws InterruptedException if the search is interrupted.
+     */
+    @Test
+    public void shouldFindSelfParentsAndCyclesInScan() throws InterruptedException {
+        List<UUID> ids = sortedIds(6);
+        UUID self = UUID.randomUUID();
+        LineageCycleDetector detector = new LineageCycleDetector(16);
+        detector.addEdge(self, self);
+        detector.addEdge(ids.get(0), ids.get(1));
+        detector.addEdge(ids.get(1), ids.get(0));
+        detector.addEdge(ids.get(2), ids.get(3));
+        detector.addEdge(ids.get(3), ids.get(4));
+        detector.addEdge(ids.get(4), ids.get(2));
+        detector.addEdge(ids.get(5), ids.get(2));
+        detector.addEdge(ids.get(5), UUID.randomUUID());
+        detector.addEdge(UUID.randomUUID(), ids.get(0));
+        Assertions.assertEquals(9, detector.edgeCount());
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Map<UUID, LineageViolation> found = byProfile(detector.detect(pool, 50));
+            Assertions.assertEquals(3, found.size());
+            Assertions.assertEquals(LineageViolationType.SELF_PARENT, found.get(self).getType());
+            Assertions.assertEquals(2, found.get(ids.get(0)).getCycleSize());
+            Assertions.assertEquals(ids.get(1), found.get(ids.get(0)).getRelatedProfileId());
+            Assertions.assertEquals(3, found.get(ids.get(2)).getCycleSize());
+            Assertions.assertEquals(ids.get(3), found.get(ids.get(2)).getRelatedProfileId());
+            Assertions.assertEquals(ids.subList(2, 5), found.get(ids.get(2)).getMembers());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Ensures a very long cycle hanging off a long acyclic chain is found without deep recursion.
+     * Importance: Guards the iterative search against stack overflows on tenant-sized graphs.
+     * Alternatives: Raise the thread stack size.
+     *
+     * @throws InterruptedException if the search is interrupted.
+     */
+    @Test
+    public void shouldFindLongCyclesIteratively() throws InterruptedException {
+        int size = 200_000;
+        List<UUID> ring = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ring.add(UUID.randomUUID());
+        }
+        LineageCycleDetector detector = new LineageCycleDetector(size * 2);
+        UUID below = UUID.randomUUID();
+        for (int i = 0; i < size; i++) {
+            detector.addEdge(ring.get(i), ring.get((i + 1) % size));
+            UUID descendant = UUID.randomUUID();
+            detector.addEdge(descendant, below);
+            below = descendant;
+        }
+        detector.addEdge(ring.get(0), below);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<LineageViolation> violations = detector.detect(pool, 10);
+            Assertions.assertEquals(1, violations.size());
+            Assertions.assertEquals(size, violations.get(0).getCycleSize());
+            Assertions.assertEquals(Collections.min(ring), violations.get(0).getProfileId());
+            Assertions.assertEquals(10, violations.get(0).getMembers().size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Ensures an upsert check finds cycles through committed edges and through earlier edges in the same call.
+     * Importance: Confirms a batch cannot slip a cycle past the check by splitting it across its own edges.
+     * Alternatives: Check each edge against committed edges only.
+     */
+    @Test
+    public void shouldFlagCyclesClosedByNewEdges() {
+        UUID grandparent = UUID.randomUUID();
+        UUID parent = UUID.randomUUID();
+        UUID child = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        UUID otherParent = UUID.randomUUID();
+        LineageGraphIndex index = Mockito.mock(LineageGraphIndex.class);
+        Mockito.when(index.isReady()).thenReturn(true);
+        Mockito.when(index.relatives(Mockito.eq(TENANT), Mockito.any(UUID.class),
+            Mockito.eq(LineageDirection.ANCESTORS))).thenReturn(List.of());
+        Mockito.when(index.relatives(TENANT, child, LineageDirection.ANCESTORS))
+            .thenReturn(List.of(new LineageEntry(parent, 1, "green")));
+        Mockito.when(index.relatives(TENANT, parent, LineageDirection.ANCESTORS))
+            .thenReturn(List.of(new LineageEntry(grandparent, 1, "green")));
+        LineageViolationStore store = Mockito.mock(LineageViolationStore.class);
+        LineageConsistencyChecker checker = new LineageConsistencyChecker(index,
+            Mockito.mock(AncestryClosureStore.class), new AncestryClosureProperties(), store,
+            new LineageConsistencyProperties(), new SimpleMeterRegistry());
+
+        LineageViolation[] violations = checker.checkEdges(TENANT, List.of(
+            new RelationshipEdgeStore.Edge(grandparent, child, "green"),
+            new RelationshipEdgeStore.Edge(other, otherParent, "green"),
+            new RelationshipEdgeStore.Edge(otherParent, other, "green"),
+            new RelationshipEdgeStore.Edge(child, UUID.randomUUID(), "green")));
+
+        Assertions.assertEquals(LineageViolationType.ANCESTOR_CYCLE, violations[0].getType());
+        Assertions.assertEquals(3, violations[0].getCycleSize());
+        Assertions.assertEquals(Collections.min(List.of(grandparent, parent, child)), violations[0].getProfileId());
+        Assertions.assertNull(violations[1]);
+        Assertions.assertEquals(2, violations[2].getCycleSize());
+        Assertions.assertEquals(Collections.min(List.of(other, otherParent)), violations[2].getProfileId());
+        Assertions.assertNull(violations[3]);
+        Mockito.verify(store).recordAll(Mockito.eq(TENANT),
+            Mockito.argThat(recorded -> recorded.size() == 2), Mockito.eq("UPSERT"));
+    }
+
+    /**
+     * Ensures large batches are left to a tenant scan.
+     * Importance: Keeps per-edge walks out of bulk import transactions.
+     * Alternatives: Always check edge by edge.
+     */
+    @Test
+    public void shouldHandOffLargeBatches() {
+        LineageConsistencyProperties properties = new LineageConsistencyProperties();
+        properties.setIncrementalMaxEdges(2);
+        LineageConsistencyChecker checker = new LineageConsistencyChecker(Mockito.mock(LineageGraphIndex.class),
+            Mockito.mock(AncestryClosureStore.class), new AncestryClosureProperties(),
+            Mockito.mock(LineageViolationStore.class), properties, new SimpleMeterRegistry());
+
+        Assertions.assertTrue(checker.checksIncrementally(2));
+        Assertions.assertFalse(checker.checksIncrementally(3));
+    }
+
+    /**
+     * Generates sorted random identifiers.
+     * Importance: Makes the expected cycle keys predictable.
+     * Alternatives: Use fixed UUID literals.
+     *
+     * @param count the number of identifiers.
+     * @return the identifiers in ascending order.
+     */
+    private static List<UUID> sortedIds(int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        Collections.sort(ids);
+        return ids;
+    }
+
+    /**
+     * Indexes violations by their key profile.
+     * Importance: Makes assertions independent of the parallel search order.
+     * Alternatives: Sort the violations.
+     *
+     * @param violations the violations.
+     * @return the violations by profile identifier.
+     */
+    private static Map<UUID, LineageViolation> byProfile(List<LineageViolation> violations) {
+        Map<UUID, LineageViolation> found = new HashMap<>();
+        for (LineageViolation violation : violations) {
+            found.put(violation.getProfileId(), violation);
+        }
+        return found;
+    }
+}
@@ -0,0 +1,64 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.graph.LineageDirection;
+import com.heritagegraph360.profile.graph.LineageEntry;
+import com.heritagegraph360.profile.graph.LineageGraph;
+import com.heritagegraph360.profile.graph.LineageWalk;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Validates traversal behavior of the in-memory lineage graph.
+ * Importance: Ensures CSR compaction and overlay edges produce the same walks.
+ * Alternatives: Verify traversals through controller integration tests.
+ */
+public class LineageGraphTest {
+    /**
+     * Ensures ancestors and descendants are reached across compacted and overlay edges.
+     * Importance: Confirms incremental updates stay visible after compaction.
+     * Alternatives: Rebuild the graph before each assertion.
+     */
+    @Test
+    public void shouldWalkAcrossCompactedAndOverlayEdges() {
+        UUID child = UUID.randomUUID();
+        UUID parent = UUID.randomUUID();
+        UUID grandparent = UUID.randomUUID();
+        LineageGraph graph = new LineageGraph(4, 1024);
+        graph.addEdge(child, parent, "GREEN");
+        graph.compact();
+        graph.addEdge(parent, grandparent, "YELLOW");
+
+        LineageWalk ancestors = graph.walk(child, LineageDirection.ANCESTORS, 8, 100);
+        List<LineageEntry> entries = ancestors.getEntries();
+        Assertions.assertEquals(2, entries.size());
+        Assertions.assertEquals(parent, entries.get(0).getProfileId());
+        Assertions.assertEquals(1, entries.get(0).getGeneration());
+        Assertions.assertEquals(grandparent, entries.get(1).getProfileId());
+        Assertions.assertEquals("YELLOW", entries.get(1).getStatus());
+
+        LineageWalk descendants = graph.walk(grandparent, LineageDirection.DESCENDANTS, 1, 100);
+        Assertions.assertEquals(1, descendants.getEntries().size());
+        Assertions.assertEquals(parent, descendants.getEntries().get(0).getProfileId());
+    }
+
+    /**
+     * Ensures repeated edges update status instead of duplicating adjacency.
+     * Importance: Keeps repeated relationship upserts from inflating traversals.
+     * Alternatives: Dedupe traversal output instead.
+     */
+    @Test
+    public void shouldUpdateStatusForRepeatedEdges() {
+        UUID child = UUID.randomUUID();
+        UUID parent = UUID.randomUUID();
+        LineageGraph graph = new LineageGraph(4, 1024);
+        Assertions.assertTrue(graph.addEdge(child, parent, "GREEN"));
+        graph.compact();
+        Assertions.assertFalse(graph.addEdge(child, parent, "RED"));
+
+        Assertions.assertEquals(1, graph.edgeCount());
+        LineageWalk walk = graph.walk(child, LineageDirection.ANCESTORS, 4, 100);
+        Assertions.assertEquals("RED", walk.getEntries().get(0).getStatus());
+    }
+}
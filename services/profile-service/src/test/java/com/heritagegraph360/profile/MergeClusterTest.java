@@ -0,0 +1,202 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.config.MergeClusterProperties;
+import com.heritagegraph360.profile.merge.MergeClusterIndex;
+import com.heritagegraph360.profile.merge.MergeClusterSet;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Validates union-find merge clusters and canonical profile resolution.
+ * Importance: Ensures transitive duplicates resolve to one surviving profile.
+ * Alternatives: Verify canonical lookups through controller integration tests.
+ */
+public class MergeClusterTest {
+
+    /**
+     * Ensures chained and converging merges resolve to the last surviving target.
+     * Importance: Confirms A into B and B into C yields C for every member.
+     * Alternatives: Assert only direct merges.
+     */
+    @Test
+    public void shouldResolveTransitiveMergesToSurvivingTarget() {
+        MergeClusterSet set = new MergeClusterSet(2);
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        UUID d = UUID.randomUUID();
+        UUID unrelated = UUID.randomUUID();
+        set.union(a, b);
+        set.union(b, c);
+        Assertions.assertEquals(c, set.canonicalProfile(a));
+        Assertions.assertEquals(c, set.canonicalProfile(b));
+        Assertions.assertEquals(c, set.canonicalProfile(c));
+        Assertions.assertEquals(unrelated, set.canonicalProfile(unrelated));
+        Assertions.assertEquals(1, set.clusterSize(unrelated));
+
+        set.union(d, a);
+        Assertions.assertEquals(c, set.canonicalProfile(d));
+        Assertions.assertEquals(4, set.clusterSize(b));
+        set.union(c, a);
+        Assertions.assertEquals(3, set.mergeCount());
+        Assertions.assertEquals(c, set.canonicalProfile(d));
+    }
+
+    /**
+     * Ensures the canonical profile follows the target cluster regardless of cluster sizes.
+     * Importance: Union by size must not let a large source cluster take over the survivor.
+     * Alternatives: Always pick the larger cluster's survivor.
+     */
+    @Test
+    public void shouldKeepTargetSurvivorWhenSourceClusterIsLarger() {
+        MergeClusterSet set = new MergeClusterSet(16);
+        UUID hub = UUID.randomUUID();
+        for (int i = 0; i < 40; i++) {
+            set.union(UUID.randomUUID(), hub);
+        }
+        UUID survivor = UUID.randomUUID();
+        set.union(hub, survivor);
+        Assertions.assertEquals(survivor, set.canonicalProfile(hub));
+        Assertions.assertEquals(42, set.clusterSize(survivor));
+    }
+
+    /**
+     * Ensures only approved decisions join clusters and tenants stay isolated.
+     * Importance: Confirms pending and rejected merges never redirect reads.
+     * Alternatives: Trust callers to filter decisions.
+     *
+     * @throws Exception if the mocked driver fails.
+     */
+    @Test
+    public void shouldApplyApprovedDecisionsPerTenant() throws Exception {
+        MergeClusterProperties properties = new MergeClusterProperties();
+        MergeClusterIndex index = new MergeClusterIndex(dataSource(List.of(), List.of()),
+            Mockito.mock(PlatformTransactionManager.class), properties);
+        Assertions.assertFalse(index.isReady());
+        index.loadAll();
+        UUID source = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+        index.recordDecision("tenant-a", source, target, "PENDING", "REJECTED");
+        Assertions.assertEquals(source, index.canonicalProfile("tenant-a", source));
+        index.recordDecision("tenant-a", source, target, "PENDING", "approved");
+        Assertions.assertEquals(target, index.canonicalProfile("tenant-a", source));
+        Assertions.assertEquals(2, index.clusterSize("tenant-a", target));
+        Assertions.assertEquals(source, index.canonicalProfile("tenant-b", source));
+        Assertions.assertTrue(index.isReady());
+
+        properties.setEnabled(false);
+        index.recordDecision("tenant-b", source, target, "PENDING", "ACCEPTED");
+        Assertions.assertEquals(source, index.canonicalProfile("tenant-b", source));
+    }
+
+    /**
+     * Ensures lookups before warm-up finishes load the tenant's merges on demand.
+     * Importance: Confirms profile reads resolve merged profiles during startup instead of failing.
+     * Alternatives: Answer 503 until warm-up completes.
+     *
+     * @throws Exception if the mocked driver fails.
+     */
+    @Test
+    public void shouldLoadTenantOnDemandDuringWarmUp() throws Exception {
+        UUID source = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+        MergeClusterIndex index = new MergeClusterIndex(
+            dataSource(List.<Object[]>of(new Object[] {source, target}), List.of()),
+            Mockito.mock(PlatformTransactionManager.class), new MergeClusterProperties());
+
+        Assertions.assertFalse(index.isReady());
+        Assertions.assertEquals(target, index.canonicalProfile("tenant-a", source));
+        Assertions.assertEquals(2, index.clusterSize("tenant-a", source));
+    }
+
+    /**
+     * Ensures a refresh applies merges approved on another instance.
+     * Importance: Confirms every instance stops serving merged-away profiles without a restart.
+     * Alternatives: Restart instances after merge approvals.
+     *
+     * @throws Exception if the mocked driver fails.
+     */
+    @Test
+    public void shouldRefreshMergesDecidedElsewhere() throws Exception {
+        UUID source = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+        List<Object[]> tenantMerges = new ArrayList<>();
+        List<Object[]> decided = new ArrayList<>();
+        MergeClusterIndex index = new MergeClusterIndex(dataSource(tenantMerges, decided),
+            Mockito.mock(PlatformTransactionManager.class), new MergeClusterProperties());
+        index.loadAll();
+        Assertions.assertEquals(source, index.canonicalProfile("tenant-a", source));
+
+        tenantMerges.add(new Object[] {source, target});
+        decided.add(new Object[] {"tenant-a", source, target, "APPROVED"});
+        index.refresh();
+
+        Assertions.assertEquals(target, index.canonicalProfile("tenant-a", source));
+
+        tenantMerges.clear();
+        decided.set(0, new Object[] {"tenant-a", source, target, "REJECTED"});
+        index.refresh();
+
+        Assertions.assertEquals(source, index.canonicalProfile("tenant-a", source));
+    }
+
+    /**
+     * Builds a data source that answers the index's merge queries.
+     * Importance: Runs the index's real SQL paths without a database.
+     * Alternatives: Use an embedded database.
+     *
+     * @param tenantMerges the approved (source, target) pairs of the queried tenant.
+     * @param decided the (tenant, source, target, status) rows of recent decisions.
+     * @return the data source.
+     * @throws SQLException never, required by the JDBC API.
+     */
+    private static DataSource dataSource(List<Object[]> tenantMerges, List<Object[]> decided) throws SQLException {
+        Connection connection = Mockito.mock(Connection.class);
+        Statement plain = Mockito.mock(Statement.class);
+        Mockito.when(plain.executeQuery(Mockito.anyString())).thenAnswer(invocation -> rows(List.of()));
+        Mockito.when(connection.createStatement()).thenReturn(plain);
+        Mockito.when(connection.prepareStatement(Mockito.anyString())).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+            Mockito.when(statement.executeQuery()).thenAnswer(query ->
+                rows(sql.contains("decided_at > ?") ? decided : tenantMerges));
+            return statement;
+        });
+        DataSource dataSource = Mockito.mock(DataSource.class);
+        Mockito.when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    /**
+     * Builds a result set over a snapshot of the given rows.
+     * Importance: Serves string and UUID columns by index.
+     * Alternatives: Script each getter per test.
+     *
+     * @param rows the row values.
+     * @return the result set.
+     * @throws SQLException never, required by the JDBC API.
+     */
+    private static ResultSet rows(List<Object[]> rows) throws SQLException {
+        List<Object[]> snapshot = new ArrayList<>(rows);
+        ResultSet rs = Mockito.mock(ResultSet.class);
+        AtomicInteger cursor = new AtomicInteger(-1);
+        Mockito.when(rs.next()).thenAnswer(invocation -> cursor.incrementAndGet() < snapshot.size());
+        Mockito.when(rs.getString(Mockito.anyInt()))
+            .thenAnswer(invocation -> snapshot.get(cursor.get())[invocation.<Integer>getArgument(0) - 1]);
+        Mockito.when(rs.getObject(Mockito.anyInt(), Mockito.eq(UUID.class)))
+            .thenAnswer(invocation -> snapshot.get(cursor.get())[invocation.<Integer>getArgument(0) - 1]);
+        return rs;
+    }
+}
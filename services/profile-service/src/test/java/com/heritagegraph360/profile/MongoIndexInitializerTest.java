@@ -0,0 +1,130 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.nosql.EvidenceRecordDocument;
+import com.heritagegraph360.profile.nosql.MongoIndexInitializer;
+import com.heritagegraph360.profile.nosql.SensitiveFieldDocument;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Validates startup creation of annotated MongoDB indexes.
+ * Importance: Ensures unique constraints exist even though annotation-driven index creation is off.
+ * Alternatives: Check indexes against a live MongoDB.
+ */
+public class MongoIndexInitializerTest {
+    private final MongoTemplate mongoTemplate = Mockito.mock(MongoTemplate.class);
+    private final Map<Class<?>, IndexOperations> indexOps = new ConcurrentHashMap<>();
+
+    /**
+     * Ensures the evidence dedupe index is created unique and partial on tenant and content hash.
+     * Importance: Confirms duplicate-key handling in evidence ingestion has a constraint behind it.
+     * Alternatives: Assert on the document annotation.
+     */
+    @Test
+    public void shouldEnsureUniqueEvidenceHashIndex() {
+        stubTemplate();
+
+        new MongoIndexInitializer(mongoTemplate).ensureIndexes();
+
+        Document options = ensured(EvidenceRecordDocument.class, "ux_evidence_tenant_hash").getIndexOptions();
+        Assertions.assertEquals(Boolean.TRUE, options.get("unique"));
+        Assertions.assertEquals(new Document("contentHash", new Document("$exists", true)),
+            options.get("partialFilterExpression"));
+        Assertions.assertEquals(new Document("tenantId", 1).append("contentHash", 1),
+            ensured(EvidenceRecordDocument.class, "ux_evidence_tenant_hash").getIndexKeys());
+    }
+
+    /**
+     * Ensures the key rotation scan index is created on tenant and document id.
+     * Importance: Confirms rotation windows seek by tenant instead of scanning the collection.
+     * Alternatives: Assert on the document annotation.
+     */
+    @Test
+    public void shouldEnsureSensitiveFieldTenantIndex() {
+        stubTemplate();
+
+        new MongoIndexInitializer(mongoTemplate).ensureIndexes();
+
+        IndexDefinition index = ensured(SensitiveFieldDocument.class, "tenant_id_idx");
+        Assertions.assertEquals(new Document("tenantId", 1).append("_id", 1), index.getIndexKeys());
+        Assertions.assertNull(index.getIndexOptions().get("unique"));
+    }
+
+    /**
+     * Ensures existing duplicates that block a unique index stop startup.
+     * Importance: Confirms the service never runs with dedupe silently unenforced.
+     * Alternatives: Log and continue.
+     */
+    @Test
+    public void shouldFailStartupWhenIndexCannotBeCreated() {
+        stubTemplate();
+        Mockito.when(indexOps(EvidenceRecordDocument.class).ensureIndex(Mockito.any()))
+            .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+
+        IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class,
+            () -> new MongoIndexInitializer(mongoTemplate).ensureIndexes());
+
+        Assertions.assertTrue(ex.getMessage().contains("ux_evidence_tenant_hash"));
+    }
+
+    /**
+     * Wires the mocked template to a real mapping context and per-document index operations.
+     * Importance: Lets the initializer resolve the real annotations.
+     * Alternatives: Stub index definitions by hand.
+     */
+    private void stubTemplate() {
+        MappingMongoConverter converter = Mockito.mock(MappingMongoConverter.class);
+        Mockito.when(mongoTemplate.getConverter()).thenReturn(converter);
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        Mockito.doReturn(mappingContext).when(converter).getMappingContext();
+        Mockito.when(mongoTemplate.indexOps(Mockito.<Class<?>>any()))
+            .thenAnswer(invocation -> indexOps(invocation.getArgument(0)));
+        Mockito.when(mongoTemplate.getCollectionName(Mockito.<Class<?>>any()))
+            .thenAnswer(invocation -> invocation.<Class<?>>getArgument(0).getSimpleName());
+    }
+
+    /**
+     * Returns the mocked index operations of a document class.
+     * Importance: Keeps one mock per collection so calls can be verified per document.
+     * Alternatives: Share one mock across collections.
+     *
+     * @param document the document class.
+     * @return the index operations.
+     */
+    private IndexOperations indexOps(Class<?> document) {
+        return indexOps.computeIfAbsent(document, key -> Mockito.mock(IndexOperations.class));
+    }
+
+    /**
+     * Returns the ensured index with the given name.
+     * Importance: Fails the test when the index was not ensured.
+     * Alternatives: Capture every call in each test.
+     *
+     * @param document the document class.
+     * @param name the index name.
+     * @return the index definition.
+     */
+    private IndexDefinition ensured(Class<?> document, String name) {
+        ArgumentCaptor<IndexDefinition> captor = ArgumentCaptor.forClass(IndexDefinition.class);
+        Mockito.verify(indexOps(document), Mockito.atLeastOnce()).ensureIndex(captor.capture());
+        List<IndexDefinition> matching = captor.getAllValues().stream()
+            .filter(index -> name.equals(index.getIndexOptions().get("name")))
+            .toList();
+        Assertions.assertEquals(1, matching.size());
+        return matching.get(0);
+    }
+}
@@ -0,0 +1,131 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.service.DuplicateDetectionService;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Validates that the similarity kernel reproduces the legacy Levenshtein scores.
+ * Importance: Guarantees the optimized kernel never changes duplicate decisions.
+ * Alternatives: Compare against a third-party Levenshtein implementation.
+ */
+public class NameSimilarityKernelTest {
+    private static final String ALPHABET = "aabcdeeefghiijklmnnoopqrrsssttuvwxyz  -.'AEJMSTéñøüİßÉØÜ";
+
+    private final DuplicateDetectionService service = new DuplicateDetectionService();
+
+    /**
+     * Ensures exact and threshold-bounded scores match the legacy implementation.
+     * Importance: Covers bit-parallel, banded, prefilter, and non-ASCII fallback paths.
+     * Alternatives: Assert a fixed table of name pairs.
+     */
+    @Test
+    public void shouldMatchLegacyScores() {
+        Random random = new Random(20261018L);
+        for (int iteration = 0; iteration < 10000; iteration++) {
+            String a = randomName(random);
+            String b = random.nextInt(3) == 0 ? a : mutate(random, a);
+            double expected = legacySimilarity(a, b);
+            Assertions.assertEquals(expected, service.calculateSimilarity(a, b), a + " | " + b);
+            double minimum = random.nextDouble();
+            double bounded = service.calculateSimilarity(a, b, minimum);
+            if (expected >= minimum) {
+                Assertions.assertEquals(expected, bounded, a + " | " + b);
+            } else {
+                Assertions.assertTrue(bounded < minimum, a + " | " + b);
+            }
+            Assertions.assertEquals(expected >= 0.90, service.isPotentialDuplicate(a, b, true), a + " | " + b);
+        }
+    }
+
+    /**
+     * Ensures null and blank names keep their legacy scores.
+     * Importance: Preserves edge-case behavior relied on by merge staging.
+     * Alternatives: Reject null names upstream.
+     */
+    @Test
+    public void shouldKeepEdgeCases() {
+        Assertions.assertEquals(0.0, service.calculateSimilarity(null, "Ann"));
+        Assertions.assertEquals(0.0, service.calculateSimilarity("  ", "Ann"));
+        Assertions.assertEquals(1.0, service.calculateSimilarity(" ANN\t", "ann"));
+        Assertions.assertFalse(service.isPotentialDuplicate("Ann", "Ann", false));
+    }
+
+    /**
+     * Builds a random name between 1 and 90 characters.
+     * Importance: Exercises both the 64-character bit-vector path and the banded path.
+     * Alternatives: Use a fixed corpus.
+     *
+     * @param random the random source.
+     * @return the name.
+     */
+    private String randomName(Random random) {
+        int length = 1 + random.nextInt(random.nextBoolean() ? 20 : 90);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Applies a few random edits to a name.
+     * Importance: Produces pairs near the duplicate threshold.
+     * Alternatives: Pair unrelated random names only.
+     *
+     * @param random the random source.
+     * @param name the name.
+     * @return the edited name.
+     */
+    private String mutate(Random random, String name) {
+        StringBuilder builder = new StringBuilder(name);
+        int edits = random.nextInt(1 + name.length() / 4);
+        for (int i = 0; i < edits; i++) {
+            int position = builder.length() == 0 ? 0 : random.nextInt(builder.length());
+            char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            int operation = random.nextInt(3);
+            if (operation == 0 || builder.length() == 0) {
+                builder.insert(position, c);
+            } else if (operation == 1) {
+                builder.deleteCharAt(position);
+            } else {
+                builder.setCharAt(position, c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Computes similarity with the original full-table implementation.
+     * Importance: Serves as the reference the kernel must reproduce.
+     * Alternatives: Keep the legacy method in production code.
+     *
+     * @param nameA the first name.
+     * @param nameB the second name.
+     * @return the legacy similarity.
+     */
+    private double legacySimilarity(String nameA, String nameB) {
+        String a = nameA.trim().toLowerCase();
+        String b = nameB.trim().toLowerCase();
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        int[] costs = new int[b.length() + 1];
+        for (int j = 0; j < costs.length; j++) {
+            costs[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            costs[0] = i;
+            int nw = i - 1;
+            for (int j = 1; j <= b.length(); j++) {
+                int cj = Math.min(1 + Math.min(costs[j], costs[j - 1]),
+                    a.charAt(i - 1) == b.charAt(j - 1) ? nw : nw + 1);
+                nw = costs[j];
+                costs[j] = cj;
+            }
+        }
+        int maxLength = Math.max(a.length(), b.length());
+        return 1.0 - ((double) costs[b.length()] / (double) maxLength);
+    }
+}
@@ -0,0 +1,164 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.config.OutboxProperties;
+import com.heritagegraph360.profile.stream.OutboxRelay;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Validates outbox relay claiming, acknowledgement handling, and parking.
+ * Importance: Ensures only acknowledged events leave the outbox and undeliverable ones stop being retried.
+ * Alternatives: Verify delivery with an embedded Kafka broker.
+ */
+public class OutboxRelayTest {
+    private final JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, byte[]> kafkaTemplate = Mockito.mock(KafkaTemplate.class);
+    private final PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+
+    /**
+     * Ensures acknowledged events are deleted and failed events are released for retry.
+     * Importance: Confirms at-least-once delivery semantics of the relay.
+     * Alternatives: Assert on outbox row counts in an integration test.
+     *
+     * @throws Exception if the mocked statement setter fails.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldDeleteAcknowledgedAndRetryFailedEvents() throws Exception {
+        stubClaim();
+        stubRelease("PENDING");
+
+        OutboxProperties properties = new OutboxProperties();
+        new OutboxRelay(jdbcTemplate, transactionManager, kafkaTemplate, properties).relay();
+
+        Mockito.verify(jdbcTemplate).update(Mockito.startsWith("DELETE FROM outbox_events"),
+            Mockito.any(PreparedStatementSetter.class));
+        ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        Mockito.verify(jdbcTemplate).query(Mockito.contains("THEN 'PARKED'"), setter.capture(),
+            Mockito.any(RowMapper.class));
+        PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+        Mockito.when(statement.getConnection()).thenReturn(Mockito.mock(Connection.class));
+        setter.getValue().setValues(statement);
+        Mockito.verify(statement).setInt(1, properties.getMaxAttempts());
+    }
+
+    /**
+     * Ensures rows are claimed in a committed transaction before anything is sent.
+     * Importance: Confirms no row lock is held while the relay waits on Kafka.
+     * Alternatives: Inspect pg_locks during a slow send.
+     */
+    @Test
+    public void shouldCommitClaimBeforeSending() {
+        stubClaim();
+        stubRelease("PENDING");
+
+        new OutboxRelay(jdbcTemplate, transactionManager, kafkaTemplate, new OutboxProperties()).relay();
+
+        InOrder order = Mockito.inOrder(transactionManager, kafkaTemplate);
+        order.verify(transactionManager).commit(Mockito.any());
+        order.verify(kafkaTemplate, Mockito.times(2)).send(Mockito.anyString(), Mockito.anyString(), Mockito.any());
+        Mockito.verify(transactionManager, Mockito.times(1)).commit(Mockito.any());
+    }
+
+    /**
+     * Ensures a parked event is not retried within the poll.
+     * Importance: Confirms an event out of attempts leaves the relay's working set.
+     * Alternatives: Count claims across several polls.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldParkEventsOutOfAttempts() {
+        stubClaim();
+        stubRelease("PARKED");
+        OutboxProperties properties = new OutboxProperties();
+        properties.setBatchSize(2);
+
+        new OutboxRelay(jdbcTemplate, transactionManager, kafkaTemplate, properties).relay();
+
+        Mockito.verify(jdbcTemplate, Mockito.atLeastOnce()).query(Mockito.contains("status = 'PENDING'"),
+            Mockito.any(RowMapper.class), Mockito.any(), Mockito.any(), Mockito.eq(2));
+        Mockito.verify(jdbcTemplate, Mockito.atLeastOnce()).query(Mockito.contains("THEN 'PARKED'"),
+            Mockito.any(PreparedStatementSetter.class), Mockito.any(RowMapper.class));
+    }
+
+    /**
+     * Stubs a claim returning one deliverable and one failing event.
+     * Importance: Shares the claim fixture across tests.
+     * Alternatives: Inline the stubbing per test.
+     */
+    @SuppressWarnings("unchecked")
+    private void stubClaim() {
+        Mockito.when(jdbcTemplate.query(Mockito.startsWith("UPDATE outbox_events SET attempts"),
+                Mockito.any(RowMapper.class), Mockito.any(), Mockito.any(), Mockito.anyInt()))
+            .thenAnswer(invocation -> {
+                RowMapper<Object> mapper = invocation.getArgument(1);
+                return List.of(mapper.mapRow(rowOf(2L, "boom"), 0), mapper.mapRow(rowOf(1L, "ok"), 1));
+            })
+            .thenReturn(List.of());
+        Mockito.when(kafkaTemplate.send("profile.events", "org-us-001", bytes("ok")))
+            .thenReturn(CompletableFuture.completedFuture(Mockito.mock(SendResult.class)));
+        Mockito.when(kafkaTemplate.send("profile.events", "org-us-001", bytes("boom")))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+    }
+
+    /**
+     * Stubs the status the release statement returns for the failed event.
+     * Importance: Lets tests choose between retry and parking.
+     * Alternatives: Inline the stubbing per test.
+     *
+     * @param status the returned status.
+     */
+    @SuppressWarnings("unchecked")
+    private void stubRelease(String status) {
+        Mockito.when(jdbcTemplate.query(Mockito.startsWith("UPDATE outbox_events SET claimed_until = NULL"),
+                Mockito.any(PreparedStatementSetter.class), Mockito.any(RowMapper.class)))
+            .thenReturn(List.of(status));
+    }
+
+    /**
+     * Builds a result set positioned on one outbox row.
+     * Importance: Exercises the relay's own row mapping.
+     * Alternatives: Expose the row type for tests.
+     *
+     * @param outboxId the outbox identifier.
+     * @param payload the payload.
+     * @return the result set.
+     * @throws SQLException never, required by the ResultSet API.
+     */
+    private ResultSet rowOf(long outboxId, String payload) throws SQLException {
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Mockito.when(resultSet.getLong(1)).thenReturn(outboxId);
+        Mockito.when(resultSet.getString(2)).thenReturn("profile.events");
+        Mockito.when(resultSet.getString(3)).thenReturn("org-us-001");
+        Mockito.when(resultSet.getBytes(4)).thenReturn(bytes(payload));
+        return resultSet;
+    }
+
+    /**
+     * Encodes a test payload.
+     * Importance: Keeps payload literals readable.
+     * Alternatives: Inline byte array literals.
+     *
+     * @param payload the payload text.
+     * @return the UTF-8 bytes.
+     */
+    private static byte[] bytes(String payload) {
+        return payload.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,202 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.config.PedigreeProperties;
+import com.heritagegraph360.profile.graph.LineageDirection;
+import com.heritagegraph360.profile.graph.LineageEntry;
+import com.heritagegraph360.profile.graph.LineageGraphIndex;
+import com.heritagegraph360.profile.pedigree.CohortAnalysis;
+import com.heritagegraph360.profile.pedigree.CommonAncestor;
+import com.heritagegraph360.profile.pedigree.GenerationCollapse;
+import com.heritagegraph360.profile.pedigree.PedigreeAnalyzer;
+import com.heritagegraph360.profile.pedigree.PedigreeCollapse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Validates pedigree-collapse and common-ancestor analytics.
+ * Importance: Ensures collapse factors and most recent common ancestors match hand-computed pedigrees.
+ * Alternatives: Compare against spreadsheet exports.
+ */
+public class PedigreeAnalyticsTest {
+    private static final String TENANT = "org-us-001";
+
+    private final Map<UUID, List<UUID>> parents = new HashMap<>();
+    private final UUID sharedGrandfather = UUID.randomUUID();
+    private final UUID sharedGrandmother = UUID.randomUUID();
+    private final UUID fatherFather = UUID.randomUUID();
+    private final UUID fatherMother = UUID.randomUUID();
+    private final UUID motherFather = UUID.randomUUID();
+    private final UUID motherMother = UUID.randomUUID();
+    private final UUID father = UUID.randomUUID();
+    private final UUID mother = UUID.randomUUID();
+    private final UUID child = UUID.randomUUID();
+
+    /**
+     * Builds a pedigree whose parents are first cousins.
+     * Importance: The father's mother and the mother's father are siblings, so the child's great-grandparents
+     * on those lines are the same couple.
+     * Alternatives: Load a GEDCOM fixture.
+     */
+    public PedigreeAnalyticsTest() {
+        parents.put(fatherMother, List.of(sharedGrandfather, sharedGrandmother));
+        parents.put(motherFather, List.of(sharedGrandfather, sharedGrandmother));
+        parents.put(father, List.of(fatherFather, fatherMother));
+        parents.put(mother, List.of(motherFather, motherMother));
+        parents.put(child, List.of(father, mother));
+    }
+
+    /**
+     * Ensures collapse counts lines, not theoretical slots, and names the repeated ancestors.
+     * Importance: Confirms a cousin marriage shows up as half the great-grandparent slots collapsing.
+     * Alternatives: Assert only the overall factor.
+     */
+    @Test
+    public void shouldMeasureCollapseFromCousinParents() {
+        PedigreeAnalyzer analyzer = analyzer(new PedigreeProperties());
+        try {
+            CohortAnalysis analysis = analyzer.analyze(TENANT, List.of(child), 5);
+            PedigreeCollapse collapse = analysis.getMembers().get(0);
+            List<GenerationCollapse> generations = collapse.getGenerations();
+
+            Assertions.assertEquals(3, generations.size());
+            Assertions.assertEquals(4, generations.get(1).getSlots());
+            Assertions.assertEquals(0.0, generations.get(1).getCollapseFactor());
+            Assertions.assertEquals(4, generations.get(2).getSlots());
+            Assertions.assertEquals(2, generations.get(2).getAncestors());
+            Assertions.assertEquals(0.5, generations.get(2).getCollapseFactor());
+            Assertions.assertEquals(8, collapse.getAncestors());
+            Assertions.assertEquals(10, collapse.getSlots());
+            Assertions.assertEquals(0.2, collapse.getCollapseFactor(), 1e-9);
+            Assertions.assertEquals(Set.of(sharedGrandfather, sharedGrandmother), Set.of(
+                collapse.getRepeatedAncestors().get(0).getProfileId(),
+                collapse.getRepeatedAncestors().get(1).getProfileId()));
+            Assertions.assertEquals(2, collapse.getRepeatedAncestors().get(0).getLines());
+            Assertions.assertEquals(3, collapse.getRepeatedAncestors().get(0).getNearestGeneration());
+            Assertions.assertTrue(analysis.getCommonAncestors().isEmpty());
+            Assertions.assertFalse(analysis.isTruncated());
+        } finally {
+            analyzer.shutdown();
+        }
+    }
+
+    /**
+     * Ensures common ancestors are reduced to the most recent ones with each side's distance.
+     * Importance: Cousins share all their grandparents' ancestors, but only the grandparents are most recent.
+     * Alternatives: Return every shared ancestor.
+     */
+    @Test
+    public void shouldFindMostRecentCommonAncestors() {
+        parents.put(sharedGrandfather, List.of(UUID.randomUUID()));
+        PedigreeAnalyzer analyzer = analyzer(new PedigreeProperties());
+        try {
+            CohortAnalysis cousins = analyzer.analyze(TENANT, List.of(father, mother), null);
+            Assertions.assertEquals(Set.of(sharedGrandfather, sharedGrandmother), ids(cousins.getCommonAncestors()));
+            Assertions.assertEquals(List.of(2, 2), cousins.getCommonAncestors().get(0).getGenerations());
+
+            CohortAnalysis direct = analyzer.analyze(TENANT, List.of(child, mother), null);
+            Assertions.assertEquals(Set.of(mother), ids(direct.getCommonAncestors()));
+            Assertions.assertEquals(List.of(1, 0), direct.getCommonAncestors().get(0).getGenerations());
+        } finally {
+            analyzer.shutdown();
+        }
+    }
+
+    /**
+     * Ensures a cohort reports ancestors shared by all members and only the related pairs.
+     * Importance: Confirms the parallel pair fan-out keeps request order and skips unrelated pairs.
+     * Alternatives: Return the full pair matrix.
+     */
+    @Test
+    public void shouldAnalyzeCohortsInParallel() {
+        UUID stranger = UUID.randomUUID();
+        parents.put(stranger, List.of(UUID.randomUUID(), UUID.randomUUID()));
+        PedigreeAnalyzer analyzer = analyzer(new PedigreeProperties());
+        try {
+            CohortAnalysis analysis = analyzer.analyze(TENANT, List.of(fatherMother, motherFather, stranger, child),
+                4);
+
+            Assertions.assertEquals(4, analysis.getMembers().size());
+            Assertions.assertEquals(stranger, analysis.getMembers().get(2).getProfileId());
+            Assertions.assertTrue(analysis.getCommonAncestors().isEmpty());
+            Assertions.assertEquals(3, analysis.getPairs().size());
+            Assertions.assertEquals(fatherMother, analysis.getPairs().get(0).getFirstProfileId());
+            Assertions.assertEquals(motherFather, analysis.getPairs().get(0).getSecondProfileId());
+            Assertions.assertEquals(Set.of(sharedGrandfather, sharedGrandmother),
+                ids(analysis.getPairs().get(0).getAncestors()));
+            Assertions.assertEquals(Set.of(fatherMother), ids(analysis.getPairs().get(1).getAncestors()));
+            Assertions.assertEquals(child, analysis.getPairs().get(2).getSecondProfileId());
+        } finally {
+            analyzer.shutdown();
+        }
+    }
+
+    /**
+     * Ensures oversized pedigrees are truncated and invalid cohorts are refused.
+     * Importance: Keeps one request within the configured memory budget.
+     * Alternatives: Fail oversized analyses.
+     */
+    @Test
+    public void shouldBoundAnalyses() {
+        PedigreeProperties properties = new PedigreeProperties();
+        properties.setMaxAncestors(4);
+        properties.setMaxCohortSize(2);
+        PedigreeAnalyzer analyzer = analyzer(properties);
+        try {
+            CohortAnalysis analysis = analyzer.analyze(TENANT, List.of(child), null);
+            Assertions.assertTrue(analysis.isTruncated());
+            Assertions.assertEquals(4, analysis.getProfilesLoaded());
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> analyzer.analyze(TENANT, List.of(child, child), null));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> analyzer.analyze(TENANT, List.of(child, father, mother), null));
+        } finally {
+            analyzer.shutdown();
+        }
+    }
+
+    /**
+     * Builds an analyzer over a mocked lineage index backed by the test pedigree.
+     * Importance: Exercises the analyzer without loading relationships from SQL.
+     * Alternatives: Build a real lineage graph.
+     *
+     * @param properties the pedigree properties.
+     * @return the analyzer.
+     */
+    private PedigreeAnalyzer analyzer(PedigreeProperties properties) {
+        LineageGraphIndex index = Mockito.mock(LineageGraphIndex.class);
+        Mockito.when(index.relatives(Mockito.eq(TENANT), Mockito.any(UUID.class),
+            Mockito.eq(LineageDirection.ANCESTORS))).thenAnswer(invocation -> {
+                List<LineageEntry> entries = new ArrayList<>();
+                for (UUID parent : parents.getOrDefault(invocation.<UUID>getArgument(1), List.of())) {
+                    entries.add(new LineageEntry(parent, 1, "green"));
+                }
+                return entries;
+            });
+        return new PedigreeAnalyzer(index, properties, new SimpleMeterRegistry());
+    }
+
+    /**
+     * Collects common ancestor identifiers.
+     * Importance: Makes assertions independent of tie order.
+     * Alternatives: Sort by identifier.
+     *
+     * @param ancestors the common ancestors.
+     * @return the identifiers.
+     */
+    private static Set<UUID> ids(List<CommonAncestor> ancestors) {
+        Set<UUID> ids = new HashSet<>();
+        for (CommonAncestor ancestor : ancestors) {
+            ids.add(ancestor.getProfileId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,99 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.api.ProfileBatchCreateResponse;
+import com.heritagegraph360.profile.api.ProfileBatchItemResult;
+import com.heritagegraph360.profile.api.ProfileCreateRequest;
+import com.heritagegraph360.profile.audit.AuditLogWriter;
+import com.heritagegraph360.profile.config.ProfileBatchProperties;
+import com.heritagegraph360.profile.contact.ContactIdentifierFilter;
+import com.heritagegraph360.profile.duplicate.DuplicateCandidateIndex;
+import com.heritagegraph360.profile.nosql.EventPayloadRepository;
+import com.heritagegraph360.profile.service.ProfileBatchService;
+import com.heritagegraph360.profile.stream.ProfileEventPublisher;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Validates bulk profile creation.
+ * Importance: Ensures batch items follow the same uniqueness rules as single creation.
+ * Alternatives: Verify against a live database.
+ */
+public class ProfileBatchServiceTest {
+    /**
+     * Ensures invalid, in-batch duplicate, and existing identifiers are rejected per item.
+     * Importance: Confirms one bad item does not fail the batch.
+     * Alternatives: Assert on database rows in an integration test.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldRejectItemsIndividuallyAndInsertTheRestInBulk() throws Exception {
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        ResultSet taken = Mockito.mock(ResultSet.class);
+        Mockito.when(taken.getString(1)).thenReturn("taken@example.org");
+        Mockito.doAnswer(invocation -> {
+            ((RowCallbackHandler) invocation.getArgument(2)).processRow(taken);
+            return null;
+        }).when(jdbcTemplate).query(Mockito.contains("primary_email = ANY"), Mockito.any(PreparedStatementSetter.class),
+            Mockito.any(RowCallbackHandler.class));
+        AuditLogWriter auditLogWriter = Mockito.mock(AuditLogWriter.class);
+        ProfileEventPublisher publisher = Mockito.mock(ProfileEventPublisher.class);
+        ContactIdentifierFilter contactFilter = Mockito.mock(ContactIdentifierFilter.class);
+        Mockito.when(contactFilter.mightContainEmail(Mockito.anyString(), Mockito.anyString())).thenReturn(true);
+        ProfileBatchService service = new ProfileBatchService(jdbcTemplate,
+            Mockito.mock(PlatformTransactionManager.class), auditLogWriter, publisher,
+            Mockito.mock(EventPayloadRepository.class), Mockito.mock(DuplicateCandidateIndex.class),
+            contactFilter, new ProfileBatchProperties());
+
+        ProfileBatchCreateResponse response = service.createProfiles("org-us-001", UUID.randomUUID(), Arrays.asList(
+            request("ada@example.org", "+15550001"),
+            request("ada@example.org", null),
+            request(null, " "),
+            request("taken@example.org", null),
+            request(null, "+15550002")));
+
+        Assertions.assertEquals(2, response.getCreated());
+        Assertions.assertEquals(3, response.getRejected());
+        List<ProfileBatchItemResult> results = response.getResults();
+        Assertions.assertEquals("CREATED", results.get(0).getStatus());
+        Assertions.assertEquals("Primary email duplicated in batch", results.get(1).getMessage());
+        Assertions.assertEquals("Email or phone is required", results.get(2).getMessage());
+        Assertions.assertEquals("Primary email already exists", results.get(3).getMessage());
+        Assertions.assertEquals("CREATED", results.get(4).getStatus());
+        Mockito.verify(jdbcTemplate).batchUpdate(Mockito.startsWith("INSERT INTO profiles"),
+            Mockito.argThat((Collection<Object> rows) -> rows.size() == 2), Mockito.eq(500),
+            Mockito.any(ParameterizedPreparedStatementSetter.class));
+        Mockito.verify(jdbcTemplate, Mockito.never()).query(Mockito.contains("primary_phone = ANY"),
+            Mockito.any(PreparedStatementSetter.class), Mockito.any(RowCallbackHandler.class));
+        Mockito.verify(auditLogWriter).recordBulk(Mockito.argThat(entries -> entries.size() == 2));
+        Mockito.verify(publisher).publishProfileEvents(Mockito.eq("org-us-001"), Mockito.eq("PROFILE_CREATED"),
+            Mockito.argThat(ids -> ids.size() == 2));
+    }
+
+    /**
+     * Builds a creation request.
+     * Importance: Keeps fixtures concise.
+     * Alternatives: Use a fixture builder.
+     *
+     * @param email the primary email.
+     * @param phone the primary phone.
+     * @return the request.
+     */
+    private ProfileCreateRequest request(String email, String phone) {
+        ProfileCreateRequest request = new ProfileCreateRequest();
+        request.setPrimaryEmail(email);
+        request.setPrimaryPhone(phone);
+        request.setDisplayName("Ada Lovelace");
+        return request;
+    }
+}
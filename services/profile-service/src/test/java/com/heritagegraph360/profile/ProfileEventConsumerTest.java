@@ -0,0 +1,204 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.common.event.EventEnvelope;
+import com.heritagegraph360.common.event.EventEnvelopeCodec;
+import com.heritagegraph360.common.event.EventEnvelopeFormat;
+import com.heritagegraph360.profile.config.EventConsumerProperties;
+import com.heritagegraph360.profile.config.ProfileEventConsumerConfig;
+import com.heritagegraph360.profile.nosql.EventPayloadDocument;
+import com.heritagegraph360.profile.nosql.EventPayloadRepository;
+import com.heritagegraph360.profile.stream.ProfileEventConsumer;
+import com.mongodb.bulk.BulkWriteError;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+
+/**
+ * Validates batched profile event consumption.
+ * Importance: Ensures offsets are only committed for events MongoDB has stored.
+ * Alternatives: Verify with embedded Kafka and MongoDB.
+ */
+public class ProfileEventConsumerTest {
+    private final MongoTemplate mongoTemplate = Mockito.mock(MongoTemplate.class);
+    private final BulkOperations bulkOperations = Mockito.mock(BulkOperations.class);
+    private final Acknowledgment acknowledgment = Mockito.mock(Acknowledgment.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ProfileEventConsumer consumer = new ProfileEventConsumer(
+        Mockito.mock(EventPayloadRepository.class), mongoTemplate, meterRegistry);
+
+    /**
+     * Ensures one bulk insert per batch with stable ids, reading legacy JSON and binary envelopes alike.
+     * Importance: Confirms acknowledgment follows the write and lag is published per partition.
+     * Alternatives: Assert on individual saves.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldBulkInsertBatchThenAcknowledge() {
+        Mockito.when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EventPayloadDocument.class))
+            .thenReturn(bulkOperations);
+        Mockito.when(bulkOperations.insert(Mockito.anyList())).thenReturn(bulkOperations);
+        Consumer<String, String> kafkaConsumer = Mockito.mock(Consumer.class);
+        Mockito.when(kafkaConsumer.currentLag(new TopicPartition("profile.events", 0))).thenReturn(OptionalLong.of(42));
+
+        consumer.onProfileEvents(List.of(
+            record(10, "{\"tenantId\":\"org-us-001\",\"eventType\":\"PROFILE_CREATED\",\"profileId\":\"p1\"}"),
+            record(11, "{\"meta\":{\"tenantId\":\"nested\"},\"eventType\":\"PROFILE_CLAIMED\",\"tenantId\":\"org-in-002\"}"),
+            record(12, "not json"),
+            new ConsumerRecord<>("profile.events", 0, 13, "org-us-001", EventEnvelopeCodec.encode(
+                EventEnvelope.of("org-us-001", "PROFILE_MERGED", "p2", "c-1", null), EventEnvelopeFormat.BINARY))),
+            acknowledgment, kafkaConsumer);
+
+        ArgumentCaptor<List<EventPayloadDocument>> inserted = ArgumentCaptor.forClass(List.class);
+        InOrder order = Mockito.inOrder(bulkOperations, acknowledgment);
+        order.verify(bulkOperations).insert(inserted.capture());
+        order.verify(bulkOperations).execute();
+        order.verify(acknowledgment).acknowledge();
+        List<EventPayloadDocument> documents = inserted.getValue();
+        Assertions.assertEquals("profile.events:0:10", documents.get(0).getId());
+        Assertions.assertEquals("org-us-001", documents.get(0).getTenantId());
+        Assertions.assertEquals("org-in-002", documents.get(1).getTenantId());
+        Assertions.assertEquals("PROFILE_CLAIMED", documents.get(1).getEventType());
+        Assertions.assertEquals("unknown-tenant", documents.get(2).getTenantId());
+        Assertions.assertEquals("UNKNOWN", documents.get(2).getEventType());
+        Assertions.assertEquals("p1", documents.get(0).getProfileId());
+        Assertions.assertEquals("PROFILE_MERGED", documents.get(3).getEventType());
+        Assertions.assertEquals("p2", documents.get(3).getProfileId());
+        Assertions.assertEquals("c-1", documents.get(3).getCorrelationId());
+        Assertions.assertNull(documents.get(3).getPayloadJson());
+        Assertions.assertEquals(4.0, meterRegistry.get("profile.events.consumed").counter().count());
+        Assertions.assertEquals(1.0, meterRegistry.get("profile.events.format").tag("format", "binary").counter().count());
+        Assertions.assertEquals(42.0, meterRegistry.get("profile.events.consumer.lag").gauge().value());
+    }
+
+    /**
+     * Ensures failed writes leave offsets uncommitted while redelivered duplicates are acknowledged.
+     * Importance: Confirms at-least-once storage with idempotent redelivery.
+     * Alternatives: Inspect committed offsets on a broker.
+     */
+    @Test
+    public void shouldAcknowledgeOnlyWrittenOrDuplicateBatches() {
+        Mockito.when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EventPayloadDocument.class))
+            .thenReturn(bulkOperations);
+        Mockito.when(bulkOperations.insert(Mockito.anyList())).thenReturn(bulkOperations);
+        BulkOperationException failure = Mockito.mock(BulkOperationException.class);
+        Mockito.when(failure.getErrors()).thenReturn(List.of(new BulkWriteError(121, "validation", new BsonDocument(), 0)));
+        BulkOperationException duplicate = Mockito.mock(BulkOperationException.class);
+        Mockito.when(duplicate.getErrors()).thenReturn(List.of(new BulkWriteError(11000, "dup", new BsonDocument(), 0)));
+        Mockito.when(bulkOperations.execute()).thenThrow(failure).thenThrow(duplicate);
+        List<ConsumerRecord<String, byte[]>> batch = List.of(record(20, "{\"tenantId\":\"org-us-001\"}"));
+
+        BatchListenerFailedException rejected = Assertions.assertThrows(BatchListenerFailedException.class,
+            () -> consumer.onProfileEvents(batch, acknowledgment, null));
+        Assertions.assertEquals(0, rejected.getIndex());
+        Mockito.verify(acknowledgment, Mockito.never()).acknowledge();
+
+        consumer.onProfileEvents(batch, acknowledgment, null);
+        Mockito.verify(acknowledgment).acknowledge();
+    }
+
+    /**
+     * Ensures the first record MongoDB rejects is reported, ignoring duplicates from redelivery.
+     * Importance: Confirms the container retries and dead-letters only the poison record, not the whole batch.
+     * Alternatives: Rethrow the bulk exception and retry the batch.
+     */
+    @Test
+    public void shouldReportFirstRejectedRecord() {
+        Mockito.when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EventPayloadDocument.class))
+            .thenReturn(bulkOperations);
+        Mockito.when(bulkOperations.insert(Mockito.anyList())).thenReturn(bulkOperations);
+        BulkOperationException failure = Mockito.mock(BulkOperationException.class);
+        Mockito.when(failure.getErrors()).thenReturn(List.of(
+            new BulkWriteError(11000, "dup", new BsonDocument(), 0),
+            new BulkWriteError(121, "validation", new BsonDocument(), 2),
+            new BulkWriteError(121, "validation", new BsonDocument(), 1)));
+        Mockito.when(bulkOperations.execute()).thenThrow(failure);
+        List<ConsumerRecord<String, byte[]>> batch = List.of(
+            record(30, "{\"tenantId\":\"org-us-001\"}"),
+            record(31, "{\"tenantId\":\"org-us-001\"}"),
+            record(32, "{\"tenantId\":\"org-us-001\"}"));
+
+        BatchListenerFailedException rejected = Assertions.assertThrows(BatchListenerFailedException.class,
+            () -> consumer.onProfileEvents(batch, acknowledgment, null));
+
+        Assertions.assertEquals(1, rejected.getIndex());
+        Assertions.assertSame(failure, rejected.getCause());
+        Mockito.verify(acknowledgment, Mockito.never()).acknowledge();
+    }
+
+    /**
+     * Ensures a rejected record is retried a bounded number of times and then dead-lettered.
+     * Importance: Confirms a poison record cannot block its partition forever.
+     * Alternatives: Verify with embedded Kafka.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldDeadLetterRejectedRecordAfterBoundedRetries() {
+        EventConsumerProperties properties = new EventConsumerProperties();
+        properties.setRetryInitialMs(1);
+        properties.setRetryMaxMs(1);
+        properties.setRecordMaxRetries(2);
+        KafkaOperations<String, byte[]> kafkaTemplate = Mockito.mock(KafkaOperations.class);
+        Mockito.when(kafkaTemplate.send(Mockito.<ProducerRecord<String, byte[]>>any()))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        DefaultErrorHandler handler = ProfileEventConsumerConfig.errorHandler(kafkaTemplate, properties);
+        MessageListenerContainer container = Mockito.mock(MessageListenerContainer.class);
+        Mockito.when(container.getContainerProperties()).thenReturn(new ContainerProperties("profile.events"));
+        Mockito.when(container.isRunning()).thenReturn(true);
+        Consumer<String, byte[]> kafkaConsumer = Mockito.mock(Consumer.class);
+        TopicPartition partition = new TopicPartition("profile.events", 0);
+        ConsumerRecords<String, byte[]> records = new ConsumerRecords<>(Map.of(partition,
+            List.of(record(40, "{\"n\":40}"), record(41, "{\"n\":41}"))));
+        BatchListenerFailedException rejected = new BatchListenerFailedException("rejected",
+            new IllegalStateException("validation"), 1);
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Assertions.assertThrows(KafkaException.class,
+                () -> handler.handleBatch(rejected, records, kafkaConsumer, container, () -> { }));
+        }
+        Mockito.verify(kafkaTemplate, Mockito.never()).send(Mockito.<ProducerRecord<String, byte[]>>any());
+
+        handler.handleBatch(rejected, records, kafkaConsumer, container, () -> { });
+
+        ArgumentCaptor<ProducerRecord<String, byte[]>> deadLetter = ArgumentCaptor.forClass(ProducerRecord.class);
+        Mockito.verify(kafkaTemplate).send(deadLetter.capture());
+        Assertions.assertEquals("profile.events.DLT", deadLetter.getValue().topic());
+        Assertions.assertArrayEquals("{\"n\":41}".getBytes(StandardCharsets.UTF_8), deadLetter.getValue().value());
+    }
+
+    /**
+     * Builds a profile event record on partition zero.
+     * Importance: Gives each record a distinct offset.
+     * Alternatives: Mock ConsumerRecord.
+     *
+     * @param offset the record offset.
+     * @param payload the payload.
+     * @return the record.
+     */
+    private ConsumerRecord<String, byte[]> record(long offset, String payload) {
+        return new ConsumerRecord<>("profile.events", 0, offset, "org-us-001", payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
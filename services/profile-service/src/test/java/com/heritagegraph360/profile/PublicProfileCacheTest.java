@@ -0,0 +1,55 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.api.PublicProfileResponse;
+import com.heritagegraph360.profile.config.PublicProfileCacheProperties;
+import com.heritagegraph360.profile.service.PublicProfileCache;
+import com.heritagegraph360.profile.stream.PublicProfileCacheInvalidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Validates the public profile read-model cache.
+ * Importance: Ensures negative caching and event invalidation behave as documented.
+ * Alternatives: Exercise the cache through the public controller.
+ */
+public class PublicProfileCacheTest {
+    /**
+     * Ensures non-public ids are cached and profile events evict them.
+     * Importance: Confirms repeated probes skip the database until the profile changes.
+     * Alternatives: Verify with an embedded Kafka broker.
+     */
+    @Test
+    public void shouldCacheMissesUntilProfileEventArrives() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PublicProfileCache cache = new PublicProfileCache(new PublicProfileCacheProperties(), registry);
+        PublicProfileCacheInvalidator invalidator = new PublicProfileCacheInvalidator(cache);
+        UUID profileId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        Assertions.assertTrue(cache.get(profileId, id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        }).isEmpty());
+        Assertions.assertTrue(cache.get(profileId, id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        }).isEmpty());
+        Assertions.assertEquals(1, loads.get());
+
+        invalidator.onProfileEvent(("{\"tenantId\":\"org-us-001\",\"eventType\":\"PROFILE_CREATED\","
+            + "\"profileId\":\"" + profileId + "\"}").getBytes(StandardCharsets.UTF_8));
+        Optional<PublicProfileResponse> reloaded = cache.get(profileId, id -> {
+            loads.incrementAndGet();
+            return Optional.of(new PublicProfileResponse(id.toString(), "Public Profile", "PUBLIC"));
+        });
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertEquals("PUBLIC", reloaded.orElseThrow().getVisibility());
+        Assertions.assertEquals(1.0, registry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        Assertions.assertEquals(2.0, registry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+}
@@ -0,0 +1,186 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.api.RelationshipBatchEdge;
+import com.heritagegraph360.profile.api.RelationshipBatchResponse;
+import com.heritagegraph360.profile.audit.AuditLogWriter;
+import com.heritagegraph360.profile.closure.AncestryClosureRebuildRunner;
+import com.heritagegraph360.profile.closure.AncestryClosureStore;
+import com.heritagegraph360.profile.config.RelationshipBatchProperties;
+import com.heritagegraph360.profile.consistency.LineageConsistencyChecker;
+import com.heritagegraph360.profile.consistency.LineageConsistencyScanRunner;
+import com.heritagegraph360.profile.consistency.LineageViolation;
+import com.heritagegraph360.profile.graph.LineageGraphIndex;
+import com.heritagegraph360.profile.repo.RelationshipEdgeStore;
+import com.heritagegraph360.profile.repo.RelationshipUpsertOutcome;
+import com.heritagegraph360.profile.service.RelationshipBatchService;
+import com.heritagegraph360.profile.stream.ProfileEventPublisher;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Validates idempotent relationship upserts.
+ * Importance: Ensures repeated imports neither duplicate edges nor repeat their side effects.
+ * Alternatives: Verify against a live database.
+ */
+public class RelationshipBatchTest {
+    private static final String TENANT = "org-us-001";
+
+    /**
+     * Ensures the edge store maps returned rows to per-edge outcomes in request order.
+     * Importance: Confirms rows the conflict clause skipped are reported as unchanged.
+     * Alternatives: Assert on database rows in an integration test.
+     */
+    @Test
+    public void shouldReportCreatedUpdatedAndUnchangedEdgesInRequestOrder() throws Exception {
+        UUID child = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID mother = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        UUID father = UUID.fromString("00000000-0000-0000-0000-000000000003");
+        UUID grandmother = UUID.fromString("00000000-0000-0000-0000-000000000004");
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        ResultSet rows = Mockito.mock(ResultSet.class);
+        Mockito.when(rows.getObject(1, UUID.class)).thenReturn(mother, child);
+        Mockito.when(rows.getObject(2, UUID.class)).thenReturn(grandmother, father);
+        Mockito.when(rows.getBoolean(3)).thenReturn(true, false);
+        Mockito.doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            handler.processRow(rows);
+            handler.processRow(rows);
+            return null;
+        }).when(jdbcTemplate).query(Mockito.contains("ON CONFLICT (tenant_id, profile_id, related_profile_id)"),
+            Mockito.any(PreparedStatementSetter.class), Mockito.any(RowCallbackHandler.class));
+        RelationshipEdgeStore store = new RelationshipEdgeStore(jdbcTemplate, new RelationshipBatchProperties());
+
+        RelationshipUpsertOutcome[] outcomes = store.upsertAll(TENANT, List.of(
+            new RelationshipEdgeStore.Edge(child, father, "green"),
+            new RelationshipEdgeStore.Edge(child, mother, "green"),
+            new RelationshipEdgeStore.Edge(mother, grandmother, "yellow")));
+
+        Assertions.assertArrayEquals(new RelationshipUpsertOutcome[] {
+            RelationshipUpsertOutcome.UPDATED,
+            RelationshipUpsertOutcome.UNCHANGED,
+            RelationshipUpsertOutcome.CREATED}, outcomes);
+        Mockito.verify(jdbcTemplate, Mockito.times(1)).query(Mockito.anyString(),
+            Mockito.any(PreparedStatementSetter.class), Mockito.any(RowCallbackHandler.class));
+    }
+
+    /**
+     * Ensures malformed, self, duplicate, and unknown-profile edges are rejected per edge.
+     * Importance: Confirms only changed edges reach the closure, audit, events, and lineage index.
+     * Alternatives: Exercise the controller with MockMvc.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldRejectEdgesIndividuallyAndApplySideEffectsOnlyForChangedEdges() throws Exception {
+        UUID child = UUID.randomUUID();
+        UUID mother = UUID.randomUUID();
+        UUID father = UUID.randomUUID();
+        UUID stranger = UUID.randomUUID();
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        ResultSet known = Mockito.mock(ResultSet.class);
+        Mockito.when(known.getObject(1, UUID.class)).thenReturn(child, mother, father);
+        Mockito.doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            for (int i = 0; i < 3; i++) {
+                handler.processRow(known);
+            }
+            return null;
+        }).when(jdbcTemplate).query(Mockito.contains("profile_id = ANY"), Mockito.any(PreparedStatementSetter.class),
+            Mockito.any(RowCallbackHandler.class));
+        RelationshipEdgeStore store = Mockito.mock(RelationshipEdgeStore.class);
+        List<RelationshipEdgeStore.Edge> upserted = new ArrayList<>();
+        Mockito.when(store.upsertAll(Mockito.eq(TENANT), Mockito.anyList())).thenAnswer(invocation -> {
+            upserted.addAll(invocation.getArgument(1));
+            return new RelationshipUpsertOutcome[] {RelationshipUpsertOutcome.CREATED, RelationshipUpsertOutcome.UNCHANGED};
+        });
+        AncestryClosureStore closureStore = Mockito.mock(AncestryClosureStore.class);
+        LineageGraphIndex lineageGraphIndex = Mockito.mock(LineageGraphIndex.class);
+        AuditLogWriter auditLogWriter = Mockito.mock(AuditLogWriter.class);
+        ProfileEventPublisher publisher = Mockito.mock(ProfileEventPublisher.class);
+        AncestryClosureRebuildRunner rebuildRunner = Mockito.mock(AncestryClosureRebuildRunner.class);
+        LineageConsistencyChecker checker = Mockito.mock(LineageConsistencyChecker.class);
+        Mockito.when(checker.checksIncrementally(Mockito.anyInt())).thenReturn(true);
+        Mockito.when(checker.checkEdges(Mockito.eq(TENANT), Mockito.anyList())).thenReturn(new LineageViolation[1]);
+        LineageConsistencyScanRunner scanRunner = Mockito.mock(LineageConsistencyScanRunner.class);
+        RelationshipBatchService service = new RelationshipBatchService(jdbcTemplate,
+            Mockito.mock(PlatformTransactionManager.class), store, closureStore, rebuildRunner, lineageGraphIndex,
+            auditLogWriter, publisher, checker, scanRunner, new RelationshipBatchProperties());
+
+        RelationshipBatchResponse response = service.upsertRelationships(TENANT, UUID.randomUUID(), Arrays.asList(
+            edge(child, mother, "green"),
+            edge(child, mother, "yellow"),
+            edge(child, child, "green"),
+            edge(child, stranger, "green"),
+            edge(child, father, "green"),
+            edge(child, father, "a-status-that-is-too-long")));
+
+        Assertions.assertEquals(1, response.getCreated());
+        Assertions.assertEquals(1, response.getUnchanged());
+        Assertions.assertEquals(4, response.getRejected());
+        Assertions.assertEquals("CREATED", response.getResults().get(0).getOutcome());
+        Assertions.assertEquals("Edge duplicated in batch", response.getResults().get(1).getMessage());
+        Assertions.assertEquals("A profile cannot be related to itself", response.getResults().get(2).getMessage());
+        Assertions.assertEquals("Related profile not found", response.getResults().get(3).getMessage());
+        Assertions.assertEquals("UNCHANGED", response.getResults().get(4).getOutcome());
+        Assertions.assertEquals("Status exceeds 16 characters", response.getResults().get(5).getMessage());
+        Assertions.assertEquals(2, upserted.size());
+        Mockito.verify(closureStore).addEdge(TENANT, child, mother);
+        Mockito.verify(closureStore, Mockito.never()).addEdge(TENANT, child, father);
+        Mockito.verify(lineageGraphIndex).recordRelationship(TENANT, child, mother, "green");
+        Mockito.verify(lineageGraphIndex, Mockito.never()).recordRelationship(TENANT, child, father, "green");
+        Mockito.verify(auditLogWriter).recordBulk(Mockito.argThat(entries -> entries.size() == 1));
+        Mockito.verify(publisher).publishProfileEvents(Mockito.eq(TENANT), Mockito.eq("RELATIONSHIP_UPSERTED"),
+            Mockito.argThat(ids -> ids.equals(List.of(child.toString()))));
+        Mockito.verify(checker).checkEdges(Mockito.eq(TENANT),
+            Mockito.argThat(edges -> edges.size() == 1 && edges.get(0).getRelatedProfileId().equals(mother)));
+        Mockito.verifyNoInteractions(rebuildRunner, scanRunner);
+    }
+
+    /**
+     * Ensures an oversized batch is refused before any work is done.
+     * Importance: Keeps one request within the configured transaction size.
+     * Alternatives: Truncate the batch silently.
+     */
+    @Test
+    public void shouldRejectOversizedBatches() {
+        RelationshipBatchProperties properties = new RelationshipBatchProperties();
+        properties.setMaxItems(1);
+        RelationshipBatchService service = new RelationshipBatchService(Mockito.mock(JdbcTemplate.class),
+            Mockito.mock(PlatformTransactionManager.class), Mockito.mock(RelationshipEdgeStore.class),
+            Mockito.mock(AncestryClosureStore.class), Mockito.mock(AncestryClosureRebuildRunner.class),
+            Mockito.mock(LineageGraphIndex.class), Mockito.mock(AuditLogWriter.class),
+            Mockito.mock(ProfileEventPublisher.class), Mockito.mock(LineageConsistencyChecker.class),
+            Mockito.mock(LineageConsistencyScanRunner.class), properties);
+        UUID child = UUID.randomUUID();
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> service.upsertRelationships(TENANT,
+            UUID.randomUUID(), List.of(edge(child, UUID.randomUUID(), "green"), edge(child, UUID.randomUUID(), "red"))));
+    }
+
+    /**
+     * Builds a batch edge.
+     * Importance: Keeps fixtures concise.
+     * Alternatives: Use a fixture builder.
+     *
+     * @param profileId the owning profile.
+     * @param relatedProfileId the related profile.
+     * @param status the relationship status.
+     * @return the edge.
+     */
+    private RelationshipBatchEdge edge(UUID profileId, UUID relatedProfileId, String status) {
+        RelationshipBatchEdge edge = new RelationshipBatchEdge();
+        edge.setProfileId(profileId.toString());
+        edge.setRelatedProfileId(relatedProfileId.toString());
+        edge.setStatus(status);
+        return edge;
+    }
+}
@@ -0,0 +1,224 @@
+package com.heritagegraph360.profile;
+
+import com.heritagegraph360.profile.config.EncryptionProperties;
+import com.heritagegraph360.profile.crypto.FieldCipher;
+import com.heritagegraph360.profile.crypto.MasterKeyProvider;
+import com.heritagegraph360.profile.crypto.TenantDataKeyService;
+import com.heritagegraph360.profile.nosql.TenantDataKeyDocument;
+import com.heritagegraph360.profile.nosql.TenantDataKeyRepository;
+import com.heritagegraph360.profile.service.SensitiveFieldEncryptor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Validates per-tenant envelope encryption of sensitive fields.
+ * Importance: Ensures tenant keys are isolated, cached, and compatible with pre-envelope values.
+ * Alternatives: Exercise encryption through the sensitive field endpoint.
+ */
+public class SensitiveFieldEncryptorTest {
+    private static final String PASSWORD = "changeit";
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Ensures single and batch values round-trip and the tenant key is created and unwrapped once.
+     * Importance: Confirms the data key cache removes per-operation key work.
+     * Alternatives: Count cipher constructions.
+     *
+     * @throws Exception when the keystore cannot be written.
+     */
+    @Test
+    public void shouldRoundTripWithOneKeyPerTenant() throws Exception {
+        TenantDataKeyRepository repository = inMemoryRepository();
+        SensitiveFieldEncryptor encryptor = encryptor(repository);
+
+        String encrypted = encryptor.encrypt("org-us-001", "O+ blood type");
+        Assertions.assertTrue(encrypted.startsWith(FieldCipher.PREFIX + "1:"));
+        Assertions.assertNotEquals(encrypted, encryptor.encrypt("org-us-001", "O+ blood type"));
+        Assertions.assertEquals("O+ blood type", encryptor.decrypt("org-us-001", encrypted));
+
+        List<String> values = List.of("IBAN DE89", "", "diagnosis: none");
+        List<String> batch = encryptor.encryptAll("org-us-001", values);
+        Assertions.assertEquals(values, encryptor.decryptAll("org-us-001", batch));
+        Mockito.verify(repository, Mockito.times(1)).insert(Mockito.any(TenantDataKeyDocument.class));
+        Mockito.verify(repository, Mockito.never()).findById(Mockito.anyString());
+
+        TenantDataKeyDocument stored = repository.findById("org-us-001:1").orElseThrow();
+        Assertions.assertEquals("hg360-master-v1", stored.getMasterKeyAlias());
+        Assertions.assertFalse(stored.getWrappedKey().contains("O+"));
+        Assertions.assertEquals("O+ blood type", encryptor(repository).decrypt("org-us-001", encrypted));
+    }
+
+    /**
+     * Ensures a ciphertext copied to another tenant fails authentication.
+     * Importance: Confirms tenant isolation does not depend on query filters alone.
+     * Alternatives: Compare raw key bytes.
+     *
+     * @throws Exception when the keystore cannot be written.
+     */
+    @Test
+    public void shouldRejectCiphertextFromAnotherTenant() throws Exception {
+        TenantDataKeyRepository repository = inMemoryRepository();
+        SensitiveFieldEncryptor encryptor = encryptor(repository);
+        String encrypted = encryptor.encrypt("org-us-001", "secret");
+        encryptor.encrypt("org-in-002", "other");
+
+        Assertions.assertThrows(IllegalStateException.class, () -> encryptor.decrypt("org-in-002", encrypted));
+        Assertions.assertThrows(IllegalStateException.class, () -> encryptor.decrypt("org-us-001", "hg2:7:AAAA"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> encryptor.decrypt("org-us-001", "hg2:x"));
+    }
+
+    /**
+     * Ensures values written with the global legacy key stay readable next to envelope values.
+     * Importance: Confirms deploying envelope encryption needs no upfront migration.
+     * Alternatives: Store fixtures captured from production.
+     *
+     * @throws Exception when the keystore cannot be written or the legacy value encrypted.
+     */
+    @Test
+    public void shouldDecryptLegacyValues() throws Exception {
+        SensitiveFieldEncryptor encryptor = encryptor(inMemoryRepository());
+        String legacy = legacyEncrypt("heritagegraph360!", "1985-03-14");
+        String current = encryptor.encrypt("org-us-001", "1990-01-01");
+
+        Assertions.assertEquals("1985-03-14", encryptor.decrypt("org-us-001", legacy));
+        Assertions.assertEquals(List.of("1985-03-14", "1990-01-01"),
+            encryptor.decryptAll("org-us-001", List.of(legacy, current)));
+    }
+
+    /**
+     * Ensures a missing keystore fails startup unless a development profile is active.
+     * Importance: Confirms production never wraps data keys under a master key derived from the public legacy default.
+     * Alternatives: Assert on the startup warning.
+     */
+    @Test
+    public void shouldRequireKeystoreOutsideDevelopmentProfiles() {
+        EncryptionProperties properties = new EncryptionProperties();
+        MockEnvironment production = new MockEnvironment();
+        production.setActiveProfiles("prod");
+
+        Assertions.assertThrows(IllegalStateException.class, () -> new MasterKeyProvider(properties, production));
+        Assertions.assertThrows(IllegalStateException.class,
+            () -> new MasterKeyProvider(properties, new MockEnvironment()));
+        MockEnvironment local = new MockEnvironment();
+        local.setActiveProfiles("local");
+        Assertions.assertEquals(1, new MasterKeyProvider(properties, local).aliases().size());
+    }
+
+    /**
+     * Builds an encryptor over a keystore with a retired and an active master key.
+     * Importance: Exercises keystore loading the way production does.
+     * Alternatives: Use the derived development master key.
+     *
+     * @param repository the key repository.
+     * @return the encryptor.
+     * @throws Exception when the keystore cannot be written.
+     */
+    private SensitiveFieldEncryptor encryptor(TenantDataKeyRepository repository) throws Exception {
+        Path keystore = tempDir.resolve("master.p12");
+        if (!Files.exists(keystore)) {
+            writeKeystore(keystore, "hg360-master-v0", "HG360-MASTER-V1");
+        }
+        EncryptionProperties properties = new EncryptionProperties();
+        properties.setKeystorePath(keystore.toString());
+        properties.setKeystorePassword(PASSWORD);
+        MasterKeyProvider masterKeys = new MasterKeyProvider(properties, new MockEnvironment());
+        Assertions.assertEquals(2, masterKeys.aliases().size());
+        FieldCipher cipher = new FieldCipher();
+        TenantDataKeyService dataKeys = new TenantDataKeyService(repository, masterKeys, cipher, properties,
+            new SimpleMeterRegistry());
+        return new SensitiveFieldEncryptor(dataKeys, cipher, properties);
+    }
+
+    /**
+     * Writes a PKCS12 keystore holding fresh AES-256 keys.
+     * Importance: Mirrors the keytool -genseckey setup from the runbook.
+     * Alternatives: Check in a keystore fixture.
+     *
+     * @param path the keystore path.
+     * @param aliases the key aliases.
+     * @throws Exception when the keystore cannot be written.
+     */
+    private static void writeKeystore(Path path, String... aliases) throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, null);
+        KeyGenerator generator = KeyGenerator.getInstance("AES");
+        generator.init(256);
+        for (String alias : aliases) {
+            keyStore.setEntry(alias, new KeyStore.SecretKeyEntry(generator.generateKey()),
+                new KeyStore.PasswordProtection(PASSWORD.toCharArray()));
+        }
+        try (OutputStream out = Files.newOutputStream(path)) {
+            keyStore.store(out, PASSWORD.toCharArray());
+        }
+    }
+
+    /**
+     * Creates a repository mock backed by a map.
+     * Importance: Lets key creation and lookup interact without MongoDB.
+     * Alternatives: Use an embedded MongoDB.
+     *
+     * @return the repository.
+     */
+    private static TenantDataKeyRepository inMemoryRepository() {
+        Map<String, TenantDataKeyDocument> documents = new ConcurrentHashMap<>();
+        TenantDataKeyRepository repository = Mockito.mock(TenantDataKeyRepository.class);
+        Mockito.when(repository.insert(Mockito.any(TenantDataKeyDocument.class))).thenAnswer(invocation -> {
+            TenantDataKeyDocument document = invocation.getArgument(0);
+            documents.put(document.getId(), document);
+            return document;
+        });
+        Mockito.when(repository.findById(Mockito.anyString()))
+            .thenAnswer(invocation -> Optional.ofNullable(documents.get(invocation.<String>getArgument(0))));
+        Mockito.when(repository.findFirstByTenantIdOrderByGenerationDesc(Mockito.anyString()))
+            .thenAnswer(invocation -> documents.values().stream()
+                .filter(document -> document.getTenantId().equals(invocation.getArgument(0)))
+                .max(Comparator.comparingInt(TenantDataKeyDocument::getGeneration)));
+        return repository;
+    }
+
+    /**
+     * Encrypts a value the way the pre-envelope encryptor did.
+     * Importance: Produces a genuine legacy ciphertext.
+     * Alternatives: Hard-code a captured ciphertext.
+     *
+     * @param key the legacy key text.
+     * @param plainText the plaintext.
+     * @return the legacy ciphertext.
+     * @throws Exception when encryption fails.
+     */
+    private static String legacyEncrypt(String key, String plainText) throws Exception {
+        byte[] normalized = new byte[16];
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(keyBytes, 0, normalized, 0, Math.min(keyBytes.length, normalized.length));
+        byte[] iv = new byte[12];
+        iv[0] = 7;
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(normalized, "AES"), new GCMParameterSpec(128, iv));
+        byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+        byte[] combined = new byte[iv.length + encrypted.length];
+        System.arraycopy(iv, 0, combined, 0, iv.length);
+        System.arraycopy(encrypted, 0, combined, iv.length, encrypted.length);
+        return Base64.getEncoder().encodeToString(combined);
+    }
+}